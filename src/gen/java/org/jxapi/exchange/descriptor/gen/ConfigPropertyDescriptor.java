@@ -13,6 +13,7 @@ import org.jxapi.util.CompareUtil;
 import org.jxapi.util.DeepCloneable;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Represents a configuration property or a group of properties of an exchange like authentication credentials 
@@ -40,7 +41,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = ConfigPropertyDescriptorSerializer.class)
 @JsonDeserialize(using = ConfigPropertyDescriptorDeserializer.class)
-public class ConfigPropertyDescriptor implements Pojo<ConfigPropertyDescriptor> {
+public class ConfigPropertyDescriptor implements Pojo<ConfigPropertyDescriptor>, Resettable {
   
   private static final long serialVersionUID = 4732400927168532522L;
   
@@ -194,6 +195,15 @@ public class ConfigPropertyDescriptor implements Pojo<ConfigPropertyDescriptor>
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.name = null;
+    this.description = null;
+    this.type = null;
+    this.defaultValue = null;
+    this.properties = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -13,6 +13,7 @@ import org.jxapi.util.CompareUtil;
 import org.jxapi.util.DeepCloneable;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Represents a constant value used across APIs of an exchange or a group of such constants.<br>
@@ -39,7 +40,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = ConstantDescriptorSerializer.class)
 @JsonDeserialize(using = ConstantDescriptorDeserializer.class)
-public class ConstantDescriptor implements Pojo<ConstantDescriptor> {
+public class ConstantDescriptor implements Pojo<ConstantDescriptor>, Resettable {
   
   private static final long serialVersionUID = -4269134152873248313L;
   
@@ -197,6 +198,15 @@ public class ConstantDescriptor implements Pojo<ConstantDescriptor> {
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.name = null;
+    this.description = null;
+    this.type = null;
+    this.value = null;
+    this.constants = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
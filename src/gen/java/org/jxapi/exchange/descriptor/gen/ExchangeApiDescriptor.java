@@ -13,6 +13,7 @@ import org.jxapi.util.CompareUtil;
 import org.jxapi.util.DeepCloneable;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Part of a JSON document descriptor that describes a group of REST and or
@@ -58,7 +59,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = ExchangeApiDescriptorSerializer.class)
 @JsonDeserialize(using = ExchangeApiDescriptorDeserializer.class)
-public class ExchangeApiDescriptor implements Pojo<ExchangeApiDescriptor> {
+public class ExchangeApiDescriptor implements Pojo<ExchangeApiDescriptor>, Resettable {
   
   private static final long serialVersionUID = 5336020728346609319L;
   
@@ -266,6 +267,17 @@ public class ExchangeApiDescriptor implements Pojo<ExchangeApiDescriptor> {
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.name = null;
+    this.description = null;
+    this.httpUrl = null;
+    this.defaultHttpClient = null;
+    this.defaultWebsocketClient = null;
+    this.restEndpoints = null;
+    this.websocketEndpoints = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
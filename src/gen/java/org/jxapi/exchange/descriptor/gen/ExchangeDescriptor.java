@@ -13,6 +13,7 @@ import org.jxapi.util.CompareUtil;
 import org.jxapi.util.DeepCloneable;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Root element of a JSON Exchange descriptor.<br>
@@ -113,7 +114,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = ExchangeDescriptorSerializer.class)
 @JsonDeserialize(using = ExchangeDescriptorDeserializer.class)
-public class ExchangeDescriptor implements Pojo<ExchangeDescriptor> {
+public class ExchangeDescriptor implements Pojo<ExchangeDescriptor>, Resettable {
   
   private static final long serialVersionUID = -4300521477549623759L;
   
@@ -507,6 +508,23 @@ public class ExchangeDescriptor implements Pojo<ExchangeDescriptor> {
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.id = null;
+    this.jxapi = null;
+    this.version = null;
+    this.description = null;
+    this.docUrl = null;
+    this.basePackage = null;
+    this.httpUrl = null;
+    this.afterInitHookFactory = null;
+    this.properties = null;
+    this.constants = null;
+    this.rateLimits = null;
+    this.network = null;
+    this.apis = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
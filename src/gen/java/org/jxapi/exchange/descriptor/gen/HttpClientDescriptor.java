@@ -10,6 +10,7 @@ import org.jxapi.exchange.descriptor.gen.serializers.HttpClientDescriptorSeriali
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Part of JSON document describing network configuration of a HTTP client that can be used by
@@ -22,9 +23,9 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = HttpClientDescriptorSerializer.class)
 @JsonDeserialize(using = HttpClientDescriptorDeserializer.class)
-public class HttpClientDescriptor implements Pojo<HttpClientDescriptor> {
+public class HttpClientDescriptor implements Pojo<HttpClientDescriptor>, Resettable {
   
-  private static final long serialVersionUID = -4008581722299815789L;
+  private static final long serialVersionUID = -5838501940326190170L;
   
   /**
    * @return A new builder to build {@link HttpClientDescriptor} objects
@@ -38,6 +39,9 @@ public class HttpClientDescriptor implements Pojo<HttpClientDescriptor> {
   private String httpRequestInterceptorFactory;
   private String httpResponseInterceptorFactory;
   private Long httpRequestTimeout;
+  private String httpVersion;
+  private Long connectTimeout;
+  private String warmUpUrl;
   
   /**
    * @return The unique name of the HTTP client
@@ -149,6 +153,76 @@ public class HttpClientDescriptor implements Pojo<HttpClientDescriptor> {
     this.httpRequestTimeout = httpRequestTimeout;
   }
   
+  /**
+   * @return The preferred HTTP protocol version of default 
+   * {@link org.jxapi.netutils.rest.javanet.JavaNetHttpRequestExecutor}, see
+   * {@link java.net.http.HttpClient.Version}: <code>HTTP_2</code> (default), 
+   * falling back to HTTP/1.1 when not supported by server, or <code>HTTP_1_1</code>.
+   * Can be overridden with <code>jxapi.httpVersion</code> configuration property.
+   * 
+   */
+  public String getHttpVersion() {
+    return httpVersion;
+  }
+  
+  /**
+   * @param httpVersion The preferred HTTP protocol version of default 
+   * {@link org.jxapi.netutils.rest.javanet.JavaNetHttpRequestExecutor}, see
+   * {@link java.net.http.HttpClient.Version}: <code>HTTP_2</code> (default), 
+   * falling back to HTTP/1.1 when not supported by server, or <code>HTTP_1_1</code>.
+   * Can be overridden with <code>jxapi.httpVersion</code> configuration property.
+   * 
+   */
+  public void setHttpVersion(String httpVersion) {
+    this.httpVersion = httpVersion;
+  }
+  
+  /**
+   * @return The timeout in milliseconds for establishing connections of default 
+   * {@link org.jxapi.netutils.rest.javanet.JavaNetHttpRequestExecutor}.
+   * Can be overridden with <code>jxapi.httpConnectTimeout</code> configuration property.
+   * May be null, in which case there is no connect timeout other than request timeout.
+   * 
+   */
+  public Long getConnectTimeout() {
+    return connectTimeout;
+  }
+  
+  /**
+   * @param connectTimeout The timeout in milliseconds for establishing connections of default 
+   * {@link org.jxapi.netutils.rest.javanet.JavaNetHttpRequestExecutor}.
+   * Can be overridden with <code>jxapi.httpConnectTimeout</code> configuration property.
+   * May be null, in which case there is no connect timeout other than request timeout.
+   * 
+   */
+  public void setConnectTimeout(Long connectTimeout) {
+    this.connectTimeout = connectTimeout;
+  }
+  
+  /**
+   * @return The URL requested (with <code>HEAD</code> method) to establish connection of this 
+   * HTTP client ahead of first request, see 
+   * {@link org.jxapi.exchange.AbstractExchange#preconnect()}. May contain 
+   * configuration properties or constants placeholders. May be null, in which case
+   * base HTTP URL of exchange is used.
+   * 
+   */
+  public String getWarmUpUrl() {
+    return warmUpUrl;
+  }
+  
+  /**
+   * @param warmUpUrl The URL requested (with <code>HEAD</code> method) to establish connection of this 
+   * HTTP client ahead of first request, see 
+   * {@link org.jxapi.exchange.AbstractExchange#preconnect()}. May contain 
+   * configuration properties or constants placeholders. May be null, in which case
+   * base HTTP URL of exchange is used.
+   * 
+   */
+  public void setWarmUpUrl(String warmUpUrl) {
+    this.warmUpUrl = warmUpUrl;
+  }
+  
   @Override
   public boolean equals(Object other) {
     if (other == null) {
@@ -164,7 +238,10 @@ public class HttpClientDescriptor implements Pojo<HttpClientDescriptor> {
         && Objects.equals(this.httpRequestExecutorFactory, o.httpRequestExecutorFactory)
         && Objects.equals(this.httpRequestInterceptorFactory, o.httpRequestInterceptorFactory)
         && Objects.equals(this.httpResponseInterceptorFactory, o.httpResponseInterceptorFactory)
-        && Objects.equals(this.httpRequestTimeout, o.httpRequestTimeout);
+        && Objects.equals(this.httpRequestTimeout, o.httpRequestTimeout)
+        && Objects.equals(this.httpVersion, o.httpVersion)
+        && Objects.equals(this.connectTimeout, o.connectTimeout)
+        && Objects.equals(this.warmUpUrl, o.warmUpUrl);
   }
   
   @Override
@@ -193,12 +270,24 @@ public class HttpClientDescriptor implements Pojo<HttpClientDescriptor> {
       return res;
     }
     res = CompareUtil.compare(this.httpRequestTimeout, other.httpRequestTimeout);
+    if (res != 0) {
+      return res;
+    }
+    res = CompareUtil.compare(this.httpVersion, other.httpVersion);
+    if (res != 0) {
+      return res;
+    }
+    res = CompareUtil.compare(this.connectTimeout, other.connectTimeout);
+    if (res != 0) {
+      return res;
+    }
+    res = CompareUtil.compare(this.warmUpUrl, other.warmUpUrl);
     return res;
   }
   
   @Override
   public int hashCode() {
-    return Objects.hash(name, httpRequestExecutorFactory, httpRequestInterceptorFactory, httpResponseInterceptorFactory, httpRequestTimeout);
+    return Objects.hash(name, httpRequestExecutorFactory, httpRequestInterceptorFactory, httpResponseInterceptorFactory, httpRequestTimeout, httpVersion, connectTimeout, warmUpUrl);
   }
   
   @Override
@@ -209,9 +298,24 @@ public class HttpClientDescriptor implements Pojo<HttpClientDescriptor> {
     clone.httpRequestInterceptorFactory = this.httpRequestInterceptorFactory;
     clone.httpResponseInterceptorFactory = this.httpResponseInterceptorFactory;
     clone.httpRequestTimeout = this.httpRequestTimeout;
+    clone.httpVersion = this.httpVersion;
+    clone.connectTimeout = this.connectTimeout;
+    clone.warmUpUrl = this.warmUpUrl;
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.name = null;
+    this.httpRequestExecutorFactory = null;
+    this.httpRequestInterceptorFactory = null;
+    this.httpResponseInterceptorFactory = null;
+    this.httpRequestTimeout = null;
+    this.httpVersion = null;
+    this.connectTimeout = null;
+    this.warmUpUrl = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -228,6 +332,9 @@ public class HttpClientDescriptor implements Pojo<HttpClientDescriptor> {
     private String httpRequestInterceptorFactory;
     private String httpResponseInterceptorFactory;
     private Long httpRequestTimeout;
+    private String httpVersion;
+    private Long connectTimeout;
+    private String warmUpUrl;
     
     /**
      * Will set the value of <code>name</code> field in the builder
@@ -304,6 +411,53 @@ public class HttpClientDescriptor implements Pojo<HttpClientDescriptor> {
       return this;
     }
     
+    /**
+     * Will set the value of <code>httpVersion</code> field in the builder
+     * @param httpVersion The preferred HTTP protocol version of default 
+     * {@link org.jxapi.netutils.rest.javanet.JavaNetHttpRequestExecutor}, see
+     * {@link java.net.http.HttpClient.Version}: <code>HTTP_2</code> (default), 
+     * falling back to HTTP/1.1 when not supported by server, or <code>HTTP_1_1</code>.
+     * Can be overridden with <code>jxapi.httpVersion</code> configuration property.
+     * 
+     * @return Builder instance
+     * @see #setHttpVersion(String)
+     */
+    public Builder httpVersion(String httpVersion)  {
+      this.httpVersion = httpVersion;
+      return this;
+    }
+    
+    /**
+     * Will set the value of <code>connectTimeout</code> field in the builder
+     * @param connectTimeout The timeout in milliseconds for establishing connections of default 
+     * {@link org.jxapi.netutils.rest.javanet.JavaNetHttpRequestExecutor}.
+     * Can be overridden with <code>jxapi.httpConnectTimeout</code> configuration property.
+     * May be null, in which case there is no connect timeout other than request timeout.
+     * 
+     * @return Builder instance
+     * @see #setConnectTimeout(Long)
+     */
+    public Builder connectTimeout(Long connectTimeout)  {
+      this.connectTimeout = connectTimeout;
+      return this;
+    }
+    
+    /**
+     * Will set the value of <code>warmUpUrl</code> field in the builder
+     * @param warmUpUrl The URL requested (with <code>HEAD</code> method) to establish connection of this 
+     * HTTP client ahead of first request, see 
+     * {@link org.jxapi.exchange.AbstractExchange#preconnect()}. May contain 
+     * configuration properties or constants placeholders. May be null, in which case
+     * base HTTP URL of exchange is used.
+     * 
+     * @return Builder instance
+     * @see #setWarmUpUrl(String)
+     */
+    public Builder warmUpUrl(String warmUpUrl)  {
+      this.warmUpUrl = warmUpUrl;
+      return this;
+    }
+    
     /**
      * @return a new instance of HttpClientDescriptor using the values set in this builder
      */
@@ -314,6 +468,9 @@ public class HttpClientDescriptor implements Pojo<HttpClientDescriptor> {
       res.httpRequestInterceptorFactory = this.httpRequestInterceptorFactory;
       res.httpResponseInterceptorFactory = this.httpResponseInterceptorFactory;
       res.httpRequestTimeout = this.httpRequestTimeout;
+      res.httpVersion = this.httpVersion;
+      res.connectTimeout = this.connectTimeout;
+      res.warmUpUrl = this.warmUpUrl;
       return res;
     }
   }
@@ -13,6 +13,7 @@ import org.jxapi.util.CompareUtil;
 import org.jxapi.util.DeepCloneable;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Represents network configuration with HTTP clients for REST APIs and
@@ -22,7 +23,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = NetworkDescriptorSerializer.class)
 @JsonDeserialize(using = NetworkDescriptorDeserializer.class)
-public class NetworkDescriptor implements Pojo<NetworkDescriptor> {
+public class NetworkDescriptor implements Pojo<NetworkDescriptor>, Resettable {
   
   private static final long serialVersionUID = -5968448183252402477L;
   
@@ -117,6 +118,12 @@ public class NetworkDescriptor implements Pojo<NetworkDescriptor> {
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.httpClients = null;
+    this.websocketClients = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -10,6 +10,7 @@ import org.jxapi.exchange.descriptor.gen.serializers.RateLimitRuleDescriptorSeri
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Represents a rate limit rule that applies to all API groups of the exchange.<br>
@@ -23,9 +24,9 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = RateLimitRuleDescriptorSerializer.class)
 @JsonDeserialize(using = RateLimitRuleDescriptorDeserializer.class)
-public class RateLimitRuleDescriptor implements Pojo<RateLimitRuleDescriptor> {
+public class RateLimitRuleDescriptor implements Pojo<RateLimitRuleDescriptor>, Resettable {
   
-  private static final long serialVersionUID = 222675654459556526L;
+  private static final long serialVersionUID = 2884924029171303530L;
   
   /**
    * @return A new builder to build {@link RateLimitRuleDescriptor} objects
@@ -44,6 +45,8 @@ public class RateLimitRuleDescriptor implements Pojo<RateLimitRuleDescriptor> {
   private Integer maxTotalWeight;
   private Integer maxRequestCount;
   private Integer granularity = GRANULARITY_DEFAULT_VALUE;
+  private String usedHeader;
+  private String remainingHeader;
   
   /**
    * @return Unique identifier of the rate limit rule
@@ -147,6 +150,52 @@ public class RateLimitRuleDescriptor implements Pojo<RateLimitRuleDescriptor> {
     this.granularity = granularity;
   }
   
+  /**
+   * @return The name of the HTTP response header where server reports current usage of this rule within
+   * its time frame: cumulated weight for a weighted rule, request count otherwise. For instance
+   * <code>X-MBX-USED-WEIGHT-1M</code>. When set, local rate limit state is corrected from this
+   * header upon every response, see
+   * {@link org.jxapi.netutils.rest.ratelimits.RequestThrottler#handleResponse(org.jxapi.netutils.rest.HttpResponse)}
+   * 
+   */
+  public String getUsedHeader() {
+    return usedHeader;
+  }
+  
+  /**
+   * @param usedHeader The name of the HTTP response header where server reports current usage of this rule within
+   * its time frame: cumulated weight for a weighted rule, request count otherwise. For instance
+   * <code>X-MBX-USED-WEIGHT-1M</code>. When set, local rate limit state is corrected from this
+   * header upon every response, see
+   * {@link org.jxapi.netutils.rest.ratelimits.RequestThrottler#handleResponse(org.jxapi.netutils.rest.HttpResponse)}
+   * 
+   */
+  public void setUsedHeader(String usedHeader) {
+    this.usedHeader = usedHeader;
+  }
+  
+  /**
+   * @return The name of the HTTP response header where server reports remaining capacity of this rule within
+   * its time frame: weight for a weighted rule, request count otherwise. For instance
+   * <code>X-RateLimit-Remaining</code>. Used like <code>usedHeader</code> when that one is not set or not
+   * found in response.
+   * 
+   */
+  public String getRemainingHeader() {
+    return remainingHeader;
+  }
+  
+  /**
+   * @param remainingHeader The name of the HTTP response header where server reports remaining capacity of this rule within
+   * its time frame: weight for a weighted rule, request count otherwise. For instance
+   * <code>X-RateLimit-Remaining</code>. Used like <code>usedHeader</code> when that one is not set or not
+   * found in response.
+   * 
+   */
+  public void setRemainingHeader(String remainingHeader) {
+    this.remainingHeader = remainingHeader;
+  }
+  
   @Override
   public boolean equals(Object other) {
     if (other == null) {
@@ -162,7 +211,9 @@ public class RateLimitRuleDescriptor implements Pojo<RateLimitRuleDescriptor> {
         && Objects.equals(this.timeFrame, o.timeFrame)
         && Objects.equals(this.maxTotalWeight, o.maxTotalWeight)
         && Objects.equals(this.maxRequestCount, o.maxRequestCount)
-        && Objects.equals(this.granularity, o.granularity);
+        && Objects.equals(this.granularity, o.granularity)
+        && Objects.equals(this.usedHeader, o.usedHeader)
+        && Objects.equals(this.remainingHeader, o.remainingHeader);
   }
   
   @Override
@@ -191,12 +242,20 @@ public class RateLimitRuleDescriptor implements Pojo<RateLimitRuleDescriptor> {
       return res;
     }
     res = CompareUtil.compare(this.granularity, other.granularity);
+    if (res != 0) {
+      return res;
+    }
+    res = CompareUtil.compare(this.usedHeader, other.usedHeader);
+    if (res != 0) {
+      return res;
+    }
+    res = CompareUtil.compare(this.remainingHeader, other.remainingHeader);
     return res;
   }
   
   @Override
   public int hashCode() {
-    return Objects.hash(id, timeFrame, maxTotalWeight, maxRequestCount, granularity);
+    return Objects.hash(id, timeFrame, maxTotalWeight, maxRequestCount, granularity, usedHeader, remainingHeader);
   }
   
   @Override
@@ -207,9 +266,22 @@ public class RateLimitRuleDescriptor implements Pojo<RateLimitRuleDescriptor> {
     clone.maxTotalWeight = this.maxTotalWeight;
     clone.maxRequestCount = this.maxRequestCount;
     clone.granularity = this.granularity;
+    clone.usedHeader = this.usedHeader;
+    clone.remainingHeader = this.remainingHeader;
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.id = null;
+    this.timeFrame = null;
+    this.maxTotalWeight = null;
+    this.maxRequestCount = null;
+    this.granularity = GRANULARITY_DEFAULT_VALUE;
+    this.usedHeader = null;
+    this.remainingHeader = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -226,6 +298,8 @@ public class RateLimitRuleDescriptor implements Pojo<RateLimitRuleDescriptor> {
     private Integer maxTotalWeight;
     private Integer maxRequestCount;
     private Integer granularity = GRANULARITY_DEFAULT_VALUE;
+    private String usedHeader;
+    private String remainingHeader;
     
     /**
      * Will set the value of <code>id</code> field in the builder
@@ -298,6 +372,37 @@ public class RateLimitRuleDescriptor implements Pojo<RateLimitRuleDescriptor> {
       return this;
     }
     
+    /**
+     * Will set the value of <code>usedHeader</code> field in the builder
+     * @param usedHeader The name of the HTTP response header where server reports current usage of this rule within
+     * its time frame: cumulated weight for a weighted rule, request count otherwise. For instance
+     * <code>X-MBX-USED-WEIGHT-1M</code>. When set, local rate limit state is corrected from this
+     * header upon every response, see
+     * {@link org.jxapi.netutils.rest.ratelimits.RequestThrottler#handleResponse(org.jxapi.netutils.rest.HttpResponse)}
+     * 
+     * @return Builder instance
+     * @see #setUsedHeader(String)
+     */
+    public Builder usedHeader(String usedHeader)  {
+      this.usedHeader = usedHeader;
+      return this;
+    }
+    
+    /**
+     * Will set the value of <code>remainingHeader</code> field in the builder
+     * @param remainingHeader The name of the HTTP response header where server reports remaining capacity of this rule within
+     * its time frame: weight for a weighted rule, request count otherwise. For instance
+     * <code>X-RateLimit-Remaining</code>. Used like <code>usedHeader</code> when that one is not set or not
+     * found in response.
+     * 
+     * @return Builder instance
+     * @see #setRemainingHeader(String)
+     */
+    public Builder remainingHeader(String remainingHeader)  {
+      this.remainingHeader = remainingHeader;
+      return this;
+    }
+    
     /**
      * @return a new instance of RateLimitRuleDescriptor using the values set in this builder
      */
@@ -308,6 +413,8 @@ public class RateLimitRuleDescriptor implements Pojo<RateLimitRuleDescriptor> {
       res.maxTotalWeight = this.maxTotalWeight;
       res.maxRequestCount = this.maxRequestCount;
       res.granularity = this.granularity;
+      res.usedHeader = this.usedHeader;
+      res.remainingHeader = this.remainingHeader;
       return res;
     }
   }
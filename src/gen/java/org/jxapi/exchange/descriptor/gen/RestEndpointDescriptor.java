@@ -13,6 +13,7 @@ import org.jxapi.util.CollectionUtil;
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Describes a REST endpoint as part of a larger exchange API defined in a JSON document.
@@ -68,9 +69,9 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = RestEndpointDescriptorSerializer.class)
 @JsonDeserialize(using = RestEndpointDescriptorDeserializer.class)
-public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
+public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor>, Resettable {
   
-  private static final long serialVersionUID = 3220828939988892700L;
+  private static final long serialVersionUID = -9125769491231557044L;
   
   /**
    * @return A new builder to build {@link RestEndpointDescriptor} objects
@@ -87,6 +88,7 @@ public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
   private String httpClient;
   private Integer requestWeight;
   private List<String> rateLimits;
+  private String priority;
   private Boolean paginated;
   private Boolean requestHasBody;
   private Field request;
@@ -216,6 +218,28 @@ public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
     this.rateLimits = rateLimits;
   }
   
+  /**
+   * @return The priority of requests to this endpoint when they are throttled because of rate limits,
+   * one of <code>HIGH</code>, <code>NORMAL</code> or <code>LOW</code>. Throttled requests with
+   * higher priority are sent before waiting ones with lower priority. Default is <code>NORMAL</code>.
+   * See {@link org.jxapi.netutils.rest.RequestPriority}
+   * 
+   */
+  public String getPriority() {
+    return priority;
+  }
+  
+  /**
+   * @param priority The priority of requests to this endpoint when they are throttled because of rate limits,
+   * one of <code>HIGH</code>, <code>NORMAL</code> or <code>LOW</code>. Throttled requests with
+   * higher priority are sent before waiting ones with lower priority. Default is <code>NORMAL</code>.
+   * See {@link org.jxapi.netutils.rest.RequestPriority}
+   * 
+   */
+  public void setPriority(String priority) {
+    this.priority = priority;
+  }
+  
   /**
    * @return Whether this endpoint supports pagination.
    * 
@@ -299,6 +323,7 @@ public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
         && Objects.equals(this.httpClient, o.httpClient)
         && Objects.equals(this.requestWeight, o.requestWeight)
         && Objects.equals(this.rateLimits, o.rateLimits)
+        && Objects.equals(this.priority, o.priority)
         && Objects.equals(this.paginated, o.paginated)
         && Objects.equals(this.requestHasBody, o.requestHasBody)
         && Objects.equals(this.request, o.request)
@@ -346,6 +371,10 @@ public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
     if (res != 0) {
       return res;
     }
+    res = CompareUtil.compare(this.priority, other.priority);
+    if (res != 0) {
+      return res;
+    }
     res = CompareUtil.compare(this.paginated, other.paginated);
     if (res != 0) {
       return res;
@@ -364,7 +393,7 @@ public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
   
   @Override
   public int hashCode() {
-    return Objects.hash(name, description, httpMethod, url, docUrl, httpClient, requestWeight, rateLimits, paginated, requestHasBody, request, response);
+    return Objects.hash(name, description, httpMethod, url, docUrl, httpClient, requestWeight, rateLimits, priority, paginated, requestHasBody, request, response);
   }
   
   @Override
@@ -378,6 +407,7 @@ public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
     clone.httpClient = this.httpClient;
     clone.requestWeight = this.requestWeight;
     clone.rateLimits = CollectionUtil.cloneList(this.rateLimits);
+    clone.priority = this.priority;
     clone.paginated = this.paginated;
     clone.requestHasBody = this.requestHasBody;
     clone.request = this.request != null ? this.request.deepClone() : null;
@@ -385,6 +415,23 @@ public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.name = null;
+    this.description = null;
+    this.httpMethod = null;
+    this.url = null;
+    this.docUrl = null;
+    this.httpClient = null;
+    this.requestWeight = null;
+    this.rateLimits = null;
+    this.priority = null;
+    this.paginated = null;
+    this.requestHasBody = null;
+    this.request = null;
+    this.response = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -404,6 +451,7 @@ public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
     private String httpClient;
     private Integer requestWeight;
     private List<String> rateLimits;
+    private String priority;
     private Boolean paginated;
     private Boolean requestHasBody;
     private Field request;
@@ -518,6 +566,21 @@ public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
       return this;
     }
     
+    /**
+     * Will set the value of <code>priority</code> field in the builder
+     * @param priority The priority of requests to this endpoint when they are throttled because of rate limits,
+     * one of <code>HIGH</code>, <code>NORMAL</code> or <code>LOW</code>. Throttled requests with
+     * higher priority are sent before waiting ones with lower priority. Default is <code>NORMAL</code>.
+     * See {@link org.jxapi.netutils.rest.RequestPriority}
+     * 
+     * @return Builder instance
+     * @see #setPriority(String)
+     */
+    public Builder priority(String priority)  {
+      this.priority = priority;
+      return this;
+    }
+    
     /**
      * Will set the value of <code>paginated</code> field in the builder
      * @param paginated Whether this endpoint supports pagination.
@@ -579,6 +642,7 @@ public class RestEndpointDescriptor implements Pojo<RestEndpointDescriptor> {
       res.httpClient = this.httpClient;
       res.requestWeight = this.requestWeight;
       res.rateLimits = CollectionUtil.cloneList(this.rateLimits);
+      res.priority = this.priority;
       res.paginated = this.paginated;
       res.requestHasBody = this.requestHasBody;
       res.request = this.request != null ? this.request.deepClone() : null;
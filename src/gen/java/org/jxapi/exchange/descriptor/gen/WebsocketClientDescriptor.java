@@ -10,6 +10,7 @@ import org.jxapi.exchange.descriptor.gen.serializers.WebsocketClientDescriptorSe
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Part of JSON document describing network configuration of a 
@@ -20,7 +21,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = WebsocketClientDescriptorSerializer.class)
 @JsonDeserialize(using = WebsocketClientDescriptorDeserializer.class)
-public class WebsocketClientDescriptor implements Pojo<WebsocketClientDescriptor> {
+public class WebsocketClientDescriptor implements Pojo<WebsocketClientDescriptor>, Resettable {
   
   private static final long serialVersionUID = -8847912951975013818L;
   
@@ -70,6 +71,8 @@ public class WebsocketClientDescriptor implements Pojo<WebsocketClientDescriptor
    * @return The fully qualified class name of the
    * {@link org.jxapi.netutils.websocket.WebsocketFactory} to use for
    * Websocket endpoints using this Websocket client.
+   * For instance {@link org.jxapi.netutils.websocket.javanet.JavaNetWebsocketFactory} to use
+   * JDK websocket implementation.
    * 
    */
   public String getWebsocketFactory() {
@@ -80,6 +83,8 @@ public class WebsocketClientDescriptor implements Pojo<WebsocketClientDescriptor
    * @param websocketFactory The fully qualified class name of the
    * {@link org.jxapi.netutils.websocket.WebsocketFactory} to use for
    * Websocket endpoints using this Websocket client.
+   * For instance {@link org.jxapi.netutils.websocket.javanet.JavaNetWebsocketFactory} to use
+   * JDK websocket implementation.
    * 
    */
   public void setWebsocketFactory(String websocketFactory) {
@@ -163,6 +168,14 @@ public class WebsocketClientDescriptor implements Pojo<WebsocketClientDescriptor
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.name = null;
+    this.websocketUrl = null;
+    this.websocketFactory = null;
+    this.websocketHookFactory = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -207,6 +220,8 @@ public class WebsocketClientDescriptor implements Pojo<WebsocketClientDescriptor
      * @param websocketFactory The fully qualified class name of the
      * {@link org.jxapi.netutils.websocket.WebsocketFactory} to use for
      * Websocket endpoints using this Websocket client.
+     * For instance {@link org.jxapi.netutils.websocket.javanet.JavaNetWebsocketFactory} to use
+     * JDK websocket implementation.
      * 
      * @return Builder instance
      * @see #setWebsocketFactory(String)
@@ -11,6 +11,7 @@ import org.jxapi.pojo.descriptor.Field;
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Part of JSON document describing a crypo exchange API, describes a websocket
@@ -23,9 +24,9 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = WebsocketEndpointDescriptorSerializer.class)
 @JsonDeserialize(using = WebsocketEndpointDescriptorDeserializer.class)
-public class WebsocketEndpointDescriptor implements Pojo<WebsocketEndpointDescriptor> {
+public class WebsocketEndpointDescriptor implements Pojo<WebsocketEndpointDescriptor>, Resettable {
   
-  private static final long serialVersionUID = 325731743287611067L;
+  private static final long serialVersionUID = 983842972299270934L;
   
   /**
    * @return A new builder to build {@link WebsocketEndpointDescriptor} objects
@@ -42,6 +43,9 @@ public class WebsocketEndpointDescriptor implements Pojo<WebsocketEndpointDescri
   private Field request;
   private Field message;
   private WebsocketTopicMatcherDescriptor topicMatcher;
+  private Integer queueCapacity;
+  private String overflowPolicy;
+  private String conflationKey;
   
   /**
    * @return The unique name of the Websocket endpoint within the API group
@@ -175,6 +179,78 @@ public class WebsocketEndpointDescriptor implements Pojo<WebsocketEndpointDescri
     this.topicMatcher = topicMatcher;
   }
   
+  /**
+   * @return The capacity of the queue where incoming messages of each subscription to this endpoint
+   * are held before being handled by listeners. When not set, or not strictly positive,
+   * messages are not queued and listeners are notified on websocket message dispatch thread.
+   * See {@link org.jxapi.netutils.websocket.DefaultWebsocketEndpoint#setQueueCapacity(int)}
+   * 
+   */
+  public Integer getQueueCapacity() {
+    return queueCapacity;
+  }
+  
+  /**
+   * @param queueCapacity The capacity of the queue where incoming messages of each subscription to this endpoint
+   * are held before being handled by listeners. When not set, or not strictly positive,
+   * messages are not queued and listeners are notified on websocket message dispatch thread.
+   * See {@link org.jxapi.netutils.websocket.DefaultWebsocketEndpoint#setQueueCapacity(int)}
+   * 
+   */
+  public void setQueueCapacity(Integer queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+  
+  /**
+   * @return The policy applied when a message is received while subscription queue is full, one of
+   * <code>BLOCK</code>, <code>DROP_OLDEST</code>, <code>DROP_NEWEST</code> or
+   * <code>CONFLATE_LATEST_PER_KEY</code>. Relevant only when <code>queueCapacity</code> is set,
+   * except for <code>CONFLATE_LATEST_PER_KEY</code>: endpoint is then a
+   * {@link org.jxapi.netutils.websocket.ConflatingWebsocketEndpoint}, with default capacity
+   * when <code>queueCapacity</code> is not set. Default is <code>BLOCK</code>.
+   * See {@link org.jxapi.netutils.websocket.WebsocketOverflowPolicy}
+   * 
+   */
+  public String getOverflowPolicy() {
+    return overflowPolicy;
+  }
+  
+  /**
+   * @param overflowPolicy The policy applied when a message is received while subscription queue is full, one of
+   * <code>BLOCK</code>, <code>DROP_OLDEST</code>, <code>DROP_NEWEST</code> or
+   * <code>CONFLATE_LATEST_PER_KEY</code>. Relevant only when <code>queueCapacity</code> is set,
+   * except for <code>CONFLATE_LATEST_PER_KEY</code>: endpoint is then a
+   * {@link org.jxapi.netutils.websocket.ConflatingWebsocketEndpoint}, with default capacity
+   * when <code>queueCapacity</code> is not set. Default is <code>BLOCK</code>.
+   * See {@link org.jxapi.netutils.websocket.WebsocketOverflowPolicy}
+   * 
+   */
+  public void setOverflowPolicy(String overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+  }
+  
+  /**
+   * @return The name of the message field holding the key of messages conflated when
+   * <code>overflowPolicy</code> is <code>CONFLATE_LATEST_PER_KEY</code>, for instance a symbol.
+   * Only latest pending message with a given key value is kept in subscription queue.
+   * When not set, all messages of a subscription share the same key.
+   * 
+   */
+  public String getConflationKey() {
+    return conflationKey;
+  }
+  
+  /**
+   * @param conflationKey The name of the message field holding the key of messages conflated when
+   * <code>overflowPolicy</code> is <code>CONFLATE_LATEST_PER_KEY</code>, for instance a symbol.
+   * Only latest pending message with a given key value is kept in subscription queue.
+   * When not set, all messages of a subscription share the same key.
+   * 
+   */
+  public void setConflationKey(String conflationKey) {
+    this.conflationKey = conflationKey;
+  }
+  
   @Override
   public boolean equals(Object other) {
     if (other == null) {
@@ -193,7 +269,10 @@ public class WebsocketEndpointDescriptor implements Pojo<WebsocketEndpointDescri
         && Objects.equals(this.docUrl, o.docUrl)
         && Objects.equals(this.request, o.request)
         && Objects.equals(this.message, o.message)
-        && Objects.equals(this.topicMatcher, o.topicMatcher);
+        && Objects.equals(this.topicMatcher, o.topicMatcher)
+        && Objects.equals(this.queueCapacity, o.queueCapacity)
+        && Objects.equals(this.overflowPolicy, o.overflowPolicy)
+        && Objects.equals(this.conflationKey, o.conflationKey);
   }
   
   @Override
@@ -234,12 +313,24 @@ public class WebsocketEndpointDescriptor implements Pojo<WebsocketEndpointDescri
       return res;
     }
     res = CompareUtil.compare(this.topicMatcher, other.topicMatcher);
+    if (res != 0) {
+      return res;
+    }
+    res = CompareUtil.compare(this.queueCapacity, other.queueCapacity);
+    if (res != 0) {
+      return res;
+    }
+    res = CompareUtil.compare(this.overflowPolicy, other.overflowPolicy);
+    if (res != 0) {
+      return res;
+    }
+    res = CompareUtil.compare(this.conflationKey, other.conflationKey);
     return res;
   }
   
   @Override
   public int hashCode() {
-    return Objects.hash(name, description, topic, websocketClient, docUrl, request, message, topicMatcher);
+    return Objects.hash(name, description, topic, websocketClient, docUrl, request, message, topicMatcher, queueCapacity, overflowPolicy, conflationKey);
   }
   
   @Override
@@ -253,9 +344,27 @@ public class WebsocketEndpointDescriptor implements Pojo<WebsocketEndpointDescri
     clone.request = this.request != null ? this.request.deepClone() : null;
     clone.message = this.message != null ? this.message.deepClone() : null;
     clone.topicMatcher = this.topicMatcher != null ? this.topicMatcher.deepClone() : null;
+    clone.queueCapacity = this.queueCapacity;
+    clone.overflowPolicy = this.overflowPolicy;
+    clone.conflationKey = this.conflationKey;
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.name = null;
+    this.description = null;
+    this.topic = null;
+    this.websocketClient = null;
+    this.docUrl = null;
+    this.request = null;
+    this.message = null;
+    this.topicMatcher = null;
+    this.queueCapacity = null;
+    this.overflowPolicy = null;
+    this.conflationKey = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -275,6 +384,9 @@ public class WebsocketEndpointDescriptor implements Pojo<WebsocketEndpointDescri
     private Field request;
     private Field message;
     private WebsocketTopicMatcherDescriptor topicMatcher;
+    private Integer queueCapacity;
+    private String overflowPolicy;
+    private String conflationKey;
     
     /**
      * Will set the value of <code>name</code> field in the builder
@@ -374,6 +486,54 @@ public class WebsocketEndpointDescriptor implements Pojo<WebsocketEndpointDescri
       return this;
     }
     
+    /**
+     * Will set the value of <code>queueCapacity</code> field in the builder
+     * @param queueCapacity The capacity of the queue where incoming messages of each subscription to this endpoint
+     * are held before being handled by listeners. When not set, or not strictly positive,
+     * messages are not queued and listeners are notified on websocket message dispatch thread.
+     * See {@link org.jxapi.netutils.websocket.DefaultWebsocketEndpoint#setQueueCapacity(int)}
+     * 
+     * @return Builder instance
+     * @see #setQueueCapacity(Integer)
+     */
+    public Builder queueCapacity(Integer queueCapacity)  {
+      this.queueCapacity = queueCapacity;
+      return this;
+    }
+    
+    /**
+     * Will set the value of <code>overflowPolicy</code> field in the builder
+     * @param overflowPolicy The policy applied when a message is received while subscription queue is full, one of
+     * <code>BLOCK</code>, <code>DROP_OLDEST</code>, <code>DROP_NEWEST</code> or
+     * <code>CONFLATE_LATEST_PER_KEY</code>. Relevant only when <code>queueCapacity</code> is set,
+     * except for <code>CONFLATE_LATEST_PER_KEY</code>: endpoint is then a
+     * {@link org.jxapi.netutils.websocket.ConflatingWebsocketEndpoint}, with default capacity
+     * when <code>queueCapacity</code> is not set. Default is <code>BLOCK</code>.
+     * See {@link org.jxapi.netutils.websocket.WebsocketOverflowPolicy}
+     * 
+     * @return Builder instance
+     * @see #setOverflowPolicy(String)
+     */
+    public Builder overflowPolicy(String overflowPolicy)  {
+      this.overflowPolicy = overflowPolicy;
+      return this;
+    }
+    
+    /**
+     * Will set the value of <code>conflationKey</code> field in the builder
+     * @param conflationKey The name of the message field holding the key of messages conflated when
+     * <code>overflowPolicy</code> is <code>CONFLATE_LATEST_PER_KEY</code>, for instance a symbol.
+     * Only latest pending message with a given key value is kept in subscription queue.
+     * When not set, all messages of a subscription share the same key.
+     * 
+     * @return Builder instance
+     * @see #setConflationKey(String)
+     */
+    public Builder conflationKey(String conflationKey)  {
+      this.conflationKey = conflationKey;
+      return this;
+    }
+    
     /**
      * @return a new instance of WebsocketEndpointDescriptor using the values set in this builder
      */
@@ -387,6 +547,9 @@ public class WebsocketEndpointDescriptor implements Pojo<WebsocketEndpointDescri
       res.request = this.request != null ? this.request.deepClone() : null;
       res.message = this.message != null ? this.message.deepClone() : null;
       res.topicMatcher = this.topicMatcher != null ? this.topicMatcher.deepClone() : null;
+      res.queueCapacity = this.queueCapacity;
+      res.overflowPolicy = this.overflowPolicy;
+      res.conflationKey = this.conflationKey;
       return res;
     }
   }
@@ -13,6 +13,7 @@ import org.jxapi.util.CompareUtil;
 import org.jxapi.util.DeepCloneable;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * The description of how to match incoming messages to this topic.
@@ -27,7 +28,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = WebsocketTopicMatcherDescriptorSerializer.class)
 @JsonDeserialize(using = WebsocketTopicMatcherDescriptorDeserializer.class)
-public class WebsocketTopicMatcherDescriptor implements Pojo<WebsocketTopicMatcherDescriptor> {
+public class WebsocketTopicMatcherDescriptor implements Pojo<WebsocketTopicMatcherDescriptor>, Resettable {
   
   private static final long serialVersionUID = 1247228024754855825L;
   
@@ -185,6 +186,15 @@ public class WebsocketTopicMatcherDescriptor implements Pojo<WebsocketTopicMatch
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.fieldName = null;
+    this.fieldValue = null;
+    this.fieldRegexp = null;
+    this.and = null;
+    this.or = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.ConfigPropertyDescriptor;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -18,12 +19,51 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class ConfigPropertyDescriptorDeserializer extends AbstractJsonMessageDeserializer<ConfigPropertyDescriptor> {
+  private static final SerializedString NAME_FIELD_NAME = new SerializedString("name");
+  private static final SerializedString DESCRIPTION_FIELD_NAME = new SerializedString("description");
+  private static final SerializedString TYPE_FIELD_NAME = new SerializedString("type");
+  private static final SerializedString DEFAULT_VALUE_FIELD_NAME = new SerializedString("defaultValue");
+  private static final SerializedString PROPERTIES_FIELD_NAME = new SerializedString("properties");
+  
   private ListJsonFieldDeserializer<ConfigPropertyDescriptor> propertiesDeserializer;
   
   @Override
   public ConfigPropertyDescriptor deserialize(JsonParser parser) throws IOException {
-    ConfigPropertyDescriptor msg = new ConfigPropertyDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new ConfigPropertyDescriptor());
+  }
+  
+  @Override
+  public ConfigPropertyDescriptor deserializeInto(JsonParser parser, ConfigPropertyDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(NAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setName(readNextString(parser));
+    if (!parser.nextFieldName(DESCRIPTION_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDescription(readNextString(parser));
+    if (!parser.nextFieldName(TYPE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setType(readNextString(parser));
+    if (!parser.nextFieldName(DEFAULT_VALUE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDefaultValue(readNextObject(parser));
+    if (!parser.nextFieldName(PROPERTIES_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(propertiesDeserializer == null) {
+      propertiesDeserializer = new ListJsonFieldDeserializer<>(new ConfigPropertyDescriptorDeserializer());
+    }
+    msg.setProperties(propertiesDeserializer.deserialize(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private ConfigPropertyDescriptor deserializeFields(JsonParser parser, ConfigPropertyDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "name":
         msg.setName(readNextString(parser));
@@ -48,7 +88,6 @@ public class ConfigPropertyDescriptorDeserializer extends AbstractJsonMessageDes
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.ConstantDescriptor;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -18,12 +19,51 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class ConstantDescriptorDeserializer extends AbstractJsonMessageDeserializer<ConstantDescriptor> {
+  private static final SerializedString NAME_FIELD_NAME = new SerializedString("name");
+  private static final SerializedString DESCRIPTION_FIELD_NAME = new SerializedString("description");
+  private static final SerializedString TYPE_FIELD_NAME = new SerializedString("type");
+  private static final SerializedString VALUE_FIELD_NAME = new SerializedString("value");
+  private static final SerializedString CONSTANTS_FIELD_NAME = new SerializedString("constants");
+  
   private ListJsonFieldDeserializer<ConstantDescriptor> constantsDeserializer;
   
   @Override
   public ConstantDescriptor deserialize(JsonParser parser) throws IOException {
-    ConstantDescriptor msg = new ConstantDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new ConstantDescriptor());
+  }
+  
+  @Override
+  public ConstantDescriptor deserializeInto(JsonParser parser, ConstantDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(NAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setName(readNextString(parser));
+    if (!parser.nextFieldName(DESCRIPTION_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDescription(readNextString(parser));
+    if (!parser.nextFieldName(TYPE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setType(readNextString(parser));
+    if (!parser.nextFieldName(VALUE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setValue(readNextObject(parser));
+    if (!parser.nextFieldName(CONSTANTS_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(constantsDeserializer == null) {
+      constantsDeserializer = new ListJsonFieldDeserializer<>(new ConstantDescriptorDeserializer());
+    }
+    msg.setConstants(constantsDeserializer.deserialize(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private ConstantDescriptor deserializeFields(JsonParser parser, ConstantDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "name":
         msg.setName(readNextString(parser));
@@ -48,7 +88,6 @@ public class ConstantDescriptorDeserializer extends AbstractJsonMessageDeseriali
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.ExchangeApiDescriptor;
 import org.jxapi.exchange.descriptor.gen.RestEndpointDescriptor;
@@ -19,13 +20,66 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class ExchangeApiDescriptorDeserializer extends AbstractJsonMessageDeserializer<ExchangeApiDescriptor> {
+  private static final SerializedString NAME_FIELD_NAME = new SerializedString("name");
+  private static final SerializedString DESCRIPTION_FIELD_NAME = new SerializedString("description");
+  private static final SerializedString HTTP_URL_FIELD_NAME = new SerializedString("httpUrl");
+  private static final SerializedString DEFAULT_HTTP_CLIENT_FIELD_NAME = new SerializedString("defaultHttpClient");
+  private static final SerializedString DEFAULT_WEBSOCKET_CLIENT_FIELD_NAME = new SerializedString("defaultWebsocketClient");
+  private static final SerializedString REST_ENDPOINTS_FIELD_NAME = new SerializedString("restEndpoints");
+  private static final SerializedString WEBSOCKET_ENDPOINTS_FIELD_NAME = new SerializedString("websocketEndpoints");
+  
   private ListJsonFieldDeserializer<RestEndpointDescriptor> restEndpointsDeserializer;
   private ListJsonFieldDeserializer<WebsocketEndpointDescriptor> websocketEndpointsDeserializer;
   
   @Override
   public ExchangeApiDescriptor deserialize(JsonParser parser) throws IOException {
-    ExchangeApiDescriptor msg = new ExchangeApiDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new ExchangeApiDescriptor());
+  }
+  
+  @Override
+  public ExchangeApiDescriptor deserializeInto(JsonParser parser, ExchangeApiDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(NAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setName(readNextString(parser));
+    if (!parser.nextFieldName(DESCRIPTION_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDescription(readNextString(parser));
+    if (!parser.nextFieldName(HTTP_URL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHttpUrl(readNextString(parser));
+    if (!parser.nextFieldName(DEFAULT_HTTP_CLIENT_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDefaultHttpClient(readNextString(parser));
+    if (!parser.nextFieldName(DEFAULT_WEBSOCKET_CLIENT_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDefaultWebsocketClient(readNextString(parser));
+    if (!parser.nextFieldName(REST_ENDPOINTS_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(restEndpointsDeserializer == null) {
+      restEndpointsDeserializer = new ListJsonFieldDeserializer<>(new RestEndpointDescriptorDeserializer());
+    }
+    msg.setRestEndpoints(restEndpointsDeserializer.deserialize(parser));
+    if (!parser.nextFieldName(WEBSOCKET_ENDPOINTS_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(websocketEndpointsDeserializer == null) {
+      websocketEndpointsDeserializer = new ListJsonFieldDeserializer<>(new WebsocketEndpointDescriptorDeserializer());
+    }
+    msg.setWebsocketEndpoints(websocketEndpointsDeserializer.deserialize(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private ExchangeApiDescriptor deserializeFields(JsonParser parser, ExchangeApiDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "name":
         msg.setName(readNextString(parser));
@@ -60,7 +114,6 @@ public class ExchangeApiDescriptorDeserializer extends AbstractJsonMessageDeseri
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.ConfigPropertyDescriptor;
 import org.jxapi.exchange.descriptor.gen.ConstantDescriptor;
@@ -21,6 +22,20 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class ExchangeDescriptorDeserializer extends AbstractJsonMessageDeserializer<ExchangeDescriptor> {
+  private static final SerializedString ID_FIELD_NAME = new SerializedString("id");
+  private static final SerializedString JXAPI_FIELD_NAME = new SerializedString("jxapi");
+  private static final SerializedString VERSION_FIELD_NAME = new SerializedString("version");
+  private static final SerializedString DESCRIPTION_FIELD_NAME = new SerializedString("description");
+  private static final SerializedString DOC_URL_FIELD_NAME = new SerializedString("docUrl");
+  private static final SerializedString BASE_PACKAGE_FIELD_NAME = new SerializedString("basePackage");
+  private static final SerializedString HTTP_URL_FIELD_NAME = new SerializedString("httpUrl");
+  private static final SerializedString AFTER_INIT_HOOK_FACTORY_FIELD_NAME = new SerializedString("afterInitHookFactory");
+  private static final SerializedString PROPERTIES_FIELD_NAME = new SerializedString("properties");
+  private static final SerializedString CONSTANTS_FIELD_NAME = new SerializedString("constants");
+  private static final SerializedString RATE_LIMITS_FIELD_NAME = new SerializedString("rateLimits");
+  private static final SerializedString NETWORK_FIELD_NAME = new SerializedString("network");
+  private static final SerializedString APIS_FIELD_NAME = new SerializedString("apis");
+  
   private ListJsonFieldDeserializer<ConfigPropertyDescriptor> propertiesDeserializer;
   private ListJsonFieldDeserializer<ConstantDescriptor> constantsDeserializer;
   private ListJsonFieldDeserializer<ExchangeApiDescriptor> apisDeserializer;
@@ -29,8 +44,89 @@ public class ExchangeDescriptorDeserializer extends AbstractJsonMessageDeseriali
   
   @Override
   public ExchangeDescriptor deserialize(JsonParser parser) throws IOException {
-    ExchangeDescriptor msg = new ExchangeDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new ExchangeDescriptor());
+  }
+  
+  @Override
+  public ExchangeDescriptor deserializeInto(JsonParser parser, ExchangeDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(ID_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setId(readNextString(parser));
+    if (!parser.nextFieldName(JXAPI_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setJxapi(readNextString(parser));
+    if (!parser.nextFieldName(VERSION_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setVersion(readNextString(parser));
+    if (!parser.nextFieldName(DESCRIPTION_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDescription(readNextString(parser));
+    if (!parser.nextFieldName(DOC_URL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDocUrl(readNextString(parser));
+    if (!parser.nextFieldName(BASE_PACKAGE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setBasePackage(readNextString(parser));
+    if (!parser.nextFieldName(HTTP_URL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHttpUrl(readNextString(parser));
+    if (!parser.nextFieldName(AFTER_INIT_HOOK_FACTORY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setAfterInitHookFactory(readNextString(parser));
+    if (!parser.nextFieldName(PROPERTIES_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(propertiesDeserializer == null) {
+      propertiesDeserializer = new ListJsonFieldDeserializer<>(new ConfigPropertyDescriptorDeserializer());
+    }
+    msg.setProperties(propertiesDeserializer.deserialize(parser));
+    if (!parser.nextFieldName(CONSTANTS_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(constantsDeserializer == null) {
+      constantsDeserializer = new ListJsonFieldDeserializer<>(new ConstantDescriptorDeserializer());
+    }
+    msg.setConstants(constantsDeserializer.deserialize(parser));
+    if (!parser.nextFieldName(RATE_LIMITS_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(rateLimitsDeserializer == null) {
+      rateLimitsDeserializer = new ListJsonFieldDeserializer<>(new RateLimitRuleDescriptorDeserializer());
+    }
+    msg.setRateLimits(rateLimitsDeserializer.deserialize(parser));
+    if (!parser.nextFieldName(NETWORK_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(networkDeserializer == null) {
+      networkDeserializer = new NetworkDescriptorDeserializer();
+    }
+    msg.setNetwork(networkDeserializer.deserialize(parser));
+    if (!parser.nextFieldName(APIS_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(apisDeserializer == null) {
+      apisDeserializer = new ListJsonFieldDeserializer<>(new ExchangeApiDescriptorDeserializer());
+    }
+    msg.setApis(apisDeserializer.deserialize(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private ExchangeDescriptor deserializeFields(JsonParser parser, ExchangeDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "id":
         msg.setId(readNextString(parser));
@@ -95,7 +191,6 @@ public class ExchangeDescriptorDeserializer extends AbstractJsonMessageDeseriali
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
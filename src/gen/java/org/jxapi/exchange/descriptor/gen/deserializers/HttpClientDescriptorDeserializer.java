@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.HttpClientDescriptor;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -17,11 +18,60 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class HttpClientDescriptorDeserializer extends AbstractJsonMessageDeserializer<HttpClientDescriptor> {
+  private static final SerializedString NAME_FIELD_NAME = new SerializedString("name");
+  private static final SerializedString HTTP_REQUEST_EXECUTOR_FACTORY_FIELD_NAME = new SerializedString("httpRequestExecutorFactory");
+  private static final SerializedString HTTP_REQUEST_INTERCEPTOR_FACTORY_FIELD_NAME = new SerializedString("httpRequestInterceptorFactory");
+  private static final SerializedString HTTP_RESPONSE_INTERCEPTOR_FACTORY_FIELD_NAME = new SerializedString("httpResponseInterceptorFactory");
+  private static final SerializedString HTTP_REQUEST_TIMEOUT_FIELD_NAME = new SerializedString("httpRequestTimeout");
+  private static final SerializedString HTTP_VERSION_FIELD_NAME = new SerializedString("httpVersion");
+  private static final SerializedString CONNECT_TIMEOUT_FIELD_NAME = new SerializedString("connectTimeout");
+  private static final SerializedString WARM_UP_URL_FIELD_NAME = new SerializedString("warmUpUrl");
   
   @Override
   public HttpClientDescriptor deserialize(JsonParser parser) throws IOException {
-    HttpClientDescriptor msg = new HttpClientDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new HttpClientDescriptor());
+  }
+  
+  @Override
+  public HttpClientDescriptor deserializeInto(JsonParser parser, HttpClientDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(NAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setName(readNextString(parser));
+    if (!parser.nextFieldName(HTTP_REQUEST_EXECUTOR_FACTORY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHttpRequestExecutorFactory(readNextString(parser));
+    if (!parser.nextFieldName(HTTP_REQUEST_INTERCEPTOR_FACTORY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHttpRequestInterceptorFactory(readNextString(parser));
+    if (!parser.nextFieldName(HTTP_RESPONSE_INTERCEPTOR_FACTORY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHttpResponseInterceptorFactory(readNextString(parser));
+    if (!parser.nextFieldName(HTTP_REQUEST_TIMEOUT_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHttpRequestTimeout(readNextLong(parser));
+    if (!parser.nextFieldName(HTTP_VERSION_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHttpVersion(readNextString(parser));
+    if (!parser.nextFieldName(CONNECT_TIMEOUT_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setConnectTimeout(readNextLong(parser));
+    if (!parser.nextFieldName(WARM_UP_URL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setWarmUpUrl(readNextString(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private HttpClientDescriptor deserializeFields(JsonParser parser, HttpClientDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "name":
         msg.setName(readNextString(parser));
@@ -38,11 +88,19 @@ public class HttpClientDescriptorDeserializer extends AbstractJsonMessageDeseria
       case "httpRequestTimeout":
         msg.setHttpRequestTimeout(readNextLong(parser));
       break;
+      case "httpVersion":
+        msg.setHttpVersion(readNextString(parser));
+      break;
+      case "connectTimeout":
+        msg.setConnectTimeout(readNextLong(parser));
+      break;
+      case "warmUpUrl":
+        msg.setWarmUpUrl(readNextString(parser));
+      break;
       default:
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
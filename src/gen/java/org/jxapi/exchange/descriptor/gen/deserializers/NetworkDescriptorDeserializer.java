@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.HttpClientDescriptor;
 import org.jxapi.exchange.descriptor.gen.NetworkDescriptor;
@@ -18,13 +19,41 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class NetworkDescriptorDeserializer extends AbstractJsonMessageDeserializer<NetworkDescriptor> {
+  private static final SerializedString HTTP_CLIENTS_FIELD_NAME = new SerializedString("httpClients");
+  private static final SerializedString WEBSOCKET_CLIENTS_FIELD_NAME = new SerializedString("websocketClients");
+  
   private ListJsonFieldDeserializer<HttpClientDescriptor> httpClientsDeserializer;
   private ListJsonFieldDeserializer<WebsocketClientDescriptor> websocketClientsDeserializer;
   
   @Override
   public NetworkDescriptor deserialize(JsonParser parser) throws IOException {
-    NetworkDescriptor msg = new NetworkDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new NetworkDescriptor());
+  }
+  
+  @Override
+  public NetworkDescriptor deserializeInto(JsonParser parser, NetworkDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(HTTP_CLIENTS_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(httpClientsDeserializer == null) {
+      httpClientsDeserializer = new ListJsonFieldDeserializer<>(new HttpClientDescriptorDeserializer());
+    }
+    msg.setHttpClients(httpClientsDeserializer.deserialize(parser));
+    if (!parser.nextFieldName(WEBSOCKET_CLIENTS_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(websocketClientsDeserializer == null) {
+      websocketClientsDeserializer = new ListJsonFieldDeserializer<>(new WebsocketClientDescriptorDeserializer());
+    }
+    msg.setWebsocketClients(websocketClientsDeserializer.deserialize(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private NetworkDescriptor deserializeFields(JsonParser parser, NetworkDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "httpClients":
         parser.nextToken();
@@ -44,7 +73,6 @@ public class NetworkDescriptorDeserializer extends AbstractJsonMessageDeserializ
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
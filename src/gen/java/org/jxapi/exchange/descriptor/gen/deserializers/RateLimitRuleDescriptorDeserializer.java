@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.RateLimitRuleDescriptor;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -18,11 +19,55 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class RateLimitRuleDescriptorDeserializer extends AbstractJsonMessageDeserializer<RateLimitRuleDescriptor> {
+  private static final SerializedString ID_FIELD_NAME = new SerializedString("id");
+  private static final SerializedString TIME_FRAME_FIELD_NAME = new SerializedString("timeFrame");
+  private static final SerializedString MAX_TOTAL_WEIGHT_FIELD_NAME = new SerializedString("maxTotalWeight");
+  private static final SerializedString MAX_REQUEST_COUNT_FIELD_NAME = new SerializedString("maxRequestCount");
+  private static final SerializedString GRANULARITY_FIELD_NAME = new SerializedString("granularity");
+  private static final SerializedString USED_HEADER_FIELD_NAME = new SerializedString("usedHeader");
+  private static final SerializedString REMAINING_HEADER_FIELD_NAME = new SerializedString("remainingHeader");
   
   @Override
   public RateLimitRuleDescriptor deserialize(JsonParser parser) throws IOException {
-    RateLimitRuleDescriptor msg = new RateLimitRuleDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new RateLimitRuleDescriptor());
+  }
+  
+  @Override
+  public RateLimitRuleDescriptor deserializeInto(JsonParser parser, RateLimitRuleDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(ID_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setId(readNextString(parser));
+    if (!parser.nextFieldName(TIME_FRAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setTimeFrame(readNextLong(parser));
+    if (!parser.nextFieldName(MAX_TOTAL_WEIGHT_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setMaxTotalWeight(readNextInteger(parser));
+    if (!parser.nextFieldName(MAX_REQUEST_COUNT_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setMaxRequestCount(readNextInteger(parser));
+    if (!parser.nextFieldName(GRANULARITY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setGranularity(readNextInteger(parser));
+    if (!parser.nextFieldName(USED_HEADER_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setUsedHeader(readNextString(parser));
+    if (!parser.nextFieldName(REMAINING_HEADER_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setRemainingHeader(readNextString(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private RateLimitRuleDescriptor deserializeFields(JsonParser parser, RateLimitRuleDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "id":
         msg.setId(readNextString(parser));
@@ -39,11 +84,16 @@ public class RateLimitRuleDescriptorDeserializer extends AbstractJsonMessageDese
       case "granularity":
         msg.setGranularity(readNextInteger(parser));
       break;
+      case "usedHeader":
+        msg.setUsedHeader(readNextString(parser));
+      break;
+      case "remainingHeader":
+        msg.setRemainingHeader(readNextString(parser));
+      break;
       default:
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.RestEndpointDescriptor;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -21,12 +22,88 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class RestEndpointDescriptorDeserializer extends AbstractJsonMessageDeserializer<RestEndpointDescriptor> {
+  private static final SerializedString NAME_FIELD_NAME = new SerializedString("name");
+  private static final SerializedString DESCRIPTION_FIELD_NAME = new SerializedString("description");
+  private static final SerializedString HTTP_METHOD_FIELD_NAME = new SerializedString("httpMethod");
+  private static final SerializedString URL_FIELD_NAME = new SerializedString("url");
+  private static final SerializedString DOC_URL_FIELD_NAME = new SerializedString("docUrl");
+  private static final SerializedString HTTP_CLIENT_FIELD_NAME = new SerializedString("httpClient");
+  private static final SerializedString REQUEST_WEIGHT_FIELD_NAME = new SerializedString("requestWeight");
+  private static final SerializedString RATE_LIMITS_FIELD_NAME = new SerializedString("rateLimits");
+  private static final SerializedString PRIORITY_FIELD_NAME = new SerializedString("priority");
+  private static final SerializedString PAGINATED_FIELD_NAME = new SerializedString("paginated");
+  private static final SerializedString REQUEST_HAS_BODY_FIELD_NAME = new SerializedString("requestHasBody");
+  private static final SerializedString REQUEST_FIELD_NAME = new SerializedString("request");
+  private static final SerializedString RESPONSE_FIELD_NAME = new SerializedString("response");
+  
   private final ListJsonFieldDeserializer<String> rateLimitsDeserializer = new ListJsonFieldDeserializer<>(StringJsonFieldDeserializer.getInstance());
   
   @Override
   public RestEndpointDescriptor deserialize(JsonParser parser) throws IOException {
-    RestEndpointDescriptor msg = new RestEndpointDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new RestEndpointDescriptor());
+  }
+  
+  @Override
+  public RestEndpointDescriptor deserializeInto(JsonParser parser, RestEndpointDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(NAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setName(readNextString(parser));
+    if (!parser.nextFieldName(DESCRIPTION_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDescription(readNextString(parser));
+    if (!parser.nextFieldName(HTTP_METHOD_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHttpMethod(readNextString(parser));
+    if (!parser.nextFieldName(URL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setUrl(readNextString(parser));
+    if (!parser.nextFieldName(DOC_URL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDocUrl(readNextString(parser));
+    if (!parser.nextFieldName(HTTP_CLIENT_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHttpClient(readNextString(parser));
+    if (!parser.nextFieldName(REQUEST_WEIGHT_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setRequestWeight(readNextInteger(parser));
+    if (!parser.nextFieldName(RATE_LIMITS_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    msg.setRateLimits(rateLimitsDeserializer.deserialize(parser));
+    if (!parser.nextFieldName(PRIORITY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setPriority(readNextString(parser));
+    if (!parser.nextFieldName(PAGINATED_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setPaginated(readNextBoolean(parser));
+    if (!parser.nextFieldName(REQUEST_HAS_BODY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setRequestHasBody(readNextBoolean(parser));
+    if (!parser.nextFieldName(REQUEST_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setRequest(readNextObject(parser, org.jxapi.pojo.descriptor.Field.class));
+    if (!parser.nextFieldName(RESPONSE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setResponse(readNextObject(parser, org.jxapi.pojo.descriptor.Field.class));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private RestEndpointDescriptor deserializeFields(JsonParser parser, RestEndpointDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "name":
         msg.setName(readNextString(parser));
@@ -53,6 +130,9 @@ public class RestEndpointDescriptorDeserializer extends AbstractJsonMessageDeser
         parser.nextToken();
         msg.setRateLimits(rateLimitsDeserializer.deserialize(parser));
       break;
+      case "priority":
+        msg.setPriority(readNextString(parser));
+      break;
       case "paginated":
         msg.setPaginated(readNextBoolean(parser));
       break;
@@ -69,7 +149,6 @@ public class RestEndpointDescriptorDeserializer extends AbstractJsonMessageDeser
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
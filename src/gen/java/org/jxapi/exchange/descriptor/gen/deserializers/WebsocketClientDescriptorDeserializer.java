@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.WebsocketClientDescriptor;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -16,11 +17,40 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class WebsocketClientDescriptorDeserializer extends AbstractJsonMessageDeserializer<WebsocketClientDescriptor> {
+  private static final SerializedString NAME_FIELD_NAME = new SerializedString("name");
+  private static final SerializedString WEBSOCKET_URL_FIELD_NAME = new SerializedString("websocketUrl");
+  private static final SerializedString WEBSOCKET_FACTORY_FIELD_NAME = new SerializedString("websocketFactory");
+  private static final SerializedString WEBSOCKET_HOOK_FACTORY_FIELD_NAME = new SerializedString("websocketHookFactory");
   
   @Override
   public WebsocketClientDescriptor deserialize(JsonParser parser) throws IOException {
-    WebsocketClientDescriptor msg = new WebsocketClientDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new WebsocketClientDescriptor());
+  }
+  
+  @Override
+  public WebsocketClientDescriptor deserializeInto(JsonParser parser, WebsocketClientDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(NAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setName(readNextString(parser));
+    if (!parser.nextFieldName(WEBSOCKET_URL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setWebsocketUrl(readNextString(parser));
+    if (!parser.nextFieldName(WEBSOCKET_FACTORY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setWebsocketFactory(readNextString(parser));
+    if (!parser.nextFieldName(WEBSOCKET_HOOK_FACTORY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setWebsocketHookFactory(readNextString(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private WebsocketClientDescriptor deserializeFields(JsonParser parser, WebsocketClientDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "name":
         msg.setName(readNextString(parser));
@@ -38,7 +68,6 @@ public class WebsocketClientDescriptorDeserializer extends AbstractJsonMessageDe
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
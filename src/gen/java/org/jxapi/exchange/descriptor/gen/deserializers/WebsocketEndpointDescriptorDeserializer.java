@@ -4,9 +4,11 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.WebsocketEndpointDescriptor;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
+import static org.jxapi.util.JsonUtil.readNextInteger;
 import static org.jxapi.util.JsonUtil.readNextObject;
 import static org.jxapi.util.JsonUtil.readNextString;
 import static org.jxapi.util.JsonUtil.skipNextValue;
@@ -17,12 +19,81 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class WebsocketEndpointDescriptorDeserializer extends AbstractJsonMessageDeserializer<WebsocketEndpointDescriptor> {
+  private static final SerializedString NAME_FIELD_NAME = new SerializedString("name");
+  private static final SerializedString DESCRIPTION_FIELD_NAME = new SerializedString("description");
+  private static final SerializedString TOPIC_FIELD_NAME = new SerializedString("topic");
+  private static final SerializedString WEBSOCKET_CLIENT_FIELD_NAME = new SerializedString("websocketClient");
+  private static final SerializedString DOC_URL_FIELD_NAME = new SerializedString("docUrl");
+  private static final SerializedString REQUEST_FIELD_NAME = new SerializedString("request");
+  private static final SerializedString MESSAGE_FIELD_NAME = new SerializedString("message");
+  private static final SerializedString TOPIC_MATCHER_FIELD_NAME = new SerializedString("topicMatcher");
+  private static final SerializedString QUEUE_CAPACITY_FIELD_NAME = new SerializedString("queueCapacity");
+  private static final SerializedString OVERFLOW_POLICY_FIELD_NAME = new SerializedString("overflowPolicy");
+  private static final SerializedString CONFLATION_KEY_FIELD_NAME = new SerializedString("conflationKey");
+  
   private WebsocketTopicMatcherDescriptorDeserializer topicMatcherDeserializer;
   
   @Override
   public WebsocketEndpointDescriptor deserialize(JsonParser parser) throws IOException {
-    WebsocketEndpointDescriptor msg = new WebsocketEndpointDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new WebsocketEndpointDescriptor());
+  }
+  
+  @Override
+  public WebsocketEndpointDescriptor deserializeInto(JsonParser parser, WebsocketEndpointDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(NAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setName(readNextString(parser));
+    if (!parser.nextFieldName(DESCRIPTION_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDescription(readNextString(parser));
+    if (!parser.nextFieldName(TOPIC_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setTopic(readNextString(parser));
+    if (!parser.nextFieldName(WEBSOCKET_CLIENT_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setWebsocketClient(readNextString(parser));
+    if (!parser.nextFieldName(DOC_URL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setDocUrl(readNextString(parser));
+    if (!parser.nextFieldName(REQUEST_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setRequest(readNextObject(parser, org.jxapi.pojo.descriptor.Field.class));
+    if (!parser.nextFieldName(MESSAGE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setMessage(readNextObject(parser, org.jxapi.pojo.descriptor.Field.class));
+    if (!parser.nextFieldName(TOPIC_MATCHER_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(topicMatcherDeserializer == null) {
+      topicMatcherDeserializer = new WebsocketTopicMatcherDescriptorDeserializer();
+    }
+    msg.setTopicMatcher(topicMatcherDeserializer.deserialize(parser));
+    if (!parser.nextFieldName(QUEUE_CAPACITY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setQueueCapacity(readNextInteger(parser));
+    if (!parser.nextFieldName(OVERFLOW_POLICY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setOverflowPolicy(readNextString(parser));
+    if (!parser.nextFieldName(CONFLATION_KEY_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setConflationKey(readNextString(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private WebsocketEndpointDescriptor deserializeFields(JsonParser parser, WebsocketEndpointDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "name":
         msg.setName(readNextString(parser));
@@ -52,11 +123,19 @@ public class WebsocketEndpointDescriptorDeserializer extends AbstractJsonMessage
         }
         msg.setTopicMatcher(topicMatcherDeserializer.deserialize(parser));
       break;
+      case "queueCapacity":
+        msg.setQueueCapacity(readNextInteger(parser));
+      break;
+      case "overflowPolicy":
+        msg.setOverflowPolicy(readNextString(parser));
+      break;
+      case "conflationKey":
+        msg.setConflationKey(readNextString(parser));
+      break;
       default:
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
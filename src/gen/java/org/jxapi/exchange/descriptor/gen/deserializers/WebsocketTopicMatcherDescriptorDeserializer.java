@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.WebsocketTopicMatcherDescriptor;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -18,13 +19,56 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class WebsocketTopicMatcherDescriptorDeserializer extends AbstractJsonMessageDeserializer<WebsocketTopicMatcherDescriptor> {
+  private static final SerializedString FIELD_NAME_FIELD_NAME = new SerializedString("fieldName");
+  private static final SerializedString FIELD_VALUE_FIELD_NAME = new SerializedString("fieldValue");
+  private static final SerializedString FIELD_REGEXP_FIELD_NAME = new SerializedString("fieldRegexp");
+  private static final SerializedString AND_FIELD_NAME = new SerializedString("and");
+  private static final SerializedString OR_FIELD_NAME = new SerializedString("or");
+  
   private ListJsonFieldDeserializer<WebsocketTopicMatcherDescriptor> andDeserializer;
   private ListJsonFieldDeserializer<WebsocketTopicMatcherDescriptor> orDeserializer;
   
   @Override
   public WebsocketTopicMatcherDescriptor deserialize(JsonParser parser) throws IOException {
-    WebsocketTopicMatcherDescriptor msg = new WebsocketTopicMatcherDescriptor();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new WebsocketTopicMatcherDescriptor());
+  }
+  
+  @Override
+  public WebsocketTopicMatcherDescriptor deserializeInto(JsonParser parser, WebsocketTopicMatcherDescriptor msg) throws IOException {
+    if (!parser.nextFieldName(FIELD_NAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setFieldName(readNextString(parser));
+    if (!parser.nextFieldName(FIELD_VALUE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setFieldValue(readNextObject(parser));
+    if (!parser.nextFieldName(FIELD_REGEXP_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setFieldRegexp(readNextString(parser));
+    if (!parser.nextFieldName(AND_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(andDeserializer == null) {
+      andDeserializer = new ListJsonFieldDeserializer<>(new WebsocketTopicMatcherDescriptorDeserializer());
+    }
+    msg.setAnd(andDeserializer.deserialize(parser));
+    if (!parser.nextFieldName(OR_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(orDeserializer == null) {
+      orDeserializer = new ListJsonFieldDeserializer<>(new WebsocketTopicMatcherDescriptorDeserializer());
+    }
+    msg.setOr(orDeserializer.deserialize(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private WebsocketTopicMatcherDescriptor deserializeFields(JsonParser parser, WebsocketTopicMatcherDescriptor msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "fieldName":
         msg.setFieldName(readNextString(parser));
@@ -53,7 +97,6 @@ public class WebsocketTopicMatcherDescriptorDeserializer extends AbstractJsonMes
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -17,7 +17,7 @@ import static org.jxapi.util.JsonUtil.writeStringField;
 @Generated("org.jxapi.generator.java.pojo.JsonPojoSerializerGenerator")
 public class HttpClientDescriptorSerializer extends AbstractJsonValueSerializer<HttpClientDescriptor> {
   
-  private static final long serialVersionUID = -2424353803775428028L;
+  private static final long serialVersionUID = -686231291843454138L;
   
   /**
    * Constructor
@@ -35,6 +35,9 @@ public class HttpClientDescriptorSerializer extends AbstractJsonValueSerializer<
     writeStringField(gen, "httpRequestInterceptorFactory", value.getHttpRequestInterceptorFactory());
     writeStringField(gen, "httpResponseInterceptorFactory", value.getHttpResponseInterceptorFactory());
     writeLongField(gen, "httpRequestTimeout", value.getHttpRequestTimeout());
+    writeStringField(gen, "httpVersion", value.getHttpVersion());
+    writeLongField(gen, "connectTimeout", value.getConnectTimeout());
+    writeStringField(gen, "warmUpUrl", value.getWarmUpUrl());
     gen.writeEndObject();
   }
 }
@@ -18,7 +18,7 @@ import static org.jxapi.util.JsonUtil.writeStringField;
 @Generated("org.jxapi.generator.java.pojo.JsonPojoSerializerGenerator")
 public class RateLimitRuleDescriptorSerializer extends AbstractJsonValueSerializer<RateLimitRuleDescriptor> {
   
-  private static final long serialVersionUID = -6068811743425871939L;
+  private static final long serialVersionUID = 1537158418816865863L;
   
   /**
    * Constructor
@@ -36,6 +36,8 @@ public class RateLimitRuleDescriptorSerializer extends AbstractJsonValueSerializ
     writeIntField(gen, "maxTotalWeight", value.getMaxTotalWeight());
     writeIntField(gen, "maxRequestCount", value.getMaxRequestCount());
     writeIntField(gen, "granularity", value.getGranularity());
+    writeStringField(gen, "usedHeader", value.getUsedHeader());
+    writeStringField(gen, "remainingHeader", value.getRemainingHeader());
     gen.writeEndObject();
   }
 }
@@ -22,7 +22,7 @@ import static org.jxapi.util.JsonUtil.writeStringField;
 @Generated("org.jxapi.generator.java.pojo.JsonPojoSerializerGenerator")
 public class RestEndpointDescriptorSerializer extends AbstractJsonValueSerializer<RestEndpointDescriptor> {
   
-  private static final long serialVersionUID = 695972162215070755L;
+  private static final long serialVersionUID = -1803724212503246491L;
   
   /**
    * Constructor
@@ -44,6 +44,7 @@ public class RestEndpointDescriptorSerializer extends AbstractJsonValueSerialize
     writeStringField(gen, "httpClient", value.getHttpClient());
     writeIntField(gen, "requestWeight", value.getRequestWeight());
     writeCustomSerializerField(gen, "rateLimits", value.getRateLimits(), rateLimitsSerializer, provider);
+    writeStringField(gen, "priority", value.getPriority());
     writeBooleanField(gen, "paginated", value.isPaginated());
     writeBooleanField(gen, "requestHasBody", value.isRequestHasBody());
     writeObjectField(gen, "request", value.getRequest());
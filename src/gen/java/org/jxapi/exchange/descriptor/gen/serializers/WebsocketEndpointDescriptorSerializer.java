@@ -8,6 +8,7 @@ import javax.annotation.processing.Generated;
 import org.jxapi.exchange.descriptor.gen.WebsocketEndpointDescriptor;
 import org.jxapi.netutils.serialization.json.AbstractJsonValueSerializer;
 import static org.jxapi.util.JsonUtil.writeCustomSerializerField;
+import static org.jxapi.util.JsonUtil.writeIntField;
 import static org.jxapi.util.JsonUtil.writeObjectField;
 import static org.jxapi.util.JsonUtil.writeStringField;
 
@@ -18,7 +19,7 @@ import static org.jxapi.util.JsonUtil.writeStringField;
 @Generated("org.jxapi.generator.java.pojo.JsonPojoSerializerGenerator")
 public class WebsocketEndpointDescriptorSerializer extends AbstractJsonValueSerializer<WebsocketEndpointDescriptor> {
   
-  private static final long serialVersionUID = -4331439425826461065L;
+  private static final long serialVersionUID = -5769970454487620221L;
   
   /**
    * Constructor
@@ -43,6 +44,9 @@ public class WebsocketEndpointDescriptorSerializer extends AbstractJsonValueSeri
       topicMatcherSerializer = new WebsocketTopicMatcherDescriptorSerializer();
     }
     writeCustomSerializerField(gen, "topicMatcher", value.getTopicMatcher(), topicMatcherSerializer, provider);
+    writeIntField(gen, "queueCapacity", value.getQueueCapacity());
+    writeStringField(gen, "overflowPolicy", value.getOverflowPolicy());
+    writeStringField(gen, "conflationKey", value.getConflationKey());
     gen.writeEndObject();
   }
 }
@@ -1,10 +1,15 @@
 package org.jxapi.exchange;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jxapi.netutils.DefaultNetwork;
@@ -19,9 +24,13 @@ import org.jxapi.netutils.rest.HttpRequestInterceptor;
 import org.jxapi.netutils.rest.HttpRequestInterceptorFactory;
 import org.jxapi.netutils.rest.HttpResponseInterceptor;
 import org.jxapi.netutils.rest.javanet.JavaNetHttpRequestExecutor;
+import org.jxapi.netutils.rest.ratelimits.RateLimitFeedbackResponseInterceptor;
+import org.jxapi.netutils.rest.ratelimits.RateLimitStateStorageFactory;
+import org.jxapi.netutils.rest.ratelimits.RateLimitStorageMode;
 import org.jxapi.netutils.rest.ratelimits.RequestThrottler;
 import org.jxapi.netutils.websocket.DefaultWebsocketClient;
 import org.jxapi.netutils.websocket.DefaultWebsocketFactory;
+import org.jxapi.netutils.websocket.PooledWebsocketClient;
 import org.jxapi.netutils.websocket.Websocket;
 import org.jxapi.netutils.websocket.WebsocketClient;
 import org.jxapi.netutils.websocket.WebsocketErrorHandler;
@@ -31,14 +40,21 @@ import org.jxapi.netutils.websocket.WebsocketHookFactory;
 import org.jxapi.observability.Observable;
 import org.jxapi.observability.SynchronizedObservable;
 import org.jxapi.util.DefaultDisposable;
+import org.jxapi.util.Disposable;
+import org.jxapi.util.ExecutorFactory;
+import org.jxapi.util.ExecutorMode;
 import org.jxapi.util.FactoryUtil;
 import org.jxapi.util.PropertiesUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Abstract {@link Exchange} implementation to be used as super class of actual
  * implementations.
  */
 public abstract class AbstractExchange extends DefaultDisposable implements Exchange {
+  
+  private static final Logger log = LoggerFactory.getLogger(AbstractExchange.class);
 
   /**
    * The exchange name
@@ -90,7 +106,11 @@ public abstract class AbstractExchange extends DefaultDisposable implements Exch
    */
   protected final RequestThrottler requestThrottler;
   
-  private HttpRequestExecutor defaultHttpRequestExecutor;
+  private final Map<String, HttpRequestExecutor> defaultHttpRequestExecutors = new HashMap<>();
+  
+  private final Map<String, String> warmUpUrls = new LinkedHashMap<>();
+  
+  private final ExecutorFactory executorFactory;
 
   private String httpUrl;
   
@@ -116,13 +136,50 @@ public abstract class AbstractExchange extends DefaultDisposable implements Exch
     this.properties = properties;
     this.httpUrl = httpUrl;
     this.network = new DefaultNetwork();
+    this.executorFactory = createExecutorFactory(properties);
     if (hasRateLimiting) {
-      this.requestThrottler = new RequestThrottler(name);
+      this.requestThrottler = new RequestThrottler(name, createRateLimitStateStorageFactory());
+      this.requestThrottler.setExecutorFactory(executorFactory);
     } else {
       this.requestThrottler = null;
     }
   }
 
+  /**
+   * Creates the factory of executors of REST and websocket components from
+   * configuration properties, see
+   * {@link CommonConfigProperties#EXECUTOR_MODE_PROPERTY} and
+   * {@link CommonConfigProperties#SHARED_EXECUTOR_POOL_SIZE_PROPERTY}.
+   * 
+   * @param properties the configuration properties, may be <code>null</code>
+   * @return the executor factory
+   */
+  public static ExecutorFactory createExecutorFactory(Properties properties) {
+    Properties props = Optional.ofNullable(properties).orElseGet(Properties::new);
+    ExecutorMode mode = ExecutorMode.valueOf(PropertiesUtil.getString(props, CommonConfigProperties.EXECUTOR_MODE_PROPERTY));
+    return mode.getExecutorFactory(PropertiesUtil.getInt(props, CommonConfigProperties.SHARED_EXECUTOR_POOL_SIZE_PROPERTY));
+  }
+  
+  /**
+   * @return the factory of executors of REST and websocket components of this
+   *         exchange, see {@link #createExecutorFactory(Properties)}
+   */
+  public ExecutorFactory getExecutorFactory() {
+    return executorFactory;
+  }
+
+  private RateLimitStateStorageFactory createRateLimitStateStorageFactory() {
+    Properties props = Optional.ofNullable(properties).orElseGet(Properties::new);
+    RateLimitStorageMode mode = RateLimitStorageMode.valueOf(
+        PropertiesUtil.getString(props, CommonConfigProperties.RATE_LIMIT_STORAGE_PROPERTY));
+    String directory = PropertiesUtil.getString(props, CommonConfigProperties.RATE_LIMIT_STORAGE_DIRECTORY_PROPERTY);
+    Path directoryPath = StringUtils.isBlank(directory) ? 
+                          Paths.get(System.getProperty("java.io.tmpdir"), "jxapi-ratelimits") 
+                          : Paths.get(directory);
+    String key = PropertiesUtil.getString(props, CommonConfigProperties.RATE_LIMIT_STORAGE_KEY_PROPERTY);
+    return mode.createStorageFactory(directoryPath, StringUtils.isBlank(key) ? name : key);
+  }
+
   @Override
   public Properties getProperties() {
     return properties;
@@ -179,12 +236,15 @@ public abstract class AbstractExchange extends DefaultDisposable implements Exch
   
   @Override
   protected void doDispose() {
+    apis.values().forEach(api -> {
+      if (api instanceof Disposable disposable) {
+        disposable.dispose();
+      }
+    });
     if (requestThrottler != null) {
       requestThrottler.dispose();
     }
-    if (defaultHttpRequestExecutor != null) {
-    	defaultHttpRequestExecutor.dispose();
-    }
+    defaultHttpRequestExecutors.values().forEach(HttpRequestExecutor::dispose);
     network.dispose();
   }
   
@@ -222,14 +282,73 @@ public abstract class AbstractExchange extends DefaultDisposable implements Exch
       String httpRequestExecutorFactoryClass,
       String httpResponseInterceptorFactoryClass,
       Long defaultRequestTimeout) {
+    createHttpClient(
+        clientId, 
+        httpRequestInterceptorFactoryClass, 
+        httpRequestExecutorFactoryClass, 
+        httpResponseInterceptorFactoryClass, 
+        defaultRequestTimeout, 
+        null, 
+        null, 
+        null);
+  }
+  
+  /**
+   * Creates an HTTP client using the specified client ID, HTTP request
+   * interceptor factory class name, HTTP request executor factory class name,
+   * default request timeout and connection settings. Should be called by
+   * subclasses to create HTTP clients.
+   * <p>
+   * HTTP version and connect timeout apply to default HTTP request executor only,
+   * that is when <code>httpRequestExecutorFactoryClass</code> is
+   * <code>null</code>. They can be overridden with
+   * {@link CommonConfigProperties#HTTP_VERSION_PROPERTY} and
+   * {@link CommonConfigProperties#HTTP_CONNECT_TIMEOUT_PROPERTY} configuration
+   * properties. Clients with same settings share same default executor, hence
+   * same connection pool.
+   * <p>
+   * If {@link CommonConfigProperties#HTTP_WARM_UP_PROPERTY} is
+   * <code>true</code>, connection of created client is established right away,
+   * asynchronously, see {@link #preconnect()}.
+   * 
+   * @param clientId                           The ID of the HTTP client.
+   * @param httpRequestInterceptorFactoryClass The fully qualified class name of
+   *                                           the HTTP request interceptor
+   *                                           factory.
+   * @param httpRequestExecutorFactoryClass    The fully qualified class name of
+   *                                           the HTTP request executor factory.
+   * @param httpResponseInterceptorFactoryClass The fully qualified class name
+   *                                           of the HTTP response interceptor
+   *                                           factory.
+   * @param defaultRequestTimeout              The default request timeout in
+   *                                           milliseconds.
+   * @param httpVersion                        The preferred HTTP protocol
+   *                                           version, see
+   *                                           {@link java.net.http.HttpClient.Version}.
+   *                                           <code>null</code> means
+   *                                           <code>HTTP_2</code>.
+   * @param connectTimeout                     The timeout in milliseconds for
+   *                                           establishing connections,
+   *                                           <code>null</code> for none.
+   * @param warmUpUrl                          The URL used to establish
+   *                                           connection of client ahead of first
+   *                                           request. <code>null</code> means
+   *                                           base HTTP URL of exchange.
+   */
+  protected void createHttpClient(
+      String clientId, 
+      String httpRequestInterceptorFactoryClass,
+      String httpRequestExecutorFactoryClass,
+      String httpResponseInterceptorFactoryClass,
+      Long defaultRequestTimeout,
+      String httpVersion,
+      Long connectTimeout,
+      String warmUpUrl) {
     HttpRequestExecutor httpRequestExecutor = null;
     if  (httpRequestExecutorFactoryClass != null) {
       httpRequestExecutor = (HttpRequestExecutorFactory.fromClassName(httpRequestExecutorFactoryClass)).createExecutor(this);
     } else {
-      if (defaultHttpRequestExecutor == null) {
-    	defaultHttpRequestExecutor = new JavaNetHttpRequestExecutor(id + "-" + name + "-http-");
-      }
-      httpRequestExecutor = defaultHttpRequestExecutor;
+      httpRequestExecutor = getDefaultHttpRequestExecutor(httpVersion, connectTimeout);
     }
     defaultRequestTimeout = Optional
         .ofNullable(defaultRequestTimeout)
@@ -241,7 +360,63 @@ public abstract class AbstractExchange extends DefaultDisposable implements Exch
     if (requestTimeout >= 0) {
       httpRequestExecutor.setRequestTimeout(requestTimeout);
     }
+    if (httpRequestExecutor instanceof JavaNetHttpRequestExecutor) {
+      ((JavaNetHttpRequestExecutor) httpRequestExecutor).setStreamingResponseBody(
+          Boolean.TRUE.equals(PropertiesUtil.getBoolean(getProperties(), CommonConfigProperties.HTTP_STREAMING_RESPONSE_BODY_PROPERTY)));
+    }
     createHttpClient(clientId, httpRequestInterceptorFactoryClass, httpRequestExecutor, httpResponseInterceptorFactoryClass);
+    String url = StringUtils.isBlank(warmUpUrl) ? httpUrl : warmUpUrl;
+    if (!StringUtils.isBlank(url)) {
+      warmUpUrls.put(clientId, url);
+      if (Boolean.TRUE.equals(PropertiesUtil.getBoolean(getProperties(), CommonConfigProperties.HTTP_WARM_UP_PROPERTY))) {
+        preconnect(clientId, url);
+      }
+    }
+  }
+  
+  private HttpRequestExecutor getDefaultHttpRequestExecutor(String httpVersion, Long connectTimeout) {
+    Properties props = Optional.ofNullable(getProperties()).orElseGet(Properties::new);
+    String version = PropertiesUtil.getString(props, CommonConfigProperties.HTTP_VERSION_PROPERTY.getName(), httpVersion);
+    java.net.http.HttpClient.Version v = StringUtils.isBlank(version) ? 
+                                          java.net.http.HttpClient.Version.HTTP_2 
+                                          : java.net.http.HttpClient.Version.valueOf(version);
+    Long timeout = PropertiesUtil.getLong(props, CommonConfigProperties.HTTP_CONNECT_TIMEOUT_PROPERTY.getName(), connectTimeout);
+    Duration connectTimeoutDuration = timeout != null && timeout > 0 ? Duration.ofMillis(timeout) : null;
+    return defaultHttpRequestExecutors.computeIfAbsent(
+        v + "-" + connectTimeoutDuration, 
+        k -> new JavaNetHttpRequestExecutor(id + "-" + name + "-http-", executorFactory, v, connectTimeoutDuration));
+  }
+  
+  /**
+   * Establishes connections of every HTTP client of this exchange, to their
+   * warm-up URL or base HTTP URL of exchange, see
+   * {@link HttpRequestExecutor#preconnect(String)}. Connection requests are not
+   * throttled. Can be called at any time, for instance right before sending
+   * first order. Connections are established automatically at initialization
+   * when {@link CommonConfigProperties#HTTP_WARM_UP_PROPERTY} is
+   * <code>true</code>.
+   */
+  @Override
+  public CompletableFuture<Void> preconnect() {
+    return CompletableFuture.allOf(
+        warmUpUrls.entrySet()
+                  .stream()
+                  .map(e -> preconnect(e.getKey(), e.getValue()))
+                  .toArray(CompletableFuture[]::new));
+  }
+  
+  private CompletableFuture<Void> preconnect(String clientId, String url) {
+    HttpClient client = network.getHttpClient(clientId);
+    if (client == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Void> res = client.preconnect(url);
+    res.whenComplete((r, error) -> {
+      if (error != null) {
+        log.warn("Failed to pre-connect HTTP client '{}' of exchange {} to {}: {}", clientId, id, url, error.toString());
+      }
+    });
+    return res;
   }
   
   private void createHttpClient(
@@ -263,6 +438,10 @@ public abstract class AbstractExchange extends DefaultDisposable implements Exch
     } else {
       httpResponseInterceptor = new DefaultHttpResponseInterceptor();
     }
+    if (requestThrottler != null 
+        && Boolean.TRUE.equals(PropertiesUtil.getBoolean(getProperties(), CommonConfigProperties.RATE_LIMIT_FEEDBACK_PROPERTY))) {
+      httpResponseInterceptor = new RateLimitFeedbackResponseInterceptor(requestThrottler, httpResponseInterceptor);
+    }
     
     network.registerHttpClient(name, new HttpClient(
         httpRequestInterceptor, 
@@ -274,6 +453,9 @@ public abstract class AbstractExchange extends DefaultDisposable implements Exch
   /**
    * Creates a websocket manager using the specified URL, websocket factory class name, and websocket hook factory class name.
    * Should be called by subclasses to create the websocket manager if there is at least one websocket endpoint.
+   * <p>
+   * When {@link CommonConfigProperties#WEBSOCKET_MAX_CONNECTIONS_PROPERTY} is greater than 1, created client is a 
+   * {@link PooledWebsocketClient} spreading topics over several connections, each one with its own websocket and hook.
    * 
    * @param name The name of the websocket client.
    * @param url The URL of the websocket server. Can be <code>null</code> to set it later, or use the default URL defined by the websocket implementation.
@@ -288,16 +470,46 @@ public abstract class AbstractExchange extends DefaultDisposable implements Exch
     WebsocketFactory websocketFactory = websocketFactoryClassName == null? 
                         new DefaultWebsocketFactory(): 
                         WebsocketFactory.fromClassName(websocketFactoryClassName);
+    WebsocketHookFactory websocketHookFactory = websocketHookFactoryClassName == null? 
+                        null: 
+                        WebsocketHookFactory.fromClassName(websocketHookFactoryClassName);
+    int maxConnections = PropertiesUtil.getInt(getProperties(), CommonConfigProperties.WEBSOCKET_MAX_CONNECTIONS_PROPERTY);
+    WebsocketClient websocketClient;
+    if (maxConnections > 1) {
+      Integer maxTopics = PropertiesUtil.getInt(getProperties(), CommonConfigProperties.WEBSOCKET_MAX_TOPICS_PER_CONNECTION_PROPERTY);
+      websocketClient = new PooledWebsocketClient(
+          () -> createWebsocketConnection(url, websocketFactory, websocketHookFactory), 
+          maxConnections, 
+          maxTopics == null? 0: maxTopics);
+    } else {
+      websocketClient = createWebsocketConnection(url, websocketFactory, websocketHookFactory);
+    }
+    websocketClient.subscribeErrorHandler(wsErrorHandler);
+    network.registerWebsocket(name, websocketClient);
+  }
+  
+  private DefaultWebsocketClient createWebsocketConnection(
+      String url, 
+      WebsocketFactory websocketFactory, 
+      WebsocketHookFactory websocketHookFactory) {
     Websocket websocket = websocketFactory.createWebsocket(this);
     if (url != null) {
       websocket.setUrl(url);
     }
-    WebsocketHook websocketHook = websocketHookFactoryClassName == null? 
+    WebsocketHook websocketHook = websocketHookFactory == null? 
                     null: 
-                    WebsocketHookFactory.fromClassName(websocketHookFactoryClassName).createWebsocketHook(this);
-    WebsocketClient websocketClient = new DefaultWebsocketClient(websocket, websocketHook);
-    websocketClient.subscribeErrorHandler(wsErrorHandler);
-    network.registerWebsocket(name, websocketClient);
+                    websocketHookFactory.createWebsocketHook(this);
+    DefaultWebsocketClient websocketClient = new DefaultWebsocketClient(websocket, websocketHook, executorFactory);
+    websocketClient.setSinglePassParsing(Boolean.TRUE.equals(PropertiesUtil.getBoolean(
+        getProperties(), 
+        CommonConfigProperties.WEBSOCKET_SINGLE_PASS_PARSING_PROPERTY)));
+    websocketClient.setMaxSubscribeBatchSize(PropertiesUtil.getInt(
+        getProperties(), 
+        CommonConfigProperties.WEBSOCKET_SUBSCRIBE_MAX_BATCH_SIZE_PROPERTY));
+    websocketClient.setSubscribeBatchWindow(PropertiesUtil.getLong(
+        getProperties(), 
+        CommonConfigProperties.WEBSOCKET_SUBSCRIBE_BATCH_WINDOW_PROPERTY));
+    return websocketClient;
   }
   
   /**
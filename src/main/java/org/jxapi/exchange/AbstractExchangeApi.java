@@ -1,6 +1,9 @@
 
 package org.jxapi.exchange;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jxapi.netutils.deserialization.MessageDeserializer;
 import org.jxapi.netutils.rest.HttpClient;
 import org.jxapi.netutils.rest.HttpRequestExecutor;
@@ -9,10 +12,13 @@ import org.jxapi.netutils.rest.PaginatedRestEndpoint;
 import org.jxapi.netutils.rest.RestEndpoint;
 import org.jxapi.netutils.rest.pagination.PaginatedRestRequest;
 import org.jxapi.netutils.rest.pagination.PaginatedRestResponse;
+import org.jxapi.netutils.websocket.ConflatingWebsocketEndpoint;
 import org.jxapi.netutils.websocket.DefaultWebsocketEndpoint;
 import org.jxapi.netutils.websocket.WebsocketClient;
 import org.jxapi.netutils.websocket.WebsocketEndpoint;
+import org.jxapi.netutils.websocket.WebsocketOverflowPolicy;
 import org.jxapi.observability.Observable;
+import org.jxapi.util.DefaultDisposable;
 import org.jxapi.util.EncodingUtil;
 
 /**
@@ -33,7 +39,9 @@ import org.jxapi.util.EncodingUtil;
  * ExchangeApi interface.
  * <br>
  * This class also provides helper methods for creating HTTP request
- * interceptors, HTTP request executors, and websocket managers.
+ * interceptors, HTTP request executors, and websocket managers. Websocket
+ * endpoints created by this API are disposed with it, which the exchange does
+ * when disposed.
  * 
  * @see ExchangeApi
  * @see HttpRequestInterceptor
@@ -43,7 +51,7 @@ import org.jxapi.util.EncodingUtil;
  * @see ExchangeEvent
  * @see Observable
  */
-public abstract class AbstractExchangeApi implements ExchangeApi {
+public abstract class AbstractExchangeApi extends DefaultDisposable implements ExchangeApi {
 
   /**
    * The name of this exchange API group.
@@ -62,6 +70,7 @@ public abstract class AbstractExchangeApi implements ExchangeApi {
   
   private final ExchangeObserver exchangeObserver;
   private final ExchangeObserver apiObserver = this::dispatchApiEvent;
+  private final List<DefaultWebsocketEndpoint<?>> websocketEndpoints = new ArrayList<>();
   
   /**
    * Creates a new AbstractExchangeApi instance with the specified API name,
@@ -108,18 +117,73 @@ public abstract class AbstractExchangeApi implements ExchangeApi {
    *                               specified ID.
    */
   protected <M> WebsocketEndpoint<M> createWebsocketEndpoint(String endpointName, String wsClientId, MessageDeserializer<M> messageDeserializer) {
+    return createWebsocketEndpoint(endpointName, wsClientId, messageDeserializer, 0, null, null);
+  }
+  
+  /**
+   * Creates a new WebsocketEndpoint instance with the specified endpoint name,
+   * websocket client ID, message deserializer, and subscription queues
+   * settings, see {@link DefaultWebsocketEndpoint#setQueueCapacity(int)}.
+   * 
+   * @param <M>                 The type of messages handled by the websocket
+   *                            endpoint.
+   * @param endpointName        The name of the websocket endpoint.
+   * @param wsClientId          The ID of the websocket client to use for this
+   *                            endpoint.
+   * @param messageDeserializer The message deserializer to use for this endpoint.
+   * @param queueCapacity       The capacity of subscription queues, messages are
+   *                            not queued when not strictly positive.
+   * @param overflowPolicy      The policy applied when subscription queue is
+   *                            full, <code>null</code> for default
+   *                            {@link WebsocketOverflowPolicy#BLOCK}.
+   * @param conflationKey       The name of message field holding conflation key
+   *                            when overflow policy is
+   *                            {@link WebsocketOverflowPolicy#CONFLATE_LATEST_PER_KEY},
+   *                            can be <code>null</code>. A
+   *                            {@link ConflatingWebsocketEndpoint} is created with
+   *                            that policy, with
+   *                            {@link ConflatingWebsocketEndpoint#DEFAULT_MAX_KEYS}
+   *                            capacity if queue capacity is not set.
+   * @return A new WebsocketEndpoint instance.
+   * @throws IllegalStateException If no websocket client is found with the
+   *                               specified ID.
+   */
+  protected <M> WebsocketEndpoint<M> createWebsocketEndpoint(String endpointName, 
+                                                             String wsClientId, 
+                                                             MessageDeserializer<M> messageDeserializer,
+                                                             int queueCapacity,
+                                                             WebsocketOverflowPolicy overflowPolicy,
+                                                             String conflationKey) {
     WebsocketClient websocketClient = exchange.getNetwork().getWebsocket(wsClientId);
     if (websocketClient == null) {
       throw new IllegalStateException("Cannot create websocket endpoint as no websocket manager is set");
     }
-    DefaultWebsocketEndpoint<M> websocketEndpoint = new DefaultWebsocketEndpoint<>();
+    DefaultWebsocketEndpoint<M> websocketEndpoint;
+    if (overflowPolicy == WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY) {
+      websocketEndpoint = queueCapacity > 0 ? 
+          new ConflatingWebsocketEndpoint<>(conflationKey, queueCapacity) 
+          : new ConflatingWebsocketEndpoint<>(conflationKey);
+    } else {
+      websocketEndpoint = new DefaultWebsocketEndpoint<>();
+      websocketEndpoint.setQueueCapacity(queueCapacity);
+      websocketEndpoint.setOverflowPolicy(overflowPolicy);
+    }
     websocketEndpoint.setEndpointName(endpointName);
     websocketEndpoint.setMessageDeserializer(messageDeserializer);
     websocketEndpoint.setWebsocketClient(websocketClient);
     websocketEndpoint.setObserver(apiObserver);
+    websocketEndpoints.add(websocketEndpoint);
     return websocketEndpoint;
   }
   
+  /**
+   * Disposes websocket endpoints created by this API.
+   */
+  @Override
+  protected void doDispose() {
+    websocketEndpoints.forEach(DefaultWebsocketEndpoint::dispose);
+  }
+  
   /**
    * Creates a new RestEndpoint instance with the specified endpoint name and
    * HTTP client ID.
@@ -2,10 +2,17 @@ package org.jxapi.exchange;
 
 import java.util.List;
 
+import org.jxapi.netutils.rest.ratelimits.RateLimitStorageMode;
 import org.jxapi.netutils.rest.ratelimits.RequestThrottlingMode;
+import org.jxapi.netutils.websocket.PooledWebsocketClient;
+import org.jxapi.netutils.websocket.Websocket;
+import org.jxapi.netutils.websocket.WebsocketImplementation;
+import org.jxapi.netutils.websocket.dispatch.RingBufferWebsocketMessageDispatcher;
+import org.jxapi.netutils.websocket.dispatch.WebsocketDispatchMode;
 import org.jxapi.pojo.descriptor.Type;
 import org.jxapi.util.ConfigProperty;
 import org.jxapi.util.DefaultConfigProperty;
+import org.jxapi.util.ExecutorMode;
 
 /**
  * Lists every {@link ConfigProperty} that is relevant for any {@link Exchange}
@@ -26,6 +33,42 @@ public class CommonConfigProperties {
       "The request timeout for calls to REST endpoints of every API. A negative value means no timeout (discouraged)",
       null);
   
+  /**
+   * Enables streaming of successful HTTP response bodies to response deserializers, see {@link org.jxapi.netutils.rest.javanet.JavaNetHttpRequestExecutor#setStreamingResponseBody(boolean)}.
+   */
+  public static final ConfigProperty  HTTP_STREAMING_RESPONSE_BODY_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.httpStreamingResponseBody", 
+      Type.BOOLEAN, 
+      "Enables streaming of successful HTTP response bodies: they are deserialized while received, without being buffered nor retained in response.",
+      false);
+  
+  /**
+   * Preferred HTTP protocol version of default REST executor, see {@link java.net.http.HttpClient.Version}. Overrides version set in HTTP client descriptor.
+   */
+  public static final ConfigProperty  HTTP_VERSION_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.httpVersion", 
+      Type.STRING, 
+      "Preferred HTTP protocol version of REST calls: HTTP_2 (falls back to HTTP/1.1 if not supported by server) or HTTP_1_1. Default is version set in HTTP client descriptor, or HTTP_2",
+      null);
+  
+  /**
+   * Timeout in milliseconds for establishing HTTP connections of default REST executor. Overrides timeout set in HTTP client descriptor.
+   */
+  public static final ConfigProperty  HTTP_CONNECT_TIMEOUT_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.httpConnectTimeout", 
+      Type.LONG, 
+      "The timeout in milliseconds for establishing HTTP connections of REST calls. Default is timeout set in HTTP client descriptor, if any",
+      null);
+  
+  /**
+   * Enables connection warm-up of HTTP clients at exchange initialization, see {@link AbstractExchange#preconnect()}.
+   */
+  public static final ConfigProperty  HTTP_WARM_UP_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.httpWarmUp", 
+      Type.BOOLEAN, 
+      "Enables connection warm-up of HTTP clients when exchange is initialized, so that first REST call does not pay for connection handshake.",
+      false);
+  
   /**
    * The HTTP request throttling policy in case a rate limit rule is breached, for every exposed ExchangeApi, see enum {@link RequestThrottlingMode}.
    */
@@ -44,12 +87,176 @@ public class CommonConfigProperties {
       "Set the max HTTP request throttle delay for rate limit rule enforcement, for every exposed ExchangeApi.",
       null);
   
+  /**
+   * Enables correction of rate limits state with usage reported by server in HTTP responses, see {@link org.jxapi.netutils.rest.ratelimits.RequestThrottler#handleResponse(org.jxapi.netutils.rest.HttpResponse)}.
+   */
+  public static final ConfigProperty  RATE_LIMIT_FEEDBACK_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.rateLimitFeedback", 
+      Type.BOOLEAN, 
+      "Enables correction of rate limits state with usage headers of HTTP responses, and pause of rate limits until Retry-After delay upon HTTP 429 or 418 responses.",
+      true);
+  
+  /**
+   * The storage of rate limits state, see enum {@link RateLimitStorageMode}.
+   */
+  public static final ConfigProperty  RATE_LIMIT_STORAGE_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.rateLimitStorage", 
+      Type.STRING, 
+      "Sets the storage of rate limits state, see enum " + RateLimitStorageMode.class.getName() + ". MAPPED_FILE lets processes of same host using same key share rate limits budget.",
+      RateLimitStorageMode.MEMORY.name());
+  
+  /**
+   * The directory of rate limits state files when {@link #RATE_LIMIT_STORAGE_PROPERTY} is {@link RateLimitStorageMode#MAPPED_FILE}.
+   */
+  public static final ConfigProperty  RATE_LIMIT_STORAGE_DIRECTORY_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.rateLimitStorageDirectory", 
+      Type.STRING, 
+      "The directory of rate limits state files for MAPPED_FILE rate limit storage. Defaults to 'jxapi-ratelimits' folder in temporary directory.",
+      null);
+  
+  /**
+   * The key shared by processes sharing same rate limits budget when {@link #RATE_LIMIT_STORAGE_PROPERTY} is {@link RateLimitStorageMode#MAPPED_FILE}.
+   */
+  public static final ConfigProperty  RATE_LIMIT_STORAGE_KEY_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.rateLimitStorageKey", 
+      Type.STRING, 
+      "The key shared by processes sharing same rate limits budget for MAPPED_FILE rate limit storage, for instance an identifier of API key. Defaults to exchange name.",
+      null);
+  
+  /**
+   * Enables single pass parsing of incoming websocket messages, where JSON tokens read to find message topic are reused to deserialize message, see {@link org.jxapi.netutils.websocket.DefaultWebsocketClient#setSinglePassParsing(boolean)}.
+   */
+  public static final ConfigProperty  WEBSOCKET_SINGLE_PASS_PARSING_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.websocketSinglePassParsing", 
+      Type.BOOLEAN, 
+      "Enables single pass parsing of incoming websocket messages: JSON tokens read to find message topic are reused to deserialize message instead of parsing it twice.",
+      false);
+  
+  /**
+   * The {@link Websocket} implementation created by default websocket factory, see enum {@link WebsocketImplementation}.
+   */
+  public static final ConfigProperty  WEBSOCKET_IMPLEMENTATION_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.websocketImplementation", 
+      Type.STRING, 
+      "Sets the websocket implementation created by default websocket factory, see enum " + WebsocketImplementation.class.getName(),
+      WebsocketImplementation.SPRING.name());
+  
+  /**
+   * The strategy used to dispatch incoming messages of websockets created by default websocket factory, see enum {@link WebsocketDispatchMode}.
+   */
+  public static final ConfigProperty  WEBSOCKET_DISPATCH_MODE_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.websocketDispatchMode", 
+      Type.STRING, 
+      "Sets the strategy used to dispatch incoming websocket messages to handlers, see enum " + WebsocketDispatchMode.class.getName(),
+      WebsocketDispatchMode.ORDERED.name());
+  
+  /**
+   * The capacity of queues holding incoming websocket messages waiting to be dispatched, for ORDERED and SHARDED {@link WebsocketDispatchMode}.
+   */
+  public static final ConfigProperty  WEBSOCKET_DISPATCH_QUEUE_CAPACITY_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.websocketDispatchQueueCapacity", 
+      Type.INT, 
+      "The capacity of queues holding incoming websocket messages waiting to be dispatched, for ORDERED and SHARDED dispatch modes.",
+      RingBufferWebsocketMessageDispatcher.DEFAULT_CAPACITY);
+  
+  /**
+   * The count of shards incoming websocket messages are spread over in SHARDED {@link WebsocketDispatchMode}. Defaults to available processors count.
+   */
+  public static final ConfigProperty  WEBSOCKET_DISPATCH_SHARD_COUNT_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.websocketDispatchShardCount", 
+      Type.INT, 
+      "The count of shards incoming websocket messages are spread over in SHARDED dispatch mode. Defaults to available processors count.",
+      null);
+  
+  /**
+   * The name of JSON field of incoming websocket messages used as shard key in SHARDED {@link WebsocketDispatchMode}, so that messages with same value are dispatched in order.
+   */
+  public static final ConfigProperty  WEBSOCKET_DISPATCH_SHARD_KEY_FIELD_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.websocketDispatchShardKeyField", 
+      Type.STRING, 
+      "The name of JSON field of incoming websocket messages (e.g. topic or symbol) used as shard key in SHARDED dispatch mode, so that messages with same value are dispatched in order. When not set, every message is handled in order on a single shard.",
+      null);
+  
+  /**
+   * The maximum count of connections of each websocket client. When greater than 1, topics are spread over several connections, see {@link PooledWebsocketClient}.
+   */
+  public static final ConfigProperty  WEBSOCKET_MAX_CONNECTIONS_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.websocketMaxConnections", 
+      Type.INT, 
+      "The maximum count of connections of each websocket client. When greater than 1, subscribed topics are spread over several connections.",
+      1);
+  
+  /**
+   * The maximum count of topics subscribed on each connection of a websocket client, when {@link #WEBSOCKET_MAX_CONNECTIONS_PROPERTY} is greater than 1. No limit when not set.
+   */
+  public static final ConfigProperty  WEBSOCKET_MAX_TOPICS_PER_CONNECTION_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.websocketMaxTopicsPerConnection", 
+      Type.INT, 
+      "The maximum count of topics subscribed on each connection of a websocket client, when max connections is greater than 1. No limit when not set.",
+      null);
+  
+  /**
+   * The maximum count of topics subscribed or unsubscribed in a single websocket message. When greater than 1, subscribe and unsubscribe requests are coalesced and sent in batches when websocket hook supports it.
+   */
+  public static final ConfigProperty  WEBSOCKET_SUBSCRIBE_MAX_BATCH_SIZE_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.websocketSubscribeMaxBatchSize", 
+      Type.INT, 
+      "The maximum count of topics subscribed or unsubscribed in a single websocket message. When greater than 1, subscribe and unsubscribe requests are coalesced and sent in batches when websocket hook supports it.",
+      1);
+  
+  /**
+   * The delay in milliseconds websocket subscribe and unsubscribe requests are coalesced within before being sent in a batch, when {@link #WEBSOCKET_SUBSCRIBE_MAX_BATCH_SIZE_PROPERTY} is greater than 1.
+   */
+  public static final ConfigProperty  WEBSOCKET_SUBSCRIBE_BATCH_WINDOW_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.websocketSubscribeBatchWindow", 
+      Type.LONG, 
+      "The delay in milliseconds websocket subscribe and unsubscribe requests are coalesced within before being sent in a batch, when max batch size is greater than 1.",
+      0L);
+  
+  /**
+   * The threading strategy of REST and websocket components, see enum {@link ExecutorMode}.
+   */
+  public static final ConfigProperty  EXECUTOR_MODE_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.executorMode", 
+      Type.STRING, 
+      "Sets the threading strategy of REST and websocket components, see enum " + ExecutorMode.class.getName() + ". VIRTUAL requires Java 21, SHARED runs components on a shared bounded thread pool, and network I/O on a separate unbounded shared pool.",
+      ExecutorMode.PLATFORM.name());
+  
+  /**
+   * The size of thread pool shared by components when {@link #EXECUTOR_MODE_PROPERTY} is {@link ExecutorMode#SHARED}.
+   */
+  public static final ConfigProperty  SHARED_EXECUTOR_POOL_SIZE_PROPERTY = DefaultConfigProperty.create(
+      "jxapi.sharedExecutorPoolSize", 
+      Type.INT, 
+      "Sets the size of thread pool shared by REST and websocket components in SHARED executor mode. 0 means 4 times the count of available processors.",
+      0);
+  
   /**
    * List containing all the {@link DefaultConfigProperty} properties of this interface.
    */
   public static final List<ConfigProperty> ALL = List.of(
       HTTP_REQUEST_TIMEOUT_PROPERTY, 
+      HTTP_STREAMING_RESPONSE_BODY_PROPERTY,
+      HTTP_VERSION_PROPERTY,
+      HTTP_CONNECT_TIMEOUT_PROPERTY,
+      HTTP_WARM_UP_PROPERTY,
       REQUEST_THROTTLING_MODE_PROPERTY, 
-      MAX_REQUEST_THROTTLE_DELAY_PROPERTY);
+      MAX_REQUEST_THROTTLE_DELAY_PROPERTY,
+      RATE_LIMIT_FEEDBACK_PROPERTY,
+      RATE_LIMIT_STORAGE_PROPERTY,
+      RATE_LIMIT_STORAGE_DIRECTORY_PROPERTY,
+      RATE_LIMIT_STORAGE_KEY_PROPERTY,
+      WEBSOCKET_SINGLE_PASS_PARSING_PROPERTY,
+      WEBSOCKET_IMPLEMENTATION_PROPERTY,
+      WEBSOCKET_DISPATCH_MODE_PROPERTY,
+      WEBSOCKET_DISPATCH_QUEUE_CAPACITY_PROPERTY,
+      WEBSOCKET_DISPATCH_SHARD_COUNT_PROPERTY,
+      WEBSOCKET_DISPATCH_SHARD_KEY_FIELD_PROPERTY,
+      WEBSOCKET_MAX_CONNECTIONS_PROPERTY,
+      WEBSOCKET_MAX_TOPICS_PER_CONNECTION_PROPERTY,
+      WEBSOCKET_SUBSCRIBE_MAX_BATCH_SIZE_PROPERTY,
+      WEBSOCKET_SUBSCRIBE_BATCH_WINDOW_PROPERTY,
+      EXECUTOR_MODE_PROPERTY,
+      SHARED_EXECUTOR_POOL_SIZE_PROPERTY);
   
 }
@@ -2,6 +2,7 @@ package org.jxapi.exchange;
 
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 
 import org.jxapi.netutils.Network;
 import org.jxapi.util.Disposable;
@@ -83,6 +84,18 @@ public interface Exchange extends Disposable, HasProperties {
    * @see Network
    */
   Network getNetwork();
+  
+  /**
+   * Establishes connections of HTTP clients of this exchange ahead of first REST
+   * call, so that first call, for instance first order, does not pay for TCP and
+   * TLS handshakes. Default implementation does nothing.
+   * 
+   * @return a future completing when all connections are established, or
+   *         exceptionally if any of them failed
+   */
+  default CompletableFuture<Void> preconnect() {
+    return CompletableFuture.completedFuture(null);
+  }
 
   
 
@@ -40,6 +40,7 @@ public class ExchangeApiEventToStringJsonSerializer extends StdSerializer<Exchan
     Exception websocketError = value.getWebsocketError();
     JsonUtil.writeStringField(gen, "websocketError", websocketError == null? null:  websocketError.toString());
     JsonUtil.writeStringField(gen, "websocketSubscriptionId", value.getWebsocketSubscriptionId());
+    JsonUtil.writeLongField(gen, "websocketDroppedMessageCount", value.getWebsocketDroppedMessageCount());
     gen.writeEndObject();
     
   }
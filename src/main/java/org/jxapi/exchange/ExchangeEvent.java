@@ -136,6 +136,30 @@ public class ExchangeEvent {
     return event;
   }
 
+  /**
+   * Factory method to create a new {@link ExchangeEvent} object for a message
+   * dropped by a websocket subscription because its queue was full, see
+   * {@link org.jxapi.netutils.websocket.WebsocketOverflowPolicy}.
+   * 
+   * @param request      The websocket subscription request to the topic that
+   *                     dropped message is related to.
+   * @param msg          The dropped websocket message.
+   * @param droppedCount The total count of messages dropped by subscription so
+   *                     far, including this one.
+   * @return an event of type {@link ExchangeEventType#WEBSOCKET_MESSAGE_DROPPED}
+   *         with the given subscription request, message and dropped messages
+   *         count.
+   */
+  public static ExchangeEvent createWebsocketMessageDroppedEvent(WebsocketSubscribeRequest request, 
+                                                                 String msg, 
+                                                                 long droppedCount) {
+    ExchangeEvent event = new ExchangeEvent(ExchangeEventType.WEBSOCKET_MESSAGE_DROPPED);
+    event.setWebsocketSubscribeRequest(request);
+    event.setWebsocketMessage(msg);
+    event.setWebsocketDroppedMessageCount(droppedCount);
+    return event;
+  }
+
   private final ExchangeEventType type;
   private String exchangeName;
   private String exchangeId;
@@ -146,6 +170,7 @@ public class ExchangeEvent {
   private String websocketMessage;
   private WebsocketException websocketError;
   private String websocketSubscriptionId;
+  private Long websocketDroppedMessageCount;
 
   /**
    * Creates a new {@link ExchangeEvent} object.
@@ -260,8 +285,9 @@ public class ExchangeEvent {
   /**
    * @return The websocket subscription request, if this event is of type
    *         {@link ExchangeEventType#WEBSOCKET_SUBSCRIBE},
-   *         {@link ExchangeEventType#WEBSOCKET_UNSUBSCRIBE} or
-   *         {@link ExchangeEventType#WEBSOCKET_MESSAGE}.
+   *         {@link ExchangeEventType#WEBSOCKET_UNSUBSCRIBE},
+   *         {@link ExchangeEventType#WEBSOCKET_MESSAGE} or
+   *         {@link ExchangeEventType#WEBSOCKET_MESSAGE_DROPPED}.
    */
   public WebsocketSubscribeRequest getWebsocketSubscribeRequest() {
     return websocketSubscribeRequest;
@@ -278,7 +304,8 @@ public class ExchangeEvent {
 
   /**
    * @return The websocket message, if this event is of type
-   *         {@link ExchangeEventType#WEBSOCKET_MESSAGE}.
+   *         {@link ExchangeEventType#WEBSOCKET_MESSAGE} or
+   *         {@link ExchangeEventType#WEBSOCKET_MESSAGE_DROPPED}.
    */
   public String getWebsocketMessage() {
     return websocketMessage;
@@ -328,6 +355,24 @@ public class ExchangeEvent {
     this.websocketSubscriptionId = websocketSubscriptionId;
   }
 
+  /**
+   * @return The total count of messages dropped by websocket subscription, if
+   *         this event is of type
+   *         {@link ExchangeEventType#WEBSOCKET_MESSAGE_DROPPED}.
+   */
+  public Long getWebsocketDroppedMessageCount() {
+    return websocketDroppedMessageCount;
+  }
+
+  /**
+   * Sets the total count of messages dropped by websocket subscription.
+   * 
+   * @param websocketDroppedMessageCount The dropped messages count.
+   */
+  public void setWebsocketDroppedMessageCount(Long websocketDroppedMessageCount) {
+    this.websocketDroppedMessageCount = websocketDroppedMessageCount;
+  }
+
   /**
    * @return The ID of the exchange this event is related to, see
    *         {@link Exchange#getId()}.
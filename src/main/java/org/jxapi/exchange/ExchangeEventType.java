@@ -35,5 +35,11 @@ public enum ExchangeEventType {
   /**
    * An error has been detected on a websocket subscription.
    */
-  WEBSOCKET_ERROR
+  WEBSOCKET_ERROR,
+
+  /**
+   * A message received on a websocket subscription has been dropped because
+   * subscription queue was full.
+   */
+  WEBSOCKET_MESSAGE_DROPPED
 }
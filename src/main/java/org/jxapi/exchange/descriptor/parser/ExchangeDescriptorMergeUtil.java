@@ -260,6 +260,7 @@ public class ExchangeDescriptorMergeUtil {
   	res.setUrl(MergeUtil.merge("url of REST endpoint " + endpointName, r1.getUrl(), r2.getUrl()));
   	res.setRequestHasBody(MergeUtil.merge("requestHasBody of REST endpoint " + endpointName, r1.isRequestHasBody(), r2.isRequestHasBody()));
   	res.setRequestWeight(MergeUtil.merge("requestWeight of REST endpoint " + endpointName, r1.getRequestWeight(), r2.getRequestWeight()));
+  	res.setPriority(MergeUtil.merge("priority of REST endpoint " + endpointName, r1.getPriority(), r2.getPriority()));
   	return res;
   }
 
@@ -324,6 +325,9 @@ public class ExchangeDescriptorMergeUtil {
   	res.setTopicMatcher(MergeUtil.merge("topicMatcher of Websocket endpoint " + endpointName, w1.getTopicMatcher(), w2.getTopicMatcher()));
   	res.setRequest(mergeFields(w1.getRequest(), w2.getRequest()));
   	res.setMessage(mergeFields(w1.getMessage(), w2.getMessage()));
+  	res.setQueueCapacity(MergeUtil.merge("queueCapacity of Websocket endpoint " + endpointName, w1.getQueueCapacity(), w2.getQueueCapacity()));
+  	res.setOverflowPolicy(MergeUtil.merge("overflowPolicy of Websocket endpoint " + endpointName, w1.getOverflowPolicy(), w2.getOverflowPolicy()));
+  	res.setConflationKey(MergeUtil.merge("conflationKey of Websocket endpoint " + endpointName, w1.getConflationKey(), w2.getConflationKey()));
   	return res;
   }
 
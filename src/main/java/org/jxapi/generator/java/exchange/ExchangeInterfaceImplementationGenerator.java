@@ -223,10 +223,18 @@ public class ExchangeInterfaceImplementationGenerator extends JavaTypeGenerator
     String declaration = RateLimitRule.class.getSimpleName() + " " + variableName + " = ";
     addImport(RateLimitRule.class);
     if (rateLimitRule.getMaxTotalWeight() >= 0) {
-      declaration +=  "RateLimitRule.createWeightedRule(\"" + name + "\", " + rateLimitRule.getTimeFrame()+ ", " + rateLimitRule.getMaxTotalWeight() + ");";
+      declaration +=  "RateLimitRule.createWeightedRule(\"" + name + "\", " + rateLimitRule.getTimeFrame()+ ", " + rateLimitRule.getMaxTotalWeight() + ")";
     } else {
-      declaration +=  "RateLimitRule.createRule(\"" + name + "\", " + rateLimitRule.getTimeFrame()+ ", " + rateLimitRule.getMaxRequestCount() + ");";
+      declaration +=  "RateLimitRule.createRule(\"" + name + "\", " + rateLimitRule.getTimeFrame()+ ", " + rateLimitRule.getMaxRequestCount() + ")";
     }
+    if (rateLimitRule.getUsedHeader() != null || rateLimitRule.getRemainingHeader() != null) {
+      declaration += "\n  .withUsageHeaders(" 
+                  + JavaCodeGenUtil.getQuotedString(rateLimitRule.getUsedHeader()) 
+                  + ", " 
+                  + JavaCodeGenUtil.getQuotedString(rateLimitRule.getRemainingHeader()) 
+                  + ")";
+    }
+    declaration += ";";
     appendToBody("private final " + declaration + "\n");
     return variableName;
   }
@@ -244,8 +252,18 @@ public class ExchangeInterfaceImplementationGenerator extends JavaTypeGenerator
           .append(ARG_SEPARATOR)
           .append(JavaCodeGenUtil.getQuotedString(httpClient.getHttpResponseInterceptorFactory()))
           .append(ARG_SEPARATOR)
-          .append(httpClient.getHttpRequestTimeout())
-          .append(");\n");
+          .append(generateLongValueDeclaration(httpClient.getHttpRequestTimeout()));
+      if (httpClient.getHttpVersion() != null 
+          || httpClient.getConnectTimeout() != null 
+          || httpClient.getWarmUpUrl() != null) {
+        constructorBody.append(ARG_SEPARATOR)
+          .append(generateConstantOrPropertiesPlaceholdersSubstitutionInstruction(httpClient.getHttpVersion()))
+          .append(ARG_SEPARATOR)
+          .append(generateLongValueDeclaration(httpClient.getConnectTimeout()))
+          .append(ARG_SEPARATOR)
+          .append(generateConstantOrPropertiesPlaceholdersSubstitutionInstruction(httpClient.getWarmUpUrl()));
+      }
+      constructorBody.append(");\n");
     }
     
     for (WebsocketClientDescriptor websocketClient : CollectionUtil.emptyIfNull(network.getWebsocketClients())) {
@@ -261,6 +279,10 @@ public class ExchangeInterfaceImplementationGenerator extends JavaTypeGenerator
     }
   }
   
+  private static String generateLongValueDeclaration(Long value) {
+    return value == null ? JavaCodeGenUtil.NULL : value + "L";
+  }
+  
   private String generateConstantOrPropertiesPlaceholdersSubstitutionInstruction(String template) {
     return ExchangeGenUtil.generateSubstitutionInstructionDeclaration(
         template, 
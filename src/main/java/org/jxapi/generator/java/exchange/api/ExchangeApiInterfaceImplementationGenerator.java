@@ -30,12 +30,14 @@ import org.jxapi.netutils.rest.FutureRestResponse;
 import org.jxapi.netutils.rest.HttpMethod;
 import org.jxapi.netutils.rest.HttpRequest;
 import org.jxapi.netutils.rest.HttpRequestUrlParamsSerializer;
+import org.jxapi.netutils.rest.RequestPriority;
 import org.jxapi.netutils.rest.RestEndpoint;
 import org.jxapi.netutils.rest.ratelimits.RateLimitRule;
 import org.jxapi.netutils.rest.ratelimits.RequestThrottler;
 import org.jxapi.netutils.serialization.MessageSerializer;
 import org.jxapi.netutils.websocket.WebsocketEndpoint;
 import org.jxapi.netutils.websocket.WebsocketListener;
+import org.jxapi.netutils.websocket.WebsocketOverflowPolicy;
 import org.jxapi.netutils.websocket.WebsocketSubscribeRequest;
 import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcherFactory;
 import org.jxapi.pojo.descriptor.CanonicalType;
@@ -425,10 +427,32 @@ public class ExchangeApiInterfaceImplementationGenerator extends JavaTypeGenerat
         .append(wsClientNameVar)
         .append(", ")
         .append(getWebsocketEndpoinMessageDeserializerVariable(wsApi))
+        .append(generateWebsocketEndpointQueueArguments(wsApi))
         .append(");\n");
     }
   }
   
+  private String generateWebsocketEndpointQueueArguments(WebsocketEndpointDescriptor wsApi) {
+    if (wsApi.getQueueCapacity() == null && wsApi.getOverflowPolicy() == null && wsApi.getConflationKey() == null) {
+      return "";
+    }
+    StringBuilder args = new StringBuilder()
+        .append(", ")
+        .append(Optional.ofNullable(wsApi.getQueueCapacity()).orElse(0))
+        .append(", ");
+    if (wsApi.getOverflowPolicy() == null) {
+      args.append("null");
+    } else {
+      addImport(WebsocketOverflowPolicy.class);
+      args.append(WebsocketOverflowPolicy.class.getSimpleName())
+          .append(".")
+          .append(WebsocketOverflowPolicy.valueOf(wsApi.getOverflowPolicy()).name());
+    }
+    return args.append(", ")
+               .append(JavaCodeGenUtil.getQuotedString(wsApi.getConflationKey()))
+               .toString();
+  }
+  
   private void addRestMethod(String methodDeclaration, String methodBody) {
     restMethods.put(methodDeclaration, methodBody);
   }
@@ -1042,6 +1066,16 @@ public class ExchangeApiInterfaceImplementationGenerator extends JavaTypeGenerat
         .append(weight)
         .append(");\n");
     }
+    
+    if (restApi.getPriority() != null) {
+      addImport(RequestPriority.class);
+      res.append(thisRestEndpointVariable)
+        .append(".setPriority(")
+        .append(RequestPriority.class.getSimpleName())
+        .append(".")
+        .append(RequestPriority.valueOf(restApi.getPriority()).name())
+        .append(");\n");
+    }
     return res.append("\n").toString();
   }
 }
@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 
 import org.jxapi.generator.java.Imports;
@@ -16,6 +17,7 @@ import org.jxapi.generator.java.JavaCodeGenUtil;
 import org.jxapi.generator.java.JavaTypeGenerator;
 import org.jxapi.netutils.deserialization.MessageDeserializer;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
+import org.jxapi.netutils.deserialization.json.LazyJsonValue;
 import org.jxapi.netutils.deserialization.json.field.ListJsonFieldDeserializer;
 import org.jxapi.netutils.deserialization.json.field.MapJsonFieldDeserializer;
 import org.jxapi.pojo.descriptor.CanonicalType;
@@ -29,6 +31,10 @@ import org.jxapi.util.JsonUtil;
  * The generated deserializer class extends
  * {@link AbstractJsonMessageDeserializer} and implements the
  * {@link AbstractJsonMessageDeserializer#deserialize(JsonParser)} method.
+ * <p>
+ * Values of lazy fields (see {@link Field#getLazy()}) are read with
+ * {@link LazyJsonValue#readNext(JsonParser, org.jxapi.netutils.deserialization.json.JsonDeserializer)},
+ * to be decoded on first access.
  * 
  * @see JsonParser
  * @see AbstractJsonMessageDeserializer
@@ -78,53 +84,126 @@ public class JsonPojoDeserializerGenerator extends JavaTypeGenerator {
 
   private void generateDeserializeMethod() {
     String indent = JavaCodeGenUtil.INDENTATION;
-    StringBuilder body = new StringBuilder();
-    String simpleDeserializedClassName = JavaCodeGenUtil.getClassNameWithoutPackage(deserializedTypeClassName);
-    body.append(simpleDeserializedClassName)
-        .append(" msg = new ")
-        .append(simpleDeserializedClassName)
-        .append("();\nwhile(parser.nextToken() != JsonToken.END_OBJECT) {\n");
-    body.append(indent)
-        .append("switch(parser.currentName()) {\n");
     String dblIndent = indent + indent;
+    String simpleDeserializedClassName = JavaCodeGenUtil.getClassNameWithoutPackage(deserializedTypeClassName);
+    StringBuilder fieldNameDeclarations = new StringBuilder();
+    StringBuilder inOrderBody = new StringBuilder();
+    StringBuilder switchBody = new StringBuilder();
+    switchBody.append("for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {\n")
+      .append(indent)
+      .append("switch(parser.currentName()) {\n");
     fields.forEach(field -> {
-      Type type = PojoGenUtil.getFieldType(field);
-      body.append(indent)
+      String msgFieldName = Optional.ofNullable(field.getMsgField()).orElse(field.getName());
+      String fieldNameVariableName = getFieldNameVariableName(field);
+      String readFieldInstructions = generateReadFieldInstructions(field);
+      fieldNameDeclarations.append("private static final SerializedString ")
+        .append(fieldNameVariableName)
+        .append(" = new SerializedString(\"")
+        .append(msgFieldName)
+        .append("\");\n");
+      inOrderBody.append("if (!parser.nextFieldName(")
+        .append(fieldNameVariableName)
+        .append(")) {\n")
+        .append(indent).append("return deserializeFields(parser, msg);\n")
+        .append("}\n")
+        .append(readFieldInstructions);
+      switchBody.append(indent)
         .append("case \"")
-        .append(Optional.ofNullable(field.getMsgField()).orElse(field.getName()))
-        .append("\":\n");
-      if (!type.getCanonicalType().isPrimitive 
-          && !JavaCodeGenUtil.isFullClassName(field.getObjectName())) {
-        body.append(dblIndent)
-            .append("parser.nextToken();\n");
-      }
-      StringBuilder beforeParseFieldInstruction = new StringBuilder();
-      String parseFieldInstruction = getParseFieldInstruction(field, beforeParseFieldInstruction);
-      body.append(beforeParseFieldInstruction.toString())
-        .append(dblIndent)
-        .append("msg.")
-        .append(
-          JavaCodeGenUtil.getSetAccessorMethodName(
-              field.getName(),  
-              fields.stream().map(Field::getName).collect(Collectors.toList())))
-        .append("(")
-        .append(parseFieldInstruction)
-        .append(");\n")  
+        .append(msgFieldName)
+        .append("\":\n")
+        .append(JavaCodeGenUtil.indent(readFieldInstructions.stripTrailing(), dblIndent))
+        .append("\n")
         .append(indent).append("break;\n");
     });
     addImport(STATIC + JsonUtil.class.getName() + ".skipNextValue");
-    body.append(indent).append("default:\n")
+    switchBody.append(indent).append("default:\n")
       .append(dblIndent)
         .append("skipNextValue(parser);\n")
       .append(indent).append("}\n")
       .append("}\n")
-      .append("\n return msg;");
+      .append("return msg;");
+    inOrderBody.append("parser.nextToken();\n")
+      .append("return deserializeFields(parser, msg);");
     
+    if (!fields.isEmpty()) {
+      addImport(SerializedString.class.getName());
+      appendToBody(fieldNameDeclarations.toString());
+      if (!nonPrimitiveTypeFieldsDeserializerDeclarations.isEmpty()) {
+        appendToBody("\n");
+      }
+    }
     generateDeserializerDeclarations();
     appendMethod("@Override\npublic " 
             + simpleDeserializedClassName 
             + " deserialize(JsonParser parser) throws IOException", 
-           body.toString());
+           "return deserializeInto(parser, new " + simpleDeserializedClassName + "());");
+    appendToBody("\n");
+    appendMethod("@Override\npublic " 
+            + simpleDeserializedClassName 
+            + " deserializeInto(JsonParser parser, " 
+            + simpleDeserializedClassName 
+            + " msg) throws IOException", 
+           inOrderBody.toString());
+    appendToBody("\n");
+    appendMethod("private " 
+            + simpleDeserializedClassName 
+            + " deserializeFields(JsonParser parser, " 
+            + simpleDeserializedClassName 
+            + " msg) throws IOException", 
+           switchBody.toString());
+  }
+  
+  /**
+   * Generates instructions reading value of a field, which name was just read
+   * by parser, and setting it into <code>msg</code> instance.
+   */
+  private String generateReadFieldInstructions(Field field) {
+    String indent = JavaCodeGenUtil.INDENTATION;
+    StringBuilder res = new StringBuilder();
+    Type type = PojoGenUtil.getFieldType(field);
+    List<String> allFieldNames = fields.stream().map(Field::getName).collect(Collectors.toList());
+    if (PojoGenUtil.isLazyField(field)) {
+      addImport(LazyJsonValue.class.getName());
+      StringBuilder beforeParseFieldInstruction = new StringBuilder();
+      String deserializerVariableName = generateNonPrimitiveTypeFieldDeserializerVariable(field, beforeParseFieldInstruction);
+      return res.append(beforeParseFieldInstruction.toString())
+        .append("msg.")
+        .append(JavaCodeGenUtil.getAccessorMethodName("set", PojoGenUtil.getLazyValueFieldName(field), allFieldNames))
+        .append("(LazyJsonValue.readNext(parser, ")
+        .append(deserializerVariableName)
+        .append("));\n")
+        .toString();
+    }
+    if (!type.getCanonicalType().isPrimitive 
+        && !JavaCodeGenUtil.isFullClassName(field.getObjectName())) {
+      res.append("parser.nextToken();\n");
+    }
+    String setAccessorMethodName = JavaCodeGenUtil.getSetAccessorMethodName(field.getName(), allFieldNames);
+    if (PojoGenUtil.isUnboxedField(field)) {
+      addImport(STATIC + JsonUtil.class.getName() + ".nextValueIsPresent");
+      return res.append("if (nextValueIsPresent(parser)) {\n")
+        .append(indent)
+        .append("msg.")
+        .append(setAccessorMethodName)
+        .append("(")
+        .append(getUnboxedParseFieldInstruction(type.getCanonicalType()))
+        .append(");\n")
+        .append("}\n")
+        .toString();
+    }
+    StringBuilder beforeParseFieldInstruction = new StringBuilder();
+    String parseFieldInstruction = getParseFieldInstruction(field, beforeParseFieldInstruction);
+    return res.append(beforeParseFieldInstruction.toString())
+      .append("msg.")
+      .append(setAccessorMethodName)
+      .append("(")
+      .append(parseFieldInstruction)
+      .append(");\n")
+      .toString();
+  }
+  
+  private static String getFieldNameVariableName(Field field) {
+    return JavaCodeGenUtil.getStaticVariableName(field.getName()) + "_FIELD_NAME";
   }
 
   private String getParseFieldInstruction(Field field, StringBuilder beforeParseFieldInstruction) {
@@ -147,16 +226,39 @@ public class JsonPojoDeserializerGenerator extends JavaTypeGenerator {
     }
   }
   
+  private String getUnboxedParseFieldInstruction(CanonicalType canonicalType) {
+    switch (canonicalType) {
+    case BIGDECIMAL:
+      return getPrimitiveParseFieldInstruction("readCurrentDoubleValue");
+    case BOOLEAN:
+      return getPrimitiveParseFieldInstruction("readCurrentBooleanValue");
+    case INT:
+      return getPrimitiveParseFieldInstruction("readCurrentIntValue");
+    default: // LONG
+      return getPrimitiveParseFieldInstruction("readCurrentLongValue");
+    }
+  }
+  
   private String getPrimitiveParseFieldInstruction(String methodName) {
     addImport(STATIC + JsonUtil.class.getName() + "." + methodName);
     return methodName + "(parser)";
   }
   
   private String generateNonPrimitiveTypeFieldDeserializerDeclaration(Field field, StringBuilder beforeParseFieldInstruction) {
-    String objectName = field.getObjectName();
-    if (JavaCodeGenUtil.isFullClassName(objectName)) {
+    if (JavaCodeGenUtil.isFullClassName(field.getObjectName())) {
       return getFullClassObjectNameParseFieldInstruction(field);
     }
+    return generateNonPrimitiveTypeFieldDeserializerVariable(field, beforeParseFieldInstruction) + ".deserialize(parser)";
+  }
+  
+  /**
+   * Generates the declaration of deserializer of a non primitive field, and
+   * instructions to create it on first use when necessary.
+   * 
+   * @return the name of the deserializer variable
+   */
+  private String generateNonPrimitiveTypeFieldDeserializerVariable(Field field, StringBuilder beforeParseFieldInstruction) {
+    String objectName = field.getObjectName();
     Type type = PojoGenUtil.getFieldType(field);
     String objectFieldClassName = PojoGenUtil.getFieldLeafSubTypeClassName(
       field.getName(), 
@@ -204,12 +306,10 @@ public class JsonPojoDeserializerGenerator extends JavaTypeGenerator {
         .append(" = ")
         .append(newDeserializerInstruction)
         .append(";\n}");
-      beforeParseFieldInstruction.append(
-        JavaCodeGenUtil.indent(
-          JavaCodeGenUtil.indent(createObjectDeserializerInstruction.toString())))
+      beforeParseFieldInstruction.append(createObjectDeserializerInstruction.toString())
         .append("\n");
     }
-    return deserializerVariableName + ".deserialize(parser)";
+    return deserializerVariableName;
   }
   
   private String getFullClassObjectNameParseFieldInstruction(Field field) {
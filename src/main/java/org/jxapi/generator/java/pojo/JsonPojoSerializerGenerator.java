@@ -121,6 +121,9 @@ public class JsonPojoSerializerGenerator extends JavaTypeGenerator {
     }
     
     String msgFieldName = getMsgField(field);
+    if (PojoGenUtil.isUnboxedField(field)) {
+      return getUnboxedParseFieldInstruction(field, msgFieldName, getFieldValue);
+    }
     switch (canonicalType) {
     case BIGDECIMAL:
       return getPrimitiveParseFieldInstruction("writeBigDecimalField", msgFieldName, getFieldValue);
@@ -139,6 +142,29 @@ public class JsonPojoSerializerGenerator extends JavaTypeGenerator {
     return Optional.ofNullable(field.getMsgField()).orElse(field.getName());
   }
   
+  private String getUnboxedParseFieldInstruction(Field field, String msgFieldName, String getFieldValue) {
+    String hasAccessorMethodName = JavaCodeGenUtil.getAccessorMethodName(
+        "has", 
+        field.getName(), 
+        fields.stream().map(Field::getName).toList());
+    String writeMethodName = PojoGenUtil.getFieldType(field).getCanonicalType() == CanonicalType.BOOLEAN ? 
+                                "writeBooleanField" 
+                                : "writeNumberField";
+    return new StringBuilder()
+        .append("if (value.")
+        .append(hasAccessorMethodName)
+        .append("()) {\n")
+        .append(JavaCodeGenUtil.INDENTATION)
+        .append("gen.")
+        .append(writeMethodName)
+        .append("(")
+        .append(JavaCodeGenUtil.getQuotedString(msgFieldName))
+        .append(", ")
+        .append(getFieldValue)
+        .append(");\n}\n")
+        .toString();
+  }
+  
   private String getPrimitiveParseFieldInstruction(String methodName, String msgFieldName, String getFieldValue) {
     addImport(STATIC + JsonUtil.class.getName() + "." + methodName);
     return new StringBuilder()
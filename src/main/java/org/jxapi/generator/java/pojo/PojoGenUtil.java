@@ -85,25 +85,40 @@ public class PojoGenUtil {
    * @return The generated deep clone instruction
    */
   public static String generateDeepCloneFieldInstruction(Field f, Imports imports) {
+    if (f == null) {
+      throw new IllegalArgumentException("Field cannot be null");
+    }
+    return generateDeepCloneFieldInstruction(f, THIS + f.getName(), imports);
+  }
+  
+  /**
+   * Generates the expected instruction to deep clone a value of a field of a
+   * POJO.
+   * @param f The field for which to generate the deep clone instruction
+   * @param value The expression of the value to clone, e.g.
+   *              <code>this.myField</code> or <code>this.getMyField()</code>
+   * @param imports The imports to add the necessary imports to
+   * @return The generated deep clone instruction
+   */
+  public static String generateDeepCloneFieldInstruction(Field f, String value, Imports imports) {
     if (f == null) {
       throw new IllegalArgumentException("Field cannot be null");
     }
     Type type = PojoGenUtil.getFieldType(f);
-    String name = f.getName();
     if (type.getCanonicalType().isPrimitive || isJavaLangObjectField(f)) {
-      return THIS + name;
+      return value;
     } else if (type.getCanonicalType() == CanonicalType.LIST) {
       imports.add(CollectionUtil.class);
       Type subType = type.getSubType();
       StringBuilder s = new StringBuilder()
           .append("CollectionUtil.");
       if (subType.getCanonicalType().isPrimitive) {
-        return s.append("cloneList(this.")
-            .append(name)
+        return s.append("cloneList(")
+            .append(value)
             .append(")").toString();
       } else {
-        return s.append("deepCloneList(this.")
-            .append(name)
+        return s.append("deepCloneList(")
+            .append(value)
             .append(", ")
             .append(generateItemClonerDeclaration(subType, 0, imports))
             .append(")").toString();
@@ -114,22 +129,21 @@ public class PojoGenUtil {
       StringBuilder s = new StringBuilder()
           .append("CollectionUtil.");
       if (subType.getCanonicalType().isPrimitive) {
-        return s.append("cloneMap(this.")
-            .append(name)
+        return s.append("cloneMap(")
+            .append(value)
             .append(")").toString();
       } else {
-        return s.append("deepCloneMap(this.")
-            .append(name)
+        return s.append("deepCloneMap(")
+            .append(value)
             .append(", ")
             .append(generateItemClonerDeclaration(subType, 0, imports))
             .append(")").toString();
       }
     }
     // Object type
-    return new StringBuilder(THIS)
-          .append(name)
-          .append(" != null ? this.")
-          .append(name)
+    return new StringBuilder(value)
+          .append(" != null ? ")
+          .append(value)
           .append(".deepClone() : null").toString();
     
   }
@@ -141,8 +155,28 @@ public class PojoGenUtil {
    */
   public static String generateCompareFieldsInstruction(Field f) {
     String name = f.getName();
+    return generateCompareFieldsInstruction(f, THIS + name, "other." + name);
+  }
+  
+  /**
+   * Generates the expected instruction to compare values of a field of two
+   * POJOs.
+   * @param f The field for which to generate the compare instruction
+   * @param value The expression of the value of field in this POJO, e.g.
+   *              <code>this.myField</code>
+   * @param otherValue The expression of the value of field in other POJO, e.g.
+   *                   <code>other.myField</code>
+   * @return The generated compare instruction
+   */
+  public static String generateCompareFieldsInstruction(Field f, String value, String otherValue) {
     Type type = PojoGenUtil.getFieldType(f);
-    String thisCommaOther = THIS + name + ", other." + name;
+    String thisCommaOther = value + ", " + otherValue;
+    if (isUnboxedField(f)) {
+      String boxedClass = type.getCanonicalType() == CanonicalType.BIGDECIMAL ? 
+                            Double.class.getSimpleName() 
+                            : type.getCanonicalType().typeClass.getSimpleName();
+      return boxedClass + ".compare(" + thisCommaOther + ")";
+    }
     if (type.getCanonicalType().isPrimitive) {
       return "CompareUtil.compare(" + thisCommaOther + ")";
     } else if (type.getCanonicalType() == CanonicalType.LIST) {
@@ -278,6 +312,9 @@ public class PojoGenUtil {
           StringBuilder sb = new StringBuilder().append(className);
           for (Field f : fields) {
               sb.append(";").append(f.getName()).append(":").append(PojoGenUtil.getFieldType(f).toString());
+              if (isUnboxedField(f)) {
+                sb.append(":unboxed");
+              }
           }
           for (String i : implementedInterfaces) {
               sb.append(";").append(i);
@@ -361,6 +398,73 @@ public class PojoGenUtil {
     return res;     
   }
 
+  /**
+   * Checks if a field is generated as a Java primitive, see
+   * {@link Field#getUnboxed()}.
+   * 
+   * @param field The field to check
+   * @return <code>true</code> if field is flagged as unboxed and its type is
+   *         <code>INT</code>, <code>LONG</code>, <code>BOOLEAN</code> or
+   *         <code>BIGDECIMAL</code>
+   */
+  public static boolean isUnboxedField(Field field) {
+    return field != null 
+        && Boolean.TRUE.equals(field.getUnboxed()) 
+        && getUnboxedTypeName(getFieldType(field).getCanonicalType()) != null;
+  }
+  
+  /**
+   * Checks if value of a field is decoded on first access, see
+   * {@link Field#getLazy()}.
+   * 
+   * @param field The field to check
+   * @return <code>true</code> if field is flagged as lazy and its type is
+   *         <code>LIST</code>, <code>MAP</code> or <code>OBJECT</code> of a
+   *         generated class
+   */
+  public static boolean isLazyField(Field field) {
+    return field != null
+        && Boolean.TRUE.equals(field.getLazy())
+        && !getFieldType(field).getCanonicalType().isPrimitive
+        && !JavaCodeGenUtil.isFullClassName(field.getObjectName());
+  }
+  
+  /**
+   * Returns the name of the generated POJO field holding pending JSON value of a
+   * lazy field, see {@link #isLazyField(Field)}.
+   * 
+   * @param field A lazy field
+   * @return field name followed by <code>LazyValue</code>
+   */
+  public static String getLazyValueFieldName(Field field) {
+    return field.getName() + "LazyValue";
+  }
+  
+  /**
+   * Returns the Java primitive type used for an unboxed field of given type, see
+   * {@link Field#getUnboxed()}.
+   * 
+   * @param canonicalType The canonical type of field
+   * @return <code>int</code>, <code>long</code>, <code>boolean</code> or
+   *         <code>double</code> for respectively <code>INT</code>,
+   *         <code>LONG</code>, <code>BOOLEAN</code> or <code>BIGDECIMAL</code>
+   *         type, <code>null</code> for other types.
+   */
+  public static String getUnboxedTypeName(CanonicalType canonicalType) {
+    switch (canonicalType) {
+    case INT:
+      return "int";
+    case LONG:
+      return "long";
+    case BOOLEAN:
+      return "boolean";
+    case BIGDECIMAL:
+      return "double";
+    default:
+      return null;
+    }
+  }
+  
   /**
    * Find the type of a field in context of REST/Websocket API code generation: If
    * field type is specified, returns it, otherwise, if field properties or objectName are specified,
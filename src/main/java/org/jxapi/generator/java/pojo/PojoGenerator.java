@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import org.jxapi.generator.java.JavaCodeGenUtil;
 import org.jxapi.generator.java.JavaTypeGenerator;
 import org.jxapi.generator.java.exchange.ConstantValuePlaceholderResolverFactory;
+import org.jxapi.netutils.deserialization.json.LazyJsonValue;
 import org.jxapi.pojo.descriptor.CanonicalType;
 import org.jxapi.pojo.descriptor.Field;
 import org.jxapi.pojo.descriptor.Type;
@@ -19,6 +20,7 @@ import org.jxapi.util.DeepCloneable;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.PlaceHolderResolver;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Generates a POJO class with a builder for the given fields.
@@ -46,6 +48,10 @@ import org.jxapi.util.Pojo;
  * instead of the default toString
  * </ul>
  * This way, equals, hashCode and compareTo methods are consistent.
+ * <p>
+ * The generated class also implements {@link Resettable}: its
+ * {@link Resettable#reset()} method sets every property back to its default
+ * value, so that instances can be reused to deserialize successive messages.
  * Remark: There is no need to override default clone method, as all properties
  * are immutable or serializable (collections, other POJOs).
  * <p>
@@ -63,6 +69,17 @@ import org.jxapi.util.Pojo;
  * The generated class also exposes a static inner class 'Builder' that can be
  * used to build instances of the POJO. Static method 'builder()' is generated
  * to return a new instance of the builder.
+ * <p>
+ * Unboxed fields (see {@link Field#getUnboxed()}) are generated as Java
+ * primitives. Their presence is tracked in a <code>presenceMask</code> bit
+ * mask, exposed by generated <code>has&lt;Field&gt;()</code> and
+ * <code>clear&lt;Field&gt;()</code> methods.
+ * <p>
+ * Lazy fields (see {@link Field#getLazy()}) are backed by an additional
+ * transient {@link LazyJsonValue} field, set by generated deserializer and
+ * decoded when getter is called. Generated methods access lazy field values
+ * through their getter. Instances with lazy fields are replaced by a deep clone
+ * when serialized, so that pending values are decoded beforehand.
  * 
  * @see Pojo
  */
@@ -73,10 +90,14 @@ public class PojoGenerator extends JavaTypeGenerator {
   private static final String RETURN_THIS_TOKEN = "return this;\n";
   private static final String THIS_TOKEN = "this.";
   private static final String END_NO_PARAM_METHOD_INST_TOKEN = "();\n";
+  private static final String PRESENCE_MASK = "presenceMask";
+  private static final int MAX_UNBOXED_FIELDS = Long.SIZE;
   
   private final List<Field> fields = new ArrayList<>();
   private final PlaceHolderResolver docPlaceHolderResolver;
   private PlaceHolderResolver defaultValuePlaceHolderResolver;
+  // Interfaces used to compute serial version UID, Resettable excluded as it carries no state
+  private final List<String> serialVersionUidInterfaces;
   
   
   
@@ -108,7 +129,10 @@ public class PojoGenerator extends JavaTypeGenerator {
     setDescription(this.docPlaceHolderResolver.resolve(description));
     addImport(Pojo.class.getName());
     String pojoInterface = Pojo.class.getName() + "<" + getSimpleName() + ">";
-    setImplementedInterfaces(CollectionUtil.mergeLists(List.of(pojoInterface), implementedInterfaces));
+    this.serialVersionUidInterfaces = CollectionUtil.mergeLists(List.of(pojoInterface), implementedInterfaces);
+    setImplementedInterfaces(CollectionUtil.mergeLists(
+        List.of(pojoInterface, Resettable.class.getName()), 
+        implementedInterfaces));
   }
   
   private String generateTypeDeclaration() {
@@ -147,6 +171,10 @@ public class PojoGenerator extends JavaTypeGenerator {
   
   @Override
   public String generate() {
+    if (getUnboxedFields().size() > MAX_UNBOXED_FIELDS) {
+      throw new IllegalArgumentException(
+          "Class " + getName() + " cannot have more than " + MAX_UNBOXED_FIELDS + " unboxed fields");
+    }
     appendToBody("\n");
     appendToBody(generateSerialVersionUidDeclaration());
     appendToBody("\n");
@@ -162,6 +190,7 @@ public class PojoGenerator extends JavaTypeGenerator {
         ); 
     appendToBody("\n");
     appendToBody(generateAllFieldsDeclaration(defaultValueStaticVariables));
+    appendToBody(generateLazyValueFieldsDeclaration());
     appendToBody("\n");
     this.fields.forEach(f -> {
       appendToBody("\n");
@@ -176,6 +205,12 @@ public class PojoGenerator extends JavaTypeGenerator {
     appendToBody("\n");
     generateDeepCloneMethod();
     appendToBody("\n");
+    if (!getLazyFields().isEmpty()) {
+      generateWriteReplaceMethod();
+      appendToBody("\n");
+    }
+    generateResetMethod(defaultValueStaticVariables);
+    appendToBody("\n");
     generateToStringMethod();
     appendToBody("\n");
     generateBuilderClass(defaultValueStaticVariables);
@@ -184,7 +219,7 @@ public class PojoGenerator extends JavaTypeGenerator {
 
   private String generateSerialVersionUidDeclaration() {
     return "private static final long serialVersionUID = " 
-        + PojoGenUtil.generateSerialVersionUid(getName(), fields, getImplementedInterfaces()) 
+        + PojoGenUtil.generateSerialVersionUid(getName(), fields, serialVersionUidInterfaces) 
         + "L;\n";
   }
   
@@ -196,17 +231,23 @@ public class PojoGenerator extends JavaTypeGenerator {
         .append("if (this == other) {\n")
         .append(JavaCodeGenUtil.indent("return 0;"))
         .append(END_BLOCK_TOKEN);
+    List<String> compareInstructions = new ArrayList<>();
+    fields.forEach(f -> compareInstructions.add(PojoGenUtil.generateCompareFieldsInstruction(
+        f, getValueExpression(f, THIS_TOKEN), getValueExpression(f, "other."))));
+    if (!getUnboxedFields().isEmpty()) {
+      compareInstructions.add("Long.compare(this." + PRESENCE_MASK + ", other." + PRESENCE_MASK + ")");
+    }
     if (CollectionUtil.isEmpty(this.fields)) {
       compareBody.append("return 0;\n");
     } else {
       compareBody.append("int res = 0;\n");
-      for (int i = 0; i < fields.size(); i++) {
+      for (int i = 0; i < compareInstructions.size(); i++) {
         addImport(CompareUtil.class);
         String ret = "return res;";
         compareBody.append("res = ")
-          .append(PojoGenUtil.generateCompareFieldsInstruction(fields.get(i)))
+          .append(compareInstructions.get(i))
           .append(";\n");
-        if (i < fields.size() - 1) {
+        if (i < compareInstructions.size() - 1) {
           compareBody.append("if (res != 0) {\n")
             .append(JavaCodeGenUtil.indent(ret))
             .append(END_BLOCK_TOKEN);
@@ -245,6 +286,9 @@ public class PojoGenerator extends JavaTypeGenerator {
         .append(" = ")
         .append(PojoGenUtil.generateDeepCloneFieldInstruction(f, getImports()))
         .append(";\n"));
+      if (!getUnboxedFields().isEmpty()) {
+        buildMethodBody.append("res.").append(PRESENCE_MASK).append(" = this.").append(PRESENCE_MASK).append(";\n");
+      }
       buildMethodBody.append("return res;\n");
     } else {
       buildMethodBody
@@ -260,9 +304,18 @@ public class PojoGenerator extends JavaTypeGenerator {
   }
   
   private String generateAllFieldsDeclaration(Map<String, String> defaultValueStaticVariables) {
-    return fields.stream()
+    String res = fields.stream()
         .map(f -> this.generateFieldDeclaration(f, defaultValueStaticVariables.get(f.getName())))
         .collect(Collectors.joining("\n"));
+    if (!getUnboxedFields().isEmpty()) {
+      long initialMask = getInitialPresenceMask(defaultValueStaticVariables);
+      res += "\nprivate long " + PRESENCE_MASK;
+      if (initialMask != 0L) {
+        res += " = " + generateMaskLiteral(initialMask);
+      }
+      res += ";";
+    }
+    return res;
   }
   
   private String generateFieldDeclaration(Field field, String defaultValueStaticVariable) {
@@ -274,11 +327,89 @@ public class PojoGenerator extends JavaTypeGenerator {
        .append(" ")
        .append(field.getName());
     if (defaultValueStaticVariable != null) {
-      sb.append(" = ").append(defaultValueStaticVariable);
+      sb.append(" = ").append(generateDefaultValue(field, defaultValueStaticVariable));
     }
     return sb.append(";").toString();
   }
   
+  private static String generateDefaultValue(Field field, String defaultValueStaticVariable) {
+    if (PojoGenUtil.isUnboxedField(field)) {
+      return defaultValueStaticVariable 
+          + "." + PojoGenUtil.getUnboxedTypeName(PojoGenUtil.getFieldType(field).getCanonicalType()) 
+          + "Value()";
+    }
+    return defaultValueStaticVariable;
+  }
+  
+  private long getInitialPresenceMask(Map<String, String> defaultValueStaticVariables) {
+    List<Field> unboxedFields = getUnboxedFields();
+    long initialMask = 0L;
+    for (int i = 0; i < unboxedFields.size(); i++) {
+      if (defaultValueStaticVariables.containsKey(unboxedFields.get(i).getName())) {
+        initialMask |= 1L << i;
+      }
+    }
+    return initialMask;
+  }
+  
+  private List<Field> getUnboxedFields() {
+    return fields.stream().filter(PojoGenUtil::isUnboxedField).toList();
+  }
+  
+  private List<Field> getLazyFields() {
+    return fields.stream().filter(PojoGenUtil::isLazyField).toList();
+  }
+  
+  private String generateLazyValueFieldsDeclaration() {
+    return getLazyFields().stream()
+        .map(f -> "\nprivate transient " + getLazyValueClass(f) + " " + PojoGenUtil.getLazyValueFieldName(f) + ";")
+        .collect(Collectors.joining());
+  }
+  
+  private String getLazyValueClass(Field field) {
+    addImport(LazyJsonValue.class);
+    return LazyJsonValue.class.getSimpleName() + "<" + getFieldClass(field) + ">";
+  }
+  
+  /**
+   * Returns the expression of value of a field of a POJO instance: direct field
+   * access, or getter call for lazy fields so that pending value is decoded.
+   */
+  private String getValueExpression(Field field, String instancePrefix) {
+    if (PojoGenUtil.isLazyField(field)) {
+      return instancePrefix + getGetAccessorMethodName(field) + "()";
+    }
+    return instancePrefix + field.getName();
+  }
+  
+  private String getGetAccessorMethodName(Field field) {
+    return JavaCodeGenUtil.getGetAccessorMethodName(
+        field.getName(), 
+        PojoGenUtil.getFieldType(field), 
+        getAllFieldNames());
+  }
+  
+  private String getPresenceMaskLiteral(Field field) {
+    return generateMaskLiteral(1L << getUnboxedFields().indexOf(field));
+  }
+  
+  private static String generateMaskLiteral(long mask) {
+    return "0x" + Long.toHexString(mask) + "L";
+  }
+  
+  private static String getUnboxedZeroValue(Field field) {
+    switch (PojoGenUtil.getFieldType(field).getCanonicalType()) {
+    case BOOLEAN:
+      return "false";
+    case BIGDECIMAL:
+      return "0.0";
+    case LONG:
+      return "0L";
+    default:
+      return "0";
+    }
+  }
+  
   private void generateAccessorsDeclaration(Field field) {
     
     String typeClass = getFieldClass(field);
@@ -306,22 +437,31 @@ public class PojoGenerator extends JavaTypeGenerator {
       .append("public ")
       .append(typeClass)
       .append(" ")
-      .append(JavaCodeGenUtil.getGetAccessorMethodName(
-          field.getName(), 
-          PojoGenUtil.getFieldType(field), 
-          getAllFieldNames()))
+      .append(getGetAccessorMethodName(field))
       .append("()")
       .toString();
     
-    appendMethod(getSignature, "return " + name + ";\n", getJavadoc);
+    boolean lazy = PojoGenUtil.isLazyField(field);
+    String lazyValueName = PojoGenUtil.getLazyValueFieldName(field);
+    String getMethodBody = lazy ? 
+        "return " + lazyValueName + " != null ? " + lazyValueName + ".get() : " + name + ";\n" 
+        : "return " + name + ";\n";
+    appendMethod(getSignature, getMethodBody, getJavadoc);
     appendToBody("\n");
     
+    boolean unboxed = PojoGenUtil.isUnboxedField(field);
+    if (unboxed) {
+      generateUnboxedFieldPresenceMethods(field);
+    }
+    
     String setMethodBody = new StringBuilder()
         .append(THIS_TOKEN)
         .append(name)
         .append(" = ")
         .append(name)
         .append(";\n")
+        .append(unboxed ? generateSetPresenceInstruction(field) : "")
+        .append(lazy ? THIS_TOKEN + lazyValueName + " = null;\n" : "")
         .toString();
     String argDeclaration = new StringBuilder()
         .append("(")
@@ -337,6 +477,48 @@ public class PojoGenerator extends JavaTypeGenerator {
       .toString();
     
     appendMethod(setSignature, setMethodBody, setJavadoc);
+    
+    if (lazy) {
+      appendToBody("\n");
+      generateLazyValueSetter(field);
+    }
+  }
+  
+  private void generateLazyValueSetter(Field field) {
+    String name = field.getName();
+    String lazyValueName = PojoGenUtil.getLazyValueFieldName(field);
+    appendMethod(
+        "public void " 
+          + JavaCodeGenUtil.getAccessorMethodName("set", lazyValueName, getAllFieldNames()) 
+          + "(" + getLazyValueClass(field) + " " + lazyValueName + ")", 
+        new StringBuilder()
+          .append(THIS_TOKEN).append(name).append(" = null;\n")
+          .append(THIS_TOKEN).append(lazyValueName).append(" = ").append(lazyValueName).append(";\n")
+          .toString(),
+        "Sets <code>" + name + "</code> value to be decoded on first call to getter. Used by generated deserializer.\n"
+          + "@param " + lazyValueName + " pending value of <code>" + name + "</code>");
+  }
+  
+  private String generateSetPresenceInstruction(Field field) {
+    return THIS_TOKEN + PRESENCE_MASK + " |= " + getPresenceMaskLiteral(field) + ";\n";
+  }
+  
+  private void generateUnboxedFieldPresenceMethods(Field field) {
+    String name = field.getName();
+    String mask = getPresenceMaskLiteral(field);
+    appendMethod(
+        "public boolean " + JavaCodeGenUtil.getAccessorMethodName("has", name, getAllFieldNames()) + "()", 
+        "return (" + PRESENCE_MASK + " & " + mask + ") != 0L;\n", 
+        "@return <code>true</code> if <code>" + name + "</code> value is set");
+    appendToBody("\n");
+    appendMethod(
+        "public void " + JavaCodeGenUtil.getAccessorMethodName("clear", name, getAllFieldNames()) + "()", 
+        new StringBuilder()
+          .append(THIS_TOKEN).append(name).append(" = ").append(getUnboxedZeroValue(field)).append(";\n")
+          .append(THIS_TOKEN).append(PRESENCE_MASK).append(" &= ~").append(mask).append(";\n")
+          .toString(),
+        "Unsets <code>" + name + "</code> value");
+    appendToBody("\n");
   }
   
   private void generateBuilderMethodsDeclaration(Field field, JavaTypeGenerator builder) {
@@ -361,6 +543,7 @@ public class PojoGenerator extends JavaTypeGenerator {
         .append(" = ")
         .append(name)
         .append(";\n")
+        .append(PojoGenUtil.isUnboxedField(field) ? generateSetPresenceInstruction(field) : "")
         .append(RETURN_THIS_TOKEN)
         .toString();
     
@@ -513,6 +696,9 @@ public class PojoGenerator extends JavaTypeGenerator {
   private String getFieldClass(Field field) {
     String fieldClass = null;
     Type fieldType = PojoGenUtil.getFieldType(field);
+    if (PojoGenUtil.isUnboxedField(field)) {
+      return PojoGenUtil.getUnboxedTypeName(fieldType.getCanonicalType());
+    }
     if (PojoGenUtil.isObjectField(field)) {
       String className = getName();
       fieldClass = PojoGenUtil.getClassNameForField(field, getImports(), className);
@@ -560,11 +746,33 @@ public class PojoGenerator extends JavaTypeGenerator {
             .append(JavaCodeGenUtil.INDENTATION)
             .append("&& ");
         }
-        body.append("Objects.equals(this.")
-          .append(f)
-          .append(", o.")
-          .append(f)
-          .append(")");
+        if (!PojoGenUtil.isUnboxedField(field)) {
+          body.append("Objects.equals(")
+            .append(getValueExpression(field, THIS_TOKEN))
+            .append(", ")
+            .append(getValueExpression(field, "o."))
+            .append(")");
+        } else if (PojoGenUtil.getFieldType(field).getCanonicalType() == CanonicalType.BIGDECIMAL) {
+          body.append("Double.compare(this.")
+            .append(f)
+            .append(", o.")
+            .append(f)
+            .append(") == 0");
+        } else {
+          body.append("this.")
+            .append(f)
+            .append(" == o.")
+            .append(f);
+        }
+      }
+      if (!getUnboxedFields().isEmpty()) {
+        body.append("\n")
+          .append(JavaCodeGenUtil.INDENTATION)
+          .append(JavaCodeGenUtil.INDENTATION)
+          .append("&& this.")
+          .append(PRESENCE_MASK)
+          .append(" == o.")
+          .append(PRESENCE_MASK);
       }
       body.append(";\n");
     }
@@ -579,13 +787,15 @@ public class PojoGenerator extends JavaTypeGenerator {
       boolean first = true;
       body.append("return Objects.hash(");
       for (Field field : fields) {
-        String f = field.getName();
         if (first) {
           first = false;
         } else {
           body.append(", ");
         }
-        body.append(f);
+        body.append(getValueExpression(field, ""));
+      }
+      if (!getUnboxedFields().isEmpty()) {
+        body.append(", ").append(PRESENCE_MASK);
       }
       body.append(");\n");
     }
@@ -608,11 +818,52 @@ public class PojoGenerator extends JavaTypeGenerator {
         body.append("clone.")
             .append(f.getName())
             .append(" = ")
-            .append(PojoGenUtil.generateDeepCloneFieldInstruction(f, getImports()))
+            .append(PojoGenUtil.generateDeepCloneFieldInstruction(f, getValueExpression(f, THIS_TOKEN), getImports()))
             .append(";\n")
       );
+      if (!getUnboxedFields().isEmpty()) {
+        body.append("clone.").append(PRESENCE_MASK).append(" = this.").append(PRESENCE_MASK).append(";\n");
+      }
       body.append("return clone;\n");
     }
     appendMethod(signature, body.toString());
   }
+  
+  private void generateWriteReplaceMethod() {
+    appendMethod("private Object writeReplace()", 
+        "return deepClone();\n", 
+        "Serializes a deep clone of this instance instead, holding decoded values of lazy fields.\n"
+        + "@return the object to serialize");
+  }
+  
+  private void generateResetMethod(Map<String, String> defaultValueStaticVariables) {
+    StringBuilder body = new StringBuilder();
+    fields.forEach(f -> {
+      String defaultValueStaticVariable = defaultValueStaticVariables.get(f.getName());
+      String value = null;
+      if (defaultValueStaticVariable != null) {
+        value = generateDefaultValue(f, defaultValueStaticVariable);
+      } else if (PojoGenUtil.isUnboxedField(f)) {
+        value = getUnboxedZeroValue(f);
+      } else {
+        value = JavaCodeGenUtil.NULL;
+      }
+      body.append(THIS_TOKEN)
+          .append(f.getName())
+          .append(" = ")
+          .append(value)
+          .append(";\n");
+    });
+    getLazyFields().forEach(f -> body.append(THIS_TOKEN)
+          .append(PojoGenUtil.getLazyValueFieldName(f))
+          .append(" = null;\n"));
+    if (!getUnboxedFields().isEmpty()) {
+      body.append(THIS_TOKEN)
+          .append(PRESENCE_MASK)
+          .append(" = ")
+          .append(generateMaskLiteral(getInitialPresenceMask(defaultValueStaticVariables)))
+          .append(";\n");
+    }
+    appendMethod("@Override\npublic void reset()", body.toString());
+  }
 }
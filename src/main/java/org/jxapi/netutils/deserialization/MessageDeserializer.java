@@ -1,5 +1,9 @@
 package org.jxapi.netutils.deserialization;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Interface for deserializing messages. Each implementation should provide a
  * method to deserialize a raw String from a HTTP response or Websocket message
@@ -18,6 +22,82 @@ public interface MessageDeserializer<T> {
    */
   T deserialize(String msg);
   
+  /**
+   * Deserializes a message received as UTF-8 encoded bytes.
+   * <p>
+   * Default implementation decodes message and calls
+   * {@link #deserialize(String)}. Implementations able to parse raw bytes
+   * should override this method to avoid decoding.
+   * 
+   * @param msg    the array holding message bytes
+   * @param offset the offset of first message byte in array
+   * @param length the count of message bytes
+   * @return the deserialized object, or <code>null</code> if the message is <code>null</code>.
+   */
+  default T deserialize(byte[] msg, int offset, int length) {
+    if (msg == null) {
+      return null;
+    }
+    return deserialize(new String(msg, offset, length, StandardCharsets.UTF_8));
+  }
+  
+  /**
+   * Deserializes a message read from a stream of UTF-8 encoded bytes, for
+   * instance a HTTP response body. Stream is not closed.
+   * <p>
+   * Default implementation reads whole stream then calls
+   * {@link #deserialize(byte[], int, int)}. Implementations able to parse a
+   * stream should override this method to avoid buffering message.
+   * 
+   * @param msg the stream to read message from
+   * @return the deserialized object, or <code>null</code> if the stream is <code>null</code>.
+   * @throws IOException if an error occurs reading stream
+   */
+  default T deserializeStream(InputStream msg) throws IOException {
+    if (msg == null) {
+      return null;
+    }
+    byte[] bytes = msg.readAllBytes();
+    return deserialize(bytes, 0, bytes.length);
+  }
+  
+  /**
+   * Deserializes a message into an existing object, to spare allocation of a
+   * new one. Properties of target not present in message are left unchanged.
+   * <p>
+   * Default implementation ignores <code>target</code> and calls
+   * {@link #deserialize(String)}.
+   * 
+   * @param msg    the message to deserialize
+   * @param target the object to populate
+   * @return the deserialized object: <code>target</code> when supported by this
+   *         deserializer, a new object otherwise, or <code>null</code> if the
+   *         message is <code>null</code>.
+   * @see org.jxapi.util.Resettable
+   */
+  default T deserializeInto(String msg, T target) {
+    return deserialize(msg);
+  }
+  
+  /**
+   * Deserializes a message received as UTF-8 encoded bytes into an existing
+   * object, see {@link #deserializeInto(String, Object)}.
+   * <p>
+   * Default implementation ignores <code>target</code> and calls
+   * {@link #deserialize(byte[], int, int)}.
+   * 
+   * @param msg    the array holding message bytes
+   * @param offset the offset of first message byte in array
+   * @param length the count of message bytes
+   * @param target the object to populate
+   * @return the deserialized object: <code>target</code> when supported by this
+   *         deserializer, a new object otherwise, or <code>null</code> if the
+   *         message is <code>null</code>.
+   */
+  default T deserializeInto(byte[] msg, int offset, int length, T target) {
+    return deserialize(msg, offset, length);
+  }
+  
   /**
    * Deserializer for plain String values.<br>
    * A no-operation deserializer that returns the input string as is.
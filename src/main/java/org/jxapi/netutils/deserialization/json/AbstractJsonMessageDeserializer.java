@@ -1,6 +1,8 @@
 package org.jxapi.netutils.deserialization.json;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.jxapi.netutils.deserialization.MessageDeserializer;
 import org.jxapi.util.JsonUtil;
@@ -10,11 +12,18 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 
 /**
  * Abstract base class for JSON data message deserializers.
- * Implements the {@link MessageDeserializer#deserialize(String)} method using a
- * Jackson {@link JsonParser} to parse incoming messages.
+ * Implements the {@link MessageDeserializer#deserialize(String)},
+ * {@link MessageDeserializer#deserialize(byte[], int, int)} and
+ * {@link MessageDeserializer#deserializeStream(InputStream)} methods using a
+ * Jackson {@link JsonParser} to parse incoming messages, without intermediate
+ * encoding or decoding of message.
  * Actual implementations must provide a
  * {@link JsonDeserializer#deserialize(JsonParser)} method to deserialize the
  * parsed JSON data.
+ * <p>
+ * Messages deserialized from a String or a byte array are attached to the
+ * parser, so that values of lazy fields can be decoded later, see
+ * {@link LazyJsonValue}.
  * 
  * @param <T> the type of the deserialized object
  * 
@@ -25,18 +34,72 @@ public abstract class AbstractJsonMessageDeserializer<T> extends com.fasterxml.j
   
   @Override
   public T deserialize(String msg) {
+    return deserializeInto(msg, null);
+  }
+  
+  @Override
+  public T deserialize(byte[] msg, int offset, int length) {
+    return deserializeInto(msg, offset, length, null);
+  }
+  
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Message is deserialized with {@link #deserialize(JsonParser)} when
+   * <code>target</code> is <code>null</code>, with
+   * {@link #deserializeInto(JsonParser, Object)} otherwise.
+   */
+  @Override
+  public T deserializeInto(String msg, T target) {
     try {
       if (msg == null) {
         return null;
       }
-      JsonParser parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(msg.getBytes());
+      JsonParser parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(msg);
+      LazyJsonValue.attachSource(parser, msg);
       parser.nextToken();
-      return deserialize(parser);
+      return deserializeParser(parser, target);
     } catch (IOException e) {
       throw new IllegalArgumentException("Error parsing JSON:[" + msg + "]", e);
     } 
   }
   
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Message is deserialized with {@link #deserialize(JsonParser)} when
+   * <code>target</code> is <code>null</code>, with
+   * {@link #deserializeInto(JsonParser, Object)} otherwise.
+   */
+  @Override
+  public T deserializeInto(byte[] msg, int offset, int length, T target) {
+    try {
+      if (msg == null) {
+        return null;
+      }
+      JsonParser parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(msg, offset, length);
+      LazyJsonValue.attachSource(parser, msg, offset);
+      parser.nextToken();
+      return deserializeParser(parser, target);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Error parsing JSON:[" + new String(msg, offset, length, StandardCharsets.UTF_8) + "]", e);
+    } 
+  }
+  
+  private T deserializeParser(JsonParser parser, T target) throws IOException {
+    return target == null ? deserialize(parser) : deserializeInto(parser, target);
+  }
+  
+  @Override
+  public T deserializeStream(InputStream msg) throws IOException {
+    if (msg == null) {
+      return null;
+    }
+    JsonParser parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(msg);
+    parser.nextToken();
+    return deserialize(parser);
+  }
+  
   @Override
   public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
     return deserialize(p);
@@ -19,4 +19,24 @@ public interface JsonDeserializer<T> {
    * @throws IOException if an error occurs during deserialization
    */
   T deserialize(JsonParser parser) throws IOException;
+  
+  /**
+   * Deserializes the JSON data from the given {@link JsonParser} into an
+   * existing object, to spare allocation of a new one. Properties of target
+   * that are not present in JSON data are left unchanged, so target should be
+   * reset beforehand, see {@link org.jxapi.util.Resettable}.
+   * <p>
+   * Default implementation ignores <code>target</code> and returns result of
+   * {@link #deserialize(JsonParser)}. Generated POJO deserializers override
+   * this method to populate target.
+   * 
+   * @param parser the parser to read the JSON data from
+   * @param target the object to populate
+   * @return the deserialized object: <code>target</code> when supported by this
+   *         deserializer, a new object otherwise.
+   * @throws IOException if an error occurs during deserialization
+   */
+  default T deserializeInto(JsonParser parser, T target) throws IOException {
+    return deserialize(parser);
+  }
 }
@@ -0,0 +1,209 @@
+package org.jxapi.netutils.deserialization.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.jxapi.util.JsonUtil;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * JSON value of a POJO field which decoding is deferred until first call to
+ * {@link #get()}. Generated POJOs use it to hold the value of fields declared
+ * as lazy, see {@link org.jxapi.pojo.descriptor.Field#getLazy()}.
+ * <p>
+ * When reading a lazy field, generated deserializers call
+ * {@link #readNext(JsonParser, JsonDeserializer)}, which skips the JSON object
+ * or array of the field and only records its position in the raw message.
+ * This requires the parser to be attached to the raw message it reads, see
+ * {@link #attachSource(JsonParser, String)} and
+ * {@link #attachSource(JsonParser, byte[], int)}: this is done by
+ * {@link AbstractJsonMessageDeserializer} when deserializing a message. Value
+ * is decoded right away otherwise, for instance when parser reads from a
+ * stream.
+ * <p>
+ * Pending value retains the raw message when it is a String. When message is
+ * a byte array, the bytes of the value are copied, as arrays may be reused by
+ * network layer once message is dispatched. The raw data is released once
+ * value is decoded. This class is thread safe: value is decoded only once.
+ *
+ * @param <T> the type of the decoded value
+ */
+public class LazyJsonValue<T> {
+
+  /**
+   * Attaches the raw JSON message a parser was created from to that parser,
+   * so that lazy values can be captured from it, see
+   * {@link #readNext(JsonParser, JsonDeserializer)}. Must be called before
+   * first token is read.
+   *
+   * @param parser a parser created from <code>msg</code>
+   * @param msg the JSON message
+   */
+  public static void attachSource(JsonParser parser, String msg) {
+    parser.assignCurrentValue(new Source(msg, null, 0));
+  }
+
+  /**
+   * Attaches the raw JSON message a parser was created from to that parser,
+   * so that lazy values can be captured from it, see
+   * {@link #readNext(JsonParser, JsonDeserializer)}. Must be called before
+   * first token is read.
+   *
+   * @param parser a parser created from message bytes
+   * @param msg the array holding UTF-8 encoded message bytes
+   * @param offset the offset of first message byte in array
+   */
+  public static void attachSource(JsonParser parser, byte[] msg, int offset) {
+    parser.assignCurrentValue(new Source(null, msg, offset));
+  }
+
+  /**
+   * Reads the next value from parser as a lazy value. If value is a JSON object
+   * or array and raw message is attached to parser, value is skipped and its
+   * position recorded, to be decoded on first call to {@link #get()}. Otherwise,
+   * value is decoded right away using <code>deserializer</code>.
+   *
+   * @param <T> the type of value
+   * @param parser the parser positioned before the value to read
+   * @param deserializer the deserializer to decode value with
+   * @return the lazy value
+   * @throws IOException if an error occurs reading the value
+   */
+  public static <T> LazyJsonValue<T> readNext(JsonParser parser, JsonDeserializer<T> deserializer) throws IOException {
+    JsonToken token = parser.nextToken();
+    Source source = getSource(parser);
+    if (source == null || (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY)) {
+      return of(deserializer.deserialize(parser));
+    }
+    if (source.text != null) {
+      int start = (int) parser.currentTokenLocation().getCharOffset();
+      parser.skipChildren();
+      int end = (int) parser.currentLocation().getCharOffset();
+      return new LazyJsonValue<>(source.text, start, end, deserializer);
+    } else {
+      int start = source.offset + (int) parser.currentTokenLocation().getByteOffset();
+      parser.skipChildren();
+      int end = source.offset + (int) parser.currentLocation().getByteOffset();
+      return new LazyJsonValue<>(Arrays.copyOfRange(source.bytes, start, end), deserializer);
+    }
+  }
+
+  /**
+   * @param <T> the type of value
+   * @param value an already decoded value
+   * @return a lazy value holding <code>value</code>
+   */
+  public static <T> LazyJsonValue<T> of(T value) {
+    return new LazyJsonValue<>(value);
+  }
+
+  private static Source getSource(JsonParser parser) {
+    JsonStreamContext ctx = parser.getParsingContext();
+    while (ctx.getParent() != null) {
+      ctx = ctx.getParent();
+    }
+    Object source = ctx.getCurrentValue();
+    return source instanceof Source s ? s : null;
+  }
+
+  private String text;
+  private byte[] bytes;
+  private int start;
+  private int end;
+  private JsonDeserializer<T> deserializer;
+  private volatile boolean decoded;
+  private T value;
+
+  private LazyJsonValue(T value) {
+    this.value = value;
+    this.decoded = true;
+  }
+
+  private LazyJsonValue(String text, int start, int end, JsonDeserializer<T> deserializer) {
+    this.text = text;
+    this.start = start;
+    this.end = end;
+    this.deserializer = deserializer;
+  }
+
+  private LazyJsonValue(byte[] bytes, JsonDeserializer<T> deserializer) {
+    this.bytes = bytes;
+    this.end = bytes.length;
+    this.deserializer = deserializer;
+  }
+
+  /**
+   * Returns the value, decoding it on first call.
+   *
+   * @return the decoded value
+   * @throws IllegalArgumentException if the JSON value cannot be decoded
+   */
+  public T get() {
+    if (!decoded) {
+      synchronized (this) {
+        if (!decoded) {
+          value = decode();
+          text = null;
+          bytes = null;
+          deserializer = null;
+          decoded = true;
+        }
+      }
+    }
+    return value;
+  }
+
+  /**
+   * @return <code>true</code> if value is decoded, that is {@link #get()} will
+   *         not parse JSON data.
+   */
+  public boolean isDecoded() {
+    return decoded;
+  }
+
+  private T decode() {
+    try (JsonParser parser = createParser()) {
+      parser.nextToken();
+      return deserializer.deserialize(parser);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Error parsing JSON:[" + getJson() + "]", e);
+    }
+  }
+
+  private JsonParser createParser() throws IOException {
+    // Source is attached so that nested lazy values are not decoded yet
+    JsonParser parser = null;
+    if (text != null) {
+      String json = getJson();
+      parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(json);
+      attachSource(parser, json);
+    } else {
+      parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(bytes, start, end - start);
+      attachSource(parser, bytes, start);
+    }
+    return parser;
+  }
+
+  private String getJson() {
+    return text != null ? text.substring(start, end) : new String(bytes, start, end - start, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Raw message a parser reads from
+   */
+  private static class Source {
+    private final String text;
+    private final byte[] bytes;
+    private final int offset;
+
+    private Source(String text, byte[] bytes, int offset) {
+      this.text = text;
+      this.bytes = bytes;
+      this.offset = offset;
+    }
+  }
+}
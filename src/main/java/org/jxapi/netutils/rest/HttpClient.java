@@ -1,5 +1,8 @@
 package org.jxapi.netutils.rest;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 import org.jxapi.netutils.rest.ratelimits.RequestThrottler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,36 +43,70 @@ public class HttpClient extends AbstractHttpRequestExecutor {
   
   @Override
   public FutureHttpResponse execute(HttpRequest request) {
+    if (responseInterceptor == null) {
+      return submit(request);
+    }
+    FutureHttpResponse processedResponse = new FutureHttpResponse();
+    execute(request, processedResponse::complete);
+    return processedResponse;
+  }
+  
+  /**
+   * Executes a request and handles its response in a single completion stage:
+   * response interceptor is applied then given handler is called, in thread that
+   * completed response of underlying executor. This avoids allocating and
+   * chaining intermediate futures when caller completes its own future from
+   * response, see {@link RestEndpoint}.
+   * 
+   * @param request         the request to execute
+   * @param responseHandler the handler called with response, once intercepted.
+   *                        Exceptions it raises are logged.
+   */
+  public void execute(HttpRequest request, Consumer<HttpResponse> responseHandler) {
+    submit(request).thenAccept(resp -> {
+      processResponse(resp);
+      try {
+        responseHandler.accept(resp);
+      } catch (Exception e) {
+        log.error("Exception in response handler for response {}: {}", resp, e.getMessage(), e);
+      }
+    });
+  }
+  
+  private FutureHttpResponse submit(HttpRequest request) {
     if (interceptor != null) {
       interceptor.intercept(request);
     }
     if (throttler != null) {
-      return processResponse(throttler.submit(request, executor::execute));
+      return throttler.submit(request, executor::execute);
     } else {
-      return processResponse(executor.execute(request));
+      return executor.execute(request);
     }
-    
   }
   
-  private FutureHttpResponse processResponse(FutureHttpResponse response) {
-    if (responseInterceptor != null) {
-      FutureHttpResponse processedResponse = new FutureHttpResponse();
-      response.thenAccept(resp -> {
-        if (resp.getException() == null) {
-          try {
-            responseInterceptor.intercept(resp);
-          } catch (Exception e) {
-            log.error("Exception in response interceptor for response {}: {}", resp, e.getMessage(), e); 
-            resp.setException(e);
-          }        
-        }
-        processedResponse.complete(resp);
-      });
-      return processedResponse;
+  private void processResponse(HttpResponse resp) {
+    if (responseInterceptor != null && resp.getException() == null) {
+      try {
+        responseInterceptor.intercept(resp);
+      } catch (Exception e) {
+        log.error("Exception in response interceptor for response {}: {}", resp, e.getMessage(), e); 
+        resp.setException(e);
+      }
     }
-    return response;
+    // Release connection if body stream was not consumed by interceptor
+    resp.closeBodyStream();
   }
 
+  /**
+   * Establishes connection of underlying executor to host of given URL, see
+   * {@link HttpRequestExecutor#preconnect(String)}. Connection request is
+   * neither intercepted nor throttled.
+   */
+  @Override
+  public CompletableFuture<Void> preconnect(String url) {
+    return executor.preconnect(url);
+  }
+  
   /**
    * @return the interceptor that is applied before executing the request. May be <code>null</code>.
    */
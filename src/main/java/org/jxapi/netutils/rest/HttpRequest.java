@@ -1,5 +1,6 @@
 package org.jxapi.netutils.rest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -108,6 +109,11 @@ public class HttpRequest {
    * Body of HTTP request to send
    */
   private String body;
+  
+  /**
+   * Body of HTTP request to send as UTF-8 encoded bytes
+   */
+  private byte[] bodyBytes;
 
   /**
    * Unserialized request object. Provided for convenience. It is duty of the
@@ -126,6 +132,11 @@ public class HttpRequest {
    */
   private int weight;
 
+  /**
+   * Priority of this request when throttled by {@link RequestThrottler}
+   */
+  private RequestPriority priority = RequestPriority.NORMAL;
+
   /**
    * Time when the request was submitted.
    */
@@ -223,9 +234,15 @@ public class HttpRequest {
   }
 
   /**
+   * Returns body of HTTP request to send, decoding it if it was set as bytes,
+   * see {@link #setBodyBytes(byte[])}.
+   * 
    * @return body of HTTP request to send
    */
   public String getBody() {
+    if (body == null && bodyBytes != null) {
+      body = new String(bodyBytes, StandardCharsets.UTF_8);
+    }
     return body;
   }
 
@@ -234,6 +251,27 @@ public class HttpRequest {
    */
   public void setBody(String body) {
     this.body = body;
+    this.bodyBytes = null;
+  }
+  
+  /**
+   * @return body of HTTP request to send as UTF-8 encoded bytes,
+   *         <code>null</code> if body was set as a string, see
+   *         {@link #setBody(String)}.
+   */
+  public byte[] getBodyBytes() {
+    return bodyBytes;
+  }
+  
+  /**
+   * Sets body of HTTP request as UTF-8 encoded bytes, so that executors can send
+   * it as is. Body is decoded to a string only if {@link #getBody()} is called.
+   * 
+   * @param bodyBytes body of HTTP request to send as UTF-8 encoded bytes
+   */
+  public void setBodyBytes(byte[] bodyBytes) {
+    this.bodyBytes = bodyBytes;
+    this.body = null;
   }
 
   /**
@@ -266,6 +304,24 @@ public class HttpRequest {
     this.weight = weight;
   }
 
+  /**
+   * @return Priority of this request when throttled by {@link RequestThrottler},
+   *         see {@link RequestPriority}. Default is
+   *         {@link RequestPriority#NORMAL}
+   */
+  public RequestPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * @param priority Priority of this request when throttled by
+   *                 {@link RequestThrottler}, see {@link RequestPriority}.
+   *                 <code>null</code> stands for {@link RequestPriority#NORMAL}
+   */
+  public void setPriority(RequestPriority priority) {
+    this.priority = RequestPriority.orDefault(priority);
+  }
+
   /**
    * @return Unserialized request object. Provided for convenience. It is duty of
    *         the caller to serialize it either in the body or in the URL.
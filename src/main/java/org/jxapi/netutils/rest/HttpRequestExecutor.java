@@ -1,5 +1,6 @@
 package org.jxapi.netutils.rest;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
 import org.jxapi.util.Disposable;
@@ -40,4 +41,17 @@ public interface HttpRequestExecutor extends Disposable {
    * @see #setRequestTimeout(long)
    */
   long getRequestTimeout();
+  
+  /**
+   * Establishes connection to host of given URL ahead of first request, so that
+   * first request does not pay for TCP and TLS handshakes. Default
+   * implementation does nothing.
+   * 
+   * @param url an URL of host to connect to
+   * @return a future completing when connection is established, or
+   *         exceptionally if connection failed
+   */
+  default CompletableFuture<Void> preconnect(String url) {
+    return CompletableFuture.completedFuture(null);
+  }
 }
@@ -52,6 +52,10 @@ public class HttpRequestToStringJsonSerializer extends StdSerializer<HttpRequest
     if (weight > 0) {
       gen.writeNumberField("weight", weight);
     }
+    RequestPriority priority = httpRequest.getPriority();
+    if (priority != RequestPriority.NORMAL) {
+      gen.writeStringField("priority", priority.name());
+    }
     Date time = httpRequest.getTime();
     if (time != null) {
       JsonUtil.writeStringField(gen, "time", EncodingUtil.formatTimestamp(time));
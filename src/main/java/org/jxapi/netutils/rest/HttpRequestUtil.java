@@ -1,9 +1,13 @@
 package org.jxapi.netutils.rest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jxapi.netutils.deserialization.MessageDeserializer;
 import org.jxapi.netutils.serialization.MessageSerializer;
 import org.jxapi.util.CollectionUtil;
 
@@ -113,7 +117,9 @@ public class HttpRequestUtil {
   /**
    * Will set the body of the request by serializing the request object using the
    * message serializer if such serializer is set. If either message serializer or request object is
-   * <code>null</code>, the body will not be modified.
+   * <code>null</code>, the body will not be modified. Body is serialized to
+   * bytes, see {@link MessageSerializer#serializeToBytes(Object)} and
+   * {@link HttpRequest#setBodyBytes(byte[])}.
    * 
    * @param request the request to serialize body of, should not be <code>null</code>.
    * @see HttpRequest#setRequestSerializer(MessageSerializer)
@@ -124,7 +130,7 @@ public class HttpRequestUtil {
     Object requestObject = request.getRequest();
     MessageSerializer serializer = request.getRequestSerializer();
     if (requestObject != null && serializer != null) {
-      request.setBody(serializer.serialize(requestObject));
+      request.setBodyBytes(serializer.serializeToBytes(requestObject));
     }
   }
   
@@ -132,6 +138,10 @@ public class HttpRequestUtil {
    * Will set the response of the response by deserializing the response body using the
    * message deserializer if such deserializer is set in the request that originated this response. If either message deserializer or response body is
    * <code>null</code> or empty, the response will not be modified.
+   * <p>
+   * Body is deserialized from its stream if it was received as a stream (see
+   * {@link HttpResponse#setBodyStream(java.io.InputStream)}), or from its raw
+   * bytes if it was received as bytes, without decoding it to a string.
    * 
    * @param response the response to deserialize body of, should not be <code>null</code>.
    * @see HttpResponse#getRequest()
@@ -139,10 +149,26 @@ public class HttpRequestUtil {
    */
   public static void deserializeResponseBody(HttpResponse response) {
     HttpRequest request = response.getRequest();
-    if (request != null 
-        && request.getResponseDeserializer() != null 
-        && !StringUtils.isEmpty(response.getBody())) {
-      response.setResponse(request.getResponseDeserializer().deserialize(response.getBody()));
+    MessageDeserializer<?> deserializer = request == null ? null : request.getResponseDeserializer();
+    if (deserializer == null) {
+      return;
+    }
+    if (response.hasBodyStream()) {
+      try (InputStream in = response.takeBodyStream()) {
+        response.setResponse(deserializer.deserializeStream(in));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Error reading response body of:" + response, e);
+      }
+      return;
+    }
+    if (response.getBodyLength() <= 0) {
+      return;
+    }
+    byte[] bytes = response.getBodyBytes();
+    if (bytes != null) {
+      response.setResponse(deserializer.deserialize(bytes, 0, bytes.length));
+    } else {
+      response.setResponse(deserializer.deserialize(response.getBody()));
     }
   }
   
@@ -1,5 +1,9 @@
 package org.jxapi.netutils.rest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -13,6 +17,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Represents a HTTP response, raised upon completion of a {@link FutureHttpResponse}.
+ * <p>
+ * Body may be received as a string, as raw UTF-8 bytes (see
+ * {@link #setBodyBytes(byte[])}) decoded to a string only when {@link #getBody()}
+ * is called, or as a stream (see {@link #setBodyStream(InputStream)}) to be
+ * consumed by response deserializer without being retained.
  * 
  * @see FutureHttpResponse
  */
@@ -37,6 +46,10 @@ public class HttpResponse {
   
   private String body;
   
+  private byte[] bodyBytes;
+  
+  private InputStream bodyStream;
+  
   private Exception exception;
   
   private Map<String, List<String>> headers;
@@ -62,9 +75,19 @@ public class HttpResponse {
   }
 
   /**
+   * Returns body of the HTTP response, decoding it if it was received as bytes.
+   * If body was received as a stream not consumed yet, remaining stream
+   * content is read first.
+   * 
    * @return Body of the HTTP response
    */
   public String getBody() {
+    if (body == null) {
+      byte[] bytes = getBodyBytes();
+      if (bytes != null) {
+        body = new String(bytes, StandardCharsets.UTF_8);
+      }
+    }
     return body;
   }
 
@@ -73,6 +96,94 @@ public class HttpResponse {
    */
   public void setBody(String body) {
     this.body = body;
+    this.bodyBytes = null;
+  }
+  
+  /**
+   * Returns body of the HTTP response as raw bytes, if it was received as bytes
+   * or as a stream not consumed yet, in which case remaining stream content is
+   * read.
+   * 
+   * @return Body of the HTTP response as UTF-8 bytes, <code>null</code> if body
+   *         was set as a string, or was received as a stream that has been
+   *         consumed.
+   */
+  public byte[] getBodyBytes() {
+    if (bodyBytes == null && bodyStream != null) {
+      try (InputStream in = takeBodyStream()) {
+        bodyBytes = in.readAllBytes();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Error reading response body", e);
+      }
+    }
+    return bodyBytes;
+  }
+  
+  /**
+   * @param bodyBytes Body of the HTTP response as UTF-8 encoded bytes, decoded
+   *                  only if {@link #getBody()} is called.
+   */
+  public void setBodyBytes(byte[] bodyBytes) {
+    this.bodyBytes = bodyBytes;
+    this.body = null;
+  }
+  
+  /**
+   * @return The length of body: count of characters if it was set or decoded as
+   *         a string, count of bytes if it was received as bytes not decoded
+   *         yet, -1 if there is no body or body is a stream.
+   */
+  public int getBodyLength() {
+    if (body != null) {
+      return body.length();
+    }
+    return bodyBytes == null ? -1 : bodyBytes.length;
+  }
+  
+  /**
+   * @return <code>true</code> if body was received as a stream that has not
+   *         been consumed yet, see {@link #takeBodyStream()}.
+   */
+  public boolean hasBodyStream() {
+    return bodyStream != null;
+  }
+  
+  /**
+   * @param bodyStream Stream of HTTP response body, to be consumed by response
+   *                   deserializer, see {@link #takeBodyStream()}.
+   */
+  public void setBodyStream(InputStream bodyStream) {
+    this.bodyStream = bodyStream;
+  }
+  
+  /**
+   * Takes ownership of body stream: caller is responsible for closing it. Body
+   * is not retained, so {@link #getBody()} will return <code>null</code> if
+   * it was not read before.
+   * 
+   * @return Stream of HTTP response body, <code>null</code> if body was not
+   *         received as a stream or stream has already been taken.
+   */
+  public InputStream takeBodyStream() {
+    InputStream in = bodyStream;
+    bodyStream = null;
+    return in;
+  }
+  
+  /**
+   * Closes body stream if it has not been consumed, for instance because
+   * response was not deserialized, so that underlying connection can be
+   * released. Body is then lost.
+   */
+  public void closeBodyStream() {
+    InputStream in = takeBodyStream();
+    if (in != null) {
+      try {
+        in.close();
+      } catch (IOException e) {
+        // Nothing more to do, stream is discarded anyway
+      }
+    }
   }
 
   /**
@@ -96,6 +207,30 @@ public class HttpResponse {
     return headers;
   }
 
+  /**
+   * Gets first value of a header, header name being matched case insensitively
+   * as per HTTP specification.
+   * 
+   * @param headerName The name of the header
+   * @return First value of header with given name, <code>null</code> if there
+   *         is no such header.
+   */
+  public String getHeader(String headerName) {
+    if (headers == null || headerName == null) {
+      return null;
+    }
+    List<String> values = headers.get(headerName);
+    if (values == null) {
+      for (Map.Entry<String, List<String>> e : headers.entrySet()) {
+        if (headerName.equalsIgnoreCase(e.getKey())) {
+          values = e.getValue();
+          break;
+        }
+      }
+    }
+    return values == null || values.isEmpty() ? null : values.get(0);
+  }
+
   /**
    * Sets a header with a single value (erasing previous values).
    * @param headerName The name of the header
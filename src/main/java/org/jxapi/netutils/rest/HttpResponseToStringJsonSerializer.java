@@ -39,9 +39,9 @@ public class HttpResponseToStringJsonSerializer extends StdSerializer<HttpRespon
     if (request != null) {
       gen.writeObjectField("request", request);
     }
-    String body = httpResponse.getBody();
-    if (body != null) {
-      gen.writeStringField("body", "length=" + body.length());
+    int bodyLength = httpResponse.getBodyLength();
+    if (bodyLength >= 0) {
+      gen.writeStringField("body", "length=" + bodyLength);
     }
     Map<String, List<String>> headers = httpResponse.getHeaders();
     if (!CollectionUtil.isEmptyMap(headers)) {
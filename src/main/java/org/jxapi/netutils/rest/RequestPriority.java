@@ -0,0 +1,82 @@
+package org.jxapi.netutils.rest;
+
+import java.util.function.Supplier;
+
+import org.jxapi.netutils.rest.ratelimits.RequestThrottler;
+
+/**
+ * Priority classes of {@link HttpRequest}. When requests are throttled because
+ * of rate limits, {@link RequestThrottler} sends waiting requests with higher
+ * priority first, and may reserve part of rate limits capacity for them, see
+ * {@link RequestThrottler#setReservedCapacity(RequestPriority, double)}.
+ * <p>
+ * Constants are declared from highest to lowest priority, so
+ * {@link #ordinal()} is serving order.
+ * <p>
+ * Priority of requests to a {@link RestEndpoint} is set by
+ * {@link RestEndpoint#setPriority(RequestPriority)}. It can be overridden for
+ * calls performed by current thread within
+ * {@link #withPriority(RequestPriority, Supplier)}, for instance to raise
+ * priority of a single call to a generated API method.
+ */
+public enum RequestPriority {
+
+  /**
+   * Critical requests, for instance order placement or cancellation.
+   */
+  HIGH,
+
+  /**
+   * Default priority.
+   */
+  NORMAL,
+
+  /**
+   * Requests that can wait, for instance market data polling.
+   */
+  LOW;
+
+  private static final ThreadLocal<RequestPriority> OVERRIDE = new ThreadLocal<>();
+
+  /**
+   * Runs given call with priority of requests created by {@link RestEndpoint}
+   * on current thread overridden.
+   *
+   * @param <T>      type of call result
+   * @param priority the priority to use for requests created by current thread
+   *                 during call. <code>null</code> means priority of endpoints
+   *                 is used.
+   * @param call     the call to run, for instance a call to an API method
+   * @return result of call
+   */
+  public static <T> T withPriority(RequestPriority priority, Supplier<T> call) {
+    RequestPriority previous = OVERRIDE.get();
+    OVERRIDE.set(priority);
+    try {
+      return call.get();
+    } finally {
+      if (previous == null) {
+        OVERRIDE.remove();
+      } else {
+        OVERRIDE.set(previous);
+      }
+    }
+  }
+
+  /**
+   * @return the priority set for current thread by
+   *         {@link #withPriority(RequestPriority, Supplier)}, <code>null</code>
+   *         if not called within such scope.
+   */
+  public static RequestPriority getOverride() {
+    return OVERRIDE.get();
+  }
+
+  /**
+   * @param priority a priority, possibly <code>null</code>
+   * @return given priority, or {@link #NORMAL} if <code>null</code>
+   */
+  public static RequestPriority orDefault(RequestPriority priority) {
+    return priority == null ? NORMAL : priority;
+  }
+}
@@ -37,6 +37,7 @@ public class RestEndpoint<R, A> {
   private MessageSerializer<R> serializer;
   private List<RateLimitRule> rateLimitRules;
   private int weight;
+  private RequestPriority priority = RequestPriority.NORMAL;
   private ExchangeObserver observer;
   private HttpRequestUrlParamsSerializer<R> urlParamsSerializer;
   
@@ -56,7 +57,9 @@ public class RestEndpoint<R, A> {
   /**
    * Creates an {@link HttpRequest} object from the specified request data, using
    * the URL and HTTP method of this endpoint, and applying any URL parameter
-   * serialization and request body serialization as needed.
+   * serialization and request body serialization as needed. Priority of request
+   * is the one of this endpoint, unless overridden for current thread, see
+   * {@link RequestPriority#withPriority(RequestPriority, java.util.function.Supplier)}.
    * 
    * @param requestData The request data to create the HTTP request from
    * @return An {@link HttpRequest} object representing the HTTP request to be
@@ -67,7 +70,7 @@ public class RestEndpoint<R, A> {
     if (requestData != null && urlParamsSerializer != null) {
       u = urlParamsSerializer.serializeUrlParams(requestData, u);
     }
-    return HttpRequest.create(
+    HttpRequest httpRequest = HttpRequest.create(
         name, 
         u, 
         httpMethod, 
@@ -77,6 +80,9 @@ public class RestEndpoint<R, A> {
         null, // Body will be serialized by interceptor, so we set it to null here
         serializer,
         deserializer);
+    RequestPriority override = RequestPriority.getOverride();
+    httpRequest.setPriority(override == null ? priority : override);
+    return httpRequest;
   }
   
   /**
@@ -101,7 +107,7 @@ public class RestEndpoint<R, A> {
     dispatchApiEvent(ExchangeEvent.createHttpRequestEvent(httpRequest));
     
     FutureRestResponse<A> callback = new FutureRestResponse<>();
-    httpClient.execute(httpRequest).thenAccept(httpResponse -> {
+    httpClient.execute(httpRequest, httpResponse -> {
       RestResponse<A> response = new RestResponse<>(httpResponse);
       response.setHttpStatus(httpResponse.getResponseCode());
       if (nextPageResolver != null) {
@@ -285,6 +291,30 @@ public class RestEndpoint<R, A> {
     this.weight = weight;
   }
   
+  /**
+   * Returns the priority of requests submitted through this endpoint when they
+   * are throttled by the {@link RequestThrottler}.
+   * 
+   * @return the priority of requests of this endpoint, default is
+   *         {@link RequestPriority#NORMAL}
+   */
+  public RequestPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * Sets the priority of requests submitted through this endpoint when they are
+   * throttled by the {@link RequestThrottler}. Waiting requests with higher
+   * priority are sent first, so critical endpoints (e.g. order placement) should
+   * be given a higher priority than market data polling ones.
+   * 
+   * @param priority the priority to set for this endpoint, <code>null</code>
+   *                 stands for {@link RequestPriority#NORMAL}
+   */
+  public void setPriority(RequestPriority priority) {
+    this.priority = RequestPriority.orDefault(priority);
+  }
+  
   /**
    * Returns the {@link ExchangeObserver} used by this endpoint to dispatch events.
    * 
@@ -1,31 +1,62 @@
 package org.jxapi.netutils.rest.javanet;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpRequest.Builder;
+import java.net.http.HttpResponse.BodyHandler;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscribers;
 import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
+import org.apache.commons.lang3.StringUtils;
 import org.jxapi.netutils.rest.AbstractHttpRequestExecutor;
 import org.jxapi.netutils.rest.FutureHttpResponse;
 import org.jxapi.netutils.rest.HttpRequest;
 import org.jxapi.netutils.rest.HttpRequestExecutor;
 import org.jxapi.netutils.rest.HttpResponse;
+import org.jxapi.util.ExecutorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A {@link HttpRequestExecutor} implementation relying on {@link java.net.http.HttpClient}
+ * <p>
+ * Response bodies are received as raw bytes (see
+ * {@link HttpResponse#setBodyBytes(byte[])}), decoded to a string only if needed.
+ * When streaming is enabled (see {@link #setStreamingResponseBody(boolean)}),
+ * successful response bodies of requests with a response deserializer are
+ * exposed as a stream (see {@link HttpResponse#setBodyStream(InputStream)})
+ * so that they are deserialized while received, without being retained.
+ * <p>
+ * Responses are completed in thread that received them, unless a callback
+ * executor is set, see {@link #setCallbackExecutor(Executor)}. Without callback
+ * executor, streamed responses are completed in a separate executor rather than
+ * in threads of {@link HttpClient} executor, as reading their body blocks until
+ * it is received by these threads.
+ * <p>
+ * HTTP/2 is preferred by default, connections falling back to HTTP/1.1 when
+ * server does not support it. With HTTP/2, concurrent requests to same host are
+ * multiplexed on a single connection. Preferred version and connect timeout can
+ * be set at construction, see
+ * {@link #JavaNetHttpRequestExecutor(String, ExecutorFactory, java.net.http.HttpClient.Version, Duration)}.
+ * Connections can be established ahead of first request, see
+ * {@link #preconnect(String)}. Idle connections keep-alive timeout is set
+ * JVM-wide by <code>jdk.httpclient.keepalive.timeout</code> system property.
  *
  *@see HttpClient
  */
@@ -41,6 +72,17 @@ public class JavaNetHttpRequestExecutor extends AbstractHttpRequestExecutor {
 
   private final boolean ownsExecutor;
   
+  private final String name;
+  
+  private final ExecutorFactory executorFactory;
+  
+  // Completes streamed responses when there is no callback executor, created lazily, guarded by this
+  private ExecutorService streamingExecutor;
+  
+  private volatile boolean streamingResponseBody;
+  
+  private volatile Executor callbackExecutor;
+  
   /**
    * Creates a new {@link ExecutorService} for use with
    * {@link java.net.http.HttpClient}
@@ -64,15 +106,59 @@ public class JavaNetHttpRequestExecutor extends AbstractHttpRequestExecutor {
    * @param name The name prefix to use for threads created by the internal executor service
    */
   public JavaNetHttpRequestExecutor(String name) {
-    this(createJavaNetHttpClientExecutorService(name));
+    this(name, ExecutorFactory.PLATFORM, createJavaNetHttpClientExecutorService(name), null, null);
   }
   
-  private JavaNetHttpRequestExecutor(ExecutorService executorService) {
-	this(java.net.http.HttpClient.newBuilder()
-	         .executor(executorService)
-	         .build(), 
-	     executorService, 
-	     true);
+  /**
+   * Creates a new instance of this class. Will create and manage its own
+   * HttpClient, with an ExecutorService created by given factory.
+   * @param name            The name prefix to use for threads created by the internal executor service
+   * @param executorFactory The factory of internal executor service, created as an I/O executor 
+   *                        (see {@link ExecutorFactory#createIoExecutor(String, boolean)}), for 
+   *                        instance to use virtual threads
+   */
+  public JavaNetHttpRequestExecutor(String name, ExecutorFactory executorFactory) {
+    this(name, executorFactory, executorFactory.createIoExecutor(name, false), null, null);
+  }
+  
+  /**
+   * Creates a new instance of this class. Will create and manage its own
+   * HttpClient, with an ExecutorService created by given factory.
+   * @param name            The name prefix to use for threads created by the internal executor service
+   * @param executorFactory The factory of internal executor service, created as an I/O executor 
+   *                        (see {@link ExecutorFactory#createIoExecutor(String, boolean)}), for 
+   *                        instance to use virtual threads
+   * @param version         The preferred HTTP protocol version. <code>null</code> means 
+   *                        {@link java.net.http.HttpClient.Version#HTTP_2}, falling back to
+   *                        HTTP/1.1 when not supported by server.
+   * @param connectTimeout  The timeout for establishing connections. <code>null</code> means no 
+   *                        connect timeout, other than request timeout.
+   */
+  public JavaNetHttpRequestExecutor(String name, 
+                                    ExecutorFactory executorFactory, 
+                                    java.net.http.HttpClient.Version version,
+                                    Duration connectTimeout) {
+    this(name, executorFactory, executorFactory.createIoExecutor(name, false), version, connectTimeout);
+  }
+  
+  private JavaNetHttpRequestExecutor(String name,
+                                     ExecutorFactory executorFactory,
+                                     ExecutorService executorService, 
+                                     java.net.http.HttpClient.Version version,
+                                     Duration connectTimeout) {
+    this(createHttpClient(executorService, version, connectTimeout), executorService, true, name, executorFactory);
+  }
+  
+  private static HttpClient createHttpClient(ExecutorService executorService, 
+                                             java.net.http.HttpClient.Version version,
+                                             Duration connectTimeout) {
+    java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder()
+        .executor(executorService)
+        .version(Optional.ofNullable(version).orElse(java.net.http.HttpClient.Version.HTTP_2));
+    if (connectTimeout != null) {
+      builder.connectTimeout(connectTimeout);
+    }
+    return builder.build();
   }
 
   /**
@@ -84,17 +170,23 @@ public class JavaNetHttpRequestExecutor extends AbstractHttpRequestExecutor {
    *                        when no longer needed.
    */
   public JavaNetHttpRequestExecutor(HttpClient httpClient, ExecutorService executorService) {
-    this(httpClient, executorService, false);
+    this(httpClient, executorService, false, JavaNetHttpRequestExecutor.class.getSimpleName() + "-", ExecutorFactory.PLATFORM);
   }
   
   /**
    * Creates a new instance of this class.
    * @param httpClient The {@link HttpClient} to use for requests
    */
-  private JavaNetHttpRequestExecutor(HttpClient httpClient, ExecutorService executorService, boolean ownsExecutor) {
+  private JavaNetHttpRequestExecutor(HttpClient httpClient, 
+                                     ExecutorService executorService, 
+                                     boolean ownsExecutor, 
+                                     String name,
+                                     ExecutorFactory executorFactory) {
     this.httpClient = httpClient;
     this.executorService = executorService;
     this.ownsExecutor = ownsExecutor;
+    this.name = name;
+    this.executorFactory = executorFactory;
   }
 
   @Override
@@ -116,13 +208,13 @@ public class JavaNetHttpRequestExecutor extends AbstractHttpRequestExecutor {
         builder.GET();
         break;
       case POST:
-        builder.POST(BodyPublishers.ofString(Optional.ofNullable(request.getBody()).orElse("")));
+        builder.POST(createBodyPublisher(request));
         break;
       case DELETE:
-        builder.method("DELETE", BodyPublishers.ofString(Optional.ofNullable(request.getBody()).orElse("")));
+        builder.method("DELETE", createBodyPublisher(request));
         break;
       case PUT:
-        builder.PUT(BodyPublishers.ofString(Optional.ofNullable(request.getBody()).orElse("")));
+        builder.PUT(createBodyPublisher(request));
         break;
       default:
         throw new IllegalArgumentException("Unexpected verb:[" + request.getHttpMethod() + "] for request:" + request);
@@ -136,25 +228,19 @@ public class JavaNetHttpRequestExecutor extends AbstractHttpRequestExecutor {
         }
       }
       
-      httpClient.sendAsync(builder.build(), BodyHandlers.ofString())
-      .handleAsync((r, error) -> {
-        try {
-          if (error != null) {
-            throw new ExecutionException(error);
-          }
-          response.setResponseCode(r.statusCode());
-          response.setHeaders(r.headers().map());
-          response.setBody(r.body());
-          response.setTime(new Date());
-          log.debug("Got response to request:[{}], response[{}]", request, response);
-        } catch (Exception ex) {
-          log.error("Error executing request:" + request, ex);
-          response.setException(ex);
-        } finally {
-          callback.complete(response);
-        }
-        return null; // Return value is ignored
-      }, executorService);
+      boolean streaming = isStreaming(request);
+      CompletableFuture<java.net.http.HttpResponse<Object>> sent = httpClient.sendAsync(builder.build(), createBodyHandler(streaming));
+      BiConsumer<java.net.http.HttpResponse<Object>, Throwable> handler = (r, error) -> handleResponse(r, error, response, callback);
+      Executor executor = callbackExecutor;
+      if (executor == null && streaming) {
+        // Body stream is read when response is completed, which would block HttpClient thread that should receive it
+        executor = getStreamingExecutor();
+      }
+      if (executor == null) {
+        sent.whenComplete(handler);
+      } else {
+        sent.whenCompleteAsync(handler, executor);
+      }
     } catch (Exception e) {
       response.setException(e);
       callback.complete(response);
@@ -162,6 +248,165 @@ public class JavaNetHttpRequestExecutor extends AbstractHttpRequestExecutor {
     return callback;
   }
   
+  private void handleResponse(java.net.http.HttpResponse<Object> r, 
+                              Throwable error, 
+                              HttpResponse response, 
+                              FutureHttpResponse callback) {
+    HttpRequest request = response.getRequest();
+    try {
+      if (error != null) {
+        throw new ExecutionException(error);
+      }
+      response.setResponseCode(r.statusCode());
+      response.setHeaders(r.headers().map());
+      Object body = r.body();
+      if (body instanceof InputStream) {
+        response.setBodyStream((InputStream) body);
+      } else {
+        response.setBodyBytes((byte[]) body);
+      }
+      response.setTime(new Date());
+      log.debug("Got response to request:[{}], response[{}]", request, response);
+    } catch (Exception ex) {
+      log.error("Error executing request:" + request, ex);
+      response.setException(ex);
+    } finally {
+      callback.complete(response);
+    }
+  }
+  
+  private static BodyPublisher createBodyPublisher(HttpRequest request) {
+    // Body serialized to bytes is published as is, without string re-encoding
+    byte[] bodyBytes = request.getBodyBytes();
+    if (bodyBytes != null) {
+      return BodyPublishers.ofByteArray(bodyBytes);
+    }
+    return BodyPublishers.ofString(Optional.ofNullable(request.getBody()).orElse(""));
+  }
+  
+  private boolean isStreaming(HttpRequest request) {
+    return streamingResponseBody && request.getResponseDeserializer() != null;
+  }
+  
+  private synchronized Executor getStreamingExecutor() {
+    checkNotDisposed();
+    if (streamingExecutor == null) {
+      // Name may already end with separator, e.g. exchange HTTP client names
+      streamingExecutor = executorFactory.createIoExecutor(StringUtils.removeEnd(name, "-") + "-streaming-", true);
+    }
+    return streamingExecutor;
+  }
+  
+  private static BodyHandler<Object> createBodyHandler(boolean streaming) {
+    return responseInfo -> {
+      if (streaming && HttpResponse.isStatusCodeOk(responseInfo.statusCode())) {
+        return BodySubscribers.mapping(BodySubscribers.ofInputStream(), in -> in);
+      }
+      return BodySubscribers.mapping(BodySubscribers.ofByteArray(), bytes -> bytes);
+    };
+  }
+  
+  /**
+   * Sends a <code>HEAD</code> request to given URL, with body discarded, to
+   * establish connection to its host ahead of first request. Connection is then
+   * kept alive in pool of underlying {@link HttpClient} and reused by subsequent
+   * requests to same host. Any response status is considered as success, as
+   * connection was established anyway.
+   */
+  @Override
+  public CompletableFuture<Void> preconnect(String url) {
+    checkNotDisposed();
+    try {
+      Builder builder = java.net.http.HttpRequest.newBuilder()
+                                                 .uri(new URI(url))
+                                                 .method("HEAD", BodyPublishers.noBody());
+      long requestTimeout = getRequestTimeout();
+      if (requestTimeout > 0) {
+        builder.timeout(Duration.ofMillis(requestTimeout));
+      }
+      log.debug("Pre-connecting to {}", url);
+      return httpClient.sendAsync(builder.build(), BodyHandlers.discarding())
+                       .thenAccept(r -> log.debug("Pre-connected to {} using {}, status:{}", url, r.version(), r.statusCode()));
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+  
+  /**
+   * @return the preferred HTTP protocol version of requests, see
+   *         {@link java.net.http.HttpClient#version()}
+   */
+  public java.net.http.HttpClient.Version getHttpVersion() {
+    return httpClient.version();
+  }
+  
+  /**
+   * @return the timeout for establishing connections, empty if none, see
+   *         {@link java.net.http.HttpClient#connectTimeout()}
+   */
+  public Optional<Duration> getConnectTimeout() {
+    return httpClient.connectTimeout();
+  }
+  
+  /**
+   * @return the executor responses are completed with, see
+   *         {@link #setCallbackExecutor(Executor)}. <code>null</code> means
+   *         same thread.
+   */
+  public Executor getCallbackExecutor() {
+    return callbackExecutor;
+  }
+
+  /**
+   * Sets the executor in which responses are completed, hence in which response
+   * interception, deserialization and callbacks of caller run, see
+   * {@link org.jxapi.netutils.rest.HttpClient#execute(HttpRequest, java.util.function.Consumer)}.
+   * <p>
+   * Default is <code>null</code>, meaning responses are completed in thread of
+   * {@link java.net.http.HttpClient} executor that received them, without any
+   * additional thread hop. Streamed responses (see
+   * {@link #setStreamingResponseBody(boolean)}) are then completed in an
+   * executor created for that purpose instead. A dedicated executor can be set so that slow callbacks
+   * do not delay processing of other responses, for instance a pool of bounded
+   * size or an executor running each task in a new virtual thread.
+   * 
+   * @param callbackExecutor the executor to complete responses in, or
+   *                         <code>null</code> for same thread.
+   */
+  public void setCallbackExecutor(Executor callbackExecutor) {
+    this.callbackExecutor = callbackExecutor;
+  }
+  
+  /**
+   * @return <code>true</code> if successful response bodies of requests with a
+   *         response deserializer are exposed as a stream, see
+   *         {@link #setStreamingResponseBody(boolean)}
+   */
+  public boolean isStreamingResponseBody() {
+    return streamingResponseBody;
+  }
+
+  /**
+   * Enables streaming of successful response bodies of requests with a response
+   * deserializer: body is exposed as a stream (see
+   * {@link HttpResponse#setBodyStream(InputStream)}) consumed by response
+   * deserializer while it is received, which avoids buffering large bodies.
+   * Body is then not retained, unless read with {@link HttpResponse#getBody()}
+   * before deserialization, for instance for logging purpose.
+   * <p>
+   * Response interceptor of client is responsible for consuming stream, see
+   * {@link org.jxapi.netutils.rest.HttpRequestUtil#deserializeResponseBody(HttpResponse)}.
+   * As reading stream blocks until body is received by threads of
+   * {@link HttpClient} executor, streamed responses are completed in callback
+   * executor (see {@link #setCallbackExecutor(Executor)}) or, if none is set,
+   * in an executor created by this instance.
+   * 
+   * @param streamingResponseBody <code>true</code> to enable streaming
+   */
+  public void setStreamingResponseBody(boolean streamingResponseBody) {
+    this.streamingResponseBody = streamingResponseBody;
+  }
+  
   /**
    * Subclasses must override this method to implement actual resource disposal.
    */
@@ -171,6 +416,11 @@ public class JavaNetHttpRequestExecutor extends AbstractHttpRequestExecutor {
       log.info("Shutting down executor service for JavaNetHttpRequestExecutor:{}", this);
       executorService.shutdownNow();
     }
+    synchronized (this) {
+      if (streamingExecutor != null) {
+        streamingExecutor.shutdown();
+      }
+    }
   }
   
 
@@ -0,0 +1,56 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@link RateLimitStateStorage} backed by an {@link AtomicLongArray}, for rate
+ * limits enforced within current process only.
+ */
+public class InMemoryRateLimitStateStorage implements RateLimitStateStorage {
+
+  private final AtomicLongArray cells;
+
+  /**
+   * Constructor.
+   * 
+   * @param initialState initial values of cells
+   */
+  public InMemoryRateLimitStateStorage(long[] initialState) {
+    this.cells = new AtomicLongArray(initialState);
+  }
+
+  @Override
+  public int size() {
+    return cells.length();
+  }
+
+  @Override
+  public long get(int index) {
+    return cells.get(index);
+  }
+
+  @Override
+  public void set(int index, long value) {
+    cells.set(index, value);
+  }
+
+  @Override
+  public boolean compareAndSet(int index, long expected, long value) {
+    return cells.compareAndSet(index, expected, value);
+  }
+
+  @Override
+  public long getAndSet(int index, long value) {
+    return cells.getAndSet(index, value);
+  }
+
+  @Override
+  public long addAndGet(int index, long delta) {
+    return cells.addAndGet(index, delta);
+  }
+
+  @Override
+  public boolean isShared() {
+    return false;
+  }
+}
@@ -0,0 +1,208 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link RateLimitStateStorage} backed by a memory-mapped file, so that
+ * processes of same host mapping same file share rate limit state, hence a
+ * common budget, without any network service.
+ * <p>
+ * Cells are accessed with atomic operations of a {@link VarHandle} viewing
+ * mapped buffer as a <code>long</code> array, which are atomic across
+ * processes as well. File starts with a header holding initialization status,
+ * signature and size of state, see
+ * {@link #open(Path, long, long[])}.
+ * <p>
+ * Processes sharing a file are expected to use same rule definition: a process
+ * opening file with a distinct signature resets its state, which corrupts
+ * state of processes still using it. Hence
+ * {@link MappedFileRateLimitStateStorageFactory} includes signature in file
+ * name.
+ * <p>
+ * Mapping is released by {@link #close()}. As JDK offers no way to unmap a
+ * buffer explicitly, it is then unmapped once garbage collected, and this
+ * storage cannot be used anymore.
+ */
+public class MappedFileRateLimitStateStorage implements RateLimitStateStorage {
+
+  private static final VarHandle CELLS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+  private static final int STATUS_INDEX = 0;
+  private static final int SIGNATURE_INDEX = 1;
+  private static final int SIZE_INDEX = 2;
+  private static final int HEADER_SIZE = 4;
+
+  // Status of a file being created, other values than READY are start time of initialization
+  private static final long NEW = 0L;
+  private static final long READY = -1L;
+
+  /**
+   * Delay in ms after which initialization of file by another process is
+   * considered aborted, for instance because that process was killed.
+   */
+  static final long INITIALIZATION_TIMEOUT = 1000L;
+
+  /**
+   * Opens or creates file holding rate limit state.
+   * <ul>
+   * <li>If file holds state with given signature and size, it is reused as
+   * is.</li>
+   * <li>Otherwise state is reset to given initial state. While a process resets
+   * state, other processes opening same file wait for it to complete.</li>
+   * </ul>
+   * 
+   * @param file         the file to map, created if it does not exist
+   * @param signature    identifies layout of state
+   * @param initialState initial values of cells
+   * @return the storage mapped to file
+   * @throws IllegalStateException if file cannot be mapped
+   */
+  public static MappedFileRateLimitStateStorage open(Path file, long signature, long[] initialState) {
+    MappedByteBuffer buffer;
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      try (FileChannel channel = FileChannel.open(file, 
+                                                  StandardOpenOption.CREATE, 
+                                                  StandardOpenOption.READ, 
+                                                  StandardOpenOption.WRITE)) {
+        // Mapping extends file when it is too small, a mapped buffer remains valid once channel is closed
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, (long) Long.BYTES * (HEADER_SIZE + initialState.length));
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not map rate limit state file:" + file, e);
+    }
+    MappedFileRateLimitStateStorage storage = new MappedFileRateLimitStateStorage(file, buffer, initialState.length);
+    storage.initialize(signature, initialState);
+    return storage;
+  }
+
+  private final Path file;
+  // null once closed
+  private volatile MappedByteBuffer buffer;
+  private final int size;
+
+  private MappedFileRateLimitStateStorage(Path file, MappedByteBuffer buffer, int size) {
+    this.file = file;
+    this.buffer = buffer;
+    this.size = size;
+  }
+
+  private void initialize(long signature, long[] initialState) {
+    MappedByteBuffer mapped = buffer();
+    for (;;) {
+      long status = getCell(STATUS_INDEX);
+      long now = System.currentTimeMillis();
+      if (status == READY) {
+        if (getCell(SIGNATURE_INDEX) == signature && getCell(SIZE_INDEX) == size) {
+          return;
+        }
+      } else if (status != NEW && now - status < INITIALIZATION_TIMEOUT) {
+        // Another process is initializing file
+        Thread.onSpinWait();
+        continue;
+      }
+      // Timestamp identifies this initialization, in case it is taken over by another process after timeout
+      long initTime = Math.max(now, status + 1);
+      if (CELLS.compareAndSet(mapped, offset(STATUS_INDEX), status, initTime)) {
+        for (int i = 0; i < size; i++) {
+          set(i, initialState[i]);
+        }
+        CELLS.setVolatile(mapped, offset(SIGNATURE_INDEX), signature);
+        CELLS.setVolatile(mapped, offset(SIZE_INDEX), (long) size);
+        if (CELLS.compareAndSet(mapped, offset(STATUS_INDEX), initTime, READY)) {
+          return;
+        }
+      }
+    }
+  }
+
+  private long getCell(int headerIndex) {
+    return (long) CELLS.getVolatile(buffer(), offset(headerIndex));
+  }
+  
+  private MappedByteBuffer buffer() {
+    MappedByteBuffer b = buffer;
+    if (b == null) {
+      throw new IllegalStateException("Rate limit state storage is closed:" + file);
+    }
+    return b;
+  }
+
+  private static int offset(int cellIndex) {
+    return cellIndex * Long.BYTES;
+  }
+
+  private static int stateOffset(int index) {
+    return offset(HEADER_SIZE + index);
+  }
+
+  /**
+   * @return the file this storage is mapped to
+   */
+  public Path getFile() {
+    return file;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public long get(int index) {
+    return (long) CELLS.getVolatile(buffer(), stateOffset(index));
+  }
+
+  @Override
+  public void set(int index, long value) {
+    CELLS.setVolatile(buffer(), stateOffset(index), value);
+  }
+
+  @Override
+  public boolean compareAndSet(int index, long expected, long value) {
+    return CELLS.compareAndSet(buffer(), stateOffset(index), expected, value);
+  }
+
+  @Override
+  public long getAndSet(int index, long value) {
+    return (long) CELLS.getAndSet(buffer(), stateOffset(index), value);
+  }
+
+  @Override
+  public long addAndGet(int index, long delta) {
+    return (long) CELLS.getAndAdd(buffer(), stateOffset(index), delta) + delta;
+  }
+
+  @Override
+  public boolean isShared() {
+    return true;
+  }
+  
+  /**
+   * @return <code>true</code> if this storage has been closed, see
+   *         {@link #close()}
+   */
+  public boolean isClosed() {
+    return buffer == null;
+  }
+
+  /**
+   * Releases mapping of file, which is unmapped once garbage collected. Further
+   * access to state throws {@link IllegalStateException}.
+   */
+  @Override
+  public void close() {
+    buffer = null;
+  }
+}
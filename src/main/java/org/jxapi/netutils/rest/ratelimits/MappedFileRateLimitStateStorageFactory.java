@@ -0,0 +1,72 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import java.nio.file.Path;
+
+/**
+ * {@link RateLimitStateStorageFactory} creating
+ * {@link MappedFileRateLimitStateStorage} instances, one file per rate limit
+ * rule in a given directory. File name is made of a key and rule id, so that
+ * processes using same key, for instance an identifier of API key used to
+ * authenticate, share one budget for each rule.
+ * <p>
+ * File name also holds signature of state layout, which changes with rule time
+ * frame or granularity. Processes using distinct definitions of a rule hence
+ * map distinct files, so a process never resets a file that other live
+ * processes use with another layout. Files of layouts no longer used are left
+ * in directory, and may be deleted once no process uses them.
+ */
+public class MappedFileRateLimitStateStorageFactory implements RateLimitStateStorageFactory {
+  
+  /**
+   * Extension of rate limit state files
+   */
+  public static final String FILE_EXTENSION = ".ratelimit";
+
+  private final Path directory;
+  
+  private final String key;
+
+  /**
+   * Constructor.
+   * 
+   * @param directory the directory where state files are created
+   * @param key       the key shared by processes sharing same rate limits budget
+   */
+  public MappedFileRateLimitStateStorageFactory(Path directory, String key) {
+    this.directory = directory;
+    this.key = key;
+  }
+
+  @Override
+  public RateLimitStateStorage create(String ruleId, long signature, long[] initialState) {
+    return MappedFileRateLimitStateStorage.open(getFile(ruleId, signature), signature, initialState);
+  }
+  
+  /**
+   * @param ruleId    the id of a rate limit rule
+   * @param signature the signature of layout of rule state, see
+   *                  {@link RateLimitStateStorageFactory#create(String, long, long[])}
+   * @return the file holding state of rule with given id and layout
+   */
+  public Path getFile(String ruleId, long signature) {
+    return directory.resolve(toFileName(key) + "-" + toFileName(ruleId) + "-" + Long.toHexString(signature) + FILE_EXTENSION);
+  }
+  
+  /**
+   * @return the directory where state files are created
+   */
+  public Path getDirectory() {
+    return directory;
+  }
+  
+  /**
+   * @return the key shared by processes sharing same rate limits budget
+   */
+  public String getKey() {
+    return key;
+  }
+  
+  private static String toFileName(String s) {
+    return String.valueOf(s).replaceAll("[^A-Za-z0-9._-]", "_");
+  }
+}
@@ -0,0 +1,52 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import org.jxapi.netutils.rest.HttpResponse;
+import org.jxapi.netutils.rest.HttpResponseInterceptor;
+
+/**
+ * {@link HttpResponseInterceptor} feeding rate limits usage reported by server
+ * in responses back to a {@link RequestThrottler} (see
+ * {@link RequestThrottler#handleResponse(HttpResponse)}), before delegating to
+ * another interceptor, typically the one deserializing response body.
+ */
+public class RateLimitFeedbackResponseInterceptor implements HttpResponseInterceptor {
+  
+  private final RequestThrottler throttler;
+  
+  private final HttpResponseInterceptor delegate;
+
+  /**
+   * Constructor.
+   * 
+   * @param throttler the throttler to feed with responses
+   * @param delegate  the interceptor to delegate to afterwards, may be
+   *                  <code>null</code>
+   */
+  public RateLimitFeedbackResponseInterceptor(RequestThrottler throttler, HttpResponseInterceptor delegate) {
+    this.throttler = throttler;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void intercept(HttpResponse response) {
+    throttler.handleResponse(response);
+    if (delegate != null) {
+      delegate.intercept(response);
+    }
+  }
+  
+  /**
+   * @return the throttler fed with responses
+   */
+  public RequestThrottler getThrottler() {
+    return throttler;
+  }
+  
+  /**
+   * @return the interceptor delegated to, may be <code>null</code>
+   */
+  public HttpResponseInterceptor getDelegate() {
+    return delegate;
+  }
+
+}
@@ -1,17 +1,55 @@
 package org.jxapi.netutils.rest.ratelimits;
 
-import java.util.Iterator;
-import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Keeps track of state of a given {@link RateLimitRule} to enforce over time.
+ * <p>
+ * State is kept in a ring buffer of time slots covering the rule rolling time
+ * frame, one slot per granularity period (see
+ * {@link RateLimitRule#getGranularity()}), along with running totals of request
+ * count and weight of all slots within time frame. Slots falling out of time
+ * frame are recycled and their counters subtracted from running totals as time
+ * goes by. Hence:
+ * <ul>
+ * <li>Admission of a request (see {@link #requestCall(long, int)}) is
+ * performed in constant time and does not allocate any object. Only computing
+ * the delay to wait for when limit is reached requires to look up oldest call
+ * within time frame.</li>
+ * <li>Counters are updated using compare and set operations, without locking,
+ * so this class can be safely called concurrently from several threads.</li>
+ * </ul>
+ * The count of slots is capped to {@link #MAX_SLOT_COUNT}. For rules with a
+ * time frame longer than that count of granularity periods, a coarser slot
+ * width is used, which is conservative: calls are accounted for up to one slot
+ * width longer than rule time frame.
+ * <p>
+ * Slots and totals are kept in a {@link RateLimitStateStorage}, created by
+ * {@link RateLimitStateStorageFactory} given at construction. It may be shared
+ * by several processes, which then enforce rule within a common budget. When
+ * rule time frame or granularity change, a new storage is created for the new
+ * layout of state. Former storage may still be used by threads that read
+ * former state before the change, so it is closed along with current one by
+ * {@link #close()}.
+ * <p>
+ * Running totals and slot of a call are updated by two distinct atomic
+ * operations. A process sharing storage that is killed between them leaves a
+ * call counted in totals but in no slot, which is never subtracted: budget of
+ * rule is reduced by that call until storage is reset, for instance by
+ * deleting its file while no process uses it.
  */
 public class RateLimitManager {
-  
+
+  /**
+   * Maximum count of time slots used to keep track of calls within rule time
+   * frame.
+   */
+  public static final int MAX_SLOT_COUNT = 8192;
+
   /**
    * Checks if given rate limit is reached for given request count and weight.
-   * 
+   *
    * @param rateLimit the rate limit rule to check against.
    * @param requestCount is rate limit reached for given request count?
    * @param weight is rate limit reached for given weight?
@@ -30,39 +68,87 @@ public class RateLimitManager {
     return totalWeight >= 0 && weight >=0 && weight > totalWeight;
   }
 
+  /**
+   * Checks if given rate limit is reached for given request count and weight,
+   * when only a ratio of rate limit capacity can be used, for instance because
+   * the rest is reserved for requests with higher priority.
+   *
+   * @param rateLimit     the rate limit rule to check against.
+   * @param requestCount  request count within time frame, including request to
+   *                      send.
+   * @param totalWeight   cumulated weight within time frame, including request
+   *                      to send.
+   * @param weight        weight of request to send.
+   * @param capacityRatio ratio, between 0 and 1, of max request count and max
+   *                      total weight of rule that can be used. Usable capacity
+   *                      is never lower than a single request, so a request
+   *                      can always be sent when no call is counted within time
+   *                      frame.
+   * @return <code>true</code> if rate limit reduced to given ratio is reached.
+   */
+  public static boolean isLimitReached(RateLimitRule rateLimit, int requestCount, int totalWeight, int weight, double capacityRatio) {
+    if (capacityRatio >= 1.0) {
+      return isLimitReached(rateLimit, requestCount, totalWeight);
+    }
+    double ratio = Math.max(0.0, capacityRatio);
+    int maxRequestCount = rateLimit.getMaxRequestCount();
+    if (maxRequestCount >= 0 && requestCount > Math.max(1, (int) (maxRequestCount * ratio))) {
+      return true;
+    }
+    int maxTotalWeight = rateLimit.getMaxTotalWeight();
+    return maxTotalWeight >= 0 && totalWeight > Math.max(weight, (int) (maxTotalWeight * ratio));
+  }
+
   private final RateLimitRule rateLimit;
   
-  private final TreeMap<Long, TimeStat> timeStats = new TreeMap<>();
+  private final RateLimitStateStorageFactory storageFactory;
+
+  private volatile SlidingWindow window;
   
+  // Windows replaced upon rule change, guarded by this
+  private final List<SlidingWindow> retiredWindows = new ArrayList<>();
+
   /**
-   * Creates a new rate limit manager for given rate limit rule.
-   * 
+   * Creates a new rate limit manager for given rate limit rule, keeping its
+   * state in memory.
+   *
    * @param limit the rate limit rule to enforce.
    */
   public RateLimitManager(RateLimitRule limit) {
+    this(limit, RateLimitStateStorageFactory.IN_MEMORY);
+  }
+
+  /**
+   * Creates a new rate limit manager for given rate limit rule.
+   *
+   * @param limit          the rate limit rule to enforce.
+   * @param storageFactory the factory of storage for state of rule.
+   */
+  public RateLimitManager(RateLimitRule limit, RateLimitStateStorageFactory storageFactory) {
     this.rateLimit = limit;
+    this.storageFactory = storageFactory;
   }
-  
+
   /**
    * @return the rate limit rule this manager enforces.
    */
   public RateLimitRule getRule() {
     return rateLimit;
   }
-  
+
   /**
    * To be called before issuing a request to an API subject to rate limit. Will
    * return 0 if request can be sent immediately, in this case state is updated to
    * count one more call at current timestamp. Otherwise, returns a delay in ms
    * that corresponds to minimum time to wait for before retrying. Another call to
    * {@link #requestCall()} should be performed then, until 0 is returned.
-   * 
+   *
    * @return 0 if request can be sent immediately, a delay in ms to wait before retrying otherwise.
    */
   public long requestCall() {
     return requestCall(0);
   }
-  
+
   /**
    * Same as {@link #requestCall()} but using weighted request
    * @param weight the weight of request to send. 0 if request is not a weighted rule.
@@ -71,89 +157,409 @@ public class RateLimitManager {
   public long requestCall(int weight) {
     return requestCall(System.currentTimeMillis(), weight);
   }
-  
+
   /**
    * Same as {@link #requestCall()} but using weighted request and providing
    * current timestamp (this method is for testing purpose and client
    * implementation should call {@link #requestCall(int)} or
    * {@link #requestCall()} that will use current timestamp.
-   * 
+   *
    * @param now    the current time in ms.
    * @param weight the weight of request to send.
    * @return 0 if request can be sent immediately, a delay in ms to wait before
    *         retrying otherwise.
    */
   public long requestCall(long now, int weight) {
-    now = now - now % rateLimit.getGranularity();
-    long minDelayBeforeNextPossibleCall = getMinDelayBeforeNextPossibleCall(now, weight);
-    if (minDelayBeforeNextPossibleCall <= 0) {
-      TimeStat mss = getTimeStat(now);
-      mss.requestCount++;
-      mss.totalWeight += weight;
+    return requestCall(now, weight, 1.0);
+  }
+
+  /**
+   * Same as {@link #requestCall(long, int)} but only a ratio of rule capacity
+   * can be used, see
+   * {@link #isLimitReached(RateLimitRule, int, int, int, double)}.
+   *
+   * @param now           the current time in ms.
+   * @param weight        the weight of request to send.
+   * @param capacityRatio ratio, between 0 and 1, of rule capacity that can be
+   *                      used by request.
+   * @return 0 if request can be sent immediately, a delay in ms to wait before
+   *         retrying otherwise.
+   */
+  public long requestCall(long now, int weight, double capacityRatio) {
+    return Math.max(0L, acquireCall(now, weight, capacityRatio));
+  }
+
+  /**
+   * Same as {@link #requestCall(long, int, double)} but returns a token
+   * identifying accepted call, that can be given to
+   * {@link #cancelCall(long, int)} to cancel it.
+   *
+   * @param now           the current time in ms, positive.
+   * @param weight        the weight of request to send.
+   * @param capacityRatio ratio, between 0 and 1, of rule capacity that can be
+   *                      used by request.
+   * @return a negative call token if request can be sent immediately, a delay
+   *         in ms to wait before retrying otherwise.
+   */
+  public long acquireCall(long now, int weight, double capacityRatio) {
+    checkWeight(weight);
+    return getWindow().requestCall(now, weight, capacityRatio, true);
+  }
+
+  /**
+   * Cancels a call previously accepted by
+   * {@link #acquireCall(long, int, double)}, for instance because request was
+   * eventually not sent as another rate limit applicable to it is reached. Call
+   * is removed from the time slot it was counted in, provided that slot is
+   * still within rolling time frame.
+   *
+   * @param callToken the token returned by
+   *                  {@link #acquireCall(long, int, double)} for call to
+   *                  cancel.
+   * @param weight    the weight of call to cancel.
+   * @throws IllegalArgumentException if <code>callToken</code> is not a
+   *                                  token of an accepted call, that is if it
+   *                                  is not negative.
+   */
+  public void cancelCall(long callToken, int weight) {
+    if (callToken >= 0) {
+      throw new IllegalArgumentException("Invalid call token:" + callToken);
     }
-    return minDelayBeforeNextPossibleCall;
+    getWindow().cancelCall(~callToken, weight);
   }
-  
+
   /**
    * @param now the current time in ms.
    * @param weight the weight of request to send.
    * @return the minimum delay in ms before next possible call with given weight.
    */
   public long getMinDelayBeforeNextPossibleCall(long now, int weight) {
-    if (rateLimit.getMaxRequestCount() == 0 || rateLimit.getMaxTotalWeight() >= 0 && weight > rateLimit.getMaxTotalWeight()) {
-      throw new IllegalArgumentException("Cannot submit call with given weight:" + weight + " that is above threshold of:" + rateLimit);
-    }
-    // In msStat map we never add stat that would exceed rate limit so current RateLimitManagerStat for now does not exceed the limit.
-    // But would it if we submit one more request with given weight?
-    RateLimitManagerStat curStat = getCurrentStat(now);
-    if (isLimitReached(rateLimit, curStat.getRequestCount() + 1, curStat.getTotalWeight() + weight)) {
-      int granularity = rateLimit.getGranularity();
-      // Limit is reached. Next call will not be possible at least before time of oldest call within rolling time frame becomes out of rolling time frame
-      // Remark: We add granularity because actual time of oldest call within rolling time frame is not known more precisely than granularity.
-      long oldestCallWithinTimeFrame = timeStats.firstEntry().getKey().longValue() + granularity;
-      long timeElapsedSinceOldestCallWithinTimeFrame = now - oldestCallWithinTimeFrame;
-      return Math.max(granularity, rateLimit.getTimeFrame()) - timeElapsedSinceOldestCallWithinTimeFrame;
-    }
-    return 0L;
+    return getMinDelayBeforeNextPossibleCall(now, weight, 1.0);
+  }
+
+  /**
+   * @param now           the current time in ms.
+   * @param weight        the weight of request to send.
+   * @param capacityRatio ratio, between 0 and 1, of rule capacity that can be
+   *                      used by request, see
+   *                      {@link #requestCall(long, int, double)}.
+   * @return the minimum delay in ms before next possible call with given weight.
+   */
+  public long getMinDelayBeforeNextPossibleCall(long now, int weight, double capacityRatio) {
+    checkWeight(weight);
+    return getWindow().requestCall(now, weight, capacityRatio, false);
   }
   
-  private TimeStat getTimeStat(long now) {
-    return timeStats.computeIfAbsent(now, t -> new TimeStat());
+  /**
+   * Corrects state of this manager with usage of rule within its time frame as
+   * reported by server, for instance in a response header. If reported usage is
+   * greater than usage counted locally, for instance because requests were
+   * sent from another process sharing same limit, the difference is counted as
+   * calls at given time. A lower reported usage is ignored, as it may not
+   * include calls still in flight.
+   * 
+   * @param now  the current time in ms.
+   * @param used usage of rule reported by server: cumulated weight if rule has a
+   *             max total weight, request count otherwise.
+   */
+  public void syncUsage(long now, int used) {
+    getWindow().syncUsage(now, used);
   }
   
   /**
-   * @return the current state of this manager.
+   * Pauses this rule: no call is accepted before given time, for instance
+   * because server answered with HTTP 429 status and a <code>Retry-After</code>
+   * header. Pause can only be extended by subsequent calls.
+   * 
+   * @param time the time in ms until which calls should be delayed.
    */
-  public RateLimitManagerStat getCurrentStat() {
-    return getCurrentStat(System.currentTimeMillis());
+  public void pauseUntil(long time) {
+    getWindow().pauseUntil(time);
   }
   
-  private RateLimitManagerStat getCurrentStat(long now) {
-    purge(now);
+  /**
+   * @return the time in ms until which calls are delayed, see
+   *         {@link #pauseUntil(long)}, {@link Long#MIN_VALUE} if rule has never
+   *         been paused.
+   */
+  public long getPausedUntil() {
+    return getWindow().getPausedUntil();
+  }
+
+  private void checkWeight(int weight) {
+    if (rateLimit.getMaxRequestCount() == 0 || rateLimit.getMaxTotalWeight() >= 0 && weight > rateLimit.getMaxTotalWeight()) {
+      throw new IllegalArgumentException("Cannot submit call with given weight:" + weight + " that is above threshold of:" + rateLimit);
+    }
+  }
+
+  /**
+   * @return the current state of this manager.
+   */
+  public RateLimitManagerStat getCurrentStat() {
+    long now = System.currentTimeMillis();
+    long totals = getWindow().getTotals(now);
     RateLimitManagerStat stat = new RateLimitManagerStat();
     stat.setTime(now);
-    timeStats.forEach((time, mss) -> {
-      stat.setRequestCount(stat.getRequestCount() + mss.requestCount);
-      stat.setTotalWeight(stat.getTotalWeight() + mss.totalWeight);
-    });
+    stat.setRequestCount(SlidingWindow.requestCount(totals));
+    stat.setTotalWeight(SlidingWindow.totalWeight(totals));
     return stat;
   }
 
-  private void purge(long now) {
-    long oldestTime = now - rateLimit.getTimeFrame();
-    for (Iterator<Entry<Long, TimeStat>> it = timeStats.entrySet().iterator(); it.hasNext();) {
-      Entry<Long, TimeStat> entry = it.next();
-      if (entry.getKey() < oldestTime) {
-        it.remove();
-      } else {
-        break;
+  /**
+   * Closes storage of state of this manager, and storages used before rule
+   * time frame or granularity changed, see
+   * {@link RateLimitStateStorage#close()}. This manager should not be used
+   * anymore afterwards.
+   */
+  public synchronized void close() {
+    retiredWindows.forEach(w -> w.storage.close());
+    retiredWindows.clear();
+    SlidingWindow w = window;
+    if (w != null) {
+      w.storage.close();
+    }
+  }
+
+  private SlidingWindow getWindow() {
+    SlidingWindow w = window;
+    if (w == null || !w.matches(rateLimit)) {
+      synchronized (this) {
+        w = window;
+        if (w == null || !w.matches(rateLimit)) {
+          SlidingWindow previous = w;
+          w = new SlidingWindow(rateLimit, storageFactory, previous == null ? Long.MIN_VALUE : previous.getPausedUntil());
+          window = w;
+          if (previous != null) {
+            // Other threads may still be using previous window: its storage is closed by close()
+            retiredWindows.add(previous);
+          }
+        }
       }
     }
+    return w;
   }
 
-  private static class TimeStat {
-    int requestCount;
-    int totalWeight;
+  /**
+   * Ring buffer of time slots with running totals. Request count and weight
+   * are packed in a single <code>long</code>, count in high 32 bits and weight
+   * in low 32 bits, so both can be updated with a single compare and set.
+   * <p>
+   * Storage cells hold pause end time, running totals, time up to which slots
+   * were recycled, then time and value of each slot.
+   */
+  private static final class SlidingWindow {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private static final long RECYCLING = Long.MIN_VALUE + 1;
+
+    private static final long ONE_REQUEST = 1L << 32;
+    
+    private static final int PAUSED_UNTIL = 0;
+    private static final int TOTALS = 1;
+    private static final int SWEPT_TIME = 2;
+    private static final int SLOTS = 3;
+    
+    // Delay in ns after which a slot of shared storage left in recycling state is considered abandoned by a killed process
+    private static final long RECYCLING_TIMEOUT = 1_000_000_000L;
+
+    static int requestCount(long packed) {
+      return (int) (packed >>> 32);
+    }
+
+    static int totalWeight(long packed) {
+      return (int) packed;
+    }
+
+    private final RateLimitRule rule;
+    private final int granularity;
+    private final long timeFrame;
+    private final long slotWidth;
+    private final int slotCount;
+    private final RateLimitStateStorage storage;
+
+    SlidingWindow(RateLimitRule rule, RateLimitStateStorageFactory storageFactory, long pausedUntil) {
+      this.rule = rule;
+      this.granularity = rule.getGranularity();
+      this.timeFrame = Math.max(0L, rule.getTimeFrame());
+      long width = granularity;
+      if (timeFrame / width >= MAX_SLOT_COUNT) {
+        width = (timeFrame + MAX_SLOT_COUNT - 2) / (MAX_SLOT_COUNT - 1);
+      }
+      this.slotWidth = width;
+      this.slotCount = (int) (timeFrame / slotWidth) + 1;
+      long[] initialState = new long[SLOTS + 2 * slotCount];
+      initialState[PAUSED_UNTIL] = pausedUntil;
+      initialState[SWEPT_TIME] = EMPTY;
+      for (int i = 0; i < slotCount; i++) {
+        initialState[timeCell(i)] = EMPTY;
+      }
+      this.storage = storageFactory.create(rule.getId(), timeFrame * 31L + slotWidth, initialState);
+    }
+    
+    private int timeCell(int index) {
+      return SLOTS + index;
+    }
+    
+    private int valueCell(int index) {
+      return SLOTS + slotCount + index;
+    }
+
+    boolean matches(RateLimitRule rule) {
+      return rule.getGranularity() == granularity && Math.max(0L, rule.getTimeFrame()) == timeFrame;
+    }
+
+    long requestCall(long now, int weight, double capacityRatio, boolean record) {
+      long paused = getPausedUntil();
+      if (paused > now) {
+        return paused - now;
+      }
+      long slotTime = advance(now - Math.floorMod(now, slotWidth));
+      int w = Math.max(0, weight);
+      long delta = ONE_REQUEST + w;
+      for (;;) {
+        long current = storage.get(TOTALS);
+        if (isLimitReached(rule, requestCount(current) + 1, totalWeight(current) + w, w, capacityRatio)) {
+          return getDelayBeforeOldestCallExpires(slotTime);
+        }
+        if (!record) {
+          return 0L;
+        }
+        if (storage.compareAndSet(TOTALS, current, current + delta)) {
+          storage.addAndGet(valueCell(slotIndex(slotTime)), delta);
+          // Call token identifies slot call was counted in, which may be later than slot of 'now'
+          return ~slotTime;
+        }
+      }
+    }
+
+    void cancelCall(long slotTime, int weight) {
+      long delta = ONE_REQUEST + Math.max(0, weight);
+      int index = slotIndex(slotTime);
+      for (;;) {
+        long value = storage.get(valueCell(index));
+        // Call is not found when its slot has been recycled
+        if (storage.get(timeCell(index)) != slotTime || requestCount(value) == 0) {
+          return;
+        }
+        if (storage.compareAndSet(valueCell(index), value, value - delta)) {
+          storage.addAndGet(TOTALS, -delta);
+          return;
+        }
+      }
+    }
+
+    void syncUsage(long now, int used) {
+      long slotTime = advance(now - Math.floorMod(now, slotWidth));
+      boolean weighted = rule.getMaxTotalWeight() >= 0;
+      for (;;) {
+        long current = storage.get(TOTALS);
+        int missing = used - (weighted ? totalWeight(current) : requestCount(current));
+        if (missing <= 0) {
+          return;
+        }
+        long delta = weighted ? missing : missing * ONE_REQUEST;
+        if (storage.compareAndSet(TOTALS, current, current + delta)) {
+          storage.addAndGet(valueCell(slotIndex(slotTime)), delta);
+          return;
+        }
+      }
+    }
+
+    void pauseUntil(long time) {
+      for (;;) {
+        long current = storage.get(PAUSED_UNTIL);
+        if (current >= time || storage.compareAndSet(PAUSED_UNTIL, current, time)) {
+          return;
+        }
+      }
+    }
+    
+    long getPausedUntil() {
+      return storage.get(PAUSED_UNTIL);
+    }
+
+    long getTotals(long now) {
+      advance(now - Math.floorMod(now, slotWidth));
+      return storage.get(TOTALS);
+    }
+
+    /**
+     * Recycles slots falling out of time frame up to given time and returns the
+     * time of current slot, which is the latest time window was advanced to
+     * when given time is older.
+     */
+    private long advance(long slotTime) {
+      long swept = storage.get(SWEPT_TIME);
+      if (slotTime <= swept) {
+        return swept;
+      }
+      long from = slotTime - (slotCount - 1) * slotWidth;
+      if (swept != EMPTY) {
+        from = Math.max(from, swept + slotWidth);
+      }
+      for (long t = from; t <= slotTime; t += slotWidth) {
+        recycle(slotIndex(t), t);
+      }
+      for (;;) {
+        swept = storage.get(SWEPT_TIME);
+        if (swept >= slotTime) {
+          return swept;
+        }
+        if (storage.compareAndSet(SWEPT_TIME, swept, slotTime)) {
+          return slotTime;
+        }
+      }
+    }
+
+    private void recycle(int index, long slotTime) {
+      long recyclingSince = 0L;
+      for (;;) {
+        long t = storage.get(timeCell(index));
+        if (t == RECYCLING) {
+          if (recyclingSince == 0L) {
+            recyclingSince = System.nanoTime();
+          } else if (storage.isShared() && System.nanoTime() - recyclingSince > RECYCLING_TIMEOUT) {
+            // Process recycling slot was probably killed
+            clearSlot(index, slotTime);
+            return;
+          }
+          Thread.onSpinWait();
+        } else if (t >= slotTime) {
+          return;
+        } else if (storage.compareAndSet(timeCell(index), t, RECYCLING)) {
+          clearSlot(index, slotTime);
+          return;
+        }
+      }
+    }
+    
+    private void clearSlot(int index, long slotTime) {
+      long expired = storage.getAndSet(valueCell(index), 0L);
+      if (expired != 0L) {
+        storage.addAndGet(TOTALS, -expired);
+      }
+      storage.set(timeCell(index), slotTime);
+    }
+
+    private long getDelayBeforeOldestCallExpires(long slotTime) {
+      long oldestCall = slotTime;
+      for (long t = slotTime - (slotCount - 1) * slotWidth; t < slotTime; t += slotWidth) {
+        int index = slotIndex(t);
+        if (storage.get(timeCell(index)) == t && storage.get(valueCell(index)) != 0L) {
+          oldestCall = t;
+          break;
+        }
+      }
+      // Limit is reached. Next call will not be possible at least before time of oldest call within rolling time frame becomes out of rolling time frame
+      // Remark: We add slot width because actual time of oldest call within rolling time frame is not known more precisely than that.
+      long timeElapsedSinceOldestCallWithinTimeFrame = slotTime - (oldestCall + slotWidth);
+      return Math.max(slotWidth, timeFrame) - timeElapsedSinceOldestCallWithinTimeFrame;
+    }
+
+    private int slotIndex(long slotTime) {
+      return (int) Math.floorMod(Math.floorDiv(slotTime, slotWidth), (long) slotCount);
+    }
   }
-  
+
 }
@@ -72,6 +72,8 @@ public class RateLimitRule {
     rule.setMaxRequestCount(Optional.ofNullable(descriptor.getMaxRequestCount()).orElse(-1));
     rule.setMaxTotalWeight(Optional.ofNullable(descriptor.getMaxTotalWeight()).orElse(-1));
     rule.setGranularity(Optional.ofNullable(descriptor.getGranularity()).orElse(DEFAULT_GRANULARITY));
+    rule.setUsedHeader(descriptor.getUsedHeader());
+    rule.setRemainingHeader(descriptor.getRemainingHeader());
     return rule;
   }
   
@@ -99,6 +101,10 @@ public class RateLimitRule {
   
   private int granularity = DEFAULT_GRANULARITY;
   
+  private String usedHeader;
+  
+  private String remainingHeader;
+  
   /**
    * @return Unique identifier of this rule.
    */
@@ -197,6 +203,63 @@ public class RateLimitRule {
     this.granularity = granularity;
   }
   
+  /**
+   * @return the name of HTTP response header where server reports current usage
+   *         of this rule within its time frame: cumulated weight for a weighted
+   *         rule, request count otherwise. May be <code>null</code>.
+   * @see RequestThrottler#handleResponse(org.jxapi.netutils.rest.HttpResponse)
+   */
+  public String getUsedHeader() {
+    return usedHeader;
+  }
+
+  /**
+   * @param usedHeader the name of HTTP response header where server reports
+   *                   current usage of this rule within its time frame:
+   *                   cumulated weight for a weighted rule, request count
+   *                   otherwise.
+   */
+  public void setUsedHeader(String usedHeader) {
+    this.usedHeader = usedHeader;
+  }
+
+  /**
+   * @return the name of HTTP response header where server reports remaining
+   *         capacity of this rule within its time frame: weight for a weighted
+   *         rule, request count otherwise. May be <code>null</code>.
+   * @see RequestThrottler#handleResponse(org.jxapi.netutils.rest.HttpResponse)
+   */
+  public String getRemainingHeader() {
+    return remainingHeader;
+  }
+
+  /**
+   * @param remainingHeader the name of HTTP response header where server reports
+   *                        remaining capacity of this rule within its time
+   *                        frame: weight for a weighted rule, request count
+   *                        otherwise.
+   */
+  public void setRemainingHeader(String remainingHeader) {
+    this.remainingHeader = remainingHeader;
+  }
+  
+  /**
+   * Sets names of HTTP response headers where server reports usage of this
+   * rule, see {@link #setUsedHeader(String)} and
+   * {@link #setRemainingHeader(String)}.
+   * 
+   * @param usedHeader      the name of header reporting current usage, may be
+   *                        <code>null</code>
+   * @param remainingHeader the name of header reporting remaining capacity, may
+   *                        be <code>null</code>
+   * @return this rule
+   */
+  public RateLimitRule withUsageHeaders(String usedHeader, String remainingHeader) {
+    setUsedHeader(usedHeader);
+    setRemainingHeader(remainingHeader);
+    return this;
+  }
+  
   /**
    * @return A string representation of this rate limit rule. See
    *         {@link EncodingUtil#pojoToString(Object)}.
@@ -0,0 +1,81 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+/**
+ * Storage of the state of a {@link RateLimitManager}: a fixed size array of
+ * <code>long</code> cells supporting atomic operations, with volatile memory
+ * semantics.
+ * <p>
+ * State can be kept in memory of current process (see
+ * {@link InMemoryRateLimitStateStorage}), or shared with other processes (see
+ * {@link MappedFileRateLimitStateStorage}) so that they enforce rate limits
+ * within a common budget.
+ * <p>
+ * Resources held by a storage are released with {@link #close()} once it is
+ * not used anymore.
+ * 
+ * @see RateLimitStateStorageFactory
+ */
+public interface RateLimitStateStorage extends AutoCloseable {
+
+  /**
+   * @return the count of cells of this storage
+   */
+  int size();
+
+  /**
+   * @param index index of cell
+   * @return the value of cell
+   */
+  long get(int index);
+
+  /**
+   * @param index index of cell
+   * @param value the new value of cell
+   */
+  void set(int index, long value);
+
+  /**
+   * Atomically sets cell to given value if its current value is expected one.
+   * 
+   * @param index    index of cell
+   * @param expected the expected value
+   * @param value    the new value
+   * @return <code>true</code> if successful, <code>false</code> if actual value
+   *         was not equal to expected value.
+   */
+  boolean compareAndSet(int index, long expected, long value);
+
+  /**
+   * Atomically sets cell to given value and returns old value.
+   * 
+   * @param index index of cell
+   * @param value the new value
+   * @return the previous value
+   */
+  long getAndSet(int index, long value);
+
+  /**
+   * Atomically adds given value to cell.
+   * 
+   * @param index index of cell
+   * @param delta the value to add
+   * @return the updated value
+   */
+  long addAndGet(int index, long delta);
+
+  /**
+   * @return <code>true</code> if this storage is shared with other processes,
+   *         which may be killed in the middle of an update.
+   */
+  boolean isShared();
+
+  /**
+   * Releases resources held by this storage, which should not be used anymore
+   * afterwards. Does nothing by default, as storage kept in memory of current
+   * process holds no resource.
+   */
+  @Override
+  default void close() {
+    // Nothing to release
+  }
+}
@@ -0,0 +1,31 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+/**
+ * Factory of {@link RateLimitStateStorage} used by {@link RateLimitManager} to
+ * keep track of state of a {@link RateLimitRule}.
+ * 
+ * @see RateLimitStorageMode
+ */
+@FunctionalInterface
+public interface RateLimitStateStorageFactory {
+
+  /**
+   * Default factory keeping state in memory of current process.
+   */
+  RateLimitStateStorageFactory IN_MEMORY = (ruleId, signature, initialState) -> new InMemoryRateLimitStateStorage(initialState);
+
+  /**
+   * Creates or opens storage for state of a rate limit rule.
+   * 
+   * @param ruleId       the id of rate limit rule, see
+   *                     {@link RateLimitRule#getId()}
+   * @param signature    identifies layout of state, that depends on rule
+   *                     definition. A shared storage holding state with
+   *                     another signature or size is reset to initial state.
+   * @param initialState the initial values of storage cells. Size of storage
+   *                     is length of this array.
+   * @return storage initialized with given initial state, or holding state of
+   *         rule with same id and signature shared with other processes.
+   */
+  RateLimitStateStorage create(String ruleId, long signature, long[] initialState);
+}
@@ -0,0 +1,36 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import java.nio.file.Path;
+
+/**
+ * Possible storages of rate limits state, see {@link RateLimitStateStorage}.
+ */
+public enum RateLimitStorageMode {
+  /**
+   * State is kept in memory of current process, see
+   * {@link InMemoryRateLimitStateStorage}.
+   */
+  MEMORY,
+
+  /**
+   * State is kept in memory-mapped files shared by processes of same host using
+   * same key, see {@link MappedFileRateLimitStateStorage}.
+   */
+  MAPPED_FILE;
+
+  /**
+   * Creates a new storage factory implementing this mode.
+   *
+   * @param directory the directory where state files are created, relevant for
+   *                  {@link #MAPPED_FILE} mode only
+   * @param key       the key shared by processes sharing same rate limits
+   *                  budget, relevant for {@link #MAPPED_FILE} mode only
+   * @return a storage factory
+   */
+  public RateLimitStateStorageFactory createStorageFactory(Path directory, String key) {
+    if (this == MAPPED_FILE) {
+      return new MappedFileRateLimitStateStorageFactory(directory, key);
+    }
+    return RateLimitStateStorageFactory.IN_MEMORY;
+  }
+}
@@ -1,19 +1,32 @@
 package org.jxapi.netutils.rest.ratelimits;
 
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Function;
 
 import org.jxapi.netutils.rest.FutureHttpResponse;
 import org.jxapi.netutils.rest.HttpRequest;
 import org.jxapi.netutils.rest.HttpResponse;
+import org.jxapi.netutils.rest.RequestPriority;
+import org.jxapi.observability.Histogram;
 import org.jxapi.util.DefaultDisposable;
-import org.jxapi.util.ThreadUtil;
+import org.jxapi.util.ExecutorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
@@ -25,20 +38,65 @@ import org.springframework.util.CollectionUtils;
  * as {@link ScheduledExecutorService} for scheduling retry of submission of
  * request is instantated. It wiil be shutdown only upon call to
  * {@link #dispose()} which is duty of client to call when disposing resources.
+ * <p>
+ * This class is thread safe and does not serialize submissions: each
+ * {@link RateLimitRule} is enforced by its own lock-free
+ * {@link RateLimitManager}, so requests subject to distinct rules, or to rules
+ * that are not saturated, are admitted concurrently.
+ * <p>
+ * Throttled requests are served by priority (see
+ * {@link HttpRequest#getPriority()}), and part of rate limits capacity can be
+ * reserved for requests of higher priority, see
+ * {@link #setReservedCapacity(RequestPriority, double)}.
+ * <p>
+ * Rate limits state can be corrected with feedback from server, see
+ * {@link #handleResponse(HttpResponse)}.
+ * <p>
+ * Rate limits state is kept in storages created by a
+ * {@link RateLimitStateStorageFactory}, that may be shared by several
+ * processes, see {@link #RequestThrottler(String, RateLimitStateStorageFactory)}.
+ * These storages are closed upon {@link #dispose()}.
  */
 public class RequestThrottler extends DefaultDisposable {
   
   private static final Logger log = LoggerFactory.getLogger(RequestThrottler.class);
+  
+  private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+  
+  // Sequence of a request not queued yet, any queued request arrived before it
+  private static final long NOT_QUEUED = Long.MAX_VALUE;
+  
+  /**
+   * Name of HTTP header telling how long to wait before sending new requests,
+   * see {@link #handleResponse(HttpResponse)}
+   */
+  public static final String RETRY_AFTER_HEADER = "Retry-After";
 
-  private final Map<String, RateLimitThrottling> rateLimitManagers = new HashMap<>();
+  private final Map<String, RateLimitThrottling> rateLimitManagers = new ConcurrentHashMap<>();
   
   private ScheduledExecutorService throttlingExecutor = null;
 
   private final String apiName;
   
-  private long maxThrottleDelay = -1L;
+  private final RateLimitStateStorageFactory storageFactory;
+  
+  private volatile ExecutorFactory executorFactory = ExecutorFactory.PLATFORM;
+  
+  private volatile long maxThrottleDelay = -1L;
+  
+  private volatile RequestThrottlingMode throttlingMode = RequestThrottlingMode.THROTTLE;
+  
+  private final Histogram queueDepthHistogram = new Histogram();
+  
+  private final Histogram waitTimeHistogram = new Histogram();
   
-  private RequestThrottlingMode throttlingMode = RequestThrottlingMode.THROTTLE;
+  // Arrival order of queued requests
+  private final AtomicLong queueSequence = new AtomicLong();
+  
+  private final Map<RequestPriority, Double> reservedCapacities = new EnumMap<>(RequestPriority.class);
+  
+  // Ratio of rate limits capacity usable by each priority, indexed by ordinal
+  private volatile double[] capacityRatios = computeCapacityRatios(reservedCapacities);
   
   /**
    * Creates a new instance of {@link RequestThrottler} with no API name.
@@ -53,7 +111,23 @@ public class RequestThrottler extends DefaultDisposable {
    * @param apiName Name of the API this throttler is used for.
    */
   public RequestThrottler(String apiName) {
+    this(apiName, RateLimitStateStorageFactory.IN_MEMORY);
+  }
+  
+  /**
+   * Creates a new instance of {@link RequestThrottler} with given API name and
+   * storage of rate limits state.
+   * 
+   * @param apiName        Name of the API this throttler is used for.
+   * @param storageFactory Factory of storages for state of rate limits
+   *                       enforced by this throttler. Rate limits with state
+   *                       stored in files shared by several processes (see
+   *                       {@link MappedFileRateLimitStateStorageFactory}) are
+   *                       enforced within a common budget.
+   */
+  public RequestThrottler(String apiName, RateLimitStateStorageFactory storageFactory) {
     this.apiName = apiName;
+    this.storageFactory = storageFactory;
   }
   
   /**
@@ -63,6 +137,35 @@ public class RequestThrottler extends DefaultDisposable {
     return apiName;
   }
   
+  /**
+   * @return Factory of storages for state of rate limits enforced by this
+   *         throttler.
+   */
+  public RateLimitStateStorageFactory getStorageFactory() {
+    return storageFactory;
+  }
+  
+  /**
+   * @return Factory of executor used to submit throttled requests, see
+   *         {@link #setExecutorFactory(ExecutorFactory)}
+   */
+  public ExecutorFactory getExecutorFactory() {
+    return executorFactory;
+  }
+  
+  /**
+   * Sets the factory of executor used to submit throttled requests once rate
+   * limits allow it. Should be set before first request is throttled, as
+   * executor is created then. Default is {@link ExecutorFactory#PLATFORM}.
+   * 
+   * @param executorFactory Factory of executor used to submit throttled
+   *                        requests, for instance to run on virtual threads or
+   *                        a shared pool.
+   */
+  public void setExecutorFactory(ExecutorFactory executorFactory) {
+    this.executorFactory = executorFactory;
+  }
+  
   /**
    * Submits a {@link HttpRequest} for asynchronous execution, enforcing rate
    * limits applicable for given request which could mean scheduling execution at
@@ -79,12 +182,24 @@ public class RequestThrottler extends DefaultDisposable {
    * delay before resubmit is &lt; to configured max throttle delay (see
    * {@link #getMaxThrottleDelay()})</strong> : the request is scheduled for retry
    * after delay where it could be submitted to enforce this rate limit.<br>
-   * If there is already a request queued to wait for some delay to enforce a rate
-   * limit when a request is submitted that is subject to same limit, this newly
-   * submitted request will not be retried after the waiting one. This is to make
-   * sure a weighted request that has smaller weight and could be executed without
-   * waiting, will not be executed before a 'heavier' request that has been
-   * submitted before but has to wait.
+   * Throttled requests wait in a FIFO queue of the rate limit that throttled
+   * them. If there are already requests waiting in queue of a rate limit when a
+   * request subject to same limit is submitted, this newly submitted request
+   * is queued after the waiting ones. This is to make sure a weighted request
+   * that has smaller weight and could be executed without waiting, will not be
+   * executed before a 'heavier' request that has been submitted before but has
+   * to wait. Requests of a queue are woken up when rate limit has enough
+   * capacity for request at head of queue, see
+   * {@link RateLimitManager#getMinDelayBeforeNextPossibleCall(long, int)}. If
+   * another rate limit applicable to a woken up request is then reached, it is
+   * moved to queue of that limit, where it keeps its original arrival order:
+   * it is queued before requests submitted after it and waits only for requests
+   * submitted before it.<br>
+   * Each rate limit has one queue per {@link RequestPriority}: a submitted
+   * request only waits behind queued requests of same or higher priority, and
+   * queued requests of higher priority are always woken up first. Requests of
+   * a given priority cannot use capacity reserved for higher priorities, see
+   * {@link #setReservedCapacity(RequestPriority, double)}.
    * <li><strong>If it is {@link RequestThrottlingMode#BLOCK} or
    * {@link RequestThrottlingMode#THROTTLE} and delay before resubmit is &gt; to
    * configured max throttle delay (see {@link #getMaxThrottleDelay()})</strong> :
@@ -95,6 +210,13 @@ public class RequestThrottler extends DefaultDisposable {
    * throttling is applied and request is submitted regardless of rate limits
    * breached.
    * </ul>
+   * Requests still queued when this throttler is disposed are completed with
+   * a response holding an {@link IllegalStateException}.
+   * <p>
+   * A request subject to several rules is counted by each rule in turn. If one
+   * of them is reached, the call is cancelled from rules checked before (see
+   * {@link RateLimitManager#cancelCall(long, int)}), so request is counted
+   * only once it is actually sent.
    * 
    * @param request  the request submitted for execution
    * @param executor the function to execute this request. Should wrap actual call
@@ -104,36 +226,266 @@ public class RequestThrottler extends DefaultDisposable {
    * @throws IllegalStateException if in 'disposed' state when called(see
    *                               {@link #isDisposed()})
    */
-  public synchronized FutureHttpResponse submit(HttpRequest request, Function<HttpRequest, FutureHttpResponse> executor) {
+  public FutureHttpResponse submit(HttpRequest request, Function<HttpRequest, FutureHttpResponse> executor) {
     checkNotDisposed();
     List<RateLimitRule> rateLimits = request.getRateLimits();
-    if (CollectionUtils.isEmpty(rateLimits) || throttlingMode == RequestThrottlingMode.NONE) {
+    RequestThrottlingMode mode = throttlingMode;
+    if (CollectionUtils.isEmpty(rateLimits) || mode == RequestThrottlingMode.NONE) {
       log.debug("No rate limit set, submitting now:,{}", request);
       return executor.apply(request);
     }
-    for (RateLimitRule rateLimit: rateLimits) {
-      final RateLimitThrottling rlManager = getOrCreateRateLimit(rateLimit);
-      FutureHttpResponse queued = rlManager.queued;
-      if (queued != null) {
-        log.debug("Already has a queued request for {}, request:{} will be submitted again after it completes", 
-              rlManager.rateLimitManager.getRule(), request);
-        FutureHttpResponse r = new FutureHttpResponse();
-        queued.thenRun(() -> submit(request, executor).thenAccept(r::complete));
-        return r;
-      }
-      
-      long delay = rlManager.rateLimitManager.requestCall(request.getWeight());
-      if (delay > 0) {
-        if (throttlingMode == RequestThrottlingMode.BLOCK || (throttlingMode == RequestThrottlingMode.THROTTLE && maxThrottleDelay >=0 && delay > maxThrottleDelay)) {
-          return completeWithRateLimitReachedException(request, rateLimit, delay);
+    Throttled throttled = tryAdmit(request, NOT_QUEUED);
+    if (throttled == null) {
+      log.debug("All request rules checked, submitting now:{}", request);
+      return executor.apply(request);
+    }
+    long delay = throttled.delay;
+    long maxDelay = maxThrottleDelay;
+    if (delay > 0 
+        && (mode == RequestThrottlingMode.BLOCK 
+            || (mode == RequestThrottlingMode.THROTTLE && maxDelay >=0 && delay > maxDelay))) {
+      return completeWithRateLimitReachedException(request, throttled.rateLimit.rateLimitManager.getRule(), delay);
+    }
+    QueuedRequest queued = new QueuedRequest(request, executor, queueSequence.getAndIncrement());
+    enqueue(throttled.rateLimit, queued);
+    return queued.response;
+  }
+  
+  /**
+   * Checks every rate limit applicable to request, counting request for each of
+   * them, unless one is reached or has requests of same or higher priority
+   * that arrived before this one waiting in its queue. In that case, call is
+   * cancelled from rules checked before.
+   * 
+   * @param request  the request to admit
+   * @param sequence the arrival order of request if it is queued,
+   *                 {@link #NOT_QUEUED} otherwise.
+   * @return <code>null</code> if request has been admitted, the rate limit
+   *         preventing admission otherwise.
+   */
+  private Throttled tryAdmit(HttpRequest request, long sequence) {
+    List<RateLimitRule> rateLimits = request.getRateLimits();
+    long now = System.currentTimeMillis();
+    int weight = request.getWeight();
+    RequestPriority priority = request.getPriority();
+    double capacityRatio = capacityRatios[priority.ordinal()];
+    long[] callTokens = new long[rateLimits.size()];
+    for (int i = 0; i < rateLimits.size(); i++) {
+      RateLimitThrottling rlManager = getOrCreateRateLimit(rateLimits.get(i));
+      long delay;
+      if (rlManager.hasQueuedRequestsBefore(priority, sequence)) {
+        log.debug("Already has queued requests for {}, request:{} will be queued after them", 
+            rlManager.rateLimitManager.getRule(), request);
+        delay = 0L;
+      } else {
+        delay = rlManager.rateLimitManager.acquireCall(now, weight, capacityRatio);
+        if (delay < 0) {
+          callTokens[i] = delay;
+          continue;
+        }
+        log.debug("Rate limit {} reached, request:{} should wait for {}ms", 
+            rlManager.rateLimitManager.getRule(), request, delay);
+      }
+      for (int j = 0; j < i; j++) {
+        getOrCreateRateLimit(rateLimits.get(j)).rateLimitManager.cancelCall(callTokens[j], weight);
+      }
+      return new Throttled(rlManager, delay);
+    }
+    return null;
+  }
+  
+  private void enqueue(RateLimitThrottling rateLimit, QueuedRequest queued) {
+    int depth;
+    synchronized (rateLimit) {
+      if (isDisposed()) {
+        // Queues are drained by dispose: request would never be woken up
+        depth = -1;
+      } else {
+        QueuedRequest head = rateLimit.peek();
+        rateLimit.add(queued);
+        depth = rateLimit.size();
+        if (rateLimit.wakeUp == null) {
+          scheduleWakeUp(rateLimit, getWakeUpDelay(rateLimit, queued));
+        } else if (head != rateLimit.peek()) {
+          // New head of queue, with higher priority or moved from another queue
+          // it arrived before: wake up as soon as possible for it
+          rateLimit.wakeUp.cancel(false);
+          scheduleWakeUp(rateLimit, getWakeUpDelay(rateLimit, queued));
+        }
+      }
+    }
+    if (depth < 0) {
+      completeWithDisposedException(queued);
+    } else {
+      queueDepthHistogram.record(depth);
+    }
+  }
+  
+  private long getWakeUpDelay(RateLimitThrottling rateLimit, QueuedRequest head) {
+    return Math.max(0L, rateLimit.rateLimitManager.getMinDelayBeforeNextPossibleCall(
+                              System.currentTimeMillis(), 
+                              head.request.getWeight(),
+                              capacityRatios[head.priority.ordinal()]));
+  }
+  
+  private void scheduleWakeUp(RateLimitThrottling rateLimit, long delay) {
+    if (isDisposed()) {
+      return;
+    }
+    long wakeUpId = ++rateLimit.wakeUpId;
+    rateLimit.wakeUp = getThrottlingExecutor().schedule(() -> wakeUp(rateLimit, wakeUpId), delay, TimeUnit.MILLISECONDS);
+  }
+  
+  /**
+   * Admits requests at head of queue of given rate limit as long as possible,
+   * highest priority first, then schedules next wake up when capacity will be
+   * available for request left at head of queue. Admitted requests are
+   * executed, requests throttled by another rate limit are moved to queue of
+   * that limit, ordered by arrival. Does nothing if another wake up has been scheduled since this
+   * one.
+   */
+  private void wakeUp(RateLimitThrottling rateLimit, long wakeUpId) {
+    List<QueuedRequest> admitted = new ArrayList<>();
+    List<QueuedRequest> moved = new ArrayList<>();
+    List<Throttled> movedTo = new ArrayList<>();
+    synchronized (rateLimit) {
+      if (wakeUpId != rateLimit.wakeUpId) {
+        return;
+      }
+      rateLimit.wakeUp = null;
+      for (QueuedRequest head = rateLimit.peek(); head != null; head = rateLimit.peek()) {
+        Throttled throttled = tryAdmit(head.request, head.sequence);
+        if (throttled == null) {
+          admitted.add(rateLimit.poll());
+        } else if (throttled.rateLimit == rateLimit) {
+          scheduleWakeUp(rateLimit, throttled.delay);
+          break;
+        } else {
+          moved.add(rateLimit.poll());
+          movedTo.add(throttled);
         }
-         log.debug("Rate limit {} reached, scheduling request:{} for later execution in {}ms", 
-              rlManager.rateLimitManager.getRule(), request, delay);
-        return queue(request, executor, delay, rlManager);
       }
     }
-    log.debug("All request rules checked, submitting now:{}", request);
-    return executor.apply(request);
+    for (int i = 0; i < moved.size(); i++) {
+      enqueue(movedTo.get(i).rateLimit, moved.get(i));
+    }
+    long now = System.currentTimeMillis();
+    for (QueuedRequest queued : admitted) {
+      waitTimeHistogram.record(now - queued.queuedTime);
+      log.debug("Submitting queued request:{} after {}ms", queued.request, now - queued.queuedTime);
+      try {
+        queued.executor.apply(queued.request).whenComplete((response, error) -> {
+          if (error != null) {
+            queued.response.completeExceptionally(error);
+          } else {
+            queued.response.complete(response);
+          }
+        });
+      } catch (RuntimeException e) {
+        log.error("Error while submitting queued request:{}", queued.request, e);
+        queued.response.completeExceptionally(e);
+      }
+    }
+  }
+  
+  /**
+   * Corrects state of rate limits applicable to request of given response with
+   * feedback from server:
+   * <ul>
+   * <li>For each rule with a 'used' or 'remaining' header (see
+   * {@link RateLimitRule#getUsedHeader()},
+   * {@link RateLimitRule#getRemainingHeader()}) found in response, usage
+   * reported by server is synchronized with local state, see
+   * {@link RateLimitManager#syncUsage(long, int)}.
+   * <li>If response HTTP status is 429 (too many requests) or 418 (IP banned)
+   * with a {@link #RETRY_AFTER_HEADER} header, expressed either in seconds or as
+   * a HTTP date, every rule of request is paused until then, see
+   * {@link RateLimitManager#pauseUntil(long)}.
+   * </ul>
+   * This lets throttler run close to actual server limits, accounting for calls
+   * sent by other processes sharing same limits.
+   * 
+   * @param response a response to a request submitted to this throttler.
+   * @see RateLimitFeedbackResponseInterceptor
+   */
+  public void handleResponse(HttpResponse response) {
+    HttpRequest request = response.getRequest();
+    if (request == null || CollectionUtils.isEmpty(request.getRateLimits()) || isDisposed()) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    long retryAfter = -1L;
+    int status = response.getResponseCode();
+    if (status == 429 || status == 418) {
+      retryAfter = parseRetryAfter(response.getHeader(RETRY_AFTER_HEADER), now);
+      log.warn("Got HTTP status {} with {}:{} for request:{}", status, RETRY_AFTER_HEADER, response.getHeader(RETRY_AFTER_HEADER), request);
+    }
+    for (RateLimitRule rule : request.getRateLimits()) {
+      RateLimitManager manager = getOrCreateRateLimit(rule).rateLimitManager;
+      Integer used = getReportedUsage(rule, response);
+      if (used != null) {
+        manager.syncUsage(now, used);
+      }
+      if (retryAfter > 0) {
+        manager.pauseUntil(now + retryAfter);
+      }
+    }
+  }
+  
+  private static Integer getReportedUsage(RateLimitRule rule, HttpResponse response) {
+    Integer used = parseInt(response.getHeader(rule.getUsedHeader()));
+    if (used == null) {
+      Integer remaining = parseInt(response.getHeader(rule.getRemainingHeader()));
+      int max = rule.getMaxTotalWeight() >= 0 ? rule.getMaxTotalWeight() : rule.getMaxRequestCount();
+      if (remaining != null && max >= 0) {
+        used = max - remaining;
+      }
+    }
+    return used;
+  }
+  
+  private static Integer parseInt(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Integer.valueOf(value.trim());
+    } catch (NumberFormatException e) {
+      log.warn("Invalid rate limit usage header value:[{}]", value);
+      return null;
+    }
+  }
+  
+  /**
+   * @param retryAfter value of {@link #RETRY_AFTER_HEADER} header, either a
+   *                   delay in seconds or a HTTP date.
+   * @param now        current time in ms
+   * @return delay in ms to wait for, -1 if value is <code>null</code> or invalid
+   */
+  static long parseRetryAfter(String retryAfter, long now) {
+    if (retryAfter == null || retryAfter.isBlank()) {
+      return -1L;
+    }
+    String value = retryAfter.trim();
+    try {
+      return Math.round(Double.parseDouble(value) * 1000.0);
+    } catch (NumberFormatException e) {
+      // Not a delay in seconds, should be a HTTP date
+    }
+    try {
+      return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli() - now;
+    } catch (DateTimeParseException e) {
+      log.warn("Invalid {} header value:[{}]", RETRY_AFTER_HEADER, value);
+      return -1L;
+    }
+  }
+  
+  private static void completeWithDisposedException(QueuedRequest queued) {
+    HttpResponse httpResponse = new HttpResponse();
+    httpResponse.setRequest(queued.request);
+    httpResponse.setTime(new Date());
+    httpResponse.setException(new IllegalStateException("Request throttler disposed before request could be sent"));
+    queued.response.complete(httpResponse);
   }
   
   private FutureHttpResponse completeWithRateLimitReachedException(HttpRequest request, RateLimitRule rateLimit, long delayBeforeResubmit) {
@@ -153,7 +505,7 @@ public class RequestThrottler extends DefaultDisposable {
    *         an exception instead of being sent. A negative value (default) means
    *         there is no limit for throttling delay.
    */
-  public synchronized long getMaxThrottleDelay() {
+  public long getMaxThrottleDelay() {
     return maxThrottleDelay;
   }
 
@@ -163,7 +515,7 @@ public class RequestThrottler extends DefaultDisposable {
    *                         delay, it will be completed with an exception instead
    *                         of being sent.
    */
-  public synchronized void setMaxThrottleDelay(long maxThrottleDelay) {
+  public void setMaxThrottleDelay(long maxThrottleDelay) {
     this.maxThrottleDelay = maxThrottleDelay;
   }
 
@@ -171,7 +523,7 @@ public class RequestThrottler extends DefaultDisposable {
    * @return The policy applied when a submitted request breaches some rate
    *         limits. Default is {@link RequestThrottlingMode#toString()}
    */
-  public synchronized RequestThrottlingMode getThrottlingMode() {
+  public RequestThrottlingMode getThrottlingMode() {
     return throttlingMode;
   }
 
@@ -179,47 +531,226 @@ public class RequestThrottler extends DefaultDisposable {
    * @param throttlingMode The policy applied when a submitted request breaches
    *                       some rate limits.
    */
-  public synchronized void setThrottlingMode(RequestThrottlingMode throttlingMode) {
+  public void setThrottlingMode(RequestThrottlingMode throttlingMode) {
     this.throttlingMode = throttlingMode;
   }
   
+  /**
+   * Reserves a fraction of capacity of every rate limit for requests of given
+   * priority and higher ones. Requests with lower priority are throttled as if
+   * max request count and max total weight of rate limits were reduced by
+   * reserved fractions of all priorities above them. For instance, reserving
+   * 0.2 for {@link RequestPriority#HIGH} means {@link RequestPriority#NORMAL}
+   * and {@link RequestPriority#LOW} requests can use only 80% of rate limits, so
+   * critical requests are not throttled when others saturate rate limits.<br>
+   * As there is no priority below {@link RequestPriority#LOW}, reserving
+   * capacity for it has no effect.
+   * 
+   * @param priority the priority to reserve capacity for
+   * @param fraction the fraction of rate limits capacity reserved, between 0
+   *                 (default, no reservation) and 1 excluded.
+   * @throws IllegalArgumentException if fraction is not within [0, 1[ or if sum
+   *                                  of fractions reserved for all priorities
+   *                                  would be 1 or more.
+   */
+  public synchronized void setReservedCapacity(RequestPriority priority, double fraction) {
+    if (!(fraction >= 0.0 && fraction < 1.0)) {
+      throw new IllegalArgumentException("Invalid reserved capacity:" + fraction + " for " + priority + ", expected value within [0, 1[");
+    }
+    Map<RequestPriority, Double> reserved = new EnumMap<>(reservedCapacities);
+    reserved.put(priority, fraction);
+    double total = reserved.values().stream().mapToDouble(Double::doubleValue).sum();
+    if (total >= 1.0) {
+      throw new IllegalArgumentException("Total reserved capacity:" + total + " should be lower than 1, reserved:" + reserved);
+    }
+    reservedCapacities.put(priority, fraction);
+    capacityRatios = computeCapacityRatios(reservedCapacities);
+  }
+  
+  /**
+   * @param priority a request priority
+   * @return the fraction of rate limits capacity reserved for requests of given
+   *         priority and higher ones, see
+   *         {@link #setReservedCapacity(RequestPriority, double)}.
+   */
+  public synchronized double getReservedCapacity(RequestPriority priority) {
+    return reservedCapacities.getOrDefault(priority, 0.0);
+  }
+  
+  private static double[] computeCapacityRatios(Map<RequestPriority, Double> reservedCapacities) {
+    double[] ratios = new double[PRIORITIES.length];
+    double reservedAbove = 0.0;
+    for (RequestPriority p : PRIORITIES) {
+      ratios[p.ordinal()] = 1.0 - reservedAbove;
+      reservedAbove += reservedCapacities.getOrDefault(p, 0.0);
+    }
+    return ratios;
+  }
+  
+  /**
+   * @param rateLimitId id of a rate limit rule, see {@link RateLimitRule#getId()}
+   * @return count of requests currently waiting in queue of rate limit with
+   *         given id, 0 if there is no such rate limit.
+   */
+  public int getQueueDepth(String rateLimitId) {
+    RateLimitThrottling rateLimit = rateLimitManagers.get(rateLimitId);
+    return rateLimit == null ? 0 : rateLimit.size();
+  }
+  
+  /**
+   * @param rateLimitId id of a rate limit rule, see {@link RateLimitRule#getId()}
+   * @param priority    a request priority
+   * @return count of requests with given priority currently waiting in queue of
+   *         rate limit with given id, 0 if there is no such rate limit.
+   */
+  public int getQueueDepth(String rateLimitId, RequestPriority priority) {
+    RateLimitThrottling rateLimit = rateLimitManagers.get(rateLimitId);
+    return rateLimit == null ? 0 : rateLimit.queueSizes.get(priority.ordinal());
+  }
+  
+  /**
+   * @return histogram of depth of rate limit queue, including request being
+   *         queued, recorded every time a request is queued.
+   */
+  public Histogram getQueueDepthHistogram() {
+    return queueDepthHistogram;
+  }
+  
+  /**
+   * @return histogram of time in ms queued requests waited for before being
+   *         submitted.
+   */
+  public Histogram getWaitTimeHistogram() {
+    return waitTimeHistogram;
+  }
+  
   private RateLimitThrottling getOrCreateRateLimit(RateLimitRule rateLimit) {
     return rateLimitManagers.computeIfAbsent(rateLimit.getId(), k -> new RateLimitThrottling(rateLimit));
   }
   
-  private FutureHttpResponse queue(HttpRequest request, Function<HttpRequest, FutureHttpResponse> executor, long delay, RateLimitThrottling rateLimit) {
-    FutureHttpResponse r = new FutureHttpResponse();
-    rateLimit.queued = r;
+  private synchronized ScheduledExecutorService getThrottlingExecutor() {
     if (throttlingExecutor == null) {
       String namePrefix = "THROTTLE";
       if (this.apiName != null) {
         namePrefix = this.apiName + "-" + namePrefix;
       }
-      throttlingExecutor = Executors.newSingleThreadScheduledExecutor(ThreadUtil.createNamePrefixThreadFactory(namePrefix));
+      throttlingExecutor = executorFactory.createScheduledExecutor(namePrefix, false);
     }
-    throttlingExecutor.schedule(() -> {
-      queuedRequestCompleted(rateLimit);
-      submit(request, executor).thenAccept(r::complete);
-    }, delay, TimeUnit.MILLISECONDS);
-    return r;
-  }
-  
-  private void queuedRequestCompleted(RateLimitThrottling rateLimit) {
-    rateLimit.queued = null;
+    return throttlingExecutor;
   }
   
   private class RateLimitThrottling {
     final RateLimitManager rateLimitManager;
-    FutureHttpResponse queued = null;
+    // Queues indexed by priority ordinal, ordered by arrival, guarded by this
+    final List<Queue<QueuedRequest>> queues = new ArrayList<>(PRIORITIES.length);
+    // Sizes of queues, updated under lock of this, read without locking
+    final AtomicIntegerArray queueSizes = new AtomicIntegerArray(PRIORITIES.length);
+    // Sequences of heads of queues, NOT_QUEUED when empty, updated under lock 
+    // of this, read without locking
+    final AtomicLongArray headSequences = new AtomicLongArray(PRIORITIES.length);
+    // Guarded by this
+    ScheduledFuture<?> wakeUp;
+    long wakeUpId;
     
     public RateLimitThrottling(RateLimitRule rateLimit) {
-      rateLimitManager = new RateLimitManager(rateLimit);
+      rateLimitManager = new RateLimitManager(rateLimit, storageFactory);
+      for (int i = 0; i < PRIORITIES.length; i++) {
+        queues.add(new PriorityQueue<>(Comparator.comparingLong(q -> q.sequence)));
+        headSequences.set(i, NOT_QUEUED);
+      }
+    }
+    
+    boolean hasQueuedRequestsBefore(RequestPriority priority, long sequence) {
+      for (int i = 0; i <= priority.ordinal(); i++) {
+        if (headSequences.get(i) < sequence) {
+          return true;
+        }
+      }
+      return false;
+    }
+    
+    int size() {
+      int size = 0;
+      for (int i = 0; i < PRIORITIES.length; i++) {
+        size += queueSizes.get(i);
+      }
+      return size;
+    }
+    
+    void add(QueuedRequest queued) {
+      Queue<QueuedRequest> queue = queues.get(queued.priority.ordinal());
+      queue.add(queued);
+      queueSizes.set(queued.priority.ordinal(), queue.size());
+      headSequences.set(queued.priority.ordinal(), queue.peek().sequence);
+    }
+    
+    QueuedRequest peek() {
+      for (Queue<QueuedRequest> queue : queues) {
+        if (!queue.isEmpty()) {
+          return queue.peek();
+        }
+      }
+      return null;
+    }
+    
+    QueuedRequest poll() {
+      for (int i = 0; i < PRIORITIES.length; i++) {
+        Queue<QueuedRequest> queue = queues.get(i);
+        if (!queue.isEmpty()) {
+          QueuedRequest head = queue.poll();
+          queueSizes.set(i, queue.size());
+          headSequences.set(i, queue.isEmpty() ? NOT_QUEUED : queue.peek().sequence);
+          return head;
+        }
+      }
+      return null;
+    }
+  }
+  
+  private static class QueuedRequest {
+    final HttpRequest request;
+    final RequestPriority priority;
+    final Function<HttpRequest, FutureHttpResponse> executor;
+    final FutureHttpResponse response = new FutureHttpResponse();
+    final long queuedTime = System.currentTimeMillis();
+    // Arrival order, kept when moved to queue of another rate limit
+    final long sequence;
+    
+    QueuedRequest(HttpRequest request, Function<HttpRequest, FutureHttpResponse> executor, long sequence) {
+      this.request = request;
+      this.priority = RequestPriority.orDefault(request.getPriority());
+      this.executor = executor;
+      this.sequence = sequence;
+    }
+  }
+  
+  private static class Throttled {
+    final RateLimitThrottling rateLimit;
+    final long delay;
+    
+    Throttled(RateLimitThrottling rateLimit, long delay) {
+      this.rateLimit = rateLimit;
+      this.delay = delay;
     }
   }
   
   @Override
-  protected void doDispose() {
+  protected synchronized void doDispose() {
+    List<QueuedRequest> pending = new ArrayList<>();
+    for (RateLimitThrottling rateLimit : rateLimitManagers.values()) {
+      synchronized (rateLimit) {
+        if (rateLimit.wakeUp != null) {
+          rateLimit.wakeUp.cancel(false);
+          rateLimit.wakeUp = null;
+        }
+        for (QueuedRequest queued = rateLimit.poll(); queued != null; queued = rateLimit.poll()) {
+          pending.add(queued);
+        }
+      }
+      rateLimit.rateLimitManager.close();
+    }
     rateLimitManagers.clear();
+    pending.forEach(RequestThrottler::completeWithDisposedException);
     if (throttlingExecutor != null) {
       throttlingExecutor.shutdown();
     }
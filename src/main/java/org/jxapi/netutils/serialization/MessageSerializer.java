@@ -1,5 +1,7 @@
 package org.jxapi.netutils.serialization;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Interface for serializing messages. Each implementation should provide a
  * method to serialize an object into a raw String for use in HTTP requests or
@@ -16,6 +18,22 @@ public interface MessageSerializer<T> {
    * @return the serialized string representation of the object
    */
   String serialize(T obj);
+
+  /**
+   * Serializes an object into UTF-8 encoded bytes, for instance to be used as
+   * HTTP request body without intermediate string encoding. Default
+   * implementation encodes result of {@link #serialize(Object)}, implementations
+   * may override it to write bytes directly.
+   * 
+   * @param obj the object to serialize
+   * @return the UTF-8 encoded serialized representation of the object,
+   *         <code>null</code> if {@link #serialize(Object)} would return
+   *         <code>null</code>
+   */
+  default byte[] serializeToBytes(T obj) {
+    String s = serialize(obj);
+    return s == null ? null : s.getBytes(StandardCharsets.UTF_8);
+  }
   
   /**
    * Serializer for plain String values.<br>
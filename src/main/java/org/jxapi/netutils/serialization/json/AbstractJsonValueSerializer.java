@@ -6,7 +6,9 @@ import java.io.StringWriter;
 import org.jxapi.netutils.serialization.MessageSerializer;
 import org.jxapi.util.JsonUtil;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
@@ -16,6 +18,11 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
  * {@link ObjectMapper} to serialize objects into JSON strings. Actual
  * implementations can extend this class to provide custom serialization logic
  * if needed.
+ * <p>
+ * {@link #serializeToBytes(Object)} writes UTF-8 bytes straight from the JSON
+ * generator into a {@link ByteArrayBuilder} recycled per thread, so that
+ * serializing a request body does not allocate an intermediate string nor a
+ * new output buffer for each call.
  * 
  * @param <T> the type of the serialized object
  * 
@@ -24,6 +31,14 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 public abstract class AbstractJsonValueSerializer<T> extends StdSerializer<T> implements MessageSerializer<T> {
   
   private static final long serialVersionUID = -781509171850696587L;
+  
+  /**
+   * Output buffers larger than this size are not recycled, so that serializing
+   * a large message once does not hold memory in every thread.
+   */
+  private static final int MAX_RECYCLED_BUFFER_SIZE = 64 * 1024;
+  
+  private static final ThreadLocal<ByteArrayBuilder> RECYCLED_BUFFER = new ThreadLocal<>();
 
   /**
    * Constructor
@@ -46,5 +61,32 @@ public abstract class AbstractJsonValueSerializer<T> extends StdSerializer<T> im
     }
     return writer.toString();
   }
+  
+  @Override
+  public byte[] serializeToBytes(T obj) {
+    if (obj == null) {
+      return null;
+    }
+    // Buffer is taken from thread local while in use, in case of reentrant call
+    ByteArrayBuilder buffer = RECYCLED_BUFFER.get();
+    if (buffer == null) {
+      buffer = new ByteArrayBuilder();
+    } else {
+      RECYCLED_BUFFER.remove();
+    }
+    try {
+      try (JsonGenerator gen = JsonUtil.DEFAULT_JSON_FACTORY.createGenerator(buffer, JsonEncoding.UTF8)) {
+        serialize(obj, gen, JsonUtil.DEFAULT_OBJECT_MAPPER.getSerializerProvider());
+      }
+      return buffer.toByteArray();
+    } catch (IOException e) {
+      throw new IllegalStateException("Error serializing object to JSON", e);
+    } finally {
+      if (buffer.getCurrentSegment().length <= MAX_RECYCLED_BUFFER_SIZE) {
+        buffer.reset();
+        RECYCLED_BUFFER.set(buffer);
+      }
+    }
+  }
 
 }
@@ -1,5 +1,8 @@
 package org.jxapi.netutils.websocket;
 
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
@@ -22,7 +25,9 @@ import org.jxapi.observability.Observable;
  * <li>Implementing {@link #doSend(String)} method to send a message to the
  * websocket server.</li>
  * <li>Calling {@link #dispatchMessage(String)} method to dispatch incoming
- * messages to all message handlers.</li>
+ * messages to all message handlers. Implementations receiving messages as raw
+ * UTF-8 bytes should rather call {@link #dispatchMessage(byte[], int, int)} or
+ * {@link #dispatchMessage(ByteBuffer)} to avoid decoding them.</li>
  * <li>Calling {@link #dispatchError(WebsocketException)} method to dispatch
  * errors to all error handlers when a connection failure occurs.</li>
  * </ul>
@@ -40,6 +45,8 @@ public abstract class AbstractWebsocket implements Websocket {
   protected final AtomicBoolean connected = new AtomicBoolean(false);
 
   private final Observable<RawWebsocketMessageHandler, String> messageObservable = new DefaultObservable<>(RawWebsocketMessageHandler::handleWebsocketMessage);
+  private final Observable<RawWebsocketMessageHandler, ByteBuffer> binaryMessageObservable = new DefaultObservable<>(
+      (h, b) -> h.handleWebsocketMessage(b.array(), b.arrayOffset() + b.position(), b.remaining()));
   private final Observable<WebsocketErrorHandler, WebsocketException> errorObservable = new DefaultObservable<>(WebsocketErrorHandler::handleWebsocketError);
 
   /**
@@ -87,10 +94,12 @@ public abstract class AbstractWebsocket implements Websocket {
   @Override
   public void addMessageHandler(RawWebsocketMessageHandler messageHandler) {
     messageObservable.subscribe(messageHandler);
+    binaryMessageObservable.subscribe(messageHandler);
   }
 
   @Override
   public boolean removeMessageHandler(RawWebsocketMessageHandler messageHandler) {
+    binaryMessageObservable.unsubscribe(messageHandler);
     return messageObservable.unsubscribe(messageHandler);
   }
 
@@ -123,6 +132,41 @@ public abstract class AbstractWebsocket implements Websocket {
     messageObservable.dispatch(message);
   }
 
+  /**
+   * Dispatch a message received as UTF-8 encoded bytes to all message handlers,
+   * without decoding it.
+   * 
+   * @param message the array holding message bytes. Handlers do not keep any
+   *                reference to it, so it can be reused once this method
+   *                returns.
+   * @param offset  the offset of first message byte in array
+   * @param length  the count of message bytes
+   * @see RawWebsocketMessageHandler#handleWebsocketMessage(byte[], int, int)
+   */
+  protected void dispatchMessage(byte[] message, int offset, int length) {
+    binaryMessageObservable.dispatch(ByteBuffer.wrap(message, offset, length));
+  }
+
+  /**
+   * Dispatch a message received as UTF-8 encoded bytes to all message handlers,
+   * without decoding it. Bytes between buffer position and limit are
+   * dispatched. Buffer position is left unchanged.
+   * 
+   * @param message the buffer holding message bytes. If it is not backed by an
+   *                accessible array (e.g. direct buffer), its content is copied
+   *                to a heap array first.
+   * @see #dispatchMessage(byte[], int, int)
+   */
+  protected void dispatchMessage(ByteBuffer message) {
+    if (message.hasArray()) {
+      binaryMessageObservable.dispatch(message);
+    } else {
+      byte[] bytes = new byte[message.remaining()];
+      message.duplicate().get(bytes);
+      dispatchMessage(bytes, 0, bytes.length);
+    }
+  }
+
   /**
    * Dispatch an error to all error handlers.
    * 
@@ -142,6 +186,25 @@ public abstract class AbstractWebsocket implements Websocket {
     errorObservable.dispatch(error);
   }
 
+  /**
+   * Returns the URI for the websocket handshake. This URI is created from the base URL.
+   * @return the URI for the websocket handshake
+   * @throws WebsocketException if an error occurs while creating the URI, e.g. invalid URL.
+   */
+  protected URI getHandShakeURI() throws WebsocketException {
+    URI uri;
+    try {
+      uri = new URI(url);
+    } catch (URISyntaxException e) {
+      throw new WebsocketException("Error creating URI for websocket base URL:" + url, e);
+    }
+    String scheme = uri.getScheme();
+    if (!"ws".equals(scheme) && !"wss".equals(scheme)) {
+      throw new WebsocketException("Invalid scheme: " + scheme + " for:" + uri);
+    }
+    return uri;
+  }
+
   /**
    * Overrides default toString method to return a string representation of this
    * instance. For example: <code>MyWebsocket[ws://example.com:8080]</code>
@@ -0,0 +1,108 @@
+package org.jxapi.netutils.websocket;
+
+import org.jxapi.netutils.websocket.dispatch.JsonFieldMessageKeyExtractor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DefaultWebsocketEndpoint} conflating incoming messages: only newest
+ * pending message of each key is kept, for instance latest ticker or top of
+ * book update of each symbol, while listeners consume messages at their own
+ * pace from queue executor thread.
+ * <p>
+ * This is a {@link DefaultWebsocketEndpoint} configured with
+ * {@link WebsocketOverflowPolicy#CONFLATE_LATEST_PER_KEY} overflow policy, and a
+ * {@link JsonFieldMessageKeyExtractor} reading key in a message field, like
+ * topic matchers do, e.g. <code>s</code> symbol field. Queue capacity is the
+ * maximum count of distinct keys with a pending message of each subscription.
+ * <p>
+ * Stale messages are dropped when queued, before reaching message
+ * deserializer, so a burst of updates on a key costs a key lookup per message
+ * and a single deserialization. When websocket client parses messages once to
+ * match topics and deserialize them, see
+ * {@link DefaultWebsocketClient#setSinglePassParsing(boolean)}, key is read
+ * from buffered tokens, so stale messages are not parsed again at all.
+ * Conflated messages are reported to observer as
+ * {@link org.jxapi.exchange.ExchangeEventType#WEBSOCKET_MESSAGE_DROPPED} events.
+ *
+ * @param <M> the type of messages that this endpoint will handle.
+ * @see WebsocketSubscriptionQueue
+ */
+public class ConflatingWebsocketEndpoint<M> extends DefaultWebsocketEndpoint<M> {
+
+  private static final Logger log = LoggerFactory.getLogger(ConflatingWebsocketEndpoint.class);
+
+  /**
+   * Default maximum count of distinct keys with a pending message in a
+   * subscription queue.
+   */
+  public static final int DEFAULT_MAX_KEYS = 4096;
+
+  /**
+   * Creates an endpoint conflating messages by value of given field, with
+   * {@link #DEFAULT_MAX_KEYS} queue capacity.
+   *
+   * @param keyField the name of message field holding conflation key, for
+   *                 instance <code>s</code>. When <code>null</code>, all messages
+   *                 of a subscription share the same key, so only latest one is
+   *                 kept.
+   */
+  public ConflatingWebsocketEndpoint(String keyField) {
+    this(keyField, DEFAULT_MAX_KEYS);
+  }
+
+  /**
+   * Creates an endpoint conflating messages by value of given field.
+   *
+   * @param keyField the name of message field holding conflation key, for
+   *                 instance <code>s</code>. When <code>null</code>, all messages
+   *                 of a subscription share the same key, so only latest one is
+   *                 kept.
+   * @param maxKeys  maximum count of distinct keys with a pending message in a
+   *                 subscription queue. When a message with a new key is
+   *                 received while this count is reached, oldest pending message
+   *                 is dropped.
+   * @throws IllegalArgumentException if <code>maxKeys</code> is not strictly
+   *                                  positive
+   */
+  public ConflatingWebsocketEndpoint(String keyField, int maxKeys) {
+    if (maxKeys <= 0) {
+      throw new IllegalArgumentException("Invalid max keys:" + maxKeys);
+    }
+    super.setOverflowPolicy(WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY);
+    super.setQueueCapacity(maxKeys);
+    if (keyField != null) {
+      setConflationKeyExtractor(new JsonFieldMessageKeyExtractor(keyField));
+    }
+  }
+
+  /**
+   * Overflow policy of a conflating endpoint is always
+   * {@link WebsocketOverflowPolicy#CONFLATE_LATEST_PER_KEY}, set at
+   * construction: any other policy is ignored, with a warning logged.
+   */
+  @Override
+  public void setOverflowPolicy(WebsocketOverflowPolicy overflowPolicy) {
+    if (overflowPolicy != WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY) {
+      log.warn("Ignoring overflow policy {} of conflating endpoint {}, which always conflates messages", 
+               overflowPolicy, getEndpointName());
+    }
+  }
+
+  /**
+   * Sets the maximum count of distinct keys with a pending message in a
+   * subscription queue.
+   *
+   * @throws IllegalArgumentException if <code>queueCapacity</code> is not
+   *                                  strictly positive, as messages of a
+   *                                  conflating endpoint are always queued
+   */
+  @Override
+  public void setQueueCapacity(int queueCapacity) {
+    if (queueCapacity <= 0) {
+      throw new IllegalArgumentException("Invalid max keys:" + queueCapacity);
+    }
+    super.setQueueCapacity(queueCapacity);
+  }
+
+}
@@ -1,43 +1,64 @@
 package org.jxapi.netutils.websocket;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicIndex;
 import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatchStatus;
 import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcher;
 import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcherFactory;
 import org.jxapi.util.DefaultDisposable;
 import org.jxapi.util.EncodingUtil;
+import org.jxapi.util.ExecutorFactory;
 import org.jxapi.util.JsonUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * Default implementation of {@link WebsocketClient}.
  * 
  * <p>
- * Uses object pooling to reduce creation of objects in incoming message
- * matching against topics.
+ * Incoming messages are matched against subscribed topics using a
+ * {@link WebsocketMessageTopicIndex} compiled from topics
+ * {@link WebsocketMessageTopicMatcherFactory}, so that resolving topics of a
+ * message costs O(message fields) whatever the number of subscribed topics.
+ * Topics whose matchers cannot be indexed (e.g. regular expression matchers)
+ * are matched on a fallback path, against each message field.
  * <p>
- * Some synchronization is performed over instance monitor, to protect agains
- * thread race between 'writer' threads modifying topics subscription list and
- * socket dispatcher threads iterating over that list.
+ * Subscribed topics are matched using an immutable registry snapshot,
+ * compiled from topics when first message is received after a subscription
+ * change, so that subscribing many topics in a row (for instance when
+ * resubscribing after reconnection) compiles index once. Changes are
+ * serialized over instance monitor, which socket dispatcher threads take only
+ * to compile a new snapshot: otherwise they read current snapshot from a
+ * volatile field and match messages using matching state confined to their
+ * own thread, so that receiving messages is wait-free and does not contend
+ * with subscriptions running on 'writer' thread.
+ * <p>
+ * When single pass parsing is enabled (see
+ * {@link #setSinglePassParsing(boolean)}), tokens read while matching a message
+ * against topics are buffered, and handed to matched topics whose handler is a
+ * {@link TokenizedWebsocketMessageHandler}, so that they can be deserialized
+ * without parsing message again. In that mode, message is dispatched to
+ * matched topics once it has been fully read.
  */
 public class DefaultWebsocketClient extends DefaultDisposable implements WebsocketClient {
   
@@ -48,16 +69,6 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
   
   private static final Logger log = LoggerFactory.getLogger(DefaultWebsocketClient.class);
   
-  /**
-   * A topic manager for a topic, with its message handler and message matcher.
-   */
-  protected final Map<String, TopicManager> topics = new HashMap<>();
-  
-  /**
-   * A list of system message handlers, that are not topic based.
-   */
-  protected final List<TopicManager> systemMessageHandlers = new ArrayList<>();
-  
   /**
    * Flag to track connection status.
      */
@@ -74,10 +85,17 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
   protected final WebsocketHook websocketHook;
   
   /**
-   * The executor to schedule write operations.
+   * The executor to schedule write operations. Created as an I/O executor (see
+   * {@link ExecutorFactory#createScheduledIoExecutor(String, boolean)}), as
+   * connecting websocket blocks it until handshake completes.
    */
   protected ScheduledExecutorService writeExecutor = null;
   
+  /**
+   * The factory of executors of this client
+   */
+  private final ExecutorFactory executorFactory;
+  
   /**
    * The last time a message was received.
    */
@@ -85,10 +103,26 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
   
   private final List<WebsocketErrorHandler> errorHandlers = new ArrayList<>();
   private final AtomicLong messageReceivedCount = new AtomicLong(0);
-  private final RawWebsocketMessageHandler rawMessageHandler = this::dispatchMessage;
+  private final RawWebsocketMessageHandler rawMessageHandler = new RawWebsocketMessageHandler() {
+    
+    @Override
+    public void handleWebsocketMessage(String message) {
+      dispatchMessage(message);
+    }
+    
+    @Override
+    public void handleWebsocketMessage(byte[] message, int offset, int length) {
+      dispatchMessage(message, offset, length);
+    }
+  };
   private final WebsocketErrorHandler websocketErrorHandler = this::notifyError;
   private final Object waitReconnectDelayMonitor = new Object();
-  private final List<List<TopicMatcher>> topicMatcherListPool = new ArrayList<>();
+  private final ThreadLocal<DispatchContext> dispatchContext = new ThreadLocal<>();
+  // Subscribed topics and system message handlers, guarded by this
+  private final Map<String, TopicManager> topics = new LinkedHashMap<>();
+  private final List<TopicManager> systemMessageHandlers = new ArrayList<>();
+  // Snapshot compiled from topics and system message handlers, null when they changed since
+  private volatile TopicRegistry topicRegistry = null;
   
   private long reconnectDelay = -1L;
   private long noMessageTimeout = -1L;
@@ -98,6 +132,13 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
   private AtomicBoolean heartBeatTaskCancelled = null;
   private AtomicBoolean heartBeatTimeoutTaskCancelled = null;
   private long lastConnectTime = 0L;
+  private volatile boolean singlePassParsing = false;
+  private volatile int maxSubscribeBatchSize = 1;
+  private volatile long subscribeBatchWindow = 0L;
+  // Accessed from write executor tasks only
+  private final List<WebsocketSubscribeRequest> pendingSubscriptions = new ArrayList<>();
+  private final List<WebsocketSubscribeRequest> pendingUnsubscriptions = new ArrayList<>();
+  private boolean flushScheduled = false;
   
   /**
    * Constructor
@@ -106,9 +147,22 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
    * @param websocketHook the hook to provide additional websocket handling
    */
   public DefaultWebsocketClient(Websocket websocket, WebsocketHook websocketHook) {
+    this(websocket, websocketHook, ExecutorFactory.PLATFORM);
+  }
+  
+  /**
+   * Constructor
+   * 
+   * @param websocket       the websocket implementation used by this manager
+   * @param websocketHook   the hook to provide additional websocket handling
+   * @param executorFactory the factory of {@link #writeExecutor}, for instance
+   *                        to run it on a virtual thread or a shared pool
+   */
+  public DefaultWebsocketClient(Websocket websocket, WebsocketHook websocketHook, ExecutorFactory executorFactory) {
     this.websocket = websocket;
     this.websocketHook = websocketHook;
-    this.writeExecutor = Executors.newSingleThreadScheduledExecutor();
+    this.executorFactory = executorFactory;
+    this.writeExecutor = executorFactory.createScheduledIoExecutor("websocket-write-", false);
     this.websocket.addErrorHandler(websocketErrorHandler);
     this.websocket.addMessageHandler(rawMessageHandler);
     if (websocketHook != null) {
@@ -139,6 +193,76 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
     this.noHeartBeatResponseTimeout = noHeartBeatResponseTimeout;
   }
   
+  /**
+   * @return <code>true</code> if single pass parsing is enabled, see
+   *         {@link #setSinglePassParsing(boolean)}
+   */
+  public boolean isSinglePassParsing() {
+    return singlePassParsing;
+  }
+
+  /**
+   * Enables or disables single pass parsing of incoming messages. When enabled,
+   * and there is at least one subscribed topic with a
+   * {@link TokenizedWebsocketMessageHandler}, JSON tokens of each message are
+   * buffered while matching its topics. Matched tokenized handlers then receive
+   * these buffered tokens instead of raw message, sparing them a second parsing
+   * of message. Disabled by default.
+   * 
+   * @param singlePassParsing <code>true</code> to enable single pass parsing
+   */
+  public void setSinglePassParsing(boolean singlePassParsing) {
+    this.singlePassParsing = singlePassParsing;
+  }
+  
+  /**
+   * @return the maximum count of topics subscribed or unsubscribed in a single
+   *         message, see {@link #setMaxSubscribeBatchSize(int)}
+   */
+  public int getMaxSubscribeBatchSize() {
+    return maxSubscribeBatchSize;
+  }
+
+  /**
+   * Sets the maximum count of topics subscribed or unsubscribed in a single
+   * message. When greater than 1, subscribe and unsubscribe requests are not
+   * sent right away but coalesced within {@link #getSubscribeBatchWindow()},
+   * and sent in batches of at most this size using
+   * {@link WebsocketHook#getSubscribeRequestMessage(List)} and
+   * {@link WebsocketHook#getUnSubscribeRequestMessage(List)}. Topics are also
+   * resubscribed in batches upon reconnection. Requests are sent one by one
+   * when hook does not support batching. Default is 1, which means no
+   * batching.
+   * 
+   * @param maxSubscribeBatchSize the maximum batch size
+   */
+  public void setMaxSubscribeBatchSize(int maxSubscribeBatchSize) {
+    this.maxSubscribeBatchSize = maxSubscribeBatchSize;
+  }
+
+  /**
+   * @return the delay in milliseconds pending subscribe and unsubscribe
+   *         requests are coalesced within, see
+   *         {@link #setSubscribeBatchWindow(long)}
+   */
+  public long getSubscribeBatchWindow() {
+    return subscribeBatchWindow;
+  }
+
+  /**
+   * Sets the delay in milliseconds subscribe and unsubscribe requests are
+   * coalesced within, starting from first pending request, when batching is
+   * enabled (see {@link #setMaxSubscribeBatchSize(int)}). Pending requests are
+   * sent before this delay has elapsed when there are enough of them to fill a
+   * batch. Default is 0, which means only requests already submitted when first
+   * one is processed are coalesced.
+   * 
+   * @param subscribeBatchWindow the coalescing window in milliseconds
+   */
+  public void setSubscribeBatchWindow(long subscribeBatchWindow) {
+    this.subscribeBatchWindow = subscribeBatchWindow;
+  }
+  
   /**
    * @return the websocket hook
    */
@@ -165,7 +289,11 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
           log.debug("Executing subscribe request for topic:[{}]: not connected, connecting", top);
           connect();  
         }
-        sendToTopicSubscription(request);
+        if (maxSubscribeBatchSize > 1) {
+          addPendingRequest(pendingSubscriptions, request);
+        } else {
+          sendToTopicSubscription(request);
+        }
         log.debug("DONE Executing subscribe request for topic:[{}]", top);
       } catch (Exception ex) {
         notifyError(new WebsocketException("Error while subscribing to websocket for topic [" + topic + "]", ex));
@@ -177,29 +305,32 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
       WebsocketSubscribeRequest request,
       RawWebsocketMessageHandler messageHandler) {
     String top = Optional.ofNullable(request.getTopic()).orElse("");
-    TopicManager t = topics.get(top);
-    if (t == null) {
-      t = new TopicManager(request, messageHandler);
-      topics.put(top, t);
-    } else {
+    if (topics.containsKey(top)) {
       throw new IllegalArgumentException("Already have a subscription for this topic");
     }
+    TopicManager t = new TopicManager(request, messageHandler);
+    topics.put(top, t);
+    topicRegistry = null;
     return t;
   }
   
   private void sendToTopicSubscription(WebsocketSubscribeRequest request) {
     try {
-      String subscribeRequestMessage = websocketHook == null? null: 
-                        websocketHook.getSubscribeRequestMessage(request);
-      if (subscribeRequestMessage != null) {
-        log.debug("Sending topic subscribe request:{}", request.getTopic());
-        websocket.send(subscribeRequestMessage);
-      }
+      subscribeToTopic(request);
     } catch (WebsocketException e) {
       onError(e);
     }
   }
   
+  private void subscribeToTopic(WebsocketSubscribeRequest request) throws WebsocketException {
+    String subscribeRequestMessage = websocketHook == null? null: 
+                      websocketHook.getSubscribeRequestMessage(request);
+    if (subscribeRequestMessage != null) {
+      log.debug("Sending topic subscribe request:{}", request.getTopic());
+      websocket.send(subscribeRequestMessage);
+    }
+  }
+  
   private void unbscribeFromTopic(WebsocketSubscribeRequest request) throws WebsocketException {
     String unsubscribeRequestMessage = websocketHook == null? null: 
                       websocketHook.getUnSubscribeRequestMessage(request);
@@ -209,6 +340,59 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
     }
   }
   
+  private void addPendingRequest(List<WebsocketSubscribeRequest> pending, WebsocketSubscribeRequest request) {
+    pending.add(request);
+    if (pending.size() >= maxSubscribeBatchSize) {
+      flushPendingRequests();
+    } else if (!flushScheduled) {
+      flushScheduled = true;
+      writeExecutor.schedule(this::flushPendingRequests, Math.max(0L, subscribeBatchWindow), TimeUnit.MILLISECONDS);
+    }
+  }
+  
+  private void flushPendingRequests() {
+    flushScheduled = false;
+    List<WebsocketSubscribeRequest> unsubscriptions = new ArrayList<>(pendingUnsubscriptions);
+    List<WebsocketSubscribeRequest> subscriptions = new ArrayList<>(pendingSubscriptions);
+    pendingUnsubscriptions.clear();
+    pendingSubscriptions.clear();
+    if (isDisposed() || !isConnected()) {
+      // Registered topics are resubscribed upon reconnection
+      return;
+    }
+    try {
+      sendBatches(unsubscriptions, false);
+      sendBatches(subscriptions, true);
+    } catch (WebsocketException e) {
+      onError(e);
+    }
+  }
+  
+  private void sendBatches(List<WebsocketSubscribeRequest> requests, boolean subscribe) throws WebsocketException {
+    int batchSize = Math.max(1, maxSubscribeBatchSize);
+    for (int i = 0; i < requests.size(); i += batchSize) {
+      List<WebsocketSubscribeRequest> batch = requests.subList(i, Math.min(requests.size(), i + batchSize));
+      String message = null;
+      if (batch.size() > 1 && websocketHook != null) {
+        message = subscribe? 
+                    websocketHook.getSubscribeRequestMessage(batch): 
+                    websocketHook.getUnSubscribeRequestMessage(batch);
+      }
+      if (message != null) {
+        log.debug("Sending batch {} request for {} topics", subscribe? "subscribe": "unsubscribe", batch.size());
+        websocket.send(message);
+      } else {
+        for (WebsocketSubscribeRequest request : batch) {
+          if (subscribe) {
+            subscribeToTopic(request);
+          } else {
+            unbscribeFromTopic(request);
+          }
+        }
+      }
+    }
+  }
+  
   private void scheduleHeartBeatTask(HeartBeakTask heartBeakTask) {
     log.debug("Scheduling heartbeat task in {}ms", heartBeatInterval);
     this.writeExecutor.schedule(heartBeakTask, heartBeatInterval, TimeUnit.MILLISECONDS);
@@ -226,7 +410,15 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
     writeExecutor.execute(() -> {
       try {
         TopicManager t = removeTopic(topic);
-        if (t != null) {
+        if (t == null) {
+          return;
+        }
+        if (maxSubscribeBatchSize > 1) {
+          // Subscription not sent yet does not need to be unsubscribed
+          if (!pendingSubscriptions.remove(t.subscribeRequest)) {
+            addPendingRequest(pendingUnsubscriptions, t.subscribeRequest);
+          }
+        } else {
           unbscribeFromTopic(t.subscribeRequest);
         }
       } catch (Exception ex) {
@@ -236,7 +428,44 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
   }
   
   private synchronized TopicManager removeTopic(String topic) {
-    return topics.remove(topic);
+    TopicManager t = topics.remove(topic);
+    if (t != null) {
+      topicRegistry = null;
+    }
+    return t;
+  }
+  
+  /**
+   * Returns current snapshot of subscribed topics, compiling a new one if
+   * topics changed since last one was compiled.
+   */
+  private TopicRegistry getTopicRegistry() {
+    TopicRegistry registry = topicRegistry;
+    if (registry == null) {
+      synchronized (this) {
+        registry = topicRegistry;
+        if (registry == null) {
+          registry = new TopicRegistry(new LinkedHashMap<>(topics), new ArrayList<>(systemMessageHandlers));
+          topicRegistry = registry;
+        }
+      }
+    }
+    return registry;
+  }
+  
+  /**
+   * @return an unmodifiable snapshot of subscribed topics, mapped by topic name
+   */
+  protected Map<String, TopicManager> getTopics() {
+    return getTopicRegistry().topics;
+  }
+  
+  /**
+   * @return an unmodifiable snapshot of system message handlers, that are not
+   *         topic based
+   */
+  protected List<TopicManager> getSystemMessageHandlers() {
+    return getTopicRegistry().systemMessageHandlers;
   }
   
   /**
@@ -371,7 +600,8 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
   
   @Override
   public synchronized void addSystemMessageHandler(String topic, WebsocketMessageTopicMatcherFactory matcher, RawWebsocketMessageHandler messageHandler) {
-    this.systemMessageHandlers.add(new TopicManager(StringUtils.defaultString(topic), matcher, messageHandler));
+    systemMessageHandlers.add(new TopicManager(StringUtils.defaultString(topic), matcher, messageHandler));
+    topicRegistry = null;
   }
   
   public long getReconnectDelay() {
@@ -411,6 +641,11 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
     this.lastHeartBeatTime.set(System.currentTimeMillis());
   }
   
+  @Override
+  public ExecutorFactory getExecutorFactory() {
+    return executorFactory;
+  }
+  
   public String getUrl() {
     return websocket.getUrl();
   }
@@ -452,68 +687,122 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
    * @param message the message to dispatch
    */
   protected void dispatchMessage(String message) {
-    this.dispatchSingleMessage(message);
+    messageReceivedCount.incrementAndGet();
+    DispatchContext ctx = acquireDispatchContext();
+    ctx.message = message;
+    try (JsonParser jsonParser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(message)) {
+      dispatchSingleMessage(jsonParser, ctx);
+    } catch (IOException e) {
+      log.error("Error parsing websocket message [" + message + "]", e);
+    } finally {
+      ctx.release();
+    }
   }
   
-  private void dispatchSingleMessage(String message) {
+  /**
+   * Dispatches a message received as UTF-8 encoded bytes to the message
+   * handlers, without decoding it. Handlers of matched topics receive the same
+   * bytes, see
+   * {@link RawWebsocketMessageHandler#handleWebsocketMessage(byte[], int, int)}.
+   * 
+   * @param message the array holding message bytes
+   * @param offset  the offset of first message byte in array
+   * @param length  the count of message bytes
+   */
+  protected void dispatchMessage(byte[] message, int offset, int length) {
     messageReceivedCount.incrementAndGet();
-    List<TopicMatcher> allTopics = getTopicMatcherList();
-    try (JsonParser jsonParser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(message.getBytes())) {
-      for (JsonToken tok = jsonParser.nextToken(); tok != null && !allTopics.isEmpty(); tok = jsonParser.nextToken()) {
-        if (tok == JsonToken.FIELD_NAME) {
-          String fieldName = jsonParser.currentName();
-          String value = null;
-          switch (jsonParser.nextToken()) {
-          case START_OBJECT:
-            // Continue searching matching fields in nested structure.
-            continue;
-          case VALUE_FALSE:
-            value = Boolean.FALSE.toString();
-            break;
-          case VALUE_TRUE:
-            value = Boolean.TRUE.toString();
-            break;
-          default:
-            value = jsonParser.getText();
-            break;
-          }
-          
-          if (dispatchToMessageTopicMatchers(fieldName, value, allTopics, message)) {
-            break;
-          }
-        }
-      }
-       
+    DispatchContext ctx = acquireDispatchContext();
+    ctx.bytes = message;
+    ctx.offset = offset;
+    ctx.length = length;
+    try (JsonParser jsonParser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(message, offset, length)) {
+      dispatchSingleMessage(jsonParser, ctx);
     } catch (IOException e) {
-      log.error("Error parsing websocket message [" + message + "]", e);
+      log.error("Error parsing websocket message [" + ctx.messageToString() + "]", e);
     } finally {
-      allTopics.forEach(m -> m.matcher.reset());
-      releaseTopicMatcherList(allTopics);
+      ctx.release();
     }
   }
   
+  private void dispatchSingleMessage(JsonParser jsonParser, DispatchContext ctx) throws IOException {
+    if (singlePassParsing && ctx.registry.hasTokenizedTopics) {
+      ctx.tokens = new TokenBuffer(jsonParser);
+    }
+    while (ctx.remaining > 0) {
+      JsonToken tok = nextToken(jsonParser, ctx);
+      if (tok == null) {
+        break;
+      }
+      if (tok == JsonToken.FIELD_NAME) {
+        String fieldName = jsonParser.currentName();
+        String value = null;
+        switch (nextToken(jsonParser, ctx)) {
+        case START_OBJECT:
+          // Continue searching matching fields in nested structure.
+          continue;
+        case VALUE_FALSE:
+          value = Boolean.FALSE.toString();
+          break;
+        case VALUE_TRUE:
+          value = Boolean.TRUE.toString();
+          break;
+        default:
+          value = jsonParser.getText();
+          break;
+        }
+        
+        if (dispatchToMessageTopicMatchers(fieldName, value, ctx)) {
+          break;
+        }
+      }
+    }
+    if (ctx.tokens != null) {
+      // Buffer remaining tokens, then dispatch to topics matched so far.
+      while (nextToken(jsonParser, ctx) != null) {
+        // Copying tokens to buffer
+      }
+      for (int i = 0; i < ctx.matchedTopics.size(); i++) {
+        dispatchBufferedMessage(ctx.matchedTopics.get(i), ctx);
+      }
+    }
+  }
+  
+  private static JsonToken nextToken(JsonParser jsonParser, DispatchContext ctx) throws IOException {
+    JsonToken tok = jsonParser.nextToken();
+    if (tok != null && ctx.tokens != null) {
+      ctx.tokens.copyCurrentEvent(jsonParser);
+    }
+    return tok;
+  }
+  
   private boolean dispatchToMessageTopicMatchers(
             String name, 
             String value, 
-            List<TopicMatcher> topics,
-            String rawMessage) {
-    for (Iterator<TopicMatcher> it = topics.iterator(); it.hasNext();) {
-      TopicMatcher topic = it.next();
-      WebsocketMessageTopicMatchStatus matchResult = topic.matcher.matches(name, value);
+            DispatchContext ctx) {
+    List<TopicManager> matched = ctx.indexContext.matches(name, value);
+    for (int i = 0; i < matched.size(); i++) {
+      if (dispatchToTopic(matched.get(i), ctx)) {
+        return true;
+      }
+    }
+    WebsocketMessageTopicMatcher[] fallbackMatchers = ctx.fallbackMatchers;
+    for (int i = 0; i < fallbackMatchers.length; i++) {
+      WebsocketMessageTopicMatcher matcher = fallbackMatchers[i];
+      if (matcher == null) {
+        // Already matched and dispatched
+        continue;
+      }
+      WebsocketMessageTopicMatchStatus matchResult = matcher.matches(name, value);
       switch (matchResult) {
       case MATCHED:
-        log.debug("Dispatching message to handler for topic:[{}]  :[{}]", topic.manager.topic, rawMessage);
-        topic.manager.messageHandler.handleWebsocketMessage(rawMessage);
-        it.remove();
-        if (topic.manager.isSystemMessage()) {
-// System message handler matched that message. No need to keep processing to find other handlers.
+        fallbackMatchers[i] = null;
+        if (dispatchToTopic(ctx.registry.fallbackTopics.get(i), ctx)) {
           return true;
         }
         break;
       case CANT_MATCH:
-        // Remark: Could do it.remove() here, but benchmark shows removing item in
-        // middle of array list could underperform having to keep item that is in final
-        // state for nothing in list
+        // Remark: Could skip it from now on, but matcher returns its terminal state
+        // right away on subsequent calls.
         break;
       default: // no match
         break;
@@ -522,26 +811,63 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
     return false;
   }
   
-  private synchronized List<TopicMatcher> getTopicMatcherList() {
-    List<TopicMatcher> topicMatchers = null;
-    if (topicMatcherListPool.isEmpty()) {
-      topicMatchers = new ArrayList<>();
+  /**
+   * Dispatches message to matched topic handler.
+   * @return <code>true</code> if matched topic is a system message topic, so no
+   *         need to keep processing message to find other handlers.
+   */
+  private boolean dispatchToTopic(TopicManager manager, DispatchContext ctx) {
+    ctx.remaining--;
+    if (ctx.tokens != null) {
+      // Dispatch deferred until message is fully buffered.
+      ctx.matchedTopics.add(manager);
+      return manager.isSystemMessage();
+    }
+    if (log.isDebugEnabled()) {
+      log.debug("Dispatching message to handler for topic:[{}]  :[{}]", manager.topic, ctx.messageToString());
+    }
+    if (ctx.bytes != null) {
+      manager.messageHandler.handleWebsocketMessage(ctx.bytes, ctx.offset, ctx.length);
     } else {
-      topicMatchers = topicMatcherListPool.remove(topicMatcherListPool.size() - 1);
+      manager.messageHandler.handleWebsocketMessage(ctx.message);
     }
-    for (TopicManager m : systemMessageHandlers) {
-      topicMatchers.add(m.getTopicMatcher());
+    // System message handler matched that message. No need to keep processing to find other handlers.
+    return manager.isSystemMessage();
+  }
+  
+  private void dispatchBufferedMessage(TopicManager manager, DispatchContext ctx) {
+    if (log.isDebugEnabled()) {
+      log.debug("Dispatching buffered message to handler for topic:[{}]  :[{}]", manager.topic, ctx.messageToString());
     }
-    for (TopicManager m : topics.values()) {
-      topicMatchers.add(m.getTopicMatcher());
+    if (manager.messageHandler instanceof TokenizedWebsocketMessageHandler h) {
+      h.handleWebsocketMessage(ctx.tokens, ctx);
+    } else if (ctx.bytes != null) {
+      manager.messageHandler.handleWebsocketMessage(ctx.bytes, ctx.offset, ctx.length);
+    } else {
+      manager.messageHandler.handleWebsocketMessage(ctx.message);
     }
-    return topicMatchers;
   }
   
-  private synchronized void releaseTopicMatcherList(List<TopicMatcher> topicMatchers) {
-    topicMatchers.forEach(m -> m.manager.releaseTopicMatcher(m));
-    topicMatchers.clear();
-    topicMatcherListPool.add(topicMatchers);
+  /**
+   * Gets the dispatch context of current thread, ready to match a new message
+   * against current topic registry snapshot. Context is created if there is
+   * none for this thread, or if registry has changed since it was created, or
+   * for reentrant dispatch from a message handler.
+   * Does not take any lock, unless topics changed since registry snapshot was
+   * compiled.
+   */
+  private DispatchContext acquireDispatchContext() {
+    TopicRegistry registry = getTopicRegistry();
+    DispatchContext ctx = dispatchContext.get();
+    if (ctx == null || ctx.registry != registry) {
+      ctx = new DispatchContext(registry);
+      dispatchContext.set(ctx);
+    } else if (ctx.inUse) {
+      ctx = new DispatchContext(registry);
+    }
+    ctx.reset();
+    ctx.inUse = true;
+    return ctx;
   }
   
   /**
@@ -628,24 +954,40 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
   }
   
   private void resubscribeTopics() {
-    log.info("Resubscribing {} topics after successful reconnection", topics.size());
-    topics.values().stream()
-      .filter(Predicate.not(TopicManager::isSystemMessage))
-      .forEach(t -> sendToTopicSubscription(t.subscribeRequest)); 
+    Map<String, TopicManager> subscribed = getTopics();
+    log.info("Resubscribing {} topics after successful reconnection", subscribed.size());
+    if (maxSubscribeBatchSize > 1) {
+      pendingSubscriptions.clear();
+      pendingUnsubscriptions.clear();
+      try {
+        sendBatches(subscribed.values().stream()
+                      .filter(Predicate.not(TopicManager::isSystemMessage))
+                      .map(t -> t.subscribeRequest)
+                      .toList(), 
+                    true);
+      } catch (WebsocketException e) {
+        onError(e);
+        return;
+      }
+    } else {
+      subscribed.values().stream()
+        .filter(Predicate.not(TopicManager::isSystemMessage))
+        .forEach(t -> sendToTopicSubscription(t.subscribeRequest)); 
+    }
     if (log.isInfoEnabled())
-      log.info("Successfully resubscribed to {} topics after successful reconnection", topics.size());
+      log.info("Successfully resubscribed to {} topics after successful reconnection", subscribed.size());
   }
 
   /**
    * A topic manager for a topic, with its message handler and message matcher.
-   * Uses object pooling of {@link TopicMatcher} to reduce creation of objects in incoming message.
    */
   private class TopicManager {
     final WebsocketSubscribeRequest subscribeRequest;
     final WebsocketMessageTopicMatcherFactory matcherFactory;
     final RawWebsocketMessageHandler messageHandler;
     final String topic;
-    private final List<TopicMatcher> matcherPool = new ArrayList<>();
+    final List<Map<String, String>> conjunctions;
+    final boolean tokenized;
 
     /**
      * Constructor for normal topic manager
@@ -688,32 +1030,13 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
       this.matcherFactory = matcherFactory;
       this.messageHandler = messageHandler;
       this.subscribeRequest = subscribeRequest;
+      this.conjunctions = WebsocketMessageTopicIndex.compile(matcherFactory);
+      this.tokenized = messageHandler instanceof TokenizedWebsocketMessageHandler;
     }
     
     public boolean isSystemMessage() {
       return subscribeRequest == null;
     }
-    
-    /**
-     * Gets a matcher from the pool, or creates a new one if the pool is empty.
-     * 
-     * @return a matcher to use for matching a message to this topic
-     */
-    public TopicMatcher getTopicMatcher() {
-      if (matcherPool.isEmpty()) {
-        return new TopicMatcher(this, matcherFactory.createWebsocketMessageTopicMatcher());
-      } else {
-        return matcherPool.remove(matcherPool.size() - 1);
-      }
-    }
-    
-    /**
-     * Releases a matcher to the pool. to be called from inside a monitor. 
-     * @param matcher matcher to release, its message matcher must have been reset before.
-     */
-    public void releaseTopicMatcher(TopicMatcher matcher) {
-      matcherPool.add(matcher);
-    }
   }
   
   private void scheduleNoMessageTimeoutTask(long lastReceivedMessageCount) {
@@ -829,13 +1152,90 @@ public class DefaultWebsocketClient extends DefaultDisposable implements Websock
     }    
   }
   
-  private class TopicMatcher {
-    final TopicManager manager;
-    final WebsocketMessageTopicMatcher matcher;
+  /**
+   * Immutable snapshot of subscribed topics and system message handlers, with
+   * the topic index compiled from them. A new snapshot is compiled when topics
+   * changed since previous one, see {@link DefaultWebsocketClient#getTopicRegistry()}.
+   */
+  private class TopicRegistry {
+    final Map<String, TopicManager> topics;
+    final List<TopicManager> systemMessageHandlers;
+    final WebsocketMessageTopicIndex<TopicManager> index = new WebsocketMessageTopicIndex<>();
+    final List<TopicManager> fallbackTopics = new ArrayList<>();
+    final boolean hasTokenizedTopics;
+    
+    TopicRegistry(Map<String, TopicManager> topics, List<TopicManager> systemMessageHandlers) {
+      this.topics = Collections.unmodifiableMap(topics);
+      this.systemMessageHandlers = Collections.unmodifiableList(systemMessageHandlers);
+      for (TopicManager m : systemMessageHandlers) {
+        addToIndex(m);
+      }
+      for (TopicManager m : topics.values()) {
+        addToIndex(m);
+      }
+      this.hasTokenizedTopics = topics.values().stream().anyMatch(m -> m.tokenized) 
+                                || systemMessageHandlers.stream().anyMatch(m -> m.tokenized);
+    }
+    
+    private void addToIndex(TopicManager m) {
+      if (!index.add(m, m.conjunctions)) {
+        fallbackTopics.add(m);
+      }
+    }
+  }
+  
+  /**
+   * State of matching of a single incoming message against a topic registry
+   * snapshot. Confined to a dispatching thread, and reused for subsequent
+   * messages received on that thread until registry changes.
+   */
+  private class DispatchContext implements Supplier<String> {
+    final TopicRegistry registry;
+    final WebsocketMessageTopicIndex<TopicManager>.MatchContext indexContext;
+    final WebsocketMessageTopicMatcher[] allFallbackMatchers;
+    final WebsocketMessageTopicMatcher[] fallbackMatchers;
+    boolean inUse = false;
+    int remaining = 0;
+    String message = null;
+    byte[] bytes = null;
+    int offset = 0;
+    int length = 0;
+    TokenBuffer tokens = null;
+    final List<TopicManager> matchedTopics = new ArrayList<>();
+    
+    DispatchContext(TopicRegistry registry) {
+      this.registry = registry;
+      this.indexContext = registry.index.newMatchContext();
+      this.allFallbackMatchers = registry.fallbackTopics.stream()
+          .map(m -> m.matcherFactory.createWebsocketMessageTopicMatcher())
+          .toArray(WebsocketMessageTopicMatcher[]::new);
+      this.fallbackMatchers = new WebsocketMessageTopicMatcher[allFallbackMatchers.length];
+    }
+    
+    void reset() {
+      indexContext.reset();
+      for (int i = 0; i < allFallbackMatchers.length; i++) {
+        allFallbackMatchers[i].reset();
+        fallbackMatchers[i] = allFallbackMatchers[i];
+      }
+      remaining = registry.index.size() + allFallbackMatchers.length;
+    }
     
-    TopicMatcher(TopicManager topicManager, WebsocketMessageTopicMatcher topicMatcher) {
-      this.manager = topicManager;
-      this.matcher = topicMatcher;
+    void release() {
+      message = null;
+      bytes = null;
+      tokens = null;
+      matchedTopics.clear();
+      inUse = false;
+    }
+    
+    String messageToString() {
+      return bytes != null ? new String(bytes, offset, length, StandardCharsets.UTF_8) : message;
+    }
+    
+    @Override
+    public String get() {
+      return messageToString();
     }
   }
 }
@@ -1,27 +1,72 @@
 package org.jxapi.netutils.websocket;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.jxapi.exchange.ExchangeEvent;
 import org.jxapi.exchange.ExchangeObserver;
 import org.jxapi.netutils.deserialization.MessageDeserializer;
+import org.jxapi.netutils.deserialization.json.JsonDeserializer;
+import org.jxapi.netutils.websocket.dispatch.WebsocketMessageKeyExtractor;
+import org.jxapi.util.DefaultDisposable;
 import org.jxapi.util.EncodingUtil;
+import org.jxapi.util.JsonUtil;
+import org.jxapi.util.Resettable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
 /**
  * Default implementation of a {@link WebsocketEndpoint}.
  * <p>
  * This class manages the subscriptions to a websocket topic, using a
  * {@link WebsocketClient} to wrap {@link Websocket} and subscribe/unsubscribe
  * to topic, and a {@link MessageDeserializer} to deserialize incoming messages.
+ * <p>
+ * When message deserializer is a {@link JsonDeserializer}, subscriptions are
+ * registered to websocket client as {@link TokenizedWebsocketMessageHandler},
+ * so that they can deserialize messages from tokens buffered by client while
+ * matching message topic, see
+ * {@link DefaultWebsocketClient#setSinglePassParsing(boolean)}.
+ * <p>
+ * When a queue capacity is set, see {@link #setQueueCapacity(int)}, incoming
+ * messages of each subscription are held in a bounded
+ * {@link WebsocketSubscriptionQueue}, and are deserialized and dispatched to
+ * listeners by a task run on queue executor, see
+ * {@link #setQueueExecutor(Executor)}. Default queue executor is created with
+ * executor factory of websocket client (see
+ * {@link WebsocketClient#getExecutorFactory()}), and shut down when this
+ * endpoint is disposed. This way, a slow listener does not
+ * block websocket message dispatch thread, nor makes messages pile up without
+ * limit. When queue is full, configured {@link WebsocketOverflowPolicy}
+ * applies, and every dropped message is reported to observer as an
+ * {@link ExchangeEvent} of type
+ * {@link org.jxapi.exchange.ExchangeEventType#WEBSOCKET_MESSAGE_DROPPED}.
+ * Messages are queued as received, so that messages conflated with
+ * {@link WebsocketOverflowPolicy#CONFLATE_LATEST_PER_KEY} policy are never
+ * deserialized.
+ * <p>
+ * When all listeners of a subscription declare they do not retain messages,
+ * see {@link WebsocketListener#retainsMessages()}, and messages are
+ * {@link Resettable}, such as generated POJOs, once dispatched to listeners a
+ * message is reset and kept to deserialize next message of subscription into,
+ * see {@link MessageDeserializer#deserializeInto(byte[], int, int, Object)}.
+ * This spares allocation of a new message object for every message.
  * 
  * @param <M> the type of messages that this endpoint will handle.
  * @see WebsocketEndpoint
  */
-public class DefaultWebsocketEndpoint<M> implements WebsocketEndpoint<M> {
+public class DefaultWebsocketEndpoint<M> extends DefaultDisposable implements WebsocketEndpoint<M> {
   
   private final Logger log = LoggerFactory.getLogger(DefaultWebsocketEndpoint.class);
   
@@ -56,12 +101,38 @@ public class DefaultWebsocketEndpoint<M> implements WebsocketEndpoint<M> {
   private ExchangeObserver observer;
   
   private AtomicInteger subscriptionCounter = new AtomicInteger(0);
+  
+  /**
+   * The capacity of subscription queues, messages are not queued when not strictly positive
+   */
+  private int queueCapacity = 0;
+  
+  /**
+   * The policy applied when a message is received while subscription queue is full
+   */
+  private WebsocketOverflowPolicy overflowPolicy = WebsocketOverflowPolicy.BLOCK;
+  
+  /**
+   * Extracts key of messages to conflate with {@link WebsocketOverflowPolicy#CONFLATE_LATEST_PER_KEY} policy
+   */
+  private WebsocketMessageKeyExtractor conflationKeyExtractor;
+  
+  /**
+   * The executor running subscription queues drain tasks
+   */
+  private Executor queueExecutor;
+  
+  /**
+   * The queue executor created by this endpoint, shut down when disposed
+   */
+  private ExecutorService ownedQueueExecutor;
 
   @Override
   public synchronized String subscribe(WebsocketSubscribeRequest request, WebsocketListener<M> listener) {
+    checkNotDisposed();
     request.setEnpoint(getEndpointName());
     String topic = request.getTopic();
-    Subscription sub = subscriptionsByTopic.computeIfAbsent(topic, t -> new Subscription(request));
+    Subscription sub = subscriptionsByTopic.computeIfAbsent(topic, t -> createSubscription(request));
     String subId = generateSubscriptionId(request);
     sub.addListener(subId, listener);
     subscriptionsById.put(subId, sub);
@@ -112,6 +183,39 @@ public class DefaultWebsocketEndpoint<M> implements WebsocketEndpoint<M> {
     return String.valueOf(request.getTopic() + "-" + subscriptionCounter.getAndIncrement());
   }
 
+  private Subscription createSubscription(WebsocketSubscribeRequest request) {
+    if (getMessageDeserializer() instanceof JsonDeserializer) {
+      return new TokenizedSubscription(request);
+    }
+    return new Subscription(request);
+  }
+  
+  private synchronized Executor getOrCreateQueueExecutor() {
+    if (queueExecutor == null) {
+      ownedQueueExecutor = getWebsocketClient().getExecutorFactory().createExecutor(getEndpointName() + "-queue-", true);
+      queueExecutor = ownedQueueExecutor;
+    }
+    return queueExecutor;
+  }
+  
+  /**
+   * Clears subscription queues and shuts down queue executor if it was created
+   * by this endpoint. Subscriptions are not removed from websocket client,
+   * which is expected to be disposed as well.
+   */
+  @Override
+  protected synchronized void doDispose() {
+    subscriptionsByTopic.values().forEach(s -> {
+      if (s.queue != null) {
+        s.queue.clear();
+      }
+    });
+    if (ownedQueueExecutor != null) {
+      ownedQueueExecutor.shutdownNow();
+      ownedQueueExecutor = null;
+    }
+  }
+
   /**
    * Dispatches an {@link ExchangeEvent} to the {@link ExchangeObserver}.
    * @param event the {@link ExchangeEvent} to dispatch
@@ -176,44 +280,335 @@ public class DefaultWebsocketEndpoint<M> implements WebsocketEndpoint<M> {
     this.messageDeserializer = messageDeserializer;
   }
 
-  private class Subscription {
+  /**
+   * Returns the capacity of subscription queues.
+   * @return the capacity of subscription queues, messages are not queued when not strictly positive
+   */
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  /**
+   * Sets the capacity of subscription queues. Applies to subscriptions to topics not subscribed yet.
+   * @param queueCapacity the capacity of subscription queues, or <code>0</code> (default) to dispatch messages to
+   *                      listeners on websocket message dispatch thread without queuing them.
+   */
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  /**
+   * Returns the policy applied when a message is received while subscription queue is full.
+   * @return the overflow policy, default is {@link WebsocketOverflowPolicy#BLOCK}
+   */
+  public WebsocketOverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * Sets the policy applied when a message is received while subscription queue is full.
+   * Applies to subscriptions to topics not subscribed yet.
+   * @param overflowPolicy the overflow policy, <code>null</code> for default {@link WebsocketOverflowPolicy#BLOCK}
+   */
+  public void setOverflowPolicy(WebsocketOverflowPolicy overflowPolicy) {
+    this.overflowPolicy = overflowPolicy == null ? WebsocketOverflowPolicy.BLOCK : overflowPolicy;
+  }
+
+  /**
+   * Returns the extractor of the key of messages conflated with
+   * {@link WebsocketOverflowPolicy#CONFLATE_LATEST_PER_KEY} policy.
+   * @return the conflation key extractor
+   */
+  public WebsocketMessageKeyExtractor getConflationKeyExtractor() {
+    return conflationKeyExtractor;
+  }
+
+  /**
+   * Sets the extractor of the key of messages conflated with
+   * {@link WebsocketOverflowPolicy#CONFLATE_LATEST_PER_KEY} policy, for instance a
+   * {@link org.jxapi.netutils.websocket.dispatch.JsonFieldMessageKeyExtractor}.
+   * @param conflationKeyExtractor the conflation key extractor. When <code>null</code>, all messages of a subscription
+   *                               have the same key, so only latest one is kept.
+   */
+  public void setConflationKeyExtractor(WebsocketMessageKeyExtractor conflationKeyExtractor) {
+    this.conflationKeyExtractor = conflationKeyExtractor;
+  }
+
+  /**
+   * Returns the executor running subscription queues drain tasks.
+   * @return the queue executor, or <code>null</code> if not set and no queue was created yet
+   */
+  public Executor getQueueExecutor() {
+    return queueExecutor;
+  }
+
+  /**
+   * Sets the executor running subscription queues drain tasks. When not set, an executor is created upon first
+   * subscription with executor factory of websocket client, see {@link WebsocketClient#getExecutorFactory()}. Such
+   * executor is shut down when this endpoint is disposed, while an executor set with this method is not.
+   * @param queueExecutor the queue executor
+   */
+  public void setQueueExecutor(Executor queueExecutor) {
+    this.queueExecutor = queueExecutor;
+  }
+
+  private class Subscription implements RawWebsocketMessageHandler {
     final WebsocketSubscribeRequest request;
     final Map<String , WebsocketListener<M>> listeners = new HashMap<>();
+    final WebsocketSubscriptionQueue<QueuedMessage> queue;
+    /**
+     * Message instance to deserialize next message into, when messages can be reused
+     */
+    final AtomicReference<M> reusableMessage = new AtomicReference<>();
+    volatile boolean reuseMessages;
     
     public Subscription(WebsocketSubscribeRequest request) {
       this.request = request;
+      this.queue = queueCapacity > 0 ? 
+          new WebsocketSubscriptionQueue<>(queueCapacity, overflowPolicy, getOrCreateQueueExecutor(), this::handleQueuedMessage)
+          : null;
     }
     
     public void addListener(String subscriptionId, WebsocketListener<M> listener) {
       listeners.put(subscriptionId, listener);
+      updateReuseMessages();
       if (listeners.size() == 1) {
         // First subscription
-        getWebsocketClient().subscribe(request, this::dispatch);
+        getWebsocketClient().subscribe(request, this);
       }
     }
     
     public void removeListener(String subscriptionId) {
       listeners.remove(subscriptionId);
+      updateReuseMessages();
       if (listeners.size() <= 0) {
         getWebsocketClient().unsubscribe(request.getTopic());
+        if (queue != null) {
+          queue.clear();
+        }
+      }
+    }
+    
+    private void updateReuseMessages() {
+      reuseMessages = !listeners.isEmpty() 
+                      && listeners.values().stream().noneMatch(WebsocketListener::retainsMessages);
+      if (!reuseMessages) {
+        reusableMessage.set(null);
+      }
+    }
+    
+    /**
+     * @return A message instance to deserialize next message into, or
+     *         <code>null</code> to deserialize into a new instance
+     */
+    protected M takeReusableMessage() {
+      return reuseMessages ? reusableMessage.getAndSet(null) : null;
+    }
+    
+    /**
+     * Resets message dispatched to listeners and keeps it for next message if
+     * messages can be reused.
+     * 
+     * @param msg the message dispatched to listeners
+     */
+    protected void releaseMessage(M msg) {
+      if (reuseMessages && msg instanceof Resettable resettable) {
+        resettable.reset();
+        reusableMessage.set(msg);
+      }
+    }
+    
+    protected void dispatchMessage(M msg) {
+      listeners.values().forEach(l -> l.handleMessage(msg));
+      releaseMessage(msg);
+    }
+    
+    @Override
+    public void handleWebsocketMessage(String message) {
+      if (queue != null) {
+        enqueue(new QueuedMessage(message));
+        return;
+      }
+      handleMessage(message);
+    }
+    
+    /**
+     * Deserializes message bytes directly. Message is decoded to a string only
+     * when an observer is set, to be carried by dispatched message event, or
+     * when an error occurs.
+     */
+    @Override
+    public void handleWebsocketMessage(byte[] message, int offset, int length) {
+      if (queue != null) {
+        enqueue(new QueuedMessage(message, offset, length));
+        return;
       }
+      handleMessage(message, offset, length);
     }
     
-    private void dispatch(String message) {
+    protected void enqueue(QueuedMessage message) {
+      Object key = null;
+      if (queue.getOverflowPolicy() == WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY 
+          && conflationKeyExtractor != null) {
+        key = message.extractKey(conflationKeyExtractor);
+      }
+      QueuedMessage dropped = queue.offer(key, message);
+      if (dropped != null) {
+        log.debug("Dropped message on topic {}, {} messages dropped so far", request.getTopic(), queue.getDroppedCount());
+        if (getObserver() != null) {
+          dispatchApiEvent(ExchangeEvent.createWebsocketMessageDroppedEvent(
+              request, 
+              dropped.toString(), 
+              queue.getDroppedCount()));
+        }
+      }
+    }
+    
+    protected void handleQueuedMessage(QueuedMessage message) {
+      if (message.bytes != null) {
+        handleMessage(message.bytes, 0, message.bytes.length);
+      } else {
+        handleMessage(message.text);
+      }
+    }
+    
+    private void handleMessage(String message) {
       try {
         if (!listeners.isEmpty()) {
-          M msg = getMessageDeserializer().deserialize(message);
-          listeners.values().forEach(l -> l.handleMessage(msg));
+          M msg = getMessageDeserializer().deserializeInto(message, takeReusableMessage());
+          dispatchMessage(msg);
           if (getObserver() != null) {
             dispatchApiEvent(ExchangeEvent.createWebsocketMessageEvent(request, message));
           }
         }
       } catch (Exception ex) {
-        String errMsg = "Error while dispatching message [" + EncodingUtil.prettyPrintLongString(message) + "]"; 
-        log.error(errMsg, ex);
-        dispatchApiEvent(ExchangeEvent.createWebsocketErrorEvent(new WebsocketException(errMsg, ex)));
+        handleDispatchError(message, ex);
+      }
+    }
+    
+    private void handleMessage(byte[] message, int offset, int length) {
+      try {
+        if (!listeners.isEmpty()) {
+          M msg = getMessageDeserializer().deserializeInto(message, offset, length, takeReusableMessage());
+          dispatchMessage(msg);
+          if (getObserver() != null) {
+            dispatchApiEvent(ExchangeEvent.createWebsocketMessageEvent(
+                request, 
+                new String(message, offset, length, StandardCharsets.UTF_8)));
+          }
+        }
+      } catch (Exception ex) {
+        handleDispatchError(new String(message, offset, length, StandardCharsets.UTF_8), ex);
+      }
+    }
+    
+    protected void handleDispatchError(String message, Exception ex) {
+      String errMsg = "Error while dispatching message [" + EncodingUtil.prettyPrintLongString(message) + "]"; 
+      log.error(errMsg, ex);
+      dispatchApiEvent(ExchangeEvent.createWebsocketErrorEvent(new WebsocketException(errMsg, ex)));
+    }
+  }
+  
+  /**
+   * Raw message held in a subscription queue, either as received string, as
+   * a copy of received UTF-8 bytes, as source byte array may be reused by
+   * websocket once message is dispatched, or as JSON tokens buffered by
+   * websocket client. Tokens may come with raw message string, decoded
+   * only when an observer is set.
+   */
+  private static class QueuedMessage {
+    final String text;
+    final byte[] bytes;
+    final TokenBuffer tokens;
+    
+    QueuedMessage(String text) {
+      this(text, null, null);
+    }
+    
+    QueuedMessage(byte[] message, int offset, int length) {
+      this(null, Arrays.copyOfRange(message, offset, offset + length), null);
+    }
+    
+    QueuedMessage(TokenBuffer tokens, String text) {
+      this(text, null, tokens);
+    }
+    
+    private QueuedMessage(String text, byte[] bytes, TokenBuffer tokens) {
+      this.text = text;
+      this.bytes = bytes;
+      this.tokens = tokens;
+    }
+    
+    String extractKey(WebsocketMessageKeyExtractor keyExtractor) {
+      if (tokens != null) {
+        return keyExtractor.extractKey(tokens);
+      }
+      return bytes != null ? keyExtractor.extractKey(bytes, 0, bytes.length) : keyExtractor.extractKey(text);
+    }
+    
+    @Override
+    public String toString() {
+      if (text != null) {
+        return text;
+      }
+      return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : JsonUtil.pojoToJsonString(tokens);
+    }
+  }
+  
+  private class TokenizedSubscription extends Subscription implements TokenizedWebsocketMessageHandler {
+    
+    public TokenizedSubscription(WebsocketSubscribeRequest request) {
+      super(request);
+    }
+
+    /**
+     * Deserializes message replaying buffered tokens with message deserializer.
+     * Message is decoded to a string only when an observer is set, to be carried
+     * by dispatched message event, or when an error occurs. When messages are
+     * queued, tokens are queued as is, so that conflation key can be read from
+     * them, and latest message deserialized from them, without parsing message
+     * again.
+     */
+    @Override
+    public void handleWebsocketMessage(TokenBuffer tokens, Supplier<String> rawMessage) {
+      if (queue != null) {
+        enqueue(new QueuedMessage(tokens, getObserver() != null ? rawMessage.get() : null));
+        return;
+      }
+      handleMessage(tokens, rawMessage);
+    }
+    
+    @Override
+    protected void handleQueuedMessage(QueuedMessage message) {
+      if (message.tokens != null) {
+        handleMessage(message.tokens, message::toString);
+      } else {
+        super.handleQueuedMessage(message);
+      }
+    }
+    
+    private void handleMessage(TokenBuffer tokens, Supplier<String> rawMessage) {
+      try {
+        if (!listeners.isEmpty()) {
+          M msg = deserialize(tokens);
+          dispatchMessage(msg);
+          if (getObserver() != null) {
+            dispatchApiEvent(ExchangeEvent.createWebsocketMessageEvent(request, rawMessage.get()));
+          }
+        }
+      } catch (Exception ex) {
+        handleDispatchError(rawMessage.get(), ex);
+      }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private M deserialize(TokenBuffer tokens) throws IOException {
+      try (JsonParser parser = tokens.asParser()) {
+        parser.nextToken();
+        JsonDeserializer<M> deserializer = (JsonDeserializer<M>) getMessageDeserializer();
+        M target = takeReusableMessage();
+        return target == null ? deserializer.deserialize(parser) : deserializer.deserializeInto(parser, target);
       }
-      
     }
   }
 
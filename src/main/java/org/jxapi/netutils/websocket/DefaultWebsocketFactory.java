@@ -1,8 +1,21 @@
 package org.jxapi.netutils.websocket;
 
+import java.util.Optional;
+import java.util.Properties;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jxapi.exchange.AbstractExchange;
+import org.jxapi.exchange.CommonConfigProperties;
 import org.jxapi.exchange.Exchange;
 import org.jxapi.exchange.ExchangeApi;
+import org.jxapi.netutils.websocket.dispatch.JsonFieldMessageKeyExtractor;
+import org.jxapi.netutils.websocket.dispatch.WebsocketDispatchMode;
+import org.jxapi.netutils.websocket.javanet.JavaNetWebsocketFactory;
 import org.jxapi.netutils.websocket.spring.SpringWebsocket;
+import org.jxapi.util.ExecutorFactory;
+import org.jxapi.util.PropertiesUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Default implementation of a {@link WebsocketFactory}.
@@ -11,14 +24,60 @@ import org.jxapi.netutils.websocket.spring.SpringWebsocket;
  * using a {@link ExchangeApi} instance that can be used to retrieve
  * configuration properties, or be cast as specific implementation of
  * ExchangeApi to access its API endpoints.
- * 
+ * <p>
+ * Created websocket implementation is selected from exchange properties, see
+ * {@link CommonConfigProperties#WEBSOCKET_IMPLEMENTATION_PROPERTY}. For
+ * {@link WebsocketImplementation#SPRING} implementation, incoming messages
+ * dispatch strategy is configured from exchange properties, see
+ * {@link CommonConfigProperties#WEBSOCKET_DISPATCH_MODE_PROPERTY} and related
+ * properties. In SHARDED mode, messages are sharded by the JSON field set in
+ * {@link CommonConfigProperties#WEBSOCKET_DISPATCH_SHARD_KEY_FIELD_PROPERTY}.
+ * When that property is not set, every message is handled in order on a single
+ * shard. Executors of created websocket are created according to
+ * {@link CommonConfigProperties#EXECUTOR_MODE_PROPERTY}.
+ *
  * @see WebsocketFactory
  */
 public class DefaultWebsocketFactory implements WebsocketFactory {
 
+  private static final Logger log = LoggerFactory.getLogger(DefaultWebsocketFactory.class);
+
   @Override
   public Websocket createWebsocket(Exchange exchange) {
-    return new SpringWebsocket();
+    Properties properties = Optional.ofNullable(exchange)
+                                    .map(Exchange::getProperties)
+                                    .orElseGet(Properties::new);
+    WebsocketImplementation implementation = WebsocketImplementation.valueOf(
+        PropertiesUtil.getString(properties, CommonConfigProperties.WEBSOCKET_IMPLEMENTATION_PROPERTY));
+    if (implementation == WebsocketImplementation.JAVA_NET) {
+      return new JavaNetWebsocketFactory().createWebsocket(exchange);
+    }
+    ExecutorFactory executorFactory = AbstractExchange.createExecutorFactory(properties);
+    SpringWebsocket websocket = new SpringWebsocket();
+    if (executorFactory != ExecutorFactory.PLATFORM) {
+      websocket.setExecutorFactory(executorFactory);
+    }
+    WebsocketDispatchMode mode = WebsocketDispatchMode.valueOf(
+        PropertiesUtil.getString(properties, CommonConfigProperties.WEBSOCKET_DISPATCH_MODE_PROPERTY));
+    int capacity = PropertiesUtil.getInt(properties, CommonConfigProperties.WEBSOCKET_DISPATCH_QUEUE_CAPACITY_PROPERTY);
+    int shardCount = PropertiesUtil.getInt(
+        properties,
+        CommonConfigProperties.WEBSOCKET_DISPATCH_SHARD_COUNT_PROPERTY.getName(),
+        Runtime.getRuntime().availableProcessors());
+    String name = Optional.ofNullable(exchange).map(Exchange::getId).orElse("websocket") + "-dispatch-";
+    websocket.setMessageDispatcher(mode.createDispatcher(name, shardCount, capacity, executorFactory));
+    String shardKeyField = PropertiesUtil.getString(properties, CommonConfigProperties.WEBSOCKET_DISPATCH_SHARD_KEY_FIELD_PROPERTY);
+    if (mode == WebsocketDispatchMode.SHARDED) {
+      if (StringUtils.isBlank(shardKeyField)) {
+        log.warn("{}:{} dispatch mode without {} property: every message will be handled on same shard", 
+                 name, 
+                 mode, 
+                 CommonConfigProperties.WEBSOCKET_DISPATCH_SHARD_KEY_FIELD_PROPERTY.getName());
+      } else {
+        websocket.setMessageKeyExtractor(new JsonFieldMessageKeyExtractor(shardKeyField));
+      }
+    }
+    return websocket;
   }
 
 }
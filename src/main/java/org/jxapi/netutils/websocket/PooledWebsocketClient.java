@@ -0,0 +1,503 @@
+package org.jxapi.netutils.websocket;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcherFactory;
+import org.jxapi.observability.DefaultObservable;
+import org.jxapi.observability.Observable;
+import org.jxapi.util.DefaultDisposable;
+import org.jxapi.util.ExecutorFactory;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * {@link WebsocketClient} spreading topic subscriptions over a pool of
+ * underlying websocket connections, each one managed by its own
+ * {@link WebsocketClient} (typically a {@link DefaultWebsocketClient} with its
+ * own {@link Websocket} and {@link WebsocketHook}) created on demand by a
+ * connection factory.
+ * <p>
+ * This allows to work around limits of subscriptions count per connection set
+ * by exchanges, and to spread incoming messages load over several sockets.
+ * Pool is bounded by:
+ * <ul>
+ * <li>A maximum count of connections. Each new subscription is assigned to a
+ * new connection as long as this count is not reached, then to the connection
+ * with the fewest topics.</li>
+ * <li>A maximum count of topics per connection. Subscribing a topic when every
+ * connection has reached this count while maximum count of connections is
+ * reached raises an {@link IllegalStateException}.</li>
+ * </ul>
+ * When a connection raises an error, its underlying client reconnects it and
+ * resubscribes its topics. Before that, topics exceeding an even share of
+ * subscribed topics are moved from that connection to connections with fewer
+ * topics, so that pool is rebalanced upon reconnection, for instance after
+ * many unsubscriptions from other connections. A connection is rebalanced at
+ * most once per rebalance interval (see {@link #setRebalanceInterval(long)}):
+ * errors raised meanwhile, for instance by a flapping connection, only make
+ * its client resubscribe its own topics, so that subscriptions of healthy
+ * connections are not reshuffled repeatedly.
+ * <p>
+ * Connections left without any topic are disposed, except the first one.
+ * System message handlers, error handlers, URL and timeouts settings set on
+ * this client are applied to every connection of the pool. Messages sent
+ * through {@link #send(String)} and {@link #sendAsync(String)} are sent on
+ * first connection of the pool.
+ *
+ * @see WebsocketClient
+ * @see DefaultWebsocketClient
+ */
+public class PooledWebsocketClient extends DefaultDisposable implements WebsocketClient {
+
+  private static final Logger log = LoggerFactory.getLogger(PooledWebsocketClient.class);
+
+  /**
+   * Default minimum delay in milliseconds between two rebalances of topics of
+   * a connection raising errors, see {@link #setRebalanceInterval(long)}
+   */
+  public static final long DEFAULT_REBALANCE_INTERVAL = 60000L;
+
+  private final Supplier<WebsocketClient> connectionFactory;
+  private final int maxConnections;
+  private final int maxTopicsPerConnection;
+  private final List<PooledConnection> connections = new ArrayList<>();
+  private final Map<String, PooledSubscription> subscriptions = new HashMap<>();
+  private final List<SystemMessageHandler> systemMessageHandlers = new ArrayList<>();
+  private final Observable<WebsocketErrorHandler, WebsocketException> errorObservable = new DefaultObservable<>(WebsocketErrorHandler::handleWebsocketError);
+
+  private String url;
+  private Long reconnectDelay;
+  private Long noMessageTimeout;
+  private Long heartBeatInterval;
+  private Long noHeartBeatResponseTimeout;
+  private volatile long rebalanceInterval = DEFAULT_REBALANCE_INTERVAL;
+
+  /**
+   * Constructor
+   *
+   * @param connectionFactory      creates the client managing a new underlying
+   *                               websocket connection, each time a connection
+   *                               is added to the pool
+   * @param maxConnections         the maximum count of connections of the pool
+   * @param maxTopicsPerConnection the maximum count of topics subscribed on each
+   *                               connection. A value &lt;= 0 means no limit.
+   * @throws IllegalArgumentException if <code>maxConnections</code> is not
+   *                                  strictly positive
+   */
+  public PooledWebsocketClient(Supplier<WebsocketClient> connectionFactory, int maxConnections, int maxTopicsPerConnection) {
+    if (maxConnections <= 0) {
+      throw new IllegalArgumentException("Invalid max connections:" + maxConnections);
+    }
+    this.connectionFactory = connectionFactory;
+    this.maxConnections = maxConnections;
+    this.maxTopicsPerConnection = maxTopicsPerConnection > 0 ? maxTopicsPerConnection : Integer.MAX_VALUE;
+  }
+
+  /**
+   * @return the maximum count of connections of the pool
+   */
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  /**
+   * @return the maximum count of topics subscribed on each connection,
+   *         {@link Integer#MAX_VALUE} if there is no limit
+   */
+  public int getMaxTopicsPerConnection() {
+    return maxTopicsPerConnection;
+  }
+
+  /**
+   * @return the minimum delay in milliseconds between two rebalances of topics
+   *         of a connection raising errors, see
+   *         {@link #setRebalanceInterval(long)}
+   */
+  public long getRebalanceInterval() {
+    return rebalanceInterval;
+  }
+
+  /**
+   * Sets the minimum delay between two rebalances of topics of a connection
+   * raising errors. Errors raised by a connection within this delay after its
+   * last rebalance do not move its topics to other connections. Default is
+   * {@link #DEFAULT_REBALANCE_INTERVAL}.
+   *
+   * @param rebalanceInterval the delay in milliseconds, <code>0</code> to
+   *                          rebalance upon every error
+   */
+  public void setRebalanceInterval(long rebalanceInterval) {
+    this.rebalanceInterval = rebalanceInterval;
+  }
+
+  /**
+   * @return the clients managing current connections of the pool
+   */
+  public synchronized List<WebsocketClient> getConnections() {
+    return connections.stream().map(c -> c.client).toList();
+  }
+
+  /**
+   * @return the client managing connection the topic is subscribed on, or
+   *         <code>null</code> if there is no subscription for this topic
+   * @param topic the subscribed topic
+   */
+  public synchronized WebsocketClient getConnection(String topic) {
+    PooledSubscription s = subscriptions.get(topic);
+    return s == null ? null : s.connection.client;
+  }
+
+  @Override
+  public synchronized void addSystemMessageHandler(String topic,
+                                                   WebsocketMessageTopicMatcherFactory matcherFactory,
+                                                   RawWebsocketMessageHandler messageHandler) {
+    checkNotDisposed();
+    SystemMessageHandler h = new SystemMessageHandler(topic, matcherFactory, messageHandler);
+    systemMessageHandlers.add(h);
+    connections.forEach(c -> c.client.addSystemMessageHandler(h.topic, h.matcherFactory, h.messageHandler));
+  }
+
+  @Override
+  public synchronized void subscribe(WebsocketSubscribeRequest subscribeRequest, RawWebsocketMessageHandler messageHandler) {
+    checkNotDisposed();
+    String topic = subscribeRequest.getTopic();
+    if (subscriptions.containsKey(topic)) {
+      throw new IllegalArgumentException("Already have a subscription for topic [" + topic + "]");
+    }
+    PooledConnection connection = selectConnection();
+    PooledSubscription subscription = new PooledSubscription(subscribeRequest, messageHandler);
+    subscriptions.put(topic, subscription);
+    subscription.assign(connection);
+    log.debug("Subscribed topic [{}] on connection {} of pool {}", topic, connection.client, this);
+  }
+
+  @Override
+  public synchronized void unsubscribe(String topic) {
+    PooledSubscription subscription = subscriptions.remove(topic);
+    if (subscription == null) {
+      return;
+    }
+    PooledConnection connection = subscription.connection;
+    subscription.connection = null;
+    connection.topics.remove(topic);
+    connection.client.unsubscribe(topic);
+    if (connection.topics.isEmpty() && connections.indexOf(connection) > 0) {
+      log.debug("Disposing connection {} left without topic of pool {}", connection.client, this);
+      connections.remove(connection);
+      connection.client.dispose();
+    }
+  }
+
+  @Override
+  public void subscribeErrorHandler(WebsocketErrorHandler websocketErrorHandler) {
+    errorObservable.subscribe(websocketErrorHandler);
+  }
+
+  @Override
+  public boolean unsubscribeErrorHandler(WebsocketErrorHandler websocketErrorHandler) {
+    return errorObservable.unsubscribe(websocketErrorHandler);
+  }
+
+  @Override
+  public void send(String msg) throws WebsocketException {
+    primaryConnection().send(msg);
+  }
+
+  @Override
+  public CompletableFuture<WebsocketException> sendAsync(String msg) {
+    return primaryConnection().sendAsync(msg);
+  }
+
+  @Override
+  public synchronized void hearbeatReceived() {
+    connections.forEach(c -> c.client.hearbeatReceived());
+  }
+
+  @Override
+  public synchronized long getReconnectDelay() {
+    return getSetting(reconnectDelay, WebsocketClient::getReconnectDelay);
+  }
+
+  @Override
+  public synchronized void setReconnectDelay(long reconnectDelay) {
+    this.reconnectDelay = reconnectDelay;
+    connections.forEach(c -> c.client.setReconnectDelay(reconnectDelay));
+  }
+
+  @Override
+  public synchronized long getNoMessageTimeout() {
+    return getSetting(noMessageTimeout, WebsocketClient::getNoMessageTimeout);
+  }
+
+  @Override
+  public synchronized void setNoMessageTimeout(long noMessageTimeout) {
+    this.noMessageTimeout = noMessageTimeout;
+    connections.forEach(c -> c.client.setNoMessageTimeout(noMessageTimeout));
+  }
+
+  @Override
+  public synchronized long getHeartBeatInterval() {
+    return getSetting(heartBeatInterval, WebsocketClient::getHeartBeatInterval);
+  }
+
+  @Override
+  public synchronized void setHeartBeatInterval(long heartBeatInterval) {
+    this.heartBeatInterval = heartBeatInterval;
+    connections.forEach(c -> c.client.setHeartBeatInterval(heartBeatInterval));
+  }
+
+  @Override
+  public synchronized long getNoHeartBeatResponseTimeout() {
+    return getSetting(noHeartBeatResponseTimeout, WebsocketClient::getNoHeartBeatResponseTimeout);
+  }
+
+  @Override
+  public synchronized void setNoHeartBeatResponseTimeout(long noHeartBeatResponseTimeout) {
+    this.noHeartBeatResponseTimeout = noHeartBeatResponseTimeout;
+    connections.forEach(c -> c.client.setNoHeartBeatResponseTimeout(noHeartBeatResponseTimeout));
+  }
+
+  /**
+   * @return the executor factory of first connection of the pool
+   */
+  @Override
+  public ExecutorFactory getExecutorFactory() {
+    return primaryConnection().getExecutorFactory();
+  }
+
+  @Override
+  public synchronized String getUrl() {
+    if (url == null && !connections.isEmpty()) {
+      return connections.get(0).client.getUrl();
+    }
+    return url;
+  }
+
+  @Override
+  public synchronized void setUrl(String url) {
+    this.url = url;
+    connections.forEach(c -> c.client.setUrl(url));
+  }
+
+  @Override
+  public synchronized void notifyError(WebsocketException exception) {
+    connections.forEach(c -> c.client.notifyError(exception));
+  }
+
+  @Override
+  protected synchronized void doDispose() {
+    connections.forEach(c -> c.client.dispose());
+    connections.clear();
+    subscriptions.clear();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + url + "]";
+  }
+
+  private long getSetting(Long value, ToLongFunction<WebsocketClient> getter) {
+    if (value != null) {
+      return value;
+    }
+    return connections.isEmpty() ? -1L : getter.applyAsLong(connections.get(0).client);
+  }
+
+  private synchronized WebsocketClient primaryConnection() {
+    checkNotDisposed();
+    if (connections.isEmpty()) {
+      createConnection();
+    }
+    return connections.get(0).client;
+  }
+
+  private PooledConnection selectConnection() {
+    PooledConnection leastLoaded = leastLoadedConnection(null);
+    boolean canCreate = connections.size() < maxConnections;
+    if (leastLoaded == null
+        || (canCreate && !leastLoaded.topics.isEmpty())) {
+      return createConnection();
+    }
+    if (leastLoaded.topics.size() >= maxTopicsPerConnection) {
+      throw new IllegalStateException("Cannot subscribe more than "
+                                      + maxTopicsPerConnection + " topics on each of "
+                                      + maxConnections + " connections of " + this);
+    }
+    return leastLoaded;
+  }
+
+  private PooledConnection leastLoadedConnection(PooledConnection excluded) {
+    return connections.stream()
+                      .filter(c -> c != excluded)
+                      .min(Comparator.comparingInt(c -> c.topics.size()))
+                      .orElse(null);
+  }
+
+  private PooledConnection createConnection() {
+    WebsocketClient client = connectionFactory.get();
+    PooledConnection connection = new PooledConnection(client);
+    if (url != null) {
+      client.setUrl(url);
+    }
+    if (reconnectDelay != null) {
+      client.setReconnectDelay(reconnectDelay);
+    }
+    if (noMessageTimeout != null) {
+      client.setNoMessageTimeout(noMessageTimeout);
+    }
+    if (heartBeatInterval != null) {
+      client.setHeartBeatInterval(heartBeatInterval);
+    }
+    if (noHeartBeatResponseTimeout != null) {
+      client.setNoHeartBeatResponseTimeout(noHeartBeatResponseTimeout);
+    }
+    systemMessageHandlers.forEach(h -> client.addSystemMessageHandler(h.topic, h.matcherFactory, h.messageHandler));
+    client.subscribeErrorHandler(connection::handleWebsocketError);
+    connections.add(connection);
+    log.info("Added connection #{} to websocket pool {}", connections.size(), this);
+    return connection;
+  }
+
+  /**
+   * Moves topics of a connection that raised an error, in excess of an even
+   * share of all topics, to connections with fewer topics.
+   */
+  private synchronized void rebalance(PooledConnection dropped) {
+    if (isDisposed() || !connections.contains(dropped)) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    if (now - dropped.lastRebalanceTime < rebalanceInterval) {
+      log.debug("Not rebalancing connection {} of pool {}, last rebalanced less than {}ms ago", 
+                dropped.client, this, rebalanceInterval);
+      return;
+    }
+    dropped.lastRebalanceTime = now;
+    int connectionCount = Math.max(connections.size(), Math.min(maxConnections, subscriptions.size()));
+    int share = (subscriptions.size() + connectionCount - 1) / connectionCount;
+    List<String> topics = new ArrayList<>(dropped.topics);
+    for (int i = topics.size() - 1; i >= 0 && dropped.topics.size() > share; i--) {
+      PooledConnection target = leastLoadedConnection(dropped);
+      if (target == null
+          || target.topics.size() + 1 >= dropped.topics.size()
+          || target.topics.size() >= maxTopicsPerConnection) {
+        if (connections.size() >= maxConnections) {
+          break;
+        }
+        target = createConnection();
+      }
+      String topic = topics.get(i);
+      log.info("Moving topic [{}] from connection {} to {} of pool {}", topic, dropped.client, target.client, this);
+      dropped.topics.remove(topic);
+      dropped.client.unsubscribe(topic);
+      subscriptions.get(topic).assign(target);
+    }
+  }
+
+  private class PooledConnection {
+    final WebsocketClient client;
+    final List<String> topics = new ArrayList<>();
+    // Guarded by pool
+    long lastRebalanceTime = 0L;
+
+    PooledConnection(WebsocketClient client) {
+      this.client = client;
+    }
+
+    void handleWebsocketError(WebsocketException error) {
+      errorObservable.dispatch(error);
+      rebalance(this);
+    }
+  }
+
+  /**
+   * Subscription of a topic. Message handler subscribed on connection forwards
+   * messages only as long as subscription is assigned to this connection, so
+   * that no message is handled twice while topic is moved to another
+   * connection.
+   */
+  private static class PooledSubscription {
+    final WebsocketSubscribeRequest request;
+    final RawWebsocketMessageHandler messageHandler;
+    volatile PooledConnection connection;
+
+    PooledSubscription(WebsocketSubscribeRequest request, RawWebsocketMessageHandler messageHandler) {
+      this.request = request;
+      this.messageHandler = messageHandler;
+    }
+
+    void assign(PooledConnection connection) {
+      this.connection = connection;
+      connection.topics.add(request.getTopic());
+      connection.client.subscribe(
+          request,
+          messageHandler instanceof TokenizedWebsocketMessageHandler ?
+              new RoutedTokenizedMessageHandler(this, connection) :
+              new RoutedMessageHandler(this, connection));
+    }
+  }
+
+  private static class RoutedMessageHandler implements RawWebsocketMessageHandler {
+    final PooledSubscription subscription;
+    final PooledConnection connection;
+
+    RoutedMessageHandler(PooledSubscription subscription, PooledConnection connection) {
+      this.subscription = subscription;
+      this.connection = connection;
+    }
+
+    boolean isAssigned() {
+      return subscription.connection == connection;
+    }
+
+    @Override
+    public void handleWebsocketMessage(String message) {
+      if (isAssigned()) {
+        subscription.messageHandler.handleWebsocketMessage(message);
+      }
+    }
+
+    @Override
+    public void handleWebsocketMessage(byte[] message, int offset, int length) {
+      if (isAssigned()) {
+        subscription.messageHandler.handleWebsocketMessage(message, offset, length);
+      }
+    }
+  }
+
+  private static class RoutedTokenizedMessageHandler extends RoutedMessageHandler implements TokenizedWebsocketMessageHandler {
+
+    RoutedTokenizedMessageHandler(PooledSubscription subscription, PooledConnection connection) {
+      super(subscription, connection);
+    }
+
+    @Override
+    public void handleWebsocketMessage(TokenBuffer tokens, Supplier<String> rawMessage) {
+      if (isAssigned()) {
+        ((TokenizedWebsocketMessageHandler) subscription.messageHandler).handleWebsocketMessage(tokens, rawMessage);
+      }
+    }
+  }
+
+  private static class SystemMessageHandler {
+    final String topic;
+    final WebsocketMessageTopicMatcherFactory matcherFactory;
+    final RawWebsocketMessageHandler messageHandler;
+
+    SystemMessageHandler(String topic, WebsocketMessageTopicMatcherFactory matcherFactory, RawWebsocketMessageHandler messageHandler) {
+      this.topic = topic;
+      this.matcherFactory = matcherFactory;
+      this.messageHandler = messageHandler;
+    }
+  }
+}
@@ -1,7 +1,14 @@
 package org.jxapi.netutils.websocket;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Interface for handling websocket messages dispacthed by a {@link Websocket}. The message is a raw string.
+ * <p>
+ * Messages may also be dispatched as UTF-8 encoded bytes, see
+ * {@link #handleWebsocketMessage(byte[], int, int)}, to avoid decoding and
+ * re-encoding them along dispatch path. Implementations able to consume raw
+ * bytes, for instance to parse them directly, should override that method.
  */
 public interface RawWebsocketMessageHandler {
 
@@ -10,4 +17,21 @@ public interface RawWebsocketMessageHandler {
    * @param message The message.
    */
   void handleWebsocketMessage(String message);
+  
+  /**
+   * Handle a websocket message received as UTF-8 encoded bytes.
+   * <p>
+   * Bytes are only valid during this call: underlying array may be reused by
+   * caller afterwards, so implementations must not keep a reference to it.
+   * <p>
+   * Default implementation decodes message and calls
+   * {@link #handleWebsocketMessage(String)}.
+   * 
+   * @param message The array holding message bytes
+   * @param offset  The offset of first message byte in array
+   * @param length  The count of message bytes
+   */
+  default void handleWebsocketMessage(byte[] message, int offset, int length) {
+    handleWebsocketMessage(new String(message, offset, length, StandardCharsets.UTF_8));
+  }
 }
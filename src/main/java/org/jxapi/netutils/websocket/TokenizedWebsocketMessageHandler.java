@@ -0,0 +1,35 @@
+package org.jxapi.netutils.websocket;
+
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Extension of {@link RawWebsocketMessageHandler} for handlers able to consume
+ * the JSON tokens of a message already parsed by {@link WebsocketClient} when
+ * matching message topic, instead of parsing raw message again.
+ * <p>
+ * {@link DefaultWebsocketClient} dispatches messages to such handlers through
+ * {@link #handleWebsocketMessage(TokenBuffer, Supplier)} when single pass
+ * parsing is enabled, see
+ * {@link DefaultWebsocketClient#setSinglePassParsing(boolean)}. Otherwise, raw
+ * message methods are called.
+ */
+public interface TokenizedWebsocketMessageHandler extends RawWebsocketMessageHandler {
+
+  /**
+   * Handle a websocket message as the buffered sequence of JSON tokens it was
+   * parsed to.
+   * <p>
+   * Tokens may be shared by several handlers: implementations must replay them
+   * using a new parser, see {@link TokenBuffer#asParser()}, and must not append
+   * to them. Tokens are not modified once dispatched, so implementations may
+   * keep a reference to them, for instance to handle message later.
+   *
+   * @param tokens     The message tokens
+   * @param rawMessage Supplier of raw message string, for instance to be logged.
+   *                   Message is decoded upon each call, it should be called
+   *                   only when needed, and only during this call.
+   */
+  void handleWebsocketMessage(TokenBuffer tokens, Supplier<String> rawMessage);
+}
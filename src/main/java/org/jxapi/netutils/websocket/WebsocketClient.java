@@ -5,6 +5,7 @@ import java.util.concurrent.CompletableFuture;
 import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcher;
 import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcherFactory;
 import org.jxapi.util.Disposable;
+import org.jxapi.util.ExecutorFactory;
 
 /**
  * A WebsocketClient is a wrapper around a {@link Websocket} that manages most
@@ -319,4 +320,16 @@ public interface WebsocketClient extends Disposable {
    * @param exception The exception that caused the error.
    */
   void notifyError(WebsocketException exception);
+
+  /**
+   * Gets the factory of executors of this client, also used by components
+   * relying on this client, for instance to create subscription queues
+   * executor of {@link DefaultWebsocketEndpoint}.
+   * 
+   * @return The executor factory of this client, default is
+   *         {@link ExecutorFactory#PLATFORM}.
+   */
+  default ExecutorFactory getExecutorFactory() {
+    return ExecutorFactory.PLATFORM;
+  }
 }
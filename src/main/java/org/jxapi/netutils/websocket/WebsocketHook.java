@@ -1,5 +1,7 @@
 package org.jxapi.netutils.websocket;
 
+import java.util.List;
+
 /**
  * Interface for hooking into the websocket lifecycle.
  * <p>
@@ -150,6 +152,41 @@ public interface WebsocketHook {
     return null;
   }
 
+  /**
+   * Get a single message to send to subscribe to several topics at once.
+   * <p>
+   * This method should be overridden when the API protocol allows subscribing
+   * to several topics in a single message, so that {@link DefaultWebsocketClient}
+   * coalesces subscriptions requested within a short window, or upon
+   * reconnection, into fewer messages. See
+   * {@link DefaultWebsocketClient#setMaxSubscribeBatchSize(int)}.
+   * 
+   * @param subscribeRequests the subscribe requests used to subscribe to the
+   *                          topics, at least 2 of them
+   * @return the message to send to subscribe to all topics, or
+   *         <code>null</code> if batching is not supported, in which case
+   *         {@link #getSubscribeRequestMessage(WebsocketSubscribeRequest)} is
+   *         called for each request.
+   */
+  default String getSubscribeRequestMessage(List<WebsocketSubscribeRequest> subscribeRequests) {
+    return null;
+  }
+
+  /**
+   * Get a single message to send to unsubscribe from several topics at once.
+   * 
+   * @param subscribeRequests the subscribe requests used to subscribe to the
+   *                          topics being unsubscribed from, at least 2 of them
+   * @return the message to send to unsubscribe from all topics, or
+   *         <code>null</code> if batching is not supported, in which case
+   *         {@link #getUnSubscribeRequestMessage(WebsocketSubscribeRequest)} is
+   *         called for each request.
+   * @see #getSubscribeRequestMessage(List)
+   */
+  default String getUnSubscribeRequestMessage(List<WebsocketSubscribeRequest> subscribeRequests) {
+    return null;
+  }
+
   /**
    * Get the message to send to keep the connection alive.
    * <p>
@@ -0,0 +1,23 @@
+package org.jxapi.netutils.websocket;
+
+import org.jxapi.netutils.websocket.javanet.JavaNetWebsocket;
+import org.jxapi.netutils.websocket.spring.SpringWebsocket;
+
+/**
+ * Possible {@link Websocket} implementations created by
+ * {@link DefaultWebsocketFactory}.
+ */
+public enum WebsocketImplementation {
+  /**
+   * {@link SpringWebsocket}, relying on Spring websocket client on top of
+   * Tyrus. Incoming messages are handed over to a dispatcher configured from
+   * exchange properties.
+   */
+  SPRING,
+
+  /**
+   * {@link JavaNetWebsocket}, relying on JDK {@link java.net.http.WebSocket}.
+   * Incoming messages are handled right away on socket thread.
+   */
+  JAVA_NET
+}
@@ -11,5 +11,51 @@ public interface WebsocketListener<M> {
    * @param message the message received
    */
   void handleMessage(M message);
+  
+  /**
+   * Tells whether this listener may keep a reference to messages it handles
+   * after {@link #handleMessage(Object)} returns, for instance to process them
+   * asynchronously.
+   * <p>
+   * When every listener of a subscription declares it does not retain
+   * messages, and messages are {@link org.jxapi.util.Resettable}, websocket
+   * endpoint may reset and reuse a single message instance to deserialize
+   * successive messages of subscription, see {@link DefaultWebsocketEndpoint}.
+   * Such listener must then copy (see
+   * {@link org.jxapi.util.DeepCloneable#deepClone()}) message data it needs
+   * later.
+   * 
+   * @return <code>true</code> (default) if this listener may retain messages,
+   *         <code>false</code> if messages can be reused once
+   *         {@link #handleMessage(Object)} returns.
+   * @see #nonRetaining(WebsocketListener)
+   */
+  default boolean retainsMessages() {
+    return true;
+  }
+  
+  /**
+   * Wraps a listener, typically a lambda, to declare it does not retain
+   * messages, see {@link #retainsMessages()}.
+   * 
+   * @param <M>      the message type
+   * @param listener the listener to wrap, that does not keep references to
+   *                 handled messages
+   * @return a listener delegating to <code>listener</code>, which
+   *         {@link #retainsMessages()} method returns <code>false</code>
+   */
+  static <M> WebsocketListener<M> nonRetaining(WebsocketListener<M> listener) {
+    return new WebsocketListener<>() {
+      @Override
+      public void handleMessage(M message) {
+        listener.handleMessage(message);
+      }
+      
+      @Override
+      public boolean retainsMessages() {
+        return false;
+      }
+    };
+  }
 
 }
@@ -0,0 +1,35 @@
+package org.jxapi.netutils.websocket;
+
+/**
+ * Policies applied by a {@link WebsocketSubscriptionQueue} when a message is
+ * received while queue is full, that is when subscription listeners are
+ * slower than incoming messages rate.
+ *
+ * @see DefaultWebsocketEndpoint#setOverflowPolicy(WebsocketOverflowPolicy)
+ */
+public enum WebsocketOverflowPolicy {
+
+  /**
+   * Thread offering a message to a full queue waits until a slot is freed. This
+   * applies back pressure on websocket message dispatch thread, hence on socket.
+   */
+  BLOCK,
+
+  /**
+   * Oldest pending message is dropped to make room for new one.
+   */
+  DROP_OLDEST,
+
+  /**
+   * New message is dropped, pending messages are kept.
+   */
+  DROP_NEWEST,
+
+  /**
+   * Only latest pending message of each key (e.g. symbol) is kept: a message
+   * replaces pending message with the same key, which is dropped. When queue is
+   * full and a message with a new key is received, oldest pending message is
+   * dropped.
+   */
+  CONFLATE_LATEST_PER_KEY
+}
@@ -0,0 +1,260 @@
+package org.jxapi.netutils.websocket;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of messages received on a websocket subscription, drained by
+ * a task run on an {@link Executor}, so that a slow listener does not make
+ * messages pile up without limit.
+ * <p>
+ * Messages are handled one at a time, in the order they were offered, by
+ * provided handler. A single drain task is submitted to executor at a time:
+ * it is submitted when a message is offered to an empty queue, and ends once
+ * queue is empty. Hence messages of a subscription are never handled
+ * concurrently, while a pool of threads can be shared to drain the queues of
+ * many subscriptions.
+ * <p>
+ * When a message is offered to a full queue, {@link WebsocketOverflowPolicy}
+ * provided at construction time applies. Message returned by
+ * {@link #offer(Object, Object)} is the one that was dropped, if any, so that
+ * caller can report it.
+ *
+ * @param <E> type of queued messages
+ * @see WebsocketOverflowPolicy
+ * @see DefaultWebsocketEndpoint#setQueueCapacity(int)
+ */
+public class WebsocketSubscriptionQueue<E> {
+
+  private static final Logger log = LoggerFactory.getLogger(WebsocketSubscriptionQueue.class);
+
+  private static final Object NULL_KEY = new Object();
+
+  private final int capacity;
+  private final WebsocketOverflowPolicy overflowPolicy;
+  private final Executor executor;
+  private final Consumer<E> handler;
+  private final ArrayDeque<E> queue;
+  private final LinkedHashMap<Object, E> conflatedQueue;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notFull = lock.newCondition();
+  private final AtomicLong droppedCount = new AtomicLong(0);
+  private boolean draining = false;
+
+  /**
+   * Constructor
+   *
+   * @param capacity       the maximum count of pending messages
+   * @param overflowPolicy the policy applied when a message is offered while
+   *                       queue is full
+   * @param executor       the executor running drain task
+   * @param handler        the handler of queued messages, called from drain
+   *                       task
+   * @throws IllegalArgumentException if capacity is not strictly positive
+   */
+  public WebsocketSubscriptionQueue(int capacity,
+                                    WebsocketOverflowPolicy overflowPolicy,
+                                    Executor executor,
+                                    Consumer<E> handler) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Invalid capacity:" + capacity);
+    }
+    this.capacity = capacity;
+    this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+    this.executor = Objects.requireNonNull(executor);
+    this.handler = Objects.requireNonNull(handler);
+    if (overflowPolicy == WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY) {
+      this.queue = null;
+      this.conflatedQueue = new LinkedHashMap<>();
+    } else {
+      this.queue = new ArrayDeque<>();
+      this.conflatedQueue = null;
+    }
+  }
+
+  /**
+   * Offers a message to this queue, applying overflow policy if queue is full.
+   *
+   * @param key     the key of message, used to conflate messages with
+   *                {@link WebsocketOverflowPolicy#CONFLATE_LATEST_PER_KEY}
+   *                policy, ignored otherwise. Can be <code>null</code>.
+   * @param message the message to enqueue
+   * @return the message that was dropped, that is either the offered message or
+   *         a pending message it replaced, or <code>null</code> if no message
+   *         was dropped
+   */
+  public E offer(Object key, E message) {
+    E dropped = null;
+    boolean startDrain = false;
+    lock.lock();
+    try {
+      if (conflatedQueue != null) {
+        dropped = conflatedQueue.put(key == null ? NULL_KEY : key, message);
+        if (dropped == null && conflatedQueue.size() > capacity) {
+          Iterator<E> it = conflatedQueue.values().iterator();
+          dropped = it.next();
+          it.remove();
+        }
+      } else {
+        if (queue.size() >= capacity) {
+          switch (overflowPolicy) {
+          case DROP_NEWEST:
+            dropped = message;
+            break;
+          case DROP_OLDEST:
+            dropped = queue.poll();
+            break;
+          default:
+            dropped = awaitNotFull(message);
+          }
+        }
+        if (dropped != message) {
+          queue.add(message);
+        }
+      }
+      if (!draining && getSize() > 0) {
+        draining = true;
+        startDrain = true;
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (dropped != null) {
+      droppedCount.incrementAndGet();
+    }
+    if (startDrain) {
+      startDrain();
+    }
+    return dropped;
+  }
+
+  private E awaitNotFull(E message) {
+    try {
+      while (queue.size() >= capacity) {
+        notFull.await();
+      }
+      return null;
+    } catch (InterruptedException e) {
+      log.warn("Interrupted while waiting for free slot in subscription queue, message is dropped");
+      Thread.currentThread().interrupt();
+      return message;
+    }
+  }
+
+  private void startDrain() {
+    try {
+      executor.execute(this::drain);
+    } catch (RuntimeException e) {
+      lock.lock();
+      try {
+        draining = false;
+      } finally {
+        lock.unlock();
+      }
+      throw e;
+    }
+  }
+
+  private void drain() {
+    while (true) {
+      E message = poll();
+      if (message == null) {
+        return;
+      }
+      try {
+        handler.accept(message);
+      } catch (Exception e) {
+        log.error("Error while handling queued message", e);
+      }
+    }
+  }
+
+  private E poll() {
+    lock.lock();
+    try {
+      E message;
+      if (conflatedQueue != null) {
+        Iterator<E> it = conflatedQueue.values().iterator();
+        message = it.hasNext() ? it.next() : null;
+        if (message != null) {
+          it.remove();
+        }
+      } else {
+        message = queue.poll();
+      }
+      if (message == null) {
+        draining = false;
+      } else {
+        notFull.signal();
+      }
+      return message;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes all pending messages. Pending messages removed this way are not
+   * counted as dropped.
+   */
+  public void clear() {
+    lock.lock();
+    try {
+      if (conflatedQueue != null) {
+        conflatedQueue.clear();
+      } else {
+        queue.clear();
+      }
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the count of pending messages
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return getSize();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private int getSize() {
+    return conflatedQueue != null ? conflatedQueue.size() : queue.size();
+  }
+
+  /**
+   * @return the maximum count of pending messages
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * @return the policy applied when a message is offered while queue is full
+   */
+  public WebsocketOverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * @return the total count of messages dropped by this queue
+   */
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+}
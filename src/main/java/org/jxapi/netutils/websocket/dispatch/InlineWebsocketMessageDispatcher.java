@@ -0,0 +1,37 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link WebsocketMessageDispatcher} running message handling tasks right away
+ * on dispatching thread, usually socket I/O thread. Messages are handled in
+ * the order they are received, without any queuing nor thread hand-off, but a
+ * slow handler delays reading of next messages.
+ */
+public class InlineWebsocketMessageDispatcher implements WebsocketMessageDispatcher {
+
+  private final AtomicLong dispatchedCount = new AtomicLong(0);
+
+  @Override
+  public boolean dispatch(String key, Runnable task) {
+    dispatchedCount.incrementAndGet();
+    task.run();
+    return true;
+  }
+
+  @Override
+  public int getQueueDepth() {
+    return 0;
+  }
+
+  @Override
+  public long getDroppedCount() {
+    return 0;
+  }
+
+  @Override
+  public long getDispatchedCount() {
+    return dispatchedCount.get();
+  }
+
+}
@@ -0,0 +1,88 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import java.io.IOException;
+
+import org.jxapi.util.JsonUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * {@link WebsocketMessageKeyExtractor} using the value of a field of JSON
+ * messages as key, for instance the <code>s</code> symbol field of market data
+ * messages. Like topic matchers, only first occurrence of field in message is
+ * considered, at any nesting level. Parsing stops as soon as field value is
+ * found.
+ */
+public class JsonFieldMessageKeyExtractor implements WebsocketMessageKeyExtractor {
+
+  private static final Logger log = LoggerFactory.getLogger(JsonFieldMessageKeyExtractor.class);
+
+  private final String fieldName;
+
+  /**
+   * Constructor
+   *
+   * @param fieldName the name of JSON field holding message key
+   */
+  public JsonFieldMessageKeyExtractor(String fieldName) {
+    this.fieldName = fieldName;
+  }
+
+  /**
+   * @return the name of JSON field holding message key
+   */
+  public String getFieldName() {
+    return fieldName;
+  }
+
+  @Override
+  public String extractKey(String message) {
+    try (JsonParser parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(message)) {
+      return extractKey(parser);
+    } catch (IOException e) {
+      log.debug("Failed to extract key from message [{}]", message, e);
+      return null;
+    }
+  }
+
+  @Override
+  public String extractKey(byte[] message, int offset, int length) {
+    try (JsonParser parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(message, offset, length)) {
+      return extractKey(parser);
+    } catch (IOException e) {
+      log.debug("Failed to extract key from message", e);
+      return null;
+    }
+  }
+
+  /**
+   * Reads key from buffered tokens without serializing them back to JSON.
+   */
+  @Override
+  public String extractKey(TokenBuffer tokens) {
+    try (JsonParser parser = tokens.asParser()) {
+      return extractKey(parser);
+    } catch (IOException e) {
+      log.debug("Failed to extract key from message tokens", e);
+      return null;
+    }
+  }
+
+  private String extractKey(JsonParser parser) throws IOException {
+    for (JsonToken tok = parser.nextToken(); tok != null; tok = parser.nextToken()) {
+      if (tok == JsonToken.FIELD_NAME && fieldName.equals(parser.currentName())) {
+        tok = parser.nextToken();
+        if (tok != null && tok.isScalarValue()) {
+          return tok == JsonToken.VALUE_NULL ? null : parser.getText();
+        }
+        return null;
+      }
+    }
+    return null;
+  }
+
+}
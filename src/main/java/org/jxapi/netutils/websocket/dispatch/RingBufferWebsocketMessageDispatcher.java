@@ -0,0 +1,275 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jxapi.util.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link WebsocketMessageDispatcher} queuing message handling tasks in a
+ * bounded lock-free ring buffer, consumed by a single thread, so that tasks
+ * are run in the order they were dispatched, whatever their key.
+ * <p>
+ * Producers claim slots of the ring buffer with a compare-and-set on its tail
+ * sequence, and publish each slot with a per-slot sequence number, so
+ * dispatching never takes a lock. Consumer task is submitted upon first
+ * dispatch to an executor created by the {@link ExecutorFactory} of the
+ * exchange, parks when queue is empty, and returns once it has been idle for
+ * {@link #CONSUMER_KEEP_ALIVE} ms. A new one is submitted on next dispatch.
+ * Hence there is no need to start or stop this dispatcher along websocket
+ * connection life cycle. As consumer task parks while waiting for messages, it
+ * is run by an I/O executor (see
+ * {@link ExecutorFactory#createIoExecutor(String, boolean)}) so it does not
+ * hold a thread of a bounded shared pool.
+ * <p>
+ * When ring buffer is full, dispatching thread either waits for a slot to be
+ * freed, applying back pressure on socket, or drops the task, depending on
+ * <code>dropWhenFull</code> constructor parameter.
+ */
+public class RingBufferWebsocketMessageDispatcher implements WebsocketMessageDispatcher {
+
+  private static final Logger log = LoggerFactory.getLogger(RingBufferWebsocketMessageDispatcher.class);
+
+  /**
+   * Default ring buffer capacity
+   */
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  /**
+   * Delay in ms after which consumer thread exits when no task is dispatched.
+   */
+  public static final long CONSUMER_KEEP_ALIVE = 5000L;
+
+  private static final long FULL_QUEUE_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private static final int CONSUMER_NONE = 0;
+  private static final int CONSUMER_RUNNING = 1;
+
+  private final String name;
+  private final boolean dropWhenFull;
+  private final ExecutorService consumerExecutor;
+  private final int mask;
+  private final Runnable[] tasks;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong(0);
+  private final AtomicLong head = new AtomicLong(0);
+  private final AtomicLong droppedCount = new AtomicLong(0);
+  private final AtomicLong dispatchedCount = new AtomicLong(0);
+  private final AtomicInteger consumerState = new AtomicInteger(CONSUMER_NONE);
+  private volatile Thread consumer = null;
+  private volatile boolean consumerParked = false;
+
+  /**
+   * Creates a dispatcher with {@link #DEFAULT_CAPACITY} capacity, waiting for
+   * free slots when full, which consumer thread is created by
+   * {@link ExecutorFactory#PLATFORM}.
+   *
+   * @param name the name of this dispatcher, used as consumer thread name prefix
+   */
+  public RingBufferWebsocketMessageDispatcher(String name) {
+    this(name, DEFAULT_CAPACITY, false);
+  }
+
+  /**
+   * Creates a dispatcher which consumer thread is created by
+   * {@link ExecutorFactory#PLATFORM}.
+   *
+   * @param name         the name of this dispatcher, used as consumer thread
+   *                     name prefix
+   * @param capacity     the ring buffer capacity, rounded up to next power of 2
+   * @param dropWhenFull <code>true</code> if tasks dispatched when ring buffer is
+   *                     full must be dropped, <code>false</code> to make
+   *                     dispatching thread wait until a slot is freed.
+   * @throws IllegalArgumentException if capacity is not strictly positive
+   */
+  public RingBufferWebsocketMessageDispatcher(String name, int capacity, boolean dropWhenFull) {
+    this(name, capacity, dropWhenFull, ExecutorFactory.PLATFORM);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param name            the name of this dispatcher, used as consumer thread
+   *                        name prefix
+   * @param capacity        the ring buffer capacity, rounded up to next power of
+   *                        2
+   * @param dropWhenFull    <code>true</code> if tasks dispatched when ring buffer
+   *                        is full must be dropped, <code>false</code> to make
+   *                        dispatching thread wait until a slot is freed.
+   * @param executorFactory the factory of executor running consumer thread
+   * @throws IllegalArgumentException if capacity is not strictly positive
+   */
+  public RingBufferWebsocketMessageDispatcher(String name, 
+                                              int capacity, 
+                                              boolean dropWhenFull, 
+                                              ExecutorFactory executorFactory) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Invalid capacity:" + capacity);
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.name = name;
+    this.dropWhenFull = dropWhenFull;
+    this.consumerExecutor = executorFactory.createIoExecutor(name, true);
+    this.mask = size - 1;
+    this.tasks = new Runnable[size];
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  @Override
+  public boolean dispatch(String key, Runnable task) {
+    while (!offer(task)) {
+      if (dropWhenFull) {
+        droppedCount.incrementAndGet();
+        return false;
+      }
+      ensureConsumerRunning();
+      LockSupport.parkNanos(this, FULL_QUEUE_WAIT_NANOS);
+    }
+    dispatchedCount.incrementAndGet();
+    ensureConsumerRunning();
+    return true;
+  }
+
+  /**
+   * @return the ring buffer capacity
+   */
+  public int getCapacity() {
+    return tasks.length;
+  }
+
+  @Override
+  public int getQueueDepth() {
+    long depth = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(depth, tasks.length));
+  }
+
+  @Override
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  @Override
+  public long getDispatchedCount() {
+    return dispatchedCount.get();
+  }
+
+  /**
+   * @return <code>true</code> if full ring buffer makes dispatched tasks
+   *         dropped, <code>false</code> if it makes dispatching thread wait.
+   */
+  public boolean isDropWhenFull() {
+    return dropWhenFull;
+  }
+
+  private boolean offer(Runnable task) {
+    long pos = tail.get();
+    while (true) {
+      int idx = (int) (pos & mask);
+      long diff = sequences.get(idx) - pos;
+      if (diff == 0) {
+        if (tail.compareAndSet(pos, pos + 1)) {
+          tasks[idx] = task;
+          // Publishes slot to consumer.
+          sequences.set(idx, pos + 1);
+          return true;
+        }
+        pos = tail.get();
+      } else if (diff < 0) {
+        // Slot not consumed yet: full
+        return false;
+      } else {
+        // Slot claimed by another producer
+        pos = tail.get();
+      }
+    }
+  }
+
+  private Runnable poll() {
+    long pos = head.get();
+    int idx = (int) (pos & mask);
+    if (sequences.get(idx) != pos + 1) {
+      // Empty or slot claimed but not published yet.
+      return null;
+    }
+    Runnable task = tasks[idx];
+    tasks[idx] = null;
+    sequences.set(idx, pos + tasks.length);
+    head.set(pos + 1);
+    return task;
+  }
+
+  private boolean isEmpty() {
+    return tail.get() == head.get();
+  }
+
+  private void ensureConsumerRunning() {
+    if (consumerState.get() == CONSUMER_NONE) {
+      if (consumerState.compareAndSet(CONSUMER_NONE, CONSUMER_RUNNING)) {
+        try {
+          consumerExecutor.execute(this::consume);
+        } catch (RejectedExecutionException ex) {
+          consumerState.set(CONSUMER_NONE);
+          throw ex;
+        }
+      }
+    } else if (consumerParked) {
+      LockSupport.unpark(consumer);
+    }
+  }
+
+  private void consume() {
+    consumer = Thread.currentThread();
+    long keepAliveNanos = TimeUnit.MILLISECONDS.toNanos(CONSUMER_KEEP_ALIVE);
+    while (true) {
+      Runnable task = poll();
+      if (task != null) {
+        runTask(task);
+        continue;
+      }
+      consumerParked = true;
+      // Park until a task is offered or keep alive delay elapsed, ignoring
+      // spurious or stale wake ups
+      long deadline = System.nanoTime() + keepAliveNanos;
+      long remaining = keepAliveNanos;
+      while (isEmpty() && remaining > 0) {
+        LockSupport.parkNanos(this, remaining);
+        remaining = deadline - System.nanoTime();
+      }
+      consumerParked = false;
+      if (isEmpty()) {
+        consumerState.set(CONSUMER_NONE);
+        // A task may have been offered after last check, while producer saw
+        // consumer running: resume unless producer started a new consumer.
+        if (isEmpty() || !consumerState.compareAndSet(CONSUMER_NONE, CONSUMER_RUNNING)) {
+          return;
+        }
+      }
+    }
+  }
+
+  private void runTask(Runnable task) {
+    try {
+      task.run();
+    } catch (Exception ex) {
+      log.error("{}:Error while running dispatched task", name, ex);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + name + "]";
+  }
+}
@@ -0,0 +1,129 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import org.jxapi.util.ExecutorFactory;
+
+/**
+ * {@link WebsocketMessageDispatcher} spreading message handling tasks over
+ * several {@link RingBufferWebsocketMessageDispatcher} shards, each one having
+ * its own consumer thread. Shard of a task is chosen from the hash of its key,
+ * so tasks with the same key (e.g. messages of the same topic) are run in order
+ * they were dispatched, while tasks with distinct keys can be run concurrently
+ * on distinct cores. Tasks with <code>null</code> key, for instance every
+ * message when no message key extractor is configured, are all run on first
+ * shard, so they are still run in the order they were dispatched, but without
+ * any concurrency: sharding only pays off when messages are keyed.
+ */
+public class ShardedWebsocketMessageDispatcher implements WebsocketMessageDispatcher {
+
+  private final RingBufferWebsocketMessageDispatcher[] shards;
+
+  /**
+   * Creates a dispatcher which shards consumer threads are created by
+   * {@link ExecutorFactory#PLATFORM}.
+   *
+   * @param name          the name of this dispatcher, used as prefix of shards
+   *                      consumer thread names
+   * @param shardCount    the count of shards
+   * @param shardCapacity the ring buffer capacity of each shard
+   * @param dropWhenFull  <code>true</code> if tasks dispatched to a full shard
+   *                      must be dropped, <code>false</code> to make dispatching
+   *                      thread wait until a slot is freed.
+   * @throws IllegalArgumentException if shard count or capacity is not strictly
+   *                                  positive
+   */
+  public ShardedWebsocketMessageDispatcher(String name, int shardCount, int shardCapacity, boolean dropWhenFull) {
+    this(name, shardCount, shardCapacity, dropWhenFull, ExecutorFactory.PLATFORM);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param name            the name of this dispatcher, used as prefix of shards
+   *                        consumer thread names
+   * @param shardCount      the count of shards
+   * @param shardCapacity   the ring buffer capacity of each shard
+   * @param dropWhenFull    <code>true</code> if tasks dispatched to a full shard
+   *                        must be dropped, <code>false</code> to make
+   *                        dispatching thread wait until a slot is freed.
+   * @param executorFactory the factory of executors running shards consumer
+   *                        threads, see
+   *                        {@link RingBufferWebsocketMessageDispatcher#RingBufferWebsocketMessageDispatcher(String, int, boolean, ExecutorFactory)}
+   * @throws IllegalArgumentException if shard count or capacity is not strictly
+   *                                  positive
+   */
+  public ShardedWebsocketMessageDispatcher(String name, 
+                                           int shardCount, 
+                                           int shardCapacity, 
+                                           boolean dropWhenFull, 
+                                           ExecutorFactory executorFactory) {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("Invalid shard count:" + shardCount);
+    }
+    this.shards = new RingBufferWebsocketMessageDispatcher[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = new RingBufferWebsocketMessageDispatcher(name + i + "-", shardCapacity, dropWhenFull, executorFactory);
+    }
+  }
+
+  @Override
+  public boolean dispatch(String key, Runnable task) {
+    return shards[getShardIndex(key)].dispatch(key, task);
+  }
+
+  /**
+   * @param key the key of a task
+   * @return the index of shard running tasks with that key, <code>0</code> if
+   *         key is <code>null</code>.
+   */
+  public int getShardIndex(String key) {
+    if (key == null) {
+      return 0;
+    }
+    // Spreads hash bits like HashMap does, so close keys land on distinct shards.
+    int h = key.hashCode();
+    return Math.floorMod(h ^ (h >>> 16), shards.length);
+  }
+
+  /**
+   * @return the count of shards
+   */
+  public int getShardCount() {
+    return shards.length;
+  }
+
+  /**
+   * @param shardIndex the index of a shard
+   * @return the count of tasks waiting to be run on that shard
+   */
+  public int getShardQueueDepth(int shardIndex) {
+    return shards[shardIndex].getQueueDepth();
+  }
+
+  @Override
+  public int getQueueDepth() {
+    int depth = 0;
+    for (RingBufferWebsocketMessageDispatcher shard : shards) {
+      depth += shard.getQueueDepth();
+    }
+    return depth;
+  }
+
+  @Override
+  public long getDroppedCount() {
+    long dropped = 0;
+    for (RingBufferWebsocketMessageDispatcher shard : shards) {
+      dropped += shard.getDroppedCount();
+    }
+    return dropped;
+  }
+
+  @Override
+  public long getDispatchedCount() {
+    long dispatched = 0;
+    for (RingBufferWebsocketMessageDispatcher shard : shards) {
+      dispatched += shard.getDispatchedCount();
+    }
+    return dispatched;
+  }
+
+}
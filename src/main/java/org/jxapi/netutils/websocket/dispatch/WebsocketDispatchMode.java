@@ -0,0 +1,68 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import org.jxapi.util.ExecutorFactory;
+
+/**
+ * Possible strategies to run handling of incoming websocket messages, see
+ * {@link WebsocketMessageDispatcher}.
+ */
+public enum WebsocketDispatchMode {
+  /**
+   * Messages are handled right away on socket I/O thread, see
+   * {@link InlineWebsocketMessageDispatcher}.
+   */
+  INLINE,
+
+  /**
+   * Messages are queued in a bounded ring buffer and handled in order by a
+   * single consumer thread, see {@link RingBufferWebsocketMessageDispatcher}.
+   */
+  ORDERED,
+
+  /**
+   * Messages are spread over several ordered consumers by key, preserving order
+   * of messages with same key, see {@link ShardedWebsocketMessageDispatcher}.
+   */
+  SHARDED;
+
+  /**
+   * Creates a new dispatcher implementing this mode, which consumer threads are
+   * created by {@link ExecutorFactory#PLATFORM}.
+   *
+   * @param name       the dispatcher name, used as consumer threads name prefix
+   * @param shardCount the count of shards, relevant for {@link #SHARDED} mode
+   *                   only
+   * @param capacity   the queue capacity (of each shard for {@link #SHARDED}
+   *                   mode)
+   * @return a new dispatcher instance
+   */
+  public WebsocketMessageDispatcher createDispatcher(String name, int shardCount, int capacity) {
+    return createDispatcher(name, shardCount, capacity, ExecutorFactory.PLATFORM);
+  }
+
+  /**
+   * Creates a new dispatcher implementing this mode.
+   *
+   * @param name            the dispatcher name, used as consumer threads name
+   *                        prefix
+   * @param shardCount      the count of shards, relevant for {@link #SHARDED}
+   *                        mode only
+   * @param capacity        the queue capacity (of each shard for
+   *                        {@link #SHARDED} mode)
+   * @param executorFactory the factory of executors running consumer threads
+   * @return a new dispatcher instance
+   */
+  public WebsocketMessageDispatcher createDispatcher(String name, 
+                                                     int shardCount, 
+                                                     int capacity, 
+                                                     ExecutorFactory executorFactory) {
+    switch (this) {
+    case INLINE:
+      return new InlineWebsocketMessageDispatcher();
+    case SHARDED:
+      return new ShardedWebsocketMessageDispatcher(name, shardCount, capacity, false, executorFactory);
+    default:
+      return new RingBufferWebsocketMessageDispatcher(name, capacity, false, executorFactory);
+    }
+  }
+}
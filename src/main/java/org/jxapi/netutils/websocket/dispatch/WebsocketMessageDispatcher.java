@@ -0,0 +1,44 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+/**
+ * Strategy used by a websocket implementation to run handling of incoming
+ * messages, either on socket I/O thread or on other thread(s).
+ * <p>
+ * Implementations must run tasks dispatched with the same key in the order they
+ * were dispatched. Tasks dispatched with distinct keys may run concurrently.
+ * <p>
+ * Implementations expose metrics about their queue depth and dropped tasks.
+ *
+ * @see WebsocketDispatchMode
+ * @see InlineWebsocketMessageDispatcher
+ * @see RingBufferWebsocketMessageDispatcher
+ * @see ShardedWebsocketMessageDispatcher
+ */
+public interface WebsocketMessageDispatcher {
+
+  /**
+   * Dispatches a message handling task.
+   *
+   * @param key  the key of message, e.g. its topic, used to preserve order of
+   *             messages with same key. Can be <code>null</code>.
+   * @param task the message handling task
+   * @return <code>true</code> if task was run or queued, <code>false</code> if
+   *         it was dropped because of queue overflow.
+   */
+  boolean dispatch(String key, Runnable task);
+
+  /**
+   * @return the count of tasks currently waiting to be run
+   */
+  int getQueueDepth();
+
+  /**
+   * @return the count of tasks dropped since this dispatcher was created
+   */
+  long getDroppedCount();
+
+  /**
+   * @return the count of tasks run or queued since this dispatcher was created
+   */
+  long getDispatchedCount();
+}
@@ -0,0 +1,52 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import java.nio.charset.StandardCharsets;
+
+import org.jxapi.util.JsonUtil;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Extracts a key, for instance a topic or symbol, from raw websocket messages.
+ * Used to route messages with same key to the same shard of a
+ * {@link ShardedWebsocketMessageDispatcher}, or to conflate messages with same
+ * key, see {@link org.jxapi.netutils.websocket.ConflatingWebsocketEndpoint}.
+ *
+ * @see JsonFieldMessageKeyExtractor
+ */
+public interface WebsocketMessageKeyExtractor {
+
+  /**
+   * @param message the raw message
+   * @return the message key, or <code>null</code> if message has no key
+   */
+  String extractKey(String message);
+
+  /**
+   * Extracts key of a message received as UTF-8 encoded bytes. Default
+   * implementation decodes message and calls {@link #extractKey(String)}.
+   *
+   * @param message the array holding message bytes
+   * @param offset  the offset of first message byte in array
+   * @param length  the count of message bytes
+   * @return the message key, or <code>null</code> if message has no key
+   */
+  default String extractKey(byte[] message, int offset, int length) {
+    return extractKey(new String(message, offset, length, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Extracts key of a message received as JSON tokens buffered by websocket
+   * client, see
+   * {@link org.jxapi.netutils.websocket.TokenizedWebsocketMessageHandler}.
+   * Default implementation serializes tokens back to JSON and calls
+   * {@link #extractKey(String)}.
+   *
+   * @param tokens the message tokens, to be replayed with
+   *               {@link TokenBuffer#asParser()}
+   * @return the message key, or <code>null</code> if message has no key
+   */
+  default String extractKey(TokenBuffer tokens) {
+    return extractKey(JsonUtil.pojoToJsonString(tokens));
+  }
+}
@@ -0,0 +1,277 @@
+package org.jxapi.netutils.websocket.javanet;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.jxapi.netutils.websocket.AbstractWebsocket;
+import org.jxapi.netutils.websocket.WebsocketException;
+import org.jxapi.util.ExecutorFactory;
+
+/**
+ * Websocket implementation relying on JDK {@link java.net.http.WebSocket}.
+ * <p>
+ * Implementation notes:
+ * <ul>
+ * <li>An {@link HttpClient}, with its own executor of daemon threads (see
+ * {@link #setExecutorFactory(ExecutorFactory)}), is created upon connection.
+ * Its executor is shut down upon disconnection.</li>
+ * <li>Incoming messages are dispatched right away on the thread delivering
+ * them, without any hand over to another thread. Next message is requested
+ * from socket only once previous one has been handled, so a slow handler
+ * applies back pressure on server instead of piling messages up in
+ * memory.</li>
+ * <li>Messages received in several fragments are accumulated into text and
+ * binary buffers reused across messages. Messages received in a single
+ * fragment are dispatched without copy.</li>
+ * <li>Outgoing messages are chained, each send starting when previous one
+ * completes, as JDK websocket does not allow concurrent sends, see
+ * {@link #sendAsync(String)}. A failed send does not fail next ones.</li>
+ * </ul>
+ *
+ * @see AbstractWebsocket
+ * @see java.net.http.WebSocket
+ */
+public class JavaNetWebsocket extends AbstractWebsocket {
+
+  private static final Logger log = LoggerFactory.getLogger(JavaNetWebsocket.class);
+
+  private static final long CONNECT_TIMEOUT = 30000L;
+
+  private static final long SEND_TIMEOUT = 30000L;
+
+  private static final int INITIAL_BINARY_BUFFER_SIZE = 8192;
+
+  private HttpClient httpClient;
+
+  private ExecutorService httpClientExecutor;
+
+  private ExecutorFactory executorFactory = ExecutorFactory.PLATFORM;
+
+  private volatile WebSocket webSocket;
+
+  private CompletableFuture<WebSocket> lastSend;
+
+  private final Object sendLock = new Object();
+
+  @Override
+  protected void doConnect() throws WebsocketException {
+    URI uri = getHandShakeURI();
+    if (httpClient == null) {
+      httpClientExecutor = executorFactory.createIoExecutor(getClass().getSimpleName() + "-" + uri.getHost() + "-", true);
+      httpClient = HttpClient.newBuilder()
+                             .executor(httpClientExecutor)
+                             .build();
+    }
+    log.info("Connecting websocket, URI:{}", uri);
+    try {
+      WebSocket ws = httpClient.newWebSocketBuilder()
+                               .connectTimeout(Duration.ofMillis(CONNECT_TIMEOUT))
+                               .buildAsync(uri, new JavaNetWebsocketListener())
+                               .get(CONNECT_TIMEOUT, TimeUnit.MILLISECONDS);
+      synchronized (sendLock) {
+        webSocket = ws;
+        lastSend = CompletableFuture.completedFuture(ws);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      shutdownHttpClient();
+      throw new WebsocketException("Interrupted while waiting for websocket handshake", e);
+    } catch (ExecutionException | TimeoutException e) {
+      shutdownHttpClient();
+      throw new WebsocketException(toString() + " handshake failed", e.getCause() == null ? e : e.getCause());
+    }
+    if (log.isDebugEnabled()) {
+      log.debug("{}:Done handshake", this);
+    }
+  }
+
+  @Override
+  protected void doDisconnect() {
+    log.debug("Closing websocket");
+    WebSocket ws = webSocket;
+    webSocket = null;
+    if (ws == null) {
+      shutdownHttpClient();
+      return;
+    }
+    try {
+      if (!ws.isOutputClosed()) {
+        ws.sendClose(WebSocket.NORMAL_CLOSURE, "").get(SEND_TIMEOUT, TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while closing websocket {}", this);
+    } catch (ExecutionException | TimeoutException e) {
+      log.warn("Error closing websocket {}", this, e);
+    } finally {
+      ws.abort();
+      shutdownHttpClient();
+    }
+    log.debug("Websocket is closed");
+  }
+
+  private void shutdownHttpClient() {
+    if (httpClientExecutor != null) {
+      httpClientExecutor.shutdown();
+      httpClientExecutor = null;
+      httpClient = null;
+    }
+  }
+
+  @Override
+  protected void doSend(String message) throws WebsocketException {
+    try {
+      chainSend(message).get(SEND_TIMEOUT, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WebsocketException(toString() + " interrupted while sending message:" + message, e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new WebsocketException(toString() + " error occurred while sending message:" + message,
+                                   e.getCause() == null ? e : e.getCause());
+    }
+  }
+
+  /**
+   * Sends a text message without waiting for completion. Message is sent once
+   * every message previously submitted has been sent, so callers can submit
+   * several messages in a row without waiting for each of them.
+   *
+   * @param message the message to send
+   * @return a future completed when message has been sent, or completed
+   *         exceptionally if sending it failed. Failure of a previously
+   *         submitted message does not prevent this one from being sent.
+   * @throws WebsocketException if this websocket is not connected
+   */
+  public CompletableFuture<Void> sendAsync(String message) throws WebsocketException {
+    log.debug("{} > {}", this, message);
+    return chainSend(message);
+  }
+
+  private CompletableFuture<Void> chainSend(String message) throws WebsocketException {
+    synchronized (sendLock) {
+      if (webSocket == null || !isConnected()) {
+        throw new WebsocketException("Not connected:" + this);
+      }
+      WebSocket ws = webSocket;
+      CompletableFuture<WebSocket> send = lastSend.thenCompose(w -> w.sendText(message, true));
+      // Next message is sent once this one completed, successfully or not
+      lastSend = send.handle((w, e) -> ws);
+      return send.thenApply(w -> null);
+    }
+  }
+
+  /**
+   * @return the factory of executor of {@link HttpClient}, see
+   *         {@link #setExecutorFactory(ExecutorFactory)}
+   */
+  public ExecutorFactory getExecutorFactory() {
+    return executorFactory;
+  }
+
+  /**
+   * Sets the factory of executor of {@link HttpClient} used to deliver incoming
+   * messages and complete sends, for instance to run on virtual threads or a
+   * shared pool. Should be set before first connection. Default is
+   * {@link ExecutorFactory#PLATFORM}.
+   * 
+   * @param executorFactory the factory to set
+   */
+  public void setExecutorFactory(ExecutorFactory executorFactory) {
+    this.executorFactory = executorFactory;
+  }
+
+  private class JavaNetWebsocketListener implements WebSocket.Listener {
+
+    private final StringBuilder textBuffer = new StringBuilder();
+
+    private byte[] binaryBuffer = new byte[0];
+
+    private int binaryLength = 0;
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+      log.debug("{}:onOpen", JavaNetWebsocket.this);
+      webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+      try {
+        if (last && textBuffer.length() == 0) {
+          dispatchMessage(data.toString());
+        } else {
+          textBuffer.append(data);
+          if (last) {
+            String message = textBuffer.toString();
+            textBuffer.setLength(0);
+            dispatchMessage(message);
+          }
+        }
+      } finally {
+        webSocket.request(1);
+      }
+      return null;
+    }
+
+    @Override
+    public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+      try {
+        if (last && binaryLength == 0) {
+          dispatchMessage(data);
+        } else {
+          appendBinary(data);
+          if (last) {
+            int length = binaryLength;
+            binaryLength = 0;
+            dispatchMessage(binaryBuffer, 0, length);
+          }
+        }
+      } finally {
+        webSocket.request(1);
+      }
+      return null;
+    }
+
+    private void appendBinary(ByteBuffer data) {
+      int required = binaryLength + data.remaining();
+      if (required > binaryBuffer.length) {
+        byte[] newBuffer = new byte[Math.max(required, Math.max(INITIAL_BINARY_BUFFER_SIZE, binaryBuffer.length * 2))];
+        System.arraycopy(binaryBuffer, 0, newBuffer, 0, binaryLength);
+        binaryBuffer = newBuffer;
+      }
+      data.get(binaryBuffer, binaryLength, data.remaining());
+      binaryLength = required;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+      log.debug("{}: onClose:statusCode:{}, reason:{}", JavaNetWebsocket.this, statusCode, reason);
+      if (statusCode != WebSocket.NORMAL_CLOSURE && isConnected()) {
+        dispatchError(new WebsocketException("Connection " + JavaNetWebsocket.this
+                                             + " closed abnormally:" + statusCode + " " + reason));
+      }
+      return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+      if (isConnected()) {
+        dispatchError(JavaNetWebsocket.this.toString() + ":onError", error);
+      } else {
+        log.debug("{}:onError after disconnection", JavaNetWebsocket.this, error);
+      }
+    }
+  }
+}
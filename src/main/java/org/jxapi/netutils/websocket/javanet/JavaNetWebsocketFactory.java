@@ -0,0 +1,33 @@
+package org.jxapi.netutils.websocket.javanet;
+
+import java.util.Optional;
+import java.util.Properties;
+
+import org.jxapi.exchange.AbstractExchange;
+import org.jxapi.exchange.CommonConfigProperties;
+import org.jxapi.exchange.Exchange;
+import org.jxapi.netutils.websocket.Websocket;
+import org.jxapi.netutils.websocket.WebsocketFactory;
+
+/**
+ * {@link WebsocketFactory} implementation creating {@link JavaNetWebsocket}
+ * instances. Its class name can be set as
+ * {@link org.jxapi.exchange.descriptor.gen.WebsocketClientDescriptor#getWebsocketFactory()}
+ * in exchange descriptor.
+ * <p>
+ * Executors of created websocket are created according to
+ * {@link CommonConfigProperties#EXECUTOR_MODE_PROPERTY} exchange property.
+ */
+public class JavaNetWebsocketFactory implements WebsocketFactory {
+
+  @Override
+  public Websocket createWebsocket(Exchange exchange) {
+    Properties properties = Optional.ofNullable(exchange)
+                                    .map(Exchange::getProperties)
+                                    .orElseGet(Properties::new);
+    JavaNetWebsocket websocket = new JavaNetWebsocket();
+    websocket.setExecutorFactory(AbstractExchange.createExecutorFactory(properties));
+    return websocket;
+  }
+
+}
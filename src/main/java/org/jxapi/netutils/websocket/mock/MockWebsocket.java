@@ -52,6 +52,11 @@ public class MockWebsocket extends GenericObserver<MockWebsocketEvent> implement
       super.dispatchMessage(message);
     }
 
+    @Override
+    public void dispatchMessage(byte[] message, int offset, int length) {
+      super.dispatchMessage(message, offset, length);
+    }
+
     @Override
     public void dispatchError(WebsocketException error) {
       super.dispatchError(error);
@@ -173,6 +178,17 @@ public class MockWebsocket extends GenericObserver<MockWebsocketEvent> implement
     this.delegate.dispatchMessage(message);
   }
 
+  /**
+   * Dispatches a message received as UTF-8 encoded bytes to the websocket.
+   *
+   * @param message the array holding message bytes.
+   * @param offset  the offset of first message byte in array.
+   * @param length  the count of message bytes.
+   */
+  public void dispatchMessage(byte[] message, int offset, int length) {
+    this.delegate.dispatchMessage(message, offset, length);
+  }
+
   /**
    * Dispatches an error to the websocket.
    *
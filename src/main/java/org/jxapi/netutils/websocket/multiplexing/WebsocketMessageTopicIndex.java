@@ -0,0 +1,345 @@
+package org.jxapi.netutils.websocket.multiplexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hash index of websocket message topics, used to resolve topics an incoming
+ * message belongs to in constant time per message field, whatever the number of
+ * subscribed topics.
+ * <p>
+ * Topics are added with the {@link WebsocketMessageTopicMatcherFactory} used to
+ * match messages against them. The matcher tree built by such factory is
+ * compiled to a disjunction of conjunctions of (field name, value) terms, see
+ * {@link #compile(WebsocketMessageTopicMatcherFactory)}. Each term is stored in
+ * a field name &rarr; field value &rarr; conjunctions hash index, so that each
+ * field of an incoming message costs a couple of hash lookups.
+ * <p>
+ * Only trees made of {@link FieldValueWebsocketMessageTopicMatcher},
+ * {@link AndWebsocketMessageTopicMatcher},
+ * {@link OrWebsocketMessageTopicMatcher} and
+ * {@link WebsocketMessageTopicMatcher#ANY_MATCHER} can be compiled. Topics whose
+ * matcher tree contains other matchers, for instance
+ * {@link FieldRegexpWebsocketMessageTopicMatcher}, are rejected by
+ * {@link #add(Object, WebsocketMessageTopicMatcherFactory)} and must be matched
+ * the classic way by caller.
+ * <p>
+ * Matching semantics are the same as matcher trees: only the first occurrence
+ * of a field name in a message is considered, and a topic is matched as soon as
+ * all fields of one of its conjunctions have been found with expected value.
+ * <p>
+ * Remark: This class is not thread safe while topics are being added. Once
+ * built, an index can be shared between threads as long as each thread uses its
+ * own {@link MatchContext}, see {@link #newMatchContext()}.
+ *
+ * @param <T> Type of topic objects indexed
+ * @see WebsocketMessageTopicMatcherFactory
+ * @see WSMTMFUtil
+ */
+public class WebsocketMessageTopicIndex<T> {
+
+  /**
+   * Maximum count of conjunctions a single topic matcher tree may be compiled
+   * to. Trees expanding to more conjunctions are not indexed.
+   */
+  public static final int MAX_CONJUNCTIONS_PER_TOPIC = 64;
+
+  private final Map<String, FieldIndex> fields = new HashMap<>();
+  private final List<T> topics = new ArrayList<>();
+  private final List<Integer> matchAllTopics = new ArrayList<>();
+  private int[] conjunctionSizes = new int[16];
+  private int[] conjunctionTopics = new int[16];
+  private int conjunctionCount = 0;
+
+  /**
+   * Compiles the matcher tree created by a factory to a list of conjunctions,
+   * each one being a map of expected value by field name. A message matches the
+   * tree when it matches at least one of returned conjunctions. An empty
+   * conjunction matches any message.
+   *
+   * @param matcherFactory the factory of matchers to compile
+   * @return the conjunctions list, empty if matcher can never match, or
+   *         <code>null</code> if matcher tree cannot be compiled because it
+   *         contains matchers not supported by index or expands to more than
+   *         {@link #MAX_CONJUNCTIONS_PER_TOPIC} conjunctions.
+   */
+  public static List<Map<String, String>> compile(WebsocketMessageTopicMatcherFactory matcherFactory) {
+    if (matcherFactory == null) {
+      return null;
+    }
+    return compile(matcherFactory.createWebsocketMessageTopicMatcher());
+  }
+
+  private static List<Map<String, String>> compile(WebsocketMessageTopicMatcher matcher) {
+    if (matcher == WebsocketMessageTopicMatcher.ANY_MATCHER) {
+      return List.of(Collections.emptyMap());
+    } else if (matcher instanceof FieldValueWebsocketMessageTopicMatcher m) {
+      return List.of(Collections.singletonMap(m.getFieldName(), m.getValue()));
+    } else if (matcher instanceof OrWebsocketMessageTopicMatcher m) {
+      List<Map<String, String>> res = new ArrayList<>();
+      for (WebsocketMessageTopicMatcher operand : m.getMatchers()) {
+        List<Map<String, String>> c = compile(operand);
+        if (c == null) {
+          return null;
+        }
+        res.addAll(c);
+        if (res.size() > MAX_CONJUNCTIONS_PER_TOPIC) {
+          return null;
+        }
+      }
+      return res;
+    } else if (matcher instanceof AndWebsocketMessageTopicMatcher m) {
+      List<Map<String, String>> res = List.of(Collections.emptyMap());
+      for (WebsocketMessageTopicMatcher operand : m.getMatchers()) {
+        List<Map<String, String>> c = compile(operand);
+        if (c == null) {
+          return null;
+        }
+        res = crossProduct(res, c);
+        if (res.size() > MAX_CONJUNCTIONS_PER_TOPIC) {
+          return null;
+        }
+      }
+      return res;
+    }
+    return null;
+  }
+
+  private static List<Map<String, String>> crossProduct(List<Map<String, String>> left, List<Map<String, String>> right) {
+    List<Map<String, String>> res = new ArrayList<>(left.size() * right.size());
+    for (Map<String, String> l : left) {
+      for (Map<String, String> r : right) {
+        Map<String, String> merged = merge(l, r);
+        if (merged != null) {
+          res.add(merged);
+        }
+      }
+    }
+    return res;
+  }
+
+  /**
+   * @return merged conjunction or <code>null</code> if both expect distinct
+   *         values for the same field, which means merged conjunction can never
+   *         match.
+   */
+  private static Map<String, String> merge(Map<String, String> l, Map<String, String> r) {
+    Map<String, String> res = new HashMap<>(l);
+    for (Map.Entry<String, String> e : r.entrySet()) {
+      if (res.containsKey(e.getKey())) {
+        if (!Objects.equals(res.get(e.getKey()), e.getValue())) {
+          return null;
+        }
+      } else {
+        res.put(e.getKey(), e.getValue());
+      }
+    }
+    return res;
+  }
+
+  /**
+   * Adds a topic to this index. Topics added first are returned first when
+   * matched by same message field.
+   *
+   * @param topic          the topic to add
+   * @param matcherFactory the factory of matchers used to match messages of
+   *                       that topic
+   * @return <code>true</code> if topic was indexed, <code>false</code> if its
+   *         matcher tree could not be compiled, see
+   *         {@link #compile(WebsocketMessageTopicMatcherFactory)}. In that case
+   *         the topic is not added.
+   */
+  public boolean add(T topic, WebsocketMessageTopicMatcherFactory matcherFactory) {
+    return add(topic, compile(matcherFactory));
+  }
+
+  /**
+   * Adds a topic to this index, using conjunctions previously compiled with
+   * {@link #compile(WebsocketMessageTopicMatcherFactory)}. Topics added first
+   * are returned first when matched by same message field.
+   *
+   * @param topic        the topic to add
+   * @param conjunctions the compiled conjunctions used to match messages of that
+   *                     topic
+   * @return <code>true</code> if topic was indexed, <code>false</code> if
+   *         <code>conjunctions</code> is <code>null</code>. In that case the
+   *         topic is not added.
+   */
+  public boolean add(T topic, List<Map<String, String>> conjunctions) {
+    if (conjunctions == null) {
+      return false;
+    }
+    int topicOrdinal = topics.size();
+    topics.add(topic);
+    for (Map<String, String> conjunction : conjunctions) {
+      if (conjunction.isEmpty()) {
+        if (!matchAllTopics.contains(topicOrdinal)) {
+          matchAllTopics.add(topicOrdinal);
+        }
+        continue;
+      }
+      int conjunctionOrdinal = addConjunction(topicOrdinal, conjunction.size());
+      conjunction.forEach((fieldName, value) ->
+        fields.computeIfAbsent(fieldName, k -> new FieldIndex(fields.size())).add(value, conjunctionOrdinal));
+    }
+    return true;
+  }
+
+  private int addConjunction(int topicOrdinal, int size) {
+    if (conjunctionCount == conjunctionSizes.length) {
+      conjunctionSizes = Arrays.copyOf(conjunctionSizes, conjunctionCount * 2);
+      conjunctionTopics = Arrays.copyOf(conjunctionTopics, conjunctionCount * 2);
+    }
+    conjunctionSizes[conjunctionCount] = size;
+    conjunctionTopics[conjunctionCount] = topicOrdinal;
+    return conjunctionCount++;
+  }
+
+  /**
+   * @return the count of topics in this index
+   */
+  public int size() {
+    return topics.size();
+  }
+
+  /**
+   * @return <code>true</code> if no topic is indexed
+   */
+  public boolean isEmpty() {
+    return topics.isEmpty();
+  }
+
+  /**
+   * Creates a new matching context, holding the state of matching of a single
+   * message at a time against this index. Context can be reused for subsequent
+   * messages after a call to {@link MatchContext#reset()}.
+   *
+   * @return a new matching context for this index.
+   */
+  public MatchContext newMatchContext() {
+    return new MatchContext();
+  }
+
+  private static class FieldIndex {
+    final int ordinal;
+    final Map<String, Conjunctions> conjunctionsByValue = new HashMap<>();
+
+    FieldIndex(int ordinal) {
+      this.ordinal = ordinal;
+    }
+
+    void add(String value, int conjunctionOrdinal) {
+      conjunctionsByValue.computeIfAbsent(value, k -> new Conjunctions()).add(conjunctionOrdinal);
+    }
+  }
+
+  /**
+   * Growable array of conjunction ordinals, so that adding topics sharing a
+   * same field value (e.g. an event type) costs amortized O(1).
+   */
+  private static class Conjunctions {
+    int[] ordinals = new int[2];
+    int size = 0;
+
+    void add(int conjunctionOrdinal) {
+      if (size == ordinals.length) {
+        ordinals = Arrays.copyOf(ordinals, size * 2);
+      }
+      ordinals[size++] = conjunctionOrdinal;
+    }
+  }
+
+  /**
+   * State of matching of a single message against enclosing index. Not thread
+   * safe, each dispatching thread must use its own instance.
+   * <p>
+   * Uses generation stamps instead of clearing its state arrays so
+   * {@link #reset()} costs O(1).
+   */
+  public class MatchContext {
+
+    private int[] fieldStamps = new int[fields.size()];
+    private int[] conjunctionStamps = new int[conjunctionCount];
+    private int[] conjunctionRemaining = new int[conjunctionCount];
+    private int[] topicStamps = new int[topics.size()];
+    private final List<T> matched = new ArrayList<>();
+    private int generation = 1;
+    private boolean started = false;
+
+    /**
+     * @return the index this context matches messages against
+     */
+    public WebsocketMessageTopicIndex<T> getIndex() {
+      return WebsocketMessageTopicIndex.this;
+    }
+
+    /**
+     * Resets this context so it can be used to match a new message.
+     */
+    public void reset() {
+      matched.clear();
+      started = false;
+      generation++;
+      if (generation == 0) {
+        // Wrapped around, stamps must be cleared.
+        Arrays.fill(fieldStamps, 0);
+        Arrays.fill(conjunctionStamps, 0);
+        Arrays.fill(topicStamps, 0);
+        generation = 1;
+      }
+    }
+
+    /**
+     * Matches next field of current message.
+     *
+     * @param fieldName the name of the field
+     * @param value     the field value
+     * @return the topics matched by this field, that were not matched by previous
+     *         fields of current message, in order they were added to index.
+     *         Returned list is reused by subsequent calls and must not be kept
+     *         or modified by caller.
+     */
+    public List<T> matches(String fieldName, String value) {
+      matched.clear();
+      if (!started) {
+        started = true;
+        for (int i = 0; i < matchAllTopics.size(); i++) {
+          addMatchedTopic(matchAllTopics.get(i));
+        }
+      }
+      FieldIndex field = fields.get(fieldName);
+      if (field == null || fieldStamps[field.ordinal] == generation) {
+        // Field not indexed or already found in message.
+        return matched;
+      }
+      fieldStamps[field.ordinal] = generation;
+      Conjunctions conjunctions = field.conjunctionsByValue.get(value);
+      if (conjunctions == null) {
+        return matched;
+      }
+      for (int i = 0; i < conjunctions.size; i++) {
+        int c = conjunctions.ordinals[i];
+        if (conjunctionStamps[c] != generation) {
+          conjunctionStamps[c] = generation;
+          conjunctionRemaining[c] = conjunctionSizes[c];
+        }
+        if (--conjunctionRemaining[c] == 0) {
+          addMatchedTopic(conjunctionTopics[c]);
+        }
+      }
+      return matched;
+    }
+
+    private void addMatchedTopic(int topicOrdinal) {
+      if (topicStamps[topicOrdinal] != generation) {
+        topicStamps[topicOrdinal] = generation;
+        matched.add(topics.get(topicOrdinal));
+      }
+    }
+  }
+}
@@ -2,9 +2,10 @@ package org.jxapi.netutils.websocket.spring;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
@@ -12,8 +13,10 @@ import org.glassfish.tyrus.client.ClientManager;
 import org.glassfish.tyrus.container.grizzly.client.GrizzlyClientProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketHandler;
@@ -24,13 +27,26 @@ import org.springframework.web.socket.client.standard.StandardWebSocketClient;
 
 import org.jxapi.netutils.websocket.AbstractWebsocket;
 import org.jxapi.netutils.websocket.WebsocketException;
+import org.jxapi.netutils.websocket.dispatch.RingBufferWebsocketMessageDispatcher;
+import org.jxapi.netutils.websocket.dispatch.WebsocketMessageDispatcher;
+import org.jxapi.netutils.websocket.dispatch.WebsocketMessageKeyExtractor;
+import org.jxapi.util.ExecutorFactory;
 
 /**
  * Websocket implementation using Spring's {@link StandardWebSocketClient}.
  * <p>
  * Implementation notes:
  * <ul>
- * <li>Uses internal own {@link ThreadPoolTaskExecutor} for handling websocket messages</li>
+ * <li>Hands incoming messages over to a {@link WebsocketMessageDispatcher},
+ * by default a {@link RingBufferWebsocketMessageDispatcher} handling messages
+ * in order they were received on a single consumer thread. Dispatcher can be
+ * changed with {@link #setMessageDispatcher(WebsocketMessageDispatcher)}, for
+ * instance to shard messages by key, see
+ * {@link #setMessageKeyExtractor(WebsocketMessageKeyExtractor)}</li>
+ * <li>Uses internal own {@link ThreadPoolTaskExecutor} for websocket handshake,
+ * unless an executor factory is set, see
+ * {@link #setExecutorFactory(ExecutorFactory)}. Executor is created upon
+ * connection and shut down upon disconnection.</li>
  * <li>Uses Grizzly's {@link ClientManager} for websocket connection management</li>
  * <li>Customizes Grizzly's thread pool configuration to use a single worker thread</li>
  * </ul>
@@ -45,11 +61,76 @@ public class SpringWebsocket extends AbstractWebsocket {
 
   private ClientManager clientManager;
 
-  private ThreadPoolTaskExecutor taskExecutor;
+  private AsyncTaskExecutor taskExecutor;
+  
+  // Executor created by executor factory, wrapped by task executor
+  private ExecutorService executorService;
+
+  private ExecutorFactory executorFactory = null;
 
   private WebSocketSession webSocketSession;
 
-  private int taskExecutorCounter = 0;
+  private WebsocketMessageDispatcher messageDispatcher = new RingBufferWebsocketMessageDispatcher(getClass().getSimpleName() + "-dispatch-");
+
+  private WebsocketMessageKeyExtractor messageKeyExtractor = null;
+
+  /**
+   * @return the dispatcher running handling of incoming messages, exposing queue
+   *         depth and dropped messages metrics
+   */
+  public WebsocketMessageDispatcher getMessageDispatcher() {
+    return messageDispatcher;
+  }
+
+  /**
+   * Sets the dispatcher running handling of incoming messages. Should be set
+   * before connecting.
+   * 
+   * @param messageDispatcher the dispatcher to set
+   */
+  public void setMessageDispatcher(WebsocketMessageDispatcher messageDispatcher) {
+    this.messageDispatcher = messageDispatcher;
+  }
+
+  /**
+   * @return the extractor of keys passed along with messages to
+   *         {@link #getMessageDispatcher()}, or <code>null</code> if messages
+   *         are dispatched without key
+   */
+  public WebsocketMessageKeyExtractor getMessageKeyExtractor() {
+    return messageKeyExtractor;
+  }
+
+  /**
+   * Sets the extractor of keys passed along with messages to message
+   * dispatcher, for instance to preserve order of messages per key.
+   * 
+   * @param messageKeyExtractor the key extractor to set, or <code>null</code>
+   *                            to dispatch messages without key
+   */
+  public void setMessageKeyExtractor(WebsocketMessageKeyExtractor messageKeyExtractor) {
+    this.messageKeyExtractor = messageKeyExtractor;
+  }
+
+  /**
+   * @return the factory of executor used for websocket handshake, see
+   *         {@link #setExecutorFactory(ExecutorFactory)}
+   */
+  public ExecutorFactory getExecutorFactory() {
+    return executorFactory;
+  }
+
+  /**
+   * Sets the factory of executor used for websocket handshake, for instance to
+   * run it on virtual threads or a shared pool. Should be set before
+   * connecting.
+   * 
+   * @param executorFactory the factory to set, or <code>null</code> to use an
+   *                        internal {@link ThreadPoolTaskExecutor}
+   */
+  public void setExecutorFactory(ExecutorFactory executorFactory) {
+    this.executorFactory = executorFactory;
+  }
 
   @Override
   protected void doSend(String message) throws WebsocketException {
@@ -63,12 +144,20 @@ public class SpringWebsocket extends AbstractWebsocket {
 
   @Override
   protected void doConnect() throws WebsocketException {
-    this.taskExecutor = new ThreadPoolTaskExecutor();
-    this.taskExecutor.setThreadNamePrefix(url + "-" + taskExecutorCounter++);
-    this.taskExecutor.setCorePoolSize(0);
-    this.taskExecutor.setMaxPoolSize(2);
-    this.taskExecutor.setKeepAliveSeconds(5);
-    this.taskExecutor.initialize();
+    if (this.taskExecutor == null) {
+      if (executorFactory != null) {
+        this.executorService = executorFactory.createIoExecutor(url + "-", true);
+        this.taskExecutor = new TaskExecutorAdapter(executorService);
+      } else {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setThreadNamePrefix(url + "-");
+        threadPoolTaskExecutor.setCorePoolSize(0);
+        threadPoolTaskExecutor.setMaxPoolSize(2);
+        threadPoolTaskExecutor.setKeepAliveSeconds(5);
+        threadPoolTaskExecutor.initialize();
+        this.taskExecutor = threadPoolTaskExecutor;
+      }
+    }
 
     this.clientManager = ClientManager.createClient();
     this.clientManager.getProperties().put(GrizzlyClientProperties.SELECTOR_THREAD_POOL_CONFIG, null);
@@ -85,7 +174,7 @@ public class SpringWebsocket extends AbstractWebsocket {
 
     CountDownLatch websocketSessionAvailable = new CountDownLatch(1);
     CompletableFuture<WebSocketSession> futureSession = client.execute(
-        new SpringWebsocketHandler(this.taskExecutor), 
+        new SpringWebsocketHandler(), 
         new WebSocketHttpHeaders(), 
         uri);
 
@@ -118,25 +207,6 @@ public class SpringWebsocket extends AbstractWebsocket {
     }
   }
 
-  /**
-   * Returns the URI for the websocket handshake. This URI is created from the base URL.
-   * @return the URI for the websocket handshake
-   * @throws WebsocketException if an error occurs while creating the URI, e.g. invalid URL.
-   */
-  protected URI getHandShakeURI() throws WebsocketException {
-    URI uri;
-    try {
-      uri = new URI(url);
-    } catch (URISyntaxException e) {
-      throw new WebsocketException("Error creating URI for websocket base URL:" + url, e);
-    }
-    String scheme = uri.getScheme();
-    if (!"ws".equals(scheme) && !"wss".equals(scheme)) {
-      throw new WebsocketException("Invalid scheme: " + scheme + " for:" + uri);
-    }
-    return uri;
-  }
-
   @Override
   protected void doDisconnect() {
     log.debug("Closing websocket");
@@ -152,20 +222,22 @@ public class SpringWebsocket extends AbstractWebsocket {
     if (clientManager != null) {
       clientManager.shutdown();
     }
-    if (taskExecutor != null) {
-      taskExecutor.shutdown();
-    }
+    shutdownTaskExecutor();
     log.debug("Websocket is closed");
   }
+  
+  private void shutdownTaskExecutor() {
+    if (executorService != null) {
+      executorService.shutdown();
+      executorService = null;
+    } else if (taskExecutor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+      threadPoolTaskExecutor.shutdown();
+    }
+    taskExecutor = null;
+  }
 
   private class SpringWebsocketHandler implements WebSocketHandler {
 
-    private final TaskExecutor dispatchMessageExecutor;
-
-    public SpringWebsocketHandler(TaskExecutor dispatchMessageExecutor) {
-      this.dispatchMessageExecutor = dispatchMessageExecutor;
-    }
-
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
       log.debug("afterConnectionEstablished:session:{}", session);
@@ -174,10 +246,19 @@ public class SpringWebsocket extends AbstractWebsocket {
     @Override
     public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
       log.debug("handleMessage:session:{}, message:{}", session, message);
+      WebsocketMessageKeyExtractor keyExtractor = messageKeyExtractor;
       if (message instanceof TextMessage m) {
-        dispatchMessageExecutor.execute(new DispatchTextMessageTask(m));
+        String key = keyExtractor == null ? null : keyExtractor.extractKey(m.getPayload());
+        messageDispatcher.dispatch(key, new DispatchTextMessageTask(m));
+      } else if (message instanceof BinaryMessage m) {
+        ByteBuffer payload = m.getPayload();
+        String key = null;
+        if (keyExtractor != null && payload.hasArray()) {
+          key = keyExtractor.extractKey(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        }
+        messageDispatcher.dispatch(key, () -> dispatchMessage(payload));
       } else {
-        log.debug("handleMessage:message is not a TextMessage:{}", message);
+        log.debug("handleMessage:message is not a TextMessage nor BinaryMessage:{}", message);
       }
     }
 
@@ -0,0 +1,151 @@
+package org.jxapi.observability;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative <code>long</code> values, for instance
+ * latencies or queue depths.
+ * <p>
+ * Values are counted in buckets of exponentially growing width: bucket 0
+ * counts value 0, bucket <code>i &gt; 0</code> counts values from
+ * <code>2^(i-1)</code> to <code>2^i - 1</code>. Hence percentiles (see
+ * {@link #getPercentile(double)}) are approximated by upper bound of bucket
+ * they fall in, with a relative error lower than 2.
+ * <p>
+ * Recording a value (see {@link #record(long)}) does not allocate any object
+ * and can be performed concurrently from several threads.
+ */
+public class Histogram {
+
+  /**
+   * Count of buckets of histogram.
+   */
+  public static final int BUCKET_COUNT = 64;
+
+  /**
+   * @param index index of bucket
+   * @return the greatest value counted in bucket with given index.
+   */
+  public static long getBucketUpperBound(int index) {
+    if (index <= 0) {
+      return 0L;
+    }
+    return index >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << index) - 1;
+  }
+
+  private static int getBucketIndex(long value) {
+    return Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(value));
+  }
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records a value.
+   *
+   * @param value value to record, negative values are counted as 0.
+   */
+  public void record(long value) {
+    long v = Math.max(0L, value);
+    buckets.incrementAndGet(getBucketIndex(v));
+    count.increment();
+    sum.add(v);
+    if (v > max.get()) {
+      max.accumulateAndGet(v, Math::max);
+    }
+  }
+
+  /**
+   * @return count of recorded values.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return sum of recorded values.
+   */
+  public long getSum() {
+    return sum.sum();
+  }
+
+  /**
+   * @return greatest recorded value, 0 if no value has been recorded.
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * @return mean of recorded values, 0 if no value has been recorded.
+   */
+  public double getMean() {
+    long c = getCount();
+    return c == 0 ? 0.0 : (double) getSum() / c;
+  }
+
+  /**
+   * @param percentile percentile to compute, between 0 and 100.
+   * @return an approximation by excess of value below or equal to which given
+   *         percentile of recorded values are, that is upper bound of bucket
+   *         that percentile falls in, capped to {@link #getMax()}. 0 if no value
+   *         has been recorded.
+   */
+  public long getPercentile(double percentile) {
+    long[] counts = getBucketCounts();
+    long total = 0L;
+    for (long c : counts) {
+      total += c;
+    }
+    if (total == 0L) {
+      return 0L;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+    long cumulated = 0L;
+    for (int i = 0; i < counts.length; i++) {
+      cumulated += counts[i];
+      if (cumulated >= rank) {
+        return Math.min(getBucketUpperBound(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * @return a snapshot of count of values recorded in each bucket, see
+   *         {@link #getBucketUpperBound(int)}.
+   */
+  public long[] getBucketCounts() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+    }
+    return counts;
+  }
+
+  /**
+   * Clears all recorded values.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets.set(i, 0L);
+    }
+    count.reset();
+    sum.reset();
+    max.set(0L);
+  }
+
+  /**
+   * @return a summary of recorded values: count, mean, median, 99th percentile
+   *         and max.
+   */
+  @Override
+  public String toString() {
+    return String.format("{count=%d, mean=%.2f, p50=%d, p99=%d, max=%d}",
+                         getCount(), getMean(), getPercentile(50), getPercentile(99), getMax());
+  }
+}
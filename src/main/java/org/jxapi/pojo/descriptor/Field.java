@@ -66,6 +66,12 @@ import org.jxapi.util.Pojo;
  * <li>Its <code>implementedInterfaces</code>, the list of interfaces
  * implemented by the object defined by this field. Relevant only when type is
  * an object see {@link Type#isObject()}.</li>
+ * <li>Its <code>unboxed</code> flag, to generate a <code>INT</code>,
+ * <code>LONG</code>, <code>BOOLEAN</code> or <code>BIGDECIMAL</code> field as
+ * a Java primitive, see {@link #getUnboxed()}.</li>
+ * <li>Its <code>lazy</code> flag, to decode a <code>LIST</code>,
+ * <code>MAP</code> or <code>OBJECT</code> field value on first access, see
+ * {@link #getLazy()}.</li>
  * </ul>
  * 
  * JSON examples:<br>
@@ -183,6 +189,10 @@ public class Field implements Pojo<Field> {
   
   private UrlParameterType in;
   
+  private Boolean unboxed;
+  
+  private Boolean lazy;
+  
   /**
    * Clone this field
    * @return Deep cloned instance of this field.
@@ -201,6 +211,8 @@ public class Field implements Pojo<Field> {
     clone.properties = cloneList(this.properties);
     clone.implementedInterfaces = cloneList(this.implementedInterfaces);
     clone.in = this.in;
+    clone.unboxed = this.unboxed;
+    clone.lazy = this.lazy;
     return clone;
   }
   
@@ -489,6 +501,70 @@ private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundE
     this.defaultValue = defaultValue;
   }
   
+  /**
+   * Whether this field is generated as a Java primitive instead of boxed type:
+   * <code>int</code> for <code>INT</code>, <code>long</code> for
+   * <code>LONG</code>, <code>boolean</code> for <code>BOOLEAN</code> and
+   * <code>double</code> for <code>BIGDECIMAL</code>. Ignored for other types.
+   * <p>
+   * Unboxed fields are read and written without allocation, which suits hot
+   * fields of frequent incoming messages like tickers. Since a primitive cannot
+   * be <code>null</code>, presence of value is tracked in a bit mask of
+   * generated class, exposed with <code>has&lt;Field&gt;()</code> and
+   * <code>clear&lt;Field&gt;()</code> methods: getter returns <code>0</code>
+   * (or <code>false</code>) when value is absent. <code>BIGDECIMAL</code> values
+   * are stored as <code>double</code>, hence may lose precision beyond 15
+   * significant digits.
+   * <p>
+   * Meant for fields of responses and websocket messages: request fields should
+   * stay boxed, as generated demo snippets set them from nullable
+   * configuration properties.
+   * 
+   * @return <code>true</code> if this field is generated as a Java primitive,
+   *         <code>null</code> or <code>false</code> (default) for boxed type.
+   */
+  public Boolean getUnboxed() {
+    return unboxed;
+  }
+
+  /**
+   * @param unboxed <code>true</code> to generate this field as a Java primitive
+   * @see #getUnboxed()
+   */
+  public void setUnboxed(Boolean unboxed) {
+    this.unboxed = unboxed;
+  }
+  
+  /**
+   * Whether value of this field is decoded on first access instead of when
+   * enclosing message is deserialized. Relevant for <code>LIST</code>,
+   * <code>MAP</code> and <code>OBJECT</code> types only, ignored for other
+   * types and for objects of a custom class (see {@link #getObjectName()}).
+   * <p>
+   * When deserializing a message, generated deserializer only records the
+   * position of JSON value of a lazy field, skipping its content. Value is
+   * decoded when getter is called for the first time. This spares decoding
+   * large sub-trees of responses, for instance markets list of an
+   * 'exchange info' endpoint, when caller reads only a few fields. Decoding
+   * errors are then raised by getter, as
+   * {@link IllegalArgumentException}.
+   * 
+   * @return <code>true</code> if value of this field is decoded on first
+   *         access, <code>null</code> or <code>false</code> (default) if it is
+   *         decoded with enclosing message.
+   */
+  public Boolean getLazy() {
+    return lazy;
+  }
+
+  /**
+   * @param lazy <code>true</code> to decode value of this field on first access
+   * @see #getLazy()
+   */
+  public void setLazy(Boolean lazy) {
+    this.lazy = lazy;
+  }
+  
   @Override
   public boolean equals(Object other) {
     if (other == null) {
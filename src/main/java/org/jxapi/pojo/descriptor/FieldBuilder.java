@@ -176,6 +176,28 @@ public class FieldBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the field is generated as a Java primitive.
+   * @param unboxed <code>true</code> to generate the field as a Java primitive, see
+   *                {@link Field#getUnboxed()}
+   * @return this builder
+   */
+  public FieldBuilder unboxed(Boolean unboxed) {
+    field.setUnboxed(unboxed);
+    return this;
+  }
+
+  /**
+   * Sets whether the field value is decoded on first access.
+   * @param lazy <code>true</code> to decode the field value on first access, see
+   *             {@link Field#getLazy()}
+   * @return this builder
+   */
+  public FieldBuilder lazy(Boolean lazy) {
+    field.setLazy(lazy);
+    return this;
+  }
+
   /**
    * Adds an implemented interface to the field.
    * 
@@ -0,0 +1,86 @@
+package org.jxapi.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ExecutorFactory} creating executors with their own threads:
+ * <ul>
+ * <li>Platform threads: a cached thread pool for
+ * {@link #createExecutor(String, boolean)}, a single thread for
+ * {@link #createScheduledExecutor(String, boolean)}.</li>
+ * <li>Virtual threads: a new virtual thread per task for
+ * {@link #createExecutor(String, boolean)}, a single virtual thread for
+ * {@link #createScheduledExecutor(String, boolean)}. Idle virtual threads do
+ * not hold any platform thread. Virtual threads require Java 21: on older JVMs,
+ * platform threads are used instead, see
+ * {@link ThreadUtil#isVirtualThreadSupported()}.</li>
+ * </ul>
+ *
+ * @see ExecutorFactory#PLATFORM
+ * @see ExecutorFactory#VIRTUAL
+ */
+public class DefaultExecutorFactory implements ExecutorFactory {
+
+  private static final Logger log = LoggerFactory.getLogger(DefaultExecutorFactory.class);
+
+  private final boolean virtual;
+
+  /**
+   * Constructor
+   *
+   * @param virtual <code>true</code> to create virtual threads
+   */
+  public DefaultExecutorFactory(boolean virtual) {
+    this.virtual = virtual;
+  }
+
+  @Override
+  public ExecutorService createExecutor(String threadNamePrefix, boolean daemon) {
+    ThreadFactory virtualThreadFactory = createVirtualThreadFactory(threadNamePrefix);
+    if (virtualThreadFactory != null) {
+      try {
+        return (ExecutorService) Executors.class
+                                          .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                                          .invoke(null, virtualThreadFactory);
+      } catch (ReflectiveOperationException e) {
+        return Executors.newCachedThreadPool(virtualThreadFactory);
+      }
+    }
+    return Executors.newCachedThreadPool(ThreadUtil.createNamePrefixThreadFactory(threadNamePrefix, daemon));
+  }
+
+  @Override
+  public ScheduledExecutorService createScheduledExecutor(String threadNamePrefix, boolean daemon) {
+    ThreadFactory threadFactory = createVirtualThreadFactory(threadNamePrefix);
+    if (threadFactory == null) {
+      threadFactory = ThreadUtil.createNamePrefixThreadFactory(threadNamePrefix, daemon);
+    }
+    return Executors.newSingleThreadScheduledExecutor(threadFactory);
+  }
+
+  /**
+   * @return <code>true</code> if this factory creates virtual threads, when
+   *         supported by running JVM
+   */
+  public boolean isVirtual() {
+    return virtual;
+  }
+
+  private ThreadFactory createVirtualThreadFactory(String threadNamePrefix) {
+    if (!virtual) {
+      return null;
+    }
+    ThreadFactory threadFactory = ThreadUtil.createVirtualThreadFactory(threadNamePrefix);
+    if (threadFactory == null) {
+      log.warn("Virtual threads are not supported by JVM {}, using platform threads for '{}'",
+               Runtime.version(), threadNamePrefix);
+    }
+    return threadFactory;
+  }
+}
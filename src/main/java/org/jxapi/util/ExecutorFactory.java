@@ -0,0 +1,86 @@
+package org.jxapi.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Creates executors used by REST and websocket components to run their
+ * asynchronous tasks. Selecting a single factory for all components lets the
+ * threading strategy of a whole exchange wrapper be changed at once, see
+ * {@link ExecutorMode}.
+ * <p>
+ * Created executors are owned by the component requesting them, which is
+ * responsible for shutting them down when disposed.
+ */
+public interface ExecutorFactory {
+
+  /**
+   * Creates dedicated platform threads for each executor, see
+   * {@link DefaultExecutorFactory}.
+   */
+  ExecutorFactory PLATFORM = new DefaultExecutorFactory(false);
+
+  /**
+   * Creates virtual threads, see {@link DefaultExecutorFactory}.
+   */
+  ExecutorFactory VIRTUAL = new DefaultExecutorFactory(true);
+
+  /**
+   * Creates an executor running tasks concurrently, threads being created on
+   * demand.
+   *
+   * @param threadNamePrefix the prefix of names of threads created by executor,
+   *                         if relevant
+   * @param daemon           <code>true</code> if threads should not prevent JVM
+   *                         from exiting, relevant for platform threads only
+   * @return a new executor
+   */
+  ExecutorService createExecutor(String threadNamePrefix, boolean daemon);
+
+  /**
+   * Creates an executor running tasks one at a time, in submission order, and
+   * supporting delayed and periodic tasks.
+   *
+   * @param threadNamePrefix the prefix of names of threads created by executor,
+   *                         if relevant
+   * @param daemon           <code>true</code> if threads should not prevent JVM
+   *                         from exiting, relevant for platform threads only
+   * @return a new scheduled executor
+   */
+  ScheduledExecutorService createScheduledExecutor(String threadNamePrefix, boolean daemon);
+
+  /**
+   * Creates an executor like {@link #createExecutor(String, boolean)}, for
+   * tasks performing or waiting for network I/O, for instance threads of a HTTP
+   * client or tasks waiting for a websocket handshake. Such tasks may block
+   * while the I/O they wait for is run by other tasks of same kind, so their
+   * executor should not queue tasks behind a bounded count of threads. Default
+   * implementation is {@link #createExecutor(String, boolean)}.
+   *
+   * @param threadNamePrefix the prefix of names of threads created by executor,
+   *                         if relevant
+   * @param daemon           <code>true</code> if threads should not prevent JVM
+   *                         from exiting, relevant for platform threads only
+   * @return a new executor
+   */
+  default ExecutorService createIoExecutor(String threadNamePrefix, boolean daemon) {
+    return createExecutor(threadNamePrefix, daemon);
+  }
+
+  /**
+   * Creates an executor like
+   * {@link #createScheduledExecutor(String, boolean)}, for tasks that may block
+   * waiting for network I/O, see {@link #createIoExecutor(String, boolean)}.
+   * Default implementation is
+   * {@link #createScheduledExecutor(String, boolean)}.
+   *
+   * @param threadNamePrefix the prefix of names of threads created by executor,
+   *                         if relevant
+   * @param daemon           <code>true</code> if threads should not prevent JVM
+   *                         from exiting, relevant for platform threads only
+   * @return a new scheduled executor
+   */
+  default ScheduledExecutorService createScheduledIoExecutor(String threadNamePrefix, boolean daemon) {
+    return createScheduledExecutor(threadNamePrefix, daemon);
+  }
+}
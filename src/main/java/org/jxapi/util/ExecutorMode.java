@@ -0,0 +1,47 @@
+package org.jxapi.util;
+
+/**
+ * Possible threading strategies of REST and websocket components, see
+ * {@link ExecutorFactory}.
+ */
+public enum ExecutorMode {
+  /**
+   * Each component runs its own platform threads, see
+   * {@link ExecutorFactory#PLATFORM}.
+   */
+  PLATFORM,
+
+  /**
+   * Components run virtual threads, see {@link ExecutorFactory#VIRTUAL}.
+   * Requires Java 21, platform threads are used on older JVMs.
+   */
+  VIRTUAL,
+
+  /**
+   * Components share a bounded pool of platform threads, see
+   * {@link SharedExecutorFactory}. Network I/O and tasks waiting for it, such
+   * as websocket connections and HTTP client threads, share a separate pool
+   * that is not bounded, so they cannot starve each other.
+   */
+  SHARED;
+
+  /**
+   * Returns the executor factory implementing this mode.
+   *
+   * @param sharedPoolSize the size of shared pool, relevant for {@link #SHARED}
+   *                       mode only. A value <code>&lt;= 0</code> stands for
+   *                       default size, see
+   *                       {@link SharedExecutorFactory#getDefaultPoolSize()}
+   * @return an executor factory
+   */
+  public ExecutorFactory getExecutorFactory(int sharedPoolSize) {
+    switch (this) {
+    case VIRTUAL:
+      return ExecutorFactory.VIRTUAL;
+    case SHARED:
+      return SharedExecutorFactory.getInstance(sharedPoolSize);
+    default:
+      return ExecutorFactory.PLATFORM;
+    }
+  }
+}
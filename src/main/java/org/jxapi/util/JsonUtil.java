@@ -33,6 +33,7 @@ public class JsonUtil {
   }
   
   private static final SimpleModule EXCEPTION_SERIALIZATION_MODULE = createExceptionSerializationModule();
+  private static final int MAX_LONG_DIGITS_WITHOUT_OVERFLOW = 18;
   
   /***
    * A default {@link ObjectMapper} instance with default configuration for JSON
@@ -390,6 +391,146 @@ public class JsonUtil {
     }
   }
 
+  /**
+   * Moves parser to next token and tells whether it holds a value to read with
+   * one of <code>readCurrentXXXValue()</code> methods, that read primitive
+   * values, see for instance {@link #readCurrentLongValue(JsonParser)}.
+   * 
+   * @param parser The parser to read from
+   * @return <code>false</code> if the next token is {@link JsonToken#VALUE_NULL}
+   *         or an empty string, <code>true</code> otherwise
+   * @throws IOException Eventually thrown by the parser
+   * @see JsonParser#nextToken()
+   */
+  public static boolean nextValueIsPresent(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    return token != JsonToken.VALUE_NULL 
+        && (token != JsonToken.VALUE_STRING || parser.getTextLength() > 0);
+  }
+
+  /**
+   * Reads the current token from the parser and returns it as a primitive
+   * <code>long</code>. Unlike {@link #readCurrentLong(JsonParser)}, no object is
+   * allocated, including when value is a string. The current token is expected
+   * to be a {@link JsonToken#VALUE_NUMBER_INT} or a
+   * {@link JsonToken#VALUE_STRING} containing a number.
+   * 
+   * @param parser The parser to read from
+   * @return the long value
+   * @throws IOException           Eventually thrown by the parser, or if the
+   *                               current token is not a number or a string
+   * @throws NumberFormatException If the current token is a string that is not a
+   *                               valid long
+   * @see #nextValueIsPresent(JsonParser)
+   */
+  public static long readCurrentLongValue(JsonParser parser) throws IOException {
+    switch (parser.currentToken()) {
+      case VALUE_NUMBER_INT:
+        return parser.getLongValue();
+      case VALUE_STRING:
+        return parseLong(parser);
+      default:
+        throw new JsonParseException(parser, "Expected long value, but got " + parser.currentToken());
+    }
+  }
+
+  /**
+   * Reads the current token from the parser and returns it as a primitive
+   * <code>int</code>, see {@link #readCurrentLongValue(JsonParser)}.
+   * 
+   * @param parser The parser to read from
+   * @return the int value
+   * @throws IOException           Eventually thrown by the parser, or if the
+   *                               current token is not a number or a string
+   * @throws NumberFormatException If the current token is a string that is not a
+   *                               valid integer
+   * @see #nextValueIsPresent(JsonParser)
+   */
+  public static int readCurrentIntValue(JsonParser parser) throws IOException {
+    switch (parser.currentToken()) {
+      case VALUE_NUMBER_INT:
+        return parser.getIntValue();
+      case VALUE_STRING:
+        long value = parseLong(parser);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+          throw new NumberFormatException("Value out of int range: " + value);
+        }
+        return (int) value;
+      default:
+        throw new JsonParseException(parser, "Expected integer value, but got " + parser.currentToken());
+    }
+  }
+
+  /**
+   * Reads the current token from the parser and returns it as a primitive
+   * <code>double</code>. The current token is expected to be a
+   * {@link JsonToken#VALUE_NUMBER_FLOAT}, {@link JsonToken#VALUE_NUMBER_INT} or
+   * a {@link JsonToken#VALUE_STRING} containing a number.
+   * 
+   * @param parser The parser to read from
+   * @return the double value
+   * @throws IOException           Eventually thrown by the parser, or if the
+   *                               current token is not a number or a string
+   * @throws NumberFormatException If the current token is a string that is not a
+   *                               valid number
+   * @see #nextValueIsPresent(JsonParser)
+   */
+  public static double readCurrentDoubleValue(JsonParser parser) throws IOException {
+    switch (parser.currentToken()) {
+      case VALUE_NUMBER_FLOAT, VALUE_NUMBER_INT:
+        return parser.getDoubleValue();
+      case VALUE_STRING:
+        return Double.parseDouble(parser.getText());
+      default:
+        throw new JsonParseException(parser, "Expected floating point value, but got " + parser.currentToken());
+    }
+  }
+
+  /**
+   * Reads the current token from the parser and returns it as a primitive
+   * <code>boolean</code>. The current token is expected to be a
+   * {@link JsonToken#VALUE_TRUE}, {@link JsonToken#VALUE_FALSE} or a
+   * {@link JsonToken#VALUE_STRING} containing a boolean.
+   * 
+   * @param parser The parser to read from
+   * @return the boolean value
+   * @throws IOException Eventually thrown by the parser, or if the current token
+   *                     is not a boolean or a string
+   * @see #nextValueIsPresent(JsonParser)
+   */
+  public static boolean readCurrentBooleanValue(JsonParser parser) throws IOException {
+    switch (parser.currentToken()) {
+      case VALUE_TRUE:
+        return true;
+      case VALUE_FALSE:
+        return false;
+      case VALUE_STRING:
+        return Boolean.parseBoolean(parser.getText());
+      default:
+        throw new JsonParseException(parser, "Expected boolean value, but got " + parser.currentToken());
+    }
+  }
+  
+  private static long parseLong(JsonParser parser) throws IOException {
+    char[] chars = parser.getTextCharacters();
+    int offset = parser.getTextOffset();
+    int end = offset + parser.getTextLength();
+    boolean negative = offset < end && chars[offset] == '-';
+    int i = negative || (offset < end && chars[offset] == '+') ? offset + 1 : offset;
+    if (i == end || end - i > MAX_LONG_DIGITS_WITHOUT_OVERFLOW) {
+      return Long.parseLong(parser.getText());
+    }
+    long res = 0L;
+    for (; i < end; i++) {
+      int digit = chars[i] - '0';
+      if (digit < 0 || digit > 9) {
+        throw new NumberFormatException("For input string: \"" + parser.getText() + "\"");
+      }
+      res = res * 10L + digit;
+    }
+    return negative ? -res : res;
+  }
+
   /**
    * Reads (and consumes) the next token from the parser and returns it as a
    * generic List of items. The parser is expected to be positioned on the start
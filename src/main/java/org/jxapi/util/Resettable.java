@@ -0,0 +1,20 @@
+package org.jxapi.util;
+
+/**
+ * Interface for mutable objects that can be reset to their initial state, so
+ * that a single instance can be reused instead of allocating a new one.
+ * <p>
+ * This is interface is implemented in particular by generated POJOs, so that
+ * websocket endpoints can deserialize successive messages into the same
+ * instance, see
+ * {@link org.jxapi.netutils.websocket.WebsocketListener#retainsMessages()}.
+ */
+public interface Resettable {
+
+  /**
+   * Resets this object to the state it has when created with its default
+   * constructor.
+   */
+  void reset();
+
+}
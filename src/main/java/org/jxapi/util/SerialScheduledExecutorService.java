@@ -0,0 +1,309 @@
+package org.jxapi.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ScheduledExecutorService} running its tasks one at a time, in order
+ * they are submitted, on threads of an executor possibly shared with other
+ * components. Delayed and periodic tasks are triggered by a scheduler that can
+ * be shared too. Hence a component needing a single-threaded scheduled executor
+ * does not hold any thread while idle.
+ * <p>
+ * Tasks never run concurrently and each task happens-before the next one, as
+ * with {@link Executors#newSingleThreadScheduledExecutor()}, but they may run in
+ * different threads. To avoid starving other users of executor, at most
+ * {@link #MAX_TASKS_PER_RUN} tasks are run before handing executor thread over.
+ * <p>
+ * Like {@link java.util.concurrent.ScheduledThreadPoolExecutor}, delayed tasks
+ * scheduled before {@link #shutdown()} still run, but periodic ones are
+ * cancelled.
+ */
+public class SerialScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+  /**
+   * Maximum count of tasks run in a row on a thread of underlying executor.
+   */
+  public static final int MAX_TASKS_PER_RUN = 64;
+
+  private static final Logger log = LoggerFactory.getLogger(SerialScheduledExecutorService.class);
+
+  private final Executor executor;
+  private final ScheduledExecutorService scheduler;
+  // Guarded by this
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private final Set<ScheduledTask<?>> scheduledTasks = ConcurrentHashMap.newKeySet();
+  // Guarded by this
+  private boolean running;
+  private volatile boolean shutdown;
+
+  /**
+   * Constructor
+   *
+   * @param executor  the executor to run tasks in
+   * @param scheduler the scheduler triggering delayed and periodic tasks. Only
+   *                  used to hand tasks over to this executor, so should not
+   *                  be shut down while this executor is in use.
+   */
+  public SerialScheduledExecutorService(Executor executor, ScheduledExecutorService scheduler) {
+    this.executor = Objects.requireNonNull(executor);
+    this.scheduler = Objects.requireNonNull(scheduler);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    Objects.requireNonNull(command);
+    synchronized (this) {
+      if (shutdown) {
+        throw new RejectedExecutionException(this + " is shut down");
+      }
+      enqueue(command);
+    }
+  }
+
+  // Must be called holding lock of this
+  private void enqueue(Runnable task) {
+    tasks.add(task);
+    if (!running) {
+      running = true;
+      try {
+        executor.execute(this::runTasks);
+      } catch (RejectedExecutionException e) {
+        running = false;
+        tasks.remove(task);
+        throw e;
+      }
+    }
+  }
+
+  private void runTasks() {
+    for (int i = 0; i < MAX_TASKS_PER_RUN; i++) {
+      Runnable task;
+      synchronized (this) {
+        task = tasks.poll();
+        if (task == null) {
+          running = false;
+          notifyAll();
+          return;
+        }
+      }
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        log.error("Error running task " + task + " in " + this, e);
+      }
+    }
+    synchronized (this) {
+      try {
+        executor.execute(this::runTasks);
+      } catch (RejectedExecutionException e) {
+        running = false;
+        log.error("Could not resume running of {} pending tasks of {}", tasks.size(), this, e);
+        notifyAll();
+      }
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return schedule(new ScheduledTask<>(Executors.callable(Objects.requireNonNull(command), null),
+                                        triggerTime(delay, unit),
+                                        0L));
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    return schedule(new ScheduledTask<>(Objects.requireNonNull(callable), triggerTime(delay, unit), 0L));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+    if (period <= 0L) {
+      throw new IllegalArgumentException("Period must be > 0: " + period);
+    }
+    return schedule(new ScheduledTask<>(Executors.callable(Objects.requireNonNull(command), null),
+                                        triggerTime(initialDelay, unit),
+                                        unit.toNanos(period)));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    if (delay <= 0L) {
+      throw new IllegalArgumentException("Delay must be > 0: " + delay);
+    }
+    return schedule(new ScheduledTask<>(Executors.callable(Objects.requireNonNull(command), null),
+                                        triggerTime(initialDelay, unit),
+                                        -unit.toNanos(delay)));
+  }
+
+  private static long triggerTime(long delay, TimeUnit unit) {
+    return System.nanoTime() + unit.toNanos(Math.max(0L, delay));
+  }
+
+  private <V> ScheduledFuture<V> schedule(ScheduledTask<V> task) {
+    synchronized (this) {
+      if (shutdown) {
+        throw new RejectedExecutionException(this + " is shut down");
+      }
+      scheduledTasks.add(task);
+    }
+    task.trigger();
+    return task;
+  }
+
+  @Override
+  public void shutdown() {
+    synchronized (this) {
+      shutdown = true;
+    }
+    for (ScheduledTask<?> task : scheduledTasks) {
+      if (task.isPeriodic()) {
+        task.cancel(false);
+      }
+    }
+    checkTerminated();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> pending;
+    synchronized (this) {
+      shutdown = true;
+      pending = new ArrayList<>(tasks);
+      tasks.clear();
+    }
+    for (ScheduledTask<?> task : scheduledTasks) {
+      task.cancel(false);
+    }
+    checkTerminated();
+    return pending;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public synchronized boolean isTerminated() {
+    return shutdown && !running && tasks.isEmpty() && scheduledTasks.isEmpty();
+  }
+
+  @Override
+  public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (!isTerminated()) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0L) {
+        return false;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+    }
+    return true;
+  }
+
+  private synchronized void checkTerminated() {
+    if (isTerminated()) {
+      notifyAll();
+    }
+  }
+
+  private class ScheduledTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+    // Nanoseconds, 0 for one shot tasks, > 0 for fixed rate, < 0 for fixed delay
+    private final long period;
+    private volatile long time;
+    private volatile ScheduledFuture<?> trigger;
+
+    ScheduledTask(Callable<V> callable, long time, long period) {
+      super(callable);
+      this.time = time;
+      this.period = period;
+    }
+
+    void trigger() {
+      trigger = scheduler.schedule(this::fire, time - System.nanoTime(), TimeUnit.NANOSECONDS);
+      if (isDone()) {
+        trigger.cancel(false);
+      }
+    }
+
+    private void fire() {
+      if (isDone()) {
+        return;
+      }
+      synchronized (SerialScheduledExecutorService.this) {
+        try {
+          enqueue(this);
+        } catch (RejectedExecutionException e) {
+          log.error("Could not run scheduled task {} of {}", this, SerialScheduledExecutorService.this, e);
+          cancel(false);
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      if (!isPeriodic()) {
+        super.run();
+      } else if (runAndReset()) {
+        time = period > 0L ? time + period : System.nanoTime() - period;
+        if (shutdown) {
+          cancel(false);
+        } else {
+          trigger();
+        }
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      ScheduledFuture<?> t = trigger;
+      if (t != null) {
+        t.cancel(false);
+      }
+      return cancelled;
+    }
+
+    @Override
+    protected void done() {
+      scheduledTasks.remove(this);
+      checkTerminated();
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return period != 0L;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+}
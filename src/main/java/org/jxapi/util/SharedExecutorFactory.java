@@ -0,0 +1,223 @@
+package org.jxapi.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExecutorFactory} creating executors that run their tasks on a single
+ * bounded pool of daemon platform threads, shared with every other executor
+ * created by same factory. Delayed tasks are triggered by a single scheduler
+ * thread, also shared. Hence count of threads does not grow with count of
+ * exchanges, websockets and HTTP clients.
+ * <p>
+ * Executors created by {@link #createScheduledExecutor(String, boolean)} run
+ * their tasks one at a time, see {@link SerialScheduledExecutorService}.
+ * Shutting down a created executor does not shut shared pool down: it only
+ * prevents new tasks from being submitted to it.
+ * <p>
+ * Executors for network I/O, see {@link #createIoExecutor(String, boolean)}
+ * and {@link #createScheduledIoExecutor(String, boolean)}, run their tasks on
+ * a second shared pool, that is not bounded. Tasks of these executors block
+ * while waiting for network I/O run by other such tasks, for instance a
+ * websocket connection waiting up to its connect timeout for a handshake run
+ * by threads of its HTTP client. Queued behind a bounded count of threads,
+ * they would deadlock as soon as all threads wait. Threads of I/O pool are
+ * still reused by all executors, so their count grows with count of
+ * concurrently blocked tasks only.
+ * <p>
+ * Other tasks blocking for long hold a thread of bounded pool: pool size
+ * should be set accordingly. Threads of both pools time out when idle.
+ */
+public class SharedExecutorFactory implements ExecutorFactory {
+
+  /**
+   * Thread name prefix of shared pool threads
+   */
+  public static final String THREAD_NAME_PREFIX = "jxapi-shared-";
+
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+
+  private static final Map<Integer, SharedExecutorFactory> INSTANCES = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the factory shared by all callers requesting same pool size.
+   *
+   * @param poolSize the maximum count of threads of shared pool. A value
+   *                 <code>&lt;= 0</code> stands for default pool size, see
+   *                 {@link #getDefaultPoolSize()}
+   * @return the shared factory with given pool size
+   */
+  public static SharedExecutorFactory getInstance(int poolSize) {
+    int size = poolSize > 0 ? poolSize : getDefaultPoolSize();
+    return INSTANCES.computeIfAbsent(size, SharedExecutorFactory::new);
+  }
+
+  /**
+   * @return default size of shared pool, 4 times the count of available
+   *         processors
+   */
+  public static int getDefaultPoolSize() {
+    return 4 * Runtime.getRuntime().availableProcessors();
+  }
+
+  private final ThreadPoolExecutor pool;
+  private final ThreadPoolExecutor ioPool;
+  private final ScheduledThreadPoolExecutor scheduler;
+
+  /**
+   * Creates a new factory with its own shared pool. Consider using
+   * {@link #getInstance(int)} instead to share threads with other exchanges.
+   *
+   * @param poolSize the maximum count of threads of shared pool
+   */
+  public SharedExecutorFactory(int poolSize) {
+    this.pool = new ThreadPoolExecutor(
+        poolSize,
+        poolSize,
+        KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        ThreadUtil.createNamePrefixThreadFactory(THREAD_NAME_PREFIX + poolSize + "-", true));
+    this.pool.allowCoreThreadTimeOut(true);
+    this.ioPool = new ThreadPoolExecutor(
+        0,
+        Integer.MAX_VALUE,
+        KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        new SynchronousQueue<>(),
+        ThreadUtil.createNamePrefixThreadFactory(THREAD_NAME_PREFIX + poolSize + "-io-", true));
+    this.scheduler = new ScheduledThreadPoolExecutor(
+        1,
+        ThreadUtil.createNamePrefixThreadFactory(THREAD_NAME_PREFIX + poolSize + "-timer-", true));
+    this.scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  @Override
+  public ExecutorService createExecutor(String threadNamePrefix, boolean daemon) {
+    return new SharedExecutorService(pool);
+  }
+
+  @Override
+  public ScheduledExecutorService createScheduledExecutor(String threadNamePrefix, boolean daemon) {
+    return new SerialScheduledExecutorService(pool, scheduler);
+  }
+
+  /**
+   * Creates an executor running its tasks on shared I/O pool, which is not
+   * bounded.
+   */
+  @Override
+  public ExecutorService createIoExecutor(String threadNamePrefix, boolean daemon) {
+    return new SharedExecutorService(ioPool);
+  }
+
+  /**
+   * Creates an executor running its tasks one at a time on shared I/O pool,
+   * which is not bounded.
+   */
+  @Override
+  public ScheduledExecutorService createScheduledIoExecutor(String threadNamePrefix, boolean daemon) {
+    return new SerialScheduledExecutorService(ioPool, scheduler);
+  }
+
+  /**
+   * @return the maximum count of threads of shared pool
+   */
+  public int getPoolSize() {
+    return pool.getMaximumPoolSize();
+  }
+
+  /**
+   * View of a shared pool that can be shut down independently.
+   */
+  private static class SharedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService pool;
+
+    // Guarded by this
+    private int runningTasks;
+    private volatile boolean shutdown;
+
+    SharedExecutorService(ExecutorService pool) {
+      this.pool = pool;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      Objects.requireNonNull(command);
+      synchronized (this) {
+        if (shutdown) {
+          throw new RejectedExecutionException(this + " is shut down");
+        }
+        runningTasks++;
+      }
+      try {
+        pool.execute(() -> {
+          try {
+            command.run();
+          } finally {
+            taskDone();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        taskDone();
+        throw e;
+      }
+    }
+
+    private synchronized void taskDone() {
+      runningTasks--;
+      if (runningTasks == 0 && shutdown) {
+        notifyAll();
+      }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+      shutdown = true;
+      if (runningTasks == 0) {
+        notifyAll();
+      }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      shutdown();
+      return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+      return shutdown && runningTasks == 0;
+    }
+
+    @Override
+    public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      long deadline = System.nanoTime() + unit.toNanos(timeout);
+      while (!isTerminated()) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0L) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+      }
+      return true;
+    }
+  }
+}
@@ -7,11 +7,11 @@ import java.util.concurrent.atomic.AtomicLong;
  * Helper methods around thread management.
  */
 public class ThreadUtil {
-  
+
   private static final AtomicLong THREAD_COUNTER = new AtomicLong(0);
 
   private ThreadUtil() {}
-  
+
   /**
    * Creates a {@link ThreadFactory} which creates Threads with given prefix as name.
    * @param prefix The thread name prefix
@@ -25,4 +25,50 @@ public class ThreadUtil {
       };
   }
 
+  /**
+   * Creates a {@link ThreadFactory} which creates platform threads with given
+   * prefix as name and given daemon status.
+   *
+   * @param prefix The thread name prefix
+   * @param daemon <code>true</code> to create daemon threads
+   * @return a new {@link ThreadFactory} instance
+   */
+  public static ThreadFactory createNamePrefixThreadFactory(String prefix, boolean daemon) {
+    ThreadFactory threadFactory = createNamePrefixThreadFactory(prefix);
+    return runnable -> {
+      Thread t = threadFactory.newThread(runnable);
+      t.setDaemon(daemon);
+      return t;
+    };
+  }
+
+  /**
+   * Creates a {@link ThreadFactory} which creates virtual threads with given
+   * prefix as name. Virtual threads are available since Java 21 and are looked
+   * up using reflection, as this library targets an older Java release.
+   *
+   * @param prefix The thread name prefix
+   * @return a new {@link ThreadFactory} instance, or <code>null</code> if
+   *         virtual threads are not supported by running JVM
+   */
+  public static ThreadFactory createVirtualThreadFactory(String prefix) {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+      // Not available or preview feature not enabled
+      return null;
+    }
+  }
+
+  /**
+   * @return <code>true</code> if virtual threads are supported by running JVM,
+   *         see {@link #createVirtualThreadFactory(String)}
+   */
+  public static boolean isVirtualThreadSupported() {
+    return createVirtualThreadFactory("") != null;
+  }
+
 }
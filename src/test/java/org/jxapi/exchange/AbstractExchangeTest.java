@@ -7,18 +7,40 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.net.http.HttpClient.Version;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.jxapi.netutils.rest.HttpMethod;
+import org.jxapi.netutils.rest.HttpResponse;
+import org.jxapi.netutils.rest.javanet.JavaNetHttpRequestExecutor;
+import org.jxapi.netutils.rest.javanet.MockHttpRequest;
+import org.jxapi.netutils.rest.javanet.MockHttpServer;
 import org.jxapi.netutils.rest.mock.MockHttpRequestExecutorFactory;
 import org.jxapi.netutils.rest.mock.MockHttpRequestInterceptorFactory;
 import org.jxapi.netutils.rest.mock.MockHttpResponseInterceptorFactory;
+import org.jxapi.netutils.rest.ratelimits.MappedFileRateLimitStateStorageFactory;
+import org.jxapi.netutils.rest.ratelimits.RateLimitStateStorageFactory;
+import org.jxapi.netutils.rest.ratelimits.RateLimitStorageMode;
 import org.jxapi.netutils.rest.ratelimits.RequestThrottler;
+import org.jxapi.netutils.websocket.DefaultWebsocketClient;
+import org.jxapi.netutils.websocket.PooledWebsocketClient;
+import org.jxapi.netutils.websocket.WebsocketSubscribeRequest;
 import org.jxapi.netutils.websocket.mock.MockWebsocketFactory;
 import org.jxapi.netutils.websocket.mock.MockWebsocketHookFactory;
+import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcherFactory;
+import org.jxapi.util.DefaultDisposable;
+import org.jxapi.util.ExecutorFactory;
+import org.jxapi.util.ExecutorMode;
+import org.jxapi.util.SharedExecutorFactory;
 
 /**
  * Unit tests for {@link AbstractExchange}.
@@ -71,6 +93,16 @@ public class AbstractExchangeTest {
         assertSame(api, exchange.getApis().get(0));
     }
 
+    @Test
+    public void testDisposeDisposesApis() {
+        DisposableApi api = new DisposableApi();
+        exchange.addApi("api1", api);
+        exchange.addApi("api2", new ExchangeApi() {
+        });
+        exchange.dispose();
+        assertTrue(api.isDisposed());
+    }
+
     @Test
     public void testSubscribeAndUnsubscribeObserver() {
         ExchangeObserver observer = event -> {};
@@ -119,6 +151,90 @@ public class AbstractExchangeTest {
       assertNotNull(exchange.getHttpClient("customClient"));
     }
     
+    @Test
+    public void testCreateHttpClientWithStreamingResponseBody() {
+        exchange.createHttpClient("defaultClient", null, null, null, 5000L);
+        JavaNetHttpRequestExecutor executor = (JavaNetHttpRequestExecutor) exchange.getHttpClient("defaultClient").getExecutor();
+        assertFalse(executor.isStreamingResponseBody());
+        properties.setProperty(CommonConfigProperties.HTTP_STREAMING_RESPONSE_BODY_PROPERTY.getName(), "true");
+        exchange.createHttpClient("streamingClient", null, null, null, 5000L);
+        assertTrue(executor.isStreamingResponseBody());
+    }
+    
+    @Test
+    public void testCreateHttpClientWithConnectionSettings() {
+        exchange.createHttpClient("defaultClient", null, null, null, 5000L);
+        exchange.createHttpClient("otherDefaultClient", null, null, null, 5000L, null, null, null);
+        exchange.createHttpClient("http11Client", null, null, null, 5000L, "HTTP_1_1", 1000L, null);
+        JavaNetHttpRequestExecutor defaultExecutor = (JavaNetHttpRequestExecutor) exchange.getHttpClient("defaultClient").getExecutor();
+        JavaNetHttpRequestExecutor http11Executor = (JavaNetHttpRequestExecutor) exchange.getHttpClient("http11Client").getExecutor();
+        assertSame(defaultExecutor, exchange.getHttpClient("otherDefaultClient").getExecutor());
+        assertEquals(Version.HTTP_2, defaultExecutor.getHttpVersion());
+        assertTrue(defaultExecutor.getConnectTimeout().isEmpty());
+        assertEquals(Version.HTTP_1_1, http11Executor.getHttpVersion());
+        assertEquals(Optional.of(Duration.ofMillis(1000L)), http11Executor.getConnectTimeout());
+        
+        // Properties override descriptor settings
+        properties.setProperty(CommonConfigProperties.HTTP_VERSION_PROPERTY.getName(), "HTTP_1_1");
+        properties.setProperty(CommonConfigProperties.HTTP_CONNECT_TIMEOUT_PROPERTY.getName(), "1000");
+        exchange.createHttpClient("overriddenClient", null, null, null, 5000L, "HTTP_2", 2000L, null);
+        assertSame(http11Executor, exchange.getHttpClient("overriddenClient").getExecutor());
+        
+        exchange.dispose();
+        assertTrue(defaultExecutor.isDisposed());
+        assertTrue(http11Executor.isDisposed());
+    }
+    
+    @Test
+    public void testPreconnect() throws Exception {
+        MockHttpServer server = new MockHttpServer();
+        server.start();
+        try {
+            exchange.createHttpClient("testClient", null, null, null, 5000L, null, null, server.getBaseUrl() + "/ping");
+            assertEquals(0, server.requestCount());
+            CompletableFuture<Void> connected = exchange.preconnect();
+            MockHttpRequest request = server.popRequest(5000L);
+            assertEquals(HttpMethod.HEAD, request.getHttpRequest().getHttpMethod());
+            assertEquals(server.getBaseUrl() + "/ping", request.getHttpRequest().getUrl());
+            HttpResponse response = new HttpResponse();
+            response.setResponseCode(200);
+            request.complete(response);
+            connected.get(5000L, TimeUnit.MILLISECONDS);
+        } finally {
+            server.stop();
+        }
+    }
+    
+    @Test
+    public void testPreconnectOnCreationWhenWarmUpEnabled() throws Exception {
+        MockHttpServer server = new MockHttpServer();
+        server.start();
+        try {
+            properties.setProperty(CommonConfigProperties.HTTP_WARM_UP_PROPERTY.getName(), "true");
+            exchange.createHttpClient("testClient", null, null, null, 5000L, null, null, server.getBaseUrl());
+            MockHttpRequest request = server.popRequest(5000L);
+            assertEquals(HttpMethod.HEAD, request.getHttpRequest().getHttpMethod());
+            HttpResponse response = new HttpResponse();
+            response.setResponseCode(200);
+            request.complete(response);
+        } finally {
+            server.stop();
+        }
+    }
+    
+    @Test
+    public void testPreconnectWithCustomExecutorDoesNothing() throws Exception {
+        exchange.createHttpClient(
+            "customClient", 
+            null, 
+            MockHttpRequestExecutorFactory.class.getName(), 
+            null,
+            5000L);
+        CompletableFuture<Void> connected = exchange.preconnect();
+        assertTrue(connected.isDone());
+        assertFalse(connected.isCompletedExceptionally());
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void testGetHttpClientThrowsExceptionForUnregisteredClient() {
         // Act
@@ -147,6 +263,25 @@ public class AbstractExchangeTest {
         assertNotNull(exchange.getNetwork().getWebsocket("customWebsocket"));
     }
     
+    @Test
+    public void testCreatePooledWebsocketClient() {
+        exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_MAX_CONNECTIONS_PROPERTY.getName(), "4");
+        exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_MAX_TOPICS_PER_CONNECTION_PROPERTY.getName(), "10");
+        exchange.createWebsocketClient("pooledWebsocket", "ws://example.com", MockWebsocketFactory.class.getName(), MockWebsocketHookFactory.class.getName());
+        PooledWebsocketClient client = (PooledWebsocketClient) exchange.getNetwork().getWebsocket("pooledWebsocket");
+        assertEquals(4, client.getMaxConnections());
+        assertEquals(10, client.getMaxTopicsPerConnection());
+        client.subscribe(WebsocketSubscribeRequest.create(null, "t0", WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY), m -> {});
+        client.subscribe(WebsocketSubscribeRequest.create(null, "t1", WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY), m -> {});
+        assertEquals(2, client.getConnections().size());
+        DefaultWebsocketClient first = (DefaultWebsocketClient) client.getConnections().get(0);
+        DefaultWebsocketClient second = (DefaultWebsocketClient) client.getConnections().get(1);
+        assertEquals("ws://example.com", first.getUrl());
+        assertEquals("ws://example.com", second.getUrl());
+        Assert.assertNotSame(first.getWebsocket(), second.getWebsocket());
+        Assert.assertNotSame(first.getWebsocketHook(), second.getWebsocketHook());
+    }
+    
     @Test
     public void testAfterInit() {
       exchange.afterInit(null);
@@ -166,6 +301,55 @@ public class AbstractExchangeTest {
       Assert.assertTrue(throttler.isDisposed());
     }
     
+    @Test
+    public void testCreateWithRequestThrottlerDefaultsToInMemoryRateLimitStorage() {
+      TestExchange rateLimitedExchange = new TestExchange(true);
+      Assert.assertSame(RateLimitStateStorageFactory.IN_MEMORY, rateLimitedExchange.getRequestThrottler().getStorageFactory());
+      rateLimitedExchange.dispose();
+    }
+    
+    @Test
+    public void testCreateWithRequestThrottlerMappedFileRateLimitStorage() {
+      properties.setProperty(CommonConfigProperties.RATE_LIMIT_STORAGE_PROPERTY.getName(), RateLimitStorageMode.MAPPED_FILE.name());
+      properties.setProperty(CommonConfigProperties.RATE_LIMIT_STORAGE_DIRECTORY_PROPERTY.getName(), "target/ratelimits");
+      TestExchange rateLimitedExchange = new TestExchange(true);
+      MappedFileRateLimitStateStorageFactory factory = (MappedFileRateLimitStateStorageFactory) rateLimitedExchange.getRequestThrottler().getStorageFactory();
+      assertEquals(Paths.get("target/ratelimits"), factory.getDirectory());
+      assertEquals("TestExchange", factory.getKey());
+      rateLimitedExchange.dispose();
+      
+      properties.setProperty(CommonConfigProperties.RATE_LIMIT_STORAGE_KEY_PROPERTY.getName(), "myApiKey");
+      rateLimitedExchange = new TestExchange(true);
+      factory = (MappedFileRateLimitStateStorageFactory) rateLimitedExchange.getRequestThrottler().getStorageFactory();
+      assertEquals("myApiKey", factory.getKey());
+      rateLimitedExchange.dispose();
+    }
+    
+    @Test
+    public void testCreateWithDefaultExecutorFactory() {
+      TestExchange rateLimitedExchange = new TestExchange(true);
+      Assert.assertSame(ExecutorFactory.PLATFORM, rateLimitedExchange.getExecutorFactory());
+      Assert.assertSame(ExecutorFactory.PLATFORM, rateLimitedExchange.getRequestThrottler().getExecutorFactory());
+      rateLimitedExchange.dispose();
+      Assert.assertSame(ExecutorFactory.PLATFORM, AbstractExchange.createExecutorFactory(null));
+    }
+    
+    @Test
+    public void testCreateWithExecutorModeProperty() {
+      properties.setProperty(CommonConfigProperties.EXECUTOR_MODE_PROPERTY.getName(), ExecutorMode.SHARED.name());
+      properties.setProperty(CommonConfigProperties.SHARED_EXECUTOR_POOL_SIZE_PROPERTY.getName(), "7");
+      TestExchange rateLimitedExchange = new TestExchange(true);
+      Assert.assertSame(SharedExecutorFactory.getInstance(7), rateLimitedExchange.getExecutorFactory());
+      Assert.assertSame(SharedExecutorFactory.getInstance(7), rateLimitedExchange.getRequestThrottler().getExecutorFactory());
+      rateLimitedExchange.dispose();
+      
+      properties.setProperty(CommonConfigProperties.EXECUTOR_MODE_PROPERTY.getName(), ExecutorMode.VIRTUAL.name());
+      Assert.assertSame(ExecutorFactory.VIRTUAL, AbstractExchange.createExecutorFactory(properties));
+    }
+    
+    private static class DisposableApi extends DefaultDisposable implements ExchangeApi {
+    }
+    
     private class TestExchange extends AbstractExchange {
       
       public TestExchange(boolean hasRateLimiting) {
@@ -83,6 +83,18 @@ public class ExchangeEventTest {
         Assert.assertEquals("myWsMessage", event.getWebsocketMessage());
     }
     
+    @Test
+    public void testCreateWebsocketMessageDroppedEvent() {
+        WebsocketSubscribeRequest request = WebsocketSubscribeRequest.create(null, "wsTopic", null);
+        ExchangeEvent event = ExchangeEvent.createWebsocketMessageDroppedEvent(request, "myWsMessage", 3L);
+        Assert.assertEquals(ExchangeEventType.WEBSOCKET_MESSAGE_DROPPED, event.getType());
+        Assert.assertEquals("wsTopic", event.getWebsocketSubscribeRequest().getTopic());
+        Assert.assertEquals("myWsMessage", event.getWebsocketMessage());
+        Assert.assertEquals(3L, event.getWebsocketDroppedMessageCount().longValue());
+        Assert.assertEquals("{\"type\":\"WEBSOCKET_MESSAGE_DROPPED\",\"websocketSubscribeRequest\":{\"topic\":\"wsTopic\"},\"websocketMessage\":\"myWsMessage\",\"websocketDroppedMessageCount\":3}",
+                            event.toString());
+    }
+    
     @Test
     public void testCreateWebsocketSubcribeEvent() {
       WebsocketSubscribeRequest request = WebsocketSubscribeRequest.create(null, "wsTopic", null);
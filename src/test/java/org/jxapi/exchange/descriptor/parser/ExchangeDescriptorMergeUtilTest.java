@@ -482,6 +482,7 @@ public class ExchangeDescriptorMergeUtilTest {
           .response(response2)
           .description("Endpoint 1 description")
           .docUrl("https://api.exchange.com/docs/endpoint1")
+          .priority("HIGH")
           .build();
       Assert.assertEquals(e1, ExchangeDescriptorMergeUtil.mergeRestEndpointDescriptors(e1, null));
       Assert.assertEquals(e2, ExchangeDescriptorMergeUtil.mergeRestEndpointDescriptors(null, e2));
@@ -507,6 +508,7 @@ public class ExchangeDescriptorMergeUtilTest {
       Assert.assertEquals(2, merged.getResponse().getImplementedInterfaces().size());
       Assert.assertTrue(merged.getResponse().getImplementedInterfaces().contains("com.example.Interface3"));
       Assert.assertTrue(merged.getResponse().getImplementedInterfaces().contains("com.example.Interface4"));
+      Assert.assertEquals("HIGH", merged.getPriority());
     }
     
     @Test(expected = IllegalArgumentException.class)
@@ -546,6 +548,8 @@ public class ExchangeDescriptorMergeUtilTest {
         .request(request1)
         .message(message1)
         .websocketClient("wsClient1")
+        .queueCapacity(16)
+        .conflationKey("s")
         .build();
       WebsocketEndpointDescriptor e2 = WebsocketEndpointDescriptor.builder()
           .name("endpoint1")
@@ -557,6 +561,7 @@ public class ExchangeDescriptorMergeUtilTest {
               .fieldValue("v1")
               .build())
           .docUrl("https://api.exchange.com/docs/ws/endpoint1")
+          .overflowPolicy("CONFLATE_LATEST_PER_KEY")
           .build();
       Assert.assertEquals(e1, ExchangeDescriptorMergeUtil.mergeWebsocketEndpointDescriptors(e1, null));
       Assert.assertEquals(e2, ExchangeDescriptorMergeUtil.mergeWebsocketEndpointDescriptors(null, e2));
@@ -581,5 +586,8 @@ public class ExchangeDescriptorMergeUtilTest {
       Assert.assertEquals(2, merged.getMessage().getImplementedInterfaces().size());
       Assert.assertTrue(merged.getMessage().getImplementedInterfaces().contains("com.example.Interface3"));
       Assert.assertTrue(merged.getMessage().getImplementedInterfaces().contains("com.example.Interface4"));
+      Assert.assertEquals(16, merged.getQueueCapacity().intValue());
+      Assert.assertEquals("CONFLATE_LATEST_PER_KEY", merged.getOverflowPolicy());
+      Assert.assertEquals("s", merged.getConflationKey());
     }
 }
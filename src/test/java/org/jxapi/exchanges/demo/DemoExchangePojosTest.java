@@ -1,6 +1,11 @@
 package org.jxapi.exchanges.demo;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -11,12 +16,16 @@ import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataExchan
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataExchangeInfoResponsePayload;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataTickersResponse;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataTickersResponsePayload;
+import org.jxapi.exchanges.demo.gen.marketdata.pojo.deserializers.DemoExchangeMarketDataExchangeInfoResponseDeserializer;
+import org.jxapi.exchanges.demo.gen.marketdata.pojo.deserializers.DemoExchangeMarketDataTickersResponseDeserializer;
+import org.jxapi.util.JsonUtil;
 
 /**
  * Tests behavior of methods of a few generated POJOs from exchange wrapper
  * classes for DemoExchange. This is to ensure specific methods for POJOs :
  * <code>builder()</code>, <code>equals()</code>, <code>compareTo()</code>,
- * <code>hashCode()</code>, <code>deepClone()</code> behave as expected.
+ * <code>hashCode()</code>, <code>deepClone()</code>, <code>reset()</code>
+ * behave as expected.
  */
 public class DemoExchangePojosTest {
 
@@ -55,6 +64,64 @@ public class DemoExchangePojosTest {
     Assert.assertEquals(1741207940214L, payload.getTime().longValue());
   }
   
+  @Test
+  public void testResetAndDeserializeInto() {
+    DemoExchangeMarketDataTickersResponse pojo = buildDemoExchangeMarketDataTickersResponse();
+    String json = JsonUtil.pojoToJsonString(pojo);
+    pojo.reset();
+    Assert.assertEquals(new DemoExchangeMarketDataTickersResponse(), pojo);
+    
+    DemoExchangeMarketDataTickersResponse res = new DemoExchangeMarketDataTickersResponseDeserializer()
+        .deserializeInto(json, pojo);
+    Assert.assertSame(pojo, res);
+    Assert.assertEquals(buildDemoExchangeMarketDataTickersResponse(), res);
+  }
+
+  @Test
+  public void testLazyPayloadDecodedOnFirstAccess() throws Exception {
+    DemoExchangeMarketDataExchangeInfoResponse expected = buildDemoExchangeMarketDataExchangeInfoResponse();
+    String json = JsonUtil.pojoToJsonString(expected);
+    DemoExchangeMarketDataExchangeInfoResponse res = new DemoExchangeMarketDataExchangeInfoResponseDeserializer()
+        .deserialize(json.getBytes(StandardCharsets.UTF_8), 0, json.length());
+    Assert.assertEquals(200, res.getResponseCode().intValue());
+    Assert.assertEquals(expected, res);
+    Assert.assertEquals(expected.hashCode(), res.hashCode());
+    Assert.assertEquals(0, expected.compareTo(res));
+    Assert.assertEquals("ETH_USDT", res.getPayload().get(1).getSymbol());
+    Assert.assertSame(res.getPayload(), res.getPayload());
+    Assert.assertEquals(expected, res.deepClone());
+    
+    res = new DemoExchangeMarketDataExchangeInfoResponseDeserializer().deserialize(json);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(res);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      Assert.assertEquals(expected, in.readObject());
+    }
+    
+    res.setPayload(List.of());
+    Assert.assertEquals(List.of(), res.getPayload());
+    res = new DemoExchangeMarketDataExchangeInfoResponseDeserializer().deserialize(json);
+    res.reset();
+    Assert.assertNull(res.getPayload());
+  }
+  
+  @Test
+  public void testDeserializeFieldsOutOfDescriptorOrder() {
+    String inOrderJson = "{\"responseCode\":200,\"payload\":{"
+        + "\"BTC_USDT\":{\"last\":\"90417.60\",\"high\":\"90933.82\",\"low\":\"863334.53\",\"volume\":\"3631198541.88\",\"time\":1741207831531}}}";
+    String outOfOrderJson = "{\"payload\":{"
+        + "\"BTC_USDT\":{\"last\":\"90417.60\",\"unknown\":{\"a\":[1,2]},\"low\":\"863334.53\",\"high\":\"90933.82\",\"time\":1741207831531,\"volume\":\"3631198541.88\"}},"
+        + "\"extra\":true,\"responseCode\":200}";
+    DemoExchangeMarketDataTickersResponseDeserializer deserializer = new DemoExchangeMarketDataTickersResponseDeserializer();
+    DemoExchangeMarketDataTickersResponse expected = deserializer.deserialize(inOrderJson);
+    Assert.assertEquals(200, expected.getResponseCode().intValue());
+    Assert.assertEquals(new BigDecimal("3631198541.88"), expected.getPayload().get("BTC_USDT").getVolume());
+    Assert.assertEquals(1741207831531L, expected.getPayload().get("BTC_USDT").getTime().longValue());
+    Assert.assertEquals(expected, deserializer.deserialize(outOfOrderJson));
+  }
+
   @Test
   public void testDemoExchangeMarketDataExchangeInfoResponseGettersAndSetters() {
     DemoExchangeMarketDataExchangeInfoResponse pojo = new DemoExchangeMarketDataExchangeInfoResponse();
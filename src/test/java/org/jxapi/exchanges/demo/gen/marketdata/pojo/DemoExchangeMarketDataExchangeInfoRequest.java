@@ -15,6 +15,7 @@ import org.jxapi.util.CollectionUtil;
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Request object for DemoExchange MarketData API exchangeInfo REST endpoint<br>
@@ -23,7 +24,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = DemoExchangeMarketDataExchangeInfoRequestSerializer.class)
 @JsonDeserialize(using = DemoExchangeMarketDataExchangeInfoRequestDeserializer.class)
-public class DemoExchangeMarketDataExchangeInfoRequest implements Pojo<DemoExchangeMarketDataExchangeInfoRequest> {
+public class DemoExchangeMarketDataExchangeInfoRequest implements Pojo<DemoExchangeMarketDataExchangeInfoRequest>, Resettable {
   
   private static final long serialVersionUID = 6651377746235151905L;
   
@@ -94,6 +95,11 @@ public class DemoExchangeMarketDataExchangeInfoRequest implements Pojo<DemoExcha
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.symbols = SYMBOLS_DEFAULT_VALUE;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
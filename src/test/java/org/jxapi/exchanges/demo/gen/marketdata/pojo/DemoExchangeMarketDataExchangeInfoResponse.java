@@ -8,11 +8,13 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.deserializers.DemoExchangeMarketDataExchangeInfoResponseDeserializer;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.serializers.DemoExchangeMarketDataExchangeInfoResponseSerializer;
+import org.jxapi.netutils.deserialization.json.LazyJsonValue;
 import org.jxapi.util.CollectionUtil;
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.DeepCloneable;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Response object for DemoExchange MarketData API exchangeInfo REST endpoint<br>
@@ -21,7 +23,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = DemoExchangeMarketDataExchangeInfoResponseSerializer.class)
 @JsonDeserialize(using = DemoExchangeMarketDataExchangeInfoResponseDeserializer.class)
-public class DemoExchangeMarketDataExchangeInfoResponse implements Pojo<DemoExchangeMarketDataExchangeInfoResponse> {
+public class DemoExchangeMarketDataExchangeInfoResponse implements Pojo<DemoExchangeMarketDataExchangeInfoResponse>, Resettable {
   
   private static final long serialVersionUID = 2532768580321491677L;
   
@@ -34,6 +36,7 @@ public class DemoExchangeMarketDataExchangeInfoResponse implements Pojo<DemoExch
   
   private Integer responseCode;
   private List<DemoExchangeMarketDataExchangeInfoResponsePayload> payload;
+  private transient LazyJsonValue<List<DemoExchangeMarketDataExchangeInfoResponsePayload>> payloadLazyValue;
   
   /**
    * @return Request response code
@@ -53,7 +56,7 @@ public class DemoExchangeMarketDataExchangeInfoResponse implements Pojo<DemoExch
    * @return List of market information for each requested symbol
    */
   public List<DemoExchangeMarketDataExchangeInfoResponsePayload> getPayload() {
-    return payload;
+    return payloadLazyValue != null ? payloadLazyValue.get() : payload;
   }
   
   /**
@@ -61,6 +64,16 @@ public class DemoExchangeMarketDataExchangeInfoResponse implements Pojo<DemoExch
    */
   public void setPayload(List<DemoExchangeMarketDataExchangeInfoResponsePayload> payload) {
     this.payload = payload;
+    this.payloadLazyValue = null;
+  }
+  
+  /**
+   * Sets <code>payload</code> value to be decoded on first call to getter. Used by generated deserializer.
+   * @param payloadLazyValue pending value of <code>payload</code>
+   */
+  public void setPayloadLazyValue(LazyJsonValue<List<DemoExchangeMarketDataExchangeInfoResponsePayload>> payloadLazyValue) {
+    this.payload = null;
+    this.payloadLazyValue = payloadLazyValue;
   }
   
   @Override
@@ -75,7 +88,7 @@ public class DemoExchangeMarketDataExchangeInfoResponse implements Pojo<DemoExch
       return false;
     DemoExchangeMarketDataExchangeInfoResponse o = (DemoExchangeMarketDataExchangeInfoResponse) other;
     return Objects.equals(this.responseCode, o.responseCode)
-        && Objects.equals(this.payload, o.payload);
+        && Objects.equals(this.getPayload(), o.getPayload());
   }
   
   @Override
@@ -91,23 +104,38 @@ public class DemoExchangeMarketDataExchangeInfoResponse implements Pojo<DemoExch
     if (res != 0) {
       return res;
     }
-    res = CompareUtil.compareLists(this.payload, other.payload, CompareUtil::compare);
+    res = CompareUtil.compareLists(this.getPayload(), other.getPayload(), CompareUtil::compare);
     return res;
   }
   
   @Override
   public int hashCode() {
-    return Objects.hash(responseCode, payload);
+    return Objects.hash(responseCode, getPayload());
   }
   
   @Override
   public DemoExchangeMarketDataExchangeInfoResponse deepClone() {
     DemoExchangeMarketDataExchangeInfoResponse clone = new DemoExchangeMarketDataExchangeInfoResponse();
     clone.responseCode = this.responseCode;
-    clone.payload = CollectionUtil.deepCloneList(this.payload, DeepCloneable::deepClone);
+    clone.payload = CollectionUtil.deepCloneList(this.getPayload(), DeepCloneable::deepClone);
     return clone;
   }
   
+  /**
+   * Serializes a deep clone of this instance instead, holding decoded values of lazy fields.
+   * @return the object to serialize
+   */
+  private Object writeReplace() {
+    return deepClone();
+  }
+  
+  @Override
+  public void reset() {
+    this.responseCode = null;
+    this.payload = null;
+    this.payloadLazyValue = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
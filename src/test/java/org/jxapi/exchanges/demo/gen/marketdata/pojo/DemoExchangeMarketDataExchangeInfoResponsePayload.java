@@ -11,6 +11,7 @@ import org.jxapi.exchanges.demo.gen.marketdata.pojo.serializers.DemoExchangeMark
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * List of market information for each requested symbol
@@ -18,7 +19,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = DemoExchangeMarketDataExchangeInfoResponsePayloadSerializer.class)
 @JsonDeserialize(using = DemoExchangeMarketDataExchangeInfoResponsePayloadDeserializer.class)
-public class DemoExchangeMarketDataExchangeInfoResponsePayload implements Pojo<DemoExchangeMarketDataExchangeInfoResponsePayload> {
+public class DemoExchangeMarketDataExchangeInfoResponsePayload implements Pojo<DemoExchangeMarketDataExchangeInfoResponsePayload>, Resettable {
   
   private static final long serialVersionUID = 8233098697383898261L;
   
@@ -147,6 +148,14 @@ public class DemoExchangeMarketDataExchangeInfoResponsePayload implements Pojo<D
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.symbol = null;
+    this.minOrderSize = null;
+    this.orderTickSize = null;
+    this.blob = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -11,6 +11,7 @@ import org.jxapi.exchanges.demo.gen.marketdata.pojo.serializers.DemoExchangeMark
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Message object for DemoExchange MarketData API tickerStream Websocket endpoint<br>
@@ -19,7 +20,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = DemoExchangeMarketDataTickerStreamMessageSerializer.class)
 @JsonDeserialize(using = DemoExchangeMarketDataTickerStreamMessageDeserializer.class)
-public class DemoExchangeMarketDataTickerStreamMessage implements Pojo<DemoExchangeMarketDataTickerStreamMessage> {
+public class DemoExchangeMarketDataTickerStreamMessage implements Pojo<DemoExchangeMarketDataTickerStreamMessage>, Resettable {
   
   private static final long serialVersionUID = 1440987101262228707L;
   
@@ -211,6 +212,17 @@ public class DemoExchangeMarketDataTickerStreamMessage implements Pojo<DemoExcha
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.topic = null;
+    this.symbol = null;
+    this.last = null;
+    this.high = null;
+    this.low = null;
+    this.volume = null;
+    this.time = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
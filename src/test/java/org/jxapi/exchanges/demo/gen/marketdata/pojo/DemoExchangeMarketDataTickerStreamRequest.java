@@ -10,6 +10,7 @@ import org.jxapi.exchanges.demo.gen.marketdata.pojo.serializers.DemoExchangeMark
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Subscription request object for DemoExchange MarketData API tickerStream Websocket endpoint<br>
@@ -18,7 +19,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = DemoExchangeMarketDataTickerStreamRequestSerializer.class)
 @JsonDeserialize(using = DemoExchangeMarketDataTickerStreamRequestDeserializer.class)
-public class DemoExchangeMarketDataTickerStreamRequest implements Pojo<DemoExchangeMarketDataTickerStreamRequest> {
+public class DemoExchangeMarketDataTickerStreamRequest implements Pojo<DemoExchangeMarketDataTickerStreamRequest>, Resettable {
   
   private static final long serialVersionUID = -1523648742655057287L;
   
@@ -84,6 +85,11 @@ public class DemoExchangeMarketDataTickerStreamRequest implements Pojo<DemoExcha
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.symbol = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
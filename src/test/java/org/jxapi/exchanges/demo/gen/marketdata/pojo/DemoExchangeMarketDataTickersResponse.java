@@ -13,6 +13,7 @@ import org.jxapi.util.CompareUtil;
 import org.jxapi.util.DeepCloneable;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Response object for DemoExchange MarketData API tickers REST endpoint<br>
@@ -21,7 +22,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = DemoExchangeMarketDataTickersResponseSerializer.class)
 @JsonDeserialize(using = DemoExchangeMarketDataTickersResponseDeserializer.class)
-public class DemoExchangeMarketDataTickersResponse implements Pojo<DemoExchangeMarketDataTickersResponse> {
+public class DemoExchangeMarketDataTickersResponse implements Pojo<DemoExchangeMarketDataTickersResponse>, Resettable {
   
   private static final long serialVersionUID = 927904055578287526L;
   
@@ -108,6 +109,12 @@ public class DemoExchangeMarketDataTickersResponse implements Pojo<DemoExchangeM
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.responseCode = null;
+    this.payload = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -12,6 +12,7 @@ import org.jxapi.exchanges.demo.gen.marketdata.pojo.serializers.DemoExchangeMark
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Tickers for each symbol
@@ -19,7 +20,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = DemoExchangeMarketDataTickersResponsePayloadSerializer.class)
 @JsonDeserialize(using = DemoExchangeMarketDataTickersResponsePayloadDeserializer.class)
-public class DemoExchangeMarketDataTickersResponsePayload implements Pojo<DemoExchangeMarketDataTickersResponsePayload> {
+public class DemoExchangeMarketDataTickersResponsePayload implements Pojo<DemoExchangeMarketDataTickersResponsePayload>, Resettable {
   
   private static final long serialVersionUID = 2227932091088175817L;
   
@@ -190,6 +191,16 @@ public class DemoExchangeMarketDataTickersResponsePayload implements Pojo<DemoEx
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.last = null;
+    this.high = null;
+    this.low = null;
+    this.volume = null;
+    this.time = null;
+    this.meta = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -10,6 +10,7 @@ import org.jxapi.exchanges.demo.gen.marketdata.pojo.serializers.GenericResponseS
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Response object for DemoExchange MarketData API postRestRequestDataTypeInt REST endpoint<br>
@@ -18,7 +19,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = GenericResponseSerializer.class)
 @JsonDeserialize(using = GenericResponseDeserializer.class)
-public class GenericResponse implements Pojo<GenericResponse> {
+public class GenericResponse implements Pojo<GenericResponse>, Resettable {
   
   private static final long serialVersionUID = 6491747203800805580L;
   
@@ -84,6 +85,11 @@ public class GenericResponse implements Pojo<GenericResponse> {
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.responseCode = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -10,6 +10,7 @@ import org.jxapi.exchanges.demo.gen.marketdata.pojo.serializers.SingleSymbolSeri
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Request object for DemoExchange MarketData API postRestRequestDataTypeObjectListMap REST endpoint<br>
@@ -18,7 +19,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = SingleSymbolSerializer.class)
 @JsonDeserialize(using = SingleSymbolDeserializer.class)
-public class SingleSymbol implements Pojo<SingleSymbol> {
+public class SingleSymbol implements Pojo<SingleSymbol>, Resettable {
   
   private static final long serialVersionUID = 3008479971180440278L;
   
@@ -84,6 +85,11 @@ public class SingleSymbol implements Pojo<SingleSymbol> {
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.symbol = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
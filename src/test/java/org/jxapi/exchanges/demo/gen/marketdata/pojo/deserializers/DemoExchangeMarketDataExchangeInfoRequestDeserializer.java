@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataExchangeInfoRequest;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -17,12 +18,28 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class DemoExchangeMarketDataExchangeInfoRequestDeserializer extends AbstractJsonMessageDeserializer<DemoExchangeMarketDataExchangeInfoRequest> {
+  private static final SerializedString SYMBOLS_FIELD_NAME = new SerializedString("symbols");
+  
   private final ListJsonFieldDeserializer<String> symbolsDeserializer = new ListJsonFieldDeserializer<>(StringJsonFieldDeserializer.getInstance());
   
   @Override
   public DemoExchangeMarketDataExchangeInfoRequest deserialize(JsonParser parser) throws IOException {
-    DemoExchangeMarketDataExchangeInfoRequest msg = new DemoExchangeMarketDataExchangeInfoRequest();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new DemoExchangeMarketDataExchangeInfoRequest());
+  }
+  
+  @Override
+  public DemoExchangeMarketDataExchangeInfoRequest deserializeInto(JsonParser parser, DemoExchangeMarketDataExchangeInfoRequest msg) throws IOException {
+    if (!parser.nextFieldName(SYMBOLS_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    msg.setSymbols(symbolsDeserializer.deserialize(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private DemoExchangeMarketDataExchangeInfoRequest deserializeFields(JsonParser parser, DemoExchangeMarketDataExchangeInfoRequest msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "symbols":
         parser.nextToken();
@@ -32,7 +49,6 @@ public class DemoExchangeMarketDataExchangeInfoRequestDeserializer extends Abstr
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
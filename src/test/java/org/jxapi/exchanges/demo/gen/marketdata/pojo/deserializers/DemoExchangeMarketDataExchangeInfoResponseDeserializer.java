@@ -4,10 +4,12 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataExchangeInfoResponse;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataExchangeInfoResponsePayload;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
+import org.jxapi.netutils.deserialization.json.LazyJsonValue;
 import org.jxapi.netutils.deserialization.json.field.ListJsonFieldDeserializer;
 import static org.jxapi.util.JsonUtil.readNextInteger;
 import static org.jxapi.util.JsonUtil.skipNextValue;
@@ -18,28 +20,49 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class DemoExchangeMarketDataExchangeInfoResponseDeserializer extends AbstractJsonMessageDeserializer<DemoExchangeMarketDataExchangeInfoResponse> {
+  private static final SerializedString RESPONSE_CODE_FIELD_NAME = new SerializedString("responseCode");
+  private static final SerializedString PAYLOAD_FIELD_NAME = new SerializedString("payload");
+  
   private ListJsonFieldDeserializer<DemoExchangeMarketDataExchangeInfoResponsePayload> payloadDeserializer;
   
   @Override
   public DemoExchangeMarketDataExchangeInfoResponse deserialize(JsonParser parser) throws IOException {
-    DemoExchangeMarketDataExchangeInfoResponse msg = new DemoExchangeMarketDataExchangeInfoResponse();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new DemoExchangeMarketDataExchangeInfoResponse());
+  }
+  
+  @Override
+  public DemoExchangeMarketDataExchangeInfoResponse deserializeInto(JsonParser parser, DemoExchangeMarketDataExchangeInfoResponse msg) throws IOException {
+    if (!parser.nextFieldName(RESPONSE_CODE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setResponseCode(readNextInteger(parser));
+    if (!parser.nextFieldName(PAYLOAD_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    if(payloadDeserializer == null) {
+      payloadDeserializer = new ListJsonFieldDeserializer<>(new DemoExchangeMarketDataExchangeInfoResponsePayloadDeserializer());
+    }
+    msg.setPayloadLazyValue(LazyJsonValue.readNext(parser, payloadDeserializer));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private DemoExchangeMarketDataExchangeInfoResponse deserializeFields(JsonParser parser, DemoExchangeMarketDataExchangeInfoResponse msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "responseCode":
         msg.setResponseCode(readNextInteger(parser));
       break;
       case "payload":
-        parser.nextToken();
         if(payloadDeserializer == null) {
           payloadDeserializer = new ListJsonFieldDeserializer<>(new DemoExchangeMarketDataExchangeInfoResponsePayloadDeserializer());
         }
-        msg.setPayload(payloadDeserializer.deserialize(parser));
+        msg.setPayloadLazyValue(LazyJsonValue.readNext(parser, payloadDeserializer));
       break;
       default:
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataExchangeInfoResponsePayload;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -18,11 +19,40 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class DemoExchangeMarketDataExchangeInfoResponsePayloadDeserializer extends AbstractJsonMessageDeserializer<DemoExchangeMarketDataExchangeInfoResponsePayload> {
+  private static final SerializedString SYMBOL_FIELD_NAME = new SerializedString("symbol");
+  private static final SerializedString MIN_ORDER_SIZE_FIELD_NAME = new SerializedString("minOrderSize");
+  private static final SerializedString ORDER_TICK_SIZE_FIELD_NAME = new SerializedString("orderTickSize");
+  private static final SerializedString BLOB_FIELD_NAME = new SerializedString("blob");
   
   @Override
   public DemoExchangeMarketDataExchangeInfoResponsePayload deserialize(JsonParser parser) throws IOException {
-    DemoExchangeMarketDataExchangeInfoResponsePayload msg = new DemoExchangeMarketDataExchangeInfoResponsePayload();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new DemoExchangeMarketDataExchangeInfoResponsePayload());
+  }
+  
+  @Override
+  public DemoExchangeMarketDataExchangeInfoResponsePayload deserializeInto(JsonParser parser, DemoExchangeMarketDataExchangeInfoResponsePayload msg) throws IOException {
+    if (!parser.nextFieldName(SYMBOL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setSymbol(readNextString(parser));
+    if (!parser.nextFieldName(MIN_ORDER_SIZE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setMinOrderSize(readNextBigDecimal(parser));
+    if (!parser.nextFieldName(ORDER_TICK_SIZE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setOrderTickSize(readNextBigDecimal(parser));
+    if (!parser.nextFieldName(BLOB_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setBlob(readNextObject(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private DemoExchangeMarketDataExchangeInfoResponsePayload deserializeFields(JsonParser parser, DemoExchangeMarketDataExchangeInfoResponsePayload msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "symbol":
         msg.setSymbol(readNextString(parser));
@@ -40,7 +70,6 @@ public class DemoExchangeMarketDataExchangeInfoResponsePayloadDeserializer exten
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
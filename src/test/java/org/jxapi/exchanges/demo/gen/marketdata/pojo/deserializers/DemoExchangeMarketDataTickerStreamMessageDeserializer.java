@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataTickerStreamMessage;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -18,11 +19,55 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class DemoExchangeMarketDataTickerStreamMessageDeserializer extends AbstractJsonMessageDeserializer<DemoExchangeMarketDataTickerStreamMessage> {
+  private static final SerializedString TOPIC_FIELD_NAME = new SerializedString("t");
+  private static final SerializedString SYMBOL_FIELD_NAME = new SerializedString("s");
+  private static final SerializedString LAST_FIELD_NAME = new SerializedString("p");
+  private static final SerializedString HIGH_FIELD_NAME = new SerializedString("h");
+  private static final SerializedString LOW_FIELD_NAME = new SerializedString("l");
+  private static final SerializedString VOLUME_FIELD_NAME = new SerializedString("v");
+  private static final SerializedString TIME_FIELD_NAME = new SerializedString("d");
   
   @Override
   public DemoExchangeMarketDataTickerStreamMessage deserialize(JsonParser parser) throws IOException {
-    DemoExchangeMarketDataTickerStreamMessage msg = new DemoExchangeMarketDataTickerStreamMessage();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new DemoExchangeMarketDataTickerStreamMessage());
+  }
+  
+  @Override
+  public DemoExchangeMarketDataTickerStreamMessage deserializeInto(JsonParser parser, DemoExchangeMarketDataTickerStreamMessage msg) throws IOException {
+    if (!parser.nextFieldName(TOPIC_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setTopic(readNextString(parser));
+    if (!parser.nextFieldName(SYMBOL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setSymbol(readNextString(parser));
+    if (!parser.nextFieldName(LAST_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setLast(readNextBigDecimal(parser));
+    if (!parser.nextFieldName(HIGH_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHigh(readNextBigDecimal(parser));
+    if (!parser.nextFieldName(LOW_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setLow(readNextBigDecimal(parser));
+    if (!parser.nextFieldName(VOLUME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setVolume(readNextBigDecimal(parser));
+    if (!parser.nextFieldName(TIME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setTime(readNextLong(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private DemoExchangeMarketDataTickerStreamMessage deserializeFields(JsonParser parser, DemoExchangeMarketDataTickerStreamMessage msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "t":
         msg.setTopic(readNextString(parser));
@@ -49,7 +94,6 @@ public class DemoExchangeMarketDataTickerStreamMessageDeserializer extends Abstr
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
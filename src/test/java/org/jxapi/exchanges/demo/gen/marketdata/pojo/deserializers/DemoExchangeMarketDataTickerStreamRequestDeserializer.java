@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataTickerStreamRequest;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -16,11 +17,25 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class DemoExchangeMarketDataTickerStreamRequestDeserializer extends AbstractJsonMessageDeserializer<DemoExchangeMarketDataTickerStreamRequest> {
+  private static final SerializedString SYMBOL_FIELD_NAME = new SerializedString("symbol");
   
   @Override
   public DemoExchangeMarketDataTickerStreamRequest deserialize(JsonParser parser) throws IOException {
-    DemoExchangeMarketDataTickerStreamRequest msg = new DemoExchangeMarketDataTickerStreamRequest();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new DemoExchangeMarketDataTickerStreamRequest());
+  }
+  
+  @Override
+  public DemoExchangeMarketDataTickerStreamRequest deserializeInto(JsonParser parser, DemoExchangeMarketDataTickerStreamRequest msg) throws IOException {
+    if (!parser.nextFieldName(SYMBOL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setSymbol(readNextString(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private DemoExchangeMarketDataTickerStreamRequest deserializeFields(JsonParser parser, DemoExchangeMarketDataTickerStreamRequest msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "symbol":
         msg.setSymbol(readNextString(parser));
@@ -29,7 +44,6 @@ public class DemoExchangeMarketDataTickerStreamRequestDeserializer extends Abstr
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
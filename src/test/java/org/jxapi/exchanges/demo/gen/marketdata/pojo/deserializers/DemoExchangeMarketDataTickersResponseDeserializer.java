@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataTickersResponse;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataTickersResponsePayload;
@@ -18,12 +19,36 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class DemoExchangeMarketDataTickersResponseDeserializer extends AbstractJsonMessageDeserializer<DemoExchangeMarketDataTickersResponse> {
+  private static final SerializedString RESPONSE_CODE_FIELD_NAME = new SerializedString("responseCode");
+  private static final SerializedString PAYLOAD_FIELD_NAME = new SerializedString("payload");
+  
   private MapJsonFieldDeserializer<DemoExchangeMarketDataTickersResponsePayload> payloadDeserializer;
   
   @Override
   public DemoExchangeMarketDataTickersResponse deserialize(JsonParser parser) throws IOException {
-    DemoExchangeMarketDataTickersResponse msg = new DemoExchangeMarketDataTickersResponse();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new DemoExchangeMarketDataTickersResponse());
+  }
+  
+  @Override
+  public DemoExchangeMarketDataTickersResponse deserializeInto(JsonParser parser, DemoExchangeMarketDataTickersResponse msg) throws IOException {
+    if (!parser.nextFieldName(RESPONSE_CODE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setResponseCode(readNextInteger(parser));
+    if (!parser.nextFieldName(PAYLOAD_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(payloadDeserializer == null) {
+      payloadDeserializer = new MapJsonFieldDeserializer<>(new DemoExchangeMarketDataTickersResponsePayloadDeserializer());
+    }
+    msg.setPayload(payloadDeserializer.deserialize(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private DemoExchangeMarketDataTickersResponse deserializeFields(JsonParser parser, DemoExchangeMarketDataTickersResponse msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "responseCode":
         msg.setResponseCode(readNextInteger(parser));
@@ -39,7 +64,6 @@ public class DemoExchangeMarketDataTickersResponseDeserializer extends AbstractJ
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
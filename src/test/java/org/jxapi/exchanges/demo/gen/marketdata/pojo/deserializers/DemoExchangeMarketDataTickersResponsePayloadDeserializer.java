@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.DemoExchangeMarketDataTickersResponsePayload;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -18,11 +19,50 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class DemoExchangeMarketDataTickersResponsePayloadDeserializer extends AbstractJsonMessageDeserializer<DemoExchangeMarketDataTickersResponsePayload> {
+  private static final SerializedString LAST_FIELD_NAME = new SerializedString("last");
+  private static final SerializedString HIGH_FIELD_NAME = new SerializedString("high");
+  private static final SerializedString LOW_FIELD_NAME = new SerializedString("low");
+  private static final SerializedString VOLUME_FIELD_NAME = new SerializedString("volume");
+  private static final SerializedString TIME_FIELD_NAME = new SerializedString("time");
+  private static final SerializedString META_FIELD_NAME = new SerializedString("meta");
   
   @Override
   public DemoExchangeMarketDataTickersResponsePayload deserialize(JsonParser parser) throws IOException {
-    DemoExchangeMarketDataTickersResponsePayload msg = new DemoExchangeMarketDataTickersResponsePayload();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new DemoExchangeMarketDataTickersResponsePayload());
+  }
+  
+  @Override
+  public DemoExchangeMarketDataTickersResponsePayload deserializeInto(JsonParser parser, DemoExchangeMarketDataTickersResponsePayload msg) throws IOException {
+    if (!parser.nextFieldName(LAST_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setLast(readNextBigDecimal(parser));
+    if (!parser.nextFieldName(HIGH_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setHigh(readNextBigDecimal(parser));
+    if (!parser.nextFieldName(LOW_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setLow(readNextBigDecimal(parser));
+    if (!parser.nextFieldName(VOLUME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setVolume(readNextBigDecimal(parser));
+    if (!parser.nextFieldName(TIME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setTime(readNextLong(parser));
+    if (!parser.nextFieldName(META_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setMeta(readNextObject(parser, org.jxapi.exchanges.demo.TickerMeta.class));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private DemoExchangeMarketDataTickersResponsePayload deserializeFields(JsonParser parser, DemoExchangeMarketDataTickersResponsePayload msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "last":
         msg.setLast(readNextBigDecimal(parser));
@@ -46,7 +86,6 @@ public class DemoExchangeMarketDataTickersResponsePayloadDeserializer extends Ab
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
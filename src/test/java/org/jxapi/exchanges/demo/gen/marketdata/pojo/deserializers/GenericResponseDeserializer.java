@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.GenericResponse;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -16,11 +17,25 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class GenericResponseDeserializer extends AbstractJsonMessageDeserializer<GenericResponse> {
+  private static final SerializedString RESPONSE_CODE_FIELD_NAME = new SerializedString("responseCode");
   
   @Override
   public GenericResponse deserialize(JsonParser parser) throws IOException {
-    GenericResponse msg = new GenericResponse();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new GenericResponse());
+  }
+  
+  @Override
+  public GenericResponse deserializeInto(JsonParser parser, GenericResponse msg) throws IOException {
+    if (!parser.nextFieldName(RESPONSE_CODE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setResponseCode(readNextInteger(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private GenericResponse deserializeFields(JsonParser parser, GenericResponse msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "responseCode":
         msg.setResponseCode(readNextInteger(parser));
@@ -29,7 +44,6 @@ public class GenericResponseDeserializer extends AbstractJsonMessageDeserializer
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.demo.gen.marketdata.pojo.SingleSymbol;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -16,11 +17,25 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class SingleSymbolDeserializer extends AbstractJsonMessageDeserializer<SingleSymbol> {
+  private static final SerializedString SYMBOL_FIELD_NAME = new SerializedString("s");
   
   @Override
   public SingleSymbol deserialize(JsonParser parser) throws IOException {
-    SingleSymbol msg = new SingleSymbol();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new SingleSymbol());
+  }
+  
+  @Override
+  public SingleSymbol deserializeInto(JsonParser parser, SingleSymbol msg) throws IOException {
+    if (!parser.nextFieldName(SYMBOL_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setSymbol(readNextString(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private SingleSymbol deserializeFields(JsonParser parser, SingleSymbol msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "s":
         msg.setSymbol(readNextString(parser));
@@ -29,7 +44,6 @@ public class SingleSymbolDeserializer extends AbstractJsonMessageDeserializer<Si
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -10,6 +10,7 @@ import org.jxapi.exchanges.employee.gen.v1.pojo.serializers.EmployeeSerializer;
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Employee details
@@ -17,7 +18,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = EmployeeSerializer.class)
 @JsonDeserialize(using = EmployeeDeserializer.class)
-public class Employee implements Pojo<Employee> {
+public class Employee implements Pojo<Employee>, Resettable {
   
   private static final long serialVersionUID = 607196601431828222L;
   
@@ -146,6 +147,14 @@ public class Employee implements Pojo<Employee> {
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.id = null;
+    this.firstName = null;
+    this.lastName = null;
+    this.profile = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
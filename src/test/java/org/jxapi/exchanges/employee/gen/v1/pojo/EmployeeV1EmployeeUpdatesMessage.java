@@ -10,6 +10,7 @@ import org.jxapi.exchanges.employee.gen.v1.pojo.serializers.EmployeeV1EmployeeUp
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Employee update message
@@ -17,7 +18,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = EmployeeV1EmployeeUpdatesMessageSerializer.class)
 @JsonDeserialize(using = EmployeeV1EmployeeUpdatesMessageDeserializer.class)
-public class EmployeeV1EmployeeUpdatesMessage implements Pojo<EmployeeV1EmployeeUpdatesMessage> {
+public class EmployeeV1EmployeeUpdatesMessage implements Pojo<EmployeeV1EmployeeUpdatesMessage>, Resettable {
   
   private static final long serialVersionUID = -1771730097053933571L;
   
@@ -104,6 +105,12 @@ public class EmployeeV1EmployeeUpdatesMessage implements Pojo<EmployeeV1Employee
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.eventType = null;
+    this.employee = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
@@ -11,6 +11,7 @@ import org.jxapi.exchanges.employee.gen.v1.pojo.serializers.EmployeeV1GetAllEmpl
 import org.jxapi.util.CompareUtil;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Page request parameters for 'getAllEmployees' rest endpoint paginated requests.
@@ -18,7 +19,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = EmployeeV1GetAllEmployeesRequestSerializer.class)
 @JsonDeserialize(using = EmployeeV1GetAllEmployeesRequestDeserializer.class)
-public class EmployeeV1GetAllEmployeesRequest implements Pojo<EmployeeV1GetAllEmployeesRequest>, EmployeePaginatedRequest {
+public class EmployeeV1GetAllEmployeesRequest implements Pojo<EmployeeV1GetAllEmployeesRequest>, Resettable, EmployeePaginatedRequest {
   
   private static final long serialVersionUID = -7439815753884330991L;
   
@@ -107,6 +108,12 @@ public class EmployeeV1GetAllEmployeesRequest implements Pojo<EmployeeV1GetAllEm
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.page = null;
+    this.size = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
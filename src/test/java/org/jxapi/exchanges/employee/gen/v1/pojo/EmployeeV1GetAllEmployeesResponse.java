@@ -14,6 +14,7 @@ import org.jxapi.util.CompareUtil;
 import org.jxapi.util.DeepCloneable;
 import org.jxapi.util.EncodingUtil;
 import org.jxapi.util.Pojo;
+import org.jxapi.util.Resettable;
 
 /**
  * Response object for Employee v1 API getAllEmployees REST endpoint<br>
@@ -22,7 +23,7 @@ import org.jxapi.util.Pojo;
 @Generated("org.jxapi.generator.java.pojo.PojoGenerator")
 @JsonSerialize(using = EmployeeV1GetAllEmployeesResponseSerializer.class)
 @JsonDeserialize(using = EmployeeV1GetAllEmployeesResponseDeserializer.class)
-public class EmployeeV1GetAllEmployeesResponse implements Pojo<EmployeeV1GetAllEmployeesResponse>, EmployeePaginatedResponse {
+public class EmployeeV1GetAllEmployeesResponse implements Pojo<EmployeeV1GetAllEmployeesResponse>, Resettable, EmployeePaginatedResponse {
   
   private static final long serialVersionUID = -4780534191544812805L;
   
@@ -124,6 +125,13 @@ public class EmployeeV1GetAllEmployeesResponse implements Pojo<EmployeeV1GetAllE
     return clone;
   }
   
+  @Override
+  public void reset() {
+    this.page = null;
+    this.totalPages = null;
+    this.employees = null;
+  }
+  
   @Override
   public String toString() {
     return EncodingUtil.pojoToString(this);
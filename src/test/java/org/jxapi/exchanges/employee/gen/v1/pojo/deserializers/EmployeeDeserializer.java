@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.employee.gen.v1.pojo.Employee;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -17,11 +18,40 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class EmployeeDeserializer extends AbstractJsonMessageDeserializer<Employee> {
+  private static final SerializedString ID_FIELD_NAME = new SerializedString("id");
+  private static final SerializedString FIRST_NAME_FIELD_NAME = new SerializedString("firstName");
+  private static final SerializedString LAST_NAME_FIELD_NAME = new SerializedString("lastName");
+  private static final SerializedString PROFILE_FIELD_NAME = new SerializedString("profile");
   
   @Override
   public Employee deserialize(JsonParser parser) throws IOException {
-    Employee msg = new Employee();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new Employee());
+  }
+  
+  @Override
+  public Employee deserializeInto(JsonParser parser, Employee msg) throws IOException {
+    if (!parser.nextFieldName(ID_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setId(readNextInteger(parser));
+    if (!parser.nextFieldName(FIRST_NAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setFirstName(readNextString(parser));
+    if (!parser.nextFieldName(LAST_NAME_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setLastName(readNextString(parser));
+    if (!parser.nextFieldName(PROFILE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setProfile(readNextString(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private Employee deserializeFields(JsonParser parser, Employee msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "id":
         msg.setId(readNextInteger(parser));
@@ -39,7 +69,6 @@ public class EmployeeDeserializer extends AbstractJsonMessageDeserializer<Employ
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.employee.gen.v1.pojo.EmployeeV1EmployeeUpdatesMessage;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -16,12 +17,36 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class EmployeeV1EmployeeUpdatesMessageDeserializer extends AbstractJsonMessageDeserializer<EmployeeV1EmployeeUpdatesMessage> {
+  private static final SerializedString EVENT_TYPE_FIELD_NAME = new SerializedString("eventType");
+  private static final SerializedString EMPLOYEE_FIELD_NAME = new SerializedString("employee");
+  
   private EmployeeDeserializer employeeDeserializer;
   
   @Override
   public EmployeeV1EmployeeUpdatesMessage deserialize(JsonParser parser) throws IOException {
-    EmployeeV1EmployeeUpdatesMessage msg = new EmployeeV1EmployeeUpdatesMessage();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new EmployeeV1EmployeeUpdatesMessage());
+  }
+  
+  @Override
+  public EmployeeV1EmployeeUpdatesMessage deserializeInto(JsonParser parser, EmployeeV1EmployeeUpdatesMessage msg) throws IOException {
+    if (!parser.nextFieldName(EVENT_TYPE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setEventType(readNextString(parser));
+    if (!parser.nextFieldName(EMPLOYEE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(employeeDeserializer == null) {
+      employeeDeserializer = new EmployeeDeserializer();
+    }
+    msg.setEmployee(employeeDeserializer.deserialize(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private EmployeeV1EmployeeUpdatesMessage deserializeFields(JsonParser parser, EmployeeV1EmployeeUpdatesMessage msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "eventType":
         msg.setEventType(readNextString(parser));
@@ -37,7 +62,6 @@ public class EmployeeV1EmployeeUpdatesMessageDeserializer extends AbstractJsonMe
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.employee.gen.v1.pojo.EmployeeV1GetAllEmployeesRequest;
 import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
@@ -16,11 +17,30 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class EmployeeV1GetAllEmployeesRequestDeserializer extends AbstractJsonMessageDeserializer<EmployeeV1GetAllEmployeesRequest> {
+  private static final SerializedString PAGE_FIELD_NAME = new SerializedString("page");
+  private static final SerializedString SIZE_FIELD_NAME = new SerializedString("size");
   
   @Override
   public EmployeeV1GetAllEmployeesRequest deserialize(JsonParser parser) throws IOException {
-    EmployeeV1GetAllEmployeesRequest msg = new EmployeeV1GetAllEmployeesRequest();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new EmployeeV1GetAllEmployeesRequest());
+  }
+  
+  @Override
+  public EmployeeV1GetAllEmployeesRequest deserializeInto(JsonParser parser, EmployeeV1GetAllEmployeesRequest msg) throws IOException {
+    if (!parser.nextFieldName(PAGE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setPage(readNextInteger(parser));
+    if (!parser.nextFieldName(SIZE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setSize(readNextInteger(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private EmployeeV1GetAllEmployeesRequest deserializeFields(JsonParser parser, EmployeeV1GetAllEmployeesRequest msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "page":
         msg.setPage(readNextInteger(parser));
@@ -32,7 +52,6 @@ public class EmployeeV1GetAllEmployeesRequestDeserializer extends AbstractJsonMe
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import javax.annotation.processing.Generated;
 import org.jxapi.exchanges.employee.gen.v1.pojo.Employee;
 import org.jxapi.exchanges.employee.gen.v1.pojo.EmployeeV1GetAllEmployeesResponse;
@@ -18,12 +19,41 @@ import static org.jxapi.util.JsonUtil.skipNextValue;
  */
 @Generated("org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator")
 public class EmployeeV1GetAllEmployeesResponseDeserializer extends AbstractJsonMessageDeserializer<EmployeeV1GetAllEmployeesResponse> {
+  private static final SerializedString PAGE_FIELD_NAME = new SerializedString("page");
+  private static final SerializedString TOTAL_PAGES_FIELD_NAME = new SerializedString("totalPages");
+  private static final SerializedString EMPLOYEES_FIELD_NAME = new SerializedString("employees");
+  
   private ListJsonFieldDeserializer<Employee> employeesDeserializer;
   
   @Override
   public EmployeeV1GetAllEmployeesResponse deserialize(JsonParser parser) throws IOException {
-    EmployeeV1GetAllEmployeesResponse msg = new EmployeeV1GetAllEmployeesResponse();
-    while(parser.nextToken() != JsonToken.END_OBJECT) {
+    return deserializeInto(parser, new EmployeeV1GetAllEmployeesResponse());
+  }
+  
+  @Override
+  public EmployeeV1GetAllEmployeesResponse deserializeInto(JsonParser parser, EmployeeV1GetAllEmployeesResponse msg) throws IOException {
+    if (!parser.nextFieldName(PAGE_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setPage(readNextInteger(parser));
+    if (!parser.nextFieldName(TOTAL_PAGES_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    msg.setTotalPages(readNextInteger(parser));
+    if (!parser.nextFieldName(EMPLOYEES_FIELD_NAME)) {
+      return deserializeFields(parser, msg);
+    }
+    parser.nextToken();
+    if(employeesDeserializer == null) {
+      employeesDeserializer = new ListJsonFieldDeserializer<>(new EmployeeDeserializer());
+    }
+    msg.setEmployees(employeesDeserializer.deserialize(parser));
+    parser.nextToken();
+    return deserializeFields(parser, msg);
+  }
+  
+  private EmployeeV1GetAllEmployeesResponse deserializeFields(JsonParser parser, EmployeeV1GetAllEmployeesResponse msg) throws IOException {
+    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
       switch(parser.currentName()) {
       case "page":
         msg.setPage(readNextInteger(parser));
@@ -42,7 +72,6 @@ public class EmployeeV1GetAllEmployeesResponseDeserializer extends AbstractJsonM
         skipNextValue(parser);
       }
     }
-    
-     return msg;
+    return msg;
   }
 }
@@ -319,7 +319,7 @@ public class ExchangeInterfaceImplementationGeneratorTest {
         + "      \"com.xyz.foo.gen.FooHttpRequestInterceptorFactory\",\n"
         + "      \"com.xyz.foo.gen.FooHttpRequestExecutorFactory\",\n"
         + "      \"com.xyz.foo.gen.FooHttpResponseInterceptorFactory\",\n"
-        + "      15000);\n"
+        + "      15000L);\n"
         + "    createWebsocketClient(\"wsDefault\",\n"
         + "      \"wss://foo.example.com/ws\",\n"
         + "      \"com.xyz.foo.gen.FooWebsocketFactory\",\n"
@@ -336,6 +336,73 @@ public class ExchangeInterfaceImplementationGeneratorTest {
         exchangeGenerator.generate());
   }
   
+  @Test
+  public void testGenerateExchangeApiWithExchangeRateLimitsWithUsageHeaders() {
+    ExchangeDescriptor exchangeDescriptor = new ExchangeDescriptor();
+    exchangeDescriptor.setId("Foo");
+    exchangeDescriptor.setBasePackage("com.xyz.foo.gen");
+    exchangeDescriptor.setRateLimits(List.of(
+        RateLimitRuleDescriptor.builder()
+          .id("weightLimit")
+          .timeFrame(60000L)
+          .maxTotalWeight(6000)
+          .usedHeader("X-MBX-USED-WEIGHT-1M")
+          .build(),
+        RateLimitRuleDescriptor.builder()
+          .id("countLimit")
+          .timeFrame(1000L)
+          .maxRequestCount(10)
+          .remainingHeader("X-RateLimit-Remaining")
+          .build()));
+    exchangeDescriptor.setNetwork(NetworkDescriptor.builder().build());
+    String generated = new ExchangeInterfaceImplementationGenerator(exchangeDescriptor).generate();
+    Assert.assertTrue(generated, generated.contains(
+        "  private final RateLimitRule rateLimitWeightLimit = RateLimitRule.createWeightedRule(\"weightLimit\", 60000, 6000)\n"
+      + "    .withUsageHeaders(\"X-MBX-USED-WEIGHT-1M\", null);\n"));
+    Assert.assertTrue(generated, generated.contains(
+        "  private final RateLimitRule rateLimitCountLimit = RateLimitRule.createRule(\"countLimit\", 1000, 10)\n"
+      + "    .withUsageHeaders(null, \"X-RateLimit-Remaining\");\n"));
+  }
+  
+  @Test
+  public void testGenerateExchangeApiWithHttpClientConnectionSettings() {
+    ExchangeDescriptor exchangeDescriptor = new ExchangeDescriptor();
+    exchangeDescriptor.setId("Foo");
+    exchangeDescriptor.setBasePackage("com.xyz.foo.gen");
+    exchangeDescriptor.setNetwork(NetworkDescriptor.builder()
+        .addToHttpClients(HttpClientDescriptor.builder()
+            .name("httpDefault")
+            .httpRequestTimeout(15000L)
+            .httpVersion("HTTP_1_1")
+            .connectTimeout(2000L)
+            .warmUpUrl("https://foo.example.com/ping")
+            .build())
+        .addToHttpClients(HttpClientDescriptor.builder()
+            .name("httpOther")
+            .connectTimeout(3000L)
+            .build())
+        .build());
+    String generated = new ExchangeInterfaceImplementationGenerator(exchangeDescriptor).generate();
+    Assert.assertTrue(generated, generated.contains(
+        "    createHttpClient(\"httpDefault\",\n"
+      + "      null,\n"
+      + "      null,\n"
+      + "      null,\n"
+      + "      15000L,\n"
+      + "      \"HTTP_1_1\",\n"
+      + "      2000L,\n"
+      + "      \"https://foo.example.com/ping\");\n"));
+    Assert.assertTrue(generated, generated.contains(
+        "    createHttpClient(\"httpOther\",\n"
+      + "      null,\n"
+      + "      null,\n"
+      + "      null,\n"
+      + "      null,\n"
+      + "      null,\n"
+      + "      3000L,\n"
+      + "      null);\n"));
+  }
+  
   @Test
   public void testGenerateExchangeApiWithExchangeRateLimitsButApisHaveNoRestEndpoint() {
     ExchangeDescriptor exchangeDescriptor = new ExchangeDescriptor();
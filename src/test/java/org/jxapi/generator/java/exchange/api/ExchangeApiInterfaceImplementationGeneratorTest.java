@@ -701,6 +701,52 @@ public class ExchangeApiInterfaceImplementationGeneratorTest {
         apiInterfaceGenerator.generate());
   }
   
+  @Test
+  public void testGenerateExchangeApiWebsocketEndpointWithSubscriptionQueue() throws Exception {
+    ExchangeDescriptor exchangeDescriptor = ExchangeDescriptorParser.fromJson(Paths.get(".", "src", "test", "resources", "testExchangeDescriptorNoRestEndpoint.json"));
+    ExchangeApiDescriptor exchangeApiDescriptor = exchangeDescriptor.getApis().get(0);
+    exchangeApiDescriptor.getWebsocketEndpoints().get(0).setQueueCapacity(1024);
+    exchangeApiDescriptor.getWebsocketEndpoints().get(0).setOverflowPolicy("CONFLATE_LATEST_PER_KEY");
+    exchangeApiDescriptor.getWebsocketEndpoints().get(0).setConflationKey("symbol");
+    exchangeApiDescriptor.getWebsocketEndpoints().get(1).setQueueCapacity(16);
+    ExchangeApiInterfaceImplementationGenerator apiInterfaceGenerator = new ExchangeApiInterfaceImplementationGenerator(exchangeDescriptor, exchangeApiDescriptor, PlaceHolderResolver.NO_OP);
+    String generated = apiInterfaceGenerator.generate();
+    Assert.assertTrue(generated, generated.contains("import org.jxapi.netutils.websocket.WebsocketOverflowPolicy;\n"));
+    Assert.assertTrue(generated, generated.contains(
+        "    this.tickerStreamStringObjectTypeWsEndpoint = createWebsocketEndpoint(TICKER_STREAM_STRING_OBJECT_TYPE_WS_API, MyTestExchangeExchange.WS_DEFAULT_WEBSOCKET_CLIENT, TICKER_STREAM_STRING_OBJECT_TYPE_WS_API_MESSAGE_DESERIALIZER, 1024, WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY, \"symbol\");\n"));
+    Assert.assertTrue(generated, generated.contains(
+        "    this.tickerStreamStringRequestTypeWsEndpoint = createWebsocketEndpoint(TICKER_STREAM_STRING_REQUEST_TYPE_WS_API, MyTestExchangeExchange.WS_DEFAULT_WEBSOCKET_CLIENT, TICKER_STREAM_STRING_REQUEST_TYPE_WS_API_MESSAGE_DESERIALIZER, 16, null, null);\n"));
+  }
+  
+  @Test(expected = IllegalArgumentException.class)
+  public void testGenerateExchangeApiWebsocketEndpointWithInvalidOverflowPolicy() throws Exception {
+    ExchangeDescriptor exchangeDescriptor = ExchangeDescriptorParser.fromJson(Paths.get(".", "src", "test", "resources", "testExchangeDescriptorNoRestEndpoint.json"));
+    ExchangeApiDescriptor exchangeApiDescriptor = exchangeDescriptor.getApis().get(0);
+    exchangeApiDescriptor.getWebsocketEndpoints().get(0).setOverflowPolicy("DROP_SOMETHING");
+    new ExchangeApiInterfaceImplementationGenerator(exchangeDescriptor, exchangeApiDescriptor, PlaceHolderResolver.NO_OP).generate();
+  }
+  
+  @Test
+  public void testGenerateExchangeApiRestEndpointWithPriority() throws Exception {
+    ExchangeDescriptor exchangeDescriptor = ExchangeDescriptorParser.fromJson(Paths.get(".", "src", "test", "resources", "exchangeApiInterfaceImplementationGeneratorTestDescriptor.json"));
+    ExchangeApiDescriptor exchangeApiDescriptor = exchangeDescriptor.getApis().get(3);
+    exchangeApiDescriptor.getRestEndpoints().get(0).setPriority("HIGH");
+    ExchangeApiInterfaceImplementationGenerator apiInterfaceGenerator = new ExchangeApiInterfaceImplementationGenerator(exchangeDescriptor, exchangeApiDescriptor, PlaceHolderResolver.NO_OP);
+    String generated = apiInterfaceGenerator.generate();
+    Assert.assertTrue(generated, generated.contains("import org.jxapi.netutils.rest.RequestPriority;\n"));
+    Assert.assertTrue(generated, generated.contains(
+          "    this.exchangeInfoRestEndpoint.setWeight(60);\n"
+        + "    this.exchangeInfoRestEndpoint.setPriority(RequestPriority.HIGH);\n"));
+  }
+  
+  @Test(expected = IllegalArgumentException.class)
+  public void testGenerateExchangeApiRestEndpointWithInvalidPriority() throws Exception {
+    ExchangeDescriptor exchangeDescriptor = ExchangeDescriptorParser.fromJson(Paths.get(".", "src", "test", "resources", "exchangeApiInterfaceImplementationGeneratorTestDescriptor.json"));
+    ExchangeApiDescriptor exchangeApiDescriptor = exchangeDescriptor.getApis().get(3);
+    exchangeApiDescriptor.getRestEndpoints().get(0).setPriority("URGENT");
+    new ExchangeApiInterfaceImplementationGenerator(exchangeDescriptor, exchangeApiDescriptor, PlaceHolderResolver.NO_OP).generate();
+  }
+  
   @Test
   public void testGenerateExchangeApiSpecificResponseDataTypes() throws Exception {
     ExchangeDescriptor exchangeDescriptor = ExchangeDescriptorParser.fromJson(Paths.get(".", "src", "test", "resources", "testExchangeDescriptorWithAllRestResponseDataTypes.json"));
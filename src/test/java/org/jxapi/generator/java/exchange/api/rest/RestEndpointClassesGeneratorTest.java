@@ -71,6 +71,7 @@ public class RestEndpointClassesGeneratorTest {
         + "import org.jxapi.util.CompareUtil;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Request parameters for fetching exchange info. Author: {@link com.foo.bar.gen.MyTestExchangeConstants#AUTHOR_FULL_NAME}\n"
@@ -78,7 +79,7 @@ public class RestEndpointClassesGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyTestExchangeMarketDataExchangeInfoRequestSerializer.class)\n"
         + "@JsonDeserialize(using = MyTestExchangeMarketDataExchangeInfoRequestDeserializer.class)\n"
-        + "public class MyTestExchangeMarketDataExchangeInfoRequest implements Pojo<MyTestExchangeMarketDataExchangeInfoRequest>, MyTestExchangePaginatedRequest {\n"
+        + "public class MyTestExchangeMarketDataExchangeInfoRequest implements Pojo<MyTestExchangeMarketDataExchangeInfoRequest>, Resettable, MyTestExchangePaginatedRequest {\n"
         + "  \n"
         + "  private static final long serialVersionUID = -4193695595206420816L;\n"
         + "  \n"
@@ -208,6 +209,14 @@ public class RestEndpointClassesGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.symbols = null;\n"
+        + "    this.apiKey = null;\n"
+        + "    this.author = null;\n"
+        + "    this.page = null;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -314,6 +323,7 @@ public class RestEndpointClassesGeneratorTest {
         + "import org.jxapi.util.DeepCloneable;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Response object for MyTestExchange MarketData API exchangeInfo REST endpoint<br>\n"
@@ -322,7 +332,7 @@ public class RestEndpointClassesGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyTestExchangeMarketDataExchangeInfoResponseSerializer.class)\n"
         + "@JsonDeserialize(using = MyTestExchangeMarketDataExchangeInfoResponseDeserializer.class)\n"
-        + "public class MyTestExchangeMarketDataExchangeInfoResponse implements Pojo<MyTestExchangeMarketDataExchangeInfoResponse>, MyTestExchangePaginatedResponse {\n"
+        + "public class MyTestExchangeMarketDataExchangeInfoResponse implements Pojo<MyTestExchangeMarketDataExchangeInfoResponse>, Resettable, MyTestExchangePaginatedResponse {\n"
         + "  \n"
         + "  private static final long serialVersionUID = 7439089996962557233L;\n"
         + "  \n"
@@ -452,6 +462,14 @@ public class RestEndpointClassesGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.responseCode = null;\n"
+        + "    this.currentPage = null;\n"
+        + "    this.totalPages = null;\n"
+        + "    this.payload = null;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -582,6 +600,7 @@ public class RestEndpointClassesGeneratorTest {
         + "import org.jxapi.util.CompareUtil;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Exchange info request\n"
@@ -589,7 +608,7 @@ public class RestEndpointClassesGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyTestExchangeMarketDataExchangeInfoRequestSerializer.class)\n"
         + "@JsonDeserialize(using = MyTestExchangeMarketDataExchangeInfoRequestDeserializer.class)\n"
-        + "public class MyTestExchangeMarketDataExchangeInfoRequest implements Pojo<MyTestExchangeMarketDataExchangeInfoRequest>, ExchangeInfoRequestInterface1, ExchangeInfoRequestInterface2 {\n"
+        + "public class MyTestExchangeMarketDataExchangeInfoRequest implements Pojo<MyTestExchangeMarketDataExchangeInfoRequest>, Resettable, ExchangeInfoRequestInterface1, ExchangeInfoRequestInterface2 {\n"
         + "  \n"
         + "  private static final long serialVersionUID = 9027087182370646227L;\n"
         + "  \n"
@@ -656,6 +675,11 @@ public class RestEndpointClassesGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.symbols = null;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -724,6 +748,7 @@ public class RestEndpointClassesGeneratorTest {
         + "import org.jxapi.util.DeepCloneable;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Exchange info response\n"
@@ -731,7 +756,7 @@ public class RestEndpointClassesGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyTestExchangeMarketDataExchangeInfoResponseSerializer.class)\n"
         + "@JsonDeserialize(using = MyTestExchangeMarketDataExchangeInfoResponseDeserializer.class)\n"
-        + "public class MyTestExchangeMarketDataExchangeInfoResponse implements Pojo<MyTestExchangeMarketDataExchangeInfoResponse>, ExchangeInfoResponseInterface1, ExchangeInfoResponseInterface2 {\n"
+        + "public class MyTestExchangeMarketDataExchangeInfoResponse implements Pojo<MyTestExchangeMarketDataExchangeInfoResponse>, Resettable, ExchangeInfoResponseInterface1, ExchangeInfoResponseInterface2 {\n"
         + "  \n"
         + "  private static final long serialVersionUID = -7476378049371763608L;\n"
         + "  \n"
@@ -819,6 +844,12 @@ public class RestEndpointClassesGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.responseCode = null;\n"
+        + "    this.payload = null;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
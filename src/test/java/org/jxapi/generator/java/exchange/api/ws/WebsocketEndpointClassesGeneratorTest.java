@@ -72,6 +72,7 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "import org.jxapi.util.CompareUtil;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Request parameters for subscribing to ticker stream. Use {@link com.foo.bar.gen.MyTestExchangeConstants#ALL_TICKERS} to subscribe to every ticker. Author: {@link com.foo.bar.gen.MyTestExchangeConstants#AUTHOR_FULL_NAME}\n"
@@ -79,7 +80,7 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyTestExchangeMarketDataTickerStreamRequestSerializer.class)\n"
         + "@JsonDeserialize(using = MyTestExchangeMarketDataTickerStreamRequestDeserializer.class)\n"
-        + "public class MyTestExchangeMarketDataTickerStreamRequest implements Pojo<MyTestExchangeMarketDataTickerStreamRequest> {\n"
+        + "public class MyTestExchangeMarketDataTickerStreamRequest implements Pojo<MyTestExchangeMarketDataTickerStreamRequest>, Resettable {\n"
         + "  \n"
         + "  private static final long serialVersionUID = -1518904708630110389L;\n"
         + "  \n"
@@ -167,6 +168,12 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.symbol = null;\n"
+        + "    this.apiKey = null;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -229,6 +236,7 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "import org.jxapi.util.CompareUtil;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Ticker message. Author: {@link com.foo.bar.gen.MyTestExchangeConstants#AUTHOR_FULL_NAME}\n"
@@ -236,7 +244,7 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyTestExchangeMarketDataTickerStreamMessageSerializer.class)\n"
         + "@JsonDeserialize(using = MyTestExchangeMarketDataTickerStreamMessageDeserializer.class)\n"
-        + "public class MyTestExchangeMarketDataTickerStreamMessage implements Pojo<MyTestExchangeMarketDataTickerStreamMessage> {\n"
+        + "public class MyTestExchangeMarketDataTickerStreamMessage implements Pojo<MyTestExchangeMarketDataTickerStreamMessage>, Resettable {\n"
         + "  \n"
         + "  private static final long serialVersionUID = -5198810711898892549L;\n"
         + "  \n"
@@ -408,6 +416,16 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.topic = null;\n"
+        + "    this.symbol = null;\n"
+        + "    this.timestamp = null;\n"
+        + "    this.priceChange = null;\n"
+        + "    this.priceChangePercent = null;\n"
+        + "    this.last = null;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -542,6 +560,7 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "import org.jxapi.util.CompareUtil;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Ticker stream subscription request\n"
@@ -549,7 +568,7 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyTestExchangeMarketDataTickerStreamRequestSerializer.class)\n"
         + "@JsonDeserialize(using = MyTestExchangeMarketDataTickerStreamRequestDeserializer.class)\n"
-        + "public class MyTestExchangeMarketDataTickerStreamRequest implements Pojo<MyTestExchangeMarketDataTickerStreamRequest>, TickerStreamRequestInterface1, TickerStreamRequestInterface2 {\n"
+        + "public class MyTestExchangeMarketDataTickerStreamRequest implements Pojo<MyTestExchangeMarketDataTickerStreamRequest>, Resettable, TickerStreamRequestInterface1, TickerStreamRequestInterface2 {\n"
         + "  \n"
         + "  private static final long serialVersionUID = 8012256550868394115L;\n"
         + "  \n"
@@ -616,6 +635,11 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.symbol = null;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -667,6 +691,7 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "import org.jxapi.util.CompareUtil;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Ticker stream message\n"
@@ -674,7 +699,7 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyTestExchangeMarketDataTickerStreamMessageSerializer.class)\n"
         + "@JsonDeserialize(using = MyTestExchangeMarketDataTickerStreamMessageDeserializer.class)\n"
-        + "public class MyTestExchangeMarketDataTickerStreamMessage implements Pojo<MyTestExchangeMarketDataTickerStreamMessage>, TickerStreamResponseInterface1, TickerStreamResponseInterface2 {\n"
+        + "public class MyTestExchangeMarketDataTickerStreamMessage implements Pojo<MyTestExchangeMarketDataTickerStreamMessage>, Resettable, TickerStreamResponseInterface1, TickerStreamResponseInterface2 {\n"
         + "  \n"
         + "  private static final long serialVersionUID = 1671784664167570937L;\n"
         + "  \n"
@@ -783,6 +808,13 @@ public class WebsocketEndpointClassesGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.topic = null;\n"
+        + "    this.symbol = null;\n"
+        + "    this.last = null;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -50,6 +50,7 @@ public class JsonPojoDeserializerGeneratorTest {
         + "\n"
         + "import com.fasterxml.jackson.core.JsonParser;\n"
         + "import com.fasterxml.jackson.core.JsonToken;\n"
+        + "import com.fasterxml.jackson.core.io.SerializedString;\n"
         + "import com.x.MyPojo;\n"
         + "import com.x.MyPojoFoo;\n"
         + "import com.x.MyPojoToto;\n"
@@ -71,14 +72,86 @@ public class JsonPojoDeserializerGeneratorTest {
         + " */\n"
         + "@Generated(\"org.jxapi.generator.java.pojo.JsonPojoDeserializerGenerator\")\n"
         + "public class MyPojoDeserializer extends AbstractJsonMessageDeserializer<MyPojo> {\n"
+        + "  private static final SerializedString ID_FIELD_NAME = new SerializedString(\"id\");\n"
+        + "  private static final SerializedString NAME_FIELD_NAME = new SerializedString(\"name\");\n"
+        + "  private static final SerializedString LEVEL_FIELD_NAME = new SerializedString(\"level\");\n"
+        + "  private static final SerializedString SCORE_FIELD_NAME = new SerializedString(\"score\");\n"
+        + "  private static final SerializedString OVER_FIELD_NAME = new SerializedString(\"over\");\n"
+        + "  private static final SerializedString FOO_FIELD_NAME = new SerializedString(\"f\");\n"
+        + "  private static final SerializedString TOTO_FIELD_NAME = new SerializedString(\"toto\");\n"
+        + "  private static final SerializedString TITI_FIELD_NAME = new SerializedString(\"ti\");\n"
+        + "  private static final SerializedString MY_RAW_OBJECT_FIELD_NAME = new SerializedString(\"raw\");\n"
+        + "  private static final SerializedString MY_EXTERNAL_CLASS_OBJECT_FIELD_NAME = new SerializedString(\"ext\");\n"
+        + "  \n"
         + "  private ListJsonFieldDeserializer<MyPojoFoo> fooDeserializer;\n"
         + "  private MapJsonFieldDeserializer<List<MyPojoToto>> totoDeserializer;\n"
         + "  private MyPojoTitiDeserializer titiDeserializer;\n"
         + "  \n"
         + "  @Override\n"
         + "  public MyPojo deserialize(JsonParser parser) throws IOException {\n"
-        + "    MyPojo msg = new MyPojo();\n"
-        + "    while(parser.nextToken() != JsonToken.END_OBJECT) {\n"
+        + "    return deserializeInto(parser, new MyPojo());\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
+        + "  public MyPojo deserializeInto(JsonParser parser, MyPojo msg) throws IOException {\n"
+        + "    if (!parser.nextFieldName(ID_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    msg.setId(readNextLong(parser));\n"
+        + "    if (!parser.nextFieldName(NAME_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    msg.setName(readNextString(parser));\n"
+        + "    if (!parser.nextFieldName(LEVEL_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    msg.setLevel(readNextInteger(parser));\n"
+        + "    if (!parser.nextFieldName(SCORE_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    msg.setScore(readNextBigDecimal(parser));\n"
+        + "    if (!parser.nextFieldName(OVER_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    msg.setOver(readNextBoolean(parser));\n"
+        + "    if (!parser.nextFieldName(FOO_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    parser.nextToken();\n"
+        + "    if(fooDeserializer == null) {\n"
+        + "      fooDeserializer = new ListJsonFieldDeserializer<>(new MyPojoFooDeserializer());\n"
+        + "    }\n"
+        + "    msg.setFoo(fooDeserializer.deserialize(parser));\n"
+        + "    if (!parser.nextFieldName(TOTO_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    parser.nextToken();\n"
+        + "    if(totoDeserializer == null) {\n"
+        + "      totoDeserializer = new MapJsonFieldDeserializer<>(new ListJsonFieldDeserializer<>(new MyPojoTotoDeserializer()));\n"
+        + "    }\n"
+        + "    msg.setToto(totoDeserializer.deserialize(parser));\n"
+        + "    if (!parser.nextFieldName(TITI_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    parser.nextToken();\n"
+        + "    if(titiDeserializer == null) {\n"
+        + "      titiDeserializer = new MyPojoTitiDeserializer();\n"
+        + "    }\n"
+        + "    msg.setTiti(titiDeserializer.deserialize(parser));\n"
+        + "    if (!parser.nextFieldName(MY_RAW_OBJECT_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    msg.setMyRawObject(readNextObject(parser));\n"
+        + "    if (!parser.nextFieldName(MY_EXTERNAL_CLASS_OBJECT_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    msg.setMyExternalClassObject(readNextObject(parser, com.x.y.z.ExternalClass.class));\n"
+        + "    parser.nextToken();\n"
+        + "    return deserializeFields(parser, msg);\n"
+        + "  }\n"
+        + "  \n"
+        + "  private MyPojo deserializeFields(JsonParser parser, MyPojo msg) throws IOException {\n"
+        + "    for (JsonToken token = parser.currentToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {\n"
         + "      switch(parser.currentName()) {\n"
         + "      case \"id\":\n"
         + "        msg.setId(readNextLong(parser));\n"
@@ -126,11 +199,62 @@ public class JsonPojoDeserializerGeneratorTest {
         + "        skipNextValue(parser);\n"
         + "      }\n"
         + "    }\n"
-        + "    \n"
-        + "     return msg;\n"
+        + "    return msg;\n"
         + "  }\n"
         + "}\n"
         + "", 
         generator.generate());
   }
+  
+  @Test
+  public void testGenerateDeserializerWithUnboxedFields() {
+    List<Field> fields = List.of(
+        Field.builder().type(Type.LONG).name("time").msgField("t").unboxed(true).build(),
+        Field.builder().type(Type.BIGDECIMAL).name("price").unboxed(true).build(),
+        Field.builder().type(Type.INT).name("count").unboxed(true).build(),
+        Field.builder().type(Type.BOOLEAN).name("active").unboxed(true).build());
+    String generated = new JsonPojoDeserializerGenerator("com.x.MyPojo", fields).generate();
+    Assert.assertTrue(generated, generated.contains("import static org.jxapi.util.JsonUtil.nextValueIsPresent;\n"));
+    Assert.assertTrue(generated, generated.contains("      case \"t\":\n"
+        + "        if (nextValueIsPresent(parser)) {\n"
+        + "          msg.setTime(readCurrentLongValue(parser));\n"
+        + "        }\n"
+        + "      break;\n"
+        + "      case \"price\":\n"
+        + "        if (nextValueIsPresent(parser)) {\n"
+        + "          msg.setPrice(readCurrentDoubleValue(parser));\n"
+        + "        }\n"
+        + "      break;\n"
+        + "      case \"count\":\n"
+        + "        if (nextValueIsPresent(parser)) {\n"
+        + "          msg.setCount(readCurrentIntValue(parser));\n"
+        + "        }\n"
+        + "      break;\n"
+        + "      case \"active\":\n"
+        + "        if (nextValueIsPresent(parser)) {\n"
+        + "          msg.setActive(readCurrentBooleanValue(parser));\n"
+        + "        }\n"
+        + "      break;\n"));
+  }
+  
+  @Test
+  public void testGenerateDeserializerWithLazyFields() {
+    List<Field> fields = List.of(
+        Field.builder().type("OBJECT_LIST").name("items").msgField("i").lazy(true)
+          .property(Field.builder().type(Type.STRING).name("name").build())
+          .build(),
+        Field.builder().type("STRING_MAP").name("tags").lazy(true).build());
+    String generated = new JsonPojoDeserializerGenerator("com.x.MyPojo", fields).generate();
+    Assert.assertTrue(generated, generated.contains("import org.jxapi.netutils.deserialization.json.LazyJsonValue;\n"));
+    Assert.assertTrue(generated, generated.contains("    if (!parser.nextFieldName(ITEMS_FIELD_NAME)) {\n"
+        + "      return deserializeFields(parser, msg);\n"
+        + "    }\n"
+        + "    if(itemsDeserializer == null) {\n"
+        + "      itemsDeserializer = new ListJsonFieldDeserializer<>(new MyPojoItemsDeserializer());\n"
+        + "    }\n"
+        + "    msg.setItemsLazyValue(LazyJsonValue.readNext(parser, itemsDeserializer));\n"));
+    Assert.assertTrue(generated, generated.contains("      case \"tags\":\n"
+        + "        msg.setTagsLazyValue(LazyJsonValue.readNext(parser, tagsDeserializer));\n"
+        + "      break;\n"));
+  }
 }
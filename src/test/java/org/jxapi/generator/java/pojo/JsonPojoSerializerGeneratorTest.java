@@ -114,5 +114,25 @@ public class JsonPojoSerializerGeneratorTest {
     		+ "", 
         generator.generate());
   }
+  
+  @Test
+  public void testGenerateSerializerWithUnboxedFields() {
+    List<Field> fields = List.of(
+        Field.builder().type(Type.LONG).name("time").msgField("t").unboxed(true).build(),
+        Field.builder().type(Type.BIGDECIMAL).name("price").unboxed(true).build(),
+        Field.builder().type(Type.BOOLEAN).name("active").unboxed(true).build());
+    String generated = new JsonPojoSerializerGenerator("com.x.MyPojo", fields).generate();
+    Assert.assertTrue(generated, generated.contains("    gen.writeStartObject();\n"
+        + "    if (value.hasTime()) {\n"
+        + "      gen.writeNumberField(\"t\", value.getTime());\n"
+        + "    }\n"
+        + "    if (value.hasPrice()) {\n"
+        + "      gen.writeNumberField(\"price\", value.getPrice());\n"
+        + "    }\n"
+        + "    if (value.hasActive()) {\n"
+        + "      gen.writeBooleanField(\"active\", value.isActive());\n"
+        + "    }\n"
+        + "    gen.writeEndObject();\n"));
+  }
 
 }
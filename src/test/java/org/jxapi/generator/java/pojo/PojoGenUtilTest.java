@@ -19,6 +19,7 @@ import org.jxapi.netutils.deserialization.json.field.MapJsonFieldDeserializer;
 import org.jxapi.netutils.deserialization.json.field.RawObjectJsonFieldDeserializer;
 import org.jxapi.netutils.deserialization.json.field.StringJsonFieldDeserializer;
 import org.jxapi.netutils.serialization.MessageSerializer;
+import org.jxapi.pojo.descriptor.CanonicalType;
 import org.jxapi.pojo.descriptor.Field;
 import org.jxapi.pojo.descriptor.FieldBuilder;
 import org.jxapi.pojo.descriptor.Type;
@@ -114,6 +115,57 @@ public class PojoGenUtilTest {
     Assert.assertEquals("CompareUtil.compareObjects(this.myField, other.myField)", PojoGenUtil.generateCompareFieldsInstruction(f));
   }
   
+  @Test
+  public void testGenerateCompareFieldsInstructionUnboxed() {
+    Assert.assertEquals("Long.compare(this.myField, other.myField)", 
+        PojoGenUtil.generateCompareFieldsInstruction(
+            Field.builder().name("myField").type(Type.LONG).unboxed(true).build()));
+    Assert.assertEquals("Integer.compare(this.myField, other.myField)", 
+        PojoGenUtil.generateCompareFieldsInstruction(
+            Field.builder().name("myField").type(Type.INT).unboxed(true).build()));
+    Assert.assertEquals("Boolean.compare(this.myField, other.myField)", 
+        PojoGenUtil.generateCompareFieldsInstruction(
+            Field.builder().name("myField").type(Type.BOOLEAN).unboxed(true).build()));
+    Assert.assertEquals("Double.compare(this.myField, other.myField)", 
+        PojoGenUtil.generateCompareFieldsInstruction(
+            Field.builder().name("myField").type(Type.BIGDECIMAL).unboxed(true).build()));
+  }
+  
+  @Test
+  public void testIsUnboxedField() {
+    Assert.assertFalse(PojoGenUtil.isUnboxedField(null));
+    Assert.assertFalse(PojoGenUtil.isUnboxedField(Field.builder().name("f").type(Type.LONG).build()));
+    Assert.assertFalse(PojoGenUtil.isUnboxedField(Field.builder().name("f").type(Type.LONG).unboxed(false).build()));
+    Assert.assertTrue(PojoGenUtil.isUnboxedField(Field.builder().name("f").type(Type.LONG).unboxed(true).build()));
+    Assert.assertFalse(PojoGenUtil.isUnboxedField(Field.builder().name("f").type(Type.STRING).unboxed(true).build()));
+    Assert.assertFalse(PojoGenUtil.isUnboxedField(Field.builder().name("f").type("LONG_LIST").unboxed(true).build()));
+  }
+  
+  @Test
+  public void testIsLazyField() {
+    Assert.assertFalse(PojoGenUtil.isLazyField(null));
+    Assert.assertFalse(PojoGenUtil.isLazyField(Field.builder().name("f").type("STRING_LIST").build()));
+    Assert.assertTrue(PojoGenUtil.isLazyField(Field.builder().name("f").type("STRING_LIST").lazy(true).build()));
+    Assert.assertTrue(PojoGenUtil.isLazyField(Field.builder().name("f").type("INT_MAP").lazy(true).build()));
+    Assert.assertTrue(PojoGenUtil.isLazyField(Field.builder().name("f").type(Type.OBJECT).objectName("Foo").lazy(true).build()));
+    Assert.assertFalse(PojoGenUtil.isLazyField(Field.builder().name("f").type(Type.OBJECT).objectName("com.x.Foo").lazy(true).build()));
+    Assert.assertFalse(PojoGenUtil.isLazyField(Field.builder().name("f").type(Type.STRING).lazy(true).build()));
+  }
+  
+  @Test
+  public void testGetLazyValueFieldName() {
+    Assert.assertEquals("fooLazyValue", PojoGenUtil.getLazyValueFieldName(Field.builder().name("foo").build()));
+  }
+  
+  @Test
+  public void testGetUnboxedTypeName() {
+    Assert.assertEquals("int", PojoGenUtil.getUnboxedTypeName(CanonicalType.INT));
+    Assert.assertEquals("long", PojoGenUtil.getUnboxedTypeName(CanonicalType.LONG));
+    Assert.assertEquals("boolean", PojoGenUtil.getUnboxedTypeName(CanonicalType.BOOLEAN));
+    Assert.assertEquals("double", PojoGenUtil.getUnboxedTypeName(CanonicalType.BIGDECIMAL));
+    Assert.assertNull(PojoGenUtil.getUnboxedTypeName(CanonicalType.STRING));
+  }
+  
   private void doTestGenerateCompareFieldsInstruction(Type type, String expectedInstruction) {
     Field f = Field.builder().name("myField").type(type).build();
     Assert.assertEquals(expectedInstruction, PojoGenUtil.generateCompareFieldsInstruction(f));
@@ -2,6 +2,7 @@ package org.jxapi.generator.java.pojo;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -66,6 +67,7 @@ public class PojoGeneratorTest {
         + "import org.jxapi.util.DeepCloneable;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Used in PojoGeneratorTest\n"
@@ -73,7 +75,7 @@ public class PojoGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyPojoSerializer.class)\n"
         + "@JsonDeserialize(using = MyPojoDeserializer.class)\n"
-        + "public class MyPojo implements Pojo<MyPojo>, MyInterface {\n"
+        + "public class MyPojo implements Pojo<MyPojo>, Resettable, MyInterface {\n"
         + "  \n"
         + "  private static final long serialVersionUID = -7067947056594815436L;\n"
         + "  \n"
@@ -223,6 +225,15 @@ public class PojoGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.id = null;\n"
+        + "    this.score = null;\n"
+        + "    this.profiles = PROFILES_DEFAULT_VALUE;\n"
+        + "    this.foo = null;\n"
+        + "    this.toto = null;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -382,6 +393,7 @@ public class PojoGeneratorTest {
         + "import org.jxapi.util.CompareUtil;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Used in PojoGeneratorTest\n"
@@ -389,7 +401,7 @@ public class PojoGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyPojoWithNullAdditionnalBodySerializer.class)\n"
         + "@JsonDeserialize(using = MyPojoWithNullAdditionnalBodyDeserializer.class)\n"
-        + "public class MyPojoWithNullAdditionnalBody implements Pojo<MyPojoWithNullAdditionnalBody> {\n"
+        + "public class MyPojoWithNullAdditionnalBody implements Pojo<MyPojoWithNullAdditionnalBody>, Resettable {\n"
         + "  \n"
         + "  private static final long serialVersionUID = -8553450902608483823L;\n"
         + "  \n"
@@ -456,6 +468,11 @@ public class PojoGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.myObj = null;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -508,6 +525,7 @@ public class PojoGeneratorTest {
         + "import javax.annotation.processing.Generated;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Used in PojoGeneratorTest\n"
@@ -515,7 +533,7 @@ public class PojoGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyPojoWithNullPropertiesSerializer.class)\n"
         + "@JsonDeserialize(using = MyPojoWithNullPropertiesDeserializer.class)\n"
-        + "public class MyPojoWithNullProperties implements Pojo<MyPojoWithNullProperties> {\n"
+        + "public class MyPojoWithNullProperties implements Pojo<MyPojoWithNullProperties>, Resettable {\n"
         + "  \n"
         + "  private static final long serialVersionUID = 739302860581584369L;\n"
         + "  \n"
@@ -563,6 +581,11 @@ public class PojoGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    \n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -606,6 +629,7 @@ public class PojoGeneratorTest {
         + "import org.jxapi.util.CompareUtil;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "import x.y.z.pojo.deserializers.FooDeserializer;\n"
         + "import x.y.z.pojo.serializers.FooSerializer;\n"
         + "\n"
@@ -613,7 +637,7 @@ public class PojoGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = FooSerializer.class)\n"
         + "@JsonDeserialize(using = FooDeserializer.class)\n"
-        + "public class Foo implements Pojo<Foo> {\n"
+        + "public class Foo implements Pojo<Foo>, Resettable {\n"
         + "  \n"
         + "  private static final long serialVersionUID = -9000906500822625072L;\n"
         + "  \n"
@@ -753,6 +777,14 @@ public class PojoGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    this.name = null;\n"
+        + "    this.bar = null;\n"
+        + "    this.a = A_DEFAULT_VALUE;\n"
+        + "    this.A = A_DEFAULT_VALUE_;\n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -852,6 +884,7 @@ public class PojoGeneratorTest {
         + "import javax.annotation.processing.Generated;\n"
         + "import org.jxapi.util.EncodingUtil;\n"
         + "import org.jxapi.util.Pojo;\n"
+        + "import org.jxapi.util.Resettable;\n"
         + "\n"
         + "/**\n"
         + " * Used in PojoGeneratorTest\n"
@@ -859,7 +892,7 @@ public class PojoGeneratorTest {
         + "@Generated(\"org.jxapi.generator.java.pojo.PojoGenerator\")\n"
         + "@JsonSerialize(using = MyPojoSerializer.class)\n"
         + "@JsonDeserialize(using = MyPojoDeserializer.class)\n"
-        + "public class MyPojo implements Pojo<MyPojo>, MyInterface {\n"
+        + "public class MyPojo implements Pojo<MyPojo>, Resettable, MyInterface {\n"
         + "  \n"
         + "  private static final long serialVersionUID = 4951740427938809377L;\n"
         + "  \n"
@@ -907,6 +940,11 @@ public class PojoGeneratorTest {
         + "  }\n"
         + "  \n"
         + "  @Override\n"
+        + "  public void reset() {\n"
+        + "    \n"
+        + "  }\n"
+        + "  \n"
+        + "  @Override\n"
         + "  public String toString() {\n"
         + "    return EncodingUtil.pojoToString(this);\n"
         + "  }\n"
@@ -930,5 +968,128 @@ public class PojoGeneratorTest {
         + "", 
         generator.generate());
   }
+  
+  @Test
+  public void testGenerateWithUnboxedFields() {
+    List<Field> properties = List.of(
+      Field.builder().type(Type.STRING).name("symbol").build(),
+      Field.builder().type(Type.LONG).name("time").unboxed(true).build(),
+      Field.builder().type(Type.BIGDECIMAL).name("price").unboxed(true).build(),
+      Field.builder().type(Type.INT).name("count").unboxed(true).defaultValue(3).build(),
+      Field.builder().type(Type.BOOLEAN).name("active").unboxed(true).build());
+    String generated = new PojoGenerator("com.x.MyPojo", "Test", properties, null, null, null).generate();
+    
+    Assert.assertTrue(generated, generated.contains("  private String symbol;\n"
+        + "  private long time;\n"
+        + "  private double price;\n"
+        + "  private int count = COUNT_DEFAULT_VALUE.intValue();\n"
+        + "  private boolean active;\n"
+        + "  private long presenceMask = 0x4L;\n"));
+    Assert.assertTrue(generated, generated.contains("  public long getTime() {\n"
+        + "    return time;\n"
+        + "  }\n"
+        + "  \n"
+        + "  /**\n"
+        + "   * @return <code>true</code> if <code>time</code> value is set\n"
+        + "   */\n"
+        + "  public boolean hasTime() {\n"
+        + "    return (presenceMask & 0x1L) != 0L;\n"
+        + "  }\n"
+        + "  \n"
+        + "  /**\n"
+        + "   * Unsets <code>time</code> value\n"
+        + "   */\n"
+        + "  public void clearTime() {\n"
+        + "    this.time = 0L;\n"
+        + "    this.presenceMask &= ~0x1L;\n"
+        + "  }\n"
+        + "  \n"
+        + "  public void setTime(long time) {\n"
+        + "    this.time = time;\n"
+        + "    this.presenceMask |= 0x1L;\n"
+        + "  }\n"));
+    Assert.assertTrue(generated, generated.contains("  public void clearPrice() {\n"
+        + "    this.price = 0.0;\n"
+        + "    this.presenceMask &= ~0x2L;\n"
+        + "  }\n"));
+    Assert.assertTrue(generated, generated.contains("  public boolean isActive() {\n"));
+    Assert.assertTrue(generated, generated.contains("  public boolean hasActive() {\n"
+        + "    return (presenceMask & 0x8L) != 0L;\n"));
+    Assert.assertTrue(generated, generated.contains("    return Objects.equals(this.symbol, o.symbol)\n"
+        + "        && this.time == o.time\n"
+        + "        && Double.compare(this.price, o.price) == 0\n"
+        + "        && this.count == o.count\n"
+        + "        && this.active == o.active\n"
+        + "        && this.presenceMask == o.presenceMask;\n"));
+    Assert.assertTrue(generated, generated.contains("    res = Long.compare(this.presenceMask, other.presenceMask);\n"
+        + "    return res;\n"));
+    Assert.assertTrue(generated, generated.contains("    return Objects.hash(symbol, time, price, count, active, presenceMask);\n"));
+    Assert.assertTrue(generated, generated.contains("    clone.presenceMask = this.presenceMask;\n"
+        + "    return clone;\n"));
+    Assert.assertTrue(generated, generated.contains("    public Builder time(long time)  {\n"
+        + "      this.time = time;\n"
+        + "      this.presenceMask |= 0x1L;\n"
+        + "      return this;\n"
+        + "    }\n"));
+    Assert.assertTrue(generated, generated.contains("      res.presenceMask = this.presenceMask;\n"
+        + "      return res;\n"));
+  }
+  
+  @Test(expected = IllegalArgumentException.class)
+  public void testGenerateTooManyUnboxedFields() {
+    List<Field> properties = IntStream.range(0, Long.SIZE + 1)
+        .mapToObj(i -> Field.builder().type(Type.LONG).name("f" + i).unboxed(true).build())
+        .toList();
+    new PojoGenerator("com.x.MyPojo", "Test", properties, null, null, null).generate();
+  }
+  
+  @Test
+  public void testGenerateWithLazyFields() {
+    List<Field> properties = List.of(
+      Field.builder().type(Type.STRING).name("symbol").build(),
+      Field.builder().type("STRING_LIST").name("tags").lazy(true).build(),
+      Field.builder().type(Type.OBJECT).name("info").objectName("Info").lazy(true)
+        .property(Field.builder().type(Type.STRING).name("name").build())
+        .build());
+    String generated = new PojoGenerator("com.x.MyPojo", "Test", properties, null, null, null).generate();
+    
+    Assert.assertTrue(generated, generated.contains("import org.jxapi.netutils.deserialization.json.LazyJsonValue;\n"));
+    Assert.assertTrue(generated, generated.contains("  private String symbol;\n"
+        + "  private List<String> tags;\n"
+        + "  private Info info;\n"
+        + "  private transient LazyJsonValue<List<String>> tagsLazyValue;\n"
+        + "  private transient LazyJsonValue<Info> infoLazyValue;\n"));
+    Assert.assertTrue(generated, generated.contains("  public List<String> getTags() {\n"
+        + "    return tagsLazyValue != null ? tagsLazyValue.get() : tags;\n"
+        + "  }\n"));
+    Assert.assertTrue(generated, generated.contains("  public void setTags(List<String> tags) {\n"
+        + "    this.tags = tags;\n"
+        + "    this.tagsLazyValue = null;\n"
+        + "  }\n"));
+    Assert.assertTrue(generated, generated.contains("  public void setTagsLazyValue(LazyJsonValue<List<String>> tagsLazyValue) {\n"
+        + "    this.tags = null;\n"
+        + "    this.tagsLazyValue = tagsLazyValue;\n"
+        + "  }\n"));
+    Assert.assertTrue(generated, generated.contains("    return Objects.equals(this.symbol, o.symbol)\n"
+        + "        && Objects.equals(this.getTags(), o.getTags())\n"
+        + "        && Objects.equals(this.getInfo(), o.getInfo());\n"));
+    Assert.assertTrue(generated, generated.contains("    res = CompareUtil.compareLists(this.getTags(), other.getTags(), CompareUtil::compare);\n"));
+    Assert.assertTrue(generated, generated.contains("    res = CompareUtil.compare(this.getInfo(), other.getInfo());\n"));
+    Assert.assertTrue(generated, generated.contains("    return Objects.hash(symbol, getTags(), getInfo());\n"));
+    Assert.assertTrue(generated, generated.contains("    clone.tags = CollectionUtil.cloneList(this.getTags());\n"
+        + "    clone.info = this.getInfo() != null ? this.getInfo().deepClone() : null;\n"));
+    Assert.assertTrue(generated, generated.contains("  private Object writeReplace() {\n"
+        + "    return deepClone();\n"
+        + "  }\n"));
+    Assert.assertTrue(generated, generated.contains("    this.tags = null;\n"
+        + "    this.info = null;\n"
+        + "    this.tagsLazyValue = null;\n"
+        + "    this.infoLazyValue = null;\n"));
+    // Builder has no lazy value
+    Assert.assertTrue(generated, generated.contains("    private String symbol;\n"
+        + "    private List<String> tags;\n"
+        + "    private Info info;\n"
+        + "    \n"));
+  }
 
 }
@@ -76,12 +76,72 @@ public class ExchangeDemoPropertiesTemplateGeneratorTest {
           + "# The request timeout for calls to REST endpoints of every API. A negative value means no timeout (discouraged)\n"
           + "# jxapi.httpRequestTimeout=\n"
           + "\n"
+          + "# Enables streaming of successful HTTP response bodies: they are deserialized while received, without being buffered nor retained in response.\n"
+          + "# jxapi.httpStreamingResponseBody=false\n"
+          + "\n"
+          + "# Preferred HTTP protocol version of REST calls: HTTP_2 (falls back to HTTP/1.1 if not supported by server) or HTTP_1_1. Default is version set in HTTP client descriptor, or HTTP_2\n"
+          + "# jxapi.httpVersion=\n"
+          + "\n"
+          + "# The timeout in milliseconds for establishing HTTP connections of REST calls. Default is timeout set in HTTP client descriptor, if any\n"
+          + "# jxapi.httpConnectTimeout=\n"
+          + "\n"
+          + "# Enables connection warm-up of HTTP clients when exchange is initialized, so that first REST call does not pay for connection handshake.\n"
+          + "# jxapi.httpWarmUp=false\n"
+          + "\n"
           + "# Sets the HTTP request throttling policy in case a rate limit rule is breached, for every exposed ExchangeApi, see enum org.jxapi.netutils.rest.ratelimits.RequestThrottlingMode\n"
           + "# jxapi.requestThrottlingMode=\n"
           + "\n"
           + "# Set the max HTTP request throttle delay for rate limit rule enforcement, for every exposed ExchangeApi.\n"
           + "# jxapi.maxRequestThrottleDelay=\n"
           + "\n"
+          + "# Enables correction of rate limits state with usage headers of HTTP responses, and pause of rate limits until Retry-After delay upon HTTP 429 or 418 responses.\n"
+          + "# jxapi.rateLimitFeedback=true\n"
+          + "\n"
+          + "# Sets the storage of rate limits state, see enum org.jxapi.netutils.rest.ratelimits.RateLimitStorageMode. MAPPED_FILE lets processes of same host using same key share rate limits budget.\n"
+          + "# jxapi.rateLimitStorage=MEMORY\n"
+          + "\n"
+          + "# The directory of rate limits state files for MAPPED_FILE rate limit storage. Defaults to 'jxapi-ratelimits' folder in temporary directory.\n"
+          + "# jxapi.rateLimitStorageDirectory=\n"
+          + "\n"
+          + "# The key shared by processes sharing same rate limits budget for MAPPED_FILE rate limit storage, for instance an identifier of API key. Defaults to exchange name.\n"
+          + "# jxapi.rateLimitStorageKey=\n"
+          + "\n"
+          + "# Enables single pass parsing of incoming websocket messages: JSON tokens read to find message topic are reused to deserialize message instead of parsing it twice.\n"
+          + "# jxapi.websocketSinglePassParsing=false\n"
+          + "\n"
+          + "# Sets the websocket implementation created by default websocket factory, see enum org.jxapi.netutils.websocket.WebsocketImplementation\n"
+          + "# jxapi.websocketImplementation=SPRING\n"
+          + "\n"
+          + "# Sets the strategy used to dispatch incoming websocket messages to handlers, see enum org.jxapi.netutils.websocket.dispatch.WebsocketDispatchMode\n"
+          + "# jxapi.websocketDispatchMode=ORDERED\n"
+          + "\n"
+          + "# The capacity of queues holding incoming websocket messages waiting to be dispatched, for ORDERED and SHARDED dispatch modes.\n"
+          + "# jxapi.websocketDispatchQueueCapacity=8192\n"
+          + "\n"
+          + "# The count of shards incoming websocket messages are spread over in SHARDED dispatch mode. Defaults to available processors count.\n"
+          + "# jxapi.websocketDispatchShardCount=\n"
+          + "\n"
+          + "# The name of JSON field of incoming websocket messages (e.g. topic or symbol) used as shard key in SHARDED dispatch mode, so that messages with same value are dispatched in order. When not set, every message is handled in order on a single shard.\n"
+          + "# jxapi.websocketDispatchShardKeyField=\n"
+          + "\n"
+          + "# The maximum count of connections of each websocket client. When greater than 1, subscribed topics are spread over several connections.\n"
+          + "# jxapi.websocketMaxConnections=1\n"
+          + "\n"
+          + "# The maximum count of topics subscribed on each connection of a websocket client, when max connections is greater than 1. No limit when not set.\n"
+          + "# jxapi.websocketMaxTopicsPerConnection=\n"
+          + "\n"
+          + "# The maximum count of topics subscribed or unsubscribed in a single websocket message. When greater than 1, subscribe and unsubscribe requests are coalesced and sent in batches when websocket hook supports it.\n"
+          + "# jxapi.websocketSubscribeMaxBatchSize=1\n"
+          + "\n"
+          + "# The delay in milliseconds websocket subscribe and unsubscribe requests are coalesced within before being sent in a batch, when max batch size is greater than 1.\n"
+          + "# jxapi.websocketSubscribeBatchWindow=0\n"
+          + "\n"
+          + "# Sets the threading strategy of REST and websocket components, see enum org.jxapi.util.ExecutorMode. VIRTUAL requires Java 21, SHARED runs components on a shared bounded thread pool, and network I/O on a separate unbounded shared pool.\n"
+          + "# jxapi.executorMode=PLATFORM\n"
+          + "\n"
+          + "# Sets the size of thread pool shared by REST and websocket components in SHARED executor mode. 0 means 4 times the count of available processors.\n"
+          + "# jxapi.sharedExecutorPoolSize=0\n"
+          + "\n"
           + "\n"
           + "# Demo REST/WEBSOCKET snippets common configuration properties\n"
           + "\n"
@@ -205,12 +265,72 @@ public class ExchangeDemoPropertiesTemplateGeneratorTest {
         + "# The request timeout for calls to REST endpoints of every API. A negative value means no timeout (discouraged)\n"
         + "# jxapi.httpRequestTimeout=\n"
         + "\n"
+        + "# Enables streaming of successful HTTP response bodies: they are deserialized while received, without being buffered nor retained in response.\n"
+        + "# jxapi.httpStreamingResponseBody=false\n"
+        + "\n"
+        + "# Preferred HTTP protocol version of REST calls: HTTP_2 (falls back to HTTP/1.1 if not supported by server) or HTTP_1_1. Default is version set in HTTP client descriptor, or HTTP_2\n"
+        + "# jxapi.httpVersion=\n"
+        + "\n"
+        + "# The timeout in milliseconds for establishing HTTP connections of REST calls. Default is timeout set in HTTP client descriptor, if any\n"
+        + "# jxapi.httpConnectTimeout=\n"
+        + "\n"
+        + "# Enables connection warm-up of HTTP clients when exchange is initialized, so that first REST call does not pay for connection handshake.\n"
+        + "# jxapi.httpWarmUp=false\n"
+        + "\n"
         + "# Sets the HTTP request throttling policy in case a rate limit rule is breached, for every exposed ExchangeApi, see enum org.jxapi.netutils.rest.ratelimits.RequestThrottlingMode\n"
         + "# jxapi.requestThrottlingMode=\n"
         + "\n"
         + "# Set the max HTTP request throttle delay for rate limit rule enforcement, for every exposed ExchangeApi.\n"
         + "# jxapi.maxRequestThrottleDelay=\n"
         + "\n"
+        + "# Enables correction of rate limits state with usage headers of HTTP responses, and pause of rate limits until Retry-After delay upon HTTP 429 or 418 responses.\n"
+        + "# jxapi.rateLimitFeedback=true\n"
+        + "\n"
+        + "# Sets the storage of rate limits state, see enum org.jxapi.netutils.rest.ratelimits.RateLimitStorageMode. MAPPED_FILE lets processes of same host using same key share rate limits budget.\n"
+        + "# jxapi.rateLimitStorage=MEMORY\n"
+        + "\n"
+        + "# The directory of rate limits state files for MAPPED_FILE rate limit storage. Defaults to 'jxapi-ratelimits' folder in temporary directory.\n"
+        + "# jxapi.rateLimitStorageDirectory=\n"
+        + "\n"
+        + "# The key shared by processes sharing same rate limits budget for MAPPED_FILE rate limit storage, for instance an identifier of API key. Defaults to exchange name.\n"
+        + "# jxapi.rateLimitStorageKey=\n"
+        + "\n"
+        + "# Enables single pass parsing of incoming websocket messages: JSON tokens read to find message topic are reused to deserialize message instead of parsing it twice.\n"
+        + "# jxapi.websocketSinglePassParsing=false\n"
+        + "\n"
+        + "# Sets the websocket implementation created by default websocket factory, see enum org.jxapi.netutils.websocket.WebsocketImplementation\n"
+        + "# jxapi.websocketImplementation=SPRING\n"
+        + "\n"
+        + "# Sets the strategy used to dispatch incoming websocket messages to handlers, see enum org.jxapi.netutils.websocket.dispatch.WebsocketDispatchMode\n"
+        + "# jxapi.websocketDispatchMode=ORDERED\n"
+        + "\n"
+        + "# The capacity of queues holding incoming websocket messages waiting to be dispatched, for ORDERED and SHARDED dispatch modes.\n"
+        + "# jxapi.websocketDispatchQueueCapacity=8192\n"
+        + "\n"
+        + "# The count of shards incoming websocket messages are spread over in SHARDED dispatch mode. Defaults to available processors count.\n"
+        + "# jxapi.websocketDispatchShardCount=\n"
+        + "\n"
+        + "# The name of JSON field of incoming websocket messages (e.g. topic or symbol) used as shard key in SHARDED dispatch mode, so that messages with same value are dispatched in order. When not set, every message is handled in order on a single shard.\n"
+        + "# jxapi.websocketDispatchShardKeyField=\n"
+        + "\n"
+        + "# The maximum count of connections of each websocket client. When greater than 1, subscribed topics are spread over several connections.\n"
+        + "# jxapi.websocketMaxConnections=1\n"
+        + "\n"
+        + "# The maximum count of topics subscribed on each connection of a websocket client, when max connections is greater than 1. No limit when not set.\n"
+        + "# jxapi.websocketMaxTopicsPerConnection=\n"
+        + "\n"
+        + "# The maximum count of topics subscribed or unsubscribed in a single websocket message. When greater than 1, subscribe and unsubscribe requests are coalesced and sent in batches when websocket hook supports it.\n"
+        + "# jxapi.websocketSubscribeMaxBatchSize=1\n"
+        + "\n"
+        + "# The delay in milliseconds websocket subscribe and unsubscribe requests are coalesced within before being sent in a batch, when max batch size is greater than 1.\n"
+        + "# jxapi.websocketSubscribeBatchWindow=0\n"
+        + "\n"
+        + "# Sets the threading strategy of REST and websocket components, see enum org.jxapi.util.ExecutorMode. VIRTUAL requires Java 21, SHARED runs components on a shared bounded thread pool, and network I/O on a separate unbounded shared pool.\n"
+        + "# jxapi.executorMode=PLATFORM\n"
+        + "\n"
+        + "# Sets the size of thread pool shared by REST and websocket components in SHARED executor mode. 0 means 4 times the count of available processors.\n"
+        + "# jxapi.sharedExecutorPoolSize=0\n"
+        + "\n"
         + "\n"
         + "# Demo REST/WEBSOCKET snippets common configuration properties\n"
         + "\n"
@@ -290,12 +410,72 @@ public class ExchangeDemoPropertiesTemplateGeneratorTest {
         + "# The request timeout for calls to REST endpoints of every API. A negative value means no timeout (discouraged)\n"
         + "# jxapi.httpRequestTimeout=\n"
         + "\n"
+        + "# Enables streaming of successful HTTP response bodies: they are deserialized while received, without being buffered nor retained in response.\n"
+        + "# jxapi.httpStreamingResponseBody=false\n"
+        + "\n"
+        + "# Preferred HTTP protocol version of REST calls: HTTP_2 (falls back to HTTP/1.1 if not supported by server) or HTTP_1_1. Default is version set in HTTP client descriptor, or HTTP_2\n"
+        + "# jxapi.httpVersion=\n"
+        + "\n"
+        + "# The timeout in milliseconds for establishing HTTP connections of REST calls. Default is timeout set in HTTP client descriptor, if any\n"
+        + "# jxapi.httpConnectTimeout=\n"
+        + "\n"
+        + "# Enables connection warm-up of HTTP clients when exchange is initialized, so that first REST call does not pay for connection handshake.\n"
+        + "# jxapi.httpWarmUp=false\n"
+        + "\n"
         + "# Sets the HTTP request throttling policy in case a rate limit rule is breached, for every exposed ExchangeApi, see enum org.jxapi.netutils.rest.ratelimits.RequestThrottlingMode\n"
         + "# jxapi.requestThrottlingMode=\n"
         + "\n"
         + "# Set the max HTTP request throttle delay for rate limit rule enforcement, for every exposed ExchangeApi.\n"
         + "# jxapi.maxRequestThrottleDelay=\n"
         + "\n"
+        + "# Enables correction of rate limits state with usage headers of HTTP responses, and pause of rate limits until Retry-After delay upon HTTP 429 or 418 responses.\n"
+        + "# jxapi.rateLimitFeedback=true\n"
+        + "\n"
+        + "# Sets the storage of rate limits state, see enum org.jxapi.netutils.rest.ratelimits.RateLimitStorageMode. MAPPED_FILE lets processes of same host using same key share rate limits budget.\n"
+        + "# jxapi.rateLimitStorage=MEMORY\n"
+        + "\n"
+        + "# The directory of rate limits state files for MAPPED_FILE rate limit storage. Defaults to 'jxapi-ratelimits' folder in temporary directory.\n"
+        + "# jxapi.rateLimitStorageDirectory=\n"
+        + "\n"
+        + "# The key shared by processes sharing same rate limits budget for MAPPED_FILE rate limit storage, for instance an identifier of API key. Defaults to exchange name.\n"
+        + "# jxapi.rateLimitStorageKey=\n"
+        + "\n"
+        + "# Enables single pass parsing of incoming websocket messages: JSON tokens read to find message topic are reused to deserialize message instead of parsing it twice.\n"
+        + "# jxapi.websocketSinglePassParsing=false\n"
+        + "\n"
+        + "# Sets the websocket implementation created by default websocket factory, see enum org.jxapi.netutils.websocket.WebsocketImplementation\n"
+        + "# jxapi.websocketImplementation=SPRING\n"
+        + "\n"
+        + "# Sets the strategy used to dispatch incoming websocket messages to handlers, see enum org.jxapi.netutils.websocket.dispatch.WebsocketDispatchMode\n"
+        + "# jxapi.websocketDispatchMode=ORDERED\n"
+        + "\n"
+        + "# The capacity of queues holding incoming websocket messages waiting to be dispatched, for ORDERED and SHARDED dispatch modes.\n"
+        + "# jxapi.websocketDispatchQueueCapacity=8192\n"
+        + "\n"
+        + "# The count of shards incoming websocket messages are spread over in SHARDED dispatch mode. Defaults to available processors count.\n"
+        + "# jxapi.websocketDispatchShardCount=\n"
+        + "\n"
+        + "# The name of JSON field of incoming websocket messages (e.g. topic or symbol) used as shard key in SHARDED dispatch mode, so that messages with same value are dispatched in order. When not set, every message is handled in order on a single shard.\n"
+        + "# jxapi.websocketDispatchShardKeyField=\n"
+        + "\n"
+        + "# The maximum count of connections of each websocket client. When greater than 1, subscribed topics are spread over several connections.\n"
+        + "# jxapi.websocketMaxConnections=1\n"
+        + "\n"
+        + "# The maximum count of topics subscribed on each connection of a websocket client, when max connections is greater than 1. No limit when not set.\n"
+        + "# jxapi.websocketMaxTopicsPerConnection=\n"
+        + "\n"
+        + "# The maximum count of topics subscribed or unsubscribed in a single websocket message. When greater than 1, subscribe and unsubscribe requests are coalesced and sent in batches when websocket hook supports it.\n"
+        + "# jxapi.websocketSubscribeMaxBatchSize=1\n"
+        + "\n"
+        + "# The delay in milliseconds websocket subscribe and unsubscribe requests are coalesced within before being sent in a batch, when max batch size is greater than 1.\n"
+        + "# jxapi.websocketSubscribeBatchWindow=0\n"
+        + "\n"
+        + "# Sets the threading strategy of REST and websocket components, see enum org.jxapi.util.ExecutorMode. VIRTUAL requires Java 21, SHARED runs components on a shared bounded thread pool, and network I/O on a separate unbounded shared pool.\n"
+        + "# jxapi.executorMode=PLATFORM\n"
+        + "\n"
+        + "# Sets the size of thread pool shared by REST and websocket components in SHARED executor mode. 0 means 4 times the count of available processors.\n"
+        + "# jxapi.sharedExecutorPoolSize=0\n"
+        + "\n"
         + "\n"
         + "# Demo REST/WEBSOCKET snippets common configuration properties\n"
         + "\n"
@@ -1,5 +1,9 @@
 package org.jxapi.netutils.deserialization;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -17,4 +21,22 @@ public class MessageDeserializerTest {
   public void testDeserializeNull() {
     Assert.assertNull(MessageDeserializer.NO_OP.deserialize(null));
   }
+  
+  @Test
+  public void testDeserializeBytes() {
+    byte[] bytes = "[fooé]".getBytes(StandardCharsets.UTF_8);
+    Assert.assertEquals("fooé", MessageDeserializer.NO_OP.deserialize(bytes, 1, bytes.length - 2));
+  }
+  
+  @Test
+  public void testDeserializeStream() throws IOException {
+    byte[] bytes = "fooé".getBytes(StandardCharsets.UTF_8);
+    Assert.assertEquals("fooé", MessageDeserializer.NO_OP.deserializeStream(new ByteArrayInputStream(bytes)));
+    Assert.assertNull(MessageDeserializer.NO_OP.deserializeStream(null));
+  }
+  
+  @Test
+  public void testDeserializeNullBytes() {
+    Assert.assertNull(MessageDeserializer.NO_OP.deserialize(null, 0, 0));
+  }
 }
@@ -3,7 +3,9 @@ package org.jxapi.netutils.deserialization.json;
 import static org.jxapi.util.JsonUtil.readNextInteger;
 import static org.jxapi.util.JsonUtil.skipNextValue;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -37,7 +39,13 @@ public class AbstractJsonMessageDeserializerTest {
 
     @Override
     public AbstractJsonMessageDeserializerTestItem deserialize(JsonParser parser) throws IOException {
-      AbstractJsonMessageDeserializerTestItem msg = new AbstractJsonMessageDeserializerTestItem();
+      return deserializeInto(parser, new AbstractJsonMessageDeserializerTestItem());
+    }
+    
+    @Override
+    public AbstractJsonMessageDeserializerTestItem deserializeInto(
+        JsonParser parser, 
+        AbstractJsonMessageDeserializerTestItem msg) throws IOException {
       while (parser.nextToken() != JsonToken.END_OBJECT) {
         switch (parser.currentName()) {
         case "name":
@@ -71,9 +79,72 @@ public class AbstractJsonMessageDeserializerTest {
     Assert.assertNull(item);
   }
   
+  @Test
+  public void testDeserializeBytes() {
+    TestJsonMessageDeserializer deserializer = new TestJsonMessageDeserializer();
+    byte[] bytes = "xx{\"name\":\"Jérôme\",\"age\":30}yy".getBytes(StandardCharsets.UTF_8);
+    AbstractJsonMessageDeserializerTestItem item = deserializer.deserialize(bytes, 2, bytes.length - 4);
+    Assert.assertEquals("Jérôme", item.getName());
+    Assert.assertEquals(30, item.getAge());
+  }
+  
+  @Test
+  public void testDeserializeStream() throws IOException {
+    TestJsonMessageDeserializer deserializer = new TestJsonMessageDeserializer();
+    byte[] bytes = "{\"name\":\"Jérôme\",\"age\":30}".getBytes(StandardCharsets.UTF_8);
+    AbstractJsonMessageDeserializerTestItem item = deserializer.deserializeStream(new ByteArrayInputStream(bytes));
+    Assert.assertEquals("Jérôme", item.getName());
+    Assert.assertEquals(30, item.getAge());
+    Assert.assertNull(deserializer.deserializeStream(null));
+  }
+  
+  @Test
+  public void testDeserializeNullBytes() {
+    TestJsonMessageDeserializer deserializer = new TestJsonMessageDeserializer();
+    Assert.assertNull(deserializer.deserialize(null, 0, 0));
+  }
+  
+  @Test(expected = IllegalArgumentException.class)
+  public void testDeserializeBytesThrows() {
+    TestJsonMessageDeserializer deserializer = new TestJsonMessageDeserializer();
+    byte[] bytes = "blah".getBytes(StandardCharsets.UTF_8);
+    deserializer.deserialize(bytes, 0, bytes.length);
+  }
+  
   @Test(expected = IllegalArgumentException.class)
   public void testDeserializeThrows() {
     TestJsonMessageDeserializer deserializer = new TestJsonMessageDeserializer();
     deserializer.deserialize("blah");
   }
+  
+  @Test
+  public void testDeserializeInto() {
+    TestJsonMessageDeserializer deserializer = new TestJsonMessageDeserializer();
+    AbstractJsonMessageDeserializerTestItem target = new AbstractJsonMessageDeserializerTestItem();
+    target.setAge(12);
+    AbstractJsonMessageDeserializerTestItem item = deserializer.deserializeInto("{\"name\":\"John\"}", target);
+    Assert.assertSame(target, item);
+    Assert.assertEquals("John", item.getName());
+    Assert.assertEquals(12, item.getAge());
+    Assert.assertNull(deserializer.deserializeInto((String) null, target));
+  }
+  
+  @Test
+  public void testDeserializeIntoBytes() {
+    TestJsonMessageDeserializer deserializer = new TestJsonMessageDeserializer();
+    AbstractJsonMessageDeserializerTestItem target = new AbstractJsonMessageDeserializerTestItem();
+    byte[] bytes = "xx{\"name\":\"Jérôme\",\"age\":30}yy".getBytes(StandardCharsets.UTF_8);
+    AbstractJsonMessageDeserializerTestItem item = deserializer.deserializeInto(bytes, 2, bytes.length - 4, target);
+    Assert.assertSame(target, item);
+    Assert.assertEquals("Jérôme", item.getName());
+    Assert.assertEquals(30, item.getAge());
+    Assert.assertNull(deserializer.deserializeInto(null, 0, 0, target));
+  }
+  
+  @Test
+  public void testDeserializeIntoNullTargetCreatesNewInstance() {
+    TestJsonMessageDeserializer deserializer = new TestJsonMessageDeserializer();
+    AbstractJsonMessageDeserializerTestItem item = deserializer.deserializeInto("{\"name\":\"John\"}", null);
+    Assert.assertEquals("John", item.getName());
+  }
 }
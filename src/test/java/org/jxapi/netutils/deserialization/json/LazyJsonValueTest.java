@@ -0,0 +1,134 @@
+package org.jxapi.netutils.deserialization.json;
+
+import static org.jxapi.util.JsonUtil.readNextString;
+import static org.jxapi.util.JsonUtil.skipNextValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.jxapi.netutils.deserialization.json.field.ListJsonFieldDeserializer;
+import org.jxapi.netutils.deserialization.json.field.StringJsonFieldDeserializer;
+import org.jxapi.util.JsonUtil;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Unit test for {@link LazyJsonValue}
+ */
+public class LazyJsonValueTest {
+
+  private static final ListJsonFieldDeserializer<String> LIST_DESERIALIZER =
+      new ListJsonFieldDeserializer<>(StringJsonFieldDeserializer.getInstance());
+
+  private static class Holder {
+    private LazyJsonValue<List<String>> list;
+    private LazyJsonValue<Holder> child;
+    private String after;
+  }
+
+  private static class HolderDeserializer extends AbstractJsonMessageDeserializer<Holder> {
+
+    @Override
+    public Holder deserialize(JsonParser parser) throws IOException {
+      Holder res = new Holder();
+      while (parser.nextToken() != JsonToken.END_OBJECT) {
+        switch (parser.currentName()) {
+        case "list":
+          res.list = LazyJsonValue.readNext(parser, LIST_DESERIALIZER);
+          break;
+        case "child":
+          res.child = LazyJsonValue.readNext(parser, this);
+          break;
+        case "after":
+          res.after = readNextString(parser);
+          break;
+        default:
+          skipNextValue(parser);
+        }
+      }
+      return res;
+    }
+  }
+
+  private final HolderDeserializer deserializer = new HolderDeserializer();
+
+  @Test
+  public void testReadNextFromString() {
+    Holder h = deserializer.deserialize("{\"list\":[\"a\",\"é\",\"c\"],\"after\":\"foo\"}");
+    Assert.assertEquals("foo", h.after);
+    Assert.assertFalse(h.list.isDecoded());
+    Assert.assertEquals(List.of("a", "é", "c"), h.list.get());
+    Assert.assertTrue(h.list.isDecoded());
+    Assert.assertSame(h.list.get(), h.list.get());
+  }
+
+  @Test
+  public void testReadNextFromBytesWithOffset() {
+    byte[] json = "xx{\"list\":[\"a\",\"é\",\"c\"],\"after\":\"foo\"}yy".getBytes(StandardCharsets.UTF_8);
+    Holder h = deserializer.deserialize(json, 2, json.length - 4);
+    // Simulate reuse of buffer after dispatch
+    Arrays.fill(json, (byte) ' ');
+    Assert.assertEquals("foo", h.after);
+    Assert.assertFalse(h.list.isDecoded());
+    Assert.assertEquals(List.of("a", "é", "c"), h.list.get());
+  }
+
+  @Test
+  public void testReadNextFromStreamDecodesRightAway() throws IOException {
+    byte[] json = "{\"list\":[\"a\",\"b\"],\"after\":\"foo\"}".getBytes(StandardCharsets.UTF_8);
+    Holder h = deserializer.deserializeStream(new ByteArrayInputStream(json));
+    Assert.assertEquals("foo", h.after);
+    Assert.assertTrue(h.list.isDecoded());
+    Assert.assertEquals(List.of("a", "b"), h.list.get());
+  }
+
+  @Test
+  public void testReadNextNull() {
+    Holder h = deserializer.deserialize("{\"list\":null,\"after\":\"foo\"}");
+    Assert.assertEquals("foo", h.after);
+    Assert.assertTrue(h.list.isDecoded());
+    Assert.assertNull(h.list.get());
+  }
+
+  @Test
+  public void testNestedLazyValueIsNotDecodedWithParent() {
+    Holder h = deserializer.deserialize("{\"child\":{\"after\":\"bar\",\"list\":[\"a\"]},\"after\":\"foo\"}");
+    Assert.assertEquals("foo", h.after);
+    Assert.assertFalse(h.child.isDecoded());
+    Holder child = h.child.get();
+    Assert.assertEquals("bar", child.after);
+    Assert.assertFalse(child.list.isDecoded());
+    Assert.assertEquals(List.of("a"), child.list.get());
+  }
+
+  @Test
+  public void testDecodingErrorRaisedOnGet() throws IOException {
+    JsonParser parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser("{\"list\":[\"a\"]}");
+    LazyJsonValue.attachSource(parser, "{\"list\":[\"a\"]}");
+    parser.nextToken();
+    parser.nextToken();
+    LazyJsonValue<List<String>> value = LazyJsonValue.readNext(parser, p -> {
+      throw new IOException("Test error");
+    });
+    try {
+      value.get();
+      Assert.fail("Expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      Assert.assertEquals("Error parsing JSON:[[\"a\"]]", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testOf() {
+    LazyJsonValue<String> value = LazyJsonValue.of("foo");
+    Assert.assertTrue(value.isDecoded());
+    Assert.assertEquals("foo", value.get());
+  }
+}
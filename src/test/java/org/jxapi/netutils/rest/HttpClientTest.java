@@ -1,7 +1,11 @@
 package org.jxapi.netutils.rest;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -84,6 +88,80 @@ public class HttpClientTest {
     Assert.assertEquals("Intercepted response:Test response body", finalResponse.getBody());
   }
   
+  @Test
+  public void testExecute_WithResponseHandler() {
+    HttpClient client = new HttpClient(mockInterceptor, mockExecutor, null, mockResponseInterceptor);
+    List<HttpResponse> handled = new ArrayList<>();
+    client.execute(createTestRequest(), handled::add);
+    MockFutureHttpResponse mockRequest = mockExecutor.popRequest();
+    Assert.assertEquals("Intercepted:TestBody1", mockRequest.getRequest().getBody());
+    Assert.assertTrue(handled.isEmpty());
+    HttpResponse response = new HttpResponse();
+    response.setRequest(mockRequest.getRequest());
+    response.setBody("Test response body");
+    mockRequest.complete(response);
+    Assert.assertEquals(1, handled.size());
+    Assert.assertSame(response, handled.get(0));
+    Assert.assertEquals("Intercepted response:Test response body", response.getBody());
+  }
+  
+  @Test
+  public void testPreconnect() {
+    CompletableFuture<Void> connected = new CompletableFuture<>();
+    List<String> urls = new ArrayList<>();
+    HttpRequestExecutor executor = new MockHttpRequestExecutor() {
+      @Override
+      public CompletableFuture<Void> preconnect(String url) {
+        urls.add(url);
+        return connected;
+      }
+    };
+    HttpClient client = new HttpClient(mockInterceptor, executor, requestThrottler, mockResponseInterceptor);
+    Assert.assertSame(connected, client.preconnect("https://example.com"));
+    Assert.assertEquals(List.of("https://example.com"), urls);
+  }
+  
+  @Test
+  public void testPreconnect_DefaultDoesNothing() {
+    HttpClient client = new HttpClient(null, mockExecutor, null, null);
+    CompletableFuture<Void> connected = client.preconnect("https://example.com");
+    Assert.assertTrue(connected.isDone());
+    Assert.assertFalse(connected.isCompletedExceptionally());
+    Assert.assertEquals(0, mockExecutor.size());
+  }
+  
+  @Test
+  public void testExecute_WithResponseHandler_ErrorInHandler() {
+    HttpClient client = new HttpClient(null, mockExecutor, null, null);
+    client.execute(createTestRequest(), r -> { throw new RuntimeException("Response handler error"); });
+    MockFutureHttpResponse mockRequest = mockExecutor.popRequest();
+    HttpResponse response = new HttpResponse();
+    response.setRequest(mockRequest.getRequest());
+    // Error is logged, not propagated
+    Assert.assertTrue(mockRequest.complete(response));
+  }
+  
+  @Test
+  public void testExecute_WithResponseInterceptor_UnconsumedBodyStreamIsClosed() throws InterruptedException, ExecutionException {
+    HttpClient client = new HttpClient(null, mockExecutor, null, mockResponseInterceptor);
+    mockResponseInterceptor.clearPreparedInterceptors();
+    FutureHttpResponse futureResponse = client.execute(createTestRequest());
+    MockFutureHttpResponse mockRequest = mockExecutor.popRequest();
+    HttpResponse response = new HttpResponse();
+    response.setRequest(mockRequest.getRequest());
+    AtomicBoolean closed = new AtomicBoolean();
+    response.setBodyStream(new ByteArrayInputStream(new byte[0]) {
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    });
+    mockRequest.complete(response);
+    HttpResponse finalResponse = futureResponse.get();
+    Assert.assertTrue(closed.get());
+    Assert.assertFalse(finalResponse.hasBodyStream());
+  }
+  
   @Test
   public void testExecute_WithResponseInterceptor_NoThrottler_ErrorInResponseInterceptor() throws InterruptedException, ExecutionException {
     HttpClient client = new HttpClient(null, mockExecutor, null, mockResponseInterceptor);
@@ -8,6 +8,7 @@ import org.jxapi.netutils.serialization.MessageSerializer;
 import org.jxapi.netutils.serialization.json.IntegerJsonValueSerializer;
 import org.jxapi.netutils.serialization.json.StringJsonValueSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -59,6 +60,20 @@ public class HttpRequestTest {
         HttpRequest request = new HttpRequest();
         request.setBody("body");
         Assert.assertEquals("body", request.getBody());
+        Assert.assertNull(request.getBodyBytes());
+    }
+
+    @Test
+    public void testSetBodyBytes() {
+        HttpRequest request = new HttpRequest();
+        request.setBody("body");
+        byte[] bytes = "b\u00f4dy".getBytes(StandardCharsets.UTF_8);
+        request.setBodyBytes(bytes);
+        Assert.assertSame(bytes, request.getBodyBytes());
+        Assert.assertEquals("b\u00f4dy", request.getBody());
+        request.setBody("other");
+        Assert.assertNull(request.getBodyBytes());
+        Assert.assertEquals("other", request.getBody());
     }
 
     @Test
@@ -98,6 +113,17 @@ public class HttpRequestTest {
         Assert.assertEquals(10, request.getWeight());
     }
 
+    @Test
+    public void testSetPriority() {
+        HttpRequest request = new HttpRequest();
+        Assert.assertEquals(RequestPriority.NORMAL, request.getPriority());
+        request.setPriority(RequestPriority.HIGH);
+        Assert.assertEquals(RequestPriority.HIGH, request.getPriority());
+        Assert.assertTrue(request.toString().contains("\"priority\":\"HIGH\""));
+        request.setPriority(null);
+        Assert.assertEquals(RequestPriority.NORMAL, request.getPriority());
+    }
+
     @Test
     public void testSetThrotthledTime() {
         HttpRequest request = new HttpRequest();
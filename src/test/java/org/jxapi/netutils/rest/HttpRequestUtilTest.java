@@ -1,10 +1,14 @@
 package org.jxapi.netutils.rest;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.jxapi.netutils.deserialization.MessageDeserializer;
 
 /**
  * Unit test for {@link HttpRequestUtil}
@@ -85,6 +89,7 @@ public class HttpRequestUtilTest {
     request.setRequest("foo");
     HttpRequestUtil.serializeRequestBody(request);
     Assert.assertEquals("foo!", request.getBody());
+    Assert.assertArrayEquals("foo!".getBytes(StandardCharsets.UTF_8), request.getBodyBytes());
   }
   
   @Test
@@ -104,4 +109,48 @@ public class HttpRequestUtilTest {
     HttpRequestUtil.deserializeResponseBody(response);
     Assert.assertEquals("foo!", response.getResponse());
   }
+  
+  @Test
+  public void testDeserializeResponseBodyBytes() {
+    HttpResponse response = new HttpResponse();
+    HttpRequest request = new HttpRequest();
+    response.setRequest(request);
+    request.setResponseDeserializer(new MessageDeserializer<String>() {
+      @Override
+      public String deserialize(String msg) {
+        throw new AssertionError("Body should not be decoded");
+      }
+      
+      @Override
+      public String deserialize(byte[] msg, int offset, int length) {
+        return new String(msg, offset, length, StandardCharsets.UTF_8) + "!";
+      }
+    });
+    response.setBodyBytes(new byte[0]);
+    HttpRequestUtil.deserializeResponseBody(response);
+    Assert.assertNull(response.getResponse());
+    response.setBodyBytes("foo".getBytes(StandardCharsets.UTF_8));
+    HttpRequestUtil.deserializeResponseBody(response);
+    Assert.assertEquals("foo!", response.getResponse());
+  }
+  
+  @Test
+  public void testDeserializeResponseBodyStream() {
+    HttpResponse response = new HttpResponse();
+    HttpRequest request = new HttpRequest();
+    response.setRequest(request);
+    request.setResponseDeserializer(MessageDeserializer.NO_OP);
+    AtomicBoolean closed = new AtomicBoolean();
+    response.setBodyStream(new ByteArrayInputStream("foo".getBytes(StandardCharsets.UTF_8)) {
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    });
+    HttpRequestUtil.deserializeResponseBody(response);
+    Assert.assertEquals("foo", response.getResponse());
+    Assert.assertTrue(closed.get());
+    Assert.assertFalse(response.hasBodyStream());
+    Assert.assertNull(response.getBody());
+  }
 }
@@ -1,9 +1,14 @@
 package org.jxapi.netutils.rest;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -34,6 +39,63 @@ public class HttpResponseTest {
         Assert.assertEquals("body", response.getBody());
     }
 
+    @Test
+    public void testSetBodyBytes() {
+        HttpResponse response = new HttpResponse();
+        Assert.assertNull(response.getBodyBytes());
+        Assert.assertEquals(-1, response.getBodyLength());
+        byte[] bytes = "bodyé".getBytes(StandardCharsets.UTF_8);
+        response.setBodyBytes(bytes);
+        Assert.assertSame(bytes, response.getBodyBytes());
+        Assert.assertEquals(6, response.getBodyLength());
+        Assert.assertEquals("bodyé", response.getBody());
+        Assert.assertEquals(5, response.getBodyLength());
+        response.setBody("foo");
+        Assert.assertNull(response.getBodyBytes());
+        Assert.assertEquals("foo", response.getBody());
+    }
+
+    @Test
+    public void testBodyStreamReadOnGetBody() {
+        HttpResponse response = new HttpResponse();
+        Assert.assertFalse(response.hasBodyStream());
+        response.setBodyStream(new ByteArrayInputStream("body".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertTrue(response.hasBodyStream());
+        Assert.assertEquals(-1, response.getBodyLength());
+        Assert.assertEquals("body", response.getBody());
+        Assert.assertFalse(response.hasBodyStream());
+        Assert.assertArrayEquals("body".getBytes(StandardCharsets.UTF_8), response.getBodyBytes());
+    }
+
+    @Test
+    public void testTakeBodyStream() throws IOException {
+        HttpResponse response = new HttpResponse();
+        Assert.assertNull(response.takeBodyStream());
+        InputStream in = new ByteArrayInputStream("body".getBytes(StandardCharsets.UTF_8));
+        response.setBodyStream(in);
+        Assert.assertSame(in, response.takeBodyStream());
+        Assert.assertFalse(response.hasBodyStream());
+        Assert.assertNull(response.getBody());
+        Assert.assertEquals("body", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCloseBodyStream() {
+        HttpResponse response = new HttpResponse();
+        response.closeBodyStream();
+        AtomicBoolean closed = new AtomicBoolean();
+        response.setBodyStream(new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        });
+        response.closeBodyStream();
+        Assert.assertTrue(closed.get());
+        Assert.assertFalse(response.hasBodyStream());
+        Assert.assertNull(response.getBody());
+    }
+
     @Test
     public void testSetException() {
         HttpResponse response = new HttpResponse();
@@ -67,6 +129,19 @@ public class HttpResponseTest {
         Assert.assertEquals("headerValue2", response.getHeaders().get("headerName2").get(0));
     }
 
+    @Test
+    public void testGetHeader() {
+        HttpResponse response = new HttpResponse();
+        Assert.assertNull(response.getHeader("headerName"));
+        response.setHeader("Header-Name", List.of("headerValue1", "headerValue2"));
+        response.setHeader("Empty", List.of());
+        Assert.assertEquals("headerValue1", response.getHeader("Header-Name"));
+        Assert.assertEquals("headerValue1", response.getHeader("header-name"));
+        Assert.assertNull(response.getHeader("Empty"));
+        Assert.assertNull(response.getHeader("Other"));
+        Assert.assertNull(response.getHeader(null));
+    }
+
     @Test
     public void testSetHeaderList() {
         HttpResponse response = new HttpResponse();
@@ -126,7 +201,14 @@ public class HttpResponseTest {
         response.setRequest(request);
         Assert.assertEquals("{\"responseCode\":200,\"exception\":\"java.lang.RuntimeException: error!\",\"request\":{\"time\":\"2024-09-07T01:04:53.119+0200\"},\"body\":\"length=5\",\"headers\":{\"headerName\":[\"headerValue\"]},\"time\":\"2024-09-07T01:04:54.119+0200\",\"roundTrip\":1000}", 
                             response.toString());
-        response.setBody(null);
+        response.setBodyBytes("hello".getBytes(StandardCharsets.UTF_8));
+        response.setException(null);
+        response.setHeaders(null);
+        response.setTime(null);
+        response.setRequest(null);
+        Assert.assertEquals("{\"responseCode\":200,\"body\":\"length=5\",\"roundTrip\":0}", 
+            response.toString());
+        response.setBody((String) null);
         response.setException(null);
         response.setHeaders(null);
         response.setTime(null);
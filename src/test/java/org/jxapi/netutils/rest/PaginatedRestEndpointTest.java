@@ -93,7 +93,7 @@ public class PaginatedRestEndpointTest {
       
       Assert.assertTrue(restEndpoint.isPaginated());
       
-      Assert.assertEquals("PaginatedRestEndpoint{\"httpMethod\":\"PUT\",\"name\":\"TestEndpoint\",\"url\":\"http://newexample.com/api\",\"httpClient\":{\"disposed\":false,\"requestTimeout\":30000,\"executor\":{\"disposed\":false,\"requestTimeout\":30000,\"submittedRequests\":[]}},\"deserializer\":{},\"serializer\":{},\"rateLimitRules\":[{\"id\":\"myRule\",\"timeFrame\":30000,\"maxRequestCount\":15,\"maxTotalWeight\":-1,\"granularity\":10}],\"weight\":5,\"observer\":{\"defaulTimeout\":2000,\"allEvents\":[]},\"urlParamsSerializer\":{},\"paginated\":true}", restEndpoint.toString());
+      Assert.assertEquals("PaginatedRestEndpoint{\"httpMethod\":\"PUT\",\"name\":\"TestEndpoint\",\"url\":\"http://newexample.com/api\",\"httpClient\":{\"disposed\":false,\"requestTimeout\":30000,\"executor\":{\"disposed\":false,\"requestTimeout\":30000,\"submittedRequests\":[]}},\"deserializer\":{},\"serializer\":{},\"rateLimitRules\":[{\"id\":\"myRule\",\"timeFrame\":30000,\"maxRequestCount\":15,\"maxTotalWeight\":-1,\"granularity\":10}],\"weight\":5,\"priority\":\"NORMAL\",\"observer\":{\"defaulTimeout\":2000,\"allEvents\":[]},\"urlParamsSerializer\":{},\"paginated\":true}", restEndpoint.toString());
     }
     
     @Test
@@ -82,6 +82,27 @@ public class RestEndpointTest {
         Assert.assertNull(httpRequest.getBody());
     }
     
+    @Test
+    public void testCreateHttpRequestWithPriority() {
+        Assert.assertEquals(RequestPriority.NORMAL, restEndpoint.createHttpRequest(null).getPriority());
+        restEndpoint.setPriority(RequestPriority.LOW);
+        Assert.assertEquals(RequestPriority.LOW, restEndpoint.getPriority());
+        Assert.assertEquals(RequestPriority.LOW, restEndpoint.createHttpRequest(null).getPriority());
+        // Overridden for a call
+        HttpRequest overridden = RequestPriority.withPriority(RequestPriority.HIGH, () -> restEndpoint.createHttpRequest(null));
+        Assert.assertEquals(RequestPriority.HIGH, overridden.getPriority());
+        Assert.assertNull(RequestPriority.getOverride());
+        Assert.assertEquals(RequestPriority.LOW, restEndpoint.createHttpRequest(null).getPriority());
+        // Nested overrides
+        RequestPriority.withPriority(RequestPriority.HIGH, () -> {
+          Assert.assertEquals(RequestPriority.NORMAL, RequestPriority.withPriority(RequestPriority.NORMAL, () -> restEndpoint.createHttpRequest(null)).getPriority());
+          Assert.assertEquals(RequestPriority.HIGH, restEndpoint.createHttpRequest(null).getPriority());
+          return null;
+        });
+        restEndpoint.setPriority(null);
+        Assert.assertEquals(RequestPriority.NORMAL, restEndpoint.getPriority());
+    }
+    
     @Test
     public void testGetterAndSettersAndToString() {
       restEndpoint.setName("TestEndpoint");
@@ -121,7 +142,7 @@ public class RestEndpointTest {
       
       Assert.assertFalse(restEndpoint.isPaginated());
       
-      Assert.assertEquals("RestEndpoint{\"httpMethod\":\"PUT\",\"name\":\"TestEndpoint\",\"url\":\"http://newexample.com/api\",\"httpClient\":{\"disposed\":false,\"requestTimeout\":30000,\"executor\":{\"disposed\":false,\"requestTimeout\":30000,\"submittedRequests\":[]}},\"deserializer\":{},\"serializer\":{},\"rateLimitRules\":[{\"id\":\"myRule\",\"timeFrame\":30000,\"maxRequestCount\":15,\"maxTotalWeight\":-1,\"granularity\":10}],\"weight\":5,\"observer\":{\"defaulTimeout\":2000,\"allEvents\":[]},\"urlParamsSerializer\":{},\"paginated\":false}", restEndpoint.toString());
+      Assert.assertEquals("RestEndpoint{\"httpMethod\":\"PUT\",\"name\":\"TestEndpoint\",\"url\":\"http://newexample.com/api\",\"httpClient\":{\"disposed\":false,\"requestTimeout\":30000,\"executor\":{\"disposed\":false,\"requestTimeout\":30000,\"submittedRequests\":[]}},\"deserializer\":{},\"serializer\":{},\"rateLimitRules\":[{\"id\":\"myRule\",\"timeFrame\":30000,\"maxRequestCount\":15,\"maxTotalWeight\":-1,\"granularity\":10}],\"weight\":5,\"priority\":\"NORMAL\",\"observer\":{\"defaulTimeout\":2000,\"allEvents\":[]},\"urlParamsSerializer\":{},\"paginated\":false}", restEndpoint.toString());
     }
     
     @Test
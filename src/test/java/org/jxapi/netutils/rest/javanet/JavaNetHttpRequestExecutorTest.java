@@ -2,9 +2,14 @@ package org.jxapi.netutils.rest.javanet;
 
 import java.io.IOException;
 import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -16,10 +21,13 @@ import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.jxapi.netutils.deserialization.MessageDeserializer;
 import org.jxapi.netutils.rest.FutureHttpResponse;
 import org.jxapi.netutils.rest.HttpMethod;
 import org.jxapi.netutils.rest.HttpRequest;
+import org.jxapi.netutils.rest.HttpRequestUtil;
 import org.jxapi.netutils.rest.HttpResponse;
+import org.jxapi.util.ExecutorFactory;
 
 
 /**
@@ -113,6 +121,107 @@ public class JavaNetHttpRequestExecutorTest {
     testSubmitRequest(request, response);
   }
   
+  @Test
+  public void testSubmitGetRequest_CallbackExecutor() throws Exception {
+    Assert.assertNull(executor.getCallbackExecutor());
+    AtomicInteger callbackCount = new AtomicInteger();
+    Executor callbackExecutor = r -> {
+      callbackCount.incrementAndGet();
+      r.run();
+    };
+    executor.setCallbackExecutor(callbackExecutor);
+    Assert.assertSame(callbackExecutor, executor.getCallbackExecutor());
+    HttpRequest request = new HttpRequest();
+    request.setHttpMethod(HttpMethod.GET);
+    request.setUrl(getServerUrl() + "/hello");
+    HttpResponse response = new HttpResponse();
+    response.setResponseCode(HttpStatus.OK_200.getStatusCode());
+    response.setBody("Hello, world!");
+    response.setHeader("content-length", "13");
+    testSubmitRequest(request, response);
+    Assert.assertEquals(1, callbackCount.get());
+  }
+  
+  @Test
+  public void testSubmitGetRequest_BodyReceivedAsBytes() throws Exception {
+    HttpRequest request = new HttpRequest();
+    request.setHttpMethod(HttpMethod.GET);
+    request.setUrl(getServerUrl() + "/hello");
+    request.setResponseDeserializer(MessageDeserializer.NO_OP);
+    FutureHttpResponse futureResponse = executor.execute(request);
+    HttpResponse response = new HttpResponse();
+    response.setResponseCode(HttpStatus.OK_200.getStatusCode());
+    response.setBody("Hello, world!");
+    mockHttpServer.popRequest(TIMEOUT).complete(response);
+    HttpResponse actualResponse = futureResponse.get(TIMEOUT, TimeUnit.MILLISECONDS);
+    Assert.assertFalse(actualResponse.hasBodyStream());
+    Assert.assertArrayEquals("Hello, world!".getBytes(StandardCharsets.UTF_8), actualResponse.getBodyBytes());
+  }
+  
+  @Test
+  public void testSubmitGetRequest_StreamingResponseBody() throws Exception {
+    Assert.assertFalse(executor.isStreamingResponseBody());
+    executor.setStreamingResponseBody(true);
+    Assert.assertTrue(executor.isStreamingResponseBody());
+    HttpRequest request = new HttpRequest();
+    request.setHttpMethod(HttpMethod.GET);
+    request.setUrl(getServerUrl() + "/hello");
+    request.setResponseDeserializer(MessageDeserializer.NO_OP);
+    FutureHttpResponse futureResponse = executor.execute(request);
+    HttpResponse response = new HttpResponse();
+    response.setResponseCode(HttpStatus.OK_200.getStatusCode());
+    response.setBody("Hello, world!");
+    mockHttpServer.popRequest(TIMEOUT).complete(response);
+    HttpResponse actualResponse = futureResponse.get(TIMEOUT, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(actualResponse.hasBodyStream());
+    HttpRequestUtil.deserializeResponseBody(actualResponse);
+    Assert.assertEquals("Hello, world!", actualResponse.getResponse());
+    Assert.assertNull(actualResponse.getBody());
+  }
+  
+  @Test
+  public void testSubmitGetRequest_StreamingResponseBodyNotCompletedInHttpClientThread() throws Exception {
+    JavaNetHttpRequestExecutor exec = new JavaNetHttpRequestExecutor("JavaNetHttpRequestExecutorTest-http");
+    try {
+      exec.setStreamingResponseBody(true);
+      HttpRequest request = new HttpRequest();
+      request.setHttpMethod(HttpMethod.GET);
+      request.setUrl(getServerUrl() + "/hello");
+      request.setResponseDeserializer(MessageDeserializer.NO_OP);
+      FutureHttpResponse futureResponse = exec.execute(request);
+      CompletableFuture<String> completingThread = futureResponse.thenApply(r -> Thread.currentThread().getName());
+      HttpResponse response = new HttpResponse();
+      response.setResponseCode(HttpStatus.OK_200.getStatusCode());
+      response.setBody("Hello, world!");
+      mockHttpServer.popRequest(TIMEOUT).complete(response);
+      // Waiting for response itself could run dependent stage in this thread
+      String threadName = completingThread.get(TIMEOUT, TimeUnit.MILLISECONDS);
+      Assert.assertTrue(threadName, threadName.startsWith("JavaNetHttpRequestExecutorTest-http-streaming-"));
+      HttpResponse actualResponse = futureResponse.get(TIMEOUT, TimeUnit.MILLISECONDS);
+      HttpRequestUtil.deserializeResponseBody(actualResponse);
+      Assert.assertEquals("Hello, world!", actualResponse.getResponse());
+    } finally {
+      exec.dispose();
+    }
+  }
+  
+  @Test
+  public void testSubmitGetRequest_StreamingResponseBodyNotUsedForErrorResponse() throws Exception {
+    executor.setStreamingResponseBody(true);
+    HttpRequest request = new HttpRequest();
+    request.setHttpMethod(HttpMethod.GET);
+    request.setUrl(getServerUrl() + "/hello");
+    request.setResponseDeserializer(MessageDeserializer.NO_OP);
+    FutureHttpResponse futureResponse = executor.execute(request);
+    HttpResponse response = new HttpResponse();
+    response.setResponseCode(HttpStatus.BAD_REQUEST_400.getStatusCode());
+    response.setBody("Invalid request");
+    mockHttpServer.popRequest(TIMEOUT).complete(response);
+    HttpResponse actualResponse = futureResponse.get(TIMEOUT, TimeUnit.MILLISECONDS);
+    Assert.assertFalse(actualResponse.hasBodyStream());
+    Assert.assertEquals("Invalid request", actualResponse.getBody());
+  }
+  
   @Test
   public void testSubmitGetRequest_NullHeaders() throws Exception {
     HttpRequest request = new HttpRequest();
@@ -142,6 +251,21 @@ public class JavaNetHttpRequestExecutorTest {
     testSubmitRequest(request, response);
   }
   
+  @Test
+  public void testSubmitPostRequestWithBodyBytes() throws Exception {
+    HttpRequest request = new HttpRequest();
+    request.setHttpMethod(HttpMethod.POST);
+    request.setUrl(getServerUrl() + "/helloName");
+    request.setBodyBytes("Bob".getBytes(StandardCharsets.UTF_8));
+    request.setHeader("cache-control", List.of("max-age=31536000", "public"));
+    HttpResponse response = new HttpResponse();
+    response.setResponseCode(HttpStatus.OK_200.getStatusCode());
+    String responseBody = "Hello, Bob!";
+    response.setBody(responseBody);
+    response.setHeader("content-length", String.valueOf(responseBody.length()));
+    testSubmitRequest(request, response);
+  }
+  
   @Test
   public void testSubmitDeleteRequest() throws Exception {
     HttpRequest request = new HttpRequest();
@@ -219,6 +343,56 @@ public class JavaNetHttpRequestExecutorTest {
     executor.execute(request);
   }
   
+  @Test
+  public void testDefaultHttpVersionAndConnectTimeout() {
+    Assert.assertEquals(HttpClient.Version.HTTP_2, executor.getHttpVersion());
+    Assert.assertTrue(executor.getConnectTimeout().isEmpty());
+  }
+  
+  @Test
+  public void testCreateWithHttpVersionAndConnectTimeout() {
+    JavaNetHttpRequestExecutor exec = new JavaNetHttpRequestExecutor(
+        "JavaNetHttpRequestExecutorTest" + THREAD_COUNTER.getAndIncrement(), 
+        ExecutorFactory.PLATFORM, 
+        HttpClient.Version.HTTP_1_1, 
+        Duration.ofMillis(1500L));
+    try {
+      Assert.assertEquals(HttpClient.Version.HTTP_1_1, exec.getHttpVersion());
+      Assert.assertEquals(Optional.of(Duration.ofMillis(1500L)), exec.getConnectTimeout());
+    } finally {
+      exec.dispose();
+    }
+  }
+  
+  @Test
+  public void testPreconnect() throws Exception {
+    Future<Void> connected = executor.preconnect(getServerUrl() + "/ping");
+    MockHttpRequest mockRequest = mockHttpServer.popRequest(TIMEOUT);
+    Assert.assertEquals(HttpMethod.HEAD, mockRequest.getHttpRequest().getHttpMethod());
+    Assert.assertEquals(getServerUrl() + "/ping", mockRequest.getHttpRequest().getUrl());
+    // Any status means connection is established
+    HttpResponse response = new HttpResponse();
+    response.setResponseCode(HttpStatus.NOT_FOUND_404.getStatusCode());
+    mockRequest.complete(response);
+    connected.get(TIMEOUT, TimeUnit.MILLISECONDS);
+  }
+  
+  @Test
+  public void testPreconnect_ConnectionRefused() throws Exception {
+    mockHttpServer.stop();
+    try {
+      executor.preconnect(getServerUrl() + "/ping").get(TIMEOUT, TimeUnit.MILLISECONDS);
+      Assert.fail("Expected ExecutionException");
+    } catch (ExecutionException e) {
+      // Expected
+    }
+  }
+  
+  @Test
+  public void testPreconnect_MalformedUrl() throws Exception {
+    Assert.assertTrue(executor.preconnect("foo bar").isCompletedExceptionally());
+  }
+  
   @Test
   public void testCreateJavaNetHttpClientExecutorService() throws Exception {
     String threadNamePrefix = "TestThread-";
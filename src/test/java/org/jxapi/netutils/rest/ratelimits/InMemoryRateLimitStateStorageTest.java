@@ -0,0 +1,25 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InMemoryRateLimitStateStorage}
+ */
+public class InMemoryRateLimitStateStorageTest {
+
+  @Test
+  public void testOperations() {
+    InMemoryRateLimitStateStorage storage = new InMemoryRateLimitStateStorage(new long[] {1L, 2L});
+    Assert.assertEquals(2, storage.size());
+    Assert.assertFalse(storage.isShared());
+    Assert.assertEquals(1L, storage.get(0));
+    storage.set(0, 10L);
+    Assert.assertEquals(10L, storage.get(0));
+    Assert.assertFalse(storage.compareAndSet(0, 1L, 20L));
+    Assert.assertTrue(storage.compareAndSet(0, 10L, 20L));
+    Assert.assertEquals(20L, storage.getAndSet(0, 30L));
+    Assert.assertEquals(7L, storage.addAndGet(1, 5L));
+    Assert.assertEquals(30L, storage.get(0));
+  }
+}
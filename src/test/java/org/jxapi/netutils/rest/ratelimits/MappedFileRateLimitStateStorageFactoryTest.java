@@ -0,0 +1,63 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jxapi.generator.java.JavaCodeGenUtil;
+
+/**
+ * Unit test for {@link MappedFileRateLimitStateStorageFactory}
+ */
+public class MappedFileRateLimitStateStorageFactoryTest {
+  
+  private Path tempDir;
+
+  @Before
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("ratelimits");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    JavaCodeGenUtil.deletePath(tempDir);
+  }
+
+  @Test
+  public void testGetters() {
+    MappedFileRateLimitStateStorageFactory factory = new MappedFileRateLimitStateStorageFactory(tempDir, "myKey");
+    Assert.assertEquals(tempDir, factory.getDirectory());
+    Assert.assertEquals("myKey", factory.getKey());
+  }
+  
+  @Test
+  public void testGetFile() {
+    MappedFileRateLimitStateStorageFactory factory = new MappedFileRateLimitStateStorageFactory(tempDir, "my/Key");
+    Assert.assertEquals(tempDir.resolve("my_Key-RULE_1-1f.ratelimit"), factory.getFile("RULE 1", 31L));
+  }
+  
+  @Test
+  public void testCreateWithDistinctSignaturesUsesDistinctFiles() {
+    MappedFileRateLimitStateStorageFactory factory = new MappedFileRateLimitStateStorageFactory(tempDir, "myKey");
+    RateLimitStateStorage storage1 = factory.create("RULE", 1L, new long[] {1L});
+    storage1.set(0, 10L);
+    RateLimitStateStorage storage2 = factory.create("RULE", 2L, new long[] {2L, 3L});
+    // Process using former layout keeps its state
+    Assert.assertEquals(10L, storage1.get(0));
+    Assert.assertEquals(2L, storage2.get(0));
+    Assert.assertEquals(10L, factory.create("RULE", 1L, new long[] {1L}).get(0));
+  }
+  
+  @Test
+  public void testCreate() {
+    MappedFileRateLimitStateStorageFactory factory = new MappedFileRateLimitStateStorageFactory(tempDir, "myKey");
+    RateLimitStateStorage storage = factory.create("RULE", 1L, new long[] {1L});
+    Assert.assertTrue(storage instanceof MappedFileRateLimitStateStorage);
+    Assert.assertEquals(factory.getFile("RULE", 1L), ((MappedFileRateLimitStateStorage) storage).getFile());
+    Assert.assertEquals(1L, storage.get(0));
+  }
+}
@@ -0,0 +1,104 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jxapi.generator.java.JavaCodeGenUtil;
+
+/**
+ * Unit test for {@link MappedFileRateLimitStateStorage}
+ */
+public class MappedFileRateLimitStateStorageTest {
+  
+  private Path tempDir;
+
+  @Before
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("ratelimits");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    JavaCodeGenUtil.deletePath(tempDir);
+  }
+
+  @Test
+  public void testOperations() {
+    Path file = tempDir.resolve("sub").resolve("test.ratelimit");
+    MappedFileRateLimitStateStorage storage = MappedFileRateLimitStateStorage.open(file, 1L, new long[] {1L, 2L});
+    Assert.assertTrue(Files.exists(file));
+    Assert.assertEquals(file, storage.getFile());
+    Assert.assertEquals(2, storage.size());
+    Assert.assertTrue(storage.isShared());
+    Assert.assertEquals(1L, storage.get(0));
+    storage.set(0, 10L);
+    Assert.assertEquals(10L, storage.get(0));
+    Assert.assertFalse(storage.compareAndSet(0, 1L, 20L));
+    Assert.assertTrue(storage.compareAndSet(0, 10L, 20L));
+    Assert.assertEquals(20L, storage.getAndSet(0, 30L));
+    Assert.assertEquals(7L, storage.addAndGet(1, 5L));
+    Assert.assertEquals(30L, storage.get(0));
+  }
+  
+  @Test
+  public void testClose() {
+    Path file = tempDir.resolve("test.ratelimit");
+    MappedFileRateLimitStateStorage storage = MappedFileRateLimitStateStorage.open(file, 1L, new long[] {1L, 2L});
+    Assert.assertFalse(storage.isClosed());
+    storage.close();
+    Assert.assertTrue(storage.isClosed());
+    Assert.assertThrows(IllegalStateException.class, () -> storage.get(0));
+    Assert.assertThrows(IllegalStateException.class, () -> storage.addAndGet(1, 1L));
+    // State is kept in file
+    Assert.assertEquals(2L, MappedFileRateLimitStateStorage.open(file, 1L, new long[] {1L, 2L}).get(1));
+  }
+  
+  @Test
+  public void testStateIsSharedBetweenMappings() {
+    Path file = tempDir.resolve("test.ratelimit");
+    MappedFileRateLimitStateStorage storage1 = MappedFileRateLimitStateStorage.open(file, 1L, new long[] {1L, 2L});
+    storage1.set(0, 10L);
+    MappedFileRateLimitStateStorage storage2 = MappedFileRateLimitStateStorage.open(file, 1L, new long[] {1L, 2L});
+    Assert.assertEquals(10L, storage2.get(0));
+    storage2.addAndGet(1, 3L);
+    Assert.assertEquals(5L, storage1.get(1));
+  }
+  
+  @Test
+  public void testStateIsResetWhenSignatureOrSizeChanges() {
+    Path file = tempDir.resolve("test.ratelimit");
+    MappedFileRateLimitStateStorage storage = MappedFileRateLimitStateStorage.open(file, 1L, new long[] {1L, 2L});
+    storage.set(0, 10L);
+    storage = MappedFileRateLimitStateStorage.open(file, 2L, new long[] {1L, 2L});
+    Assert.assertEquals(1L, storage.get(0));
+    storage.set(0, 10L);
+    storage = MappedFileRateLimitStateStorage.open(file, 2L, new long[] {3L, 4L, 5L});
+    Assert.assertEquals(3, storage.size());
+    Assert.assertEquals(3L, storage.get(0));
+    Assert.assertEquals(5L, storage.get(2));
+  }
+  
+  @Test
+  public void testAbortedInitializationIsTakenOver() throws IOException {
+    Path file = tempDir.resolve("test.ratelimit");
+    // Simulate a process killed while initializing file long ago
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      ByteBuffer header = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder());
+      header.putLong(System.currentTimeMillis() - 2 * MappedFileRateLimitStateStorage.INITIALIZATION_TIMEOUT);
+      header.flip();
+      channel.write(header);
+    }
+    MappedFileRateLimitStateStorage storage = MappedFileRateLimitStateStorage.open(file, 1L, new long[] {1L, 2L});
+    Assert.assertEquals(1L, storage.get(0));
+    Assert.assertEquals(2L, storage.get(1));
+  }
+}
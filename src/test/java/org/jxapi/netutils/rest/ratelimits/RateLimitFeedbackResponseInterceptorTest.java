@@ -0,0 +1,66 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jxapi.netutils.rest.HttpRequest;
+import org.jxapi.netutils.rest.HttpResponse;
+import org.jxapi.netutils.rest.HttpResponseInterceptor;
+
+/**
+ * Unit test for {@link RateLimitFeedbackResponseInterceptor}
+ */
+public class RateLimitFeedbackResponseInterceptorTest {
+  
+  private RequestThrottler throttler;
+  
+  @Before
+  public void setUp() {
+    throttler = new RequestThrottler("myApi");
+  }
+
+  @After
+  public void tearDown() {
+    throttler.dispose();
+  }
+  
+  @Test
+  public void testInterceptFeedsThrottlerThenDelegates() {
+    List<HttpResponse> intercepted = new ArrayList<>();
+    HttpResponseInterceptor delegate = intercepted::add;
+    RateLimitFeedbackResponseInterceptor interceptor = new RateLimitFeedbackResponseInterceptor(throttler, delegate);
+    Assert.assertSame(throttler, interceptor.getThrottler());
+    Assert.assertSame(delegate, interceptor.getDelegate());
+    
+    RateLimitRule rule = RateLimitRule.createRule("RULE", 60000L, 10);
+    HttpRequest request = new HttpRequest();
+    request.setRateLimits(List.of(rule));
+    HttpResponse response = new HttpResponse();
+    response.setRequest(request);
+    response.setResponseCode(429);
+    response.setHeader(RequestThrottler.RETRY_AFTER_HEADER, List.of("30"));
+    interceptor.intercept(response);
+    
+    Assert.assertEquals(List.of(response), intercepted);
+    // Rule is paused: next request is rejected
+    throttler.setThrottlingMode(RequestThrottlingMode.BLOCK);
+    HttpRequest next = new HttpRequest();
+    next.setRateLimits(List.of(rule));
+    Assert.assertEquals(429, throttler.submit(next, r -> {
+      throw new AssertionError("Request should not be sent");
+    }).getNow(null).getResponseCode());
+  }
+  
+  @Test
+  public void testInterceptWithoutDelegate() {
+    RateLimitFeedbackResponseInterceptor interceptor = new RateLimitFeedbackResponseInterceptor(throttler, null);
+    Assert.assertNull(interceptor.getDelegate());
+    HttpResponse response = new HttpResponse();
+    interceptor.intercept(response);
+  }
+
+}
@@ -0,0 +1,186 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.function.LongUnaryOperator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jxapi.util.PropertiesUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares performances of {@link RateLimitManager} with former implementation
+ * relying on a {@link TreeMap} of time slots, see
+ * {@link TreeMapRateLimitManager}.<br>
+ * Each iteration submits a number of calls with simulated timestamps, 1ms
+ * apart, to a 1 minute rule with 10ms granularity, allowing roughly half of
+ * them, so time frame is always full of slots and both admission and rejection
+ * paths are measured.<br>
+ * This is a snippet with main method to run it. The number of calls and
+ * iterations can be configured using system properties, see
+ * {@link #NB_CALLS}, {@link #ITERATIONS}.<br>
+ * Actual slf4j logger implementation should be configured using INFO threshold.
+ */
+public class RateLimitManagerLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(RateLimitManagerLoadTest.class);
+
+  /**
+   * Number of calls submitted in each iteration, can be tuned using system
+   * property <code>jxapi.rateLimitManager.loadTest.callCount</code>
+   */
+  public static final int NB_CALLS = PropertiesUtil.getInt(System.getProperties(), "jxapi.rateLimitManager.loadTest.callCount", 1000000);
+
+  /**
+   * Number of iterations, can be tuned using system property
+   * <code>jxapi.rateLimitManager.loadTest.iterations</code>
+   */
+  public static final int ITERATIONS = PropertiesUtil.getInt(System.getProperties(), "jxapi.rateLimitManager.loadTest.iterations", 10);
+
+  private static final long TIME_FRAME = 60000L;
+
+  private static final int MAX_REQUEST_COUNT = 30000;
+
+  private static final int GRANULARITY = 10;
+
+  /**
+   * Runs load test against {@link RateLimitManager} and former
+   * {@link TreeMapRateLimitManager} implementation.
+   *
+   * @param nbCalls    number of calls submitted in each iteration
+   * @param iterations number of iterations
+   */
+  public void runTest(int nbCalls, int iterations) {
+    long ringBufferTime = 0L;
+    long treeMapTime = 0L;
+    for (int i = 0; i < iterations; i++) {
+      RateLimitManager manager = new RateLimitManager(createRule());
+      long[] ringBufferResult = run(nbCalls, now -> manager.requestCall(now, 0));
+      TreeMapRateLimitManager legacy = new TreeMapRateLimitManager(createRule());
+      long[] treeMapResult = run(nbCalls, now -> legacy.requestCall(now, 0));
+      Assert.assertEquals("Both implementations should accept same count of calls", treeMapResult[0], ringBufferResult[0]);
+      // First iteration is a warm up
+      if (i > 0 || iterations == 1) {
+        ringBufferTime += ringBufferResult[1];
+        treeMapTime += treeMapResult[1];
+      }
+    }
+    int measured = Math.max(1, iterations - 1);
+    log.info("Average time per call over {} iterations of {} calls: ring buffer:{}ns, tree map:{}ns",
+             measured,
+             nbCalls,
+             String.format("%.1f", (double) ringBufferTime / measured / nbCalls),
+             String.format("%.1f", (double) treeMapTime / measured / nbCalls));
+  }
+
+  private static RateLimitRule createRule() {
+    RateLimitRule rule = RateLimitRule.createRule("LOADTEST", TIME_FRAME, MAX_REQUEST_COUNT);
+    rule.setGranularity(GRANULARITY);
+    return rule;
+  }
+
+  private static long[] run(int nbCalls, LongUnaryOperator requestCall) {
+    long accepted = 0L;
+    long start = System.nanoTime();
+    for (int i = 0; i < nbCalls; i++) {
+      if (requestCall.applyAsLong(i) == 0L) {
+        accepted++;
+      }
+    }
+    return new long[] {accepted, System.nanoTime() - start};
+  }
+
+  @Test
+  public void testLoadTest() {
+    runTest(20000, 2);
+  }
+
+  public static void main(String[] args) {
+    try {
+      new RateLimitManagerLoadTest().runTest(NB_CALLS, ITERATIONS);
+      log.info("DONE");
+    } catch (Throwable t) {
+      log.error("Error raised", t);
+      System.exit(-1);
+    }
+    System.exit(0);
+  }
+
+  /**
+   * Former {@link RateLimitManager} implementation, keeping time slots in a
+   * {@link TreeMap} purged and summed up upon every call. Kept as reference for
+   * comparison.
+   */
+  public static class TreeMapRateLimitManager {
+
+    private final RateLimitRule rateLimit;
+
+    private final TreeMap<Long, TimeStat> timeStats = new TreeMap<>();
+
+    /**
+     * @param limit the rate limit rule to enforce.
+     */
+    public TreeMapRateLimitManager(RateLimitRule limit) {
+      this.rateLimit = limit;
+    }
+
+    /**
+     * @param now    the current time in ms.
+     * @param weight the weight of request to send.
+     * @return 0 if request can be sent immediately, a delay in ms to wait before
+     *         retrying otherwise.
+     */
+    public long requestCall(long now, int weight) {
+      now = now - now % rateLimit.getGranularity();
+      long minDelayBeforeNextPossibleCall = getMinDelayBeforeNextPossibleCall(now, weight);
+      if (minDelayBeforeNextPossibleCall <= 0) {
+        TimeStat mss = timeStats.computeIfAbsent(now, t -> new TimeStat());
+        mss.requestCount++;
+        mss.totalWeight += weight;
+      }
+      return minDelayBeforeNextPossibleCall;
+    }
+
+    private long getMinDelayBeforeNextPossibleCall(long now, int weight) {
+      RateLimitManagerStat curStat = getCurrentStat(now);
+      if (RateLimitManager.isLimitReached(rateLimit, curStat.getRequestCount() + 1, curStat.getTotalWeight() + weight)) {
+        int granularity = rateLimit.getGranularity();
+        long oldestCallWithinTimeFrame = timeStats.firstEntry().getKey().longValue() + granularity;
+        long timeElapsedSinceOldestCallWithinTimeFrame = now - oldestCallWithinTimeFrame;
+        return Math.max(granularity, rateLimit.getTimeFrame()) - timeElapsedSinceOldestCallWithinTimeFrame;
+      }
+      return 0L;
+    }
+
+    private RateLimitManagerStat getCurrentStat(long now) {
+      purge(now);
+      RateLimitManagerStat stat = new RateLimitManagerStat();
+      stat.setTime(now);
+      timeStats.forEach((time, mss) -> {
+        stat.setRequestCount(stat.getRequestCount() + mss.requestCount);
+        stat.setTotalWeight(stat.getTotalWeight() + mss.totalWeight);
+      });
+      return stat;
+    }
+
+    private void purge(long now) {
+      long oldestTime = now - rateLimit.getTimeFrame();
+      for (Iterator<Entry<Long, TimeStat>> it = timeStats.entrySet().iterator(); it.hasNext();) {
+        Entry<Long, TimeStat> entry = it.next();
+        if (entry.getKey() < oldestTime) {
+          it.remove();
+        } else {
+          break;
+        }
+      }
+    }
+
+    private static class TimeStat {
+      int requestCount;
+      int totalWeight;
+    }
+  }
+}
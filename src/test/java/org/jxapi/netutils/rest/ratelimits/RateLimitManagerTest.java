@@ -1,7 +1,16 @@
 package org.jxapi.netutils.rest.ratelimits;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Assert;
 import org.junit.Test;
+import org.jxapi.generator.java.JavaCodeGenUtil;
 
 /**
  * Unit test for {@link RateLimitManager}
@@ -149,4 +158,240 @@ public class RateLimitManagerTest {
     Assert.assertTrue("Unexpected time:" + time + " should be around:" + now, 
               time >= min && time < max);
   }
+  
+  @Test
+  public void testRequestCallAfterIdlePeriodLongerThanTimeFrame() {
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 2));
+    manager.getRule().setGranularity(10);
+    Assert.assertEquals(0L, manager.requestCall(0L, 0));
+    Assert.assertEquals(0L, manager.requestCall(30L, 0));
+    Assert.assertEquals(0L, manager.requestCall(10000L, 0));
+    Assert.assertEquals(0L, manager.requestCall(10005L, 0));
+    Assert.assertEquals(110L, manager.requestCall(10009L, 0));
+  }
+  
+  @Test
+  public void testRequestCallOlderThanLatestCallIsCountedInLatestSlot() {
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 2));
+    manager.getRule().setGranularity(1);
+    Assert.assertEquals(0L, manager.requestCall(50L, 0));
+    Assert.assertEquals(0L, manager.requestCall(10L, 0));
+    Assert.assertEquals(0L, manager.requestCall(151L, 0));
+  }
+  
+  @Test
+  public void testGetMinDelayBeforeNextPossibleCallDoesNotCountCall() {
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 1));
+    manager.getRule().setGranularity(1);
+    Assert.assertEquals(0L, manager.getMinDelayBeforeNextPossibleCall(0L, 0));
+    Assert.assertEquals(0L, manager.requestCall(0L, 0));
+    Assert.assertEquals(101L, manager.getMinDelayBeforeNextPossibleCall(0L, 0));
+  }
+  
+  @Test
+  public void testRuleTimeFrameChangeResetsState() {
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 1));
+    manager.getRule().setGranularity(1);
+    Assert.assertEquals(0L, manager.requestCall(0L, 0));
+    manager.getRule().setTimeFrame(200L);
+    Assert.assertEquals(0L, manager.requestCall(1L, 0));
+    Assert.assertEquals(200L, manager.requestCall(2L, 0));
+  }
+  
+  @Test
+  public void testLongTimeFrameUsesCoarserSlots() {
+    long oneDay = 24L * 3600L * 1000L;
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createRule("MYRULE", oneDay, 2));
+    Assert.assertEquals(0L, manager.requestCall(0L, 0));
+    Assert.assertEquals(0L, manager.requestCall(1L, 0));
+    long delay = manager.requestCall(2L, 0);
+    // Delay is rounded up to slot width, conservatively
+    Assert.assertTrue("Unexpected delay:" + delay, delay > oneDay && delay <= oneDay + 2 * oneDay / (RateLimitManager.MAX_SLOT_COUNT - 1));
+    Assert.assertEquals(0L, manager.requestCall(delay + 2L, 0));
+  }
+  
+  @Test
+  public void testCancelCall() {
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createWeightedRule("MYRULE", 100L, 100));
+    manager.getRule().setGranularity(1);
+    Assert.assertEquals(0L, manager.requestCall(0L, 60));
+    long callToken = manager.acquireCall(10L, 40, 1.0);
+    Assert.assertTrue(callToken < 0L);
+    manager.cancelCall(callToken, 40);
+    callToken = manager.acquireCall(20L, 40, 1.0);
+    Assert.assertTrue(callToken < 0L);
+    Assert.assertEquals(20L, manager.requestCall(81L, 1));
+    // Slot of cancelled call no longer within time frame: nothing is cancelled
+    Assert.assertEquals(0L, manager.requestCall(121L, 60));
+    manager.cancelCall(callToken, 40);
+    Assert.assertTrue(manager.requestCall(121L, 41) > 0L);
+  }
+  
+  @Test
+  public void testCancelCallCountedInLaterSlot() {
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createWeightedRule("MYRULE", 100L, 100));
+    manager.getRule().setGranularity(1);
+    Assert.assertEquals(0L, manager.requestCall(50L, 30));
+    Assert.assertEquals(0L, manager.requestCall(60L, 30));
+    // Window already advanced to slot 60: call is counted in that slot, not in slot 55
+    long callToken = manager.acquireCall(55L, 40, 1.0);
+    Assert.assertTrue(callToken < 0L);
+    manager.cancelCall(callToken, 40);
+    // Only call at 60 is still within time frame
+    Assert.assertEquals(0L, manager.requestCall(151L, 70));
+    Assert.assertEquals(10L, manager.requestCall(151L, 1));
+  }
+  
+  @Test(expected = IllegalArgumentException.class)
+  public void testCancelCallWithInvalidToken() {
+    new RateLimitManager(RateLimitRule.createWeightedRule("MYRULE", 100L, 100)).cancelCall(0L, 1);
+  }
+  
+  @Test
+  public void testRequestCallWithCapacityRatio() {
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 10));
+    manager.getRule().setGranularity(1);
+    for (int i = 0; i < 7; i++) {
+      Assert.assertEquals(0L, manager.requestCall(i, 0, 0.75));
+    }
+    Assert.assertEquals(94L, manager.requestCall(7L, 0, 0.75));
+    Assert.assertEquals(94L, manager.getMinDelayBeforeNextPossibleCall(7L, 0, 0.75));
+    Assert.assertEquals(0L, manager.getMinDelayBeforeNextPossibleCall(7L, 0, 1.0));
+    Assert.assertEquals(0L, manager.requestCall(7L, 0));
+    
+    RateLimitRule weighted = RateLimitRule.createWeightedRule("WEIGHTED", 100L, 100);
+    Assert.assertTrue(RateLimitManager.isLimitReached(weighted, 2, 70, 10, 0.5));
+    Assert.assertFalse(RateLimitManager.isLimitReached(weighted, 1, 50, 10, 0.5));
+    // Reduced capacity never prevents a single request from being sent
+    Assert.assertFalse(RateLimitManager.isLimitReached(weighted, 1, 60, 60, 0.1));
+    Assert.assertFalse(RateLimitManager.isLimitReached(RateLimitRule.createRule("COUNT", 100L, 1), 1, 0, 0, 0.1));
+    Assert.assertTrue(RateLimitManager.isLimitReached(RateLimitRule.createRule("COUNT", 100L, 1), 2, 0, 0, 0.1));
+  }
+  
+  @Test
+  public void testSyncUsage() {
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 10));
+    manager.getRule().setGranularity(1);
+    Assert.assertEquals(0L, manager.requestCall(0L, 0));
+    // Server reports 9 calls, 8 of them sent by someone else
+    manager.syncUsage(10L, 9);
+    Assert.assertEquals(0L, manager.requestCall(11L, 0));
+    Assert.assertEquals(89L, manager.requestCall(12L, 0));
+    // Lower reported usage is ignored
+    manager.syncUsage(12L, 1);
+    Assert.assertEquals(89L, manager.getMinDelayBeforeNextPossibleCall(12L, 0));
+  }
+  
+  @Test
+  public void testSyncUsageWeighted() {
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createWeightedRule("MYRULE", 100L, 100));
+    manager.getRule().setGranularity(1);
+    Assert.assertEquals(0L, manager.requestCall(0L, 10));
+    manager.syncUsage(5L, 95);
+    Assert.assertEquals(0L, manager.getMinDelayBeforeNextPossibleCall(6L, 5));
+    Assert.assertEquals(95L, manager.getMinDelayBeforeNextPossibleCall(6L, 6));
+  }
+  
+  @Test
+  public void testPauseUntil() {
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 10));
+    Assert.assertEquals(Long.MIN_VALUE, manager.getPausedUntil());
+    manager.pauseUntil(1000L);
+    // Pause can only be extended
+    manager.pauseUntil(500L);
+    Assert.assertEquals(1000L, manager.getPausedUntil());
+    Assert.assertEquals(900L, manager.getMinDelayBeforeNextPossibleCall(100L, 0));
+    Assert.assertEquals(900L, manager.requestCall(100L, 0));
+    Assert.assertEquals(0L, manager.requestCall(1000L, 0));
+  }
+  
+  @Test
+  public void testStoragesClosedOnClose() {
+    List<AtomicInteger> closeCounts = new ArrayList<>();
+    RateLimitStateStorageFactory factory = (ruleId, signature, initialState) -> {
+      AtomicInteger closeCount = new AtomicInteger();
+      closeCounts.add(closeCount);
+      return new InMemoryRateLimitStateStorage(initialState) {
+        @Override
+        public void close() {
+          closeCount.incrementAndGet();
+        }
+      };
+    };
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 3), factory);
+    manager.close();
+    Assert.assertTrue(closeCounts.isEmpty());
+    Assert.assertEquals(0L, manager.requestCall(0L, 0));
+    Assert.assertEquals(1, closeCounts.size());
+    manager.getRule().setTimeFrame(200L);
+    Assert.assertEquals(0L, manager.requestCall(0L, 0));
+    Assert.assertEquals(2, closeCounts.size());
+    // Former storage may still be used by other threads until manager is closed
+    Assert.assertEquals(0, closeCounts.get(0).get());
+    Assert.assertEquals(0, closeCounts.get(1).get());
+    manager.close();
+    Assert.assertEquals(1, closeCounts.get(0).get());
+    Assert.assertEquals(1, closeCounts.get(1).get());
+  }
+  
+  @Test
+  public void testManagersWithSharedStorageShareBudget() throws IOException {
+    Path tempDir = Files.createTempDirectory("ratelimits");
+    try {
+      RateLimitManager manager1 = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 3), 
+                                                       new MappedFileRateLimitStateStorageFactory(tempDir, "key"));
+      RateLimitManager manager2 = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 3), 
+                                                       new MappedFileRateLimitStateStorageFactory(tempDir, "key"));
+      RateLimitManager otherKeyManager = new RateLimitManager(RateLimitRule.createRule("MYRULE", 100L, 3), 
+                                                              new MappedFileRateLimitStateStorageFactory(tempDir, "otherKey"));
+      manager1.getRule().setGranularity(1);
+      manager2.getRule().setGranularity(1);
+      otherKeyManager.getRule().setGranularity(1);
+      Assert.assertEquals(0L, manager1.requestCall(0L, 0));
+      Assert.assertEquals(0L, manager2.requestCall(1L, 0));
+      Assert.assertEquals(0L, manager1.requestCall(2L, 0));
+      Assert.assertEquals(98L, manager2.requestCall(3L, 0));
+      Assert.assertEquals(98L, manager1.requestCall(3L, 0));
+      Assert.assertEquals(0L, otherKeyManager.requestCall(3L, 0));
+      
+      manager1.pauseUntil(1000L);
+      Assert.assertEquals(1000L, manager2.getPausedUntil());
+      Assert.assertEquals(500L, manager2.requestCall(500L, 0));
+    } finally {
+      JavaCodeGenUtil.deletePath(tempDir);
+    }
+  }
+  
+  @Test
+  public void testConcurrentRequestCallsNeverExceedLimit() throws InterruptedException {
+    int maxRequestCount = 1000;
+    RateLimitManager manager = new RateLimitManager(RateLimitRule.createRule("MYRULE", 60000L, maxRequestCount));
+    int threadCount = 8;
+    AtomicInteger accepted = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      Thread t = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for (int j = 0; j < maxRequestCount; j++) {
+          if (manager.requestCall(1000L, 0) == 0L) {
+            accepted.incrementAndGet();
+          }
+        }
+      });
+      threads.add(t);
+      t.start();
+    }
+    start.countDown();
+    for (Thread t : threads) {
+      t.join();
+    }
+    Assert.assertEquals(maxRequestCount, accepted.get());
+    Assert.assertTrue(manager.requestCall(1000L, 0) > 0L);
+  }
 }
@@ -59,6 +59,8 @@ public class RateLimitRuleTest {
           .maxRequestCount(100)
           .maxTotalWeight(1000)
           .granularity(20)
+          .usedHeader("X-Used")
+          .remainingHeader("X-Remaining")
           .build();
 
       rule = RateLimitRule.fromDescriptor(descriptor);
@@ -67,6 +69,8 @@ public class RateLimitRuleTest {
       Assert.assertEquals(100, rule.getMaxRequestCount());
       Assert.assertEquals(1000, rule.getMaxTotalWeight());
       Assert.assertEquals(20, rule.getGranularity());
+      Assert.assertEquals("X-Used", rule.getUsedHeader());
+      Assert.assertEquals("X-Remaining", rule.getRemainingHeader());
     }
     
     @Test
@@ -106,6 +110,16 @@ public class RateLimitRuleTest {
         Assert.assertEquals("RateLimitRule{\"id\":\"id\",\"timeFrame\":1000,\"maxRequestCount\":100,\"maxTotalWeight\":1000,\"granularity\":10}", rule.toString());
     }
     
+    @Test
+    public void testWithUsageHeaders() {
+      RateLimitRule rule = RateLimitRule.createRule("id", 1000, 10);
+      Assert.assertNull(rule.getUsedHeader());
+      Assert.assertNull(rule.getRemainingHeader());
+      Assert.assertSame(rule, rule.withUsageHeaders("X-Used", "X-Remaining"));
+      Assert.assertEquals("X-Used", rule.getUsedHeader());
+      Assert.assertEquals("X-Remaining", rule.getRemainingHeader());
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void testSetGranularityNegativeThrows() {
       RateLimitRule rule = new RateLimitRule();
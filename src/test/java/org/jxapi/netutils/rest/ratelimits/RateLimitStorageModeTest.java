@@ -0,0 +1,22 @@
+package org.jxapi.netutils.rest.ratelimits;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RateLimitStorageMode}
+ */
+public class RateLimitStorageModeTest {
+
+  @Test
+  public void testCreateStorageFactory() {
+    Path directory = Paths.get("target", "ratelimits");
+    Assert.assertSame(RateLimitStateStorageFactory.IN_MEMORY, RateLimitStorageMode.MEMORY.createStorageFactory(directory, "key"));
+    MappedFileRateLimitStateStorageFactory factory = (MappedFileRateLimitStateStorageFactory) RateLimitStorageMode.MAPPED_FILE.createStorageFactory(directory, "key");
+    Assert.assertEquals(directory, factory.getDirectory());
+    Assert.assertEquals("key", factory.getKey());
+  }
+}
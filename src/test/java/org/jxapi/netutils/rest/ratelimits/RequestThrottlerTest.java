@@ -1,7 +1,9 @@
 package org.jxapi.netutils.rest.ratelimits;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -15,6 +17,9 @@ import org.junit.Test;
 import org.jxapi.netutils.rest.FutureHttpResponse;
 import org.jxapi.netutils.rest.HttpRequest;
 import org.jxapi.netutils.rest.HttpResponse;
+import org.jxapi.netutils.rest.RequestPriority;
+import org.jxapi.util.ExecutorFactory;
+import org.jxapi.util.SharedExecutorFactory;
 
 /**
  * Unit test for {@link RequestThrottler}
@@ -47,6 +52,88 @@ public class RequestThrottlerTest {
     Assert.assertEquals("myApi", throttler.getApiName());
   }
   
+  @Test
+  public void testGetStorageFactory() {
+    Assert.assertSame(RateLimitStateStorageFactory.IN_MEMORY, throttler.getStorageFactory());
+    RateLimitStateStorageFactory factory = (ruleId, signature, initialState) -> new InMemoryRateLimitStateStorage(initialState);
+    RequestThrottler throttler2 = new RequestThrottler("myApi", factory);
+    Assert.assertSame(factory, throttler2.getStorageFactory());
+    throttler2.dispose();
+  }
+  
+  @Test
+  public void testDisposeClosesStorages() throws InterruptedException, ExecutionException, TimeoutException {
+    List<RateLimitStateStorage> closed = new ArrayList<>();
+    RateLimitStateStorageFactory factory = (ruleId, signature, initialState) -> new InMemoryRateLimitStateStorage(initialState) {
+      @Override
+      public void close() {
+        closed.add(this);
+      }
+    };
+    RequestThrottler throttler2 = new RequestThrottler("myApi", factory);
+    RateLimitRule rule1 = RateLimitRule.createRule("RULE1", 1000L, 10);
+    RateLimitRule rule2 = RateLimitRule.createRule("RULE2", 1000L, 10);
+    checkCompletesIn(throttler2.submit(new HttpRequestStub(rule1, rule2), new RestEndpointStub()), 0L);
+    Assert.assertTrue(closed.isEmpty());
+    throttler2.dispose();
+    Assert.assertEquals(2, closed.size());
+  }
+  
+  @Test
+  public void testDisposeCompletesQueuedRequests() throws InterruptedException, ExecutionException, TimeoutException {
+    RestEndpointStub endpoint = new RestEndpointStub();
+    RateLimitRule rule = RateLimitRule.createRule("RULE", 10000L, 1);
+    checkCompletesIn(throttler.submit(new HttpRequestStub(rule), endpoint), 0L);
+    HttpRequestStub queuedRequest = new HttpRequestStub(rule);
+    FutureHttpResponse queued = throttler.submit(queuedRequest, endpoint);
+    Assert.assertFalse(queued.isDone());
+    throttler.dispose();
+    HttpResponse response = queued.get(1000L, TimeUnit.MILLISECONDS);
+    Assert.assertSame(queuedRequest, response.getRequest());
+    Assert.assertTrue(response.getException() instanceof IllegalStateException);
+  }
+  
+  @Test
+  public void testQueuedRequestFailureIsPropagated() throws InterruptedException, TimeoutException {
+    IllegalStateException failure = new IllegalStateException("Failed");
+    RestEndpointStub endpoint = new RestEndpointStub() {
+      @Override
+      public FutureHttpResponse apply(HttpRequest request) {
+        FutureHttpResponse response = new FutureHttpResponse();
+        response.completeExceptionally(failure);
+        return response;
+      }
+    };
+    RateLimitRule rule = RateLimitRule.createRule("RULE", 200L, 1);
+    throttler.submit(new HttpRequestStub(rule), endpoint);
+    FutureHttpResponse queued = throttler.submit(new HttpRequestStub(rule), endpoint);
+    Assert.assertFalse(queued.isDone());
+    try {
+      queued.get(5000L, TimeUnit.MILLISECONDS);
+      Assert.fail("Expected failure of queued request");
+    } catch (ExecutionException e) {
+      Assert.assertSame(failure, e.getCause());
+    }
+  }
+  
+  @Test
+  public void testSetExecutorFactory() {
+    Assert.assertSame(ExecutorFactory.PLATFORM, throttler.getExecutorFactory());
+    ExecutorFactory executorFactory = new SharedExecutorFactory(1);
+    throttler.setExecutorFactory(executorFactory);
+    Assert.assertSame(executorFactory, throttler.getExecutorFactory());
+  }
+  
+  @Test
+  public void testSubmitRequestsThrottledWithSharedExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+    throttler.setExecutorFactory(new SharedExecutorFactory(1));
+    RestEndpointStub endpoint = new RestEndpointStub();
+    RateLimitRule rule = RateLimitRule.createRule("RULE1", 200L, 1);
+    checkCompletesIn(throttler.submit(new HttpRequestStub(rule), endpoint), 0L);
+    long start = System.currentTimeMillis();
+    checkCompletesIn(throttler.submit(new HttpRequestStub(rule), endpoint), 200L, start);
+  }
+  
   @Test
   public void testGetApiName_nullByDefault() {
     RequestThrottler throttler2 = new RequestThrottler();
@@ -182,6 +269,317 @@ public class RequestThrottlerTest {
     throttler.submit(request, endpoint);
   }
   
+  @Test
+  public void testSubmitRequestThrottledByOneRuleIsNotCountedByOtherRules() throws InterruptedException, ExecutionException, TimeoutException {
+    RestEndpointStub endpoint = new RestEndpointStub();
+    RateLimitRule rule1 = RateLimitRule.createRule("RULE1", 1000L, 2);
+    RateLimitRule rule2 = RateLimitRule.createRule("RULE2", 1000L, 1);
+    checkCompletesIn(throttler.submit(new HttpRequestStub(rule1, rule2), endpoint), 0L);
+    long start = System.currentTimeMillis();
+    // Counted by rule1 then throttled by rule2: call is cancelled from rule1 
+    FutureHttpResponse response2 = throttler.submit(new HttpRequestStub(rule1, rule2), endpoint);
+    // So there is still room for this one
+    checkCompletesIn(throttler.submit(new HttpRequestStub(rule1), endpoint), 0L, start);
+    checkCompletesIn(response2, 1000L, start);
+  }
+  
+  @Test
+  public void testConcurrentSubmitsOnDistinctRules() throws InterruptedException, ExecutionException, TimeoutException {
+    RestEndpointStub endpoint = new RestEndpointStub();
+    throttler.setThrottlingMode(RequestThrottlingMode.BLOCK);
+    int threadCount = 4;
+    int requestsPerThread = 500;
+    RateLimitRule globalRule = RateLimitRule.createRule("GLOBAL", 60000L, threadCount * requestsPerThread);
+    List<List<FutureHttpResponse>> responses = new ArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    CountDownLatch start = new CountDownLatch(1);
+    for (int i = 0; i < threadCount; i++) {
+      RateLimitRule rule = RateLimitRule.createRule("RULE" + i, 60000L, requestsPerThread / 2);
+      List<FutureHttpResponse> threadResponses = new ArrayList<>();
+      responses.add(threadResponses);
+      Thread t = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for (int j = 0; j < requestsPerThread; j++) {
+          threadResponses.add(throttler.submit(new HttpRequestStub(rule, globalRule), endpoint));
+        }
+      });
+      threads.add(t);
+      t.start();
+    }
+    start.countDown();
+    for (Thread t : threads) {
+      t.join();
+    }
+    for (List<FutureHttpResponse> threadResponses : responses) {
+      int accepted = 0;
+      for (FutureHttpResponse response : threadResponses) {
+        if (response.get(5000L, TimeUnit.MILLISECONDS).getResponseCode() != 429) {
+          accepted++;
+        }
+      }
+      Assert.assertEquals(requestsPerThread / 2, accepted);
+    }
+    // Rejected requests are not counted by global rule
+    RateLimitRule otherRule = RateLimitRule.createRule("OTHER", 60000L, threadCount * requestsPerThread);
+    for (int i = 0; i < threadCount * requestsPerThread / 2; i++) {
+      Assert.assertNotEquals(429, throttler.submit(new HttpRequestStub(otherRule, globalRule), endpoint)
+                                          .get(5000L, TimeUnit.MILLISECONDS).getResponseCode());
+    }
+  }
+  
+  @Test
+  public void testLighterRequestDoesNotOvertakeQueuedHeavierOne() throws InterruptedException, ExecutionException, TimeoutException {
+    RestEndpointStub endpoint = new RestEndpointStub();
+    RateLimitRule rule = RateLimitRule.createWeightedRule("RULE", 1000L, 100);
+    HttpRequestStub request1 = new HttpRequestStub(rule);
+    request1.setWeight(90);
+    HttpRequestStub request2 = new HttpRequestStub(rule);
+    request2.setWeight(50);
+    HttpRequestStub request3 = new HttpRequestStub(rule);
+    request3.setWeight(5);
+    checkCompletesIn(throttler.submit(request1, endpoint), 0L);
+    long start = System.currentTimeMillis();
+    FutureHttpResponse response2 = throttler.submit(request2, endpoint);
+    // Request3 fits within limit but has to wait for request2 queued before
+    FutureHttpResponse response3 = throttler.submit(request3, endpoint);
+    Assert.assertEquals(2, throttler.getQueueDepth("RULE"));
+    Assert.assertEquals(0, throttler.getQueueDepth("UNKNOWN"));
+    Assert.assertEquals(2L, throttler.getQueueDepthHistogram().getCount());
+    Assert.assertEquals(2L, throttler.getQueueDepthHistogram().getMax());
+    checkCompletesIn(response2, 1000L, start);
+    checkCompletesIn(response3, 1000L, start);
+    Assert.assertTrue(response2.get().getTime().getTime() <= response3.get().getTime().getTime());
+    Assert.assertEquals(0, throttler.getQueueDepth("RULE"));
+    Assert.assertEquals(2L, throttler.getWaitTimeHistogram().getCount());
+    Assert.assertTrue(throttler.getWaitTimeHistogram().getMax() >= 500L);
+  }
+  
+  @Test
+  public void testQueuedRequestsAreSubmittedInOrder() throws InterruptedException, ExecutionException, TimeoutException {
+    List<HttpRequest> submitted = new ArrayList<>();
+    RestEndpointStub endpoint = new RestEndpointStub() {
+      @Override
+      public FutureHttpResponse apply(HttpRequest request) {
+        synchronized (submitted) {
+          submitted.add(request);
+        }
+        return super.apply(request);
+      }
+    };
+    RateLimitRule rule = RateLimitRule.createRule("RULE", 200L, 2);
+    List<HttpRequest> requests = new ArrayList<>();
+    List<FutureHttpResponse> responses = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      HttpRequestStub request = new HttpRequestStub(rule);
+      requests.add(request);
+      responses.add(throttler.submit(request, endpoint));
+    }
+    for (FutureHttpResponse response : responses) {
+      response.get(5000L, TimeUnit.MILLISECONDS);
+    }
+    Assert.assertEquals(requests, submitted);
+    Assert.assertEquals(6L, throttler.getWaitTimeHistogram().getCount());
+  }
+  
+  @Test
+  public void testRequestMovedToQueueOfOtherRuleKeepsArrivalOrder() throws InterruptedException, ExecutionException, TimeoutException {
+    List<HttpRequest> submitted = new ArrayList<>();
+    RestEndpointStub endpoint = new RestEndpointStub() {
+      @Override
+      public FutureHttpResponse apply(HttpRequest request) {
+        synchronized (submitted) {
+          submitted.add(request);
+        }
+        return super.apply(request);
+      }
+    };
+    RateLimitRule ruleA = RateLimitRule.createRule("RULE_A", 200L, 1);
+    RateLimitRule ruleB = RateLimitRule.createRule("RULE_B", 1000L, 2);
+    HttpRequestStub onlyB1 = new HttpRequestStub(ruleB);
+    HttpRequestStub both1 = new HttpRequestStub(ruleA, ruleB);
+    // Saturates rule A then waits in its queue
+    HttpRequestStub both2 = new HttpRequestStub(ruleA, ruleB);
+    // Saturates rule B then waits in its queue
+    HttpRequestStub onlyB2 = new HttpRequestStub(ruleB);
+    HttpRequestStub onlyB3 = new HttpRequestStub(ruleB);
+    List<FutureHttpResponse> responses = new ArrayList<>();
+    for (HttpRequest request : List.of(onlyB1, both1, both2, onlyB2, onlyB3)) {
+      responses.add(throttler.submit(request, endpoint));
+    }
+    Assert.assertEquals(1, throttler.getQueueDepth("RULE_A"));
+    Assert.assertEquals(2, throttler.getQueueDepth("RULE_B"));
+    for (FutureHttpResponse response : responses) {
+      response.get(5000L, TimeUnit.MILLISECONDS);
+    }
+    // Request woken up by rule A is moved to queue of rule B before requests submitted after it
+    Assert.assertEquals(List.of(onlyB1, both1, both2, onlyB2, onlyB3), submitted);
+  }
+
+  @Test
+  public void testHigherPriorityRequestOvertakesQueuedOnes()throws InterruptedException, ExecutionException, TimeoutException {
+    List<HttpRequest> submitted = new ArrayList<>();
+    RestEndpointStub endpoint = new RestEndpointStub() {
+      @Override
+      public FutureHttpResponse apply(HttpRequest request) {
+        synchronized (submitted) {
+          submitted.add(request);
+        }
+        return super.apply(request);
+      }
+    };
+    RateLimitRule rule = RateLimitRule.createRule("RULE", 300L, 1);
+    HttpRequestStub first = new HttpRequestStub(rule);
+    HttpRequestStub low = new HttpRequestStub(rule);
+    low.setPriority(RequestPriority.LOW);
+    HttpRequestStub normal1 = new HttpRequestStub(rule);
+    HttpRequestStub normal2 = new HttpRequestStub(rule);
+    HttpRequestStub high = new HttpRequestStub(rule);
+    high.setPriority(RequestPriority.HIGH);
+    List<FutureHttpResponse> responses = new ArrayList<>();
+    for (HttpRequest request : List.of(first, low, normal1, normal2, high)) {
+      responses.add(throttler.submit(request, endpoint));
+    }
+    Assert.assertEquals(4, throttler.getQueueDepth("RULE"));
+    Assert.assertEquals(1, throttler.getQueueDepth("RULE", RequestPriority.HIGH));
+    Assert.assertEquals(2, throttler.getQueueDepth("RULE", RequestPriority.NORMAL));
+    Assert.assertEquals(1, throttler.getQueueDepth("RULE", RequestPriority.LOW));
+    Assert.assertEquals(0, throttler.getQueueDepth("UNKNOWN", RequestPriority.LOW));
+    for (FutureHttpResponse response : responses) {
+      response.get(5000L, TimeUnit.MILLISECONDS);
+    }
+    Assert.assertEquals(List.of(first, high, normal1, normal2, low), submitted);
+  }
+  
+  @Test
+  public void testReservedCapacity() throws InterruptedException, ExecutionException, TimeoutException {
+    Assert.assertEquals(0.0, throttler.getReservedCapacity(RequestPriority.HIGH), 0.0);
+    throttler.setReservedCapacity(RequestPriority.HIGH, 0.2);
+    throttler.setReservedCapacity(RequestPriority.NORMAL, 0.3);
+    Assert.assertEquals(0.2, throttler.getReservedCapacity(RequestPriority.HIGH), 0.0);
+    Assert.assertEquals(0.3, throttler.getReservedCapacity(RequestPriority.NORMAL), 0.0);
+    throttler.setThrottlingMode(RequestThrottlingMode.BLOCK);
+    RestEndpointStub endpoint = new RestEndpointStub();
+    RateLimitRule rule = RateLimitRule.createRule("RULE", 60000L, 10);
+    // LOW requests can use 50% of capacity
+    for (int i = 0; i < 6; i++) {
+      HttpRequestStub request = new HttpRequestStub(rule);
+      request.setPriority(RequestPriority.LOW);
+      int expectedStatus = i < 5 ? 0 : 429;
+      Assert.assertEquals(expectedStatus, throttler.submit(request, endpoint).get(5000L, TimeUnit.MILLISECONDS).getResponseCode());
+    }
+    // NORMAL requests can use 80% of capacity
+    for (int i = 0; i < 4; i++) {
+      int expectedStatus = i < 3 ? 0 : 429;
+      Assert.assertEquals(expectedStatus, throttler.submit(new HttpRequestStub(rule), endpoint).get(5000L, TimeUnit.MILLISECONDS).getResponseCode());
+    }
+    // HIGH requests can use whole capacity
+    for (int i = 0; i < 3; i++) {
+      HttpRequestStub request = new HttpRequestStub(rule);
+      request.setPriority(RequestPriority.HIGH);
+      int expectedStatus = i < 2 ? 0 : 429;
+      Assert.assertEquals(expectedStatus, throttler.submit(request, endpoint).get(5000L, TimeUnit.MILLISECONDS).getResponseCode());
+    }
+  }
+  
+  @Test
+  public void testInvalidReservedCapacity() {
+    throttler.setReservedCapacity(RequestPriority.HIGH, 0.6);
+    try {
+      throttler.setReservedCapacity(RequestPriority.NORMAL, 0.4);
+      Assert.fail("Total reserved capacity should be lower than 1");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+    Assert.assertEquals(0.0, throttler.getReservedCapacity(RequestPriority.NORMAL), 0.0);
+    try {
+      throttler.setReservedCapacity(RequestPriority.LOW, -0.1);
+      Assert.fail("Negative reserved capacity should be rejected");
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+  
+  @Test
+  public void testHandleResponseSyncsUsageFromUsedHeader() throws InterruptedException, ExecutionException, TimeoutException {
+    throttler.setThrottlingMode(RequestThrottlingMode.BLOCK);
+    RestEndpointStub endpoint = new RestEndpointStub();
+    RateLimitRule rule = RateLimitRule.createWeightedRule("RULE", 60000L, 100).withUsageHeaders("X-Used-Weight", null);
+    HttpRequestStub request = new HttpRequestStub(rule);
+    request.setWeight(10);
+    HttpResponse response = throttler.submit(request, endpoint).get(5000L, TimeUnit.MILLISECONDS);
+    response.setHeader("x-used-weight", List.of("95"));
+    throttler.handleResponse(response);
+    request = new HttpRequestStub(rule);
+    request.setWeight(5);
+    Assert.assertEquals(0, throttler.submit(request, endpoint).get(5000L, TimeUnit.MILLISECONDS).getResponseCode());
+    request = new HttpRequestStub(rule);
+    request.setWeight(1);
+    Assert.assertEquals(429, throttler.submit(request, endpoint).get(5000L, TimeUnit.MILLISECONDS).getResponseCode());
+  }
+  
+  @Test
+  public void testHandleResponseSyncsUsageFromRemainingHeader() throws InterruptedException, ExecutionException, TimeoutException {
+    throttler.setThrottlingMode(RequestThrottlingMode.BLOCK);
+    RestEndpointStub endpoint = new RestEndpointStub();
+    RateLimitRule rule = RateLimitRule.createRule("RULE", 60000L, 10).withUsageHeaders(null, "X-Remaining");
+    HttpResponse response = throttler.submit(new HttpRequestStub(rule), endpoint).get(5000L, TimeUnit.MILLISECONDS);
+    response.setHeader("X-Remaining", List.of("1"));
+    throttler.handleResponse(response);
+    Assert.assertEquals(0, throttler.submit(new HttpRequestStub(rule), endpoint).get(5000L, TimeUnit.MILLISECONDS).getResponseCode());
+    Assert.assertEquals(429, throttler.submit(new HttpRequestStub(rule), endpoint).get(5000L, TimeUnit.MILLISECONDS).getResponseCode());
+  }
+  
+  @Test
+  public void testHandleResponseIgnoresInvalidUsageHeader() throws InterruptedException, ExecutionException, TimeoutException {
+    throttler.setThrottlingMode(RequestThrottlingMode.BLOCK);
+    RestEndpointStub endpoint = new RestEndpointStub();
+    RateLimitRule rule = RateLimitRule.createRule("RULE", 60000L, 2).withUsageHeaders("X-Used", null);
+    HttpResponse response = throttler.submit(new HttpRequestStub(rule), endpoint).get(5000L, TimeUnit.MILLISECONDS);
+    response.setHeader("X-Used", List.of("abc"));
+    throttler.handleResponse(response);
+    Assert.assertEquals(0, throttler.submit(new HttpRequestStub(rule), endpoint).get(5000L, TimeUnit.MILLISECONDS).getResponseCode());
+  }
+  
+  @Test
+  public void testHandleResponseTooManyRequestsPausesRuleUntilRetryAfter() throws InterruptedException, ExecutionException, TimeoutException {
+    RestEndpointStub endpoint = new RestEndpointStub();
+    RateLimitRule rule = RateLimitRule.createRule("RULE", 100L, 100);
+    HttpResponse response = throttler.submit(new HttpRequestStub(rule), endpoint).get(5000L, TimeUnit.MILLISECONDS);
+    response.setResponseCode(429);
+    response.setHeader(RequestThrottler.RETRY_AFTER_HEADER, List.of("1"));
+    long start = System.currentTimeMillis();
+    throttler.handleResponse(response);
+    checkCompletesIn(throttler.submit(new HttpRequestStub(rule), endpoint), 1000L, start);
+  }
+  
+  @Test
+  public void testHandleResponseRetryAfterIgnoredForSuccessfulResponse() throws InterruptedException, ExecutionException, TimeoutException {
+    RestEndpointStub endpoint = new RestEndpointStub();
+    RateLimitRule rule = RateLimitRule.createRule("RULE", 100L, 100);
+    HttpResponse response = throttler.submit(new HttpRequestStub(rule), endpoint).get(5000L, TimeUnit.MILLISECONDS);
+    response.setResponseCode(200);
+    response.setHeader(RequestThrottler.RETRY_AFTER_HEADER, List.of("10"));
+    throttler.handleResponse(response);
+    checkCompletesIn(throttler.submit(new HttpRequestStub(rule), endpoint), 0L);
+  }
+  
+  @Test
+  public void testParseRetryAfter() {
+    Assert.assertEquals(-1L, RequestThrottler.parseRetryAfter(null, 0L));
+    Assert.assertEquals(-1L, RequestThrottler.parseRetryAfter(" ", 0L));
+    Assert.assertEquals(-1L, RequestThrottler.parseRetryAfter("soon", 0L));
+    Assert.assertEquals(120000L, RequestThrottler.parseRetryAfter("120", 0L));
+    Assert.assertEquals(1500L, RequestThrottler.parseRetryAfter(" 1.5 ", 0L));
+    // Wed, 21 Oct 2015 07:28:00 GMT
+    long date = 1445412480000L;
+    Assert.assertEquals(3000L, RequestThrottler.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT", date - 3000L));
+  }
+  
   private void checkCompletesIn(FutureHttpResponse response, long delay) throws InterruptedException, ExecutionException, TimeoutException {
     checkCompletesIn(response, delay, System.currentTimeMillis());
   }
@@ -1,7 +1,11 @@
 package org.jxapi.netutils.serialization;
 
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Test;
 
@@ -22,4 +26,11 @@ public class MessageSerializerTest {
         String result = customSerializer.serialize(input);
         assertEquals("The custom serializer should convert the integer to a string.", "123", result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testDefaultSerializeToBytes() {
+        MessageSerializer<String> noOpSerializer = MessageSerializer.NO_OP;
+        assertArrayEquals("d\u00e9j\u00e0".getBytes(StandardCharsets.UTF_8), noOpSerializer.serializeToBytes("d\u00e9j\u00e0"));
+        assertNull(noOpSerializer.serializeToBytes(null));
+    }
+}
@@ -4,6 +4,7 @@ package org.jxapi.netutils.serialization.json;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -57,5 +58,25 @@ public class AbstractJsonValueSerializerTest {
       Assert.assertNull(serializer.serialize(null));
       assertEquals("{\"name\":\"John Doe\",\"a\":30}", serializer.serialize(new TestObject("John Doe", 30)));
     }
-}
 
+    @Test
+    public void testSerializeToBytes() {
+      TestJsonMessageSerializer serializer = new TestJsonMessageSerializer();
+      Assert.assertNull(serializer.serializeToBytes(null));
+      Assert.assertArrayEquals("{\"name\":\"J\u00e9r\u00f4me\",\"a\":30}".getBytes(StandardCharsets.UTF_8), 
+                               serializer.serializeToBytes(new TestObject("J\u00e9r\u00f4me", 30)));
+      // Recycled buffer must not leak content of previous call
+      Assert.assertArrayEquals("{\"name\":\"Bob\",\"a\":1}".getBytes(StandardCharsets.UTF_8), 
+                               serializer.serializeToBytes(new TestObject("Bob", 1)));
+    }
+    
+    @Test
+    public void testSerializeToBytesLargeValue() {
+      TestJsonMessageSerializer serializer = new TestJsonMessageSerializer();
+      String name = "x".repeat(100_000);
+      Assert.assertEquals("{\"name\":\"" + name + "\",\"a\":2}", 
+                          new String(serializer.serializeToBytes(new TestObject(name, 2)), StandardCharsets.UTF_8));
+      Assert.assertArrayEquals("{\"name\":\"Bob\",\"a\":1}".getBytes(StandardCharsets.UTF_8), 
+                               serializer.serializeToBytes(new TestObject("Bob", 1)));
+    }
+}
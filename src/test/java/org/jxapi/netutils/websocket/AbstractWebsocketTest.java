@@ -1,5 +1,7 @@
 package org.jxapi.netutils.websocket;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
@@ -38,6 +40,16 @@ public class AbstractWebsocketTest {
         protected void dispatchMessage(String message) {
         super.dispatchMessage(message);
       }
+        
+        @Override
+        protected void dispatchMessage(byte[] message, int offset, int length) {
+        super.dispatchMessage(message, offset, length);
+      }
+        
+        @Override
+        protected void dispatchMessage(ByteBuffer message) {
+        super.dispatchMessage(message);
+      }
       
         @Override
       protected void dispatchError(String msg, Throwable t) {
@@ -134,6 +146,64 @@ public class AbstractWebsocketTest {
             Assert.assertEquals(message, receivedMessage.get());
         }
 
+        @Test
+        public void testDispatchBinaryMessageToStringHandler() {
+            byte[] bytes = "__Test message é__".getBytes(StandardCharsets.UTF_8);
+            AtomicReference<String> receivedMessage = new AtomicReference<>();
+            websocket.addMessageHandler(receivedMessage::set);
+            websocket.dispatchMessage(bytes, 2, bytes.length - 4);
+            Assert.assertEquals("Test message é", receivedMessage.get());
+        }
+
+        @Test
+        public void testDispatchBinaryMessageToBinaryHandler() {
+            byte[] bytes = "__Test message__".getBytes(StandardCharsets.UTF_8);
+            List<Object> received = new ArrayList<>();
+            websocket.addMessageHandler(new RawWebsocketMessageHandler() {
+              @Override
+              public void handleWebsocketMessage(String message) {
+                received.add(message);
+              }
+              
+              @Override
+              public void handleWebsocketMessage(byte[] message, int offset, int length) {
+                received.add(message);
+                received.add(offset);
+                received.add(length);
+              }
+            });
+            websocket.dispatchMessage(bytes, 2, bytes.length - 4);
+            Assert.assertEquals(List.of(bytes, 2, bytes.length - 4), received);
+        }
+
+        @Test
+        public void testDispatchByteBufferMessage() {
+            AtomicReference<String> receivedMessage = new AtomicReference<>();
+            websocket.addMessageHandler(receivedMessage::set);
+            ByteBuffer heap = ByteBuffer.wrap("__Heap message__".getBytes(StandardCharsets.UTF_8));
+            heap.position(2).limit(heap.limit() - 2);
+            websocket.dispatchMessage(heap);
+            Assert.assertEquals("Heap message", receivedMessage.get());
+            Assert.assertEquals(2, heap.position());
+            byte[] bytes = "Direct message".getBytes(StandardCharsets.UTF_8);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).flip();
+            websocket.dispatchMessage(direct);
+            Assert.assertEquals("Direct message", receivedMessage.get());
+            Assert.assertEquals(0, direct.position());
+        }
+
+        @Test
+        public void testRemovedHandlerDoesNotReceiveBinaryMessage() {
+            AtomicReference<String> receivedMessage = new AtomicReference<>();
+            RawWebsocketMessageHandler handler = receivedMessage::set;
+            websocket.addMessageHandler(handler);
+            websocket.removeMessageHandler(handler);
+            byte[] bytes = "Test message".getBytes(StandardCharsets.UTF_8);
+            websocket.dispatchMessage(bytes, 0, bytes.length);
+            Assert.assertNull(receivedMessage.get());
+        }
+
         @Test
         public void testDispatchErrorWithMessageAndThrowable() {
             String message = "Test error message";
@@ -0,0 +1,164 @@
+package org.jxapi.netutils.websocket;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jxapi.exchange.ExchangeEvent;
+import org.jxapi.exchange.ExchangeEventType;
+import org.jxapi.netutils.websocket.DefaultWebsocketEndpointTest.TestMessage;
+import org.jxapi.netutils.websocket.DefaultWebsocketEndpointTest.TestMessageJsonDeserializer;
+import org.jxapi.netutils.websocket.dispatch.JsonFieldMessageKeyExtractor;
+import org.jxapi.netutils.websocket.mock.MockWebsocket;
+import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcherFactory;
+import org.jxapi.observability.GenericObserver;
+import org.jxapi.observability.MockExchangeApiObserver;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Unit test for {@link ConflatingWebsocketEndpoint}
+ */
+public class ConflatingWebsocketEndpointTest {
+
+  private MockWebsocket websocket;
+  private DefaultWebsocketClient websocketClient;
+  private MockExchangeApiObserver apiObserver;
+  private CountingDeserializer deserializer;
+  private List<Runnable> drainTasks;
+  private ConflatingWebsocketEndpoint<TestMessage> endpoint;
+  private GenericObserver<TestMessage> listener;
+
+  @Before
+  public void setUp() {
+    websocket = new MockWebsocket();
+    websocketClient = new DefaultWebsocketClient(websocket, null);
+    apiObserver = new MockExchangeApiObserver();
+    deserializer = new CountingDeserializer();
+    drainTasks = new ArrayList<>();
+    listener = new GenericObserver<>();
+    endpoint = new ConflatingWebsocketEndpoint<>("myTopic", 2);
+    endpoint.setEndpointName("myConflatingEndpoint");
+    endpoint.setWebsocketClient(websocketClient);
+    endpoint.setMessageDeserializer(deserializer);
+    endpoint.setQueueExecutor(drainTasks::add);
+  }
+
+  @After
+  public void tearDown() {
+    websocketClient.dispose();
+  }
+
+  private void subscribe() throws InterruptedException {
+    WebsocketSubscribeRequest request = WebsocketSubscribeRequest.create(
+        null,
+        "tickers",
+        WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    endpoint.subscribe(request, listener::handleEvent);
+    // Subscription is performed asynchronously, topic is registered before connecting.
+    long timeout = System.currentTimeMillis() + 2000L;
+    while (!websocket.isConnected() && System.currentTimeMillis() < timeout) {
+      Thread.sleep(1L);
+    }
+    Assert.assertTrue(websocket.isConnected());
+  }
+
+  private void drain() {
+    while (!drainTasks.isEmpty()) {
+      drainTasks.remove(0).run();
+    }
+  }
+
+  @Test
+  public void testDefaults() {
+    endpoint = new ConflatingWebsocketEndpoint<>("s");
+    Assert.assertEquals(WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY, endpoint.getOverflowPolicy());
+    Assert.assertEquals(ConflatingWebsocketEndpoint.DEFAULT_MAX_KEYS, endpoint.getQueueCapacity());
+    Assert.assertEquals("s", ((JsonFieldMessageKeyExtractor) endpoint.getConflationKeyExtractor()).getFieldName());
+    Assert.assertNull(new ConflatingWebsocketEndpoint<>(null).getConflationKeyExtractor());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxKeys() {
+    new ConflatingWebsocketEndpoint<>("s", 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSetInvalidQueueCapacity() {
+    endpoint.setQueueCapacity(0);
+  }
+
+  @Test
+  public void testSetOverflowPolicyIgnored() {
+    endpoint.setOverflowPolicy(WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY);
+    endpoint.setOverflowPolicy(WebsocketOverflowPolicy.DROP_OLDEST);
+    Assert.assertEquals(WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY, endpoint.getOverflowPolicy());
+    endpoint.setOverflowPolicy(null);
+    Assert.assertEquals(WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY, endpoint.getOverflowPolicy());
+  }
+
+  @Test
+  public void testLatestMessagePerKeyDelivered() throws Exception {
+    subscribe();
+    websocket.dispatchMessage(TestMessage.create("BTC", "1").toString());
+    websocket.dispatchMessage(TestMessage.create("ETH", "1").toString());
+    websocket.dispatchMessage(TestMessage.create("BTC", "2").toString());
+    byte[] btc3 = TestMessage.create("BTC", "3").toString().getBytes(StandardCharsets.UTF_8);
+    websocket.dispatchMessage(btc3, 0, btc3.length);
+    Assert.assertEquals(0, listener.size());
+    Assert.assertEquals(0, deserializer.count);
+    drain();
+    Assert.assertEquals(2, listener.size());
+    Assert.assertEquals(TestMessage.create("BTC", "3"), listener.pop());
+    Assert.assertEquals(TestMessage.create("ETH", "1"), listener.pop());
+    Assert.assertEquals(2, deserializer.count);
+  }
+
+  @Test
+  public void testSinglePassParsingConflatesBufferedTokens() throws Exception {
+    websocketClient.setSinglePassParsing(true);
+    endpoint.setObserver(apiObserver);
+    subscribe();
+    Assert.assertEquals(ExchangeEventType.WEBSOCKET_SUBSCRIBE, apiObserver.pop().getType());
+    websocket.dispatchMessage(TestMessage.create("BTC", "1").toString());
+    websocket.dispatchMessage(TestMessage.create("BTC", "2").toString());
+    websocket.dispatchMessage(TestMessage.create("ETH", "1").toString());
+    // New key while max keys count is reached: oldest pending message is dropped
+    websocket.dispatchMessage(TestMessage.create("SOL", "1").toString());
+
+    ExchangeEvent e = apiObserver.pop();
+    Assert.assertEquals(ExchangeEventType.WEBSOCKET_MESSAGE_DROPPED, e.getType());
+    Assert.assertEquals(TestMessage.create("BTC", "1").toString(), e.getWebsocketMessage());
+    Assert.assertEquals(1L, e.getWebsocketDroppedMessageCount().longValue());
+    e = apiObserver.pop();
+    Assert.assertEquals(ExchangeEventType.WEBSOCKET_MESSAGE_DROPPED, e.getType());
+    Assert.assertEquals(TestMessage.create("BTC", "2").toString(), e.getWebsocketMessage());
+    Assert.assertEquals(2L, e.getWebsocketDroppedMessageCount().longValue());
+
+    drain();
+    Assert.assertEquals(TestMessage.create("ETH", "1"), listener.pop());
+    Assert.assertEquals(TestMessage.create("SOL", "1"), listener.pop());
+    Assert.assertEquals(0, listener.size());
+    Assert.assertEquals(2, deserializer.count);
+    e = apiObserver.pop();
+    Assert.assertEquals(ExchangeEventType.WEBSOCKET_MESSAGE, e.getType());
+    Assert.assertEquals(TestMessage.create("ETH", "1").toString(), e.getWebsocketMessage());
+    Assert.assertEquals(ExchangeEventType.WEBSOCKET_MESSAGE, apiObserver.pop().getType());
+    apiObserver.checkNoEvents(0);
+  }
+
+  private static class CountingDeserializer extends TestMessageJsonDeserializer {
+    int count = 0;
+
+    @Override
+    public TestMessage deserialize(JsonParser parser) throws IOException {
+      count++;
+      return super.deserialize(parser);
+    }
+  }
+}
@@ -1,9 +1,13 @@
 package org.jxapi.netutils.websocket;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -18,9 +22,13 @@ import org.jxapi.netutils.websocket.mock.MockWebsocketHookEventType;
 import org.jxapi.netutils.websocket.multiplexing.WSMTMFUtil;
 import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcherFactory;
 import org.jxapi.util.DemoUtil;
+import org.jxapi.util.JsonUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
 /**
  * Unit test for {@link DefaultWebsocketClient}.
  */
@@ -132,6 +140,35 @@ public class DefaultWebsocketClientTest {
     checkNoError();
   }
   
+  @Test
+  public void testSubscribeToSingleTopicReceiveBinaryMessages() throws Exception {
+    wsManager = new DefaultWebsocketClient(ws, wsHook);
+    wsManager.subscribeErrorHandler(errorHandler);
+    popWebsocketAddErrorHandlerEvent();
+    popWebsocketAddMessageHandlerEvent();
+    popWebsocketHookInitEvent();
+    String topic = "topic1";
+    String subscribeTopicMsg = "subscribe:topic1";
+    wsHook.setSubscribeRequestMessage(topic, subscribeTopicMsg);
+    WebsocketMessageTopicMatcherFactory topicMatcher = WSMTMFUtil.value("myTopic", topic);
+    wsManager.subscribe(WebsocketSubscribeRequest.create(null, topic, topicMatcher), wsMessageHandler1);
+    popWebsocketHookBeforeConnectEvent();
+    popWebsocketConnectEvent();
+    popWebsocketHookAfterConnectEvent();
+    popWebsocketHookGetSubscribeRequestMessageEvent();
+    popWebsocketSendMessageEvent(subscribeTopicMsg);
+    String msg1 = "{\"myTopic\":\"topic1\", \"payload\":\"Héllo!\"}";
+    byte[] framed = ("##" + msg1 + "##").getBytes(StandardCharsets.UTF_8);
+    ws.dispatchMessage(framed, 2, framed.length - 4);
+    Assert.assertEquals(msg1, wsMessageHandler1.waitUntilCount(1).pop());
+    // Message not matching topic is not dispatched
+    byte[] msg2 = "{\"myTopic\":\"topic2\", \"payload\":\"Hello!\"}".getBytes(StandardCharsets.UTF_8);
+    ws.dispatchMessage(msg2, 0, msg2.length);
+    wsMessageHandler1.checkNoEvents(NO_EVENT_DELAY);
+    checkNoEvents();
+    checkNoError();
+  }
+  
   @Test
   public void testSubscribeToSingleTopicReceiveOneMessageForTopicWithTopicFieldInSubObject() throws Exception{
     wsManager = new DefaultWebsocketClient(ws, wsHook);
@@ -644,6 +681,108 @@ public class DefaultWebsocketClientTest {
     checkNoError();
   }
   
+  @Test
+  public void testSubscribeToIndexedTopicAndRegexpTopicReceiveMessagesOnBoth() throws Exception{
+    wsManager = new DefaultWebsocketClient(ws, wsHook);
+    wsManager.subscribeErrorHandler(errorHandler);
+    popWebsocketAddErrorHandlerEvent();
+    popWebsocketAddMessageHandlerEvent();
+    popWebsocketHookInitEvent();
+    
+    // Subscribe to topic matched by value, that will be indexed
+    String topic1 = "topic1";
+    WebsocketMessageTopicMatcherFactory topic1Matcher = WSMTMFUtil.and(List.of(
+        WSMTMFUtil.value("e", "ticker"), 
+        WSMTMFUtil.value("s", "BTC")));
+    wsManager.subscribe(WebsocketSubscribeRequest.create(null, topic1, topic1Matcher), wsMessageHandler1);
+    popWebsocketHookBeforeConnectEvent();
+    popWebsocketConnectEvent();
+    popWebsocketHookAfterConnectEvent();
+    popWebsocketHookGetSubscribeRequestMessageEvent();
+    
+    // Subscribe to topic matched by regexp, that will be matched on fallback path
+    String topic2 = "topic2";
+    WebsocketMessageTopicMatcherFactory topic2Matcher = WSMTMFUtil.regexp("s", "B.*");
+    wsManager.subscribe(WebsocketSubscribeRequest.create(null, topic2, topic2Matcher), wsMessageHandler2);
+    popWebsocketHookGetSubscribeRequestMessageEvent();
+    
+    String msg1 = "{\"e\":\"ticker\", \"s\":\"BTC\", \"p\":\"1.0\"}";
+    ws.dispatchMessage(msg1);
+    Assert.assertEquals(msg1, wsMessageHandler1.waitUntilCount(1).pop());
+    Assert.assertEquals(msg1, wsMessageHandler2.waitUntilCount(1).pop());
+    
+    String msg2 = "{\"e\":\"ticker\", \"s\":\"BNB\", \"p\":\"1.0\"}";
+    ws.dispatchMessage(msg2);
+    Assert.assertEquals(msg2, wsMessageHandler2.waitUntilCount(1).pop());
+    wsMessageHandler1.checkNoEvents(NO_EVENT_DELAY);
+    
+    String msg3 = "{\"e\":\"trade\", \"s\":\"BTC\", \"p\":\"1.0\"}";
+    ws.dispatchMessage(msg3);
+    Assert.assertEquals(msg3, wsMessageHandler2.waitUntilCount(1).pop());
+    wsMessageHandler1.checkNoEvents(NO_EVENT_DELAY);
+    
+    wsManager.unsubscribe(topic2);
+    popWebsocketHookGetUnsubscribeRequestMessageEvent();
+    ws.dispatchMessage(msg1);
+    Assert.assertEquals(msg1, wsMessageHandler1.waitUntilCount(1).pop());
+    wsMessageHandler2.checkNoEvents(NO_EVENT_DELAY);
+    checkNoEvents();
+    checkNoError();
+  }
+  
+  @Test
+  public void testSinglePassParsingDispatchesBufferedTokensToTokenizedHandler() throws Exception {
+    wsManager = new DefaultWebsocketClient(ws, wsHook);
+    Assert.assertFalse(wsManager.isSinglePassParsing());
+    wsManager.setSinglePassParsing(true);
+    Assert.assertTrue(wsManager.isSinglePassParsing());
+    wsManager.subscribeErrorHandler(errorHandler);
+    popWebsocketAddErrorHandlerEvent();
+    popWebsocketAddMessageHandlerEvent();
+    popWebsocketHookInitEvent();
+    
+    TestTokenizedWebsocketMessageHandler tokenizedHandler = new TestTokenizedWebsocketMessageHandler();
+    String topic1 = "topic1";
+    WebsocketMessageTopicMatcherFactory topic1Matcher = WSMTMFUtil.and(List.of(
+        WSMTMFUtil.value("e", "ticker"), 
+        WSMTMFUtil.value("s", "BTC")));
+    wsManager.subscribe(WebsocketSubscribeRequest.create(null, topic1, topic1Matcher), tokenizedHandler);
+    popWebsocketHookBeforeConnectEvent();
+    popWebsocketConnectEvent();
+    popWebsocketHookAfterConnectEvent();
+    popWebsocketHookGetSubscribeRequestMessageEvent();
+    
+    String topic2 = "topic2";
+    wsManager.subscribe(WebsocketSubscribeRequest.create(null, topic2, WSMTMFUtil.value("e", "ticker")), wsMessageHandler1);
+    popWebsocketHookGetSubscribeRequestMessageEvent();
+    
+    // Tokenized handler gets tokens of whole message, even fields after matched ones
+    String msg1 = "{\"e\":\"ticker\", \"s\":\"BTC\", \"p\":1.123456789012345678901, \"l\":[1,2]}";
+    ws.dispatchMessage(msg1);
+    Assert.assertEquals("{\"e\":\"ticker\",\"s\":\"BTC\",\"p\":1.123456789012345678901,\"l\":[1,2]}", tokenizedHandler.waitUntilCount(1).pop());
+    Assert.assertEquals(msg1, wsMessageHandler1.waitUntilCount(1).pop());
+    
+    // Binary message
+    byte[] msg2 = "{\"e\":\"ticker\", \"s\":\"BTC\", \"p\":\"2\"}".getBytes(StandardCharsets.UTF_8);
+    ws.dispatchMessage(msg2, 0, msg2.length);
+    Assert.assertEquals("{\"e\":\"ticker\",\"s\":\"BTC\",\"p\":\"2\"}", tokenizedHandler.waitUntilCount(1).pop());
+    Assert.assertEquals(new String(msg2, StandardCharsets.UTF_8), wsMessageHandler1.waitUntilCount(1).pop());
+    
+    // Not matching tokenized topic
+    String msg3 = "{\"e\":\"ticker\", \"s\":\"ETH\"}";
+    ws.dispatchMessage(msg3);
+    Assert.assertEquals(msg3, wsMessageHandler1.waitUntilCount(1).pop());
+    tokenizedHandler.checkNoEvents(NO_EVENT_DELAY);
+    
+    // Single pass parsing disabled: tokenized handler receives raw message
+    wsManager.setSinglePassParsing(false);
+    ws.dispatchMessage(msg1);
+    Assert.assertEquals(msg1, tokenizedHandler.waitUntilCount(1).pop());
+    Assert.assertEquals(msg1, wsMessageHandler1.waitUntilCount(1).pop());
+    checkNoEvents();
+    checkNoError();
+  }
+  
   @Test
   public void testSubscribeToTwoTopicWithOneCommonTopicFieldReceiveOneMessageOnBothThenUnsubscribe() throws Exception{
     // Init WS manager
@@ -1166,6 +1305,141 @@ public class DefaultWebsocketClientTest {
     wsManager.subscribe(subscribeRequest, wsMessageHandler1);
   }
   
+  @Test
+  public void testBatchSubscribeWithinWindow() throws Exception {
+    BatchingWebsocketHook hook = new BatchingWebsocketHook();
+    wsManager = new DefaultWebsocketClient(ws, hook);
+    Assert.assertEquals(1, wsManager.getMaxSubscribeBatchSize());
+    Assert.assertEquals(0L, wsManager.getSubscribeBatchWindow());
+    wsManager.setMaxSubscribeBatchSize(10);
+    wsManager.setSubscribeBatchWindow(100L);
+    Assert.assertEquals(10, wsManager.getMaxSubscribeBatchSize());
+    Assert.assertEquals(100L, wsManager.getSubscribeBatchWindow());
+    subscribeTopics("t0", "t1", "t2");
+    Assert.assertEquals(List.of("subscribe:t0,t1,t2"), waitForSentMessages(1));
+    wsManager.unsubscribe("t1");
+    wsManager.unsubscribe("t2");
+    Assert.assertEquals(List.of("subscribe:t0,t1,t2", "unsubscribe:t1,t2"), waitForSentMessages(2));
+  }
+  
+  @Test
+  public void testGetTopicsAndSystemMessageHandlers() throws Exception {
+    BatchingWebsocketHook hook = new BatchingWebsocketHook();
+    DefaultWebsocketClient client = new DefaultWebsocketClient(ws, hook);
+    wsManager = client;
+    wsManager.setMaxSubscribeBatchSize(10);
+    wsManager.setSubscribeBatchWindow(100L);
+    wsManager.addSystemMessageHandler("system", WSMTMFUtil.value("type", "system"), wsMessageHandler2);
+    subscribeTopics("t0", "t1", "t2");
+    waitForSentMessages(1);
+    Assert.assertEquals(List.of("t0", "t1", "t2"), List.copyOf(client.getTopics().keySet()));
+    Assert.assertEquals(1, client.getSystemMessageHandlers().size());
+    // Snapshot is compiled once as long as topics do not change
+    Assert.assertSame(client.getTopics(), client.getTopics());
+    wsManager.unsubscribe("t1");
+    waitForSentMessages(2);
+    Assert.assertEquals(List.of("t0", "t2"), List.copyOf(client.getTopics().keySet()));
+    String msg = "{\"myTopic\":\"t2\", \"payload\":\"Hello!\"}";
+    ws.dispatchMessage(msg);
+    Assert.assertEquals(msg, wsMessageHandler1.waitUntilCount(1).pop());
+  }
+  
+  @Test
+  public void testBatchSubscribeSendsFullBatchesRightAway() throws Exception {
+    BatchingWebsocketHook hook = new BatchingWebsocketHook();
+    wsManager = new DefaultWebsocketClient(ws, hook);
+    wsManager.setMaxSubscribeBatchSize(2);
+    wsManager.setSubscribeBatchWindow(60000L);
+    subscribeTopics("t0", "t1", "t2");
+    Assert.assertEquals(List.of("subscribe:t0,t1"), waitForSentMessages(1));
+    Thread.sleep(NO_EVENT_DELAY);
+    Assert.assertEquals(List.of("subscribe:t0,t1"), getSentMessages());
+  }
+  
+  @Test
+  public void testBatchResubscribeAfterReconnection() throws Exception {
+    BatchingWebsocketHook hook = new BatchingWebsocketHook();
+    wsManager = new DefaultWebsocketClient(ws, hook);
+    wsManager.setReconnectDelay(10L);
+    wsManager.setMaxSubscribeBatchSize(2);
+    subscribeTopics("t0", "t1", "t2");
+    Assert.assertEquals(List.of("subscribe:t0,t1", "subscribe:t2"), waitForSentMessages(2));
+    ws.clear();
+    ws.dispatchError(new WebsocketException("Connection lost"));
+    Assert.assertEquals(List.of("subscribe:t0,t1", "subscribe:t2"), waitForSentMessages(2));
+  }
+  
+  @Test
+  public void testBatchSubscribeFallsBackToSingleRequestsIfHookDoesNotSupportBatches() throws Exception {
+    wsManager = new DefaultWebsocketClient(ws, wsHook);
+    wsManager.setMaxSubscribeBatchSize(10);
+    for (String topic : List.of("t0", "t1")) {
+      wsHook.setSubscribeRequestMessage(topic, "subscribe:" + topic);
+    }
+    subscribeTopics("t0", "t1");
+    Assert.assertEquals(List.of("subscribe:t0", "subscribe:t1"), waitForSentMessages(2));
+  }
+  
+  @Test
+  public void testUnsubscribeBeforePendingSubscriptionIsSent() throws Exception {
+    BatchingWebsocketHook hook = new BatchingWebsocketHook();
+    wsManager = new DefaultWebsocketClient(ws, hook);
+    wsManager.setMaxSubscribeBatchSize(10);
+    wsManager.setSubscribeBatchWindow(100L);
+    subscribeTopics("t0", "t1");
+    wsManager.unsubscribe("t0");
+    Assert.assertEquals(List.of("subscribe:t1"), waitForSentMessages(1));
+    Thread.sleep(NO_EVENT_DELAY);
+    Assert.assertEquals(List.of("subscribe:t1"), getSentMessages());
+  }
+  
+  private void subscribeTopics(String... topics) {
+    for (String topic : topics) {
+      wsManager.subscribe(
+          WebsocketSubscribeRequest.create(null, topic, WSMTMFUtil.value("myTopic", topic)), 
+          wsMessageHandler1);
+    }
+  }
+  
+  private List<String> getSentMessages() {
+    return ws.getAllEvents().stream()
+             .filter(e -> e.getType() == MockWebsocketEventType.SEND)
+             .map(MockWebsocketEvent::getMessage)
+             .toList();
+  }
+  
+  private List<String> waitForSentMessages(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 2000L;
+    List<String> sent = getSentMessages();
+    while (sent.size() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10L);
+      sent = getSentMessages();
+    }
+    return sent;
+  }
+  
+  private static class BatchingWebsocketHook extends MockWebsocketHook {
+    
+    @Override
+    public String getSubscribeRequestMessage(WebsocketSubscribeRequest subscribeRequest) {
+      return "subscribe:" + subscribeRequest.getTopic();
+    }
+    
+    @Override
+    public String getSubscribeRequestMessage(List<WebsocketSubscribeRequest> subscribeRequests) {
+      return "subscribe:" + toTopics(subscribeRequests);
+    }
+    
+    @Override
+    public String getUnSubscribeRequestMessage(List<WebsocketSubscribeRequest> subscribeRequests) {
+      return "unsubscribe:" + toTopics(subscribeRequests);
+    }
+    
+    private static String toTopics(List<WebsocketSubscribeRequest> subscribeRequests) {
+      return String.join(",", subscribeRequests.stream().map(WebsocketSubscribeRequest::getTopic).toList());
+    }
+  }
+  
   private MockWebsocketEvent popWebsocketConnectEvent() throws TimeoutException {
     MockWebsocketEvent event = ws.waitUntilCount(1).pop();
     Assert.assertEquals(MockWebsocketEventType.CONNECT, event.getType());
@@ -1355,6 +1629,18 @@ public class DefaultWebsocketClientTest {
       return receivedHeartBeatPongs.get();
     }
   }
+  
+  private static class TestTokenizedWebsocketMessageHandler extends GenericRawWebsocketMessageHandler implements TokenizedWebsocketMessageHandler {
 
-
+    @Override
+    public void handleWebsocketMessage(TokenBuffer tokens, Supplier<String> rawMessage) {
+      StringWriter json = new StringWriter();
+      try (JsonGenerator gen = JsonUtil.DEFAULT_JSON_FACTORY.createGenerator(json)) {
+        tokens.serialize(gen);
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to read tokens of " + rawMessage.get(), e);
+      }
+      handleEvent(json.toString());
+    }
+  }
 }
@@ -1,9 +1,14 @@
 package org.jxapi.netutils.websocket;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -13,14 +18,21 @@ import org.jxapi.exchange.ExchangeEvent;
 import org.jxapi.exchange.ExchangeEventType;
 import org.jxapi.exchange.ExchangeObserver;
 import org.jxapi.netutils.deserialization.MessageDeserializer;
+import org.jxapi.netutils.deserialization.json.AbstractJsonMessageDeserializer;
+import org.jxapi.netutils.websocket.dispatch.JsonFieldMessageKeyExtractor;
 import org.jxapi.netutils.websocket.mock.MockWebsocket;
 import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcherFactory;
 import org.jxapi.observability.GenericObserver;
 import org.jxapi.observability.MockExchangeApiObserver;
 import org.jxapi.util.JsonUtil;
+import org.jxapi.util.Resettable;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * Unit test for {@link DefaultWebsocketEndpoint}
@@ -183,6 +195,278 @@ public class DefaultWebsocketEndpointTest {
     websocketEndpoint.unsubscribe(subId);
     
   }
+  @Test
+  public void testSubscribeWithJsonDeserializerReceiveTokenizedMessage() throws Exception {
+    websocketEndpoint.setMessageDeserializer(new TestMessageJsonDeserializer());
+    String topic = "topic1";
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    TestMessageListener listener = new TestMessageListener();
+    String subId = websocketEndpoint.subscribe(subscribeRequest, listener);
+    popWebsocketSubscribeRequestEvent(subscribeRequest, subId);
+    Assert.assertTrue(websocketClient.subscribeRequests.get(topic) instanceof TokenizedWebsocketMessageHandler);
+    
+    TestMessage testMessage = TestMessage.create(topic, "foo");
+    websocketClient.dispatchTokenizedMessage(topic, testMessage.toString());
+    Assert.assertEquals(1, listener.size());
+    Assert.assertEquals(testMessage, listener.pop());
+    popWebsocketMessageEvent(testMessage);
+    
+    // Raw messages are still supported
+    websocketClient.dispatchMessage(topic, testMessage);
+    Assert.assertEquals(testMessage, listener.pop());
+    popWebsocketMessageEvent(testMessage);
+    checkNoExchangeApiEvents();
+  }
+  
+  @Test
+  public void testReuseMessageWhenListenersDoNotRetainMessages() throws Exception {
+    websocketEndpoint.setMessageDeserializer(new TestMessageJsonDeserializer());
+    String topic = "topic1";
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    List<TestMessage> messages = new ArrayList<>();
+    List<String> contents = new ArrayList<>();
+    websocketEndpoint.subscribe(subscribeRequest, WebsocketListener.nonRetaining(m -> {
+      messages.add(m);
+      contents.add(m.toString());
+    }));
+    
+    websocketClient.dispatchTokenizedMessage(topic, TestMessage.create(topic, "foo").toString());
+    websocketClient.dispatchMessage(topic, TestMessage.create(topic, "bar"));
+    websocketClient.dispatchTokenizedMessage(topic, TestMessage.create(topic, null).toString());
+    
+    Assert.assertEquals(List.of(TestMessage.create(topic, "foo").toString(), 
+                                TestMessage.create(topic, "bar").toString(),
+                                TestMessage.create(topic, null).toString()), 
+                        contents);
+    Assert.assertSame(messages.get(0), messages.get(1));
+    Assert.assertSame(messages.get(0), messages.get(2));
+    // Dispatched message is reset
+    Assert.assertNull(messages.get(0).getMyTopic());
+  }
+  
+  @Test
+  public void testNoMessageReuseWhenAListenerRetainsMessages() throws Exception {
+    websocketEndpoint.setMessageDeserializer(new TestMessageJsonDeserializer());
+    String topic = "topic1";
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    List<TestMessage> messages = new ArrayList<>();
+    websocketEndpoint.subscribe(subscribeRequest, WebsocketListener.nonRetaining(messages::add));
+    TestMessageListener retainingListener = new TestMessageListener();
+    String retainingSubId = websocketEndpoint.subscribe(subscribeRequest, retainingListener);
+    
+    TestMessage foo = TestMessage.create(topic, "foo");
+    TestMessage bar = TestMessage.create(topic, "bar");
+    websocketClient.dispatchTokenizedMessage(topic, foo.toString());
+    websocketClient.dispatchTokenizedMessage(topic, bar.toString());
+    Assert.assertNotSame(messages.get(0), messages.get(1));
+    Assert.assertEquals(foo, retainingListener.pop());
+    Assert.assertEquals(bar, retainingListener.pop());
+    
+    // Once retaining listener unsubscribed, messages are reused
+    websocketEndpoint.unsubscribe(retainingSubId);
+    websocketClient.dispatchTokenizedMessage(topic, foo.toString());
+    websocketClient.dispatchTokenizedMessage(topic, bar.toString());
+    Assert.assertSame(messages.get(2), messages.get(3));
+  }
+  
+  @Test
+  public void testDispatchInvalidTokenizedMessage() throws Exception {
+    websocketEndpoint.setMessageDeserializer(new TestMessageJsonDeserializer());
+    String topic = "topic1";
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    TestMessageListener listener = new TestMessageListener();
+    String subId = websocketEndpoint.subscribe(subscribeRequest, listener);
+    popWebsocketSubscribeRequestEvent(subscribeRequest, subId);
+    websocketClient.dispatchTokenizedMessage(topic, TestMessageChild.create(topic, "foo", true).toString());
+    Assert.assertEquals(0, listener.size());
+    popWebsocketErrorEvent();
+    checkNoExchangeApiEvents();
+  }
+  
+  @Test
+  public void testSubscribeWithNonJsonDeserializerNotTokenized() {
+    String topic = "topic1";
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    websocketEndpoint.subscribe(subscribeRequest, new TestMessageListener());
+    Assert.assertFalse(websocketClient.subscribeRequests.get(topic) instanceof TokenizedWebsocketMessageHandler);
+  }
+  
+  @Test
+  public void testSubscribeWithQueueDropOldest() throws Exception {
+    List<Runnable> drainTasks = new ArrayList<>();
+    websocketEndpoint.setQueueExecutor(drainTasks::add);
+    websocketEndpoint.setQueueCapacity(2);
+    websocketEndpoint.setOverflowPolicy(WebsocketOverflowPolicy.DROP_OLDEST);
+    String topic = "topic1";
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    TestMessageListener listener = new TestMessageListener();
+    String subId = websocketEndpoint.subscribe(subscribeRequest, listener);
+    popWebsocketSubscribeRequestEvent(subscribeRequest, subId);
+    
+    TestMessage m1 = TestMessage.create(topic, "foo1");
+    TestMessage m2 = TestMessage.create(topic, "foo2");
+    TestMessage m3 = TestMessage.create(topic, "foo3");
+    websocketClient.dispatchMessage(topic, m1);
+    websocketClient.dispatchMessage(topic, m2);
+    websocketClient.dispatchMessage(topic, m3);
+    Assert.assertEquals(0, listener.size());
+    popWebsocketMessageDroppedEvent(m1, 1L);
+    checkNoExchangeApiEvents();
+    
+    Assert.assertEquals(1, drainTasks.size());
+    drainTasks.remove(0).run();
+    Assert.assertEquals(2, listener.size());
+    Assert.assertEquals(m2, listener.pop());
+    Assert.assertEquals(m3, listener.pop());
+    popWebsocketMessageEvent(m2);
+    popWebsocketMessageEvent(m3);
+    checkNoExchangeApiEvents();
+  }
+  
+  @Test
+  public void testSubscribeWithQueueDropNewestBinaryMessages() throws Exception {
+    List<Runnable> drainTasks = new ArrayList<>();
+    websocketEndpoint.setQueueExecutor(drainTasks::add);
+    websocketEndpoint.setQueueCapacity(1);
+    websocketEndpoint.setOverflowPolicy(WebsocketOverflowPolicy.DROP_NEWEST);
+    String topic = "topic1";
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    TestMessageListener listener = new TestMessageListener();
+    String subId = websocketEndpoint.subscribe(subscribeRequest, listener);
+    popWebsocketSubscribeRequestEvent(subscribeRequest, subId);
+    
+    TestMessage m1 = TestMessage.create(topic, "foo1");
+    TestMessage m2 = TestMessage.create(topic, "foo2");
+    byte[] buffer = m1.toString().getBytes(StandardCharsets.UTF_8);
+    websocketClient.subscribeRequests.get(topic).handleWebsocketMessage(buffer, 0, buffer.length);
+    // Received bytes are copied to queue, so that socket can reuse its buffer
+    Arrays.fill(buffer, (byte) ' ');
+    websocketClient.dispatchMessage(topic, m2);
+    popWebsocketMessageDroppedEvent(m2, 1L);
+    
+    drainTasks.remove(0).run();
+    Assert.assertEquals(1, listener.size());
+    Assert.assertEquals(m1, listener.pop());
+    popWebsocketMessageEvent(m1);
+    checkNoExchangeApiEvents();
+  }
+  
+  @Test
+  public void testSubscribeWithConflatingQueue() throws Exception {
+    List<Runnable> drainTasks = new ArrayList<>();
+    List<String> deserialized = new ArrayList<>();
+    websocketEndpoint.setQueueExecutor(drainTasks::add);
+    websocketEndpoint.setQueueCapacity(16);
+    websocketEndpoint.setOverflowPolicy(WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY);
+    websocketEndpoint.setConflationKeyExtractor(new JsonFieldMessageKeyExtractor("myTopic"));
+    websocketEndpoint.setMessageDeserializer(msg -> {
+      deserialized.add(msg);
+      return new TestMessageDeserializer().deserialize(msg);
+    });
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, "topic", WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    TestMessageListener listener = new TestMessageListener();
+    String subId = websocketEndpoint.subscribe(subscribeRequest, listener);
+    popWebsocketSubscribeRequestEvent(subscribeRequest, subId);
+    
+    TestMessage btc1 = TestMessage.create("BTC", "1");
+    TestMessage eth1 = TestMessage.create("ETH", "1");
+    TestMessage btc2 = TestMessage.create("BTC", "2");
+    websocketClient.dispatchMessage("topic", btc1);
+    websocketClient.dispatchMessage("topic", eth1);
+    websocketClient.dispatchMessage("topic", btc2);
+    ExchangeEvent e = apiObserver.pop();
+    Assert.assertEquals(ExchangeEventType.WEBSOCKET_MESSAGE_DROPPED, e.getType());
+    Assert.assertEquals(btc1.toString(), e.getWebsocketMessage());
+    Assert.assertEquals(1L, e.getWebsocketDroppedMessageCount().longValue());
+    
+    drainTasks.remove(0).run();
+    Assert.assertEquals(2, listener.size());
+    Assert.assertEquals(btc2, listener.pop());
+    Assert.assertEquals(eth1, listener.pop());
+    // Stale message is never deserialized
+    Assert.assertEquals(List.of(btc2.toString(), eth1.toString()), deserialized);
+  }
+  
+  @Test
+  public void testSubscribeWithQueueTokenizedMessage() throws Exception {
+    List<Runnable> drainTasks = new ArrayList<>();
+    websocketEndpoint.setQueueExecutor(drainTasks::add);
+    websocketEndpoint.setQueueCapacity(4);
+    websocketEndpoint.setMessageDeserializer(new TestMessageJsonDeserializer());
+    String topic = "topic1";
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    TestMessageListener listener = new TestMessageListener();
+    String subId = websocketEndpoint.subscribe(subscribeRequest, listener);
+    popWebsocketSubscribeRequestEvent(subscribeRequest, subId);
+    
+    TestMessage testMessage = TestMessage.create(topic, "foo");
+    websocketClient.dispatchTokenizedMessage(topic, testMessage.toString());
+    Assert.assertEquals(0, listener.size());
+    drainTasks.remove(0).run();
+    Assert.assertEquals(testMessage, listener.pop());
+    popWebsocketMessageEvent(testMessage);
+    checkNoExchangeApiEvents();
+  }
+  
+  @Test
+  public void testUnsubscribeClearsQueue() throws Exception {
+    List<Runnable> drainTasks = new ArrayList<>();
+    websocketEndpoint.setQueueExecutor(drainTasks::add);
+    websocketEndpoint.setQueueCapacity(4);
+    String topic = "topic1";
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    TestMessageListener listener = new TestMessageListener();
+    String subId = websocketEndpoint.subscribe(subscribeRequest, listener);
+    popWebsocketSubscribeRequestEvent(subscribeRequest, subId);
+    websocketClient.dispatchMessage(topic, TestMessage.create(topic, "foo"));
+    websocketEndpoint.unsubscribe(subId);
+    popWebsocketUnsubscribeRequestEvent(subId);
+    drainTasks.remove(0).run();
+    Assert.assertEquals(0, listener.size());
+    checkNoExchangeApiEvents();
+  }
+  
+  @Test
+  public void testSubscribeWithQueueDefaultExecutor() throws Exception {
+    websocketEndpoint.setQueueCapacity(4);
+    Assert.assertNull(websocketEndpoint.getQueueExecutor());
+    String topic = "topic1";
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    TestMessageListener listener = new TestMessageListener();
+    websocketEndpoint.subscribe(subscribeRequest, listener);
+    Assert.assertNotNull(websocketEndpoint.getQueueExecutor());
+    TestMessage testMessage = TestMessage.create(topic, "foo");
+    websocketClient.dispatchMessage(topic, testMessage);
+    Assert.assertEquals(testMessage, listener.await());
+  }
+  
+  @Test
+  public void testDisposeShutsDownDefaultQueueExecutor() {
+    websocketEndpoint.setQueueCapacity(4);
+    WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, "topic1", WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    websocketEndpoint.subscribe(subscribeRequest, new TestMessageListener());
+    ExecutorService queueExecutor = (ExecutorService) websocketEndpoint.getQueueExecutor();
+    Assert.assertFalse(queueExecutor.isShutdown());
+    websocketEndpoint.dispose();
+    Assert.assertTrue(websocketEndpoint.isDisposed());
+    Assert.assertTrue(queueExecutor.isShutdown());
+  }
+  
+  @Test
+  public void testDisposeDoesNotShutDownQueueExecutorSet() {
+    ExecutorService queueExecutor = Executors.newSingleThreadExecutor();
+    try {
+      websocketEndpoint.setQueueCapacity(4);
+      websocketEndpoint.setQueueExecutor(queueExecutor);
+      WebsocketSubscribeRequest subscribeRequest = WebsocketSubscribeRequest.create(null, "topic1", WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+      websocketEndpoint.subscribe(subscribeRequest, new TestMessageListener());
+      websocketEndpoint.dispose();
+      Assert.assertFalse(queueExecutor.isShutdown());
+    } finally {
+      queueExecutor.shutdownNow();
+    }
+  }
+  
   private void popWebsocketSubscribeRequestEvent(WebsocketSubscribeRequest request, String subscriptionId) {
     ExchangeEvent e = apiObserver.pop();
     Assert.assertEquals(ExchangeEventType.WEBSOCKET_SUBSCRIBE, e.getType());
@@ -203,6 +487,14 @@ public class DefaultWebsocketEndpointTest {
     Assert.assertEquals(tm.getMyTopic(), e.getWebsocketSubscribeRequest().getTopic());
   }
   
+  private void popWebsocketMessageDroppedEvent(TestMessage tm, Long droppedCount) {
+    ExchangeEvent e = apiObserver.pop();
+    Assert.assertEquals(ExchangeEventType.WEBSOCKET_MESSAGE_DROPPED, e.getType());
+    Assert.assertEquals(tm.toString(), e.getWebsocketMessage());
+    Assert.assertEquals(tm.getMyTopic(), e.getWebsocketSubscribeRequest().getTopic());
+    Assert.assertEquals(droppedCount, e.getWebsocketDroppedMessageCount());
+  }
+  
   private void popWebsocketErrorEvent() {
     ExchangeEvent e = apiObserver.pop();
     Assert.assertEquals(ExchangeEventType.WEBSOCKET_ERROR, e.getType());
@@ -269,9 +561,20 @@ public class DefaultWebsocketEndpointTest {
       h.handleWebsocketMessage(m.toString());
     }
     
+    public void dispatchTokenizedMessage(String topic, String message) throws IOException {
+      TokenizedWebsocketMessageHandler h = (TokenizedWebsocketMessageHandler) subscribeRequests.get(topic);
+      try (JsonParser parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(message)) {
+        TokenBuffer tokens = new TokenBuffer(parser);
+        while (parser.nextToken() != null) {
+          tokens.copyCurrentEvent(parser);
+        }
+        h.handleWebsocketMessage(tokens, () -> message);
+      }
+    }
+    
   }
   
-  public static class TestMessage {
+  public static class TestMessage implements Resettable {
     
     public static TestMessage create(String topic, String payload) {
       TestMessage tm = new TestMessage();
@@ -295,6 +598,12 @@ public class DefaultWebsocketEndpointTest {
       this.payload = payload;
     }
     
+    @Override
+    public void reset() {
+      this.myTopic = null;
+      this.payload = null;
+    }
+    
     public String toString() {
       return JsonUtil.pojoToJsonString(this);
     }
@@ -343,6 +652,32 @@ public class DefaultWebsocketEndpointTest {
     
   }
   
+  public static class TestMessageJsonDeserializer extends AbstractJsonMessageDeserializer<TestMessage> {
+
+    @Override
+    public TestMessage deserialize(JsonParser parser) throws IOException {
+      return deserializeInto(parser, new TestMessage());
+    }
+    
+    @Override
+    public TestMessage deserializeInto(JsonParser parser, TestMessage m) throws IOException {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        switch (parser.currentName()) {
+        case "myTopic":
+          m.setMyTopic(JsonUtil.readNextString(parser));
+          break;
+        case "payload":
+          m.setPayload(JsonUtil.readNextString(parser));
+          break;
+        default:
+          throw new JsonParseException(parser, "Unexpected field:" + parser.currentName());
+        }
+      }
+      return m;
+    }
+    
+  }
+  
   private static class TestMessageListener extends GenericObserver<TestMessage> implements WebsocketListener<TestMessage> {
 
     @Override
@@ -2,8 +2,17 @@ package org.jxapi.netutils.websocket;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.jxapi.exchange.CommonConfigProperties;
 import org.jxapi.exchange.Exchange;
+import org.jxapi.exchange.ExchangeStub;
+import org.jxapi.netutils.websocket.dispatch.JsonFieldMessageKeyExtractor;
+import org.jxapi.netutils.websocket.dispatch.InlineWebsocketMessageDispatcher;
+import org.jxapi.netutils.websocket.dispatch.RingBufferWebsocketMessageDispatcher;
+import org.jxapi.netutils.websocket.dispatch.ShardedWebsocketMessageDispatcher;
+import org.jxapi.netutils.websocket.javanet.JavaNetWebsocket;
 import org.jxapi.netutils.websocket.spring.SpringWebsocket;
+import org.jxapi.util.ExecutorFactory;
+import org.jxapi.util.SharedExecutorFactory;
 
 /**
  * Unit test for {@link DefaultWebsocketFactory}
@@ -15,6 +24,56 @@ public class DefaultWebsocketFactoryTest {
     Websocket sock = new DefaultWebsocketFactory().createWebsocket((Exchange) null);
     Assert.assertNotNull(sock);
     Assert.assertTrue(sock instanceof SpringWebsocket);
+    SpringWebsocket springWebsocket = (SpringWebsocket) sock;
+    Assert.assertTrue(springWebsocket.getMessageDispatcher() instanceof RingBufferWebsocketMessageDispatcher);
+    Assert.assertEquals(
+        RingBufferWebsocketMessageDispatcher.DEFAULT_CAPACITY, 
+        ((RingBufferWebsocketMessageDispatcher) springWebsocket.getMessageDispatcher()).getCapacity());
+    Assert.assertNull(springWebsocket.getMessageKeyExtractor());
+    Assert.assertNull(springWebsocket.getExecutorFactory());
+  }
+  
+  @Test
+  public void testCreateWebsocketWithSharedExecutorMode() {
+    ExchangeStub exchange = new ExchangeStub("myExchange");
+    exchange.getProperties().setProperty(CommonConfigProperties.EXECUTOR_MODE_PROPERTY.getName(), "SHARED");
+    exchange.getProperties().setProperty(CommonConfigProperties.SHARED_EXECUTOR_POOL_SIZE_PROPERTY.getName(), "3");
+    SpringWebsocket sock = (SpringWebsocket) new DefaultWebsocketFactory().createWebsocket(exchange);
+    Assert.assertSame(SharedExecutorFactory.getInstance(3), sock.getExecutorFactory());
+    exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_IMPLEMENTATION_PROPERTY.getName(), "JAVA_NET");
+    JavaNetWebsocket javaNetSock = (JavaNetWebsocket) new DefaultWebsocketFactory().createWebsocket(exchange);
+    Assert.assertSame(SharedExecutorFactory.getInstance(3), javaNetSock.getExecutorFactory());
+  }
+  
+  @Test
+  public void testCreateWebsocketWithShardedDispatchMode() {
+    ExchangeStub exchange = new ExchangeStub("myExchange");
+    exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_DISPATCH_MODE_PROPERTY.getName(), "SHARDED");
+    exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_DISPATCH_SHARD_COUNT_PROPERTY.getName(), "3");
+    exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_DISPATCH_SHARD_KEY_FIELD_PROPERTY.getName(), "s");
+    SpringWebsocket sock = (SpringWebsocket) new DefaultWebsocketFactory().createWebsocket(exchange);
+    Assert.assertTrue(sock.getMessageDispatcher() instanceof ShardedWebsocketMessageDispatcher);
+    Assert.assertEquals(3, ((ShardedWebsocketMessageDispatcher) sock.getMessageDispatcher()).getShardCount());
+    Assert.assertEquals("s", ((JsonFieldMessageKeyExtractor) sock.getMessageKeyExtractor()).getFieldName());
+  }
+  
+  @Test
+  public void testCreateWebsocketWithInlineDispatchMode() {
+    ExchangeStub exchange = new ExchangeStub("myExchange");
+    exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_DISPATCH_MODE_PROPERTY.getName(), "INLINE");
+    exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_DISPATCH_SHARD_KEY_FIELD_PROPERTY.getName(), "s");
+    SpringWebsocket sock = (SpringWebsocket) new DefaultWebsocketFactory().createWebsocket(exchange);
+    Assert.assertTrue(sock.getMessageDispatcher() instanceof InlineWebsocketMessageDispatcher);
+    Assert.assertNull(sock.getMessageKeyExtractor());
+  }
+
+  @Test
+  public void testCreateJavaNetWebsocket() {
+    ExchangeStub exchange = new ExchangeStub("myExchange");
+    exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_IMPLEMENTATION_PROPERTY.getName(), "JAVA_NET");
+    Websocket sock = new DefaultWebsocketFactory().createWebsocket(exchange);
+    Assert.assertTrue(sock instanceof JavaNetWebsocket);
+    Assert.assertSame(ExecutorFactory.PLATFORM, ((JavaNetWebsocket) sock).getExecutorFactory());
   }
 
 }
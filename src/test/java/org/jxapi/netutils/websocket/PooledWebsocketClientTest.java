@@ -0,0 +1,268 @@
+package org.jxapi.netutils.websocket;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jxapi.netutils.websocket.mock.MockWebsocket;
+import org.jxapi.netutils.websocket.multiplexing.WebsocketMessageTopicMatcherFactory;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Unit test for {@link PooledWebsocketClient}
+ */
+public class PooledWebsocketClientTest {
+
+  private List<MockConnection> created;
+  private PooledWebsocketClient pool;
+  private GenericRawWebsocketMessageHandler listener;
+  private GenericWebsocketErrorHandler errorHandler;
+
+  @Before
+  public void setUp() {
+    created = new ArrayList<>();
+    listener = new GenericRawWebsocketMessageHandler();
+    errorHandler = new GenericWebsocketErrorHandler();
+    pool = createPool(3, 2);
+  }
+
+  @After
+  public void tearDown() {
+    pool.dispose();
+  }
+
+  private PooledWebsocketClient createPool(int maxConnections, int maxTopicsPerConnection) {
+    Supplier<WebsocketClient> factory = () -> {
+      MockConnection c = new MockConnection();
+      created.add(c);
+      return c;
+    };
+    PooledWebsocketClient p = new PooledWebsocketClient(factory, maxConnections, maxTopicsPerConnection);
+    p.subscribeErrorHandler(errorHandler);
+    return p;
+  }
+
+  private void subscribe(String topic) {
+    pool.subscribe(WebsocketSubscribeRequest.create(null, topic, WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY), listener);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxConnections() {
+    new PooledWebsocketClient(MockConnection::new, 0, 1);
+  }
+
+  @Test
+  public void testUnlimitedTopicsPerConnection() {
+    Assert.assertEquals(Integer.MAX_VALUE, new PooledWebsocketClient(MockConnection::new, 1, 0).getMaxTopicsPerConnection());
+    Assert.assertEquals(3, pool.getMaxConnections());
+    Assert.assertEquals(2, pool.getMaxTopicsPerConnection());
+  }
+
+  @Test
+  public void testSubscribeSpreadsTopicsOverConnections() {
+    pool.setUrl("wss://foo.bar");
+    pool.setReconnectDelay(1000L);
+    RawWebsocketMessageHandler systemHandler = new GenericRawWebsocketMessageHandler();
+    pool.addSystemMessageHandler("pong", WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY, systemHandler);
+    for (int i = 0; i < 6; i++) {
+      subscribe("t" + i);
+    }
+    Assert.assertEquals(3, created.size());
+    Assert.assertEquals(3, pool.getConnections().size());
+    for (MockConnection c : created) {
+      Assert.assertEquals(2, c.subscriptions.size());
+      Assert.assertEquals("wss://foo.bar", c.getUrl());
+      Assert.assertEquals(1000L, c.getReconnectDelay());
+      Assert.assertEquals(List.of("pong"), c.systemTopics);
+    }
+    Assert.assertEquals(List.of("t0", "t3"), List.copyOf(created.get(0).subscriptions.keySet()));
+    Assert.assertEquals(List.of("t1", "t4"), List.copyOf(created.get(1).subscriptions.keySet()));
+    Assert.assertSame(created.get(2), pool.getConnection("t5"));
+    Assert.assertEquals("wss://foo.bar", pool.getUrl());
+    Assert.assertEquals(1000L, pool.getReconnectDelay());
+    Assert.assertEquals(-1L, pool.getNoMessageTimeout());
+
+    created.get(1).dispatchMessage("t4", "hello");
+    Assert.assertEquals("hello", listener.pop());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSubscribeMoreThanMaxTopics() {
+    for (int i = 0; i < 7; i++) {
+      subscribe("t" + i);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSubscribeTwiceSameTopic() {
+    subscribe("t0");
+    subscribe("t0");
+  }
+
+  @Test
+  public void testUnsubscribeDisposesEmptyConnectionExceptFirst() {
+    subscribe("t0");
+    subscribe("t1");
+    MockConnection first = created.get(0);
+    MockConnection second = created.get(1);
+    pool.unsubscribe("t1");
+    Assert.assertEquals(List.of("t1"), second.unsubscribed);
+    Assert.assertTrue(second.isDisposed());
+    pool.unsubscribe("t0");
+    Assert.assertFalse(first.isDisposed());
+    Assert.assertEquals(List.of(first), pool.getConnections());
+    Assert.assertNull(pool.getConnection("t0"));
+    pool.unsubscribe("unknown");
+    // Connection left is reused
+    subscribe("t2");
+    Assert.assertEquals(2, created.size());
+    Assert.assertSame(first, pool.getConnection("t2"));
+  }
+
+  @Test
+  public void testUnsubscribedHandlerStopsForwardingMessages() throws Exception {
+    subscribe("t0");
+    MockConnection first = created.get(0);
+    RawWebsocketMessageHandler h = first.subscriptions.get("t0");
+    pool.unsubscribe("t0");
+    h.handleWebsocketMessage("late");
+    listener.checkNoEvents(0);
+  }
+
+  @Test
+  public void testRebalanceOnConnectionError() throws Exception {
+    pool.setRebalanceInterval(0L);
+    for (int i = 0; i < 6; i++) {
+      subscribe("t" + i);
+    }
+    MockConnection first = created.get(0);
+    RawWebsocketMessageHandler oldHandler = first.subscriptions.get("t3");
+    WebsocketException error = new WebsocketException("Connection lost");
+    first.dispatchWebsocketError(error);
+    Assert.assertSame(error, errorHandler.pop());
+    // Pool is balanced: 2 topics on each connection
+    Assert.assertSame(first, pool.getConnection("t3"));
+    Assert.assertTrue(first.unsubscribed.isEmpty());
+
+    // Unsubscribing topics leaves first connection with more than its share
+    pool.unsubscribe("t1");
+    pool.unsubscribe("t4");
+    pool.unsubscribe("t2");
+    Assert.assertTrue(created.get(1).isDisposed());
+    Assert.assertEquals(2, pool.getConnections().size());
+    first.dispatchWebsocketError(error);
+    errorHandler.pop();
+    // t3 moved to a new connection, as remaining one is not less loaded
+    Assert.assertSame(first, pool.getConnection("t0"));
+    Assert.assertEquals(4, created.size());
+    MockConnection moved = created.get(3);
+    Assert.assertSame(moved, pool.getConnection("t3"));
+    Assert.assertEquals(List.of("t3"), first.unsubscribed);
+    Assert.assertEquals(List.of("t0"), List.copyOf(first.subscriptions.keySet()));
+    Assert.assertEquals(List.of("t3"), List.copyOf(moved.subscriptions.keySet()));
+
+    // Messages still received on former connection are not forwarded
+    oldHandler.handleWebsocketMessage("stale");
+    listener.checkNoEvents(0);
+    moved.dispatchMessage("t3", "fresh");
+    Assert.assertEquals("fresh", listener.pop());
+  }
+
+  @Test
+  public void testFlappingConnectionRebalancedOncePerInterval() throws Exception {
+    Assert.assertEquals(PooledWebsocketClient.DEFAULT_REBALANCE_INTERVAL, pool.getRebalanceInterval());
+    for (int i = 0; i < 6; i++) {
+      subscribe("t" + i);
+    }
+    MockConnection first = created.get(0);
+    WebsocketException error = new WebsocketException("Connection lost");
+    first.dispatchWebsocketError(error);
+    errorHandler.pop();
+    pool.unsubscribe("t1");
+    pool.unsubscribe("t4");
+    pool.unsubscribe("t2");
+    // Connection flaps again within rebalance interval: its topics are left as is
+    first.dispatchWebsocketError(error);
+    Assert.assertSame(error, errorHandler.pop());
+    Assert.assertEquals(3, created.size());
+    Assert.assertSame(first, pool.getConnection("t0"));
+    Assert.assertSame(first, pool.getConnection("t3"));
+    Assert.assertTrue(first.unsubscribed.isEmpty());
+  }
+
+  @Test
+  public void testTokenizedHandlerIsPreserved() {
+    GenericTokenizedHandler handler = new GenericTokenizedHandler();
+    pool.subscribe(WebsocketSubscribeRequest.create(null, "t0", WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY), handler);
+    RawWebsocketMessageHandler h = created.get(0).subscriptions.get("t0");
+    Assert.assertTrue(h instanceof TokenizedWebsocketMessageHandler);
+    ((TokenizedWebsocketMessageHandler) h).handleWebsocketMessage((TokenBuffer) null, () -> "tokens");
+    Assert.assertEquals(List.of("tokens"), handler.received);
+  }
+
+  @Test
+  public void testDisposeDisposesConnections() {
+    subscribe("t0");
+    subscribe("t1");
+    pool.dispose();
+    Assert.assertTrue(created.stream().allMatch(MockConnection::isDisposed));
+    Assert.assertTrue(pool.getConnections().isEmpty());
+  }
+
+  private static class GenericTokenizedHandler implements TokenizedWebsocketMessageHandler {
+    final List<String> received = new ArrayList<>();
+
+    @Override
+    public void handleWebsocketMessage(String message) {
+      received.add(message);
+    }
+
+    @Override
+    public void handleWebsocketMessage(TokenBuffer tokens, Supplier<String> rawMessage) {
+      received.add(rawMessage.get());
+    }
+  }
+
+  private static class MockConnection extends DefaultWebsocketClient {
+
+    final Map<String, RawWebsocketMessageHandler> subscriptions = new LinkedHashMap<>();
+    final List<String> unsubscribed = new ArrayList<>();
+    final List<String> systemTopics = new ArrayList<>();
+
+    MockConnection() {
+      super(new MockWebsocket(), null);
+    }
+
+    @Override
+    public void subscribe(WebsocketSubscribeRequest subscribeRequest, RawWebsocketMessageHandler messageHandler) {
+      subscriptions.put(subscribeRequest.getTopic(), messageHandler);
+    }
+
+    @Override
+    public void unsubscribe(String topic) {
+      subscriptions.remove(topic);
+      unsubscribed.add(topic);
+    }
+
+    @Override
+    public synchronized void addSystemMessageHandler(String topic, WebsocketMessageTopicMatcherFactory matcher, RawWebsocketMessageHandler messageHandler) {
+      systemTopics.add(topic);
+    }
+
+    void dispatchMessage(String topic, String message) {
+      subscriptions.get(topic).handleWebsocketMessage(message);
+    }
+
+    @Override
+    protected void dispatchWebsocketError(WebsocketException error) {
+      super.dispatchWebsocketError(error);
+    }
+  }
+}
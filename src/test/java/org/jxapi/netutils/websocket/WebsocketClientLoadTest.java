@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.time.DurationFormatUtils;
@@ -28,6 +29,9 @@ import org.slf4j.LoggerFactory;
  * threads.<br>
  * Main thread awaits for termination of those threads then for all messages to
  * be received.<br>
+ * Optionally, another thread keeps subscribing and unsubscribing extra topics
+ * while messages are dispatched, to measure impact of subscription churn on
+ * receive path, see {@link #runTest(int, int, int, int, boolean)}.<br>
  * This is a snippet with main method to run it. The number of messages per
  * topic, iterations... can be configured using system properties, see
  * {@link #NB_MESSAGES_PER_TOPIC}, {@link #ITERATIONS}, {@link #NB_THREADS}.<br>
@@ -61,6 +65,13 @@ public class WebsocketClientLoadTest {
    */
   public static final int NB_THREADS = PropertiesUtil.getInt(System.getProperties(), "jxapi.wsmanager.loadTest.threadCount", 8);
   
+  /**
+   * Number of extra topics subscribed then unsubscribed in loop while
+   * messages are dispatched when running with subscription churn, can be tuned
+   * using system property <code>jxapi.wsmanager.loadTest.churnTopicCount</code>
+   */
+  public static final int NB_CHURN_TOPICS = PropertiesUtil.getInt(System.getProperties(), "jxapi.wsmanager.loadTest.churnTopicCount", 100);
+  
   private static final AtomicInteger MESSAGE_COUNTER = new AtomicInteger();
   private static final AtomicInteger RAND_VALUE_COUNTER = new AtomicInteger();
   
@@ -92,6 +103,26 @@ public class WebsocketClientLoadTest {
       int nbMessagesPerTopic, 
       int iterations, 
       int nbThreads) throws InterruptedException {
+    runTest(topicCount, nbMessagesPerTopic, iterations, nbThreads, false);
+  }
+  
+  /**
+   * Runs load test
+   * @param topicCount number of topics to subscribe
+   * @param nbMessagesPerTopic number of messages per topic to send during test
+   * @param iterations number of iterations to run
+   * @param nbThreads number of threads to spawn to dispatch messages
+   * @param subscriptionChurn if <code>true</code>, {@link #NB_CHURN_TOPICS}
+   *                          extra topics are subscribed then unsubscribed in
+   *                          loop while messages are dispatched.
+   * @return time elapsed dispatching messages, in milliseconds
+   * @throws InterruptedException eventually thrown while waiting
+   */
+  public long runTest(int topicCount, 
+      int nbMessagesPerTopic, 
+      int iterations, 
+      int nbThreads,
+      boolean subscriptionChurn) throws InterruptedException {
     int totalMessageCount = (topicCount + 1) * nbMessagesPerTopic * iterations;
     int totalTopicRelatedMessageCount = topicCount * nbMessagesPerTopic * iterations;
     MsgHandler wsMessageHandler1 = new MsgHandler(nbMessagesPerTopic);
@@ -129,12 +160,14 @@ public class WebsocketClientLoadTest {
          totalMessageCount, 
          totalTopicRelatedMessageCount, 
          topicCount);
+    AtomicBoolean churnStopped = new AtomicBoolean(false);
+    Thread churnThread = new Thread(() -> churnSubscriptions(churnStopped), "churn");
     long startTime = System.currentTimeMillis();
-    for (int i = 0; i < threads.size(); i++) {
-      threads.get(i).start();
+    if (subscriptionChurn) {
+      churnThread.start();
     }
     for (int i = 0; i < threads.size(); i++) {
-      threads.get(i).join();
+      threads.get(i).start();
     }
     for (int i = 0; i < threads.size(); i++) {
       threads.get(i).join();
@@ -142,9 +175,36 @@ public class WebsocketClientLoadTest {
     for (int i = 0; i < wsMessageHandlers.size(); i++) {
       Assert.assertTrue(wsMessageHandlers.get(i).latch.await(60000,TimeUnit.MILLISECONDS));
     }
-    log.info("All messages received in {}", 
-         DurationFormatUtils.formatDuration((System.currentTimeMillis() - startTime), 
-                            "**H:mm:ss,SSS**", true));
+    long elapsed = System.currentTimeMillis() - startTime;
+    churnStopped.set(true);
+    if (subscriptionChurn) {
+      churnThread.join();
+    }
+    log.info("All messages received in {}{}", 
+         DurationFormatUtils.formatDuration(elapsed, "**H:mm:ss,SSS**", true),
+         subscriptionChurn ? " with subscription churn" : "");
+    return elapsed;
+  }
+  
+  private void churnSubscriptions(AtomicBoolean stopped) {
+    RawWebsocketMessageHandler noOp = m -> {};
+    while (!stopped.get()) {
+      for (int i = 0; i < NB_CHURN_TOPICS; i++) {
+        String topic = "churn" + i;
+        wsManager.subscribe(
+            WebsocketSubscribeRequest.create(topic, topic, WSMTMFUtil.value("f4", topic)), 
+            noOp);
+      }
+      for (int i = 0; i < NB_CHURN_TOPICS; i++) {
+        wsManager.unsubscribe("churn" + i);
+      }
+      try {
+        DemoUtil.sleep(1L);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
   }
   
   private List<String> prepareMessages(int nbMessagesPerTopic, int totalMessageCount) {
@@ -193,10 +253,16 @@ public class WebsocketClientLoadTest {
   public void testLoadTest() throws InterruptedException {
     runTest(2, 50, 10, 2);
   }
+  
+  @Test
+  public void testLoadTestWithSubscriptionChurn() throws InterruptedException {
+    runTest(2, 50, 10, 2, true);
+  }
 
   public static void main(String[] args) {
     try {
       new WebsocketClientLoadTest().runTest(TOPIC_COUNT, NB_MESSAGES_PER_TOPIC, ITERATIONS, NB_THREADS);
+      new WebsocketClientLoadTest().runTest(TOPIC_COUNT, NB_MESSAGES_PER_TOPIC, ITERATIONS, NB_THREADS, true);
       log.info("DONE");
     } catch (Throwable t) {
       log.error("Error raised", t);
@@ -0,0 +1,177 @@
+package org.jxapi.netutils.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link WebsocketSubscriptionQueue}
+ */
+public class WebsocketSubscriptionQueueTest {
+
+  private List<Runnable> drainTasks;
+  private List<String> handled;
+
+  @Before
+  public void setUp() {
+    drainTasks = new ArrayList<>();
+    handled = new ArrayList<>();
+  }
+
+  private WebsocketSubscriptionQueue<String> createQueue(int capacity, WebsocketOverflowPolicy policy) {
+    return new WebsocketSubscriptionQueue<>(capacity, policy, drainTasks::add, handled::add);
+  }
+
+  private void drain() {
+    while (!drainTasks.isEmpty()) {
+      drainTasks.remove(0).run();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidCapacity() {
+    createQueue(0, WebsocketOverflowPolicy.BLOCK);
+  }
+
+  @Test
+  public void testOfferAndDrainInOrder() {
+    WebsocketSubscriptionQueue<String> queue = createQueue(4, WebsocketOverflowPolicy.DROP_NEWEST);
+    Assert.assertEquals(4, queue.getCapacity());
+    Assert.assertEquals(WebsocketOverflowPolicy.DROP_NEWEST, queue.getOverflowPolicy());
+    Assert.assertNull(queue.offer(null, "m1"));
+    Assert.assertNull(queue.offer(null, "m2"));
+    Assert.assertEquals(2, queue.size());
+    // Single drain task submitted until queue is drained
+    Assert.assertEquals(1, drainTasks.size());
+    drain();
+    Assert.assertEquals(List.of("m1", "m2"), handled);
+    Assert.assertEquals(0, queue.size());
+    Assert.assertNull(queue.offer(null, "m3"));
+    Assert.assertEquals(1, drainTasks.size());
+    drain();
+    Assert.assertEquals(List.of("m1", "m2", "m3"), handled);
+    Assert.assertEquals(0L, queue.getDroppedCount());
+  }
+
+  @Test
+  public void testDropNewest() {
+    WebsocketSubscriptionQueue<String> queue = createQueue(2, WebsocketOverflowPolicy.DROP_NEWEST);
+    Assert.assertNull(queue.offer(null, "m1"));
+    Assert.assertNull(queue.offer(null, "m2"));
+    Assert.assertEquals("m3", queue.offer(null, "m3"));
+    Assert.assertEquals(1L, queue.getDroppedCount());
+    drain();
+    Assert.assertEquals(List.of("m1", "m2"), handled);
+  }
+
+  @Test
+  public void testDropOldest() {
+    WebsocketSubscriptionQueue<String> queue = createQueue(2, WebsocketOverflowPolicy.DROP_OLDEST);
+    Assert.assertNull(queue.offer(null, "m1"));
+    Assert.assertNull(queue.offer(null, "m2"));
+    Assert.assertEquals("m1", queue.offer(null, "m3"));
+    Assert.assertEquals("m2", queue.offer(null, "m4"));
+    Assert.assertEquals(2L, queue.getDroppedCount());
+    drain();
+    Assert.assertEquals(List.of("m3", "m4"), handled);
+  }
+
+  @Test
+  public void testConflateLatestPerKey() {
+    WebsocketSubscriptionQueue<String> queue = createQueue(2, WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY);
+    Assert.assertNull(queue.offer("BTC", "BTC-1"));
+    Assert.assertNull(queue.offer("ETH", "ETH-1"));
+    Assert.assertEquals("BTC-1", queue.offer("BTC", "BTC-2"));
+    Assert.assertEquals(2, queue.size());
+    // New key while full: oldest pending message is dropped
+    Assert.assertEquals("BTC-2", queue.offer("SOL", "SOL-1"));
+    Assert.assertEquals(2L, queue.getDroppedCount());
+    drain();
+    Assert.assertEquals(List.of("ETH-1", "SOL-1"), handled);
+  }
+
+  @Test
+  public void testConflateNullKey() {
+    WebsocketSubscriptionQueue<String> queue = createQueue(2, WebsocketOverflowPolicy.CONFLATE_LATEST_PER_KEY);
+    Assert.assertNull(queue.offer(null, "m1"));
+    Assert.assertEquals("m1", queue.offer(null, "m2"));
+    drain();
+    Assert.assertEquals(List.of("m2"), handled);
+  }
+
+  @Test
+  public void testClear() {
+    WebsocketSubscriptionQueue<String> queue = createQueue(2, WebsocketOverflowPolicy.BLOCK);
+    queue.offer(null, "m1");
+    queue.clear();
+    Assert.assertEquals(0, queue.size());
+    drain();
+    Assert.assertTrue(handled.isEmpty());
+    Assert.assertEquals(0L, queue.getDroppedCount());
+  }
+
+  @Test
+  public void testHandlerErrorDoesNotStopDrain() {
+    WebsocketSubscriptionQueue<String> queue = new WebsocketSubscriptionQueue<>(
+        4,
+        WebsocketOverflowPolicy.BLOCK,
+        drainTasks::add,
+        m -> {
+          if (m.equals("m1")) {
+            throw new IllegalStateException("Expected error");
+          }
+          handled.add(m);
+        });
+    queue.offer(null, "m1");
+    queue.offer(null, "m2");
+    drain();
+    Assert.assertEquals(List.of("m2"), handled);
+  }
+
+  @Test(timeout = 5000L)
+  public void testBlockWaitsForFreeSlot() throws Exception {
+    CountDownLatch handling = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch allHandled = new CountDownLatch(3);
+    List<String> received = new ArrayList<>();
+    WebsocketSubscriptionQueue<String> queue = new WebsocketSubscriptionQueue<>(
+        1,
+        WebsocketOverflowPolicy.BLOCK,
+        r -> new Thread(r).start(),
+        m -> {
+          handling.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          synchronized (received) {
+            received.add(m);
+          }
+          allHandled.countDown();
+        });
+    queue.offer(null, "m1");
+    Assert.assertTrue(handling.await(1, TimeUnit.SECONDS));
+    // m1 is being handled, queue is empty
+    queue.offer(null, "m2");
+    AtomicReference<String> dropped = new AtomicReference<>("none");
+    Thread producer = new Thread(() -> dropped.set(queue.offer(null, "m3")));
+    producer.start();
+    producer.join(200L);
+    Assert.assertTrue("Producer should wait for a free slot", producer.isAlive());
+    release.countDown();
+    producer.join();
+    Assert.assertNull(dropped.get());
+    Assert.assertTrue(allHandled.await(1, TimeUnit.SECONDS));
+    synchronized (received) {
+      Assert.assertEquals(List.of("m1", "m2", "m3"), received);
+    }
+    Assert.assertEquals(0L, queue.getDroppedCount());
+  }
+}
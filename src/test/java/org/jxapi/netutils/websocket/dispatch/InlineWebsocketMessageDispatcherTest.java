@@ -0,0 +1,25 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InlineWebsocketMessageDispatcher}
+ */
+public class InlineWebsocketMessageDispatcherTest {
+
+  @Test
+  public void testDispatchRunsTaskOnCallerThread() {
+    InlineWebsocketMessageDispatcher dispatcher = new InlineWebsocketMessageDispatcher();
+    List<Thread> threads = new ArrayList<>();
+    Assert.assertTrue(dispatcher.dispatch("k", () -> threads.add(Thread.currentThread())));
+    Assert.assertTrue(dispatcher.dispatch(null, () -> threads.add(Thread.currentThread())));
+    Assert.assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), threads);
+    Assert.assertEquals(2, dispatcher.getDispatchedCount());
+    Assert.assertEquals(0, dispatcher.getQueueDepth());
+    Assert.assertEquals(0, dispatcher.getDroppedCount());
+  }
+}
@@ -0,0 +1,72 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jxapi.util.JsonUtil;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Unit test for {@link JsonFieldMessageKeyExtractor}
+ */
+public class JsonFieldMessageKeyExtractorTest {
+
+  private final JsonFieldMessageKeyExtractor extractor = new JsonFieldMessageKeyExtractor("s");
+
+  @Test
+  public void testGetFieldName() {
+    Assert.assertEquals("s", extractor.getFieldName());
+  }
+
+  @Test
+  public void testExtractKey() {
+    Assert.assertEquals("BTC", extractor.extractKey("{\"e\":\"ticker\",\"s\":\"BTC\",\"p\":1}"));
+    Assert.assertEquals("12", extractor.extractKey("{\"s\":12}"));
+  }
+
+  @Test
+  public void testExtractKeyFirstOccurrenceInNestedObject() {
+    Assert.assertEquals("ETH", extractor.extractKey("{\"data\":{\"s\":\"ETH\"},\"s\":\"BTC\"}"));
+  }
+
+  @Test
+  public void testExtractKeyFromTokens() throws Exception {
+    Assert.assertEquals("BTC", extractor.extractKey(tokenize("{\"e\":\"ticker\",\"s\":\"BTC\",\"p\":1}")));
+    Assert.assertNull(extractor.extractKey(tokenize("{\"e\":\"ticker\"}")));
+    // Default implementation serializes tokens back to JSON
+    WebsocketMessageKeyExtractor lengthExtractor = message -> String.valueOf(message.length());
+    Assert.assertEquals("7", lengthExtractor.extractKey(tokenize("{ \"s\" : 1 }")));
+  }
+
+  private static TokenBuffer tokenize(String message) throws Exception {
+    try (JsonParser parser = JsonUtil.DEFAULT_JSON_FACTORY.createParser(message)) {
+      TokenBuffer tokens = new TokenBuffer(parser);
+      while (parser.nextToken() != null) {
+        tokens.copyCurrentEvent(parser);
+      }
+      return tokens;
+    }
+  }
+
+  @Test
+  public void testExtractKeyNotFound() {
+    Assert.assertNull(extractor.extractKey("{\"e\":\"ticker\"}"));
+    Assert.assertNull(extractor.extractKey("{\"s\":null}"));
+    Assert.assertNull(extractor.extractKey("{\"s\":{\"a\":1}}"));
+  }
+
+  @Test
+  public void testExtractKeyInvalidJson() {
+    Assert.assertNull(extractor.extractKey("not json"));
+  }
+
+  @Test
+  public void testExtractKeyFromBytes() {
+    byte[] bytes = "__{\"s\":\"BTC\"}__".getBytes(StandardCharsets.UTF_8);
+    Assert.assertEquals("BTC", extractor.extractKey(bytes, 2, bytes.length - 4));
+    Assert.assertNull(extractor.extractKey(bytes, 0, bytes.length));
+  }
+}
@@ -0,0 +1,177 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jxapi.util.SharedExecutorFactory;
+
+/**
+ * Unit test for {@link RingBufferWebsocketMessageDispatcher}
+ */
+public class RingBufferWebsocketMessageDispatcherTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidCapacity() {
+    new RingBufferWebsocketMessageDispatcher("test", 0, false);
+  }
+
+  @Test
+  public void testCapacityRoundedToPowerOfTwo() {
+    Assert.assertEquals(16, new RingBufferWebsocketMessageDispatcher("test", 10, false).getCapacity());
+    Assert.assertEquals(16, new RingBufferWebsocketMessageDispatcher("test", 16, true).getCapacity());
+    Assert.assertEquals(RingBufferWebsocketMessageDispatcher.DEFAULT_CAPACITY, 
+                        new RingBufferWebsocketMessageDispatcher("test").getCapacity());
+    Assert.assertFalse(new RingBufferWebsocketMessageDispatcher("test").isDropWhenFull());
+  }
+
+  @Test
+  public void testTasksRunInOrderOnSingleConsumerThread() throws Exception {
+    RingBufferWebsocketMessageDispatcher dispatcher = new RingBufferWebsocketMessageDispatcher("test-ordered-", 64, false);
+    int count = 10000;
+    List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+    List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch done = new CountDownLatch(count);
+    for (int i = 0; i < count; i++) {
+      int v = i;
+      Assert.assertTrue(dispatcher.dispatch("k" + (i % 3), () -> {
+        received.add(v);
+        threads.add(Thread.currentThread());
+        done.countDown();
+      }));
+    }
+    Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+    for (int i = 0; i < count; i++) {
+      Assert.assertEquals(i, received.get(i).intValue());
+    }
+    Assert.assertNotEquals(Thread.currentThread(), threads.get(0));
+    Assert.assertTrue(threads.get(0).getName().startsWith("test-ordered-"));
+    Assert.assertEquals(count, dispatcher.getDispatchedCount());
+    Assert.assertEquals(0, dispatcher.getDroppedCount());
+    Assert.assertEquals(0, dispatcher.getQueueDepth());
+  }
+
+  @Test
+  public void testConsumerRunOnExecutorFromExecutorFactory() throws Exception {
+    RingBufferWebsocketMessageDispatcher dispatcher = new RingBufferWebsocketMessageDispatcher(
+        "test-factory-", 16, false, SharedExecutorFactory.getInstance(2));
+    CompletableFuture<Thread> consumer = new CompletableFuture<>();
+    Assert.assertTrue(dispatcher.dispatch(null, () -> consumer.complete(Thread.currentThread())));
+    Assert.assertTrue(consumer.get(5, TimeUnit.SECONDS).getName().startsWith(SharedExecutorFactory.THREAD_NAME_PREFIX + "2-io-"));
+  }
+
+  @Test
+  public void testConcurrentProducersNoTaskLost() throws Exception {
+    RingBufferWebsocketMessageDispatcher dispatcher = new RingBufferWebsocketMessageDispatcher("test-mp-", 32, false);
+    int producers = 4;
+    int perProducer = 5000;
+    CountDownLatch done = new CountDownLatch(producers * perProducer);
+    int[][] lastSeen = new int[producers][1];
+    List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    List<Thread> threads = new ArrayList<>();
+    for (int p = 0; p < producers; p++) {
+      int producer = p;
+      lastSeen[p][0] = -1;
+      Thread t = new Thread(() -> {
+        for (int i = 0; i < perProducer; i++) {
+          int v = i;
+          dispatcher.dispatch(null, () -> {
+            // Tasks of a same producer must run in order
+            if (lastSeen[producer][0] != v - 1) {
+              errors.add("Producer " + producer + " expected " + (v - 1) + " got " + lastSeen[producer][0]);
+            }
+            lastSeen[producer][0] = v;
+            done.countDown();
+          });
+        }
+      });
+      threads.add(t);
+      t.start();
+    }
+    Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+    for (Thread t : threads) {
+      t.join();
+    }
+    Assert.assertEquals(List.of(), errors);
+    Assert.assertEquals(producers * perProducer, dispatcher.getDispatchedCount());
+  }
+
+  @Test
+  public void testDropWhenFull() throws Exception {
+    RingBufferWebsocketMessageDispatcher dispatcher = new RingBufferWebsocketMessageDispatcher("test-drop-", 4, true);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch done = new CountDownLatch(4);
+    Assert.assertTrue(dispatcher.dispatch(null, () -> {
+      started.countDown();
+      await(release);
+    }));
+    Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 4; i++) {
+      int v = i;
+      Assert.assertTrue(dispatcher.dispatch(null, () -> {
+        received.add(v);
+        done.countDown();
+      }));
+    }
+    Assert.assertEquals(4, dispatcher.getQueueDepth());
+    Assert.assertFalse(dispatcher.dispatch(null, () -> received.add(4)));
+    Assert.assertEquals(1, dispatcher.getDroppedCount());
+    Assert.assertEquals(5, dispatcher.getDispatchedCount());
+    release.countDown();
+    Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(List.of(0, 1, 2, 3), received);
+    Assert.assertEquals(0, dispatcher.getQueueDepth());
+  }
+
+  @Test
+  public void testBlockWhenFull() throws Exception {
+    RingBufferWebsocketMessageDispatcher dispatcher = new RingBufferWebsocketMessageDispatcher("test-block-", 2, false);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+    dispatcher.dispatch(null, () -> await(release));
+    CountDownLatch producerDone = new CountDownLatch(1);
+    Thread producer = new Thread(() -> {
+      for (int i = 0; i < 10; i++) {
+        int v = i;
+        dispatcher.dispatch(null, () -> received.add(v));
+      }
+      producerDone.countDown();
+    });
+    producer.start();
+    // Producer waits while consumer is blocked
+    Assert.assertFalse(producerDone.await(200, TimeUnit.MILLISECONDS));
+    release.countDown();
+    Assert.assertTrue(producerDone.await(5, TimeUnit.SECONDS));
+    CountDownLatch done = new CountDownLatch(1);
+    dispatcher.dispatch(null, done::countDown);
+    Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), received);
+    Assert.assertEquals(0, dispatcher.getDroppedCount());
+  }
+
+  @Test
+  public void testFailingTaskDoesNotStopConsumer() throws Exception {
+    RingBufferWebsocketMessageDispatcher dispatcher = new RingBufferWebsocketMessageDispatcher("test-error-", 4, false);
+    CountDownLatch done = new CountDownLatch(1);
+    dispatcher.dispatch(null, () -> {
+      throw new IllegalStateException("Expected exception");
+    });
+    dispatcher.dispatch(null, done::countDown);
+    Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ShardedWebsocketMessageDispatcher}
+ */
+public class ShardedWebsocketMessageDispatcherTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidShardCount() {
+    new ShardedWebsocketMessageDispatcher("test", 0, 16, false);
+  }
+
+  @Test
+  public void testShardIndex() {
+    ShardedWebsocketMessageDispatcher dispatcher = new ShardedWebsocketMessageDispatcher("test", 4, 16, false);
+    Assert.assertEquals(4, dispatcher.getShardCount());
+    Assert.assertEquals(0, dispatcher.getShardIndex(null));
+    for (int i = 0; i < 100; i++) {
+      String key = "SYM" + i;
+      int idx = dispatcher.getShardIndex(key);
+      Assert.assertTrue(idx >= 0 && idx < 4);
+      Assert.assertEquals(idx, dispatcher.getShardIndex(key));
+    }
+  }
+
+  @Test
+  public void testUnkeyedTasksRunInOrderOnFirstShard() throws Exception {
+    ShardedWebsocketMessageDispatcher dispatcher = new ShardedWebsocketMessageDispatcher("test-sharded-unkeyed-", 4, 16, false);
+    int count = 100;
+    List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch done = new CountDownLatch(count);
+    for (int i = 0; i < count; i++) {
+      int v = i;
+      Assert.assertTrue(dispatcher.dispatch(null, () -> {
+        if (v == 0) {
+          // Following tasks would overtake that one if run on other shards
+          try {
+            Thread.sleep(50);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        received.add(v);
+        done.countDown();
+      }));
+    }
+    Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < count; i++) {
+      Assert.assertEquals(i, received.get(i).intValue());
+    }
+    Assert.assertEquals(count, dispatcher.getDispatchedCount());
+  }
+
+  @Test
+  public void testOrderPreservedPerKey() throws Exception {
+    ShardedWebsocketMessageDispatcher dispatcher = new ShardedWebsocketMessageDispatcher("test-sharded-", 4, 64, false);
+    int keys = 16;
+    int perKey = 1000;
+    Map<String, List<Integer>> received = new HashMap<>();
+    Map<String, Thread> threadsByKey = new HashMap<>();
+    List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    for (int k = 0; k < keys; k++) {
+      received.put("k" + k, Collections.synchronizedList(new ArrayList<>()));
+    }
+    CountDownLatch done = new CountDownLatch(keys * perKey);
+    for (int i = 0; i < perKey; i++) {
+      for (int k = 0; k < keys; k++) {
+        String key = "k" + k;
+        int v = i;
+        Assert.assertTrue(dispatcher.dispatch(key, () -> {
+          received.get(key).add(v);
+          synchronized (threadsByKey) {
+            Thread previous = threadsByKey.put(key, Thread.currentThread());
+            if (previous != null && previous != Thread.currentThread()) {
+              errors.add("Key " + key + " run on distinct threads");
+            }
+          }
+          done.countDown();
+        }));
+      }
+    }
+    Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+    Assert.assertEquals(List.of(), errors);
+    for (List<Integer> l : received.values()) {
+      Assert.assertEquals(perKey, l.size());
+      for (int i = 0; i < perKey; i++) {
+        Assert.assertEquals(i, l.get(i).intValue());
+      }
+    }
+    Assert.assertEquals(keys * perKey, dispatcher.getDispatchedCount());
+    Assert.assertEquals(0, dispatcher.getDroppedCount());
+    Assert.assertEquals(0, dispatcher.getQueueDepth());
+  }
+
+  @Test
+  public void testQueueDepthAndDroppedMetricsAggregated() throws Exception {
+    ShardedWebsocketMessageDispatcher dispatcher = new ShardedWebsocketMessageDispatcher("test-sharded-drop-", 2, 2, true);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    String key = "k";
+    int shard = dispatcher.getShardIndex(key);
+    dispatcher.dispatch(key, () -> {
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+    Assert.assertTrue(dispatcher.dispatch(key, () -> {}));
+    Assert.assertTrue(dispatcher.dispatch(key, () -> {}));
+    Assert.assertFalse(dispatcher.dispatch(key, () -> {}));
+    Assert.assertEquals(2, dispatcher.getShardQueueDepth(shard));
+    Assert.assertEquals(0, dispatcher.getShardQueueDepth(1 - shard));
+    Assert.assertEquals(2, dispatcher.getQueueDepth());
+    Assert.assertEquals(1, dispatcher.getDroppedCount());
+    Assert.assertEquals(3, dispatcher.getDispatchedCount());
+    release.countDown();
+  }
+}
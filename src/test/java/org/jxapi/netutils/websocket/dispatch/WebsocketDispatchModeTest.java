@@ -0,0 +1,24 @@
+package org.jxapi.netutils.websocket.dispatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jxapi.util.SharedExecutorFactory;
+
+/**
+ * Unit test for {@link WebsocketDispatchMode}
+ */
+public class WebsocketDispatchModeTest {
+
+  @Test
+  public void testCreateDispatcher() {
+    Assert.assertTrue(WebsocketDispatchMode.INLINE.createDispatcher("test", 2, 16) instanceof InlineWebsocketMessageDispatcher);
+    WebsocketMessageDispatcher ordered = WebsocketDispatchMode.ORDERED.createDispatcher("test", 2, 16);
+    Assert.assertTrue(ordered instanceof RingBufferWebsocketMessageDispatcher);
+    Assert.assertEquals(16, ((RingBufferWebsocketMessageDispatcher) ordered).getCapacity());
+    WebsocketMessageDispatcher sharded = WebsocketDispatchMode.SHARDED.createDispatcher("test", 3, 16);
+    Assert.assertTrue(sharded instanceof ShardedWebsocketMessageDispatcher);
+    Assert.assertEquals(3, ((ShardedWebsocketMessageDispatcher) sharded).getShardCount());
+    WebsocketMessageDispatcher shardedShared = WebsocketDispatchMode.SHARDED.createDispatcher("test", 2, 16, SharedExecutorFactory.getInstance(2));
+    Assert.assertEquals(2, ((ShardedWebsocketMessageDispatcher) shardedShared).getShardCount());
+  }
+}
@@ -0,0 +1,32 @@
+package org.jxapi.netutils.websocket.javanet;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jxapi.exchange.CommonConfigProperties;
+import org.jxapi.exchange.Exchange;
+import org.jxapi.exchange.ExchangeStub;
+import org.jxapi.netutils.websocket.WebsocketFactory;
+import org.jxapi.util.ExecutorFactory;
+import org.jxapi.util.SharedExecutorFactory;
+
+/**
+ * Unit test for {@link JavaNetWebsocketFactory}
+ */
+public class JavaNetWebsocketFactoryTest {
+
+  @Test
+  public void testCreateWebsocket() {
+    WebsocketFactory factory = WebsocketFactory.fromClassName(JavaNetWebsocketFactory.class.getName());
+    Assert.assertTrue(factory.createWebsocket((Exchange) null) instanceof JavaNetWebsocket);
+    Assert.assertSame(ExecutorFactory.PLATFORM, ((JavaNetWebsocket) factory.createWebsocket((Exchange) null)).getExecutorFactory());
+  }
+
+  @Test
+  public void testCreateWebsocketWithSharedExecutorMode() {
+    ExchangeStub exchange = new ExchangeStub("myExchange");
+    exchange.getProperties().setProperty(CommonConfigProperties.EXECUTOR_MODE_PROPERTY.getName(), "SHARED");
+    exchange.getProperties().setProperty(CommonConfigProperties.SHARED_EXECUTOR_POOL_SIZE_PROPERTY.getName(), "3");
+    JavaNetWebsocket sock = (JavaNetWebsocket) new JavaNetWebsocketFactory().createWebsocket(exchange);
+    Assert.assertSame(SharedExecutorFactory.getInstance(3), sock.getExecutorFactory());
+  }
+}
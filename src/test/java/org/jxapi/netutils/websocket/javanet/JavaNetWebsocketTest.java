@@ -0,0 +1,236 @@
+package org.jxapi.netutils.websocket.javanet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.jxapi.netutils.rest.javanet.HttpServerUtil;
+import org.jxapi.netutils.websocket.GenericRawWebsocketMessageHandler;
+import org.jxapi.netutils.websocket.GenericWebsocketErrorHandler;
+import org.jxapi.netutils.websocket.WebsocketException;
+import org.jxapi.netutils.websocket.mock.server.MockWebsocketServer;
+import org.jxapi.netutils.websocket.mock.server.MockWebsocketServerEvent;
+import org.jxapi.netutils.websocket.mock.server.MockWebsocketServerEventType;
+import org.jxapi.netutils.websocket.mock.server.MockWebsocketServerSession;
+import org.jxapi.util.ExecutorFactory;
+
+/**
+ * Unit test for {@link JavaNetWebsocket}
+ */
+public class JavaNetWebsocketTest {
+
+  private static final long NO_EVENTS_DELAY = 200L;
+
+  private GenericRawWebsocketMessageHandler clientListener;
+  private GenericWebsocketErrorHandler clientErrorHandler;
+  private MockWebsocketServer server;
+  private JavaNetWebsocket ws;
+
+  @Before
+  public void setUp() {
+    clientListener = new GenericRawWebsocketMessageHandler();
+    clientErrorHandler = new GenericWebsocketErrorHandler();
+    server = new MockWebsocketServer(HttpServerUtil.findAvailablePort(), "javaNetWsTest");
+    ws = new JavaNetWebsocket();
+    ws.setUrl(server.getUrl());
+    ws.addMessageHandler(clientListener);
+    ws.addErrorHandler(clientErrorHandler);
+  }
+
+  @After
+  public void tearDown() {
+    if (ws != null) {
+      ws.disconnect();
+    }
+    if (server != null) {
+      server.stop();
+    }
+  }
+
+  @Test
+  public void testConnectAndSendMessageAndReceiveMessageAndDisconnect() throws Exception {
+    server.start();
+    server.checkNoEvents(NO_EVENTS_DELAY);
+
+    ws.connect();
+    Assert.assertTrue(ws.isConnected());
+    MockWebsocketServerSession clientSession = popClientConnectEvent();
+
+    String msg1 = "Ping!";
+    clientSession.sendSync(msg1);
+    Assert.assertEquals(msg1, clientListener.waitUntilCount(1).pop());
+
+    String msg2 = "Pong!";
+    ws.send(msg2);
+    popMessageReceivedFromClient(msg2);
+
+    ws.disconnect();
+    Assert.assertFalse(ws.isConnected());
+    popClientDisconnectEvent();
+    server.checkNoEvents(NO_EVENTS_DELAY);
+    clientListener.checkNoEvents(NO_EVENTS_DELAY);
+    clientErrorHandler.checkNoEvents(NO_EVENTS_DELAY);
+  }
+
+  @Test
+  public void testReceiveFragmentedAndBinaryMessagesAcrossReconnection() throws Exception {
+    server.start();
+    for (int c = 0; c < 2; c++) {
+      ws.connect();
+      MockWebsocketServerSession clientSession = popClientConnectEvent();
+      clientSession.sendPartialSync("{\"s\":", false);
+      clientSession.sendPartialSync("\"SYM", false);
+      clientSession.sendPartialSync(c + "\"}", true);
+      clientSession.sendSync("single");
+      clientSession.sendPartialSync("again", true);
+      clientSession.sendBinarySync("{\"bin\":true}".getBytes(StandardCharsets.UTF_8));
+      Assert.assertEquals(
+          List.of("{\"s\":\"SYM" + c + "\"}", "single", "again", "{\"bin\":true}"),
+          clientListener.waitUntilCount(4).getAllEvents());
+      clientListener.clear();
+      ws.disconnect();
+      popClientDisconnectEvent();
+    }
+    clientErrorHandler.checkNoEvents(NO_EVENTS_DELAY);
+  }
+
+  @Test
+  public void testSendAsyncPipelinesMessages() throws Exception {
+    server.start();
+    ws.connect();
+    popClientConnectEvent();
+    List<String> sent = new ArrayList<>();
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      String msg = "msg" + i;
+      sent.add(msg);
+      futures.add(ws.sendAsync(msg));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+    List<String> received = new ArrayList<>();
+    for (MockWebsocketServerEvent event : server.waitUntilCount(sent.size()).getAllEvents()) {
+      Assert.assertEquals(MockWebsocketServerEventType.MESSAGE_RECEIVED, event.getType());
+      received.add(event.getMessage());
+    }
+    Assert.assertEquals(sent, received);
+  }
+
+  @Test
+  public void testSendAsyncFailureDoesNotFailNextMessages() throws Exception {
+    server.start();
+    ws.connect();
+    popClientConnectEvent();
+    // Unpaired surrogate can't be encoded to UTF-8
+    CompletableFuture<Void> failed = ws.sendAsync("\uD800");
+    CompletableFuture<Void> next = ws.sendAsync("Pong!");
+    try {
+      failed.get(5, TimeUnit.SECONDS);
+      Assert.fail("Expected send failure");
+    } catch (ExecutionException e) {
+      // Expected
+    }
+    next.get(5, TimeUnit.SECONDS);
+    popMessageReceivedFromClient("Pong!");
+  }
+
+  @Test
+  public void testDisconnectShutsDownHttpClientExecutor() throws Exception {
+    List<ExecutorService> executors = new ArrayList<>();
+    ws.setExecutorFactory(new ExecutorFactory() {
+      
+      @Override
+      public ExecutorService createExecutor(String threadNamePrefix, boolean daemon) {
+        ExecutorService executor = ExecutorFactory.PLATFORM.createExecutor(threadNamePrefix, daemon);
+        executors.add(executor);
+        return executor;
+      }
+      
+      @Override
+      public ScheduledExecutorService createScheduledExecutor(String threadNamePrefix, boolean daemon) {
+        return ExecutorFactory.PLATFORM.createScheduledExecutor(threadNamePrefix, daemon);
+      }
+    });
+    server.start();
+    for (int i = 1; i <= 2; i++) {
+      ws.connect();
+      popClientConnectEvent();
+      Assert.assertEquals(i, executors.size());
+      Assert.assertFalse(executors.get(i - 1).isShutdown());
+      ws.disconnect();
+      popClientDisconnectEvent();
+      Assert.assertTrue(executors.get(i - 1).isShutdown());
+    }
+  }
+
+  @Test(expected = WebsocketException.class)
+  public void testSendAsyncRaisesErrorIfNotConnected() throws Exception {
+    ws.sendAsync("Ping!");
+  }
+
+  @Test
+  public void testClientRaisesErrorIfServerShutsDown() throws Exception {
+    server.start();
+    ws.connect();
+    Assert.assertTrue(ws.isConnected());
+    popClientConnectEvent();
+    server.stop();
+    clientErrorHandler.waitUntilCount(1).pop();
+    clientListener.checkNoEvents(NO_EVENTS_DELAY);
+    server.checkNoEvents(NO_EVENTS_DELAY);
+  }
+
+  @Test(expected = WebsocketException.class)
+  public void testClientConnectRaisesErrorOnConnectIfServerISDown() throws Exception {
+    ws.connect();
+  }
+
+  @Test(expected = WebsocketException.class)
+  public void testWrongClientUrlInvalidScheme() throws WebsocketException {
+    ws.setUrl("foo");
+    ws.connect();
+  }
+
+  @Test
+  public void testConnectCanBeRetriedAfterFailure() throws Exception {
+    try {
+      ws.connect();
+      Assert.fail("Expected connection failure");
+    } catch (WebsocketException ex) {
+      Assert.assertFalse(ws.isConnected());
+    }
+    server.start();
+    ws.connect();
+    Assert.assertTrue(ws.isConnected());
+    popClientConnectEvent();
+  }
+
+  private MockWebsocketServerSession popClientConnectEvent() throws TimeoutException {
+    MockWebsocketServerEvent event = server.waitUntilCount(1).pop();
+    Assert.assertEquals(MockWebsocketServerEventType.CLIENT_CONNECT, event.getType());
+    MockWebsocketServerSession session = event.getSession();
+    Assert.assertNotNull(session);
+    return session;
+  }
+
+  private void popMessageReceivedFromClient(String msg) throws TimeoutException {
+    MockWebsocketServerEvent event = server.waitUntilCount(1).pop();
+    Assert.assertEquals(MockWebsocketServerEventType.MESSAGE_RECEIVED, event.getType());
+    Assert.assertEquals(msg, event.getMessage());
+  }
+
+  private void popClientDisconnectEvent() throws TimeoutException {
+    MockWebsocketServerEvent event = server.waitUntilCount(1).pop();
+    Assert.assertEquals(MockWebsocketServerEventType.CLIENT_DISCONNECT, event.getType());
+  }
+}
@@ -40,4 +40,21 @@ public interface MockWebsocketServerSession {
    */
   void sendSync(String message) throws IOException;
 
+  /**
+   * Sends a fragment of a text message to the client.
+   * 
+   * @param fragment The message fragment to send
+   * @param isLast   <code>true</code> if this is the last fragment of message
+   * @throws IOException If an error occurs while sending the fragment
+   */
+  void sendPartialSync(String fragment, boolean isLast) throws IOException;
+
+  /**
+   * Sends a binary message to the client.
+   * 
+   * @param message The message bytes to send
+   * @throws IOException If an error occurs while sending the message
+   */
+  void sendBinarySync(byte[] message) throws IOException;
+
 }
\ No newline at end of file
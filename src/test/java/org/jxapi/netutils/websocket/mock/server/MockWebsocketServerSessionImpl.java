@@ -1,6 +1,7 @@
 package org.jxapi.netutils.websocket.mock.server;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 import jakarta.websocket.Session;
@@ -37,6 +38,16 @@ public class MockWebsocketServerSessionImpl implements MockWebsocketServerSessio
     session.getBasicRemote().sendText(message);
   }
 
+  @Override
+  public void sendPartialSync(String fragment, boolean isLast) throws IOException {
+    session.getBasicRemote().sendText(fragment, isLast);
+  }
+
+  @Override
+  public void sendBinarySync(byte[] message) throws IOException {
+    session.getBasicRemote().sendBinary(ByteBuffer.wrap(message));
+  }
+
   @Override
   public String getId() {
     return session.getId();
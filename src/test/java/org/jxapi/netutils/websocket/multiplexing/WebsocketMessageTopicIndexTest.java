@@ -0,0 +1,152 @@
+package org.jxapi.netutils.websocket.multiplexing;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link WebsocketMessageTopicIndex}
+ */
+public class WebsocketMessageTopicIndexTest {
+
+  @Test
+  public void testCompileValue() {
+    Assert.assertEquals(List.of(Map.of("f1", "v1")), WebsocketMessageTopicIndex.compile(WSMTMFUtil.value("f1", "v1")));
+  }
+
+  @Test
+  public void testCompileAnyMatcher() {
+    Assert.assertEquals(List.of(Map.of()), WebsocketMessageTopicIndex.compile(WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY));
+  }
+
+  @Test
+  public void testCompileNull() {
+    Assert.assertNull(WebsocketMessageTopicIndex.compile(null));
+  }
+
+  @Test
+  public void testCompileRegexpNotSupported() {
+    Assert.assertNull(WebsocketMessageTopicIndex.compile(WSMTMFUtil.regexp("f1", "v.*")));
+    Assert.assertNull(WebsocketMessageTopicIndex.compile(
+        WSMTMFUtil.and(List.of(WSMTMFUtil.value("f1", "v1"), WSMTMFUtil.regexp("f2", "v.*")))));
+    Assert.assertNull(WebsocketMessageTopicIndex.compile(
+        WSMTMFUtil.or(List.of(WSMTMFUtil.value("f1", "v1"), WSMTMFUtil.regexp("f2", "v.*")))));
+  }
+
+  @Test
+  public void testCompileAndOfOr() {
+    WebsocketMessageTopicMatcherFactory f = WSMTMFUtil.and(List.of(
+        WSMTMFUtil.value("f1", "v1"),
+        WSMTMFUtil.or(List.of(WSMTMFUtil.value("f2", "v2"), WSMTMFUtil.value("f1", "v3"), WSMTMFUtil.value("f3", "v3")))));
+    Assert.assertEquals(
+        List.of(Map.of("f1", "v1", "f2", "v2"), Map.of("f1", "v1", "f3", "v3")),
+        WebsocketMessageTopicIndex.compile(f));
+  }
+
+  @Test
+  public void testCompileEmptyOrCantMatch() {
+    Assert.assertEquals(List.of(), WebsocketMessageTopicIndex.compile(WSMTMFUtil.or(List.of())));
+  }
+
+  @Test
+  public void testCompileTooManyConjunctions() {
+    WebsocketMessageTopicMatcherFactory a = fiveValuesOr("a");
+    WebsocketMessageTopicMatcherFactory b = fiveValuesOr("b");
+    WebsocketMessageTopicMatcherFactory c = fiveValuesOr("c");
+    Assert.assertEquals(25, WebsocketMessageTopicIndex.compile(WSMTMFUtil.and(List.of(a, b))).size());
+    Assert.assertNull(WebsocketMessageTopicIndex.compile(WSMTMFUtil.and(List.of(a, b, c))));
+  }
+
+  private static WebsocketMessageTopicMatcherFactory fiveValuesOr(String fieldName) {
+    return WSMTMFUtil.or(List.of(
+        WSMTMFUtil.value(fieldName, "1"), 
+        WSMTMFUtil.value(fieldName, "2"), 
+        WSMTMFUtil.value(fieldName, "3"),
+        WSMTMFUtil.value(fieldName, "4"), 
+        WSMTMFUtil.value(fieldName, "5")));
+  }
+
+  @Test
+  public void testAddNotIndexable() {
+    WebsocketMessageTopicIndex<String> index = new WebsocketMessageTopicIndex<>();
+    Assert.assertFalse(index.add("t1", WSMTMFUtil.regexp("f1", "v.*")));
+    Assert.assertTrue(index.isEmpty());
+    Assert.assertEquals(0, index.size());
+  }
+
+  @Test
+  public void testMatchSingleValueTopics() {
+    WebsocketMessageTopicIndex<String> index = new WebsocketMessageTopicIndex<>();
+    Assert.assertTrue(index.add("t1", WSMTMFUtil.value("s", "BTC")));
+    Assert.assertTrue(index.add("t2", WSMTMFUtil.value("s", "ETH")));
+    Assert.assertEquals(2, index.size());
+    WebsocketMessageTopicIndex<String>.MatchContext ctx = index.newMatchContext();
+    Assert.assertSame(index, ctx.getIndex());
+    Assert.assertEquals(List.of(), ctx.matches("p", "12"));
+    Assert.assertEquals(List.of("t2"), ctx.matches("s", "ETH"));
+    // Only first occurrence of a field is considered
+    Assert.assertEquals(List.of(), ctx.matches("s", "BTC"));
+    ctx.reset();
+    Assert.assertEquals(List.of("t1"), ctx.matches("s", "BTC"));
+    ctx.reset();
+    Assert.assertEquals(List.of(), ctx.matches("s", "XRP"));
+    Assert.assertEquals(List.of(), ctx.matches("s", "BTC"));
+  }
+
+  @Test
+  public void testMatchAndTopicsSharingField() {
+    WebsocketMessageTopicIndex<String> index = new WebsocketMessageTopicIndex<>();
+    index.add("t1", WSMTMFUtil.and(List.of(WSMTMFUtil.value("e", "ticker"), WSMTMFUtil.value("s", "BTC"))));
+    index.add("t2", WSMTMFUtil.and(List.of(WSMTMFUtil.value("e", "ticker"), WSMTMFUtil.value("s", "ETH"))));
+    index.add("t3", WSMTMFUtil.value("e", "ticker"));
+    WebsocketMessageTopicIndex<String>.MatchContext ctx = index.newMatchContext();
+    Assert.assertEquals(List.of(), ctx.matches("s", "BTC"));
+    Assert.assertEquals(List.of("t1", "t3"), ctx.matches("e", "ticker"));
+    ctx.reset();
+    Assert.assertEquals(List.of("t3"), ctx.matches("e", "ticker"));
+    Assert.assertEquals(List.of("t2"), ctx.matches("s", "ETH"));
+    ctx.reset();
+    Assert.assertEquals(List.of(), ctx.matches("e", "trade"));
+    Assert.assertEquals(List.of(), ctx.matches("s", "ETH"));
+  }
+
+  @Test
+  public void testMatchOrTopicDispatchedOnce() {
+    WebsocketMessageTopicIndex<String> index = new WebsocketMessageTopicIndex<>();
+    index.add("t1", WSMTMFUtil.or(List.of(WSMTMFUtil.value("a", "1"), WSMTMFUtil.value("b", "2"))));
+    WebsocketMessageTopicIndex<String>.MatchContext ctx = index.newMatchContext();
+    Assert.assertEquals(List.of("t1"), ctx.matches("a", "1"));
+    Assert.assertEquals(List.of(), ctx.matches("b", "2"));
+    ctx.reset();
+    Assert.assertEquals(List.of(), ctx.matches("a", "0"));
+    Assert.assertEquals(List.of("t1"), ctx.matches("b", "2"));
+  }
+
+  @Test
+  public void testMatchAnyTopicOnFirstField() {
+    WebsocketMessageTopicIndex<String> index = new WebsocketMessageTopicIndex<>();
+    index.add("t1", WSMTMFUtil.value("a", "1"));
+    index.add("any", WebsocketMessageTopicMatcherFactory.ANY_MATCHER_FACTORY);
+    WebsocketMessageTopicIndex<String>.MatchContext ctx = index.newMatchContext();
+    Assert.assertEquals(List.of("any", "t1"), ctx.matches("a", "1"));
+    Assert.assertEquals(List.of(), ctx.matches("b", "1"));
+    ctx.reset();
+    Assert.assertEquals(List.of("any"), ctx.matches("z", "0"));
+  }
+
+  @Test
+  public void testManyTopics() {
+    WebsocketMessageTopicIndex<Integer> index = new WebsocketMessageTopicIndex<>();
+    for (int i = 0; i < 2000; i++) {
+      index.add(i, WSMTMFUtil.and(List.of(WSMTMFUtil.value("e", "ticker"), WSMTMFUtil.value("s", "SYM" + i))));
+    }
+    WebsocketMessageTopicIndex<Integer>.MatchContext ctx = index.newMatchContext();
+    for (int i = 0; i < 2000; i += 7) {
+      ctx.reset();
+      Assert.assertEquals(List.of(), ctx.matches("e", "ticker"));
+      Assert.assertEquals(List.of(i), ctx.matches("s", "SYM" + i));
+    }
+  }
+}
@@ -1,5 +1,10 @@
 package org.jxapi.netutils.websocket.spring;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.After;
@@ -7,15 +12,21 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.jxapi.exchange.CommonConfigProperties;
+import org.jxapi.exchange.ExchangeStub;
 import org.jxapi.netutils.rest.javanet.HttpServerUtil;
+import org.jxapi.netutils.websocket.DefaultWebsocketFactory;
 import org.jxapi.netutils.websocket.GenericRawWebsocketMessageHandler;
 import org.jxapi.netutils.websocket.GenericWebsocketErrorHandler;
 import org.jxapi.netutils.websocket.Websocket;
 import org.jxapi.netutils.websocket.WebsocketException;
+import org.jxapi.netutils.websocket.dispatch.JsonFieldMessageKeyExtractor;
+import org.jxapi.netutils.websocket.dispatch.ShardedWebsocketMessageDispatcher;
 import org.jxapi.netutils.websocket.mock.server.MockWebsocketServer;
 import org.jxapi.netutils.websocket.mock.server.MockWebsocketServerEvent;
 import org.jxapi.netutils.websocket.mock.server.MockWebsocketServerEventType;
 import org.jxapi.netutils.websocket.mock.server.MockWebsocketServerSession;
+import org.jxapi.util.ExecutorFactory;
 
 /**
  * Unit test for {@link SpringWebsocket}
@@ -86,6 +97,108 @@ public class SpringWebsocketTest {
     server.stop();
   }
   
+  @Test
+  public void testShardedDispatchReceivesMessagesInOrderPerKeyAcrossReconnection() throws Exception {
+    SpringWebsocket springWs = (SpringWebsocket) ws;
+    ShardedWebsocketMessageDispatcher dispatcher = new ShardedWebsocketMessageDispatcher("springWsTest-", 2, 16, false);
+    springWs.setMessageDispatcher(dispatcher);
+    springWs.setMessageKeyExtractor(new JsonFieldMessageKeyExtractor("s"));
+    Assert.assertSame(dispatcher, springWs.getMessageDispatcher());
+    server.start();
+    
+    for (int c = 0; c < 2; c++) {
+      ws.connect();
+      MockWebsocketServerSession clientSession = popClientConnectEvent();
+      List<String> sent = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        String msg = "{\"s\":\"SYM" + (i % 2) + "\",\"i\":" + i + "}";
+        sent.add(msg);
+        clientSession.sendSync(msg);
+      }
+      List<String> received = clientListener.waitUntilCount(10).getAllEvents();
+      clientListener.clear();
+      for (int k = 0; k < 2; k++) {
+        String symbol = "\"SYM" + k + "\"";
+        Assert.assertEquals(
+            sent.stream().filter(m -> m.contains(symbol)).toList(), 
+            received.stream().filter(m -> m.contains(symbol)).toList());
+      }
+      ws.disconnect();
+      popClientDisconnectEvent();
+    }
+    Assert.assertEquals(20, dispatcher.getDispatchedCount());
+    Assert.assertEquals(0, dispatcher.getDroppedCount());
+    clientErrorHandler.checkNoEvents(NO_EVENTS_DELAY);
+  }
+  
+  @Test
+  public void testShardedDispatchWithDefaultConfigReceivesMessagesInOrderPerTopic() throws Exception {
+    ExchangeStub exchange = new ExchangeStub(appName);
+    exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_DISPATCH_MODE_PROPERTY.getName(), "SHARDED");
+    exchange.getProperties().setProperty(CommonConfigProperties.WEBSOCKET_DISPATCH_SHARD_COUNT_PROPERTY.getName(), "4");
+    ws = new DefaultWebsocketFactory().createWebsocket(exchange);
+    Assert.assertNull(((SpringWebsocket) ws).getMessageKeyExtractor());
+    ws.setUrl(url);
+    // First message of each topic is slow to handle, so that following ones 
+    // would overtake it if they were handled concurrently
+    ws.addMessageHandler(m -> {
+      if (m.contains("\"i\":0}") || m.contains("\"i\":1}")) {
+        try {
+          Thread.sleep(50);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    ws.addMessageHandler(clientListener);
+    ws.addErrorHandler(clientErrorHandler);
+    server.start();
+    ws.connect();
+    MockWebsocketServerSession clientSession = popClientConnectEvent();
+    List<String> sent = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      String msg = "{\"s\":\"SYM" + (i % 2) + "\",\"i\":" + i + "}";
+      sent.add(msg);
+      clientSession.sendSync(msg);
+    }
+    List<String> received = clientListener.waitUntilCount(20).getAllEvents();
+    for (int k = 0; k < 2; k++) {
+      String symbol = "\"SYM" + k + "\"";
+      Assert.assertEquals(
+          sent.stream().filter(m -> m.contains(symbol)).toList(), 
+          received.stream().filter(m -> m.contains(symbol)).toList());
+    }
+    clientErrorHandler.checkNoEvents(NO_EVENTS_DELAY);
+  }
+  
+  @Test
+  public void testExecutorFromExecutorFactoryShutDownOnDisconnect() throws Exception {
+    List<ExecutorService> executors = new ArrayList<>();
+    ((SpringWebsocket) ws).setExecutorFactory(new ExecutorFactory() {
+      @Override
+      public ExecutorService createExecutor(String threadNamePrefix, boolean daemon) {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        executors.add(executor);
+        return executor;
+      }
+
+      @Override
+      public ScheduledExecutorService createScheduledExecutor(String threadNamePrefix, boolean daemon) {
+        throw new UnsupportedOperationException();
+      }
+    });
+    server.start();
+    for (int c = 1; c <= 2; c++) {
+      ws.connect();
+      popClientConnectEvent();
+      Assert.assertEquals(c, executors.size());
+      Assert.assertFalse(executors.get(c - 1).isShutdown());
+      ws.disconnect();
+      popClientDisconnectEvent();
+      Assert.assertTrue(executors.get(c - 1).isShutdown());
+    }
+  }
+  
   @Test
   public void testClientRaisesErrorIfServerShutsDown() throws Exception {
     // Start server
@@ -0,0 +1,61 @@
+package org.jxapi.observability;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Histogram}
+ */
+public class HistogramTest {
+
+  @Test
+  public void testEmptyHistogram() {
+    Histogram histogram = new Histogram();
+    Assert.assertEquals(0L, histogram.getCount());
+    Assert.assertEquals(0L, histogram.getSum());
+    Assert.assertEquals(0L, histogram.getMax());
+    Assert.assertEquals(0.0, histogram.getMean(), 0.0);
+    Assert.assertEquals(0L, histogram.getPercentile(99));
+  }
+
+  @Test
+  public void testRecordValues() {
+    Histogram histogram = new Histogram();
+    for (long v = 1; v <= 100; v++) {
+      histogram.record(v);
+    }
+    histogram.record(-5L);
+    Assert.assertEquals(101L, histogram.getCount());
+    Assert.assertEquals(5050L, histogram.getSum());
+    Assert.assertEquals(100L, histogram.getMax());
+    Assert.assertEquals(50.0, histogram.getMean(), 0.01);
+    // 51st value is 50, in [32, 63] bucket
+    Assert.assertEquals(63L, histogram.getPercentile(50));
+    // Capped to max value
+    Assert.assertEquals(100L, histogram.getPercentile(99));
+    Assert.assertEquals(0L, histogram.getPercentile(0));
+    long[] counts = histogram.getBucketCounts();
+    Assert.assertEquals(1L, counts[0]);
+    Assert.assertEquals(1L, counts[1]);
+    Assert.assertEquals(2L, counts[2]);
+    Assert.assertEquals(32L, counts[6]);
+    Assert.assertEquals(37L, counts[7]);
+    Assert.assertTrue(histogram.toString().startsWith("{count=101"));
+
+    histogram.reset();
+    Assert.assertEquals(0L, histogram.getCount());
+    Assert.assertEquals(0L, histogram.getMax());
+    Assert.assertEquals(0L, histogram.getBucketCounts()[7]);
+  }
+
+  @Test
+  public void testGetBucketUpperBound() {
+    Assert.assertEquals(0L, Histogram.getBucketUpperBound(0));
+    Assert.assertEquals(1L, Histogram.getBucketUpperBound(1));
+    Assert.assertEquals(1023L, Histogram.getBucketUpperBound(10));
+    Assert.assertEquals(Long.MAX_VALUE, Histogram.getBucketUpperBound(Histogram.BUCKET_COUNT - 1));
+    Histogram histogram = new Histogram();
+    histogram.record(Long.MAX_VALUE);
+    Assert.assertEquals(1L, histogram.getBucketCounts()[Histogram.BUCKET_COUNT - 1]);
+  }
+}
@@ -53,6 +53,20 @@ public class FieldBuilderTest {
         Assert.assertEquals("foo", field.getSampleValue());
     }
 
+    @Test
+    public void testSetUnboxed() {
+        FieldBuilder builder = new FieldBuilder();
+        Field field = builder.unboxed(true).build();
+        Assert.assertEquals(Boolean.TRUE, field.getUnboxed());
+    }
+
+    @Test
+    public void testSetLazy() {
+        FieldBuilder builder = new FieldBuilder();
+        Field field = builder.lazy(true).build();
+        Assert.assertEquals(Boolean.TRUE, field.getLazy());
+    }
+
     @Test
     public void testSetMsgField() {
         FieldBuilder builder = new FieldBuilder();
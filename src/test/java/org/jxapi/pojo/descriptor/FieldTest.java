@@ -36,6 +36,8 @@ public class FieldTest {
         field.setProperties(List.of());
         field.setImplementedInterfaces(List.of("com.x.y.MyInterface"));
         field.setIn(UrlParameterType.QUERY);
+        field.setUnboxed(true);
+        field.setLazy(true);
         Assert.assertEquals("name", field.getName());
         Assert.assertEquals(Type.fromTypeName("OBJECT_MAP"), field.getType());
         Assert.assertEquals("description", field.getDescription());
@@ -46,6 +48,8 @@ public class FieldTest {
         Assert.assertEquals(List.of(), field.getProperties());
         Assert.assertEquals(List.of("com.x.y.MyInterface"), field.getImplementedInterfaces());
         Assert.assertEquals(UrlParameterType.QUERY, field.getIn());
+        Assert.assertEquals(Boolean.TRUE, field.getUnboxed());
+        Assert.assertEquals(Boolean.TRUE, field.getLazy());
     }
 
     @Test
@@ -83,6 +87,8 @@ public class FieldTest {
         field.setSampleValue("sampleValue");
         field.setMsgField("f");
         field.setIn(UrlParameterType.PATH);
+        field.setUnboxed(true);
+        field.setLazy(true);
 
         field = field.deepClone();
 
@@ -92,6 +98,8 @@ public class FieldTest {
         Assert.assertEquals("sampleValue", field.getSampleValue());
         Assert.assertEquals("f", field.getMsgField());
         Assert.assertEquals(UrlParameterType.PATH, field.getIn());
+        Assert.assertEquals(Boolean.TRUE, field.getUnboxed());
+        Assert.assertEquals(Boolean.TRUE, field.getLazy());
     }
 
     @Test
@@ -0,0 +1,74 @@
+package org.jxapi.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DefaultExecutorFactory}
+ */
+public class DefaultExecutorFactoryTest {
+
+  private static final long TIMEOUT = 1000L;
+
+  @Test
+  public void testCreatePlatformExecutor() throws Exception {
+    Assert.assertFalse(((DefaultExecutorFactory) ExecutorFactory.PLATFORM).isVirtual());
+    ExecutorService executor = ExecutorFactory.PLATFORM.createExecutor("test-platform-", true);
+    try {
+      Thread t = executor.submit(Thread::currentThread).get(TIMEOUT, TimeUnit.MILLISECONDS);
+      Assert.assertTrue(t.getName().startsWith("test-platform-"));
+      Assert.assertTrue(t.isDaemon());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCreatePlatformScheduledExecutor() throws Exception {
+    ScheduledExecutorService executor = ExecutorFactory.PLATFORM.createScheduledExecutor("test-platform-scheduled-", false);
+    try {
+      Thread t = executor.schedule(Thread::currentThread, 10L, TimeUnit.MILLISECONDS).get(TIMEOUT, TimeUnit.MILLISECONDS);
+      Assert.assertTrue(t.getName().startsWith("test-platform-scheduled-"));
+      Assert.assertFalse(t.isDaemon());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCreatePlatformIoExecutors() throws Exception {
+    ExecutorService executor = ExecutorFactory.PLATFORM.createIoExecutor("test-platform-io-", true);
+    ScheduledExecutorService scheduledExecutor = ExecutorFactory.PLATFORM.createScheduledIoExecutor("test-platform-scheduled-io-", false);
+    try {
+      Thread t = executor.submit(Thread::currentThread).get(TIMEOUT, TimeUnit.MILLISECONDS);
+      Assert.assertTrue(t.getName().startsWith("test-platform-io-"));
+      t = scheduledExecutor.schedule(Thread::currentThread, 10L, TimeUnit.MILLISECONDS).get(TIMEOUT, TimeUnit.MILLISECONDS);
+      Assert.assertTrue(t.getName().startsWith("test-platform-scheduled-io-"));
+    } finally {
+      executor.shutdownNow();
+      scheduledExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCreateVirtualExecutors() throws Exception {
+    Assert.assertTrue(((DefaultExecutorFactory) ExecutorFactory.VIRTUAL).isVirtual());
+    // Falls back to platform threads on JVMs not supporting virtual threads
+    ExecutorService executor = ExecutorFactory.VIRTUAL.createExecutor("test-virtual-", true);
+    ScheduledExecutorService scheduledExecutor = ExecutorFactory.VIRTUAL.createScheduledExecutor("test-virtual-scheduled-", true);
+    try {
+      Thread t = executor.submit(Thread::currentThread).get(TIMEOUT, TimeUnit.MILLISECONDS);
+      Assert.assertTrue(t.getName().startsWith("test-virtual-"));
+      t = scheduledExecutor.schedule(Thread::currentThread, 10L, TimeUnit.MILLISECONDS).get(TIMEOUT, TimeUnit.MILLISECONDS);
+      Assert.assertTrue(t.getName().startsWith("test-virtual-scheduled-"));
+      Assert.assertTrue(t.isDaemon());
+    } finally {
+      executor.shutdownNow();
+      scheduledExecutor.shutdownNow();
+    }
+  }
+}
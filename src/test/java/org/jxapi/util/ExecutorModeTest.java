@@ -0,0 +1,21 @@
+package org.jxapi.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ExecutorMode}
+ */
+public class ExecutorModeTest {
+
+  @Test
+  public void testGetExecutorFactory() {
+    Assert.assertSame(ExecutorFactory.PLATFORM, ExecutorMode.PLATFORM.getExecutorFactory(0));
+    Assert.assertSame(ExecutorFactory.VIRTUAL, ExecutorMode.VIRTUAL.getExecutorFactory(0));
+    ExecutorFactory shared = ExecutorMode.SHARED.getExecutorFactory(2);
+    Assert.assertSame(SharedExecutorFactory.getInstance(2), shared);
+    Assert.assertEquals(2, ((SharedExecutorFactory) shared).getPoolSize());
+    Assert.assertEquals(SharedExecutorFactory.getDefaultPoolSize(),
+                        ((SharedExecutorFactory) ExecutorMode.SHARED.getExecutorFactory(0)).getPoolSize());
+  }
+}
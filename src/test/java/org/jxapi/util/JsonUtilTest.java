@@ -309,6 +309,119 @@ public class JsonUtilTest {
     JsonUtil.readCurrentBoolean(parser);
   }
   
+  // Primitive values tests
+  
+  @Test
+  public void testNextValueIsPresent() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("[1, null, \"\", \"a\", true]".getBytes());
+    parser.nextToken();
+    Assert.assertTrue(JsonUtil.nextValueIsPresent(parser));
+    Assert.assertFalse(JsonUtil.nextValueIsPresent(parser));
+    Assert.assertFalse(JsonUtil.nextValueIsPresent(parser));
+    Assert.assertTrue(JsonUtil.nextValueIsPresent(parser));
+    Assert.assertTrue(JsonUtil.nextValueIsPresent(parser));
+  }
+  
+  @Test
+  public void testReadCurrentLongValue() throws Exception {
+    JsonParser parser = new JsonFactory().createParser(
+        "[12, \"-34\", \"+56\", \"1234567890123456789\", \"-9223372036854775808\"]".getBytes());
+    parser.nextToken();
+    parser.nextToken();
+    Assert.assertEquals(12L, JsonUtil.readCurrentLongValue(parser));
+    parser.nextToken();
+    Assert.assertEquals(-34L, JsonUtil.readCurrentLongValue(parser));
+    parser.nextToken();
+    Assert.assertEquals(56L, JsonUtil.readCurrentLongValue(parser));
+    parser.nextToken();
+    Assert.assertEquals(1234567890123456789L, JsonUtil.readCurrentLongValue(parser));
+    parser.nextToken();
+    Assert.assertEquals(Long.MIN_VALUE, JsonUtil.readCurrentLongValue(parser));
+  }
+  
+  @Test(expected = NumberFormatException.class)
+  public void testReadCurrentLongValue_InvalidString() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("\"12a\"".getBytes());
+    parser.nextToken();
+    JsonUtil.readCurrentLongValue(parser);
+  }
+  
+  @Test(expected = NumberFormatException.class)
+  public void testReadCurrentLongValue_SignOnly() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("\"-\"".getBytes());
+    parser.nextToken();
+    JsonUtil.readCurrentLongValue(parser);
+  }
+  
+  @Test(expected = JsonParseException.class)
+  public void testReadCurrentLongValue_InvalidValue() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("[]".getBytes());
+    parser.nextToken();
+    JsonUtil.readCurrentLongValue(parser);
+  }
+  
+  @Test
+  public void testReadCurrentIntValue() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("[12, \"-34\"]".getBytes());
+    parser.nextToken();
+    parser.nextToken();
+    Assert.assertEquals(12, JsonUtil.readCurrentIntValue(parser));
+    parser.nextToken();
+    Assert.assertEquals(-34, JsonUtil.readCurrentIntValue(parser));
+  }
+  
+  @Test(expected = NumberFormatException.class)
+  public void testReadCurrentIntValue_OutOfRange() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("\"3000000000\"".getBytes());
+    parser.nextToken();
+    JsonUtil.readCurrentIntValue(parser);
+  }
+  
+  @Test(expected = JsonParseException.class)
+  public void testReadCurrentIntValue_InvalidValue() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("true".getBytes());
+    parser.nextToken();
+    JsonUtil.readCurrentIntValue(parser);
+  }
+  
+  @Test
+  public void testReadCurrentDoubleValue() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("[1.5, 2, \"-3.25\"]".getBytes());
+    parser.nextToken();
+    parser.nextToken();
+    Assert.assertEquals(1.5, JsonUtil.readCurrentDoubleValue(parser), 0.0);
+    parser.nextToken();
+    Assert.assertEquals(2.0, JsonUtil.readCurrentDoubleValue(parser), 0.0);
+    parser.nextToken();
+    Assert.assertEquals(-3.25, JsonUtil.readCurrentDoubleValue(parser), 0.0);
+  }
+  
+  @Test(expected = JsonParseException.class)
+  public void testReadCurrentDoubleValue_InvalidValue() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("{}".getBytes());
+    parser.nextToken();
+    JsonUtil.readCurrentDoubleValue(parser);
+  }
+  
+  @Test
+  public void testReadCurrentBooleanValue() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("[true, false, \"true\"]".getBytes());
+    parser.nextToken();
+    parser.nextToken();
+    Assert.assertTrue(JsonUtil.readCurrentBooleanValue(parser));
+    parser.nextToken();
+    Assert.assertFalse(JsonUtil.readCurrentBooleanValue(parser));
+    parser.nextToken();
+    Assert.assertTrue(JsonUtil.readCurrentBooleanValue(parser));
+  }
+  
+  @Test(expected = JsonParseException.class)
+  public void testReadCurrentBooleanValue_InvalidValue() throws Exception {
+    JsonParser parser = new JsonFactory().createParser("12".getBytes());
+    parser.nextToken();
+    JsonUtil.readCurrentBooleanValue(parser);
+  }
+  
   
   // Read current list tests
   
@@ -0,0 +1,166 @@
+package org.jxapi.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SerialScheduledExecutorService}
+ */
+public class SerialScheduledExecutorServiceTest {
+
+  private static final long TIMEOUT = 1000L;
+
+  private ExecutorService pool;
+  private ScheduledExecutorService scheduler;
+  private SerialScheduledExecutorService executor;
+
+  @Before
+  public void setUp() {
+    pool = Executors.newFixedThreadPool(4);
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    executor = new SerialScheduledExecutorService(pool, scheduler);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+    scheduler.shutdownNow();
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void testTasksRunOneAtATimeInOrder() throws InterruptedException {
+    int taskCount = 3 * SerialScheduledExecutorService.MAX_TASKS_PER_RUN;
+    List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(taskCount);
+    for (int i = 0; i < taskCount; i++) {
+      int index = i;
+      executor.execute(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        executed.add(index);
+        running.decrementAndGet();
+        done.countDown();
+      });
+    }
+    Assert.assertTrue(done.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    Assert.assertEquals(1, maxRunning.get());
+    for (int i = 0; i < taskCount; i++) {
+      Assert.assertEquals(Integer.valueOf(i), executed.get(i));
+    }
+  }
+
+  @Test
+  public void testErrorInTaskDoesNotPreventNextTasks() throws Exception {
+    executor.execute(() -> { throw new RuntimeException("Test error"); });
+    Assert.assertEquals("OK", executor.submit(() -> "OK").get(TIMEOUT, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testSchedule() throws Exception {
+    long start = System.nanoTime();
+    ScheduledFuture<String> future = executor.schedule(() -> "OK", 50L, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(future.getDelay(TimeUnit.MILLISECONDS) > 0L);
+    Assert.assertFalse(((RunnableScheduledFuture<String>) future).isPeriodic());
+    Assert.assertEquals("OK", future.get(TIMEOUT, TimeUnit.MILLISECONDS));
+    Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50L));
+  }
+
+  @Test
+  public void testCancelScheduledTask() throws Exception {
+    AtomicInteger count = new AtomicInteger();
+    ScheduledFuture<?> future = executor.schedule(count::incrementAndGet, 50L, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(future.cancel(false));
+    Thread.sleep(100L);
+    Assert.assertEquals(0, count.get());
+    executor.shutdown();
+    Assert.assertTrue(executor.isTerminated());
+  }
+
+  @Test
+  public void testScheduleAtFixedRate() throws Exception {
+    CountDownLatch latch = new CountDownLatch(3);
+    ScheduledFuture<?> future = executor.scheduleAtFixedRate(latch::countDown, 0L, 10L, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(((RunnableScheduledFuture<?>) future).isPeriodic());
+    Assert.assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    future.cancel(false);
+    Assert.assertTrue(future.isCancelled());
+  }
+
+  @Test
+  public void testScheduleWithFixedDelay() throws Exception {
+    CountDownLatch latch = new CountDownLatch(3);
+    ScheduledFuture<?> future = executor.scheduleWithFixedDelay(latch::countDown, 0L, 10L, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    executor.shutdown();
+    Assert.assertTrue(future.isCancelled());
+    Assert.assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testScheduleAtFixedRateInvalidPeriod() {
+    executor.scheduleAtFixedRate(() -> {}, 0L, 0L, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void testDelayedTaskRunsAfterShutdown() throws Exception {
+    ScheduledFuture<String> future = executor.schedule(() -> "OK", 20L, TimeUnit.MILLISECONDS);
+    executor.shutdown();
+    Assert.assertTrue(executor.isShutdown());
+    Assert.assertFalse(executor.isTerminated());
+    Assert.assertEquals("OK", future.get(TIMEOUT, TimeUnit.MILLISECONDS));
+    Assert.assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+    try {
+      executor.execute(() -> {});
+      Assert.fail("Expected RejectedExecutionException");
+    } catch (RejectedExecutionException e) {
+      // Expected
+    }
+    try {
+      executor.schedule(() -> {}, 0L, TimeUnit.MILLISECONDS);
+      Assert.fail("Expected RejectedExecutionException");
+    } catch (RejectedExecutionException e) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testShutdownNow() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    executor.execute(() -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    Assert.assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    Runnable pendingTask = () -> {};
+    executor.execute(pendingTask);
+    ScheduledFuture<?> delayed = executor.schedule(() -> {}, 1L, TimeUnit.HOURS);
+    List<Runnable> pending = executor.shutdownNow();
+    Assert.assertEquals(List.of(pendingTask), pending);
+    Assert.assertTrue(delayed.isCancelled());
+    Assert.assertFalse(executor.isTerminated());
+    release.countDown();
+    Assert.assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+  }
+}
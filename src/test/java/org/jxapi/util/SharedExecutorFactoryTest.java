@@ -0,0 +1,125 @@
+package org.jxapi.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SharedExecutorFactory}
+ */
+public class SharedExecutorFactoryTest {
+
+  private static final long TIMEOUT = 1000L;
+
+  @Test
+  public void testGetInstance() {
+    SharedExecutorFactory factory = SharedExecutorFactory.getInstance(5);
+    Assert.assertSame(factory, SharedExecutorFactory.getInstance(5));
+    Assert.assertEquals(5, factory.getPoolSize());
+    Assert.assertNotSame(factory, SharedExecutorFactory.getInstance(6));
+    Assert.assertSame(SharedExecutorFactory.getInstance(-1), SharedExecutorFactory.getInstance(0));
+    Assert.assertEquals(4 * Runtime.getRuntime().availableProcessors(), SharedExecutorFactory.getDefaultPoolSize());
+  }
+
+  @Test
+  public void testCreateExecutorRunsTasksOnSharedPool() throws Exception {
+    SharedExecutorFactory factory = new SharedExecutorFactory(2);
+    ExecutorService executor1 = factory.createExecutor("ignored-", false);
+    ExecutorService executor2 = factory.createExecutor("ignored-", false);
+    Thread t = executor1.submit(Thread::currentThread).get(TIMEOUT, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(t.getName().startsWith(SharedExecutorFactory.THREAD_NAME_PREFIX));
+    Assert.assertTrue(t.isDaemon());
+
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    executor1.execute(() -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    Assert.assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    executor1.shutdown();
+    Assert.assertTrue(executor1.isShutdown());
+    Assert.assertFalse(executor1.isTerminated());
+    Assert.assertFalse(executor1.awaitTermination(10L, TimeUnit.MILLISECONDS));
+    try {
+      executor1.execute(() -> {});
+      Assert.fail("Expected RejectedExecutionException");
+    } catch (RejectedExecutionException e) {
+      // Expected
+    }
+    // Other executors are not affected
+    Assert.assertNotNull(executor2.submit(Thread::currentThread).get(TIMEOUT, TimeUnit.MILLISECONDS));
+    release.countDown();
+    Assert.assertTrue(executor1.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+    Assert.assertTrue(executor2.shutdownNow().isEmpty());
+    Assert.assertTrue(executor2.isTerminated());
+  }
+
+  @Test
+  public void testCreateScheduledExecutor() throws Exception {
+    SharedExecutorFactory factory = new SharedExecutorFactory(2);
+    ScheduledExecutorService executor = factory.createScheduledExecutor("ignored-", false);
+    Assert.assertTrue(executor instanceof SerialScheduledExecutorService);
+    Thread t = executor.schedule(Thread::currentThread, 10L, TimeUnit.MILLISECONDS).get(TIMEOUT, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(t.getName().startsWith(SharedExecutorFactory.THREAD_NAME_PREFIX));
+    executor.shutdown();
+    Assert.assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testCreateIoExecutorsRunTasksOnIoPool() throws Exception {
+    SharedExecutorFactory factory = new SharedExecutorFactory(1);
+    ExecutorService executor = factory.createIoExecutor("ignored-", false);
+    Thread t = executor.submit(Thread::currentThread).get(TIMEOUT, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(t.getName().startsWith(SharedExecutorFactory.THREAD_NAME_PREFIX + "1-io-"));
+    Assert.assertTrue(t.isDaemon());
+    executor.shutdown();
+    Assert.assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+    
+    ScheduledExecutorService scheduledExecutor = factory.createScheduledIoExecutor("ignored-", false);
+    Assert.assertTrue(scheduledExecutor instanceof SerialScheduledExecutorService);
+    t = scheduledExecutor.schedule(Thread::currentThread, 10L, TimeUnit.MILLISECONDS).get(TIMEOUT, TimeUnit.MILLISECONDS);
+    Assert.assertTrue(t.getName().startsWith(SharedExecutorFactory.THREAD_NAME_PREFIX + "1-io-"));
+    scheduledExecutor.shutdown();
+    Assert.assertTrue(scheduledExecutor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testIoTaskWaitingForOtherIoTaskDoesNotDeadlock() throws Exception {
+    SharedExecutorFactory factory = new SharedExecutorFactory(1);
+    // Saturates bounded pool
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = factory.createExecutor("ignored-", false);
+    executor.execute(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    try {
+      // Like a websocket connection waiting for handshake run by threads of its HTTP client
+      ScheduledExecutorService connectExecutor = factory.createScheduledIoExecutor("ignored-", false);
+      ExecutorService httpClientExecutor = factory.createIoExecutor("ignored-", true);
+      CompletableFuture<String> connected = CompletableFuture.supplyAsync(
+          () -> CompletableFuture.supplyAsync(() -> "handshake", httpClientExecutor).join(), 
+          connectExecutor);
+      Assert.assertEquals("handshake", connected.get(TIMEOUT, TimeUnit.MILLISECONDS));
+      connectExecutor.shutdown();
+      httpClientExecutor.shutdown();
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+}
@@ -18,4 +18,26 @@ public class ThreadUtilTest {
     Assert.assertNotNull(t);
     Assert.assertTrue(t.getName().startsWith("MYPOOL"));
   }
+  
+  @Test
+  public void testCreateNamePrefixThreadFactoryWithDaemonStatus() {
+    Thread t = ThreadUtil.createNamePrefixThreadFactory("MYDAEMON", true).newThread(() -> {});
+    Assert.assertTrue(t.getName().startsWith("MYDAEMON"));
+    Assert.assertTrue(t.isDaemon());
+    Assert.assertFalse(ThreadUtil.createNamePrefixThreadFactory("MYPOOL", false).newThread(() -> {}).isDaemon());
+  }
+  
+  @Test
+  public void testCreateVirtualThreadFactory() throws InterruptedException {
+    boolean expectSupported = Runtime.version().feature() >= 21;
+    Assert.assertEquals(expectSupported, ThreadUtil.isVirtualThreadSupported());
+    ThreadFactory fac = ThreadUtil.createVirtualThreadFactory("MYVIRTUAL");
+    if (!expectSupported) {
+      Assert.assertNull(fac);
+      return;
+    }
+    Thread t = fac.newThread(() -> {});
+    Assert.assertTrue(t.getName().startsWith("MYVIRTUAL"));
+    Assert.assertTrue(t.isDaemon());
+  }
 }